@@ -110,6 +110,12 @@ public class TestGenerator {
                 classBuilder.append("/**\n * Generated tests for ").append(category).append(" layout fixtures.\n */\n");
                 classBuilder.append("public class ").append(toPascalCase(category)).append("Test {\n\n");
                 classBuilder.append("    private static final float EPSILON = 0.1f;\n\n");
+                classBuilder.append("    /**\n");
+                classBuilder.append("     * Creates the tree a fixture is laid out in. Subclasses can override it to lay the fixtures out differently.\n");
+                classBuilder.append("     */\n");
+                classBuilder.append("    protected TaffyTree newTree() {\n");
+                classBuilder.append("        return new TaffyTree();\n");
+                classBuilder.append("    }\n\n");
 
                 // Shared Ahem text measurement helper (mirrors taffy_test_helpers::AhemTextMeasureData)
                 classBuilder.append("    private static MeasureFunc ahemTextMeasure(String text, boolean vertical) {\n");
@@ -248,7 +254,7 @@ public class TestGenerator {
         sb.append("    @Test\n");
         sb.append("    @DisplayName(\"").append(name).append("\")\n");
         sb.append("    void ").append(methodName).append("() {\n");
-        sb.append("        TaffyTree tree = new TaffyTree();\n");
+        sb.append("        TaffyTree tree = newTree();\n");
         if (!useRounding) {
             sb.append("        tree.disableRounding();\n");
         }
@@ -0,0 +1,85 @@
+package dev.vfyjxf.taffy.benchmark;
+
+import dev.vfyjxf.taffy.geometry.TaffyRect;
+import dev.vfyjxf.taffy.geometry.TaffySize;
+import dev.vfyjxf.taffy.style.AvailableSpace;
+import dev.vfyjxf.taffy.style.FlexDirection;
+import dev.vfyjxf.taffy.style.LengthPercentage;
+import dev.vfyjxf.taffy.style.TaffyDimension;
+import dev.vfyjxf.taffy.style.TaffyDisplay;
+import dev.vfyjxf.taffy.style.TaffyStyle;
+import dev.vfyjxf.taffy.tree.NodeId;
+import dev.vfyjxf.taffy.tree.TaffyTree;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chain-shaped trees (one container per level, e.g. imported nested HTML) laid out with deep layout enabled.
+ *
+ * Benchmark groups:
+ * - relayout after a leaf change: dirtying the deepest leaf (which walks the whole chain) plus a full pass
+ * - cached relayout: a pass over a clean chain
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeepTreeBenchmark {
+
+    private static final TaffySize<AvailableSpace> SPACE =
+        TaffySize.of(AvailableSpace.definite(100_000f), AvailableSpace.MAX_CONTENT);
+
+    @State(Scope.Thread)
+    public static class ChainState {
+        @Param({"1000", "10000"})
+        int depth;
+
+        @Param({"block", "flex"})
+        String display;
+
+        TaffyTree tree;
+        NodeId root;
+        NodeId leaf;
+        TaffyStyle leafStyle;
+
+        @Setup(Level.Trial)
+        public void setupTrial() {
+            tree = new TaffyTree();
+            tree.enableDeepLayout();
+
+            TaffyStyle containerStyle = new TaffyStyle();
+            containerStyle.display = "flex".equals(display) ? TaffyDisplay.FLEX : TaffyDisplay.BLOCK;
+            containerStyle.flexDirection = FlexDirection.COLUMN;
+            LengthPercentage one = LengthPercentage.length(1f);
+            containerStyle.padding = new TaffyRect<>(one, one, one, one);
+
+            leafStyle = new TaffyStyle();
+            leafStyle.size = TaffySize.of(TaffyDimension.length(10f), TaffyDimension.length(10f));
+            leaf = tree.newLeaf(leafStyle);
+
+            NodeId node = leaf;
+            for (int i = 0; i < depth; i++) {
+                node = tree.newWithChildren(containerStyle, node);
+            }
+            root = node;
+            tree.computeLayout(root, SPACE);
+        }
+    }
+
+    @Benchmark
+    public void relayoutAfterLeafChange(ChainState state, Blackhole bh) {
+        state.tree.setStyle(state.leaf, state.leafStyle);
+        state.tree.computeLayout(state.root, SPACE);
+        bh.consume(state.tree.getLayout(state.root));
+    }
+
+    @Benchmark
+    public void cachedRelayout(ChainState state, Blackhole bh) {
+        state.tree.computeLayout(state.root, SPACE);
+        bh.consume(state.tree.getLayout(state.root));
+    }
+}
@@ -4,6 +4,8 @@ import dev.vfyjxf.taffy.geometry.TaffyRect;
 import dev.vfyjxf.taffy.geometry.TaffySize;
 import dev.vfyjxf.taffy.style.TaffyDimension;
 import dev.vfyjxf.taffy.style.FlexDirection;
+import dev.vfyjxf.taffy.style.FlexWrap;
+import dev.vfyjxf.taffy.style.LengthPercentage;
 import dev.vfyjxf.taffy.style.LengthPercentageAuto;
 import dev.vfyjxf.taffy.style.TaffyStyle;
 import dev.vfyjxf.taffy.tree.NodeId;
@@ -23,6 +25,8 @@ import java.util.concurrent.TimeUnit;
  * - Deep tree (random size): Deep hierarchy with random dimensions
  * - Deep tree (auto size): Deep hierarchy with auto/flex-grow
  * - super deep: Very deep tree with 3 children per level
+ * - staircase row: One long row whose items reach their max sizes over as many passes as possible (no Rust counterpart)
+ * - tag cloud: Many small items wrapping into lines (no Rust counterpart)
  */
 @BenchmarkMode(Mode.AverageTime)
 @OutputTimeUnit(TimeUnit.MILLISECONDS)
@@ -171,6 +175,104 @@ public class FlexboxBenchmark {
         bh.consume(state.tree.getLayout(state.root));
     }
 
+    // ==================== staircase row ====================
+    // One row whose items reach their max sizes in steps: every pass over the line freezes half of the items still
+    // growing, which lifts the free space per item just past the next step. A step can be at most as deep as the
+    // space the previous one handed out, so halving is the longest staircase float precision allows for a line
+
+    @State(Scope.Thread)
+    public static class StaircaseRowState {
+        TaffyTree tree;
+        NodeId root;
+
+        @Param({"1000", "10000", "100000"})
+        int nodeCount;
+
+        @Setup(Level.Invocation)
+        public void setup() {
+            tree = new TaffyTree();
+            Random rng = new Random(SEED);
+            NodeId[] children = new NodeId[nodeCount];
+            int[] order = new int[nodeCount];
+            for (int i = 0; i < nodeCount; i++) {
+                int j = rng.nextInt(i + 1);
+                order[i] = order[j];
+                order[j] = i;
+            }
+            float share = 100f;
+            float step = 50f;
+            int growing = nodeCount;
+            int next = 0;
+            while (growing > 1) {
+                // Half of the growing items stop one step below the current share; the rest take over their space
+                int stopping = growing / 2;
+                for (int k = 0; k < stopping; k++) {
+                    children[order[next++]] = tree.newLeaf(staircaseItem(share - step));
+                }
+                share += step * stopping / (growing - stopping);
+                step /= 2;
+                growing -= stopping;
+            }
+            while (next < nodeCount) {
+                children[order[next++]] = tree.newLeaf(staircaseItem(Float.NaN));
+            }
+            TaffyStyle rootStyle = new TaffyStyle();
+            rootStyle.size = new TaffySize<>(TaffyDimension.length(100f * nodeCount), TaffyDimension.length(20f));
+            root = tree.newWithChildren(rootStyle, children);
+        }
+
+        private static TaffyStyle staircaseItem(float maxWidth) {
+            TaffyStyle style = new TaffyStyle();
+            style.flexGrow = 1f;
+            style.flexBasis = TaffyDimension.length(0f);
+            if (!Float.isNaN(maxWidth)) {
+                style.maxSize = new TaffySize<>(TaffyDimension.length(maxWidth), TaffyDimension.auto());
+            }
+            return style;
+        }
+    }
+
+    @Benchmark
+    public void staircaseRow(StaircaseRowState state, Blackhole bh) {
+        state.tree.computeLayout(state.root, TaffySize.maxContent());
+        bh.consume(state.tree.getLayout(state.root));
+    }
+
+    // ==================== tag cloud ====================
+    // A wrapping row of tags with random widths, about eight to a line
+
+    @State(Scope.Thread)
+    public static class TagCloudState {
+        TaffyTree tree;
+        NodeId root;
+
+        @Param({"1000", "10000", "100000"})
+        int nodeCount;
+
+        @Setup(Level.Invocation)
+        public void setup() {
+            tree = new TaffyTree();
+            Random rng = new Random(SEED);
+            NodeId[] children = new NodeId[nodeCount];
+            for (int i = 0; i < nodeCount; i++) {
+                TaffyStyle style = new TaffyStyle();
+                style.size = new TaffySize<>(TaffyDimension.length(20f + rng.nextInt(60)), TaffyDimension.length(24f));
+                children[i] = tree.newLeaf(style);
+            }
+            TaffyStyle rootStyle = new TaffyStyle();
+            rootStyle.flexWrap = FlexWrap.WRAP;
+            rootStyle.size = new TaffySize<>(TaffyDimension.length(400f), TaffyDimension.auto());
+            rootStyle.gap = new TaffySize<>(LengthPercentage.length(6f), LengthPercentage.length(6f));
+            root = tree.newWithChildren(rootStyle, children);
+        }
+    }
+
+    @Benchmark
+    public void tagCloud(TagCloudState state, Blackhole bh) {
+        state.tree.computeLayout(state.root, TaffySize.maxContent());
+        bh.consume(state.tree.getLayout(state.root));
+    }
+
     // ==================== Helper Methods ====================
 
     /**
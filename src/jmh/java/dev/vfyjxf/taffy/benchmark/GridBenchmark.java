@@ -1,7 +1,11 @@
 package dev.vfyjxf.taffy.benchmark;
 
+import dev.vfyjxf.taffy.geometry.FloatSize;
+import dev.vfyjxf.taffy.geometry.TaffyLine;
 import dev.vfyjxf.taffy.geometry.TaffySize;
 import dev.vfyjxf.taffy.style.AvailableSpace;
+import dev.vfyjxf.taffy.style.GridPlacement;
+import dev.vfyjxf.taffy.style.LengthPercentage;
 import dev.vfyjxf.taffy.style.TaffyDimension;
 import dev.vfyjxf.taffy.style.TaffyDisplay;
 import dev.vfyjxf.taffy.style.TaffyStyle;
@@ -23,6 +27,7 @@ import java.util.concurrent.TimeUnit;
  * - grid/wide: NxN grid (cells = N²) with random track sizes
  * - grid/deep: Nested NxN grids at various depths
  * - grid/superdeep: Deep 1x1 grid chain
+ * - grid/intrinsic: Wide grid of intrinsic columns with measured and spanning items (Java-only)
  */
 @BenchmarkMode(Mode.AverageTime)
 @OutputTimeUnit(TimeUnit.MILLISECONDS)
@@ -122,6 +127,32 @@ public class GridBenchmark {
         bh.consume(state.tree.getLayout(state.root));
     }
 
+    // ==================== grid/intrinsic ====================
+    // Many intrinsically sized columns (auto, min-content, max-content, fit-content),
+    // with measured leaves and a share of items spanning several columns
+
+    @State(Scope.Thread)
+    public static class IntrinsicTracksState {
+        TaffyTree tree;
+        NodeId root;
+
+        @Param({"500"})
+        int trackCount;
+
+        @Setup(Level.Invocation)
+        public void setup() {
+            Object[] result = buildIntrinsicTrackGrid(trackCount, 4);
+            tree = (TaffyTree) result[0];
+            root = (NodeId) result[1];
+        }
+    }
+
+    @Benchmark
+    public void intrinsicTracks(IntrinsicTracksState state, Blackhole bh) {
+        state.tree.computeLayout(state.root, TaffySize.maxContent());
+        bh.consume(state.tree.getLayout(state.root));
+    }
+
     // ==================== Helper Methods ====================
 
     /**
@@ -222,6 +253,47 @@ public class GridBenchmark {
         return new Object[]{taffy, root};
     }
 
+    /**
+     * A grid with only intrinsic columns, filled row by row with measured leaves.
+     * Every fifth item spans three columns.
+     */
+    private static Object[] buildIntrinsicTrackGrid(int colCount, int rowCount) {
+        TaffyTree taffy = new TaffyTree();
+        Random rng = new Random(SEED);
+
+        TaffyStyle style = new TaffyStyle();
+        style.display = TaffyDisplay.GRID;
+        List<TrackSizingFunction> cols = new ArrayList<>(colCount);
+        for (int i = 0; i < colCount; i++) {
+            switch (i % 4) {
+                case 0 -> cols.add(TrackSizingFunction.auto());
+                case 1 -> cols.add(TrackSizingFunction.minContent());
+                case 2 -> cols.add(TrackSizingFunction.maxContent());
+                default -> cols.add(TrackSizingFunction.fitContent(LengthPercentage.length(60f)));
+            }
+        }
+        style.gridTemplateColumns = cols;
+
+        int childCount = colCount * rowCount;
+        List<NodeId> children = new ArrayList<>(childCount);
+        for (int i = 0; i < childCount; i++) {
+            float minWidth = 10f + rng.nextFloat() * 30f;
+            float maxWidth = minWidth + rng.nextFloat() * 80f;
+            TaffyStyle childStyle = new TaffyStyle();
+            if (i % 5 == 0) {
+                childStyle.gridColumn = new TaffyLine<>(GridPlacement.auto(), GridPlacement.span(3));
+            }
+            children.add(taffy.newLeafWithMeasure(childStyle, (known, available) -> {
+                float width = !Float.isNaN(known.width) ? known.width
+                    : available.width.isMinContent() ? minWidth : maxWidth;
+                return new FloatSize(width, !Float.isNaN(known.height) ? known.height : 20f);
+            }));
+        }
+
+        NodeId root = taffy.newWithChildren(style, children.toArray(new NodeId[0]));
+        return new Object[]{taffy, root};
+    }
+
     /**
      * A helper function to recursively construct a deep tree
      * (matching Rust's build_deep_grid_tree)
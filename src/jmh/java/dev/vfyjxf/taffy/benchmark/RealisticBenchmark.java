@@ -15,6 +15,7 @@ import dev.vfyjxf.taffy.style.GridPlacement;
 import dev.vfyjxf.taffy.style.LengthPercentage;
 import dev.vfyjxf.taffy.style.TaffyStyle;
 import dev.vfyjxf.taffy.style.TrackSizingFunction;
+import dev.vfyjxf.taffy.tree.FlexViewport;
 import dev.vfyjxf.taffy.tree.NodeId;
 import dev.vfyjxf.taffy.tree.TaffyTree;
 import dev.vfyjxf.taffy.util.MeasureFunc;
@@ -31,7 +32,7 @@ import java.util.concurrent.TimeUnit;
  * 
  * Scenarios:
  * 1. Web page layout: header + sidebar + main content + footer
- * 2. Virtual list: scrollable list with many items (like RecyclerView)
+ * 2. Virtual list: scrollable list with many items (like RecyclerView), laid out in full and windowed
  * 3. Dashboard: grid of cards with varied sizes
  * 4. Form layout: labels + inputs in columns
  * 5. Nested cards: card in card patterns (common in modern UI)
@@ -106,6 +107,57 @@ public class RealisticBenchmark {
         bh.consume(state.tree.getLayout(state.root));
     }
 
+    // Same list with a flex viewport: only the items on screen are measured and laid out
+
+    @State(Scope.Thread)
+    public static class WindowedListState {
+        TaffyTree tree;
+        NodeId root;
+        FlexViewport viewport;
+        float scroll;
+
+        @Param({"1000", "10000", "50000"})
+        int itemCount;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            tree = new TaffyTree();
+            root = buildVirtualList(tree, itemCount);
+            viewport = new FlexViewport(80f);
+            tree.setFlexViewport(root, viewport);
+            tree.scrollFlexViewport(root, 0f, 812f);
+            scroll = 0f;
+        }
+    }
+
+    @Benchmark
+    public void windowedListScroll(WindowedListState state, Blackhole bh) {
+        // One screen per invocation, wrapping around at the end of the list
+        state.scroll += 812f;
+        if (state.scroll >= state.viewport.contentMainSize() - 812f) {
+            state.scroll = 0f;
+        }
+        state.tree.scrollFlexViewport(state.root, state.scroll, 812f);
+        state.tree.computeLayout(state.root, TaffySize.of(
+            AvailableSpace.definite(375f),
+            AvailableSpace.maxContent()
+        ));
+        bh.consume(state.tree.getLayout(state.root));
+    }
+
+    @Benchmark
+    public void windowedListScrollToIndex(WindowedListState state, Blackhole bh) {
+        // Jump to an arbitrary item, as a "scroll to message" does
+        int target = (int) ((state.scroll * 7919f) % state.itemCount);
+        state.scroll += 1f;
+        state.tree.scrollFlexViewport(state.root, state.viewport.itemOffset(target), 812f);
+        state.tree.computeLayout(state.root, TaffySize.of(
+            AvailableSpace.definite(375f),
+            AvailableSpace.maxContent()
+        ));
+        bh.consume(state.viewport.itemAt(state.viewport.viewStart()));
+    }
+
     // ==================== 3. Dashboard Grid ====================
     // Grid of cards with different sizes (1x1, 2x1, 1x2, 2x2)
 
@@ -411,6 +411,19 @@ public final class TaffyStyle {
      */
     public GridAutoFlow gridAutoFlow = GridAutoFlow.ROW;
 
+    /**
+     * Makes the row axis a masonry axis, like {@code grid-template-rows: masonry}: items are packed into the
+     * shortest column instead of a row grid, and the row templates and auto rows are ignored
+     */
+    public boolean gridMasonryRows = false;
+
+    /**
+     * Makes the columns a subgrid, like {@code grid-template-columns: subgrid}: when the parent is a grid, the items
+     * size the parent's columns spanned by this container and are laid out in them; otherwise the own column
+     * template is used
+     */
+    public boolean gridSubgridColumns = false;
+
     // === Grid Child Properties ===
 
     /**
@@ -474,6 +487,8 @@ public final class TaffyStyle {
         copy.gridAutoRows = new ArrayList<>(this.gridAutoRows);
         copy.gridAutoColumns = new ArrayList<>(this.gridAutoColumns);
         copy.gridAutoFlow = this.gridAutoFlow;
+        copy.gridMasonryRows = this.gridMasonryRows;
+        copy.gridSubgridColumns = this.gridSubgridColumns;
         copy.gridTemplateAreas = new ArrayList<>(this.gridTemplateAreas);
         copy.gridTemplateColumnNames = new ArrayList<>(this.gridTemplateColumnNames);
         copy.gridTemplateRowNames = new ArrayList<>(this.gridTemplateRowNames);
@@ -594,6 +609,10 @@ public final class TaffyStyle {
 
     public GridAutoFlow getGridAutoFlow() {return gridAutoFlow;}
 
+    public boolean getGridMasonryRows() {return gridMasonryRows;}
+
+    public boolean getGridSubgridColumns() {return gridSubgridColumns;}
+
     public GridPlacement getGridRowStart() {return gridRow.start;}
 
     public GridPlacement getGridRowEnd() {return gridRow.end;}
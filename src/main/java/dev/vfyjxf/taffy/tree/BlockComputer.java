@@ -32,6 +32,9 @@ public class BlockComputer {
 
     private final LayoutComputer layoutComputer;
 
+    /** Item scratch reused by nested block containers and across layout passes */
+    private final ScratchArena<BlockScratch> scratchArena = new ScratchArena<>(BlockScratch::new);
+
     public BlockComputer(LayoutComputer layoutComputer) {
         this.layoutComputer = layoutComputer;
     }
@@ -59,6 +62,21 @@ public class BlockComputer {
         boolean canBeCollapsedThrough;
     }
 
+    /**
+     * Scratch state of one block container layout: the item list and its pool.
+     */
+    private static final class BlockScratch implements ScratchArena.Frame {
+        final List<BlockItem> items = new ArrayList<>();
+        // generateItemList assigns every field, so reused items need no reset
+        final ScratchArena.Pool<BlockItem> itemPool = new ScratchArena.Pool<>(BlockItem::new, item -> {});
+
+        @Override
+        public void reset() {
+            items.clear();
+            itemPool.releaseAll();
+        }
+    }
+
     /**
      * Result of performing final layout on in-flow children, including margin collapse info.
      */
@@ -72,6 +90,15 @@ public class BlockComputer {
      * Computes block layout for a node.
      */
     public LayoutOutput compute(NodeId node, LayoutInput inputs, TaffyStyle style) {
+        BlockScratch scratch = scratchArena.acquire();
+        try {
+            return compute(node, inputs, style, scratch);
+        } finally {
+            scratchArena.release();
+        }
+    }
+
+    private LayoutOutput compute(NodeId node, LayoutInput inputs, TaffyStyle style, BlockScratch scratch) {
         TaffyTree tree = layoutComputer.getTree();
         FloatSize knownDimensions = inputs.knownDimensions();
         FloatSize parentSize = inputs.parentSize();
@@ -182,7 +209,7 @@ public class BlockComputer {
         );
 
         // Generate item list
-        List<BlockItem> items = generateItemList(node, containerContentBoxSize);
+        List<BlockItem> items = generateItemList(node, containerContentBoxSize, scratch);
 
         // Compute container width
         float containerOuterWidth = styledBasedKnownDimensions.width;
@@ -248,7 +275,7 @@ public class BlockComputer {
         for (BlockItem item : items) {
             TaffyStyle childStyle = tree.getStyle(item.nodeId);
             if (childStyle.getBoxGenerationMode() == BoxGenerationMode.NONE) {
-                tree.setUnroundedLayout(item.nodeId, Layout.withOrder(item.order));
+                tree.resetUnroundedLayout(item.nodeId, item.order);
                 layoutComputer.computeChildLayout(item.nodeId, LayoutInput.hidden());
             }
         }
@@ -310,9 +337,9 @@ public class BlockComputer {
         return contentSize;
     }
 
-    private List<BlockItem> generateItemList(NodeId node, FloatSize nodeInnerSize) {
+    private List<BlockItem> generateItemList(NodeId node, FloatSize nodeInnerSize, BlockScratch scratch) {
         TaffyTree tree = layoutComputer.getTree();
-        List<BlockItem> items = new ArrayList<>();
+        List<BlockItem> items = scratch.items;
 
         int order = 0;
         for (NodeId childId : tree.getChildren(node)) {
@@ -322,7 +349,7 @@ public class BlockComputer {
                 continue;
             }
 
-            BlockItem item = new BlockItem();
+            BlockItem item = scratch.itemPool.next();
             item.nodeId = childId;
             item.order = order++;
 
@@ -421,6 +448,20 @@ public class BlockComputer {
         // Check RTL once at the start
         boolean isRtl = direction != null && direction.isRtl();
 
+        // Lay out large child subtrees concurrently first; the loop below then hits their caches
+        if (layoutComputer.isParallel()) {
+            List<NodeId> prelayoutNodes = new ArrayList<>();
+            List<LayoutInput> prelayoutInputs = new ArrayList<>();
+            for (BlockItem item : items) {
+                if (item.position != TaffyPosition.ABSOLUTE && layoutComputer.shouldPrelayout(item.nodeId)) {
+                    FloatRect itemMarginOpt = resolveMarginOptional(item.margin, containerOuterWidth);
+                    prelayoutNodes.add(item.nodeId);
+                    prelayoutInputs.add(finalLayoutInput(item, itemMarginOpt, containerInnerWidth, parentSize, availableSpace));
+                }
+            }
+            layoutComputer.performChildLayouts(prelayoutNodes, prelayoutInputs);
+        }
+
         for (BlockItem item : items) {
             if (item.position == TaffyPosition.ABSOLUTE) {
                 // In RTL, static position starts from right
@@ -433,37 +474,11 @@ public class BlockComputer {
 
             // Resolve margins
             FloatRect itemMarginOpt = resolveMarginOptional(item.margin, containerOuterWidth);
-            FloatRect itemNonAutoMargin = new FloatRect(
-                Float.isNaN(itemMarginOpt.left) ? 0f : itemMarginOpt.left,
-                Float.isNaN(itemMarginOpt.right) ? 0f : itemMarginOpt.right,
-                Float.isNaN(itemMarginOpt.top) ? 0f : itemMarginOpt.top,
-                Float.isNaN(itemMarginOpt.bottom) ? 0f : itemMarginOpt.bottom
-            );
-            float itemNonAutoXMarginSum = itemNonAutoMargin.left + itemNonAutoMargin.right;
-
-            FloatSize knownDimensions;
-            if (item.isTable) {
-                knownDimensions = new FloatSize(NaN, NaN);
-            } else {
-                float width = Float.isNaN(item.size.width) ? containerInnerWidth - itemNonAutoXMarginSum : item.size.width;
-                width = TaffyMath.clamp(width, item.minSize.width, item.maxSize.width);
-                knownDimensions = maybeClamp(
-                    new FloatSize(width, item.size.height),
-                    item.minSize,
-                    item.maxSize
-                );
-            }
+            float itemNonAutoXMarginSum = nonAutoXMarginSum(itemMarginOpt);
 
-            LayoutOutput itemOutput = layoutComputer.performChildLayout(
+            LayoutOutput itemOutput = layoutComputer.computeChildLayout(
                 item.nodeId,
-                knownDimensions,
-                parentSize,
-                new TaffySize<>(
-                    subtractFromAvailable(availableSpace.width, itemNonAutoXMarginSum),
-                    availableSpace.height
-                ),
-                SizingMode.INHERENT_SIZE,
-                new TaffyLine<>(true, true)
+                finalLayoutInput(item, itemMarginOpt, containerInnerWidth, parentSize, availableSpace)
             );
 
             FloatSize finalSize = itemOutput.size();
@@ -564,23 +579,11 @@ public class BlockComputer {
                 }
             }
 
-            FloatSize scrollbarSize = new FloatSize(
-                item.overflow.y == Overflow.SCROLL ? item.scrollbarWidth : 0f,
-                item.overflow.x == Overflow.SCROLL ? item.scrollbarWidth : 0f
-            );
-
-            Layout layout = new Layout(
-                item.order,
-                new FloatPoint(x, y),
-                finalSize,
-                itemOutput.contentSize(),
-                scrollbarSize,
-                item.border,
-                item.padding,
-                resolvedMargin
-            );
+            float scrollbarWidth = item.overflow.y == Overflow.SCROLL ? item.scrollbarWidth : 0f;
+            float scrollbarHeight = item.overflow.x == Overflow.SCROLL ? item.scrollbarWidth : 0f;
 
-            tree.setUnroundedLayout(item.nodeId, layout);
+            tree.writeUnroundedLayout(item.nodeId, item.order, x, y, finalSize, itemOutput.contentSize(),
+                scrollbarWidth, scrollbarHeight, item.border, item.padding, resolvedMargin);
 
             // Update first_child_top_margin_set
             if (isCollapsingWithFirstMarginSet) {
@@ -627,6 +630,53 @@ public class BlockComputer {
     /**
      * Resolve margins returning null for auto margins.
      */
+    /**
+     * Sum of the item's horizontal margins, treating auto margins as zero.
+     */
+    private static float nonAutoXMarginSum(FloatRect itemMarginOpt) {
+        return (Float.isNaN(itemMarginOpt.left) ? 0f : itemMarginOpt.left)
+               + (Float.isNaN(itemMarginOpt.right) ? 0f : itemMarginOpt.right);
+    }
+
+    /**
+     * Builds the input for an in-flow item's final layout.
+     */
+    private LayoutInput finalLayoutInput(
+        BlockItem item,
+        FloatRect itemMarginOpt,
+        float containerInnerWidth,
+        FloatSize parentSize,
+        TaffySize<AvailableSpace> availableSpace) {
+
+        float itemNonAutoXMarginSum = nonAutoXMarginSum(itemMarginOpt);
+
+        FloatSize knownDimensions;
+        if (item.isTable) {
+            knownDimensions = new FloatSize(NaN, NaN);
+        } else {
+            float width = Float.isNaN(item.size.width) ? containerInnerWidth - itemNonAutoXMarginSum : item.size.width;
+            width = TaffyMath.clamp(width, item.minSize.width, item.maxSize.width);
+            knownDimensions = maybeClamp(
+                new FloatSize(width, item.size.height),
+                item.minSize,
+                item.maxSize
+            );
+        }
+
+        return new LayoutInput(
+            RunMode.PERFORM_LAYOUT,
+            SizingMode.INHERENT_SIZE,
+            RequestedAxis.BOTH,
+            knownDimensions,
+            parentSize,
+            new TaffySize<>(
+                subtractFromAvailable(availableSpace.width, itemNonAutoXMarginSum),
+                availableSpace.height
+            ),
+            new TaffyLine<>(true, true)
+        );
+    }
+
     private FloatRect resolveMarginOptional(TaffyRect<LengthPercentageAuto> margin, float contextWidth) {
         return new FloatRect(
             margin.left.isAuto() ? NaN : margin.left.maybeResolve(contextWidth),
@@ -787,23 +837,11 @@ public class BlockComputer {
                 y = item.staticPosition.y + resolvedMargin.top;
             }
 
-            FloatSize scrollbarSize = new FloatSize(
-                item.overflow.y == Overflow.SCROLL ? item.scrollbarWidth : 0f,
-                item.overflow.x == Overflow.SCROLL ? item.scrollbarWidth : 0f
-            );
-
-            Layout layout = new Layout(
-                item.order,
-                new FloatPoint(x, y),
-                finalSize,
-                output.contentSize(),
-                scrollbarSize,
-                item.border,
-                item.padding,
-                resolvedMargin
-            );
+            float scrollbarWidth = item.overflow.y == Overflow.SCROLL ? item.scrollbarWidth : 0f;
+            float scrollbarHeight = item.overflow.x == Overflow.SCROLL ? item.scrollbarWidth : 0f;
 
-            tree.setUnroundedLayout(item.nodeId, layout);
+            tree.writeUnroundedLayout(item.nodeId, item.order, x, y, finalSize, output.contentSize(),
+                scrollbarWidth, scrollbarHeight, item.border, item.padding, resolvedMargin);
         }
     }
 
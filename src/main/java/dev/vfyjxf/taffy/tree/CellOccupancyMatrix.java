@@ -0,0 +1,413 @@
+package dev.vfyjxf.taffy.tree;
+
+import java.util.Arrays;
+
+/**
+ * A dynamically-expanding cell occupancy matrix for grid auto-placement.
+ * This mirrors Rust's CellOccupancyMatrix behavior.
+ * <p>
+ * Cells are stored as bitsets: one {@code long[]} per line of the grid auto-flow's secondary axis
+ * (rows for row flow, columns for column flow), with one bit per track of the primary axis. Searches
+ * along the primary axis OR the spanned lines together and skip whole words of occupied cells. Each line
+ * also keeps the index of its first free track, and the matrix keeps the first line that is not full,
+ * so repeated dense searches start where free cells can actually be found.
+ * <p>
+ * Both axes keep spare capacity on the negative and the positive implicit side, so growing the implicit
+ * grid is amortized constant time per track. Matrices are reset and reused across grid containers.
+ */
+final class CellOccupancyMatrix {
+
+    /** Returned by the single-axis searches when no area fits inside the current grid */
+    static final int NOT_FOUND = Integer.MIN_VALUE;
+
+    final TrackCounts colCounts = new TrackCounts(0, 0, 0);
+    final TrackCounts rowCounts = new TrackCounts(0, 0, 0);
+
+    /** OriginZero position of the last area found by {@link #findEmptyArea} */
+    int foundColumn;
+    int foundRow;
+
+    /** Whether lines are rows (row flow) or columns (column flow) */
+    private boolean rowMajor;
+
+    /** Bitsets of the lines, indexed physically; in-range lines are [lineBase, lineBase + lineCount) */
+    private long[][] lines = new long[0][];
+    /** Physical index of the first clear bit of each line (>= trackEnd() if the line is full) */
+    private int[] firstFree = new int[0];
+    private int lineBase;
+    /** Physical index of the first line that is not full */
+    private int firstOpenLine;
+
+    /** Physical bit index of track 0; in-range tracks are [trackBase, trackBase + trackCount) */
+    private int trackBase;
+    private int words;
+
+    /**
+     * Clears the matrix and sizes it for the given initial track counts.
+     */
+    void reset(TrackCounts colCounts, TrackCounts rowCounts, boolean rowMajor) {
+        this.colCounts.update(colCounts);
+        this.rowCounts.update(rowCounts);
+        this.rowMajor = rowMajor;
+
+        int trackCount = trackCount();
+        int lineCount = lineCount();
+        trackBase = 0;
+        words = Math.max(wordsFor(trackCount), 1);
+        lineBase = 0;
+        if (lines.length < lineCount) {
+            lines = new long[Math.max(lineCount, 8)][];
+            firstFree = new int[lines.length];
+        }
+        for (int line = 0; line < lineCount; line++) {
+            clearLine(line);
+        }
+        firstOpenLine = 0;
+    }
+
+    // === Axis Mapping ===
+
+    private int trackCount() {
+        return rowMajor ? colCounts.len() : rowCounts.len();
+    }
+
+    private int lineCount() {
+        return rowMajor ? rowCounts.len() : colCounts.len();
+    }
+
+    private int trackEnd() {
+        return trackBase + trackCount();
+    }
+
+    private int lineEnd() {
+        return lineBase + lineCount();
+    }
+
+    private static int wordsFor(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    // === Growth ===
+
+    /**
+     * Expand the matrix to fit the given OriginZero range.
+     */
+    private void expandToFit(int ozColStart, int ozRowStart, int colSpan, int rowSpan) {
+        int ozColEnd = ozColStart + colSpan;
+        int ozRowEnd = ozRowStart + rowSpan;
+
+        // Calculate required expansion
+        int reqNegCols = Math.max(-ozColStart - colCounts.negativeImplicit, 0);
+        int reqPosCols = Math.max(ozColEnd - (colCounts.explicit + colCounts.positiveImplicit), 0);
+        int reqNegRows = Math.max(-ozRowStart - rowCounts.negativeImplicit, 0);
+        int reqPosRows = Math.max(ozRowEnd - (rowCounts.explicit + rowCounts.positiveImplicit), 0);
+
+        if (reqNegCols == 0 && reqPosCols == 0 && reqNegRows == 0 && reqPosRows == 0) {
+            return;  // No expansion needed
+        }
+
+        if (rowMajor) {
+            growTracks(reqNegCols, reqPosCols);
+            growLines(reqNegRows, reqPosRows);
+        } else {
+            growTracks(reqNegRows, reqPosRows);
+            growLines(reqNegCols, reqPosCols);
+        }
+        colCounts.negativeImplicit += reqNegCols;
+        colCounts.positiveImplicit += reqPosCols;
+        rowCounts.negativeImplicit += reqNegRows;
+        rowCounts.positiveImplicit += reqPosRows;
+    }
+
+    private void growTracks(int negative, int positive) {
+        if (negative == 0 && positive == 0) {
+            return;
+        }
+        int trackCount = trackCount();
+        int shift = 0;
+        if (negative > trackBase) {
+            // Leave as much spare room in front as the grid is wide
+            shift = negative - trackBase + Math.max(trackCount + negative, 64);
+        }
+        int requiredWords = wordsFor(trackBase + shift + trackCount + positive);
+        if (shift > 0 || requiredWords > words) {
+            int newWords = Math.max(requiredWords, words * 2);
+            for (int line = lineBase, end = lineEnd(); line < end; line++) {
+                lines[line] = shifted(lines[line], shift, newWords);
+                firstFree[line] += shift;
+            }
+            words = newWords;
+            trackBase += shift;
+        }
+        trackBase -= negative;
+        if (negative > 0) {
+            for (int line = lineBase, end = lineEnd(); line < end; line++) {
+                firstFree[line] = Math.min(firstFree[line], trackBase);
+            }
+        }
+        // Full lines gain free tracks
+        firstOpenLine = lineBase;
+    }
+
+    private void growLines(int negative, int positive) {
+        if (negative == 0 && positive == 0) {
+            return;
+        }
+        int lineCount = lineCount();
+        if (negative > lineBase || lineBase + lineCount + positive > lines.length) {
+            int spare = Math.max(lineCount + negative + positive, 8);
+            int newBase = negative > lineBase ? negative + spare : lineBase;
+            int shift = newBase - lineBase;
+            long[][] newLines = new long[Math.max(newBase + lineCount + positive + spare, lines.length)][];
+            int[] newFirstFree = new int[newLines.length];
+            System.arraycopy(lines, lineBase, newLines, newBase, lineCount);
+            System.arraycopy(firstFree, lineBase, newFirstFree, newBase, lineCount);
+            lines = newLines;
+            firstFree = newFirstFree;
+            lineBase = newBase;
+            firstOpenLine += shift;
+        }
+        for (int i = 0; i < negative; i++) {
+            clearLine(--lineBase);
+        }
+        for (int line = lineBase + negative + lineCount, end = line + positive; line < end; line++) {
+            clearLine(line);
+        }
+        if (negative > 0) {
+            firstOpenLine = lineBase;
+        }
+    }
+
+    private void clearLine(int line) {
+        long[] bits = lines[line];
+        if (bits == null || bits.length != words) {
+            lines[line] = new long[words];
+        } else {
+            Arrays.fill(bits, 0L);
+        }
+        firstFree[line] = trackBase;
+    }
+
+    /**
+     * Returns a copy of {@code bits} with {@code newWords} words, moved towards higher indices by {@code shift} bits.
+     */
+    private static long[] shifted(long[] bits, int shift, int newWords) {
+        long[] result = new long[newWords];
+        int wordShift = shift >>> 6;
+        int bitShift = shift & 63;
+        for (int i = 0; i < bits.length; i++) {
+            long word = bits[i];
+            if (word == 0L) {
+                continue;
+            }
+            result[i + wordShift] |= word << bitShift;
+            if (bitShift != 0 && i + wordShift + 1 < newWords) {
+                result[i + wordShift + 1] |= word >>> (64 - bitShift);
+            }
+        }
+        return result;
+    }
+
+    // === Bit Scanning ===
+
+    /**
+     * Returns the first physical track at or after {@code from} that is free in all of the given lines.
+     * Tracks past the end of the grid are always free.
+     */
+    private int nextFree(int line, int lineSpan, int from) {
+        int word = from >>> 6;
+        long mask = -1L << (from & 63);
+        while (word < words) {
+            long occupied = 0L;
+            for (int l = line; l < line + lineSpan; l++) {
+                occupied |= lines[l][word];
+            }
+            long free = ~occupied & mask;
+            if (free != 0L) {
+                return (word << 6) + Long.numberOfTrailingZeros(free);
+            }
+            word++;
+            mask = -1L;
+        }
+        return words << 6;
+    }
+
+    /**
+     * Returns the first physical track in [from, to) that is occupied in any of the given lines, or {@code to}.
+     */
+    private int nextOccupied(int line, int lineSpan, int from, int to) {
+        int word = from >>> 6;
+        long mask = -1L << (from & 63);
+        int lastWord = (to - 1) >>> 6;
+        while (word <= lastWord) {
+            long occupied = 0L;
+            for (int l = line; l < line + lineSpan; l++) {
+                occupied |= lines[l][word];
+            }
+            occupied &= mask;
+            if (occupied != 0L) {
+                return Math.min((word << 6) + Long.numberOfTrailingZeros(occupied), to);
+            }
+            word++;
+            mask = -1L;
+        }
+        return to;
+    }
+
+    /**
+     * Returns the first physical track at or after {@code from} where {@code trackSpan} tracks are free
+     * in all of the given lines, or -1 if the run would pass the end of the grid.
+     */
+    private int findRun(int line, int lineSpan, int from, int trackSpan) {
+        int end = trackEnd();
+        // No run can start before the first free track of any spanned line
+        for (int l = line; l < line + lineSpan; l++) {
+            from = Math.max(from, firstFree[l]);
+        }
+        while (from + trackSpan <= end) {
+            from = nextFree(line, lineSpan, from);
+            if (from + trackSpan > end) {
+                return -1;
+            }
+            int occupied = nextOccupied(line, lineSpan, from, from + trackSpan);
+            if (occupied == from + trackSpan) {
+                return from;
+            }
+            from = occupied + 1;
+        }
+        return -1;
+    }
+
+    private boolean isRunFree(int line, int lineSpan, int track, int trackSpan) {
+        return nextOccupied(line, lineSpan, track, track + trackSpan) == track + trackSpan;
+    }
+
+    // === Placement ===
+
+    /**
+     * Mark an area as occupied, expanding the matrix if needed.
+     */
+    void markArea(int ozColStart, int ozRowStart, int colSpan, int rowSpan) {
+        expandToFit(ozColStart, ozRowStart, colSpan, rowSpan);
+
+        int colIdx = colCounts.ozLineToNextTrack(ozColStart);
+        int rowIdx = rowCounts.ozLineToNextTrack(ozRowStart);
+        int track = trackBase + (rowMajor ? colIdx : rowIdx);
+        int trackSpan = rowMajor ? colSpan : rowSpan;
+        int line = lineBase + (rowMajor ? rowIdx : colIdx);
+        int lineSpan = rowMajor ? rowSpan : colSpan;
+
+        for (int l = line; l < line + lineSpan; l++) {
+            setRange(lines[l], track, track + trackSpan);
+            if (firstFree[l] >= track && firstFree[l] < track + trackSpan) {
+                firstFree[l] = nextFree(l, 1, track + trackSpan);
+            }
+        }
+        int trackEnd = trackEnd();
+        int lineEnd = lineEnd();
+        while (firstOpenLine < lineEnd && firstFree[firstOpenLine] >= trackEnd) {
+            firstOpenLine++;
+        }
+    }
+
+    private static void setRange(long[] bits, int from, int to) {
+        if (from >= to) {
+            return;
+        }
+        int firstWord = from >>> 6;
+        int lastWord = (to - 1) >>> 6;
+        long firstMask = -1L << (from & 63);
+        long lastMask = -1L >>> (63 - ((to - 1) & 63));
+        if (firstWord == lastWord) {
+            bits[firstWord] |= firstMask & lastMask;
+            return;
+        }
+        bits[firstWord] |= firstMask;
+        for (int w = firstWord + 1; w < lastWord; w++) {
+            bits[w] = -1L;
+        }
+        bits[lastWord] |= lastMask;
+    }
+
+    /**
+     * Search along the primary axis for an area with fixed secondary-axis lines.
+     * Returns the OriginZero primary-axis start, or {@link #NOT_FOUND}.
+     */
+    private int findAlongTracks(int lineIdx, int lineSpan, int trackSpan) {
+        if (lineIdx < 0 || lineIdx + lineSpan > lineCount()) {
+            return NOT_FOUND;
+        }
+        int track = findRun(lineBase + lineIdx, lineSpan, trackBase, trackSpan);
+        if (track < 0) {
+            return NOT_FOUND;
+        }
+        TrackCounts counts = rowMajor ? colCounts : rowCounts;
+        return counts.trackToOzLine(track - trackBase);
+    }
+
+    /**
+     * Search along the secondary axis for an area with fixed primary-axis tracks.
+     * Returns the OriginZero secondary-axis start, or {@link #NOT_FOUND}.
+     */
+    private int findAlongLines(int trackIdx, int trackSpan, int lineSpan) {
+        if (trackIdx < 0 || trackIdx + trackSpan > trackCount()) {
+            return NOT_FOUND;
+        }
+        int track = trackBase + trackIdx;
+        // Lines before the first open line are full
+        for (int line = firstOpenLine, end = lineEnd() - lineSpan; line <= end; line++) {
+            if (isRunFree(line, lineSpan, track, trackSpan)) {
+                TrackCounts counts = rowMajor ? rowCounts : colCounts;
+                return counts.trackToOzLine(line - lineBase);
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Find an empty area in a specific row (for items with definite row).
+     * Returns the OriginZero column start, or {@link #NOT_FOUND} if not found within current grid.
+     */
+    int findEmptyAreaInRow(int ozRowStart, int colSpan, int rowSpan) {
+        int rowIdx = rowCounts.ozLineToNextTrack(ozRowStart);
+        return rowMajor ? findAlongTracks(rowIdx, rowSpan, colSpan) : findAlongLines(rowIdx, rowSpan, colSpan);
+    }
+
+    /**
+     * Find an empty area in a specific column (for items with definite column).
+     * Returns the OriginZero row start, or {@link #NOT_FOUND} if not found within current grid.
+     */
+    int findEmptyAreaInColumn(int ozColStart, int colSpan, int rowSpan) {
+        int colIdx = colCounts.ozLineToNextTrack(ozColStart);
+        return rowMajor ? findAlongLines(colIdx, colSpan, rowSpan) : findAlongTracks(colIdx, colSpan, rowSpan);
+    }
+
+    /**
+     * Find an empty area for auto-placement, starting at the given matrix indices (ignored when dense).
+     * The matrix must have been reset with {@code rowMajor == isRowFlow}. On success the position is
+     * stored in {@link #foundColumn} / {@link #foundRow}.
+     *
+     * @return whether an area was found within the current grid
+     */
+    boolean findEmptyArea(int startCol, int startRow, int colSpan, int rowSpan, boolean isDense) {
+        int startTrack = isDense ? 0 : (rowMajor ? startCol : startRow);
+        int startLine = isDense ? 0 : (rowMajor ? startRow : startCol);
+        int trackSpan = rowMajor ? colSpan : rowSpan;
+        int lineSpan = rowMajor ? rowSpan : colSpan;
+
+        // Lines before the first open line are full, so no area can include them
+        int line = Math.max(lineBase + startLine, firstOpenLine);
+        for (int end = lineEnd() - lineSpan; line <= end; line++) {
+            int from = line == lineBase + startLine ? trackBase + startTrack : trackBase;
+            int track = findRun(line, lineSpan, from, trackSpan);
+            if (track >= 0) {
+                int trackIdx = track - trackBase;
+                int lineIdx = line - lineBase;
+                foundColumn = colCounts.trackToOzLine(rowMajor ? trackIdx : lineIdx);
+                foundRow = rowCounts.trackToOzLine(rowMajor ? lineIdx : trackIdx);
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,112 @@
+package dev.vfyjxf.taffy.tree;
+
+/**
+ * Selects what {@link TaffyTree#exportLayouts} writes for each node.
+ * <p>
+ * Every node record starts with x, y, width and height, followed by the optional groups in this order:
+ * <ul>
+ *   <li>padding: left, right, top, bottom</li>
+ *   <li>border: left, right, top, bottom</li>
+ *   <li>margin: left, right, top, bottom</li>
+ *   <li>content size: width, height</li>
+ * </ul>
+ * Positions are relative to the parent unless {@link #absolute()} is set, in which case they are relative to
+ * the export root's parent (i.e. the export root keeps its own location).
+ * <p>
+ * Masks are immutable; the {@code with*} methods return a new mask.
+ */
+public final class ExportMask {
+
+    private static final int PADDING = 1;
+    private static final int BORDER = 1 << 1;
+    private static final int MARGIN = 1 << 2;
+    private static final int CONTENT_SIZE = 1 << 3;
+    private static final int ABSOLUTE = 1 << 4;
+
+    /** Relative x, y, width and height only */
+    public static final ExportMask BOUNDS = new ExportMask(0);
+
+    /** Absolute x, y, width and height only */
+    public static final ExportMask ABSOLUTE_BOUNDS = new ExportMask(ABSOLUTE);
+
+    private final int bits;
+
+    private ExportMask(int bits) {
+        this.bits = bits;
+    }
+
+    public ExportMask withPadding() {
+        return with(PADDING);
+    }
+
+    public ExportMask withBorder() {
+        return with(BORDER);
+    }
+
+    public ExportMask withMargin() {
+        return with(MARGIN);
+    }
+
+    public ExportMask withContentSize() {
+        return with(CONTENT_SIZE);
+    }
+
+    /**
+     * Returns a mask that writes positions accumulated from the export root instead of parent-relative ones.
+     */
+    public ExportMask absolute() {
+        return with(ABSOLUTE);
+    }
+
+    private ExportMask with(int flag) {
+        return (bits & flag) != 0 ? this : new ExportMask(bits | flag);
+    }
+
+    public boolean padding() {
+        return (bits & PADDING) != 0;
+    }
+
+    public boolean border() {
+        return (bits & BORDER) != 0;
+    }
+
+    public boolean margin() {
+        return (bits & MARGIN) != 0;
+    }
+
+    public boolean contentSize() {
+        return (bits & CONTENT_SIZE) != 0;
+    }
+
+    public boolean isAbsolute() {
+        return (bits & ABSOLUTE) != 0;
+    }
+
+    /**
+     * Returns the number of floats written per node.
+     */
+    public int floatsPerNode() {
+        int floats = 4;
+        if (padding()) floats += 4;
+        if (border()) floats += 4;
+        if (margin()) floats += 4;
+        if (contentSize()) floats += 2;
+        return floats;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ExportMask other && other.bits == bits;
+    }
+
+    @Override
+    public int hashCode() {
+        return bits;
+    }
+
+    @Override
+    public String toString() {
+        return "ExportMask{padding=" + padding() + ", border=" + border() + ", margin=" + margin()
+            + ", contentSize=" + contentSize() + ", absolute=" + isAbsolute() + "}";
+    }
+}
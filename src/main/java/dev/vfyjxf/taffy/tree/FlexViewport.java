@@ -0,0 +1,302 @@
+package dev.vfyjxf.taffy.tree;
+
+import dev.vfyjxf.taffy.geometry.FloatRect;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+
+import java.util.Arrays;
+
+/**
+ * Virtualization settings and results for a single-line flex container with very many children, such as a
+ * chat or feed list.
+ * <p>
+ * A flex container with a viewport attached through {@link TaffyTree#setFlexViewport(NodeId, FlexViewport)}
+ * is laid out in windowed mode: children are stacked along the main axis in child order, each at its own
+ * content size, and only the children that intersect the viewport are measured and laid out. Children that
+ * have never been inside the viewport count as {@link #estimatedMainSize()}; once measured, their real size
+ * replaces the estimate. Children with {@code display: none} take no space and no gap once they have been
+ * in the viewport. Layout and rounding only visit the children in the viewport and the ones that just left it,
+ * so the work a scroll causes inside the container is proportional to the number of visible children rather
+ * than the number of children. Nodes outside the container are still visited by the rounding pass as usual.
+ * <p>
+ * Item offsets are kept in a prefix-sum index, so {@link #itemOffset(int)} (scroll to an index) and
+ * {@link #itemAt(float)} (the index at a scroll position) take O(log n) and a newly measured item updates the
+ * index in O(log n).
+ * <p>
+ * Windowed mode only applies to containers that do not wrap and whose main axis runs forwards (no reverse
+ * direction and no right-to-left row); other containers ignore the viewport. Flex grow, shrink and basis,
+ * {@code order}, {@code justify-content} and absolute positioning are not honoured: every child is an item
+ * sized to its content or declared size. Children outside the viewport are not laid out, and children that
+ * scroll out of it have their layout reset to zero so that stale positions are never reported.
+ */
+public final class FlexViewport {
+
+    private final float estimatedMainSize;
+
+    // Viewport span along the main axis, relative to the container's border box
+    private float viewStart;
+    private float viewLength;
+
+    // Outer main size (margins included) of every child, the estimate until measured
+    int itemCount;
+    float[] sizes = new float[0];
+    boolean[] measured = new boolean[0];
+    /** Children measured as {@code display: none}, which take neither space nor a gap */
+    boolean[] hidden = new boolean[0];
+    /** Fenwick tree over each child's extent, size + gap or 0 if hidden, so prefix sums are item offsets */
+    private float[] index = new float[1];
+    private float indexedGap = NaN;
+    private int measuredCount;
+    private int hiddenCount;
+
+    // Results of the last layout
+    float firstItemOffset;
+    float contentMainSize;
+    float contentCrossSize;
+
+    // Items laid out by the last layout, as [firstVisible, visibleEnd)
+    int firstVisible;
+    int visibleEnd;
+
+    /** Whether the last layout of the container was windowed, so the rounding pass only visits the window */
+    boolean windowed;
+    /** Children reset since the last rounding pass because they left the window */
+    final IntArrayList scrolledOut = new IntArrayList();
+
+    // Resolved margins and stretch flags of the window being laid out, kept here so nested windowed
+    // containers don't share them
+    FloatRect[] windowMargins = new FloatRect[0];
+    boolean[] windowStretched = new boolean[0];
+
+    private static final float NaN = Float.NaN;
+
+    /**
+     * Creates a viewport that counts unmeasured children as {@code estimatedMainSize} along the main axis,
+     * margins included.
+     */
+    public FlexViewport(float estimatedMainSize) {
+        if (!(estimatedMainSize >= 0f) || Float.isInfinite(estimatedMainSize)) {
+            throw new IllegalArgumentException("estimatedMainSize must be finite and non-negative: " + estimatedMainSize);
+        }
+        this.estimatedMainSize = estimatedMainSize;
+    }
+
+    public float estimatedMainSize() {
+        return estimatedMainSize;
+    }
+
+    void setView(float start, float length) {
+        this.viewStart = start;
+        this.viewLength = Math.max(0f, length);
+    }
+
+    public float viewStart() {
+        return viewStart;
+    }
+
+    public float viewLength() {
+        return viewLength;
+    }
+
+    /**
+     * Forgets every measured size, so all children count as the estimate until they are laid out again.
+     * Use it when children were inserted or removed anywhere but at the end of the container.
+     */
+    public void resetMeasurements() {
+        Arrays.fill(measured, 0, itemCount, false);
+        Arrays.fill(hidden, 0, itemCount, false);
+        Arrays.fill(sizes, 0, itemCount, estimatedMainSize);
+        measuredCount = 0;
+        hiddenCount = 0;
+        rebuildIndex(Float.isNaN(indexedGap) ? 0f : indexedGap);
+    }
+
+    // === Results ===
+
+    public int itemCount() {
+        return itemCount;
+    }
+
+    /**
+     * Offset of the start edge of a child's margin box from the container's border box along the main axis.
+     * Scrolling the viewport to this offset brings the child to its start.
+     */
+    public float itemOffset(int item) {
+        return firstItemOffset + prefix(item);
+    }
+
+    /**
+     * The outer main size of a child: its measured size, or the estimate if it has not been laid out yet.
+     * Hidden children have size 0.
+     */
+    public float itemSize(int item) {
+        return sizes[item];
+    }
+
+    public boolean isMeasured(int item) {
+        return measured[item];
+    }
+
+    public int measuredCount() {
+        return measuredCount;
+    }
+
+    /**
+     * Index of the child at the given main-axis offset from the container's border box, clamped to the existing
+     * children, or -1 if the container has no children. An offset inside a gap belongs to the child before it.
+     */
+    public int itemAt(float offset) {
+        if (itemCount == 0) {
+            return -1;
+        }
+        return Math.min(itemCount - 1, countBefore(offset - firstItemOffset));
+    }
+
+    /**
+     * Main size of all children and the gaps between them, with estimates for unmeasured children.
+     */
+    public float contentMainSize() {
+        return contentMainSize;
+    }
+
+    /**
+     * Largest cross size of the children in the viewport during the last layout pass, margins included.
+     */
+    public float contentCrossSize() {
+        return contentCrossSize;
+    }
+
+    /**
+     * The first child laid out by the last layout pass.
+     */
+    public int firstVisibleItem() {
+        return firstVisible;
+    }
+
+    /**
+     * The child after the last child laid out by the last layout pass.
+     */
+    public int visibleItemEnd() {
+        return visibleEnd;
+    }
+
+    // === Offset Index ===
+
+    /**
+     * Matches the recorded sizes to the container's child count and gap, keeping the sizes of the children that
+     * are still there. Rebuilds the index in O(n) only when the count or gap changed.
+     */
+    void prepare(int count, float gap) {
+        if (count == itemCount && Float.compare(gap, indexedGap) == 0) {
+            return;
+        }
+        if (sizes.length < count) {
+            int capacity = Math.max(count, sizes.length + (sizes.length >> 1));
+            sizes = Arrays.copyOf(sizes, capacity);
+            measured = Arrays.copyOf(measured, capacity);
+        }
+        if (hidden.length < count) {
+            hidden = Arrays.copyOf(hidden, sizes.length);
+        }
+        for (int i = count; i < itemCount; i++) {
+            if (measured[i]) {
+                measured[i] = false;
+                measuredCount--;
+            }
+            if (hidden[i]) {
+                hidden[i] = false;
+                hiddenCount--;
+            }
+        }
+        Arrays.fill(sizes, Math.min(itemCount, count), count, estimatedMainSize);
+        itemCount = count;
+        rebuildIndex(gap);
+    }
+
+    private void rebuildIndex(float gap) {
+        if (index.length < itemCount + 1) {
+            index = new float[sizes.length + 1];
+        }
+        // Linear Fenwick build: every node pushes its partial sum to its parent
+        Arrays.fill(index, 0, itemCount + 1, 0f);
+        for (int i = 1; i <= itemCount; i++) {
+            index[i] += hidden[i - 1] ? 0f : sizes[i - 1] + gap;
+            int parent = i + (i & -i);
+            if (parent <= itemCount) {
+                index[parent] += index[i];
+            }
+        }
+        indexedGap = gap;
+    }
+
+    /**
+     * Records the measured outer main size of a child, or that it is hidden.
+     */
+    void setMeasured(int item, float size, boolean isHidden) {
+        if (!measured[item]) {
+            measured[item] = true;
+            measuredCount++;
+        }
+        float delta = extent(item);
+        if (hidden[item] != isHidden) {
+            hidden[item] = isHidden;
+            hiddenCount += isHidden ? 1 : -1;
+        }
+        sizes[item] = isHidden ? 0f : size;
+        delta = extent(item) - delta;
+        if (delta == 0f) {
+            return;
+        }
+        for (int i = item + 1; i <= itemCount; i += i & -i) {
+            index[i] += delta;
+        }
+    }
+
+    /**
+     * Space a child takes along the main axis including the gap after it, or 0 if it is hidden.
+     */
+    float extent(int item) {
+        return hidden[item] ? 0f : sizes[item] + indexedGap;
+    }
+
+    /**
+     * Main size of all children and the gaps between the ones that take space.
+     */
+    float contentSize() {
+        return itemCount > hiddenCount ? prefix(itemCount) - indexedGap : 0f;
+    }
+
+    /**
+     * Sum of the sizes of the first {@code count} children, each followed by one gap.
+     */
+    float prefix(int count) {
+        float sum = 0f;
+        for (int i = count; i > 0; i -= i & -i) {
+            sum += index[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Number of children whose end, gap included, lies at or before {@code offset} from the first child.
+     */
+    int countBefore(float offset) {
+        int position = 0;
+        float remaining = offset;
+        for (int step = Integer.highestOneBit(Math.max(1, itemCount)); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next <= itemCount && index[next] <= remaining) {
+                position = next;
+                remaining -= index[next];
+            }
+        }
+        return position;
+    }
+
+    void ensureWindow(int count) {
+        if (windowMargins.length < count) {
+            int capacity = Math.max(count, windowMargins.length * 2);
+            windowMargins = Arrays.copyOf(windowMargins, capacity);
+            windowStretched = Arrays.copyOf(windowStretched, capacity);
+        }
+    }
+}
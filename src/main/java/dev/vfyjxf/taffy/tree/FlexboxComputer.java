@@ -1,5 +1,6 @@
 package dev.vfyjxf.taffy.tree;
 
+import dev.vfyjxf.taffy.geometry.AbsoluteAxis;
 import dev.vfyjxf.taffy.geometry.FloatPoint;
 import dev.vfyjxf.taffy.geometry.FloatRect;
 import dev.vfyjxf.taffy.geometry.FloatSize;
@@ -27,6 +28,7 @@ import dev.vfyjxf.taffy.util.ContentSizeUtil;
 import dev.vfyjxf.taffy.util.Resolve;
 import dev.vfyjxf.taffy.util.TaffyMath;
 
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -41,57 +43,221 @@ public class FlexboxComputer {
 
     private final LayoutComputer layoutComputer;
 
+    /** Item and line scratch reused by nested flex containers and across layout passes */
+    private final ScratchArena<FlexScratch> scratchArena = new ScratchArena<>(FlexScratch::new);
+
+    /** Windowed layout for containers with a {@link FlexViewport} attached */
+    private final VirtualFlexLayout virtualLayout;
+
     public FlexboxComputer(LayoutComputer layoutComputer) {
         this.layoutComputer = layoutComputer;
+        this.virtualLayout = new VirtualFlexLayout(layoutComputer);
     }
 
     /**
-     * Internal data structure for flex items.
+     * Internal data structure for flex items. The sizing state that the flex algorithm iterates over lives in
+     * {@link FlexItemState} at {@link #index}.
      */
     private static class FlexItem {
         NodeId nodeId;
         int order;
+        /** Position of the item in the container's item list and in its {@link FlexItemState} arrays */
+        int index;
         FloatSize size;
         FloatSize minSize;
         FloatSize maxSize;
         AlignSelf alignSelf;
         TaffyPoint<Overflow> overflow;
         float scrollbarWidth;
-        float flexShrink;
-        float flexGrow;
-        float resolvedMinimumMainSize;
         FloatRect inset;
         FloatRect margin;
         TaffyRect<Boolean> marginIsAuto;
         FloatRect padding;
         FloatRect border;
-        float flexBasis;
-        float innerFlexBasis;
-        float violation;
-        boolean frozen;
-        float contentFlexFraction;
-        FloatSize hypotheticalInnerSize;
-        FloatSize hypotheticalOuterSize;
-        FloatSize targetSize;
-        FloatSize outerTargetSize;
-        float baseline;
-        float offsetMain;
-        float offsetCross;
+
+        /**
+         * Restores the freshly constructed state so a pooled item can be reused.
+         */
+        void reset() {
+            nodeId = null;
+            order = 0;
+            index = 0;
+            size = null;
+            minSize = null;
+            maxSize = null;
+            alignSelf = null;
+            overflow = null;
+            scrollbarWidth = 0;
+            inset = null;
+            margin = null;
+            marginIsAuto = null;
+            padding = null;
+            border = null;
+        }
+    }
+
+    /**
+     * Sizing state of a container's flex items, held in parallel arrays indexed by {@link FlexItem#index} and split
+     * into main and cross axis, so that resolving flexible lengths and aligning items walks contiguous primitive
+     * memory and writes in place instead of allocating a size per item and step.
+     */
+    private static final class FlexItemState {
+        float[] flexGrow = new float[0];
+        float[] flexShrink = new float[0];
+        float[] flexBasis = new float[0];
+        float[] innerFlexBasis = new float[0];
+        float[] resolvedMinimumMainSize = new float[0];
+        /** Resolved min and max main size, NaN when unset */
+        float[] minMain = new float[0];
+        float[] maxMain = new float[0];
+        /** Main axis margins as resolved from the style, before auto margins are distributed */
+        float[] marginMainStart = new float[0];
+        float[] marginMainEnd = new float[0];
+        /** Number of auto margins on the main axis (0, 1 or 2) */
+        byte[] mainAutoMargins = new byte[0];
+        float[] violation = new float[0];
+        boolean[] frozen = new boolean[0];
+        float[] contentFlexFraction = new float[0];
+        float[] hypotheticalInnerMain = new float[0];
+        float[] hypotheticalInnerCross = new float[0];
+        float[] hypotheticalOuterMain = new float[0];
+        float[] hypotheticalOuterCross = new float[0];
+        float[] targetMain = new float[0];
+        float[] targetCross = new float[0];
+        float[] outerTargetMain = new float[0];
+        float[] outerTargetCross = new float[0];
+        float[] baseline = new float[0];
+        float[] offsetMain = new float[0];
+        float[] offsetCross = new float[0];
+
+        /**
+         * Makes room for the given number of items. Existing values are not kept: every item is {@link #clear cleared}
+         * when it is generated.
+         */
+        void ensureCapacity(int count) {
+            if (flexGrow.length >= count) {
+                return;
+            }
+            int capacity = Math.max(count, flexGrow.length * 2);
+            flexGrow = new float[capacity];
+            flexShrink = new float[capacity];
+            flexBasis = new float[capacity];
+            innerFlexBasis = new float[capacity];
+            resolvedMinimumMainSize = new float[capacity];
+            minMain = new float[capacity];
+            maxMain = new float[capacity];
+            marginMainStart = new float[capacity];
+            marginMainEnd = new float[capacity];
+            mainAutoMargins = new byte[capacity];
+            violation = new float[capacity];
+            frozen = new boolean[capacity];
+            contentFlexFraction = new float[capacity];
+            hypotheticalInnerMain = new float[capacity];
+            hypotheticalInnerCross = new float[capacity];
+            hypotheticalOuterMain = new float[capacity];
+            hypotheticalOuterCross = new float[capacity];
+            targetMain = new float[capacity];
+            targetCross = new float[capacity];
+            outerTargetMain = new float[capacity];
+            outerTargetCross = new float[capacity];
+            baseline = new float[capacity];
+            offsetMain = new float[capacity];
+            offsetCross = new float[capacity];
+        }
+
+        /**
+         * Restores the freshly generated state of the item at the given index.
+         */
+        void clear(int i) {
+            flexGrow[i] = 0;
+            flexShrink[i] = 0;
+            flexBasis[i] = 0;
+            innerFlexBasis[i] = 0;
+            resolvedMinimumMainSize[i] = 0;
+            minMain[i] = NaN;
+            maxMain[i] = NaN;
+            marginMainStart[i] = 0;
+            marginMainEnd[i] = 0;
+            mainAutoMargins[i] = 0;
+            violation[i] = 0;
+            frozen[i] = false;
+            contentFlexFraction[i] = 0;
+            hypotheticalInnerMain[i] = 0;
+            hypotheticalInnerCross[i] = 0;
+            hypotheticalOuterMain[i] = 0;
+            hypotheticalOuterCross[i] = 0;
+            targetMain[i] = 0;
+            targetCross[i] = 0;
+            outerTargetMain[i] = 0;
+            outerTargetCross[i] = 0;
+            baseline[i] = 0;
+            offsetMain[i] = 0;
+            offsetCross[i] = 0;
+        }
+
+        /**
+         * The target size of the item at the given index as a width and height.
+         */
+        FloatSize targetSize(int i, boolean isRow) {
+            return isRow ? new FloatSize(targetMain[i], targetCross[i]) : new FloatSize(targetCross[i], targetMain[i]);
+        }
     }
 
     /**
-     * A line of flex items.
+     * A line of flex items: the run [start, end) of the container's items. Lines share the container's item list
+     * instead of copying their items out of it.
      */
     private static class FlexLine {
+        /** The container's items, of which this line holds [start, end) */
         List<FlexItem> items;
+        int start;
+        int end;
         float crossSize;
         float offsetCross;
+
+        int count() {
+            return end - start;
+        }
+    }
+
+    /**
+     * Scratch state of one flex container layout: the item list and its sizing state, the lines, and pools of both.
+     */
+    private static final class FlexScratch implements ScratchArena.Frame {
+        final List<FlexItem> items = new ArrayList<>();
+        final List<FlexLine> lines = new ArrayList<>();
+        final FlexItemState state = new FlexItemState();
+        final ScratchArena.Pool<FlexItem> itemPool = new ScratchArena.Pool<>(FlexItem::new, FlexItem::reset);
+        final ScratchArena.Pool<FlexLine> linePool = new ScratchArena.Pool<>(FlexLine::new, line -> {
+            line.items = null;
+            line.start = 0;
+            line.end = 0;
+            line.crossSize = 0;
+            line.offsetCross = 0;
+        });
+
+        @Override
+        public void reset() {
+            items.clear();
+            lines.clear();
+            itemPool.releaseAll();
+            linePool.releaseAll();
+        }
     }
 
     /**
      * Computes flexbox layout for a node.
      */
     public LayoutOutput compute(NodeId node, LayoutInput inputs, TaffyStyle style) {
+        FlexScratch scratch = scratchArena.acquire();
+        try {
+            return compute(node, inputs, style, scratch);
+        } finally {
+            scratchArena.release();
+        }
+    }
+
+    private LayoutOutput compute(NodeId node, LayoutInput inputs, TaffyStyle style, FlexScratch scratch) {
         TaffyTree tree = layoutComputer.getTree();
         FloatSize knownDimensions = inputs.knownDimensions();
         FloatSize parentSize = inputs.parentSize();
@@ -138,10 +304,11 @@ public class FlexboxComputer {
         FloatSize styledBasedKnownDimensions = orChain(knownDimensions, minMaxDefiniteSize, clampedStyleSize);
         styledBasedKnownDimensions = maybeMax(styledBasedKnownDimensions, paddingBorderSize);
 
-        // Short-circuit if size is known
+        // Short-circuit if the requested size is known. A single-axis request leaves the other dimension NaN.
+        RequestedAxis requestedAxis = inputs.axis();
         if (runMode == RunMode.COMPUTE_SIZE &&
-            !isNaN(styledBasedKnownDimensions.width) &&
-            !isNaN(styledBasedKnownDimensions.height)) {
+            (!isNaN(styledBasedKnownDimensions.width) || requestedAxis == RequestedAxis.VERTICAL) &&
+            (!isNaN(styledBasedKnownDimensions.height) || requestedAxis == RequestedAxis.HORIZONTAL)) {
             return LayoutOutput.fromOuterSize(styledBasedKnownDimensions);
         }
 
@@ -174,8 +341,19 @@ public class FlexboxComputer {
         // Determine available space for flex items (transforms outer available space to inner available space)
         TaffySize<AvailableSpace> innerAvailableSpace = determineAvailableSpace(styledBasedKnownDimensions, availableSpace, contentBoxInset);
 
+        // Windowed layout skips item generation and flex base sizes for the children outside the viewport
+        FlexViewport viewport = tree.getFlexViewport(node);
+        if (viewport != null) {
+            if (!isWrap && !flexDirection.isReverse() && !(isRow && direction == TaffyDirection.RTL)) {
+                return virtualLayout.compute(node, style, runMode, viewport, isRow, styledBasedKnownDimensions, minSize,
+                    maxSize, paddingBorderSize, contentBoxInset, innerAvailableSpace, gap);
+            }
+            viewport.windowed = false;
+        }
+
         // Generate flex items
-        List<FlexItem> items = generateFlexItems(node, style, nodeInnerSize, flexDirection);
+        List<FlexItem> items = generateFlexItems(node, style, nodeInnerSize, flexDirection, scratch);
+        FlexItemState state = scratch.state;
 
         // If no flow items, we still need to layout absolute children
         if (items.isEmpty()) {
@@ -198,7 +376,7 @@ public class FlexboxComputer {
             for (int order = 0; order < children.size(); order++) {
                 NodeId child = children.get(order);
                 if (tree.getStyle(child).getBoxGenerationMode() == BoxGenerationMode.NONE) {
-                    tree.setUnroundedLayout(child, Layout.withOrder(order));
+                    tree.resetUnroundedLayout(child, order);
                     layoutComputer.performChildLayout(
                         child,
                         FloatSize.none(),
@@ -215,17 +393,18 @@ public class FlexboxComputer {
         }
 
         // Determine flex base size and hypothetical main size
-        determineFlexBaseSize(items, nodeInnerSize, innerAvailableSpace, flexDirection);
+        determineFlexBaseSize(items, state, nodeInnerSize, innerAvailableSpace, flexDirection);
 
         // Collect items into flex lines (use innerAvailableSpace for wrapping, matching Rust)
         float innerMainSize = isRow ? nodeInnerSize.width : nodeInnerSize.height;
         float mainGap = isRow ? gap.width : gap.height;
-        List<FlexLine> flexLines = collectIntoFlexLines(items, innerAvailableSpace, mainGap, isWrap, flexDirection, minSize, maxSize);
+        List<FlexLine> flexLines = collectIntoFlexLines(items, innerAvailableSpace, mainGap, isWrap, flexDirection, minSize, maxSize, scratch);
 
         // Determine container main size if not already known (needed for flex grow/shrink)
         if (isNaN(innerMainSize)) {
             innerMainSize = determineContainerMainSize(
                 flexLines,
+                state,
                 contentBoxInset,
                 minSize,
                 maxSize,
@@ -255,30 +434,40 @@ public class FlexboxComputer {
             }
         }
 
+        // Measure-only: the main size is final here, so a request for the main axis needs no cross-axis work
+        boolean mainAxisRequested = requestedAxis == (isRow ? RequestedAxis.HORIZONTAL : RequestedAxis.VERTICAL);
+        if (runMode == RunMode.COMPUTE_SIZE && mainAxisRequested && !isNaN(innerMainSize)) {
+            float containerMain = containerMainSize(styledBasedKnownDimensions, paddingBorderSize, contentBoxInset,
+                minSize, maxSize, isRow, innerMainSize, NaN);
+            return LayoutOutput.fromOuterSize(isRow ? new FloatSize(containerMain, NaN) : new FloatSize(NaN, containerMain));
+        }
+
         // Resolve flexible lengths
         for (FlexLine line : flexLines) {
-            resolveFlexibleLengths(line, flexDirection, innerMainSize, mainGap);
+            resolveFlexibleLengths(line, state, innerMainSize, mainGap);
         }
 
         // 9.4. Cross Size Determination
         // 7. Determine the hypothetical cross size of each item
         for (FlexLine line : flexLines) {
-            determineHypotheticalCrossSize(line, flexDirection, innerMainSize, nodeInnerSize, innerAvailableSpace);
+            determineHypotheticalCrossSize(line, state, flexDirection, innerMainSize, nodeInnerSize, innerAvailableSpace);
         }
 
         // Calculate children baselines (for baseline alignment support)
         // This needs to be before calculateCrossSize since baseline affects line cross size
-        calculateChildrenBaselines(flexLines, nodeInnerSize, innerAvailableSpace, flexDirection);
+        calculateChildrenBaselines(flexLines, state, nodeInnerSize, innerAvailableSpace, flexDirection);
 
         // Calculate cross size
-        calculateCrossSize(flexLines, nodeInnerSize, innerAvailableSpace, flexDirection, style, minSize, maxSize, contentBoxInset);
+        calculateCrossSize(flexLines, state, nodeInnerSize, innerAvailableSpace, flexDirection, style, minSize, maxSize, contentBoxInset);
 
-        // Distribute remaining space
-        distributeRemainingMainSpace(flexLines, style, innerMainSize, mainGap, flexDirection);
+        // Distribute remaining space. It only positions items, so a measurement skips it once the main size is known.
+        if (runMode != RunMode.COMPUTE_SIZE || isNaN(innerMainSize)) {
+            distributeRemainingMainSpace(flexLines, state, style, innerMainSize, mainGap, flexDirection);
+        }
 
         // Calculate container size (use innerMainSize as the known main size when available)
         FloatSize containerSize = calculateContainerSize(
-            flexLines, styledBasedKnownDimensions, paddingBorderSize,
+            flexLines, state, styledBasedKnownDimensions, paddingBorderSize,
             contentBoxInset, gap, minSize, maxSize, flexDirection, innerMainSize);
 
         if (runMode == RunMode.COMPUTE_SIZE) {
@@ -295,20 +484,20 @@ public class FlexboxComputer {
         alignFlexLinesPerAlignContent(flexLines, containerSize, contentBoxInset, gap, style, flexDirection, isWrap, isWrapReverse, totalLineCrossSize);
 
         // Determine used cross size for stretch items (uses stretched line.crossSize)
-        determineUsedCrossSize(flexLines, flexDirection, style);
+        determineUsedCrossSize(flexLines, state, flexDirection, style);
 
         // Align items on cross axis (must be after lines are stretched)
-        alignItemsOnCrossAxis(flexLines, flexDirection, isWrapReverse);
+        alignItemsOnCrossAxis(flexLines, state, flexDirection, isWrapReverse);
 
         // Perform final layout and get container baseline
-        float firstVerticalBaseline = performFinalLayout(flexLines, node, containerSize, contentBoxInset, gap, style, flexDirection, direction, isWrapReverse);
+        float firstVerticalBaseline = performFinalLayout(flexLines, state, node, containerSize, contentBoxInset, gap, style, flexDirection, direction, isWrapReverse);
 
         // Layout hidden children (display: none)
         List<NodeId> children = tree.getChildren(node);
         for (int order = 0; order < children.size(); order++) {
             NodeId child = children.get(order);
             if (tree.getStyle(child).getBoxGenerationMode() == BoxGenerationMode.NONE) {
-                tree.setUnroundedLayout(child, Layout.withOrder(order));
+                tree.resetUnroundedLayout(child, order);
                 layoutComputer.performChildLayout(
                     child,
                     FloatSize.none(),
@@ -348,15 +537,19 @@ public class FlexboxComputer {
         return contentSize;
     }
 
-    private List<FlexItem> generateFlexItems(NodeId node, TaffyStyle containerStyle, FloatSize nodeInnerSize, FlexDirection flexDirection) {
+    private List<FlexItem> generateFlexItems(NodeId node, TaffyStyle containerStyle, FloatSize nodeInnerSize, FlexDirection flexDirection,
+                                             FlexScratch scratch) {
         TaffyTree tree = layoutComputer.getTree();
-        List<FlexItem> items = new ArrayList<>();
+        List<FlexItem> items = scratch.items;
+        FlexItemState state = scratch.state;
         AlignItems defaultAlign = containerStyle.getAlignItems();
 
         boolean isRow = flexDirection.isRow();
 
+        List<NodeId> children = tree.getChildren(node);
+        state.ensureCapacity(children.size());
         int order = 0;
-        for (NodeId childId : tree.getChildren(node)) {
+        for (NodeId childId : children) {
             TaffyStyle childStyle = tree.getStyle(childId);
             if (childStyle.getBoxGenerationMode() == BoxGenerationMode.NONE ||
                 childStyle.getPosition() == TaffyPosition.ABSOLUTE) {
@@ -364,9 +557,12 @@ public class FlexboxComputer {
                 continue;
             }
 
-            FlexItem item = new FlexItem();
+            FlexItem item = scratch.itemPool.next();
+            int index = items.size();
             item.nodeId = childId;
             item.order = order++;
+            item.index = index;
+            state.clear(index);
 
             Float aspectRatio = childStyle.getAspectRatio();
             FloatRect itemPadding = Resolve.resolveRectOrZero(childStyle.getPadding(), nodeInnerSize.width);
@@ -403,8 +599,8 @@ public class FlexboxComputer {
             TaffyDimension mainDim = isRow ? childStyle.getSize().width : childStyle.getSize().height;
             boolean mainIsStretch = mainDim != null && mainDim.isStretch();
 
-            item.flexGrow = mainIsStretch && childStyle.getFlexGrow() == 0f ? 1f : childStyle.getFlexGrow();
-            item.flexShrink = childStyle.getFlexShrink();
+            state.flexGrow[index] = mainIsStretch && childStyle.getFlexGrow() == 0f ? 1f : childStyle.getFlexGrow();
+            state.flexShrink[index] = childStyle.getFlexShrink();
 
             AlignItems selfAlignItems = childStyle.getAlignSelf();
             AlignItems effectiveAlignItems = (selfAlignItems != null && selfAlignItems != AlignItems.AUTO)
@@ -474,15 +670,13 @@ public class FlexboxComputer {
                 insetStyle.bottom.maybeResolve(nodeInnerSize.height)
             );
 
-            item.hypotheticalInnerSize = new FloatSize(0f, 0f);
-            item.hypotheticalOuterSize = new FloatSize(0f, 0f);
-            item.targetSize = new FloatSize(0f, 0f);
-            item.outerTargetSize = new FloatSize(0f, 0f);
-            item.violation = 0;
-            item.frozen = false;
-            item.baseline = 0;
-            item.offsetMain = 0;
-            item.offsetCross = 0;
+            state.minMain[index] = isRow ? item.minSize.width : item.minSize.height;
+            state.maxMain[index] = isRow ? item.maxSize.width : item.maxSize.height;
+            state.marginMainStart[index] = isRow ? item.margin.left : item.margin.top;
+            state.marginMainEnd[index] = isRow ? item.margin.right : item.margin.bottom;
+            boolean mainStartAuto = isRow ? item.marginIsAuto.left : item.marginIsAuto.top;
+            boolean mainEndAuto = isRow ? item.marginIsAuto.right : item.marginIsAuto.bottom;
+            state.mainAutoMargins[index] = (byte) ((mainStartAuto ? 1 : 0) + (mainEndAuto ? 1 : 0));
 
             items.add(item);
         }
@@ -522,6 +716,7 @@ public class FlexboxComputer {
 
     private void determineFlexBaseSize(
         List<FlexItem> items,
+        FlexItemState state,
         FloatSize nodeInnerSize,
         TaffySize<AvailableSpace> availableSpace,
         FlexDirection flexDirection) {
@@ -529,6 +724,7 @@ public class FlexboxComputer {
         boolean isRow = flexDirection.isRow();
 
         for (FlexItem item : items) {
+            int i = item.index;
             TaffyTree tree = layoutComputer.getTree();
             TaffyStyle childStyle = tree.getStyle(item.nodeId);
 
@@ -649,7 +845,7 @@ public class FlexboxComputer {
                 // Use measureChildSize instead of performChildLayout to avoid setting 
                 // unroundedLayout prematurely. The flex base size calculation should only
                 // compute sizes, not perform full layout (matching Rust's measure_child_size).
-                FloatSize measuredSize = layoutComputer.measureChildSize(
+                float measuredMain = layoutComputer.measureChildSize(
                     item.nodeId,
                     childKnownDimensions,
                     childParentSize,
@@ -657,14 +853,16 @@ public class FlexboxComputer {
                     // Flex base size must NOT incorporate explicit min-size (min-size is applied later when clamping the
                     // hypothetical size). We keep CONTENT_SIZE here and apply max-size/aspect-ratio behavior in leaf sizing.
                     SizingMode.CONTENT_SIZE,
-                    new TaffyLine<>(false, false)
+                    new TaffyLine<>(false, false),
+                    isRow ? AbsoluteAxis.HORIZONTAL : AbsoluteAxis.VERTICAL
                 );
 
-                basis = isRow ? measuredSize.width : measuredSize.height;
+                basis = measuredMain;
             }
 
-            item.flexBasis = Math.max(basis, paddingBorderMain); // Floor at padding+border
-            item.innerFlexBasis = Math.max(0, item.flexBasis - paddingBorderMain);
+            float itemFlexBasis = Math.max(basis, paddingBorderMain); // Floor at padding+border
+            state.flexBasis[i] = itemFlexBasis;
+            state.innerFlexBasis[i] = Math.max(0, itemFlexBasis - paddingBorderMain);
 
             // Calculate resolved minimum main size (CSS 4.5. Automatic Minimum Size of Flex Items)
             // https://www.w3.org/TR/css-flexbox-1/#min-size-auto
@@ -677,12 +875,13 @@ public class FlexboxComputer {
                                       ? (item.overflow.x != Overflow.VISIBLE)
                                       : (item.overflow.y != Overflow.VISIBLE);
 
+            float resolvedMinimumMainSize;
             if (!isNaN(minMain)) {
                 // Explicit min-size takes precedence
-                item.resolvedMinimumMainSize = minMain;
+                resolvedMinimumMainSize = minMain;
             } else if (hasOverflowMain) {
                 // Non-visible overflow means automatic min = 0
-                item.resolvedMinimumMainSize = 0;
+                resolvedMinimumMainSize = 0;
             } else {
                 // Compute min-content size for automatic minimum
                 // Use crossAxisAvailableSpace which was computed earlier (matching Rust)
@@ -693,17 +892,18 @@ public class FlexboxComputer {
                 // Use childKnownDimensions (computed above with stretch logic applied)
                 // Per Rust flexbox.rs line 805: reuses child_known_dimensions for min-content measurement
                 // Use measureChildSize to avoid setting unroundedLayout prematurely
-                FloatSize minMeasuredSize = layoutComputer.measureChildSize(
+                float minMeasuredMain = layoutComputer.measureChildSize(
                     item.nodeId,
                     childKnownDimensions,
                     childParentSize,
                     minContentAvailSpace,
                     SizingMode.CONTENT_SIZE,
-                    new TaffyLine<>(false, false)
+                    new TaffyLine<>(false, false),
+                    isRow ? AbsoluteAxis.HORIZONTAL : AbsoluteAxis.VERTICAL
                 );
 
                 // 4.5: clamp min-content size by specified size and max-size
-                float clampedMinContent = isRow ? minMeasuredSize.width : minMeasuredSize.height;
+                float clampedMinContent = minMeasuredMain;
                 if (!isNaN(styleMainSize)) {
                     clampedMinContent = Math.min(clampedMinContent, styleMainSize);
                 }
@@ -712,21 +912,22 @@ public class FlexboxComputer {
                 }
 
                 // Floor at padding+border
-                item.resolvedMinimumMainSize = Math.max(clampedMinContent, paddingBorderMain);
+                resolvedMinimumMainSize = Math.max(clampedMinContent, paddingBorderMain);
             }
+            state.resolvedMinimumMainSize[i] = resolvedMinimumMainSize;
 
             // Hypothetical main size = flex_basis clamped by min/max
             // Note: In taffy, flex_basis, hypothetical_inner_size, min_size, max_size all include padding+border
 
             // Use resolvedMinimumMainSize if available (includes content-based minimum)
-            float hypotheticalInnerMinMain = Math.max(item.resolvedMinimumMainSize, paddingBorderMain);
+            float hypotheticalInnerMinMain = Math.max(resolvedMinimumMainSize, paddingBorderMain);
             if (!isNaN(minMain)) {
                 hypotheticalInnerMinMain = Math.max(hypotheticalInnerMinMain, minMain);
             }
 
             // Clamp flex_basis by min and max
             // Per CSS spec, min takes precedence over max, so apply max first then min
-            float hypotheticalInnerMain = item.flexBasis;
+            float hypotheticalInnerMain = itemFlexBasis;
             if (!isNaN(maxMain)) {
                 hypotheticalInnerMain = Math.min(hypotheticalInnerMain, maxMain);
             }
@@ -735,15 +936,10 @@ public class FlexboxComputer {
             float marginMain = isRow
                                ? item.margin.left + item.margin.right
                                : item.margin.top + item.margin.bottom;
-            float hypotheticalOuterMain = hypotheticalInnerMain + marginMain;
-
-            if (isRow) {
-                item.hypotheticalInnerSize = new FloatSize(hypotheticalInnerMain, 0f);
-                item.hypotheticalOuterSize = new FloatSize(hypotheticalOuterMain, 0f);
-            } else {
-                item.hypotheticalInnerSize = new FloatSize(0f, hypotheticalInnerMain);
-                item.hypotheticalOuterSize = new FloatSize(0f, hypotheticalOuterMain);
-            }
+            state.hypotheticalInnerMain[i] = hypotheticalInnerMain;
+            state.hypotheticalOuterMain[i] = hypotheticalInnerMain + marginMain;
+            state.hypotheticalInnerCross[i] = 0f;
+            state.hypotheticalOuterCross[i] = 0f;
         }
     }
 
@@ -753,6 +949,7 @@ public class FlexboxComputer {
      */
     private float determineContainerMainSize(
         List<FlexLine> lines,
+        FlexItemState state,
         FloatRect contentBoxInset,
         FloatSize minSize,
         FloatSize maxSize,
@@ -776,15 +973,14 @@ public class FlexboxComputer {
             float longestLineLength = 0;
             for (FlexLine line : lines) {
                 float lineLength = 0;
-                for (FlexItem item : line.items) {
+                for (int i = line.start; i < line.end; i++) {
                     // IMPORTANT: Use hypothetical outer size, not raw flex-basis.
                     // The hypothetical size is flex-basis clamped by min/max (and includes padding/border per Taffy).
                     // Using flex-basis here breaks cases where flex-basis is 0 but min-size is definite
                     // (e.g. intrinsic_sizing_main_size_min_size), leading to negative free space and bad offsets.
-                    float itemOuterMain = isRow ? item.hypotheticalOuterSize.width : item.hypotheticalOuterSize.height;
-                    lineLength += itemOuterMain;
+                    lineLength += state.hypotheticalOuterMain[i];
                 }
-                lineLength += mainGap * (line.items.size() - 1);
+                lineLength += mainGap * (line.count() - 1);
                 longestLineLength = Math.max(longestLineLength, lineLength);
             }
 
@@ -800,11 +996,10 @@ public class FlexboxComputer {
             float longestLineLength = 0;
             for (FlexLine line : lines) {
                 float lineLength = 0;
-                for (FlexItem item : line.items) {
-                    float itemOuterMain = isRow ? item.hypotheticalOuterSize.width : item.hypotheticalOuterSize.height;
-                    lineLength += itemOuterMain;
+                for (int i = line.start; i < line.end; i++) {
+                    lineLength += state.hypotheticalOuterMain[i];
                 }
-                lineLength += mainGap * (line.items.size() - 1);
+                lineLength += mainGap * (line.count() - 1);
                 longestLineLength = Math.max(longestLineLength, lineLength);
             }
             outerMainSize = longestLineLength + mainContentBoxInset;
@@ -818,7 +1013,9 @@ public class FlexboxComputer {
 
             for (FlexLine line : lines) {
                 // Step 1: Calculate content_contribution and content_flex_fraction for each item
-                for (FlexItem item : line.items) {
+                for (int i = line.start; i < line.end; i++) {
+                    FlexItem item = line.items.get(i);
+                    float flexBasis = state.flexBasis[i];
                     float marginMain = isRow
                                        ? item.margin.left + item.margin.right
                                        : item.margin.top + item.margin.bottom;
@@ -833,16 +1030,16 @@ public class FlexboxComputer {
                     // Spec: https://www.w3.org/TR/css-flexbox-1/#intrinsic-item-contributions
                     // Spec modification: https://www.w3.org/TR/css-flexbox-1/#change-2016-max-contribution
                     float clampingBasis = !Float.isNaN(stylePreferredMain)
-                                          ? Math.max(item.flexBasis, stylePreferredMain)
-                                          : item.flexBasis;
+                                          ? Math.max(flexBasis, stylePreferredMain)
+                                          : flexBasis;
 
                     // flex_basis acts as min when flex_shrink == 0
-                    float flexBasisMin = item.flexShrink == 0f ? clampingBasis : NaN;
+                    float flexBasisMin = state.flexShrink[i] == 0f ? clampingBasis : NaN;
                     // flex_basis acts as max when flex_grow == 0
-                    float flexBasisMax = item.flexGrow == 0f ? clampingBasis : NaN;
+                    float flexBasisMax = state.flexGrow[i] == 0f ? clampingBasis : NaN;
 
                     // Compute effective min: max(style_min, flex_basis_min, resolved_minimum_main_size)
-                    float minMainSize = item.resolvedMinimumMainSize;
+                    float minMainSize = state.resolvedMinimumMainSize[i];
                     if (!Float.isNaN(styleMinMain)) minMainSize = Math.max(minMainSize, styleMinMain);
                     if (!Float.isNaN(flexBasisMin)) minMainSize = Math.max(minMainSize, flexBasisMin);
 
@@ -865,7 +1062,7 @@ public class FlexboxComputer {
                         contentContribution = minMainSize + marginMain;
                     } else if (item.overflow.x != Overflow.VISIBLE || item.overflow.y != Overflow.VISIBLE) {
                         // Scroll container: use flex-basis
-                        contentContribution = item.flexBasis + marginMain;
+                        contentContribution = flexBasis + marginMain;
                     } else {
                         // Measure child content size in main axis
                         AvailableSpace outerCrossAvail = isRow ? availableSpace.height : availableSpace.width;
@@ -941,7 +1138,7 @@ public class FlexboxComputer {
                         if (isRow) {
                             contentContribution = TaffyMath.maybeClamp(contentMainSize, styleMinMain, styleMaxMain);
                         } else {
-                            contentContribution = Math.max(contentMainSize, item.flexBasis);
+                            contentContribution = Math.max(contentMainSize, flexBasis);
                             contentContribution = TaffyMath.maybeClamp(contentContribution, styleMinMain, styleMaxMain);
                         }
                         contentContribution = Math.max(contentContribution, mainContentBoxInset);
@@ -949,14 +1146,14 @@ public class FlexboxComputer {
 
                     // Calculate content_flex_fraction
                     // This represents the "flex fraction" needed to size the item to its content contribution
-                    float diff = contentContribution - item.flexBasis;
+                    float diff = contentContribution - flexBasis;
                     if (diff > 0.0f) {
-                        item.contentFlexFraction = diff / Math.max(1.0f, item.flexGrow);
+                        state.contentFlexFraction[i] = diff / Math.max(1.0f, state.flexGrow[i]);
                     } else if (diff < 0.0f) {
-                        float scaledShrinkFactor = Math.max(1.0f, item.flexShrink * item.innerFlexBasis);
-                        item.contentFlexFraction = diff / scaledShrinkFactor;
+                        float scaledShrinkFactor = Math.max(1.0f, state.flexShrink[i] * state.innerFlexBasis[i]);
+                        state.contentFlexFraction[i] = diff / scaledShrinkFactor;
                     } else {
-                        item.contentFlexFraction = 0.0f;
+                        state.contentFlexFraction[i] = 0.0f;
                     }
                 }
 
@@ -965,34 +1162,29 @@ public class FlexboxComputer {
                 //   - its flex grow factor (or scaled flex shrink factor, if the chosen max-content flex fraction was negative)
                 //   - the chosen max-content flex fraction
                 float itemMainSizeSum = 0;
-                for (FlexItem item : line.items) {
-                    float flexFraction = item.contentFlexFraction;
+                for (int i = line.start; i < line.end; i++) {
+                    float flexFraction = state.contentFlexFraction[i];
 
                     float flexContribution;
-                    if (item.contentFlexFraction > 0.0f) {
-                        flexContribution = Math.max(1.0f, item.flexGrow) * flexFraction;
-                    } else if (item.contentFlexFraction < 0.0f) {
-                        float scaledShrinkFactor = Math.max(1.0f, item.flexShrink) * item.innerFlexBasis;
+                    if (flexFraction > 0.0f) {
+                        flexContribution = Math.max(1.0f, state.flexGrow[i]) * flexFraction;
+                    } else if (flexFraction < 0.0f) {
+                        float scaledShrinkFactor = Math.max(1.0f, state.flexShrink[i]) * state.innerFlexBasis[i];
                         flexContribution = scaledShrinkFactor * flexFraction;
                     } else {
                         flexContribution = 0.0f;
                     }
 
-                    float itemSize = item.flexBasis + flexContribution;
+                    float itemSize = state.flexBasis[i] + flexContribution;
 
                     // Update item's target sizes (used later in layout)
-                    if (isRow) {
-                        item.outerTargetSize = new FloatSize(itemSize, item.outerTargetSize != null ? item.outerTargetSize.height : Float.NaN);
-                        item.targetSize = new FloatSize(itemSize, item.targetSize != null ? item.targetSize.height : Float.NaN);
-                    } else {
-                        item.outerTargetSize = new FloatSize(item.outerTargetSize != null ? item.outerTargetSize.width : Float.NaN, itemSize);
-                        item.targetSize = new FloatSize(item.targetSize != null ? item.targetSize.width : Float.NaN, itemSize);
-                    }
+                    state.outerTargetMain[i] = itemSize;
+                    state.targetMain[i] = itemSize;
 
                     itemMainSizeSum += itemSize;
                 }
 
-                float gapSum = mainGap * Math.max(0, line.items.size() - 1);
+                float gapSum = mainGap * Math.max(0, line.count() - 1);
                 maxLineSum = Math.max(maxLineSum, itemMainSizeSum + gapSum);
             }
 
@@ -1018,17 +1210,14 @@ public class FlexboxComputer {
         boolean isWrap,
         FlexDirection flexDirection,
         FloatSize minSize,
-        FloatSize maxSize) {
+        FloatSize maxSize,
+        FlexScratch scratch) {
 
-        List<FlexLine> lines = new ArrayList<>();
+        List<FlexLine> lines = scratch.lines;
         boolean isRow = flexDirection.isRow();
 
         if (!isWrap) {
-            FlexLine line = new FlexLine();
-            line.items = new ArrayList<>(items);
-            line.crossSize = 0;
-            line.offsetCross = 0;
-            lines.add(line);
+            addLine(scratch, items, 0, items.size());
             return lines;
         }
 
@@ -1050,78 +1239,78 @@ public class FlexboxComputer {
 
         // If MaxContent, all items go in one line (no wrapping)
         if (mainAxisAvailableSpace.isMaxContent()) {
-            FlexLine line = new FlexLine();
-            line.items = new ArrayList<>(items);
-            line.crossSize = 0;
-            line.offsetCross = 0;
-            lines.add(line);
+            addLine(scratch, items, 0, items.size());
             return lines;
         }
 
         // If MinContent, each item gets its own line
+        int count = items.size();
         if (mainAxisAvailableSpace.isMinContent()) {
-            for (FlexItem item : items) {
-                FlexLine line = new FlexLine();
-                line.items = new ArrayList<>();
-                line.items.add(item);
-                line.crossSize = 0;
-                line.offsetCross = 0;
-                lines.add(line);
+            for (int i = 0; i < count; i++) {
+                addLine(scratch, items, i, i + 1);
             }
             return lines;
         }
 
-        // Definite available space - wrap based on constraint
+        // Definite available space - wrap based on constraint. The line length is summed in float, item by item,
+        // so breaks land exactly where Rust's collect_flex_lines puts them even when the sizes aren't representable
         float availMainSize = mainAxisAvailableSpace.getValue();
-        float lineMainSize = 0;
-        List<FlexItem> currentLine = new ArrayList<>();
-
-        for (FlexItem item : items) {
-            float itemOuterMain = isRow
-                                  ? item.hypotheticalOuterSize.width
-                                  : item.hypotheticalOuterSize.height;
-
-            if (!currentLine.isEmpty()) {
-                float newSize = lineMainSize + mainGap + itemOuterMain;
-                if (newSize > availMainSize) {
-                    FlexLine line = new FlexLine();
-                    line.items = currentLine;
-                    line.crossSize = 0;
-                    line.offsetCross = 0;
-                    lines.add(line);
-                    currentLine = new ArrayList<>();
-                    lineMainSize = 0;
-                }
-            }
+        collectWrappedLines(items, scratch.state.hypotheticalOuterMain, availMainSize, mainGap, scratch);
+        return lines;
+    }
 
-            currentLine.add(item);
-            lineMainSize += (currentLine.size() > 1 ? mainGap : 0) + itemOuterMain;
+    private void collectWrappedLines(List<FlexItem> items, float[] hypotheticalOuterMain,
+                                     float availMainSize, float mainGap, FlexScratch scratch) {
+        int count = items.size();
+        int start = 0;
+        float lineMainSize = 0;
+        for (int i = 0; i < count; i++) {
+            float itemOuterMain = hypotheticalOuterMain[i];
+            if (i > start && lineMainSize + mainGap + itemOuterMain > availMainSize) {
+                addLine(scratch, items, start, i);
+                start = i;
+                lineMainSize = 0;
+            }
+            lineMainSize += (i > start ? mainGap : 0) + itemOuterMain;
         }
-
-        if (!currentLine.isEmpty()) {
-            FlexLine line = new FlexLine();
-            line.items = currentLine;
-            line.crossSize = 0;
-            line.offsetCross = 0;
-            lines.add(line);
+        if (count > start) {
+            addLine(scratch, items, start, count);
         }
+    }
 
-        return lines;
+    private static void addLine(FlexScratch scratch, List<FlexItem> items, int start, int end) {
+        FlexLine line = scratch.linePool.next();
+        line.items = items;
+        line.start = start;
+        line.end = end;
+        scratch.lines.add(line);
     }
 
     private void resolveFlexibleLengths(
         FlexLine line,
-        FlexDirection flexDirection,
+        FlexItemState state,
         float innerMainSize,
         float mainGap) {
 
-        boolean isRow = flexDirection.isRow();
-        float totalMainAxisGap = mainGap * (line.items.size() - 1);
+        int start = line.start;
+        int end = line.end;
+        float[] flexGrow = state.flexGrow;
+        float[] flexShrink = state.flexShrink;
+        float[] flexBasis = state.flexBasis;
+        float[] innerFlexBasis = state.innerFlexBasis;
+        float[] marginMainStart = state.marginMainStart;
+        float[] marginMainEnd = state.marginMainEnd;
+        float[] targetMain = state.targetMain;
+        float[] outerTargetMain = state.outerTargetMain;
+        float[] violation = state.violation;
+        boolean[] frozen = state.frozen;
+
+        float totalMainAxisGap = mainGap * (end - start - 1);
 
         // 1. Determine the used flex factor
         float totalHypotheticalOuterMainSize = 0;
-        for (FlexItem item : line.items) {
-            totalHypotheticalOuterMainSize += isRow ? item.hypotheticalOuterSize.width : item.hypotheticalOuterSize.height;
+        for (int i = start; i < end; i++) {
+            totalHypotheticalOuterMainSize += state.hypotheticalOuterMain[i];
         }
 
         float usedFlexFactor = totalMainAxisGap + totalHypotheticalOuterMainSize;
@@ -1131,30 +1320,18 @@ public class FlexboxComputer {
         boolean exactlySized = !growing && !shrinking;
 
         // 2. Size inflexible items - freeze them
-        for (FlexItem item : line.items) {
-            float innerTargetSize = isRow ? item.hypotheticalInnerSize.width : item.hypotheticalInnerSize.height;
-
-            if (isRow) {
-                item.targetSize = new FloatSize(innerTargetSize, item.targetSize.height);
-            } else {
-                item.targetSize = new FloatSize(item.targetSize.width, innerTargetSize);
-            }
+        for (int i = start; i < end; i++) {
+            float innerTargetSize = state.hypotheticalInnerMain[i];
+            targetMain[i] = innerTargetSize;
 
             // Freeze if: exactly sized, no flex, or flex basis violates hypothetical size
             if (exactlySized
-                || (item.flexGrow == 0.0f && item.flexShrink == 0.0f)
-                || (growing && item.flexBasis > (isRow ? item.hypotheticalInnerSize.width : item.hypotheticalInnerSize.height))
-                || (shrinking && item.flexBasis < (isRow ? item.hypotheticalInnerSize.width : item.hypotheticalInnerSize.height))) {
-
-                item.frozen = true;
-                float marginMain = isRow ? item.margin.left + item.margin.right : item.margin.top + item.margin.bottom;
-                float outerTargetSize = innerTargetSize + marginMain;
+                || (flexGrow[i] == 0.0f && flexShrink[i] == 0.0f)
+                || (growing && flexBasis[i] > innerTargetSize)
+                || (shrinking && flexBasis[i] < innerTargetSize)) {
 
-                if (isRow) {
-                    item.outerTargetSize = new FloatSize(outerTargetSize, item.outerTargetSize.height);
-                } else {
-                    item.outerTargetSize = new FloatSize(item.outerTargetSize.width, outerTargetSize);
-                }
+                frozen[i] = true;
+                outerTargetMain[i] = innerTargetSize + (marginMainStart[i] + marginMainEnd[i]);
             }
         }
 
@@ -1164,50 +1341,32 @@ public class FlexboxComputer {
 
         // 3. Calculate initial free space
         float usedSpace = totalMainAxisGap;
-        for (FlexItem item : line.items) {
-            if (item.frozen) {
-                usedSpace += isRow ? item.outerTargetSize.width : item.outerTargetSize.height;
-            } else {
-                float marginMain = isRow ? item.margin.left + item.margin.right : item.margin.top + item.margin.bottom;
-                usedSpace += item.flexBasis + marginMain;
-            }
+        for (int i = start; i < end; i++) {
+            usedSpace += frozen[i] ? outerTargetMain[i] : flexBasis[i] + (marginMainStart[i] + marginMainEnd[i]);
         }
         float initialFreeSpace = nodeInnerMain - usedSpace;
 
         // 4. Loop
         while (true) {
-            // a. Check for flexible items
+            // a. Check for flexible items, b. calculate remaining free space
             boolean allFrozen = true;
-            for (FlexItem item : line.items) {
-                if (!item.frozen) {
+            usedSpace = totalMainAxisGap;
+            float sumFlexGrow = 0;
+            float sumFlexShrink = 0;
+            for (int i = start; i < end; i++) {
+                if (frozen[i]) {
+                    usedSpace += outerTargetMain[i];
+                } else {
                     allFrozen = false;
-                    break;
+                    usedSpace += flexBasis[i] + (marginMainStart[i] + marginMainEnd[i]);
+                    sumFlexGrow += flexGrow[i];
+                    sumFlexShrink += flexShrink[i];
                 }
             }
             if (allFrozen) {
                 break;
             }
 
-            // b. Calculate remaining free space
-            usedSpace = totalMainAxisGap;
-            for (FlexItem item : line.items) {
-                if (item.frozen) {
-                    usedSpace += isRow ? item.outerTargetSize.width : item.outerTargetSize.height;
-                } else {
-                    float marginMain = isRow ? item.margin.left + item.margin.right : item.margin.top + item.margin.bottom;
-                    usedSpace += item.flexBasis + marginMain;
-                }
-            }
-
-            float sumFlexGrow = 0;
-            float sumFlexShrink = 0;
-            for (FlexItem item : line.items) {
-                if (!item.frozen) {
-                    sumFlexGrow += item.flexGrow;
-                    sumFlexShrink += item.flexShrink;
-                }
-            }
-
             float freeSpace;
             if (growing && sumFlexGrow < 1.0f) {
                 float scaledFreeSpace = initialFreeSpace * sumFlexGrow - totalMainAxisGap;
@@ -1224,35 +1383,25 @@ public class FlexboxComputer {
             // c. Distribute free space proportionally
             if (Math.abs(freeSpace) > 0.0001f) {
                 if (growing && sumFlexGrow > 0) {
-                    for (FlexItem item : line.items) {
-                        if (!item.frozen) {
-                            float newMain = item.flexBasis + freeSpace * (item.flexGrow / sumFlexGrow);
-                            if (isRow) {
-                                item.targetSize = new FloatSize(newMain, item.targetSize.height);
-                            } else {
-                                item.targetSize = new FloatSize(item.targetSize.width, newMain);
-                            }
+                    for (int i = start; i < end; i++) {
+                        if (!frozen[i]) {
+                            targetMain[i] = flexBasis[i] + freeSpace * (flexGrow[i] / sumFlexGrow);
                         }
                     }
                 } else if (shrinking && sumFlexShrink > 0) {
                     // Calculate scaled shrink factors
                     float sumScaledShrinkFactor = 0;
-                    for (FlexItem item : line.items) {
-                        if (!item.frozen) {
-                            sumScaledShrinkFactor += item.innerFlexBasis * item.flexShrink;
+                    for (int i = start; i < end; i++) {
+                        if (!frozen[i]) {
+                            sumScaledShrinkFactor += innerFlexBasis[i] * flexShrink[i];
                         }
                     }
 
                     if (sumScaledShrinkFactor > 0) {
-                        for (FlexItem item : line.items) {
-                            if (!item.frozen) {
-                                float scaledShrinkFactor = item.innerFlexBasis * item.flexShrink;
-                                float newMain = item.flexBasis + freeSpace * (scaledShrinkFactor / sumScaledShrinkFactor);
-                                if (isRow) {
-                                    item.targetSize = new FloatSize(newMain, item.targetSize.height);
-                                } else {
-                                    item.targetSize = new FloatSize(item.targetSize.width, newMain);
-                                }
+                        for (int i = start; i < end; i++) {
+                            if (!frozen[i]) {
+                                float scaledShrinkFactor = innerFlexBasis[i] * flexShrink[i];
+                                targetMain[i] = flexBasis[i] + freeSpace * (scaledShrinkFactor / sumScaledShrinkFactor);
                             }
                         }
                     }
@@ -1261,23 +1410,18 @@ public class FlexboxComputer {
 
             // d. Fix min/max violations
             float totalViolation = 0;
-            for (FlexItem item : line.items) {
-                if (!item.frozen) {
-                    float targetMain = isRow ? item.targetSize.width : item.targetSize.height;
-                    float minMain = isRow ? item.minSize.width : item.minSize.height;
-                    float maxMain = isRow ? item.maxSize.width : item.maxSize.height;
+            for (int i = start; i < end; i++) {
+                if (!frozen[i]) {
+                    float target = targetMain[i];
+                    float maxMain = state.maxMain[i];
 
                     // Use resolvedMinimumMainSize if it's positive, otherwise use minMain
-                    float resolvedMin;
-                    if (item.resolvedMinimumMainSize > 0) {
-                        resolvedMin = item.resolvedMinimumMainSize;
-                    } else {
-                        resolvedMin = minMain;
-                    }
+                    float resolvedMinimumMainSize = state.resolvedMinimumMainSize[i];
+                    float resolvedMin = resolvedMinimumMainSize > 0 ? resolvedMinimumMainSize : state.minMain[i];
 
                     // Clamp target size - handle null values
                     // Per CSS spec, min takes precedence over max, so apply max first then min
-                    float clamped = targetMain;
+                    float clamped = target;
                     if (!Float.isNaN(maxMain) && clamped > maxMain) {
                         clamped = maxMain;
                     }
@@ -1286,32 +1430,26 @@ public class FlexboxComputer {
                     }
                     clamped = Math.max(0, clamped);
 
-                    item.violation = clamped - targetMain;
-
-                    if (isRow) {
-                        item.targetSize = new FloatSize(clamped, item.targetSize.height);
-                        item.outerTargetSize = new FloatSize(clamped + item.margin.left + item.margin.right, item.outerTargetSize.height);
-                    } else {
-                        item.targetSize = new FloatSize(item.targetSize.width, clamped);
-                        item.outerTargetSize = new FloatSize(item.outerTargetSize.width, clamped + item.margin.top + item.margin.bottom);
-                    }
+                    violation[i] = clamped - target;
+                    targetMain[i] = clamped;
+                    outerTargetMain[i] = clamped + marginMainStart[i] + marginMainEnd[i];
 
-                    totalViolation += item.violation;
+                    totalViolation += violation[i];
                 }
             }
 
             // e. Freeze over-flexed items
-            for (FlexItem item : line.items) {
-                if (!item.frozen) {
+            for (int i = start; i < end; i++) {
+                if (!frozen[i]) {
                     if (totalViolation > 0) {
                         // Positive total: freeze items with min violations
-                        item.frozen = item.violation > 0;
+                        frozen[i] = violation[i] > 0;
                     } else if (totalViolation < 0) {
                         // Negative total: freeze items with max violations
-                        item.frozen = item.violation < 0;
+                        frozen[i] = violation[i] < 0;
                     } else {
                         // Zero: freeze all
-                        item.frozen = true;
+                        frozen[i] = true;
                     }
                 }
             }
@@ -1324,6 +1462,7 @@ public class FlexboxComputer {
      */
     private void determineHypotheticalCrossSize(
         FlexLine line,
+        FlexItemState state,
         FlexDirection flexDirection,
         float innerMainSize,
         FloatSize nodeInnerSize,
@@ -1331,7 +1470,8 @@ public class FlexboxComputer {
 
         boolean isRow = flexDirection.isRow();
 
-        for (FlexItem item : line.items) {
+        for (int i = line.start; i < line.end; i++) {
+            FlexItem item = line.items.get(i);
             float paddingBorderCross = isRow
                                        ? item.padding.top + item.padding.bottom + item.border.top + item.border.bottom
                                        : item.padding.left + item.padding.right + item.border.left + item.border.right;
@@ -1367,8 +1507,8 @@ public class FlexboxComputer {
             } else {
                 // Measure child to get cross size using measureChildSize
                 FloatSize knownDims = isRow
-                                      ? new FloatSize(item.targetSize.width, itemCross)
-                                      : new FloatSize(itemCross, item.targetSize.height);
+                                      ? new FloatSize(state.targetMain[i], itemCross)
+                                      : new FloatSize(itemCross, state.targetMain[i]);
 
                 TaffySize<AvailableSpace> childAvailSpace = isRow
                                                             ? new TaffySize<>(
@@ -1380,16 +1520,16 @@ public class FlexboxComputer {
 
                 // Use measureChildSize instead of performChildLayout to avoid setting 
                 // unroundedLayout prematurely during hypothetical size calculation
-                FloatSize measuredSize = layoutComputer.measureChildSize(
+                float measuredCross = layoutComputer.measureChildSize(
                     item.nodeId,
                     knownDims,
                     nodeInnerSize,
                     childAvailSpace,
                     SizingMode.CONTENT_SIZE,
-                    new TaffyLine<>(false, false)
+                    new TaffyLine<>(false, false),
+                    isRow ? AbsoluteAxis.VERTICAL : AbsoluteAxis.HORIZONTAL
                 );
 
-                float measuredCross = isRow ? measuredSize.height : measuredSize.width;
                 childInnerCross = TaffyMath.clamp(measuredCross, itemMinCross, itemMaxCross);
                 childInnerCross = Math.max(childInnerCross, paddingBorderCross);
             }
@@ -1397,16 +1537,10 @@ public class FlexboxComputer {
             float marginCross = isRow
                                 ? item.margin.top + item.margin.bottom
                                 : item.margin.left + item.margin.right;
-            float childOuterCross = childInnerCross + marginCross;
 
             // Update hypothetical sizes
-            if (isRow) {
-                item.hypotheticalInnerSize = new FloatSize(item.hypotheticalInnerSize.width, childInnerCross);
-                item.hypotheticalOuterSize = new FloatSize(item.hypotheticalOuterSize.width, childOuterCross);
-            } else {
-                item.hypotheticalInnerSize = new FloatSize(childInnerCross, item.hypotheticalInnerSize.height);
-                item.hypotheticalOuterSize = new FloatSize(childOuterCross, item.hypotheticalOuterSize.height);
-            }
+            state.hypotheticalInnerCross[i] = childInnerCross;
+            state.hypotheticalOuterCross[i] = childInnerCross + marginCross;
         }
     }
 
@@ -1416,6 +1550,7 @@ public class FlexboxComputer {
      */
     private void calculateChildrenBaselines(
         List<FlexLine> flexLines,
+        FlexItemState state,
         FloatSize nodeInnerSize,
         TaffySize<AvailableSpace> availableSpace,
         FlexDirection flexDirection) {
@@ -1431,7 +1566,8 @@ public class FlexboxComputer {
         for (FlexLine line : flexLines) {
             // Check if any items have baseline alignment
             boolean hasBaselineItem = false;
-            for (FlexItem item : line.items) {
+            for (int i = line.start; i < line.end; i++) {
+                FlexItem item = line.items.get(i);
                 if (item.alignSelf == AlignSelf.BASELINE) {
                     hasBaselineItem = true;
                     break;
@@ -1443,7 +1579,8 @@ public class FlexboxComputer {
 
             // Count baseline-aligned items
             int baselineCount = 0;
-            for (FlexItem item : line.items) {
+            for (int i = line.start; i < line.end; i++) {
+                FlexItem item = line.items.get(i);
                 if (item.alignSelf == AlignSelf.BASELINE) {
                     baselineCount++;
                 }
@@ -1455,7 +1592,8 @@ public class FlexboxComputer {
                 continue;
             }
 
-            for (FlexItem item : line.items) {
+            for (int i = line.start; i < line.end; i++) {
+                FlexItem item = line.items.get(i);
                 // Only calculate baselines for children participating in baseline alignment
                 if (item.alignSelf != AlignSelf.BASELINE) {
                     continue;
@@ -1463,8 +1601,8 @@ public class FlexboxComputer {
 
                 // Perform child layout to get the baseline
                 FloatSize knownDimensions = new FloatSize(
-                    item.targetSize.width,
-                    item.hypotheticalInnerSize.height
+                    state.targetMain[item.index],
+                    state.hypotheticalInnerCross[item.index]
                 );
 
                 TaffySize<AvailableSpace> childAvailableSpace = new TaffySize<>(
@@ -1486,13 +1624,14 @@ public class FlexboxComputer {
                 float height = output.size().height;
 
                 // baseline = first_baseline (or height if none) + top margin
-                item.baseline = (!Float.isNaN(childBaseline) ? childBaseline : height) + item.margin.top;
+                state.baseline[item.index] = (!Float.isNaN(childBaseline) ? childBaseline : height) + item.margin.top;
             }
         }
     }
 
     private void calculateCrossSize(
         List<FlexLine> lines,
+        FlexItemState state,
         FloatSize nodeInnerSize,
         TaffySize<AvailableSpace> availableSpace,
         FlexDirection flexDirection,
@@ -1521,7 +1660,8 @@ public class FlexboxComputer {
             first.crossSize = lineCrossSize;
 
             // Still need to calculate each item's cross size for layout
-            for (FlexItem item : first.items) {
+            for (int i = first.start; i < first.end; i++) {
+                FlexItem item = first.items.get(i);
                 float itemCrossSize = isRow ? item.size.height : item.size.width;
                 float itemMinCross = isRow ? item.minSize.height : item.minSize.width;
                 float itemMaxCross = isRow ? item.maxSize.height : item.maxSize.width;
@@ -1535,7 +1675,7 @@ public class FlexboxComputer {
                     crossSize = TaffyMath.clamp(itemCrossSize, itemMinCross, itemMaxCross);
                 } else {
                     // Measure to get content size
-                    float targetMain = isRow ? item.targetSize.width : item.targetSize.height;
+                    float targetMain = state.targetMain[i];
                     FloatSize knownDimensions = isRow
                                                 ? new FloatSize(targetMain, NaN)
                                                 : new FloatSize(NaN, targetMain);
@@ -1546,16 +1686,17 @@ public class FlexboxComputer {
                     );
 
                     // Use measureChildSize to avoid setting unroundedLayout prematurely
-                    FloatSize measuredSize = layoutComputer.measureChildSize(
+                    float measuredCross = layoutComputer.measureChildSize(
                         item.nodeId,
                         knownDimensions,
                         nodeInnerSize,
                         availSpace,
                         SizingMode.CONTENT_SIZE,
-                        new TaffyLine<>(false, false)
+                        new TaffyLine<>(false, false),
+                        isRow ? AbsoluteAxis.VERTICAL : AbsoluteAxis.HORIZONTAL
                     );
 
-                    crossSize = isRow ? measuredSize.height : measuredSize.width;
+                    crossSize = measuredCross;
                     crossSize = TaffyMath.clamp(crossSize, itemMinCross, itemMaxCross);
                 }
                 crossSize = Math.max(crossSize, paddingBorderCross);
@@ -1564,13 +1705,8 @@ public class FlexboxComputer {
                                     ? item.margin.top + item.margin.bottom
                                     : item.margin.left + item.margin.right;
 
-                if (isRow) {
-                    item.targetSize = new FloatSize(item.targetSize.width, crossSize);
-                    item.outerTargetSize = new FloatSize(item.outerTargetSize.width, crossSize + marginCross);
-                } else {
-                    item.targetSize = new FloatSize(crossSize, item.targetSize.height);
-                    item.outerTargetSize = new FloatSize(crossSize + marginCross, item.outerTargetSize.height);
-                }
+                state.targetCross[i] = crossSize;
+                state.outerTargetCross[i] = crossSize + marginCross;
             }
             return;
         }
@@ -1578,7 +1714,8 @@ public class FlexboxComputer {
         for (FlexLine line : lines) {
             float maxCross = 0;
 
-            for (FlexItem item : line.items) {
+            for (int i = line.start; i < line.end; i++) {
+                FlexItem item = line.items.get(i);
                 // Get item's cross size from resolved style size
                 float itemCrossSize = isRow ? item.size.height : item.size.width;
                 float itemMinCross = isRow ? item.minSize.height : item.minSize.width;
@@ -1595,7 +1732,7 @@ public class FlexboxComputer {
                     crossSize = TaffyMath.clamp(itemCrossSize, itemMinCross, itemMaxCross);
                 } else {
                     // Calculate cross size by actually measuring the item
-                    float targetMain = isRow ? item.targetSize.width : item.targetSize.height;
+                    float targetMain = state.targetMain[i];
                     FloatSize knownDimensions = isRow
                                                 ? new FloatSize(targetMain, NaN)
                                                 : new FloatSize(NaN, targetMain);
@@ -1617,16 +1754,17 @@ public class FlexboxComputer {
                     );
 
                     // Use measureChildSize to avoid setting unroundedLayout prematurely
-                    FloatSize measuredSize = layoutComputer.measureChildSize(
+                    float measuredCross = layoutComputer.measureChildSize(
                         item.nodeId,
                         knownDimensions,
                         nodeInnerSize,
                         availSpace,
                         SizingMode.CONTENT_SIZE,
-                        new TaffyLine<>(false, false)
+                        new TaffyLine<>(false, false),
+                        isRow ? AbsoluteAxis.VERTICAL : AbsoluteAxis.HORIZONTAL
                     );
 
-                    crossSize = isRow ? measuredSize.height : measuredSize.width;
+                    crossSize = measuredCross;
                     crossSize = TaffyMath.clamp(crossSize, itemMinCross, itemMaxCross);
                 }
                 crossSize = Math.max(crossSize, paddingBorderCross);
@@ -1635,29 +1773,21 @@ public class FlexboxComputer {
                                     ? item.margin.top + item.margin.bottom
                                     : item.margin.left + item.margin.right;
 
-                if (isRow) {
-                    item.targetSize = new FloatSize(item.targetSize.width, crossSize);
-                    item.outerTargetSize = new FloatSize(item.outerTargetSize.width, crossSize + marginCross);
-                } else {
-                    item.targetSize = new FloatSize(crossSize, item.targetSize.height);
-                    item.outerTargetSize = new FloatSize(crossSize + marginCross, item.outerTargetSize.height);
-                }
+                state.targetCross[i] = crossSize;
+                state.outerTargetCross[i] = crossSize + marginCross;
 
                 // Store in hypothetical outer size for baseline calculations
-                if (isRow) {
-                    item.hypotheticalOuterSize = new FloatSize(item.hypotheticalOuterSize.width, crossSize + marginCross);
-                } else {
-                    item.hypotheticalOuterSize = new FloatSize(crossSize + marginCross, item.hypotheticalOuterSize.height);
-                }
+                state.hypotheticalOuterCross[i] = crossSize + marginCross;
 
                 maxCross = Math.max(maxCross, crossSize + marginCross);
             }
 
             // Calculate max baseline among baseline-aligned items
             float maxBaseline = 0;
-            for (FlexItem item : line.items) {
+            for (int i = line.start; i < line.end; i++) {
+                FlexItem item = line.items.get(i);
                 if (item.alignSelf == AlignSelf.BASELINE) {
-                    maxBaseline = Math.max(maxBaseline, item.baseline);
+                    maxBaseline = Math.max(maxBaseline, state.baseline[item.index]);
                 }
             }
 
@@ -1667,14 +1797,15 @@ public class FlexboxComputer {
             // 2. Among non-baseline items, find largest hypothetical outer cross size
             // 3. Line cross size is max of these
             float lineCrossSize = 0;
-            for (FlexItem item : line.items) {
+            for (int i = line.start; i < line.end; i++) {
+                FlexItem item = line.items.get(i);
                 boolean crossStartAuto = isRow ? item.marginIsAuto.top : item.marginIsAuto.left;
                 boolean crossEndAuto = isRow ? item.marginIsAuto.bottom : item.marginIsAuto.right;
-                float itemHypotheticalOuterCross = isRow ? item.hypotheticalOuterSize.height : item.hypotheticalOuterSize.width;
+                float itemHypotheticalOuterCross = state.hypotheticalOuterCross[item.index];
 
                 if (item.alignSelf == AlignSelf.BASELINE && !crossStartAuto && !crossEndAuto) {
                     // Baseline-aligned: max_baseline - baseline + hypothetical_outer_cross
-                    float contribution = maxBaseline - item.baseline + itemHypotheticalOuterCross;
+                    float contribution = maxBaseline - state.baseline[item.index] + itemHypotheticalOuterCross;
                     lineCrossSize = Math.max(lineCrossSize, contribution);
                 } else {
                     // Non-baseline: just hypothetical outer cross size
@@ -1715,6 +1846,7 @@ public class FlexboxComputer {
 
     private void distributeRemainingMainSpace(
         List<FlexLine> lines,
+        FlexItemState state,
         TaffyStyle containerStyle,
         float innerMainSize,
         float mainGap,
@@ -1731,51 +1863,47 @@ public class FlexboxComputer {
         // convert to screen coordinates in performFinalLayout.
 
         JustifyContent justify = containerStyle.getJustifyContent();
+        float[] outerTargetMain = state.outerTargetMain;
+        float[] offsetMain = state.offsetMain;
 
         for (FlexLine line : lines) {
             float usedSpace = 0;
             int autoMarginCount = 0;
 
-            for (FlexItem item : line.items) {
-                usedSpace += isRow ? item.outerTargetSize.width : item.outerTargetSize.height;
-
-                if (isRow) {
-                    if (item.marginIsAuto.left) autoMarginCount++;
-                    if (item.marginIsAuto.right) autoMarginCount++;
-                } else {
-                    if (item.marginIsAuto.top) autoMarginCount++;
-                    if (item.marginIsAuto.bottom) autoMarginCount++;
-                }
+            for (int i = line.start; i < line.end; i++) {
+                usedSpace += outerTargetMain[i];
+                autoMarginCount += state.mainAutoMargins[i];
             }
-            usedSpace += mainGap * (line.items.size() - 1);
+            usedSpace += mainGap * (line.count() - 1);
 
             float freeSpace = innerMainSize - usedSpace;
 
             // Distribute to auto margins first
             if (autoMarginCount > 0 && freeSpace > 0) {
                 float autoMarginSize = freeSpace / autoMarginCount;
-                for (FlexItem item : line.items) {
+                for (int i = line.start; i < line.end; i++) {
+                    FlexItem item = line.items.get(i);
                     if (isRow) {
                         // Update offsetMain for left auto margin
                         if (item.marginIsAuto.left) {
                             item.margin = new FloatRect(autoMarginSize, item.margin.right, item.margin.top, item.margin.bottom);
-                            item.outerTargetSize = new FloatSize(item.outerTargetSize.width + autoMarginSize, item.outerTargetSize.height);
+                            outerTargetMain[i] += autoMarginSize;
                         }
                         // Update outerTargetSize for right auto margin (affects next item's position)
                         if (item.marginIsAuto.right) {
                             item.margin = new FloatRect(item.margin.left, autoMarginSize, item.margin.top, item.margin.bottom);
-                            item.outerTargetSize = new FloatSize(item.outerTargetSize.width + autoMarginSize, item.outerTargetSize.height);
+                            outerTargetMain[i] += autoMarginSize;
                         }
                     } else {
                         // Update offsetMain for top auto margin
                         if (item.marginIsAuto.top) {
                             item.margin = new FloatRect(item.margin.left, item.margin.right, autoMarginSize, item.margin.bottom);
-                            item.outerTargetSize = new FloatSize(item.outerTargetSize.width, item.outerTargetSize.height + autoMarginSize);
+                            outerTargetMain[i] += autoMarginSize;
                         }
                         // Update outerTargetSize for bottom auto margin (affects next item's position)
                         if (item.marginIsAuto.bottom) {
                             item.margin = new FloatRect(item.margin.left, item.margin.right, item.margin.top, autoMarginSize);
-                            item.outerTargetSize = new FloatSize(item.outerTargetSize.width, item.outerTargetSize.height + autoMarginSize);
+                            outerTargetMain[i] += autoMarginSize;
                         }
                     }
                 }
@@ -1784,7 +1912,7 @@ public class FlexboxComputer {
                 // Use compute_alignment_offset logic from Rust - works for both positive and negative space
                 float initialOffset = 0;
                 float betweenOffset = 0;
-                int itemCount = line.items.size();
+                int itemCount = line.count();
 
                 // Apply alignment fallback following CSS spec and Rust implementation
                 // https://www.w3.org/TR/css-align-3/ and https://github.com/w3c/csswg-drafts/issues/10154
@@ -1858,34 +1986,32 @@ public class FlexboxComputer {
                 // Set offsetMain for each item
                 // First item gets initialOffset, subsequent items get accumulated betweenOffset
                 float accumulatedBetweenOffset = 0;
-                for (int i = 0; i < line.items.size(); i++) {
-                    FlexItem item = line.items.get(i);
-                    if (i == 0) {
-                        item.offsetMain = initialOffset;
-                    } else {
-                        accumulatedBetweenOffset += betweenOffset;
-                        item.offsetMain = initialOffset + accumulatedBetweenOffset;
-                    }
+                offsetMain[line.start] = initialOffset;
+                for (int i = line.start + 1; i < line.end; i++) {
+                    accumulatedBetweenOffset += betweenOffset;
+                    offsetMain[i] = initialOffset + accumulatedBetweenOffset;
                 }
             }
         }
     }
 
-    private void alignItemsOnCrossAxis(List<FlexLine> lines, FlexDirection flexDirection, boolean isWrapReverse) {
+    private void alignItemsOnCrossAxis(List<FlexLine> lines, FlexItemState state, FlexDirection flexDirection,
+                                       boolean isWrapReverse) {
         boolean isRow = flexDirection.isRow();
 
         for (FlexLine line : lines) {
             // Calculate max baseline for this line (needed for baseline alignment)
             float maxBaseline = 0;
-            for (FlexItem item : line.items) {
+            for (int i = line.start; i < line.end; i++) {
+                FlexItem item = line.items.get(i);
                 if (item.alignSelf == AlignSelf.BASELINE) {
-                    maxBaseline = Math.max(maxBaseline, item.baseline);
+                    maxBaseline = Math.max(maxBaseline, state.baseline[item.index]);
                 }
             }
 
-            for (FlexItem item : line.items) {
-                float itemCross = isRow ? item.outerTargetSize.height : item.outerTargetSize.width;
-                float freeSpace = line.crossSize - itemCross;
+            for (int i = line.start; i < line.end; i++) {
+                FlexItem item = line.items.get(i);
+                float freeSpace = line.crossSize - state.outerTargetCross[i];
 
                 // 13. Resolve cross-axis auto margins
                 // If a flex item has auto cross-axis margins, distribute free space to those margins
@@ -1900,7 +2026,7 @@ public class FlexboxComputer {
                     } else {
                         item.margin = new FloatRect(autoMargin, autoMargin, item.margin.top, item.margin.bottom);
                     }
-                    item.offsetCross = 0;
+                    state.offsetCross[i] = 0;
                     continue;
                 } else if (crossStartAuto) {
                     // Only start margin is auto: give all free space to start margin
@@ -1909,7 +2035,7 @@ public class FlexboxComputer {
                     } else {
                         item.margin = new FloatRect(freeSpace, item.margin.right, item.margin.top, item.margin.bottom);
                     }
-                    item.offsetCross = 0;
+                    state.offsetCross[i] = 0;
                     continue;
                 } else if (crossEndAuto) {
                     // Only end margin is auto: give all free space to end margin
@@ -1918,13 +2044,14 @@ public class FlexboxComputer {
                     } else {
                         item.margin = new FloatRect(item.margin.left, freeSpace, item.margin.top, item.margin.bottom);
                     }
-                    item.offsetCross = 0;
+                    state.offsetCross[i] = 0;
                     continue;
                 }
 
                 // 14. Align all flex items along the cross-axis (no auto margins)
                 // Use the align_flex_items_along_cross_axis logic from Rust
-                item.offsetCross = computeAlignItemsOffset(item, freeSpace, maxBaseline, isRow, isWrapReverse);
+                state.offsetCross[i] = computeAlignItemsOffset(item.alignSelf, state.baseline[i], freeSpace, maxBaseline,
+                    isRow, isWrapReverse);
             }
         }
     }
@@ -1935,9 +2062,8 @@ public class FlexboxComputer {
      * Note: Java's AlignSelf maps START->FLEX_START and END->FLEX_END in fromAlignItems,
      * so we don't need separate START/END cases here.
      */
-    private float computeAlignItemsOffset(FlexItem item, float freeSpace, float maxBaseline, boolean isRow, boolean isWrapReverse) {
-        AlignSelf alignSelf = item.alignSelf;
-
+    private float computeAlignItemsOffset(AlignSelf alignSelf, float baseline, float freeSpace, float maxBaseline,
+                                          boolean isRow, boolean isWrapReverse) {
         switch (alignSelf) {
             case FLEX_START:
                 return isWrapReverse ? freeSpace : 0;
@@ -1947,7 +2073,7 @@ public class FlexboxComputer {
                 return freeSpace / 2;
             case BASELINE:
                 if (isRow) {
-                    return maxBaseline - item.baseline;
+                    return maxBaseline - baseline;
                 } else {
                     // Until we support vertical writing modes, baseline alignment only makes sense if
                     // the direction is row, so we treat it as flex-start alignment in columns.
@@ -2120,13 +2246,15 @@ public class FlexboxComputer {
      * and neither of its cross-axis margins are auto, the used outer cross size is the
      * used cross size of its flex line, clamped according to the item's used min and max cross sizes.
      */
-    private void determineUsedCrossSize(List<FlexLine> lines, FlexDirection flexDirection, TaffyStyle containerStyle) {
+    private void determineUsedCrossSize(List<FlexLine> lines, FlexItemState state, FlexDirection flexDirection,
+                                        TaffyStyle containerStyle) {
         boolean isRow = flexDirection.isRow();
 
         for (FlexLine line : lines) {
             float lineCrossSize = line.crossSize;
 
-            for (FlexItem item : line.items) {
+            for (int i = line.start; i < line.end; i++) {
+                FlexItem item = line.items.get(i);
                 // Check if item should stretch
                 AlignSelf alignSelf = item.alignSelf;
                 // AlignSelf.AUTO (and legacy null) means: use parent's align-items
@@ -2161,13 +2289,8 @@ public class FlexboxComputer {
                     stretchedCrossSize = Math.max(stretchedCrossSize, 0);
 
                     // Update target size
-                    if (isRow) {
-                        item.targetSize = new FloatSize(item.targetSize.width, stretchedCrossSize);
-                        item.outerTargetSize = new FloatSize(item.outerTargetSize.width, stretchedCrossSize + marginCross);
-                    } else {
-                        item.targetSize = new FloatSize(stretchedCrossSize, item.targetSize.height);
-                        item.outerTargetSize = new FloatSize(stretchedCrossSize + marginCross, item.outerTargetSize.height);
-                    }
+                    state.targetCross[item.index] = stretchedCrossSize;
+                    state.outerTargetCross[item.index] = stretchedCrossSize + marginCross;
                 }
             }
         }
@@ -2175,6 +2298,7 @@ public class FlexboxComputer {
 
     private FloatSize calculateContainerSize(
         List<FlexLine> lines,
+        FlexItemState state,
         FloatSize styledBasedKnownDimensions,
         FloatSize paddingBorderSize,
         FloatRect contentBoxInset,
@@ -2190,10 +2314,10 @@ public class FlexboxComputer {
         float contentMain = 0;
         for (FlexLine line : lines) {
             float lineMain = 0;
-            for (FlexItem item : line.items) {
-                lineMain += isRow ? item.outerTargetSize.width : item.outerTargetSize.height;
+            for (int i = line.start; i < line.end; i++) {
+                lineMain += state.outerTargetMain[i];
             }
-            lineMain += (isRow ? gap.width : gap.height) * (line.items.size() - 1);
+            lineMain += (isRow ? gap.width : gap.height) * (line.count() - 1);
             contentMain = Math.max(contentMain, lineMain);
         }
 
@@ -2204,7 +2328,31 @@ public class FlexboxComputer {
         }
         contentCross += (isRow ? gap.height : gap.width) * (lines.size() - 1);
 
-        // Determine main container size
+        float containerMain = containerMainSize(styledBasedKnownDimensions, paddingBorderSize, contentBoxInset,
+            minSize, maxSize, isRow, innerMainSize, contentMain);
+        float containerCross = styledBasedKnownDimensions != null && !isNaN((isRow ? styledBasedKnownDimensions.height : styledBasedKnownDimensions.width))
+                               ? (isRow ? styledBasedKnownDimensions.height : styledBasedKnownDimensions.width)
+                               : contentCross + (isRow ? contentBoxInset.top + contentBoxInset.bottom : contentBoxInset.left + contentBoxInset.right);
+
+        // Apply min/max
+        containerCross = TaffyMath.clamp(containerCross, isRow ? minSize.height : minSize.width, isRow ? maxSize.height : maxSize.width);
+
+        // Ensure at least padding/border size
+        containerCross = Math.max(containerCross, isRow ? paddingBorderSize.height : paddingBorderSize.width);
+
+        return isRow
+               ? new FloatSize(containerMain, containerCross)
+               : new FloatSize(containerCross, containerMain);
+    }
+
+    /**
+     * The container's outer main size: the known size, or the inner main size from
+     * {@link #determineContainerMainSize} (the items' {@code contentMain} if that is unknown) plus the content box
+     * inset, clamped by min/max and floored at padding and border.
+     */
+    private static float containerMainSize(FloatSize styledBasedKnownDimensions, FloatSize paddingBorderSize,
+                                           FloatRect contentBoxInset, FloatSize minSize, FloatSize maxSize,
+                                           boolean isRow, float innerMainSize, float contentMain) {
         float knownMain = styledBasedKnownDimensions != null
                           ? (isRow ? styledBasedKnownDimensions.width : styledBasedKnownDimensions.height)
                           : NaN;
@@ -2226,21 +2374,8 @@ public class FlexboxComputer {
             containerMain = contentMain + mainContentBoxInset;
         }
 
-        float containerCross = styledBasedKnownDimensions != null && !isNaN((isRow ? styledBasedKnownDimensions.height : styledBasedKnownDimensions.width))
-                               ? (isRow ? styledBasedKnownDimensions.height : styledBasedKnownDimensions.width)
-                               : contentCross + (isRow ? contentBoxInset.top + contentBoxInset.bottom : contentBoxInset.left + contentBoxInset.right);
-
-        // Apply min/max
         containerMain = TaffyMath.clamp(containerMain, isRow ? minSize.width : minSize.height, isRow ? maxSize.width : maxSize.height);
-        containerCross = TaffyMath.clamp(containerCross, isRow ? minSize.height : minSize.width, isRow ? maxSize.height : maxSize.width);
-
-        // Ensure at least padding/border size
-        containerMain = Math.max(containerMain, isRow ? paddingBorderSize.width : paddingBorderSize.height);
-        containerCross = Math.max(containerCross, isRow ? paddingBorderSize.height : paddingBorderSize.width);
-
-        return isRow
-               ? new FloatSize(containerMain, containerCross)
-               : new FloatSize(containerCross, containerMain);
+        return Math.max(containerMain, isRow ? paddingBorderSize.width : paddingBorderSize.height);
     }
 
     /**
@@ -2248,6 +2383,7 @@ public class FlexboxComputer {
      */
     private float performFinalLayout(
         List<FlexLine> lines,
+        FlexItemState state,
         NodeId node,
         FloatSize containerSize,
         FloatRect contentBoxInset,
@@ -2292,30 +2428,51 @@ public class FlexboxComputer {
         // Find the first item for baseline calculation
         if (!orderedLines.isEmpty()) {
             FlexLine firstLine = orderedLines.get(0);
-            if (!firstLine.items.isEmpty()) {
+            if (firstLine.count() > 0) {
                 // Look for baseline-aligned item or fall back to first item
-                for (FlexItem item : firstLine.items) {
+                for (int i = firstLine.start; i < firstLine.end; i++) {
+                    FlexItem item = firstLine.items.get(i);
                     if (isRow && item.alignSelf == AlignSelf.BASELINE) {
                         firstBaselineItem = item;
                         break;
                     }
                 }
                 if (firstBaselineItem == null) {
-                    firstBaselineItem = firstLine.items.get(0);
+                    firstBaselineItem = firstLine.items.get(firstLine.start);
                 }
             }
         }
 
+        // Lay out large child subtrees concurrently first; the loop below then hits their caches
+        if (layoutComputer.isParallel()) {
+            List<NodeId> prelayoutNodes = new ArrayList<>();
+            List<LayoutInput> prelayoutInputs = new ArrayList<>();
+            for (FlexLine line : lines) {
+                for (int i = line.start; i < line.end; i++) {
+                    FlexItem item = line.items.get(i);
+                    if (layoutComputer.shouldPrelayout(item.nodeId)) {
+                        prelayoutNodes.add(item.nodeId);
+                        prelayoutInputs.add(new LayoutInput(
+                            RunMode.PERFORM_LAYOUT,
+                            SizingMode.CONTENT_SIZE,
+                            RequestedAxis.BOTH,
+                            state.targetSize(item.index, isRow),
+                            nodeInnerSize,
+                            new TaffySize<>(AvailableSpace.definite(containerSize.width), AvailableSpace.definite(containerSize.height)),
+                            new TaffyLine<>(false, false)
+                        ));
+                    }
+                }
+            }
+            layoutComputer.performChildLayouts(prelayoutNodes, prelayoutInputs);
+        }
+
         for (FlexLine line : orderedLines) {
             float crossOffset = contentBoxCrossOffset + line.offsetCross;
 
             // Handle reverse direction
             // For RTL row layouts, we DON'T reverse items here - the RTL coordinate transformation
             // handles the right-to-left positioning. We only reverse for actual flex-direction: *-reverse.
-            List<FlexItem> orderedItems = isReverse ? new ArrayList<>(line.items) : line.items;
-            if (isReverse) {
-                java.util.Collections.reverse(orderedItems);
-            }
 
             // Calculate starting position for main axis
             float mainAxisSize = isRow ? containerSize.width : containerSize.height;
@@ -2329,9 +2486,14 @@ public class FlexboxComputer {
                 mainOffset = contentBoxInset.top;
             }
 
-            for (FlexItem item : orderedItems) {
+            for (int k = 0; k < line.count(); k++) {
+                int i = isReverse ? line.end - 1 - k : line.start + k;
+                FlexItem item = line.items.get(i);
+                float offsetMain = state.offsetMain[i];
+                float offsetCross = state.offsetCross[i];
+
                 // Perform child layout with target size as known dimensions
-                FloatSize knownDimensions = item.targetSize;
+                FloatSize knownDimensions = state.targetSize(i, isRow);
 
                 LayoutOutput output = layoutComputer.performChildLayout(
                     item.nodeId,
@@ -2348,24 +2510,24 @@ public class FlexboxComputer {
                     if (isRtl) {
                         // RTL row: x is calculated from the right edge
                         // mainOffset accumulates the position from the right edge
-                        float itemMainSize = item.targetSize.width;
-                        // Calculate: right edge - mainOffset - item.offsetMain - margin.right - itemSize
-                        x = mainAxisSize - mainOffset - item.offsetMain - item.margin.right - itemMainSize;
+                        float itemMainSize = state.targetMain[i];
+                        // Calculate: right edge - mainOffset - offsetMain - margin.right - itemSize
+                        x = mainAxisSize - mainOffset - offsetMain - item.margin.right - itemMainSize;
                     } else {
                         // LTR row: x is calculated from the left edge (normal)
-                        x = mainOffset + item.offsetMain + item.margin.left;
+                        x = mainOffset + offsetMain + item.margin.left;
                     }
-                    y = crossOffset + item.offsetCross + item.margin.top;
+                    y = crossOffset + offsetCross + item.margin.top;
                 } else {
                     if (isRtl) {
                         // RTL column layout: cross axis starts from right edge
                         // x = right edge - cross offset - item cross end position + margin.left
-                        float itemCrossSize = item.targetSize.width;
-                        x = contentBoxInset.left + innerCrossSize - item.offsetCross - itemCrossSize - item.margin.right;
+                        float itemCrossSize = state.targetCross[i];
+                        x = contentBoxInset.left + innerCrossSize - offsetCross - itemCrossSize - item.margin.right;
                     } else {
-                        x = crossOffset + item.offsetCross + item.margin.left;
+                        x = crossOffset + offsetCross + item.margin.left;
                     }
-                    y = mainOffset + item.offsetMain + item.margin.top;
+                    y = mainOffset + offsetMain + item.margin.top;
                 }
 
                 // Handle relative positioning
@@ -2374,10 +2536,8 @@ public class FlexboxComputer {
                 if (!isNaN(item.inset.top)) y += item.inset.top;
                 else if (!isNaN(item.inset.bottom)) y -= item.inset.bottom;
 
-                FloatSize scrollbarSize = new FloatSize(
-                    item.overflow.y == Overflow.SCROLL ? item.scrollbarWidth : 0f,
-                    item.overflow.x == Overflow.SCROLL ? item.scrollbarWidth : 0f
-                );
+                float scrollbarWidth = item.overflow.y == Overflow.SCROLL ? item.scrollbarWidth : 0f;
+                float scrollbarHeight = item.overflow.x == Overflow.SCROLL ? item.scrollbarWidth : 0f;
 
                 // Use the actual output size from child layout
                 FloatSize actualSize = output.size();
@@ -2385,34 +2545,24 @@ public class FlexboxComputer {
                 // Update item baseline for container baseline calculation
                 // Per CSS spec: baseline = baseline_offset_cross + inner_baseline
                 if (isRow) {
-                    float baselineOffsetCross = crossOffset + item.offsetCross + item.margin.top;
+                    float baselineOffsetCross = crossOffset + offsetCross + item.margin.top;
                     float innerBaseline = output.firstBaselines() != null ? output.firstBaselines().y : NaN;
-                    item.baseline = baselineOffsetCross + (!Float.isNaN(innerBaseline) ? innerBaseline : actualSize.height);
+                    state.baseline[i] = baselineOffsetCross + (!Float.isNaN(innerBaseline) ? innerBaseline : actualSize.height);
                 } else {
-                    float baselineOffsetMain = mainOffset + item.offsetMain + item.margin.top;
+                    float baselineOffsetMain = mainOffset + offsetMain + item.margin.top;
                     float innerBaseline = output.firstBaselines() != null ? output.firstBaselines().y : NaN;
-                    item.baseline = baselineOffsetMain + (!Float.isNaN(innerBaseline) ? innerBaseline : actualSize.height);
+                    state.baseline[i] = baselineOffsetMain + (!Float.isNaN(innerBaseline) ? innerBaseline : actualSize.height);
                 }
 
                 // Calculate container's first vertical baseline
                 if (item == firstBaselineItem) {
-                    firstVerticalBaseline = item.baseline;
+                    firstVerticalBaseline = state.baseline[i];
                 }
 
-                Layout layout = new Layout(
-                    item.order,
-                    new FloatPoint(x, y),
-                    actualSize,
-                    output.contentSize() != null ? output.contentSize() : actualSize,
-                    scrollbarSize,
-                    item.border,
-                    item.padding,
-                    item.margin
-                );
-
-                tree.setUnroundedLayout(item.nodeId, layout);
+                tree.writeUnroundedLayout(item.nodeId, item.order, x, y, actualSize, output.contentSize(),
+                    scrollbarWidth, scrollbarHeight, item.border, item.padding, item.margin);
 
-                mainOffset += (isRow ? item.outerTargetSize.width : item.outerTargetSize.height) + mainGap;
+                mainOffset += state.outerTargetMain[i] + mainGap;
             }
         }
 
@@ -2597,23 +2747,11 @@ public class FlexboxComputer {
             }
 
             TaffyPoint<Overflow> overflow = childStyle.getOverflow();
-            FloatSize scrollbarSize = new FloatSize(
-                overflow.y == Overflow.SCROLL ? childStyle.getScrollbarWidth() : 0f,
-                overflow.x == Overflow.SCROLL ? childStyle.getScrollbarWidth() : 0f
-            );
-
-            Layout layout = new Layout(
-                0,
-                new FloatPoint(x, y),
-                finalSize,
-                output.contentSize(),
-                scrollbarSize,
-                itemBorder,
-                itemPadding,
-                resolvedMargin
-            );
+            float scrollbarWidth = overflow.y == Overflow.SCROLL ? childStyle.getScrollbarWidth() : 0f;
+            float scrollbarHeight = overflow.x == Overflow.SCROLL ? childStyle.getScrollbarWidth() : 0f;
 
-            tree.setUnroundedLayout(childId, layout);
+            tree.writeUnroundedLayout(childId, 0, x, y, finalSize, output.contentSize(),
+                scrollbarWidth, scrollbarHeight, itemBorder, itemPadding, resolvedMargin);
         }
     }
 
@@ -1,9 +1,9 @@
 package dev.vfyjxf.taffy.tree;
 
+import dev.vfyjxf.taffy.geometry.AbsoluteAxis;
 import dev.vfyjxf.taffy.geometry.FloatPoint;
 import dev.vfyjxf.taffy.geometry.FloatRect;
 import dev.vfyjxf.taffy.geometry.FloatSize;
-import dev.vfyjxf.taffy.geometry.FloatSupplier;
 import dev.vfyjxf.taffy.geometry.TaffyLine;
 import dev.vfyjxf.taffy.geometry.TaffyPoint;
 import dev.vfyjxf.taffy.geometry.TaffyRect;
@@ -33,12 +33,12 @@ import dev.vfyjxf.taffy.util.Resolve;
 import dev.vfyjxf.taffy.util.TaffyMath;
 import it.unimi.dsi.fastutil.floats.FloatArrayList;
 import it.unimi.dsi.fastutil.floats.FloatList;
-import it.unimi.dsi.fastutil.ints.Int2FloatMap;
-import it.unimi.dsi.fastutil.ints.Int2FloatOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static java.lang.Float.NaN;
@@ -58,8 +58,25 @@ public class GridComputer {
 
     private final LayoutComputer layoutComputer;
 
+    /** Item scratch reused by nested grid containers and across layout passes */
+    private final ScratchArena<GridScratch> scratchArena = new ScratchArena<>(GridScratch::new);
+
+    /** Windowed layout for containers with a {@link GridViewport} attached */
+    private final VirtualGridLayout virtualLayout;
+
+    /** Column packing for containers with a masonry row axis */
+    private final MasonryLayout masonryLayout;
+
+    /** Whether uniform fixed-track grids take the arithmetic fast path; tests turn it off to compare both paths */
+    boolean uniformFastPath = true;
+
+    /** Number of grids laid out on the uniform fast path */
+    int uniformFastPathLayouts;
+
     public GridComputer(LayoutComputer layoutComputer) {
         this.layoutComputer = layoutComputer;
+        this.virtualLayout = new VirtualGridLayout(layoutComputer);
+        this.masonryLayout = new MasonryLayout(layoutComputer, this);
     }
 
     /**
@@ -70,7 +87,7 @@ public class GridComputer {
      * - Positive values are lines after the explicit grid start
      * - Negative values are lines before the explicit grid start (in negative implicit grid)
      */
-    private static class GridItem {
+    static class GridItem {
         NodeId nodeId;
         int order;
         FloatSize size;
@@ -132,6 +149,60 @@ public class GridComputer {
         // Cache for the minimum contribution
         Float minimumContributionWidth;
         Float minimumContributionHeight;
+        // Min-content width used to estimate not-yet-sized tracks; measured once per container layout
+        float estimatedMinContentWidth = NaN;
+        // Margin, border and padding of an enclosing subgrid on the item's outer column edges, sized like margin
+        float subgridEdgeWidth;
+
+        /**
+         * Restores the freshly constructed state so a pooled item can be reused.
+         */
+        void reset() {
+            nodeId = null;
+            order = 0;
+            size = null;
+            minSize = null;
+            maxSize = null;
+            rawSize = null;
+            rawMinSize = null;
+            rawMaxSize = null;
+            boxSizing = null;
+            position = null;
+            inset = null;
+            rawMargin = null;
+            margin = null;
+            padding = null;
+            border = null;
+            overflow = null;
+            scrollbarWidth = 0;
+            aspectRatio = null;
+            isCompressibleReplaced = false;
+            columnStart = null;
+            columnEnd = null;
+            rowStart = null;
+            rowEnd = null;
+            columnSpan = 0;
+            rowSpan = 0;
+            alignSelf = null;
+            justifySelf = null;
+            baseline = NaN;
+            baselineShim = 0;
+            computedSize = null;
+            location = null;
+            crossesIntrinsicColumn = false;
+            crossesFlexibleColumn = false;
+            crossesIntrinsicRow = false;
+            crossesFlexibleRow = false;
+            availableSpaceCache = null;
+            minContentContributionWidth = null;
+            minContentContributionHeight = null;
+            maxContentContributionWidth = null;
+            maxContentContributionHeight = null;
+            minimumContributionWidth = null;
+            minimumContributionHeight = null;
+            estimatedMinContentWidth = NaN;
+            subgridEdgeWidth = 0;
+        }
 
         /**
          * Compute the item's resolved margins for size contributions.
@@ -149,7 +220,7 @@ public class GridComputer {
             // Vertical percentage margins resolve against inner_node_width
             float top = Resolve.resolveLpaOrZero(rawMargin.top, innerNodeWidth) + baselineShim;
             float bottom = Resolve.resolveLpaOrZero(rawMargin.bottom, innerNodeWidth);
-            return new FloatSize(left + right, top + bottom);
+            return new FloatSize(left + right + subgridEdgeWidth, top + bottom);
         }
 
         /**
@@ -228,16 +299,17 @@ public class GridComputer {
                                          : AvailableSpace.minContent();
 
             // Use measureChildSize for efficient sizing (returns just size, no full layout)
-            FloatSize measuredSize = layoutComputer.measureChildSize(
+            float measuredWidth = layoutComputer.measureChildSize(
                 nodeId,
                 knownDimensions,
                 innerNodeSize,
                 new TaffySize<>(widthAvail, heightAvail),
                 SizingMode.INHERENT_SIZE,
-                TaffyLine.FALSE
+                TaffyLine.FALSE,
+                AbsoluteAxis.HORIZONTAL
             );
 
-            return measuredSize.width + marginAxisSums.width;
+            return measuredWidth + marginAxisSums.width;
         }
 
         /**
@@ -268,16 +340,17 @@ public class GridComputer {
                                          ? AvailableSpace.definite(availableSpace.height)
                                          : AvailableSpace.maxContent();
 
-            FloatSize measuredSize = layoutComputer.measureChildSize(
+            float measuredWidth = layoutComputer.measureChildSize(
                 nodeId,
                 knownDimensions,
                 innerNodeSize,
                 new TaffySize<>(widthAvail, heightAvail),
                 SizingMode.INHERENT_SIZE,
-                TaffyLine.FALSE
+                TaffyLine.FALSE,
+                AbsoluteAxis.HORIZONTAL
             );
 
-            return measuredSize.width + marginAxisSums.width;
+            return measuredWidth + marginAxisSums.width;
         }
 
         /**
@@ -308,16 +381,17 @@ public class GridComputer {
                                          ? AvailableSpace.definite(availableSpace.height)
                                          : AvailableSpace.maxContent();
 
-            FloatSize measuredSize = layoutComputer.measureChildSize(
+            float measuredHeight = layoutComputer.measureChildSize(
                 nodeId,
                 knownDimensions,
                 innerNodeSize,
                 new TaffySize<>(widthAvail, heightAvail),
                 SizingMode.INHERENT_SIZE,
-                TaffyLine.FALSE
+                TaffyLine.FALSE,
+                AbsoluteAxis.VERTICAL
             );
 
-            return measuredSize.height + marginAxisSums.height;
+            return measuredHeight + marginAxisSums.height;
         }
 
         /**
@@ -420,10 +494,39 @@ public class GridComputer {
         return Math.max(v, paddingBorderWidth);
     }
 
+    /**
+     * Scratch state of one grid container layout: the item list and its pool, and the occupancy matrix.
+     */
+    private static final class GridScratch implements ScratchArena.Frame {
+        final List<GridItem> items = new ArrayList<>();
+        final ScratchArena.Pool<GridItem> itemPool = new ScratchArena.Pool<>(GridItem::new, GridItem::reset);
+        final CellOccupancyMatrix occupancy = new CellOccupancyMatrix();
+        final GridTrackState columnTracks = new GridTrackState();
+        final GridTrackState rowTracks = new GridTrackState();
+        /** Column sizing items when subgrid children stand in with their own items */
+        final List<GridItem> columnItems = new ArrayList<>();
+
+        @Override
+        public void reset() {
+            items.clear();
+            columnItems.clear();
+            itemPool.releaseAll();
+        }
+    }
+
     /**
      * Computes grid layout for a node.
      */
     public LayoutOutput compute(NodeId node, LayoutInput inputs, TaffyStyle style) {
+        GridScratch scratch = scratchArena.acquire();
+        try {
+            return compute(node, inputs, style, scratch);
+        } finally {
+            scratchArena.release();
+        }
+    }
+
+    private LayoutOutput compute(NodeId node, LayoutInput inputs, TaffyStyle style, GridScratch scratch) {
         TaffyTree tree = layoutComputer.getTree();
         FloatSize knownDimensions = inputs.knownDimensions();
         FloatSize parentSize = inputs.parentSize();
@@ -538,36 +641,103 @@ public class GridComputer {
         );
 
         // Expand auto-fill/auto-fit in grid templates
-        List<TrackSizingFunction> expandedColumns = getExpandedTemplateColumns(style, nodeInnerSize.width, gap.width);
-        List<TrackSizingFunction> expandedRows = getExpandedTemplateRows(style, nodeInnerSize.height, gap.height);
-
-        // Generate grid items
-        List<GridItem> items = generateGridItems(node, style, nodeInnerSize);
+        GridTemplateCache templates = tree.getNodeData(node).gridTemplateCache(style);
+        List<TrackSizingFunction> expandedColumns = getExpandedTemplateColumns(templates, style, nodeInnerSize.width, gap.width);
+        List<TrackSizingFunction> expandedRows = getExpandedTemplateRows(templates, style, nodeInnerSize.height, gap.height);
+
+        // A column subgrid is laid out in the columns its parent grid sized for it, without sizing them again.
+        // Columns recorded by a parent that no longer sizes this node as a subgrid item are dropped.
+        NodeId parent = tree.getParent(node);
+        List<TrackSizingFunction> subgridColumns = templates.subgridColumns(parent);
+        if (subgridColumns != null && (!isColumnSubgrid(style) || style.getPosition() == TaffyPosition.ABSOLUTE
+                                       || !sizesSubgrids(tree.getStyle(parent), tree.getGridViewport(parent)))) {
+            templates.clearSubgridColumns();
+            subgridColumns = null;
+        }
+        if (subgridColumns != null) {
+            expandedColumns = subgridColumns;
+            gap = new FloatSize(templates.subgridColumnGap(), gap.height);
+        }
+
+        // Windowed layout skips item generation, placement and full track sizing entirely
+        GridViewport viewport = tree.getGridViewport(node);
+        if (viewport != null) {
+            return virtualLayout.compute(node, style, runMode, viewport, styledBasedKnownDimensions, minSize, maxSize,
+                paddingBorderSize, contentBoxInset, availableGridSpace, gap, expandedColumns);
+        }
+
+        // Masonry containers pack items into the shortest column instead of placing them in rows
+        if (style.getGridMasonryRows()) {
+            return masonryLayout.compute(node, style, runMode, templates, styledBasedKnownDimensions, minSize, maxSize,
+                paddingBorderSize, border, contentBoxInset, nodeInnerSize, availableGridSpace, availableSpace, gap,
+                expandedColumns);
+        }
+
+        // Fixed tracks holding only span-1 auto-placed items are placed and sized arithmetically
+        if (uniformFastPath && isUniformFixedGrid(node, style, templates, expandedColumns, expandedRows, nodeInnerSize)) {
+            uniformFastPathLayouts++;
+            TrackCounts colCounts = new TrackCounts(0, expandedColumns.size(), 0);
+            TrackCounts rowCounts = new TrackCounts(0, expandedRows.size(), 0);
+            List<GridItem> items = generateGridItems(node, style, templates, nodeInnerSize, scratch.items,
+                scratch.itemPool, false, expandedColumns.size());
+            FloatList columnSizes = resolveFixedTracks(expandedColumns, nodeInnerSize.width);
+            FloatList rowSizes = resolveFixedTracks(expandedRows, nodeInnerSize.height);
+
+            // Same sums as the generic path: gaps next to empty columns are left out
+            float initialColumnSum = 0f;
+            int nonCollapsedColumns = 0;
+            for (float colSize : columnSizes) {
+                initialColumnSum += colSize;
+                if (colSize > 0) {
+                    nonCollapsedColumns++;
+                }
+            }
+            initialColumnSum += gap.width * Math.max(0, nonCollapsedColumns - 1);
+            float initialRowSum = 0f;
+            for (float rowSize : rowSizes) {
+                initialRowSum += rowSize;
+            }
+            initialRowSum += gap.height * Math.max(0, rowSizes.size() - 1);
+            nodeInnerSize = new FloatSize(
+                Float.isNaN(nodeInnerSize.width) ? initialColumnSum : nodeInnerSize.width,
+                Float.isNaN(nodeInnerSize.height) ? initialRowSum : nodeInnerSize.height);
 
-        // Determine grid dimensions based on template or content
-        TrackCounts colCounts = computeColumnCounts(items, expandedColumns);
-        TrackCounts rowCounts = computeRowCounts(items, expandedRows);
+            return layoutInTracks(node, style, runMode, items, colCounts, rowCounts, columnSizes, rowSizes,
+                initialColumnSum, initialRowSum, gap, nodeInnerSize, styledBasedKnownDimensions, minSize, maxSize,
+                paddingBorderSize, border, contentBoxInset, scrollbarGutterX, scrollbarGutterY);
+        }
 
-        // Auto-place items that don't have explicit positions
-        // Note: This may expand colCounts and rowCounts as needed
-        autoPlaceItems(items, style.getGridAutoFlow(), colCounts, rowCounts);
+        // Generate and place grid items
+        TrackCounts colCounts = new TrackCounts(0, 0, 0);
+        TrackCounts rowCounts = new TrackCounts(0, 0, 0);
+        List<GridItem> items = placeGridItems(node, style, templates, expandedColumns, expandedRows, nodeInnerSize,
+            scratch.items, scratch.itemPool, scratch.occupancy, colCounts, rowCounts);
 
         // Get the final track counts after auto-placement (may have been expanded)
         int numColumns = colCounts.len();
         int numRows = rowCounts.len();
 
+        // Subgrid children size the columns through their own items
+        List<GridItem> columnItems = collectColumnSizingItems(items, colCounts, nodeInnerSize, scratch);
+
         // Determine if items cross flexible or intrinsic tracks (for re-run optimization)
         determineIfItemCrossesFlexibleOrIntrinsicTracks(
             items, expandedColumns, style.getGridAutoColumns(),
             expandedRows, style.getGridAutoRows(),
             numColumns, numRows, colCounts, rowCounts);
+        if (columnItems != items) {
+            determineIfItemCrossesFlexibleOrIntrinsicTracks(
+                columnItems, expandedColumns, style.getGridAutoColumns(),
+                expandedRows, style.getGridAutoRows(),
+                numColumns, numRows, colCounts, rowCounts);
+        }
 
         // Calculate track sizes even if no items - based on template
-        FloatList columnSizes = calculateColumnSizes(style, nodeInnerSize, availableGridSpace, availableSpace, gap, numColumns, numRows, items, colCounts, expandedColumns);
+        FloatList columnSizes = calculateColumnSizes(style, nodeInnerSize, availableGridSpace, availableSpace, gap, numColumns, numRows, columnItems, colCounts, expandedColumns, scratch.columnTracks);
 
         // CSS Grid: Collapse empty auto-fit columns
         // Per CSS Grid spec, auto-fit tracks that don't contain any items should be collapsed (size = 0)
-        collapseEmptyAutoFitColumns(columnSizes, style, items, nodeInnerSize, gap.width, colCounts);
+        collapseEmptyAutoFitColumns(columnSizes, templates, style, items, nodeInnerSize, gap.width, colCounts);
 
         // Per CSS Grid spec 11.8: Update inner_node_size.width if it was indefinite
         // This is needed for resolving percentage values in row sizing and for re-running column sizing
@@ -648,15 +818,20 @@ public class GridComputer {
             }
         }
 
+        // Subgrids are laid out in the columns sized for them, so they must know them before row sizing
+        if (columnItems != items) {
+            assignSubgridColumns(node, items, colCounts, columnSizes, gap.width);
+        }
+
         // Clear item available_space_cache after initial column sizing (Rust: items.iter_mut().for_each(|item| item.available_space_cache = None))
-        for (GridItem item : items) {
+        for (GridItem item : columnItems) {
             item.availableSpaceCache = null;
         }
 
         // Resolve baseline-aligned item baselines before row sizing (CSS Grid 11.5.1)
         resolveItemBaselines(items, nodeInnerSize);
 
-        FloatList rowSizes = calculateRowSizes(style, nodeInnerSize, availableGridSpace, gap, numRows, items, columnSizes, colCounts, rowCounts, expandedRows);
+        FloatList rowSizes = calculateRowSizes(style, nodeInnerSize, availableGridSpace, gap, numRows, items, columnSizes, colCounts, rowCounts, expandedRows, scratch.rowTracks);
 
         // Calculate initial row sum (like Rust's initial_row_sum)
         float initialRowSum = 0f;
@@ -715,7 +890,7 @@ public class GridComputer {
             // CRITICAL: Only trigger re-run if the cached value EXISTS and has changed.
             // If cache is empty, the item wasn't used in initial track sizing, so skip it.
             boolean minContentContributionChanged = false;
-            for (GridItem item : items) {
+            for (GridItem item : columnItems) {
                 if (!item.crossesIntrinsicColumn) continue;
 
                 // If no cached contribution from initial track sizing, skip this item
@@ -744,16 +919,17 @@ public class GridComputer {
                     newMinContentContribution = item.size.width + marginAxisSums.width;
                 } else {
                     FloatSize itemKnownDims = item.computeKnownDimensions(itemAvailSpace, finalNodeInnerSize);
-                    FloatSize measuredSize = layoutComputer.measureChildSize(
+                    float measuredWidth = layoutComputer.measureChildSize(
                         item.nodeId,
                         itemKnownDims,
                         finalNodeInnerSize,
                         new TaffySize<>(AvailableSpace.minContent(),
                             !Float.isNaN(itemHeight) ? AvailableSpace.definite(itemHeight) : AvailableSpace.minContent()),
                         SizingMode.INHERENT_SIZE,
-                        TaffyLine.FALSE
+                        TaffyLine.FALSE,
+                        AbsoluteAxis.HORIZONTAL
                     );
-                    newMinContentContribution = measuredSize.width + marginAxisSums.width;
+                    newMinContentContribution = measuredWidth + marginAxisSums.width;
                 }
 
                 // Compare with cached value
@@ -772,7 +948,7 @@ public class GridComputer {
             rerunColumnSizing = minContentContributionChanged;
         } else {
             // Clear intrinsic width caches since we're definitely re-running due to percentage tracks
-            for (GridItem item : items) {
+            for (GridItem item : columnItems) {
                 item.availableSpaceCache = null;
                 item.minContentContributionWidth = null;
                 item.maxContentContributionWidth = null;
@@ -783,9 +959,12 @@ public class GridComputer {
         if (rerunColumnSizing) {
             // Re-run column sizing with known row sizes
             columnSizes = calculateColumnSizesWithRowSizes(style, nodeInnerSize, availableGridSpace, availableSpace, gap,
-                numColumns, numRows, items, colCounts, expandedColumns, finalRowSizes);
+                numColumns, numRows, columnItems, colCounts, expandedColumns, finalRowSizes, scratch.columnTracks);
             // Re-apply auto-fit collapse after re-run
-            collapseEmptyAutoFitColumns(columnSizes, style, items, nodeInnerSize, gap.width, colCounts);
+            collapseEmptyAutoFitColumns(columnSizes, templates, style, items, nodeInnerSize, gap.width, colCounts);
+            if (columnItems != items) {
+                assignSubgridColumns(node, items, colCounts, columnSizes, gap.width);
+            }
 
             // Row sizing must be re-run (once) if:
             //   - The grid container's height was initially indefinite and there are any rows with percentage track sizing functions
@@ -829,16 +1008,17 @@ public class GridComputer {
                         newMinContentContribution = item.size.height + marginAxisSums.height;
                     } else {
                         FloatSize itemKnownDims = item.computeKnownDimensions(itemAvailSpace, finalNodeInnerSize);
-                        FloatSize measuredSize = layoutComputer.measureChildSize(
+                        float measuredHeight = layoutComputer.measureChildSize(
                             item.nodeId,
                             itemKnownDims,
                             finalNodeInnerSize,
                             new TaffySize<>(!Float.isNaN(itemWidth) ? AvailableSpace.definite(itemWidth) : AvailableSpace.minContent(),
                                 AvailableSpace.minContent()),
                             SizingMode.INHERENT_SIZE,
-                            TaffyLine.FALSE
+                            TaffyLine.FALSE,
+                            AbsoluteAxis.VERTICAL
                         );
-                        newMinContentContribution = measuredSize.height + marginAxisSums.height;
+                        newMinContentContribution = measuredHeight + marginAxisSums.height;
                     }
 
                     // Compare with cached value
@@ -868,18 +1048,28 @@ public class GridComputer {
             if (rerunRowSizing) {
                 // Re-run row sizing with known column sizes
                 rowSizes = calculateRowSizes(style, nodeInnerSize, availableGridSpace, gap, numRows,
-                    items, columnSizes, colCounts, rowCounts, expandedRows);
+                    items, columnSizes, colCounts, rowCounts, expandedRows, scratch.rowTracks);
             }
         }
 
-        // Calculate container size based on tracks
-        // IMPORTANT: Use initialColumnSum for container size calculation (per CSS Grid spec)
-        // This ensures that max-content sizing returns the initial (unrestricted) size,
-        // while columnSizes (potentially re-run) is used for child positioning
-        float contentWidth = initialColumnSum;
+        return layoutInTracks(node, style, runMode, items, colCounts, rowCounts, columnSizes, rowSizes,
+            initialColumnSum, initialRowSum, gap, nodeInnerSize, styledBasedKnownDimensions, minSize, maxSize,
+            paddingBorderSize, border, contentBoxInset, scrollbarGutterX, scrollbarGutterY);
+    }
 
-        // IMPORTANT: Use initialRowSum for container size calculation (per CSS Grid spec)
-        float contentHeight = initialRowSum;
+    /**
+     * Positions the items in the sized tracks and lays out the remaining children. {@code contentWidth} and
+     * {@code contentHeight} are the initial track sums (per CSS Grid spec), which determine the container's
+     * auto size even when a re-run changed the tracks used for positioning.
+     */
+    private LayoutOutput layoutInTracks(NodeId node, TaffyStyle style, RunMode runMode, List<GridItem> items,
+                                        TrackCounts colCounts, TrackCounts rowCounts, FloatList columnSizes,
+                                        FloatList rowSizes, float contentWidth, float contentHeight, FloatSize gap,
+                                        FloatSize nodeInnerSize, FloatSize styledBasedKnownDimensions,
+                                        FloatSize minSize, FloatSize maxSize, FloatSize paddingBorderSize,
+                                        FloatRect border, FloatRect contentBoxInset, float scrollbarGutterX,
+                                        float scrollbarGutterY) {
+        TaffyTree tree = layoutComputer.getTree();
 
         // If no items, return container size based on template
         if (items.isEmpty()) {
@@ -899,21 +1089,21 @@ public class GridComputer {
 
             // Calculate track offsets for absolute positioned children
             // Track offsets start from padding+border edge (content box)
-            FloatList colOffsets = calculateTrackOffsets(columnSizes, gap.width, padding.left + border.left);
-            FloatList rowOffsets = calculateTrackOffsets(rowSizes, gap.height, padding.top + border.top);
+            FloatList colOffsets = calculateTrackOffsets(columnSizes, gap.width, contentBoxInset.left);
+            FloatList rowOffsets = calculateTrackOffsets(rowSizes, gap.height, contentBoxInset.top);
 
             // Get direction for RTL support (resolve INHERIT)
             boolean isRtlEmpty = layoutComputer.resolveDirection(node) == TaffyDirection.RTL;
 
             // Layout absolutely positioned children even if no regular items
-            layoutAbsoluteChildren(node, containerSize, border, scrollbarGutterX, scrollbarGutterY, colCounts, rowCounts, colOffsets, rowOffsets, isRtlEmpty);
+            layoutAbsoluteChildren(tree.getChildren(node), containerSize, border, scrollbarGutterX, scrollbarGutterY, colCounts, rowCounts, colOffsets, rowOffsets, isRtlEmpty);
 
             // Layout hidden children (display: none)
             List<NodeId> children = tree.getChildren(node);
             for (int order = 0; order < children.size(); order++) {
                 NodeId child = children.get(order);
                 if (tree.getStyle(child).getBoxGenerationMode() == BoxGenerationMode.NONE) {
-                    tree.setUnroundedLayout(child, Layout.withOrder(order));
+                    tree.resetUnroundedLayout(child, order);
                     layoutComputer.performChildLayout(
                         child,
                         FloatSize.none(),
@@ -931,8 +1121,8 @@ public class GridComputer {
 
         // Calculate track offsets for absolute positioned children
         // Track offsets start from padding+border edge (content box)
-        FloatList columnOffsets = calculateTrackOffsets(columnSizes, gap.width, padding.left + border.left);
-        FloatList rowOffsets = calculateTrackOffsets(rowSizes, gap.height, padding.top + border.top);
+        FloatList columnOffsets = calculateTrackOffsets(columnSizes, gap.width, contentBoxInset.left);
+        FloatList rowOffsets = calculateTrackOffsets(rowSizes, gap.height, contentBoxInset.top);
 
         // Get direction for RTL/LTR support (resolve INHERIT)
         TaffyDirection direction = layoutComputer.resolveDirection(node);
@@ -966,14 +1156,14 @@ public class GridComputer {
         performFinalLayout(items);
 
         // Layout absolutely positioned children
-        layoutAbsoluteChildren(node, containerSize, border, scrollbarGutterX, scrollbarGutterY, colCounts, rowCounts, columnOffsets, rowOffsets, isRtl);
+        layoutAbsoluteChildren(tree.getChildren(node), containerSize, border, scrollbarGutterX, scrollbarGutterY, colCounts, rowCounts, columnOffsets, rowOffsets, isRtl);
 
         // Layout hidden children (display: none)
         List<NodeId> children = tree.getChildren(node);
         for (int order = 0; order < children.size(); order++) {
             NodeId child = children.get(order);
             if (tree.getStyle(child).getBoxGenerationMode() == BoxGenerationMode.NONE) {
-                tree.setUnroundedLayout(child, Layout.withOrder(order));
+                tree.resetUnroundedLayout(child, order);
                 layoutComputer.performChildLayout(
                     child,
                     FloatSize.none(),
@@ -1104,9 +1294,230 @@ public class GridComputer {
         return offsets;
     }
 
-    private List<GridItem> generateGridItems(NodeId node, TaffyStyle containerStyle, FloatSize nodeInnerSize) {
+    /**
+     * Generates the in-flow items of a grid container and places them, reusing the last placement when no child was
+     * added, removed, hidden or moved. The final track counts are written to {@code colCounts} and {@code rowCounts}.
+     */
+    private List<GridItem> placeGridItems(NodeId node, TaffyStyle style, GridTemplateCache templates,
+                                          List<TrackSizingFunction> expandedColumns,
+                                          List<TrackSizingFunction> expandedRows, FloatSize nodeInnerSize,
+                                          List<GridItem> items, ScratchArena.Pool<GridItem> itemPool,
+                                          CellOccupancyMatrix occupancy, TrackCounts colCounts, TrackCounts rowCounts) {
+        TaffyTree tree = layoutComputer.getTree();
+        List<NodeId> childNodes = tree.getChildren(node);
+        int explicitColumnCount = expandedColumns != null ? expandedColumns.size() : 0;
+        int explicitRowCount = expandedRows != null ? expandedRows.size() : 0;
+        boolean reusePlacement = templates.hasPlacement(tree, childNodes, explicitColumnCount, explicitRowCount);
+        generateGridItems(node, style, templates, nodeInnerSize, items, itemPool, reusePlacement, 0);
+
+        if (reusePlacement) {
+            colCounts.update(templates.placedColumnCounts());
+            rowCounts.update(templates.placedRowCounts());
+        } else {
+            // Determine grid dimensions based on template or content
+            colCounts.update(computeColumnCounts(items, expandedColumns));
+            rowCounts.update(computeRowCounts(items, expandedRows));
+
+            // Auto-place items that don't have explicit positions
+            // Note: This may expand colCounts and rowCounts as needed
+            autoPlaceItems(items, style.getGridAutoFlow(), colCounts, rowCounts, occupancy);
+            templates.setPlacement(tree, childNodes, explicitColumnCount, explicitRowCount, items, colCounts, rowCounts);
+        }
+        return items;
+    }
+
+    // === Uniform Fixed Grids ===
+
+    /**
+     * Whether the grid can skip placement and track sizing: row-flow auto-placement, fixed-length or resolvable
+     * percentage tracks in both axes (no auto-fit collapsing), and in-flow children that are all auto-placed with
+     * span 1, fit in the explicit grid, are not subgrids and are not baseline aligned.
+     */
+    private boolean isUniformFixedGrid(NodeId node, TaffyStyle style, GridTemplateCache templates,
+                                       List<TrackSizingFunction> columns, List<TrackSizingFunction> rows,
+                                       FloatSize nodeInnerSize) {
+        GridAutoFlow flow = style.getGridAutoFlow();
+        if ((flow != GridAutoFlow.ROW && flow != GridAutoFlow.ROW_DENSE)
+            || templates.columnAutoFit() != null
+            || !areFixedTracks(columns, nodeInnerSize.width)
+            || !areFixedTracks(rows, nodeInnerSize.height)
+            || (style.getGap().width.isPercent() && Float.isNaN(nodeInnerSize.width))
+            || (style.getGap().height.isPercent() && Float.isNaN(nodeInnerSize.height))) {
+            return false;
+        }
+
+        TaffyTree tree = layoutComputer.getTree();
+        AlignItems containerAlign = style.getAlignItems();
+        long capacity = (long) columns.size() * rows.size();
+        long inFlow = 0;
+        for (NodeId child : tree.getChildren(node)) {
+            TaffyStyle childStyle = tree.getStyle(child);
+            if (childStyle.getBoxGenerationMode() == BoxGenerationMode.NONE
+                || childStyle.getPosition() == TaffyPosition.ABSOLUTE) {
+                continue;
+            }
+            if (++inFlow > capacity
+                || !isAutoPlacement(childStyle.getGridColumnStart()) || !isAutoPlacement(childStyle.getGridColumnEnd())
+                || !isAutoPlacement(childStyle.getGridRowStart()) || !isAutoPlacement(childStyle.getGridRowEnd())
+                || isColumnSubgrid(childStyle)) {
+                return false;
+            }
+            AlignItems alignSelf = childStyle.getAlignSelf();
+            if (alignSelf == AlignItems.BASELINE
+                || ((alignSelf == null || alignSelf == AlignItems.AUTO) && containerAlign == AlignItems.BASELINE)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAutoPlacement(GridPlacement placement) {
+        return placement == null || placement.isAuto();
+    }
+
+    private static boolean areFixedTracks(List<TrackSizingFunction> tracks, float innerSize) {
+        if (tracks == null || tracks.isEmpty()) {
+            return false;
+        }
+        for (TrackSizingFunction track : tracks) {
+            if (!track.isFixed() || track.getFixedValue() == null
+                || (track.getFixedValue().isPercent() && Float.isNaN(innerSize))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private FloatList resolveFixedTracks(List<TrackSizingFunction> tracks, float innerSize) {
+        FloatList sizes = new FloatArrayList(tracks.size());
+        for (TrackSizingFunction track : tracks) {
+            sizes.add(resolveTrackSize(track, innerSize));
+        }
+        return sizes;
+    }
+
+    // === Subgrid ===
+
+    private static boolean isColumnSubgrid(TaffyStyle style) {
+        return style.getDisplay() == TaffyDisplay.GRID && style.getGridSubgridColumns();
+    }
+
+    /**
+     * Whether a container with the given style and viewport sizes the columns of its subgrid children. Windowed
+     * and masonry grids don't.
+     */
+    static boolean sizesSubgrids(TaffyStyle style, GridViewport viewport) {
+        return style.getDisplay() == TaffyDisplay.GRID && !style.getGridMasonryRows() && viewport == null;
+    }
+
+    /**
+     * Returns the items that size the columns: the container's items, with every column subgrid child replaced by
+     * its own items placed into the columns the subgrid spans. Returns {@code items} itself when there is no
+     * subgrid child.
+     */
+    private List<GridItem> collectColumnSizingItems(List<GridItem> items, TrackCounts colCounts,
+                                                    FloatSize nodeInnerSize, GridScratch scratch) {
+        TaffyTree tree = layoutComputer.getTree();
+        List<GridItem> columnItems = null;
+        for (int idx = 0; idx < items.size(); idx++) {
+            GridItem item = items.get(idx);
+            TaffyStyle childStyle = tree.getStyle(item.nodeId);
+            if (!isColumnSubgrid(childStyle)) {
+                if (columnItems != null) {
+                    columnItems.add(item);
+                }
+                continue;
+            }
+            if (columnItems == null) {
+                columnItems = scratch.columnItems;
+                columnItems.addAll(items.subList(0, idx));
+            }
+            addSubgridItems(item, childStyle, nodeInnerSize, columnItems, scratch.itemPool);
+        }
+        return columnItems != null ? columnItems : items;
+    }
+
+    /**
+     * Places the items of a subgrid in its own grid, then moves them into the parent's columns it spans. The
+     * subgrid's margin, border and padding count as extra margin on the items at its edges.
+     */
+    private void addSubgridItems(GridItem subgrid, TaffyStyle subgridStyle, FloatSize nodeInnerSize,
+                                 List<GridItem> columnItems, ScratchArena.Pool<GridItem> itemPool) {
+        TaffyTree tree = layoutComputer.getTree();
+        GridTemplateCache templates = tree.getNodeData(subgrid.nodeId).gridTemplateCache(subgridStyle);
+        int span = subgrid.columnSpan;
+        float rowGap = subgridStyle.getGap().height.resolveOrZero(NaN);
+        List<TrackSizingFunction> rows = getExpandedTemplateRows(templates, subgridStyle, NaN, rowGap);
+
+        // Items come from the parent's pool so they outlive the nested frame
+        GridScratch nested = scratchArena.acquire();
+        try {
+            TrackCounts subColCounts = new TrackCounts(0, 0, 0);
+            TrackCounts subRowCounts = new TrackCounts(0, 0, 0);
+            List<GridItem> subItems = placeGridItems(subgrid.nodeId, subgridStyle, templates,
+                Collections.nCopies(span, TrackSizingFunction.AUTO), rows, nodeInnerSize,
+                nested.items, itemPool, nested.occupancy, subColCounts, subRowCounts);
+
+            float startEdge = subgrid.margin.left + subgrid.border.left + subgrid.padding.left;
+            float endEdge = subgrid.margin.right + subgrid.border.right + subgrid.padding.right;
+            for (GridItem item : subItems) {
+                int itemSpan = Math.min(item.columnSpan, span);
+                int start = Math.max(0, Math.min(subColCounts.ozLineToNextTrack(item.columnStart), span - itemSpan));
+                item.columnStart = subgrid.columnStart + start;
+                item.columnEnd = item.columnStart + itemSpan;
+                item.columnSpan = itemSpan;
+                item.rowStart = subgrid.rowStart;
+                item.rowEnd = subgrid.rowEnd;
+                item.rowSpan = subgrid.rowSpan;
+                item.subgridEdgeWidth = (start == 0 ? startEdge : 0f) + (start + itemSpan == span ? endEdge : 0f);
+                columnItems.add(item);
+            }
+        } finally {
+            scratchArena.release();
+        }
+    }
+
+    /**
+     * Hands each subgrid child the sizes of the columns it spans, minus its margin, border and padding on the
+     * edges. A subgrid whose columns changed drops its cached layouts.
+     */
+    private void assignSubgridColumns(NodeId node, List<GridItem> items, TrackCounts colCounts,
+                                      FloatList columnSizes, float columnGap) {
+        TaffyTree tree = layoutComputer.getTree();
+        int numColumns = columnSizes.size();
+        for (int idx = 0; idx < items.size(); idx++) {
+            GridItem item = items.get(idx);
+            TaffyStyle childStyle = tree.getStyle(item.nodeId);
+            if (!isColumnSubgrid(childStyle)) {
+                continue;
+            }
+            int first = getItemColumnWithCounts(item, idx, numColumns, colCounts);
+            float[] sizes = new float[item.columnSpan];
+            for (int c = 0; c < sizes.length; c++) {
+                int track = first + c;
+                sizes[c] = track >= 0 && track < numColumns ? columnSizes.getFloat(track) : 0f;
+            }
+            sizes[0] = Math.max(0f, sizes[0] - (item.margin.left + item.border.left + item.padding.left));
+            int last = sizes.length - 1;
+            sizes[last] = Math.max(0f, sizes[last] - (item.margin.right + item.border.right + item.padding.right));
+
+            NodeData data = tree.getNodeData(item.nodeId);
+            if (data.gridTemplateCache(childStyle).setSubgridColumns(node, sizes, columnGap)) {
+                data.getCache().clear();
+            }
+        }
+    }
+
+    /**
+     * Generates the in-flow items of a grid container. Their placement is either copied from the cache
+     * ({@code reusePlacement}), filled in row by row when {@code uniformColumns} is positive, or parsed from the
+     * children's styles for auto-placement.
+     */
+    private List<GridItem> generateGridItems(NodeId node, TaffyStyle containerStyle, GridTemplateCache templates,
+                                             FloatSize nodeInnerSize, List<GridItem> items,
+                                             ScratchArena.Pool<GridItem> itemPool, boolean reusePlacement,
+                                             int uniformColumns) {
         TaffyTree tree = layoutComputer.getTree();
-        List<GridItem> items = new ArrayList<>();
 
         // Get explicit track counts for negative line number resolution
         List<TrackSizingFunction> templateCols = containerStyle.getGridTemplateColumns();
@@ -1114,10 +1525,8 @@ public class GridComputer {
         int explicitColCount = (templateCols != null) ? templateCols.size() : 0;
         int explicitRowCount = (templateRows != null) ? templateRows.size() : 0;
 
-        // Create NamedLineResolver for resolving named grid lines
-        NamedLineResolver namedLineResolver = new NamedLineResolver(containerStyle);
-        namedLineResolver.setExplicitColumnCount(explicitColCount);
-        namedLineResolver.setExplicitRowCount(explicitRowCount);
+        // Named grid lines are resolved once per container style
+        NamedLineResolver namedLineResolver = templates.namedLines();
 
         int order = 0;
         for (NodeId childId : tree.getChildren(node)) {
@@ -1127,7 +1536,7 @@ public class GridComputer {
                 continue;
             }
 
-            GridItem item = new GridItem();
+            GridItem item = itemPool.next();
             item.nodeId = childId;
             item.order = order++;
             item.position = childStyle.getPosition();
@@ -1191,29 +1600,45 @@ public class GridComputer {
             item.alignSelf = (rawAlignSelf != null && rawAlignSelf != AlignItems.AUTO) ? rawAlignSelf : resolvedAlignItems;
             item.justifySelf = (rawJustifySelf != null && rawJustifySelf != AlignItems.AUTO) ? rawJustifySelf : resolvedJustifyItems;
 
-            // Grid placement - properly handle LINE, SPAN, NAMED_LINE, NAMED_SPAN, and AUTO
-            GridPlacement colStart = childStyle.getGridColumnStart();
-            GridPlacement colEnd = childStyle.getGridColumnEnd();
-            GridPlacement rowStart = childStyle.getGridRowStart();
-            GridPlacement rowEnd = childStyle.getGridRowEnd();
-
-            // Resolve named lines to numeric lines first
-            TaffyLine<GridPlacement> resolvedCol = namedLineResolver.resolveColumnNames(
-                new TaffyLine<>(colStart, colEnd));
-            TaffyLine<GridPlacement> resolvedRow = namedLineResolver.resolveRowNames(
-                new TaffyLine<>(rowStart, rowEnd));
-
-            // Parse column placement with explicit track count for negative line resolution
-            GridPlacementResult colPlacement = parseGridPlacement(resolvedCol.start, resolvedCol.end, explicitColCount);
-            item.columnStart = colPlacement.startIndex;
-            item.columnEnd = colPlacement.endIndex;
-            item.columnSpan = colPlacement.span;
-
-            // Parse row placement with explicit track count for negative line resolution
-            GridPlacementResult rowPlacement = parseGridPlacement(resolvedRow.start, resolvedRow.end, explicitRowCount);
-            item.rowStart = rowPlacement.startIndex;
-            item.rowEnd = rowPlacement.endIndex;
-            item.rowSpan = rowPlacement.span;
+            if (reusePlacement) {
+                if (item.position != TaffyPosition.ABSOLUTE) {
+                    templates.applyPlacement(items.size(), item);
+                }
+            } else if (uniformColumns > 0) {
+                if (item.position != TaffyPosition.ABSOLUTE) {
+                    int index = items.size();
+                    item.columnStart = index % uniformColumns;
+                    item.columnEnd = item.columnStart + 1;
+                    item.columnSpan = 1;
+                    item.rowStart = index / uniformColumns;
+                    item.rowEnd = item.rowStart + 1;
+                    item.rowSpan = 1;
+                }
+            } else {
+                // Grid placement - properly handle LINE, SPAN, NAMED_LINE, NAMED_SPAN, and AUTO
+                GridPlacement colStart = childStyle.getGridColumnStart();
+                GridPlacement colEnd = childStyle.getGridColumnEnd();
+                GridPlacement rowStart = childStyle.getGridRowStart();
+                GridPlacement rowEnd = childStyle.getGridRowEnd();
+
+                // Resolve named lines to numeric lines first
+                TaffyLine<GridPlacement> resolvedCol = namedLineResolver.resolveColumnNames(
+                    new TaffyLine<>(colStart, colEnd));
+                TaffyLine<GridPlacement> resolvedRow = namedLineResolver.resolveRowNames(
+                    new TaffyLine<>(rowStart, rowEnd));
+
+                // Parse column placement with explicit track count for negative line resolution
+                GridPlacementResult colPlacement = parseGridPlacement(resolvedCol.start, resolvedCol.end, explicitColCount);
+                item.columnStart = colPlacement.startIndex;
+                item.columnEnd = colPlacement.endIndex;
+                item.columnSpan = colPlacement.span;
+
+                // Parse row placement with explicit track count for negative line resolution
+                GridPlacementResult rowPlacement = parseGridPlacement(resolvedRow.start, resolvedRow.end, explicitRowCount);
+                item.rowStart = rowPlacement.startIndex;
+                item.rowEnd = rowPlacement.endIndex;
+                item.rowSpan = rowPlacement.span;
+            }
 
             item.computedSize = new FloatSize(0f, 0f);
             item.location = new FloatPoint(0f, 0f);
@@ -1232,7 +1657,7 @@ public class GridComputer {
      * @param startIndex null means auto
      * @param endIndex   null means auto
      */
-    private record GridPlacementResult(Integer startIndex, Integer endIndex, int span) {}
+    record GridPlacementResult(Integer startIndex, Integer endIndex, int span) {}
 
     /**
      * Parse grid placement from start and end values.
@@ -1243,7 +1668,7 @@ public class GridComputer {
      *
      * @param explicitTrackCount The number of explicit tracks for negative line number resolution
      */
-    private GridPlacementResult parseGridPlacement(GridPlacement start, GridPlacement end, int explicitTrackCount) {
+    GridPlacementResult parseGridPlacement(GridPlacement start, GridPlacement end, int explicitTrackCount) {
         Integer startIndex = null;
         Integer endIndex = null;
         int span = 1;
@@ -1447,7 +1872,7 @@ public class GridComputer {
      * @param trackCount          Number of auto-fit tracks
      * @param tracksPerRepetition Number of tracks per repetition (for multi-track auto-fit)
      */
-    private record AutoFitInfo(int startIndex, int trackCount, int tracksPerRepetition) {}
+    record AutoFitInfo(int startIndex, int trackCount, int tracksPerRepetition) {}
 
     /**
      * Check if a grid template uses auto-fit and return information about it.
@@ -1553,19 +1978,24 @@ public class GridComputer {
      * Per CSS Grid spec, auto-fit tracks that don't contain any items should be collapsed.
      *
      * @param columnSizes   The calculated column sizes to modify
+     * @param templates     The container's template cache
      * @param style         The container style (to check for auto-fit)
      * @param items         The grid items
      * @param nodeInnerSize The container inner size
      * @param gap           The gap between tracks
      * @param colCounts     Track counts information
      */
-    private void collapseEmptyAutoFitColumns(FloatList columnSizes, TaffyStyle style, List<GridItem> items,
-                                             FloatSize nodeInnerSize, float gap, TrackCounts colCounts) {
+    private void collapseEmptyAutoFitColumns(FloatList columnSizes, GridTemplateCache templates, TaffyStyle style,
+                                             List<GridItem> items, FloatSize nodeInnerSize, float gap,
+                                             TrackCounts colCounts) {
         if (style.gridTemplateColumnsWithRepeat == null || style.gridTemplateColumnsWithRepeat.isEmpty()) {
             return;
         }
 
-        AutoFitInfo autoFitInfo = getAutoFitInfo(style.gridTemplateColumnsWithRepeat, nodeInnerSize.width, gap);
+        // Reuse the auto-fit info of the cached expansion unless the width has changed since
+        AutoFitInfo autoFitInfo = templates.hasColumns(nodeInnerSize.width, gap)
+                                  ? templates.columnAutoFit()
+                                  : getAutoFitInfo(style.gridTemplateColumnsWithRepeat, nodeInnerSize.width, gap);
         if (autoFitInfo == null) {
             return;
         }
@@ -1598,20 +2028,33 @@ public class GridComputer {
 
     /**
      * Get the expanded grid template columns, handling auto-fill/auto-fit if present.
+     * The expansion is cached per container until the style, width or gap changes.
      */
-    private List<TrackSizingFunction> getExpandedTemplateColumns(TaffyStyle style, float containerWidth, float gap) {
+    private List<TrackSizingFunction> getExpandedTemplateColumns(GridTemplateCache templates, TaffyStyle style,
+                                                                 float containerWidth, float gap) {
         if (style.gridTemplateColumnsWithRepeat != null && !style.gridTemplateColumnsWithRepeat.isEmpty()) {
-            return expandAutoRepetition(style.gridTemplateColumnsWithRepeat, containerWidth, gap);
+            if (!templates.hasColumns(containerWidth, gap)) {
+                templates.setColumns(containerWidth, gap,
+                    expandAutoRepetition(style.gridTemplateColumnsWithRepeat, containerWidth, gap),
+                    getAutoFitInfo(style.gridTemplateColumnsWithRepeat, containerWidth, gap));
+            }
+            return templates.columns();
         }
         return style.getGridTemplateColumns();
     }
 
     /**
      * Get the expanded grid template rows, handling auto-fill/auto-fit if present.
+     * The expansion is cached per container until the style, height or gap changes.
      */
-    private List<TrackSizingFunction> getExpandedTemplateRows(TaffyStyle style, float containerHeight, float gap) {
+    private List<TrackSizingFunction> getExpandedTemplateRows(GridTemplateCache templates, TaffyStyle style,
+                                                              float containerHeight, float gap) {
         if (style.gridTemplateRowsWithRepeat != null && !style.gridTemplateRowsWithRepeat.isEmpty()) {
-            return expandAutoRepetition(style.gridTemplateRowsWithRepeat, containerHeight, gap);
+            if (!templates.hasRows(containerHeight, gap)) {
+                templates.setRows(containerHeight, gap,
+                    expandAutoRepetition(style.gridTemplateRowsWithRepeat, containerHeight, gap));
+            }
+            return templates.rows();
         }
         return style.getGridTemplateRows();
     }
@@ -1739,11 +2182,16 @@ public class GridComputer {
      */
     private void autoPlaceItems(List<GridItem> items, GridAutoFlow autoFlow,
                                 TrackCounts colCounts, TrackCounts rowCounts) {
+        autoPlaceItems(items, autoFlow, colCounts, rowCounts, new CellOccupancyMatrix());
+    }
+
+    private void autoPlaceItems(List<GridItem> items, GridAutoFlow autoFlow,
+                                TrackCounts colCounts, TrackCounts rowCounts, CellOccupancyMatrix matrix) {
         boolean isDense = autoFlow != null && autoFlow.isDense();
         boolean isRowFlow = autoFlow == null || autoFlow.isRow();
 
-        // Create a dynamically expanding occupancy matrix
-        CellOccupancyMatrix matrix = new CellOccupancyMatrix(colCounts, rowCounts);
+        // Reset the dynamically expanding occupancy matrix, with bitset lines along the flow's secondary axis
+        matrix.reset(colCounts, rowCounts, isRowFlow);
 
         // Step 1: Place items with definite positions in both axes
         for (GridItem item : items) {
@@ -1768,9 +2216,9 @@ public class GridComputer {
                 // Handle items with definite row but auto column
                 if (item.rowStart != null) {
                     int rowStartOz = item.rowStart;
-                    int[] result = matrix.findEmptyAreaInRow(rowStartOz, colSpan, rowSpan);
-                    if (result != null) {
-                        item.columnStart = result[0];
+                    int result = matrix.findEmptyAreaInRow(rowStartOz, colSpan, rowSpan);
+                    if (result != CellOccupancyMatrix.NOT_FOUND) {
+                        item.columnStart = result;
                         matrix.markArea(item.columnStart, rowStartOz, colSpan, rowSpan);
                     } else {
                         // Expand grid and place at end
@@ -1783,9 +2231,9 @@ public class GridComputer {
                 // Handle items with definite column but auto row
                 if (item.columnStart != null) {
                     int colStartOz = item.columnStart;
-                    int[] result = matrix.findEmptyAreaInColumn(colStartOz, colSpan, rowSpan);
-                    if (result != null) {
-                        item.rowStart = result[0];
+                    int result = matrix.findEmptyAreaInColumn(colStartOz, colSpan, rowSpan);
+                    if (result != CellOccupancyMatrix.NOT_FOUND) {
+                        item.rowStart = result;
                         matrix.markArea(colStartOz, item.rowStart, colSpan, rowSpan);
                     } else {
                         // Expand grid and place at end
@@ -1827,9 +2275,9 @@ public class GridComputer {
                 if (item.columnStart != null) {
                     // Primary (column) definite, secondary (row) auto
                     int colStartOz = item.columnStart;
-                    int[] result = matrix.findEmptyAreaInColumn(colStartOz, colSpan, rowSpan);
-                    if (result != null) {
-                        item.rowStart = result[0];
+                    int result = matrix.findEmptyAreaInColumn(colStartOz, colSpan, rowSpan);
+                    if (result != CellOccupancyMatrix.NOT_FOUND) {
+                        item.rowStart = result;
                         matrix.markArea(colStartOz, item.rowStart, colSpan, rowSpan);
                     } else {
                         // Expand grid and place at end
@@ -1842,15 +2290,14 @@ public class GridComputer {
                     int startRow = isDense ? 0 : autoSecondaryIdx;
                     int startCol = isDense ? 0 : autoPrimaryIdx;
 
-                    int[] result = matrix.findEmptyArea(isRowFlow, startCol, startRow, colSpan, rowSpan, isDense);
-                    if (result != null) {
-                        item.columnStart = result[0];
-                        item.rowStart = result[1];
+                    if (matrix.findEmptyArea(startCol, startRow, colSpan, rowSpan, isDense)) {
+                        item.columnStart = matrix.foundColumn;
+                        item.rowStart = matrix.foundRow;
                         matrix.markArea(item.columnStart, item.rowStart, colSpan, rowSpan);
                         if (!isDense) {
                             // Update cursor - for row flow, advance along columns then rows
-                            autoPrimaryIdx = result[0] + colSpan;
-                            autoSecondaryIdx = result[1];
+                            autoPrimaryIdx = item.columnStart + colSpan;
+                            autoSecondaryIdx = item.rowStart;
                             if (autoPrimaryIdx >= matrix.colCounts.len()) {
                                 autoPrimaryIdx = 0;
                                 autoSecondaryIdx++;
@@ -1877,9 +2324,9 @@ public class GridComputer {
                 if (item.rowStart != null) {
                     // Primary (row) definite, secondary (column) auto
                     int rowStartOz = item.rowStart;
-                    int[] result = matrix.findEmptyAreaInRow(rowStartOz, colSpan, rowSpan);
-                    if (result != null) {
-                        item.columnStart = result[0];
+                    int result = matrix.findEmptyAreaInRow(rowStartOz, colSpan, rowSpan);
+                    if (result != CellOccupancyMatrix.NOT_FOUND) {
+                        item.columnStart = result;
                         matrix.markArea(item.columnStart, rowStartOz, colSpan, rowSpan);
                     } else {
                         // Expand grid and place at end
@@ -1891,15 +2338,14 @@ public class GridComputer {
                     int startCol = isDense ? 0 : autoSecondaryIdx;
                     int startRow = isDense ? 0 : autoPrimaryIdx;
 
-                    int[] result = matrix.findEmptyArea(isRowFlow, startCol, startRow, colSpan, rowSpan, isDense);
-                    if (result != null) {
-                        item.columnStart = result[0];
-                        item.rowStart = result[1];
+                    if (matrix.findEmptyArea(startCol, startRow, colSpan, rowSpan, isDense)) {
+                        item.columnStart = matrix.foundColumn;
+                        item.rowStart = matrix.foundRow;
                         matrix.markArea(item.columnStart, item.rowStart, colSpan, rowSpan);
                         if (!isDense) {
                             // Update cursor - for column flow, advance along rows then columns
-                            autoPrimaryIdx = result[1] + rowSpan;
-                            autoSecondaryIdx = result[0];
+                            autoPrimaryIdx = item.rowStart + rowSpan;
+                            autoSecondaryIdx = item.columnStart;
                             if (autoPrimaryIdx >= matrix.rowCounts.len()) {
                                 autoPrimaryIdx = 0;
                                 autoSecondaryIdx++;
@@ -1929,185 +2375,57 @@ public class GridComputer {
         rowCounts.update(matrix.rowCounts);
     }
 
+    /** Zero margins of the stand-in items used to size masonry columns */
+    private static final TaffyRect<LengthPercentageAuto> STAND_IN_MARGIN = new TaffyRect<>(
+        LengthPercentageAuto.ZERO, LengthPercentageAuto.ZERO, LengthPercentageAuto.ZERO, LengthPercentageAuto.ZERO);
+
     /**
-     * A dynamically-expanding cell occupancy matrix for grid auto-placement.
-     * This mirrors Rust's CellOccupancyMatrix behavior.
+     * Sizes the columns of a masonry container. Its items are not placed in columns yet, so the regular column
+     * track sizing runs over one stand-in item per column carrying the largest contributions of the items that
+     * can land in that column.
+     *
+     * @param minContent min-content contribution per column, margins included
+     * @param maxContent max-content contribution per column, margins included
      */
-    private static class CellOccupancyMatrix {
-        TrackCounts colCounts;
-        TrackCounts rowCounts;
-        boolean[][] cells;  // [row][col] in matrix coordinates
-
-        CellOccupancyMatrix(TrackCounts colCounts, TrackCounts rowCounts) {
-            this.colCounts = new TrackCounts(colCounts);
-            this.rowCounts = new TrackCounts(rowCounts);
-            this.cells = new boolean[rowCounts.len()][colCounts.len()];
-        }
-
-        /**
-         * Convert OriginZero column to matrix index.
-         */
-        private int colToIndex(int ozCol) {
-            return colCounts.ozLineToNextTrack(ozCol);
-        }
-
-        /**
-         * Convert OriginZero row to matrix index.
-         */
-        private int rowToIndex(int ozRow) {
-            return rowCounts.ozLineToNextTrack(ozRow);
-        }
-
-        /**
-         * Convert matrix column index to OriginZero.
-         */
-        private int indexToCol(int idx) {
-            return colCounts.trackToOzLine(idx);
-        }
-
-        /**
-         * Convert matrix row index to OriginZero.
-         */
-        private int indexToRow(int idx) {
-            return rowCounts.trackToOzLine(idx);
-        }
-
-        /**
-         * Expand the matrix to fit the given OriginZero range.
-         */
-        private void expandToFit(int ozColStart, int ozRowStart, int colSpan, int rowSpan) {
-            int ozColEnd = ozColStart + colSpan;
-            int ozRowEnd = ozRowStart + rowSpan;
-
-            // Calculate required expansion
-            int reqNegCols = Math.max(-ozColStart - colCounts.negativeImplicit, 0);
-            int reqPosCols = Math.max(ozColEnd - (colCounts.explicit + colCounts.positiveImplicit), 0);
-            int reqNegRows = Math.max(-ozRowStart - rowCounts.negativeImplicit, 0);
-            int reqPosRows = Math.max(ozRowEnd - (rowCounts.explicit + rowCounts.positiveImplicit), 0);
-
-            if (reqNegCols == 0 && reqPosCols == 0 && reqNegRows == 0 && reqPosRows == 0) {
-                return;  // No expansion needed
-            }
-
-            int oldNumCols = colCounts.len();
-            int oldNumRows = rowCounts.len();
-            int newNumCols = oldNumCols + reqNegCols + reqPosCols;
-            int newNumRows = oldNumRows + reqNegRows + reqPosRows;
-
-            boolean[][] newCells = new boolean[newNumRows][newNumCols];
-
-            // Copy old cells to new matrix, offset by negative expansions
-            for (int r = 0; r < oldNumRows; r++) {
-                if (oldNumCols >= 0)
-                    System.arraycopy(cells[r], 0, newCells[r + reqNegRows], reqNegCols, oldNumCols);
-            }
-
-            cells = newCells;
-            colCounts.negativeImplicit += reqNegCols;
-            colCounts.positiveImplicit += reqPosCols;
-            rowCounts.negativeImplicit += reqNegRows;
-            rowCounts.positiveImplicit += reqPosRows;
-        }
-
-        /**
-         * Mark an area as occupied, expanding the matrix if needed.
-         */
-        void markArea(int ozColStart, int ozRowStart, int colSpan, int rowSpan) {
-            expandToFit(ozColStart, ozRowStart, colSpan, rowSpan);
-
-            int colIdx = colToIndex(ozColStart);
-            int rowIdx = rowToIndex(ozRowStart);
-
-            for (int r = rowIdx; r < rowIdx + rowSpan; r++) {
-                for (int c = colIdx; c < colIdx + colSpan; c++) {
-                    cells[r][c] = true;
-                }
-            }
-        }
-
-        /**
-         * Check if an area is available (all cells unoccupied).
-         */
-        private boolean isAreaAvailable(int colIdx, int rowIdx, int colSpan, int rowSpan) {
-            int numCols = colCounts.len();
-            int numRows = rowCounts.len();
-
-            if (colIdx < 0 || rowIdx < 0 || colIdx + colSpan > numCols || rowIdx + rowSpan > numRows) {
-                return false;
-            }
-
-            for (int r = rowIdx; r < rowIdx + rowSpan; r++) {
-                for (int c = colIdx; c < colIdx + colSpan; c++) {
-                    if (cells[r][c]) return false;
-                }
-            }
-            return true;
-        }
-
-        /**
-         * Find an empty area in a specific row (for items with definite row).
-         * Returns [ozColStart] or null if not found within current grid.
-         */
-        int[] findEmptyAreaInRow(int ozRowStart, int colSpan, int rowSpan) {
-            int rowIdx = rowToIndex(ozRowStart);
-            int numCols = colCounts.len();
-
-            for (int c = 0; c <= numCols - colSpan; c++) {
-                if (isAreaAvailable(c, rowIdx, colSpan, rowSpan)) {
-                    return new int[]{indexToCol(c)};
-                }
-            }
-            return null;
-        }
-
-        /**
-         * Find an empty area in a specific column (for items with definite column).
-         * Returns [ozRowStart] or null if not found within current grid.
-         */
-        int[] findEmptyAreaInColumn(int ozColStart, int colSpan, int rowSpan) {
-            int colIdx = colToIndex(ozColStart);
-            int numRows = rowCounts.len();
-
-            for (int r = 0; r <= numRows - rowSpan; r++) {
-                if (isAreaAvailable(colIdx, r, colSpan, rowSpan)) {
-                    return new int[]{indexToRow(r)};
-                }
-            }
-            return null;
-        }
-
-        /**
-         * Find an empty area for auto-placement.
-         * Returns [ozColStart, ozRowStart] or null if not found within current grid.
-         */
-        int[] findEmptyArea(boolean isRowFlow, int startCol, int startRow, int colSpan, int rowSpan, boolean isDense) {
-            int numCols = colCounts.len();
-            int numRows = rowCounts.len();
-
-            if (isRowFlow) {
-                // Row flow: iterate rows (secondary), then columns (primary)
-                int rowStart = isDense ? 0 : startRow;
-                for (int r = rowStart; r <= numRows - rowSpan; r++) {
-                    int colStart = (r == startRow && !isDense) ? startCol : 0;
-                    for (int c = colStart; c <= numCols - colSpan; c++) {
-                        if (isAreaAvailable(c, r, colSpan, rowSpan)) {
-                            return new int[]{indexToCol(c), indexToRow(r)};
-                        }
-                    }
-                }
-            } else {
-                // Column flow: iterate columns (secondary), then rows (primary)
-                int colStart = isDense ? 0 : startCol;
-                for (int c = colStart; c <= numCols - colSpan; c++) {
-                    int rowStart = (c == startCol && !isDense) ? startRow : 0;
-                    for (int r = rowStart; r <= numRows - rowSpan; r++) {
-                        if (isAreaAvailable(c, r, colSpan, rowSpan)) {
-                            return new int[]{indexToCol(c), indexToRow(r)};
-                        }
-                    }
-                }
+    FloatList calculateMasonryColumnSizes(TaffyStyle style, FloatSize nodeInnerSize,
+                                          TaffySize<AvailableSpace> availableGridSpace,
+                                          TaffySize<AvailableSpace> availableSpace, FloatSize gap,
+                                          List<TrackSizingFunction> columns, int columnCount,
+                                          float[] minContent, float[] maxContent) {
+        GridScratch scratch = scratchArena.acquire();
+        try {
+            List<GridItem> items = scratch.items;
+            for (int c = 0; c < columnCount; c++) {
+                GridItem item = scratch.itemPool.next();
+                item.size = new FloatSize(NaN, NaN);
+                item.minSize = new FloatSize(0f, 0f);
+                item.maxSize = new FloatSize(NaN, NaN);
+                item.rawMargin = STAND_IN_MARGIN;
+                item.margin = FloatRect.ZERO;
+                item.padding = FloatRect.ZERO;
+                item.border = FloatRect.ZERO;
+                item.alignSelf = AlignItems.STRETCH;
+                item.justifySelf = AlignItems.STRETCH;
+                item.columnStart = c;
+                item.columnEnd = c + 1;
+                item.columnSpan = 1;
+                item.rowStart = 0;
+                item.rowEnd = 1;
+                item.rowSpan = 1;
+                item.computedSize = new FloatSize(0f, 0f);
+                item.location = new FloatPoint(0f, 0f);
+                // Preset contributions, so track sizing never measures the stand-in
+                item.minContentContributionWidth = minContent[c];
+                item.maxContentContributionWidth = maxContent[c];
+                item.estimatedMinContentWidth = minContent[c];
+                items.add(item);
             }
-            return null;
+            int explicitCount = Math.min(columns.size(), columnCount);
+            TrackCounts colCounts = new TrackCounts(0, explicitCount, columnCount - explicitCount);
+            return calculateColumnSizes(style, nodeInnerSize, availableGridSpace, availableSpace, gap,
+                columnCount, 1, items, colCounts, columns, scratch.columnTracks);
+        } finally {
+            scratchArena.release();
         }
     }
 
@@ -2121,9 +2439,10 @@ public class GridComputer {
         int numRows,
         List<GridItem> items,
         TrackCounts colCounts,
-        List<TrackSizingFunction> expandedCols) {
+        List<TrackSizingFunction> expandedCols,
+        GridTrackState tracks) {
         return calculateColumnSizesWithRowSizes(style, nodeInnerSize, availableGridSpace, originalAvailableSpace, gap,
-            numColumns, numRows, items, colCounts, expandedCols, null);
+            numColumns, numRows, items, colCounts, expandedCols, null, tracks);
     }
 
     private FloatList calculateColumnSizesWithRowSizes(
@@ -2137,7 +2456,8 @@ public class GridComputer {
         List<GridItem> items,
         TrackCounts colCounts,
         List<TrackSizingFunction> expandedCols,
-        FloatList knownRowSizes) {
+        FloatList knownRowSizes,
+        GridTrackState tracks) {
 
         FloatList sizes = new FloatArrayList();
         FloatList growthLimits = new FloatArrayList();// Track max size for each column (growth limit)
@@ -2170,6 +2490,7 @@ public class GridComputer {
         for (int i = 0; i < numColumns; i++) {
             growthLimits.add(Float.MAX_VALUE);
         }
+        tracks.reset(numColumns);
 
         // First pass: resolve fixed sizes and count fr units
         // Use colCounts to determine which tracks are explicit vs implicit
@@ -2208,6 +2529,7 @@ public class GridComputer {
 
             if (track != null && track.isFr()) {
                 totalFr += track.getFrValue();  // Accumulate fr values
+                tracks.flexIndex[i] = frTrackIndices.size();
                 frTrackIndices.add(i);
                 frValues.add(track.getFrValue());
                 sizes.add(0f); // Will be resolved later
@@ -2220,6 +2542,7 @@ public class GridComputer {
                 TrackSizingFunction maxF = track.getMaxFunc();
                 if (maxF != null && maxF.isFr()) {
                     totalFr += maxF.getFrValue();
+                    tracks.flexIndex[i] = frTrackIndices.size();
                     frTrackIndices.add(i);
                     frValues.add(maxF.getFrValue());
                     sizes.add(0f);
@@ -2277,6 +2600,12 @@ public class GridComputer {
             }
         }
 
+        // In a parallel pass, large grids measure the width contributions needed below concurrently up front
+        if (layoutComputer.isParallel()) {
+            measureColumnContributionsConcurrently(items, sizes, tracks, numColumns, colCounts, nodeInnerSize,
+                totalFr > 0 && Float.isNaN(nodeInnerSize.width), templateRows, autoRows, numRows, gap, knownRowSizes);
+        }
+
         // Handle fr tracks (including 0fr which behave like auto for base size)
         if (!frTrackIndices.isEmpty()) {
             // Step 1: Calculate base sizes for fr tracks based on item content (fr = minmax(auto, Nfr))
@@ -2292,8 +2621,8 @@ public class GridComputer {
                 int col = getItemColumnWithCounts(item, itemIdx, numColumns, colCounts);
                 int span = item.columnSpan;
 
-                if (span == 1 && frTrackIndices.contains(col)) {
-                    int frIdx = frTrackIndices.indexOf(col);
+                if (span == 1 && tracks.isFlexible(col)) {
+                    int frIdx = tracks.flexIndex[col];
                     // Horizontal percentage margins resolve to 0 in track sizing to avoid cyclic dependency
                     FloatSize marginAxisSums = item.getMarginAxisSumsWithBaselineShims(nodeInnerSize.width);
                     float minContribution;
@@ -2330,9 +2659,10 @@ public class GridComputer {
                 float freeSpace = availableWidth - currentUsed;
                 if (freeSpace > 0) {
                     // Find non-flex tracks that can grow (have finite growth limits > base size)
-                    IntList growableTracks = new IntArrayList();
+                    IntList growableTracks = tracks.growable;
+                    growableTracks.clear();
                     for (int i = 0; i < sizes.size(); i++) {
-                        if (!frTrackIndices.contains(i)) {
+                        if (!tracks.isFlexible(i)) {
                             float limit = growthLimits.getFloat(i);
                             float size = sizes.getFloat(i);
                             if (!Float.isNaN(limit) && limit != Float.MAX_VALUE && !Float.isNaN(size) && limit > size) {
@@ -2344,7 +2674,8 @@ public class GridComputer {
                     while (freeSpace > 0.001f && !growableTracks.isEmpty()) {
                         float sharePerTrack = freeSpace / growableTracks.size();
                         float distributed = 0f;
-                        IntList stillGrowable = new IntArrayList();
+                        // Compact the tracks that can still grow in place
+                        int stillGrowable = 0;
                         for (int i = 0; i < growableTracks.size(); i++) {
                             int idx = growableTracks.getInt(i);
                             float size = sizes.getFloat(idx);
@@ -2354,17 +2685,17 @@ public class GridComputer {
                             sizes.set(idx, size + increase);
                             distributed += increase;
                             if (size + increase < limit - 0.001f) {
-                                stillGrowable.add(idx);
+                                growableTracks.set(stillGrowable++, idx);
                             }
                         }
                         freeSpace -= distributed;
-                        growableTracks = stillGrowable;
+                        growableTracks.size(stillGrowable);
                         if (distributed < 0.001f) break;
                     }
                     // Update usedSpace after maximise step
                     usedSpace = 0f;
                     for (int i = 0; i < sizes.size(); i++) {
-                        if (!frTrackIndices.contains(i)) {
+                        if (!tracks.isFlexible(i)) {
                             float s = sizes.getFloat(i);
                             if (!Float.isNaN(s)) usedSpace += s;
                         }
@@ -2396,18 +2727,20 @@ public class GridComputer {
 
                 // Phase 1: Distribute spanning items' contributions to fr tracks (Step 4 of resolve_intrinsic_track_sizes)
                 // Items that span flex tracks have their contribution distributed proportionally by flex factor
+                TrackMinContentEstimates trackMinContents = null;
                 for (int itemIdx = 0; itemIdx < items.size(); itemIdx++) {
                     GridItem item = items.get(itemIdx);
                     int col = getItemColumnWithCounts(item, itemIdx, numColumns, colCounts);
                     int span = item.columnSpan;
 
                     // Check if this item crosses any fr tracks
-                    IntList frTracksInSpan = new IntArrayList();
+                    IntList frTracksInSpan = tracks.flexTargets;
+                    frTracksInSpan.clear();
                     float spanFrSum = 0f;
                     for (int c = col; c < col + span && c < numColumns; c++) {
-                        if (frTrackIndices.contains(c)) {
+                        if (tracks.isFlexible(c)) {
                             frTracksInSpan.add(c);
-                            int idx = frTrackIndices.indexOf(c);
+                            int idx = tracks.flexIndex[c];
                             spanFrSum += frValues.getFloat(idx);
                         }
                     }
@@ -2433,14 +2766,16 @@ public class GridComputer {
                         // Subtract existing track sizes (non-fr tracks in span)
                         // If track size is null (not yet computed), estimate using min-content of span=1 items
                         for (int c = col; c < col + span && c < numColumns; c++) {
-                            if (!frTrackIndices.contains(c)) {
+                            if (!tracks.isFlexible(c)) {
                                 float trackSize = sizes.getFloat(c);
                                 if (!Float.isNaN(trackSize)) {
                                     itemContribution -= trackSize;
                                 } else {
                                     // Track not yet sized - estimate min-content from span=1 items in this track
-                                    float trackMinContent = estimateTrackMinContent(c, items, numColumns, nodeInnerSize, colCounts);
-                                    itemContribution -= trackMinContent;
+                                    if (trackMinContents == null) {
+                                        trackMinContents = new TrackMinContentEstimates(items, numColumns, nodeInnerSize, colCounts);
+                                    }
+                                    itemContribution -= trackMinContents.get(c);
                                 }
                             }
                         }
@@ -2453,7 +2788,7 @@ public class GridComputer {
                             // Distribute contribution to fr tracks proportionally by flex factor
                             for (int i = 0; i < frTracksInSpan.size(); i++) {
                                 int c = frTracksInSpan.getInt(i);
-                                int idx = frTrackIndices.indexOf(c);
+                                int idx = tracks.flexIndex[c];
                                 float frValue = frValues.getFloat(idx);
                                 float share = itemContribution * (frValue / spanFrSum);
                                 frBaseSizes.set(idx, Math.max(frBaseSizes.getFloat(idx), share));
@@ -2469,19 +2804,7 @@ public class GridComputer {
                 }
 
                 // Phase 2: Calculate flex_fraction based on track base sizes
-                // For each fr track: if flex_factor > 1, use base_size/flex_factor; else use base_size
-                float flexFraction = 0f;
-                for (int idx = 0; idx < frTrackIndices.size(); idx++) {
-                    float baseSize = frBaseSizes.getFloat(idx);
-                    float frValue = frValues.getFloat(idx);
-                    float trackFr;
-                    if (frValue > 1.0f) {
-                        trackFr = baseSize / frValue;
-                    } else {
-                        trackFr = baseSize;
-                    }
-                    flexFraction = Math.max(flexFraction, trackFr);
-                }
+                float flexFraction = findSizeOfFrForIndefinite(frBaseSizes, frValues);
 
                 // Phase 3: Apply flex_fraction - each track gets max(base_size, flex_factor * flex_fraction)
                 for (int idx = 0; idx < frTrackIndices.size(); idx++) {
@@ -2494,88 +2817,90 @@ public class GridComputer {
         }
 
         // Step 1: Handle auto/content-sized tracks (min-content, max-content, auto)
-        // First, calculate content-based sizes for span=1 items
-        for (int i = 0; i < sizes.size(); i++) {
-            if (Float.isNaN(sizes.getFloat(i))) {
-                TrackSizingFunction track = (templateCols != null && i < templateCols.size())
-                                            ? templateCols.get(i) : null;
-
-                // Calculate max-content size for this track from span=1 items
-                float maxContentSize = 0f;     // For base_size - respects minSize
-                float pureMaxContentSize = 0f; // For growth_limit - pure content max-content, not minSize
-                float minContentSize = 0f;
-
-                for (int itemIdx = 0; itemIdx < items.size(); itemIdx++) {
-                    GridItem item = items.get(itemIdx);
-                    int col = getItemColumnWithCounts(item, itemIdx, numColumns, colCounts);
-                    int span = item.columnSpan;
-
-                    // Only consider items that occupy this track with span of 1
-                    if (col == i && span == 1) {
-                        // Horizontal percentage margins resolve to 0 in track sizing to avoid cyclic dependency
-                        FloatSize marginAxisSums = item.getMarginAxisSumsWithBaselineShims(nodeInnerSize.width);
-                        // Calculate minimum size from padding+border (size cannot be less than this)
-                        float itemPaddingBorderWidth = (item.padding != null ? item.padding.left + item.padding.right : 0f)
-                                                       + (item.border != null ? item.border.left + item.border.right : 0f);
-
-                        if (!Float.isNaN(item.size.width)) {
-                            // Size must be at least padding+border
-                            float effectiveWidth = Math.max(item.size.width, itemPaddingBorderWidth);
-                            float itemWidth = effectiveWidth + marginAxisSums.width;
-                            maxContentSize = Math.max(maxContentSize, itemWidth);
-                            pureMaxContentSize = Math.max(pureMaxContentSize, itemWidth);  // Explicit size is pure max-content
-                            minContentSize = Math.max(minContentSize, itemWidth);
-                        } else {
-                            // Check if item has overflow: hidden/scroll/auto - affects min-content contribution
-                            boolean hasOverflow = item.overflow != null &&
-                                                  (item.overflow.x == Overflow.HIDDEN || item.overflow.x == Overflow.SCROLL ||
-                                                   item.overflow.x == Overflow.CLIP);
-
-                            // Get item's min-width constraint (for auto track sizing)
-                            float itemMinWidthConstraint = (item.minSize != null && !Float.isNaN(item.minSize.width))
-                                                           ? item.minSize.width + marginAxisSums.width
-                                                           : 0f;
+        // First, calculate content-based sizes for span=1 items, bucketed by column in a single pass
+        float[] minContent = tracks.minContent;
+        float[] maxContent = tracks.maxContent;      // For base_size - respects minSize
+        float[] pureMaxContent = tracks.pureMaxContent; // For growth_limit - pure content max-content, not minSize
 
-                            // Estimate the height available for this item based on row tracks
-                            // This is crucial for flex children with column direction
-                            float estimatedRowHeight = estimateItemRowHeightWithKnownSizes(item, templateRows, autoRows, numRows, nodeInnerSize.height, gap, knownRowSizes);
+        for (int itemIdx = 0; itemIdx < items.size(); itemIdx++) {
+            GridItem item = items.get(itemIdx);
+            int col = getItemColumnWithCounts(item, itemIdx, numColumns, colCounts);
+            int span = item.columnSpan;
 
-                            // Use cached contribution - key optimization!
-                            FloatSize availSpace = new FloatSize(NaN, estimatedRowHeight);
-                            item.availableSpaceCache = availSpace;
+            // Only consider items that occupy a single unsized track
+            if (span == 1 && col >= 0 && col < numColumns && Float.isNaN(sizes.getFloat(col))) {
+                // Horizontal percentage margins resolve to 0 in track sizing to avoid cyclic dependency
+                FloatSize marginAxisSums = item.getMarginAxisSumsWithBaselineShims(nodeInnerSize.width);
+                // Calculate minimum size from padding+border (size cannot be less than this)
+                float itemPaddingBorderWidth = (item.padding != null ? item.padding.left + item.padding.right : 0f)
+                                               + (item.border != null ? item.border.left + item.border.right : 0f);
 
-                            // Measure max-content using cache
-                            // Note: cached methods already include margin
-                            float itemMaxWidth = item.getMaxContentContributionWidthCached(layoutComputer, availSpace, nodeInnerSize);
-                            // NOTE: max-content contribution does NOT include min-size for growth_limit purposes!
-                            // min-size affects minimum_contribution (base_size), not max_content_contribution (growth_limit)
-                            // We track pure max-content separately for growth_limit
-                            pureMaxContentSize = Math.max(pureMaxContentSize, itemMaxWidth);  // Without min-size
-
-                            // For base_size: max-content respects min-size
-                            itemMaxWidth = Math.max(itemMaxWidth, itemMinWidthConstraint);
-                            maxContentSize = Math.max(maxContentSize, itemMaxWidth);
-
-                            // For min-content: if overflow is not visible, min-content contribution is 0 (or min-size)
-                            float itemMinWidth;
-                            if (hasOverflow) {
-                                // Use minSize if set, otherwise 0
-                                itemMinWidth = itemMinWidthConstraint;
-                            } else {
-                                // Measure min-content using cache
-                                float measuredMinWidth = item.getMinContentContributionWidthCached(layoutComputer, availSpace, nodeInnerSize);
-                                // min-content contribution should respect min-size constraint
-                                itemMinWidth = Math.max(measuredMinWidth, itemMinWidthConstraint);
-                            }
+                if (!Float.isNaN(item.size.width)) {
+                    // Size must be at least padding+border
+                    float effectiveWidth = Math.max(item.size.width, itemPaddingBorderWidth);
+                    float itemWidth = effectiveWidth + marginAxisSums.width;
+                    maxContent[col] = Math.max(maxContent[col], itemWidth);
+                    pureMaxContent[col] = Math.max(pureMaxContent[col], itemWidth);  // Explicit size is pure max-content
+                    minContent[col] = Math.max(minContent[col], itemWidth);
+                } else {
+                    // Check if item has overflow: hidden/scroll/auto - affects min-content contribution
+                    boolean hasOverflow = item.overflow != null &&
+                                          (item.overflow.x == Overflow.HIDDEN || item.overflow.x == Overflow.SCROLL ||
+                                           item.overflow.x == Overflow.CLIP);
+
+                    // Get item's min-width constraint (for auto track sizing)
+                    float itemMinWidthConstraint = (item.minSize != null && !Float.isNaN(item.minSize.width))
+                                                   ? item.minSize.width + marginAxisSums.width
+                                                   : 0f;
+
+                    // Estimate the height available for this item based on row tracks
+                    // This is crucial for flex children with column direction
+                    float estimatedRowHeight = estimateItemRowHeightWithKnownSizes(item, templateRows, autoRows, numRows, nodeInnerSize.height, gap, knownRowSizes);
+
+                    // Use cached contribution - key optimization!
+                    FloatSize availSpace = new FloatSize(NaN, estimatedRowHeight);
+                    item.availableSpaceCache = availSpace;
+
+                    // Measure max-content using cache
+                    // Note: cached methods already include margin
+                    float itemMaxWidth = item.getMaxContentContributionWidthCached(layoutComputer, availSpace, nodeInnerSize);
+                    // NOTE: max-content contribution does NOT include min-size for growth_limit purposes!
+                    // min-size affects minimum_contribution (base_size), not max_content_contribution (growth_limit)
+                    // We track pure max-content separately for growth_limit
+                    pureMaxContent[col] = Math.max(pureMaxContent[col], itemMaxWidth);  // Without min-size
+
+                    // For base_size: max-content respects min-size
+                    itemMaxWidth = Math.max(itemMaxWidth, itemMinWidthConstraint);
+                    maxContent[col] = Math.max(maxContent[col], itemMaxWidth);
+
+                    // For min-content: if overflow is not visible, min-content contribution is 0 (or min-size)
+                    float itemMinWidth;
+                    if (hasOverflow) {
+                        // Use minSize if set, otherwise 0
+                        itemMinWidth = itemMinWidthConstraint;
+                    } else {
+                        // Measure min-content using cache
+                        float measuredMinWidth = item.getMinContentContributionWidthCached(layoutComputer, availSpace, nodeInnerSize);
+                        // min-content contribution should respect min-size constraint
+                        itemMinWidth = Math.max(measuredMinWidth, itemMinWidthConstraint);
+                    }
 
-                            // Compressible replaced element capping (Rust: is_compressible_replaced)
-                            // If preferred/max sizes are definite (including % resolved against 0), cap the content-based minimum.
-                            itemMinWidth = capCompressibleReplacedMinimumContributionWidth(item, itemMinWidth, marginAxisSums.width);
+                    // Compressible replaced element capping (Rust: is_compressible_replaced)
+                    // If preferred/max sizes are definite (including % resolved against 0), cap the content-based minimum.
+                    itemMinWidth = capCompressibleReplacedMinimumContributionWidth(item, itemMinWidth, marginAxisSums.width);
 
-                            minContentSize = Math.max(minContentSize, itemMinWidth);
-                        }
-                    }
+                    minContent[col] = Math.max(minContent[col], itemMinWidth);
                 }
+            }
+        }
+
+        for (int i = 0; i < sizes.size(); i++) {
+            if (Float.isNaN(sizes.getFloat(i))) {
+                TrackSizingFunction track = (templateCols != null && i < templateCols.size())
+                                            ? templateCols.get(i) : null;
+                float maxContentSize = maxContent[i];
+                float pureMaxContentSize = pureMaxContent[i];
+                float minContentSize = minContent[i];
 
                 // Apply the appropriate size based on track type
                 float size;
@@ -2757,6 +3082,11 @@ public class GridComputer {
 
         boolean isMaxContentSizing = (availableGridSpace.width != null && availableGridSpace.width.isMaxContent());
 
+        // Track classification is based on the *min track sizing function* (and a few quirks that depend on max)
+        // See Rust: `GridTrack::{min_track_sizing_function,max_track_sizing_function}` usage.
+        tracks.classify(templateCols, nodeInnerSize.width);
+        float[] fitContentLimits = tracks.fitContentLimit;
+
         for (int itemIdx = 0; itemIdx < items.size(); itemIdx++) {
             GridItem item = items.get(itemIdx);
             int col = getItemColumnWithCounts(item, itemIdx, numColumns, colCounts);
@@ -2796,90 +3126,14 @@ public class GridComputer {
                 // Compressible replaced element capping (Rust: is_compressible_replaced)
                 minimumContribution = capCompressibleReplacedMinimumContributionWidth(item, minimumContribution, marginAxisSums.width);
 
-                // Identify track types
-                IntList intrinsicTracks = new IntArrayList();  // All intrinsic min tracks (auto, min-content, max-content)
-                IntList minOrMaxContentTracks = new IntArrayList();  // min-content or max-content tracks
-                IntList maxContentTracks = new IntArrayList();  // max-content tracks only
-                IntList autoTracks = new IntArrayList();  // auto tracks (including implicit auto and fr)
-                IntList flexTracks = new IntArrayList();  // fr tracks
-                Int2FloatMap fitContentLimits = new Int2FloatOpenHashMap();  // fit-content track limits
-                fitContentLimits.defaultReturnValue(NaN);
-                boolean crossesFlexTrack = false;  // Whether this item crosses any fr track
-
-                for (int c = col; c < col + span; c++) {
-                    TrackSizingFunction track = (templateCols != null && c < templateCols.size())
-                                                ? templateCols.get(c) : null;
-
-                    // Get the effective min and max track sizing functions
-                    // For minmax(A, B), minFunc = A, maxFunc = B
-                    // For other types, they act as both min and max
-                    TrackSizingFunction minFunc = (track != null && track.isMinmax()) ? track.getMinFunc() : track;
-                    TrackSizingFunction maxFunc = (track != null && track.isMinmax()) ? track.getMaxFunc() : track;
-
-                    // Track classification is based on the *min track sizing function* (and a few quirks that depend on max)
-                    // See Rust: `GridTrack::{min_track_sizing_function,max_track_sizing_function}` usage.
-                    boolean minIsAuto = track == null ||
-                                        (minFunc != null && minFunc.isAuto()) ||
-                                        (track != null && (track.isFr() || track.isFitContent()));
-                    boolean minIsMinContent = (minFunc != null && minFunc.isMinContent());
-                    boolean minIsMaxContent = (minFunc != null && minFunc.isMaxContent());
-                    boolean minIsIntrinsic = track == null || minIsAuto || minIsMinContent || minIsMaxContent;
-                    boolean maxIsMinContent = (maxFunc != null && maxFunc.isMinContent());
-
-                    // Intrinsic min tracks: tracks where min_track_sizing_function is intrinsic
-                    if (minIsIntrinsic) {
-                        intrinsicTracks.add(c);
-                    }
-                    // min-content or max-content min tracks (not just the whole track, but min function)
-                    if (minIsMinContent || minIsMaxContent) {
-                        minOrMaxContentTracks.add(c);
-                    }
-                    // max-content min tracks only
-                    if (minIsMaxContent) {
-                        maxContentTracks.add(c);
-                    }
-
-                    // auto min tracks (including implicit auto and fr min functions)
-                    // Rust quirk (Chrome compat): exclude minmax(auto, min-content) from the "auto" set in max-content sizing.
-                    if (minIsAuto && !maxIsMinContent) {
-                        autoTracks.add(c);
-                    }
-
-                    // fit-content tracks - need to track their limits (fit-content can appear as the max in minmax())
-                    if (maxFunc != null && maxFunc.isFitContent()) {
-                        LengthPercentage limitArg = maxFunc.getFitContentArgument();
-                        float limit;
-                        if (limitArg == null) {
-                            limit = Float.MAX_VALUE;
-                        } else if (limitArg.isPercent()) {
-                            // For percent values, only resolve if we have a definite container size
-                            // If container size is indefinite (null or NaN), percent fit-content acts as unlimited (INFINITY in Rust)
-                            float resolveContext = (Float.isNaN(nodeInnerSize.width)) ? NaN : nodeInnerSize.width;
-                            float resolved = limitArg.maybeResolve(resolveContext);
-                            limit = (!Float.isNaN(resolved)) ? resolved : Float.MAX_VALUE;
-                        } else {
-                            // For absolute lengths, resolve directly
-                            limit = limitArg.resolveOrZero(nodeInnerSize.width);
-                        }
-                        fitContentLimits.put(c, limit);
-                    }
-
-                    // Flexible tracks - for flex-only distribution (a track is flexible if its MAX sizing function is flexible)
-                    if (maxFunc != null && maxFunc.isFlexible()) {
-                        flexTracks.add(c);
-                        crossesFlexTrack = true;
-                    }
-                }
-
-                // Helper function to calculate current spanned size
-                FloatSupplier getCurrentSpannedSize = () -> {
-                    float total = 0f;
-                    int gapsInSpan = span - 1;
-                    for (int c = col; c < col + span; c++) {
-                        total += sizes.getFloat(c);
-                    }
-                    return total + gapsInSpan * gap.width;
-                };
+                // Identify track types: intrinsic min tracks, min-content or max-content min tracks,
+                // max-content min tracks, auto min tracks (including implicit auto and fr) and flexible tracks
+                boolean crossesFlexTrack = tracks.collectTargets(col, col + span);
+                IntList intrinsicTracks = tracks.intrinsicTargets;
+                IntList minOrMaxContentTracks = tracks.contentTargets;
+                IntList maxContentTracks = tracks.maxContentTargets;
+                IntList autoTracks = tracks.autoTargets;
+                IntList flexTracks = tracks.flexTargets;
 
                 // CSS Grid spec: If the item spans a track with a flexible sizing function,
                 // its contribution is distributed only to the flexible tracks.
@@ -2889,11 +3143,12 @@ public class GridComputer {
                     // Item crosses a flex track - distribute only to flex tracks
                     // Step 2.1, 2.2, 2.3 all distribute to flex tracks only
                     if (!flexTracks.isEmpty()) {
-                        float currentSpannedSize = getCurrentSpannedSize.get();
+                        float currentSpannedSize = spannedSize(sizes, col, span, gap.width);
                         float extraNeeded = itemMaxContent - currentSpannedSize;
                         if (extraNeeded > 0) {
                             float extraPerTrack = extraNeeded / flexTracks.size();
-                            for (int c : flexTracks) {
+                            for (int i = 0; i < flexTracks.size(); i++) {
+                                int c = flexTracks.getInt(i);
                                 sizes.set(c, sizes.getFloat(c) + extraPerTrack);
                             }
                         }
@@ -2907,15 +3162,15 @@ public class GridComputer {
                     // For non-scroll containers, it's the min-content contribution
                     // Per CSS Grid spec: respect growth_limit when distributing space
                     if (!intrinsicTracks.isEmpty()) {
-                        float currentSpannedSize = getCurrentSpannedSize.get();
+                        float currentSpannedSize = spannedSize(sizes, col, span, gap.width);
                         float extraNeeded = minimumContribution - currentSpannedSize;
                         if (extraNeeded > 0) {
                             // For scroll containers, use fit_content_limited_growth_limit
                             if (isScrollContainer) {
-                                distributeSpaceToTracks(extraNeeded, intrinsicTracks, sizes, fitContentLimits);
+                                distributeSpaceToTracks(extraNeeded, intrinsicTracks, sizes, fitContentLimits, tracks.growable);
                             } else {
                                 // Distribute space respecting growth_limit
-                                distributeSpaceWithGrowthLimit(extraNeeded, intrinsicTracks, sizes, growthLimits);
+                                distributeSpaceWithGrowthLimit(extraNeeded, intrinsicTracks, sizes, growthLimits, tracks.growable);
                             }
                         }
                     }
@@ -2925,15 +3180,15 @@ public class GridComputer {
                     // Use min-content contribution (not minimum contribution)
                     // Per CSS Grid spec: respect growth_limit when distributing space
                     if (!minOrMaxContentTracks.isEmpty()) {
-                        float currentSpannedSize = getCurrentSpannedSize.get();
+                        float currentSpannedSize = spannedSize(sizes, col, span, gap.width);
                         float extraNeeded = itemMinContent - currentSpannedSize;
                         if (extraNeeded > 0) {
                             // For scroll containers, use fit_content_limited_growth_limit
                             if (isScrollContainer) {
-                                distributeSpaceToTracks(extraNeeded, minOrMaxContentTracks, sizes, fitContentLimits);
+                                distributeSpaceToTracks(extraNeeded, minOrMaxContentTracks, sizes, fitContentLimits, tracks.growable);
                             } else {
                                 // Distribute space respecting growth_limit
-                                distributeSpaceWithGrowthLimit(extraNeeded, minOrMaxContentTracks, sizes, growthLimits);
+                                distributeSpaceWithGrowthLimit(extraNeeded, minOrMaxContentTracks, sizes, growthLimits, tracks.growable);
                             }
                         }
                     }
@@ -2943,16 +3198,16 @@ public class GridComputer {
                     // Otherwise, distribute to auto min tracks (using fit_content_limited_growth_limit)
                     // Note: Per CSS Grid spec, if auto tracks hit their limits, the remaining space is NOT redistributed
                     if (isMaxContentSizing) {
-                        float currentSpannedSize = getCurrentSpannedSize.get();
+                        float currentSpannedSize = spannedSize(sizes, col, span, gap.width);
                         float extraNeeded = itemMaxContent - currentSpannedSize;
                         if (extraNeeded > 0) {
                             // Check if any max-content min tracks exist
                             if (!maxContentTracks.isEmpty()) {
                                 // Distribute to max-content tracks respecting growth_limit
-                                distributeSpaceWithGrowthLimit(extraNeeded, maxContentTracks, sizes, growthLimits);
+                                distributeSpaceWithGrowthLimit(extraNeeded, maxContentTracks, sizes, growthLimits, tracks.growable);
                             } else if (!autoTracks.isEmpty()) {
                                 // Distribute to auto tracks with fit_content_limited_growth_limit
-                                distributeSpaceToTracks(extraNeeded, autoTracks, sizes, fitContentLimits);
+                                distributeSpaceToTracks(extraNeeded, autoTracks, sizes, fitContentLimits, tracks.growable);
                                 // Note: remaining space is NOT redistributed to other tracks
                             }
                         }
@@ -2963,11 +3218,11 @@ public class GridComputer {
                     // to account for these items' max-content contributions.
                     // This runs regardless of whether we're in max-content sizing mode.
                     if (!maxContentTracks.isEmpty()) {
-                        float currentSpannedSize = getCurrentSpannedSize.get();
+                        float currentSpannedSize = spannedSize(sizes, col, span, gap.width);
                         float extraNeeded = itemMaxContent - currentSpannedSize;
                         if (extraNeeded > 0) {
                             // Distribute space respecting growth_limit
-                            distributeSpaceWithGrowthLimit(extraNeeded, maxContentTracks, sizes, growthLimits);
+                            distributeSpaceWithGrowthLimit(extraNeeded, maxContentTracks, sizes, growthLimits, tracks.growable);
                         }
                     }
                 }
@@ -3072,7 +3327,8 @@ public class GridComputer {
             // 2. stretch_auto_tracks: additional stretch for auto tracks (only when container has DEFINITE SIZE)
             if (freeSpace > 0) {
                 // Find tracks that can grow (auto, minmax with room to grow)
-                IntList growableTrackIndices = new IntArrayList();
+                IntList growableTrackIndices = tracks.expandable;
+                growableTrackIndices.clear();
                 int growExplicitStart = colCounts.negativeImplicit;
                 int growExplicitEnd = growExplicitStart + colCounts.explicit;
 
@@ -3117,7 +3373,8 @@ public class GridComputer {
                     float remainingSpace = freeSpace;
                     while (remainingSpace > 0.001f) {
                         // Find tracks that can still grow (below their growth limit)
-                        IntList growableTracks = new IntArrayList();
+                        IntList growableTracks = tracks.growable;
+                        growableTracks.clear();
                         for (int j = 0; j < growableTrackIndices.size(); j++) {
                             int i = growableTrackIndices.getInt(j);
                             float currentSize = sizes.getFloat(i);
@@ -3175,8 +3432,10 @@ public class GridComputer {
 
                         if (stretchFreeSpace > 0.001f) {
                             // Find auto tracks only (not minmax tracks)
-                            List<Integer> autoTracks = new ArrayList<>();
-                            for (int i : growableTrackIndices) {
+                            IntList autoTracks = tracks.autoTargets;
+                            autoTracks.clear();
+                            for (int j = 0; j < growableTrackIndices.size(); j++) {
+                                int i = growableTrackIndices.getInt(j);
                                 TrackSizingFunction track;
                                 if (i >= growExplicitStart && i < growExplicitEnd) {
                                     int templateIndex = i - growExplicitStart;
@@ -3193,7 +3452,8 @@ public class GridComputer {
 
                             if (!autoTracks.isEmpty()) {
                                 float extraPerTrack = stretchFreeSpace / autoTracks.size();
-                                for (int i : autoTracks) {
+                                for (int j = 0; j < autoTracks.size(); j++) {
+                                    int i = autoTracks.getInt(j);
                                     float currentSize = sizes.getFloat(i);
                                     if (!Float.isNaN(currentSize)) {
                                         sizes.set(i, currentSize + extraPerTrack);
@@ -3241,6 +3501,26 @@ public class GridComputer {
         return sizes;
     }
 
+    /**
+     * Find the size of an fr unit for an indefinite container from the flexible tracks' base sizes.
+     * For each fr track: if flex_factor > 1, use base_size/flex_factor; else use base_size.
+     */
+    static float findSizeOfFrForIndefinite(FloatList baseSizes, FloatList frValues) {
+        float flexFraction = 0f;
+        for (int idx = 0; idx < frValues.size(); idx++) {
+            float baseSize = baseSizes.getFloat(idx);
+            float frValue = frValues.getFloat(idx);
+            float trackFr;
+            if (frValue > 1.0f) {
+                trackFr = baseSize / frValue;
+            } else {
+                trackFr = baseSize;
+            }
+            flexFraction = Math.max(flexFraction, trackFr);
+        }
+        return flexFraction;
+    }
+
     /**
      * Find the size of an fr unit for a definite container.
      * Uses the algorithm from CSS Grid spec 11.7.1.
@@ -3250,7 +3530,7 @@ public class GridComputer {
      * Special case: If the sum of flex factors is less than 1, multiply the free space
      * by that sum - this means tracks won't use all available space.
      */
-    private float findSizeOfFrForDefinite(FloatList baseSizes, FloatList frValues, float spaceToFill) {
+    static float findSizeOfFrForDefinite(FloatList baseSizes, FloatList frValues, float spaceToFill) {
         if (spaceToFill <= 0 || frValues.isEmpty()) return 0f;
 
         // Use a copy to track which tracks are still flexible
@@ -3495,29 +3775,15 @@ public class GridComputer {
         FloatList columnSizes,
         TrackCounts colCounts,
         TrackCounts rowCounts,
-        List<TrackSizingFunction> expandedRows) {
+        List<TrackSizingFunction> expandedRows,
+        GridTrackState tracks) {
 
-        FloatList sizes = new FloatArrayList();
+        FloatList sizes = new FloatArrayList(numRows);
+        tracks.reset(numRows);
 
-        // Pre-compute item row indices ONCE (optimization)
+        // Bucket the items by their start row once, so calculateAutoRowHeight is O(items in row)
         int numColumns = columnSizes.size();
-        int[] itemRows = new int[items.size()];
-        for (int i = 0; i < items.size(); i++) {
-            itemRows[i] = getItemRowWithCounts(items.get(i), i, numColumns, rowCounts);
-        }
-
-        // Build row-to-items index map for O(1) lookup instead of O(items) scanning per row
-        // This reduces calculateAutoRowHeight from O(items*rows) to O(items+rows)
-        IntList[] itemIndicesByRow = new IntList[numRows];
-        for (int i = 0; i < numRows; i++) {
-            itemIndicesByRow[i] = new IntArrayList();
-        }
-        for (int i = 0; i < items.size(); i++) {
-            int row = itemRows[i];
-            if (row >= 0 && row < numRows) {
-                itemIndicesByRow[row].add(i);
-            }
-        }
+        tracks.bucketByTrack(items.size(), i -> getItemRowWithCounts(items.get(i), i, numColumns, rowCounts));
 
         // Use available grid space when node inner size is not definite
         AvailableSpace gridHeightSpace = availableGridSpace.height;
@@ -3624,13 +3890,12 @@ public class GridComputer {
             if (!Float.isNaN(nodeInnerSize.height)) {
                 // Definite container - first calculate content-based sizes for fr tracks
                 // (implementing the "auto" part of minmax(auto, Nfr))
-                FloatList contentBasedSizes = new FloatArrayList();
+                float[] contentBasedSizes = tracks.minContent;
                 for (int i = 0; i < sizes.size(); i++) {
                     if (Float.isNaN(sizes.getFloat(i)) && expandedRows != null && i < expandedRows.size() && expandedRows.get(i).isFr()) {
-                        float contentHeight = calculateAutoRowHeight(items, columnSizes, nodeInnerSize, colCounts, gap.width, itemIndicesByRow[i]);
-                        contentBasedSizes.add(contentHeight);
+                        contentBasedSizes[i] = calculateAutoRowHeight(items, columnSizes, nodeInnerSize, colCounts, gap.width, tracks, i);
                     } else {
-                        contentBasedSizes.add(NaN);
+                        contentBasedSizes[i] = NaN;
                     }
                 }
 
@@ -3639,10 +3904,8 @@ public class GridComputer {
                 float availableForFr = availableHeight - usedSpace;
                 float currentTotalFr = totalFr;
                 float usedByInflexible = 0f;
-                List<Boolean> isInflexible = new ArrayList<>();
-                for (int i = 0; i < sizes.size(); i++) {
-                    isInflexible.add(false);
-                }
+                // Inflexible fr tracks are marked with MAX_FLEXIBLE in the (freshly reset) flags
+                byte[] inflexible = tracks.flags;
 
                 // Iterative algorithm: tracks with content > fr*fraction become inflexible
                 boolean changed = true;
@@ -3653,14 +3916,14 @@ public class GridComputer {
 
                     for (int i = 0; i < sizes.size(); i++) {
                         if (Float.isNaN(sizes.getFloat(i)) && expandedRows != null && i < expandedRows.size() && expandedRows.get(i).isFr()) {
-                            if (!isInflexible.get(i)) {
+                            if (inflexible[i] == 0) {
                                 float frValue = expandedRows.get(i).getFrValue();
                                 float frBasedSize = frValue * flexFraction;
-                                float contentSize = contentBasedSizes.getFloat(i);
+                                float contentSize = contentBasedSizes[i];
 
                                 // If content exceeds fr-based size, this track becomes inflexible
                                 if (!Float.isNaN(contentSize) && contentSize > frBasedSize) {
-                                    isInflexible.set(i, true);
+                                    inflexible[i] = GridTrackState.MAX_FLEXIBLE;
                                     usedByInflexible += contentSize;
                                     currentTotalFr -= frValue;
                                     changed = true;
@@ -3677,19 +3940,19 @@ public class GridComputer {
                 for (int i = 0; i < sizes.size(); i++) {
                     if (Float.isNaN(sizes.getFloat(i))) {
                         if (expandedRows != null && i < expandedRows.size() && expandedRows.get(i).isFr()) {
-                            if (isInflexible.get(i)) {
+                            if (inflexible[i] != 0) {
                                 // Use content size for inflexible tracks
-                                sizes.set(i, contentBasedSizes.getFloat(i));
+                                sizes.set(i, contentBasedSizes[i]);
                             } else {
                                 // Use fr-based size for flexible tracks
                                 float frValue = expandedRows.get(i).getFrValue();
                                 float frBasedSize = frValue * flexFraction;
-                                float contentSize = contentBasedSizes.getFloat(i);
+                                float contentSize = contentBasedSizes[i];
                                 // Final size = max(content, fr-based) per CSS Grid spec
                                 sizes.set(i, !Float.isNaN(contentSize) ? Math.max(contentSize, frBasedSize) : frBasedSize);
                             }
                         } else {
-                            float maxRowHeight = calculateAutoRowHeight(items, columnSizes, nodeInnerSize, colCounts, gap.width, itemIndicesByRow[i]);
+                            float maxRowHeight = calculateAutoRowHeight(items, columnSizes, nodeInnerSize, colCounts, gap.width, tracks, i);
                             sizes.set(i, maxRowHeight);
                         }
                     }
@@ -3700,13 +3963,11 @@ public class GridComputer {
                 float flexFraction = 0f;
 
                 // Pre-compute fr track info ONCE outside the item loop (optimization)
-                boolean[] isFrRow = new boolean[numRows];
-                float[] frRowValue = new float[numRows];
+                // Fr values are kept in maxContent, with NaN for non-fr rows
+                float[] frRowValue = tracks.maxContent;
                 for (int r = 0; r < numRows; r++) {
-                    if (expandedRows != null && r < expandedRows.size() && expandedRows.get(r).isFr()) {
-                        isFrRow[r] = true;
-                        frRowValue[r] = expandedRows.get(r).getFrValue();
-                    }
+                    frRowValue[r] = expandedRows != null && r < expandedRows.size() && expandedRows.get(r).isFr()
+                                    ? expandedRows.get(r).getFrValue() : NaN;
                 }
 
                 // Check items that cross flexible rows
@@ -3720,7 +3981,7 @@ public class GridComputer {
                     float itemFrSum = 0f;
 
                     for (int r = row; r < row + span && r < numRows; r++) {
-                        if (isFrRow[r]) {
+                        if (!Float.isNaN(frRowValue[r])) {
                             crossesFr = true;
                             itemFrSum += frRowValue[r];
                         }
@@ -3731,7 +3992,7 @@ public class GridComputer {
                         // Calculate flex fraction needed
                         float usedByNonFr = 0f;
                         for (int r = row; r < row + span && r < numRows; r++) {
-                            if (!isFrRow[r]) {
+                            if (Float.isNaN(frRowValue[r])) {
                                 float value = sizes.getFloat(r);
                                 usedByNonFr += !Float.isNaN(value) ? value : 0f;
                             }
@@ -3754,7 +4015,7 @@ public class GridComputer {
 
                         float usedByNonFr = 0f;
                         for (int r = row; r < row + span && r < numRows; r++) {
-                            if (!isFrRow[r]) {
+                            if (Float.isNaN(frRowValue[r])) {
                                 float value = sizes.getFloat(r);
                                 usedByNonFr += !Float.isNaN(value) ? value : 0f;
                             }
@@ -3774,7 +4035,7 @@ public class GridComputer {
                             sizes.set(i, expandedRows.get(i).getFrValue() * flexFraction);
                         } else {
                             // Auto row - size based on content
-                            float maxRowHeight = calculateAutoRowHeight(items, columnSizes, nodeInnerSize, colCounts, gap.width, itemIndicesByRow[i]);
+                            float maxRowHeight = calculateAutoRowHeight(items, columnSizes, nodeInnerSize, colCounts, gap.width, tracks, i);
                             sizes.set(i, maxRowHeight);
                         }
                     }
@@ -3785,15 +4046,15 @@ public class GridComputer {
             // 11.8 Stretch auto Tracks: expand auto tracks to fill remaining space
 
             // Step 1: Calculate content size for all auto tracks
-            FloatList autoContentSizes = new FloatArrayList();
+            float[] autoContentSizes = tracks.minContent;
             float autoContentTotal = 0f;
             for (int i = 0; i < sizes.size(); i++) {
                 if (Float.isNaN(sizes.getFloat(i))) {
-                    float maxRowHeight = calculateAutoRowHeight(items, columnSizes, nodeInnerSize, colCounts, gap.width, itemIndicesByRow[i]);
-                    autoContentSizes.add(maxRowHeight);
+                    float maxRowHeight = calculateAutoRowHeight(items, columnSizes, nodeInnerSize, colCounts, gap.width, tracks, i);
+                    autoContentSizes[i] = maxRowHeight;
                     autoContentTotal += maxRowHeight;
                 } else {
-                    autoContentSizes.add(0f); // Placeholder for non-auto tracks
+                    autoContentSizes[i] = 0f; // Placeholder for non-auto tracks
                 }
             }
 
@@ -3807,7 +4068,7 @@ public class GridComputer {
             // Step 4: Set auto track sizes = content size + extra space
             for (int i = 0; i < sizes.size(); i++) {
                 if (Float.isNaN(sizes.getFloat(i))) {
-                    float contentSize = autoContentSizes.getFloat(i);
+                    float contentSize = autoContentSizes[i];
                     sizes.set(i, contentSize + extraPerAutoTrack);
                 }
             }
@@ -3815,7 +4076,7 @@ public class GridComputer {
             // No fr units and indefinite container - calculate based on content
             for (int i = 0; i < sizes.size(); i++) {
                 if (Float.isNaN(sizes.getFloat(i))) {
-                    float maxRowHeight = calculateAutoRowHeight(items, columnSizes, nodeInnerSize, colCounts, gap.width, itemIndicesByRow[i]);
+                    float maxRowHeight = calculateAutoRowHeight(items, columnSizes, nodeInnerSize, colCounts, gap.width, tracks, i);
                     sizes.set(i, maxRowHeight);
                 }
             }
@@ -3825,7 +4086,7 @@ public class GridComputer {
         for (int i = 0; i < sizes.size(); i++) {
             if (Float.isNaN(sizes.getFloat(i))) {
                 // Calculate auto row height as fallback
-                float maxRowHeight = calculateAutoRowHeight(items, columnSizes, nodeInnerSize, colCounts, gap.width, itemIndicesByRow[i]);
+                float maxRowHeight = calculateAutoRowHeight(items, columnSizes, nodeInnerSize, colCounts, gap.width, tracks, i);
                 sizes.set(i, maxRowHeight); // Use actual content height, can be 0 for empty rows
             }
         }
@@ -3833,12 +4094,13 @@ public class GridComputer {
         return sizes;
     }
 
-    private float calculateAutoRowHeight(List<GridItem> items, FloatList columnSizes, FloatSize nodeInnerSize, TrackCounts colCounts, float columnGap, IntList rowItemIndices) {
+    private float calculateAutoRowHeight(List<GridItem> items, FloatList columnSizes, FloatSize nodeInnerSize, TrackCounts colCounts, float columnGap, GridTrackState rows, int row) {
         float maxRowHeight = 0;
 
         // Only iterate over items that belong to this row (O(items_in_row) instead of O(all_items))
-        for (int idx = 0; idx < rowItemIndices.size(); idx++) {
-            int i = rowItemIndices.getInt(idx);
+        int[] bucketItems = rows.bucketItems;
+        for (int idx = rows.bucketStart[row], end = rows.bucketStart[row + 1]; idx < end; idx++) {
+            int i = bucketItems[idx];
             GridItem item = items.get(i);
             float height;
 
@@ -3980,6 +4242,9 @@ public class GridComputer {
         float adjustedGapX = calculateAdjustedGap(containerStyle.getJustifyContent(), freeSpaceWidth, nonCollapsedColumns, gap.width);
         float adjustedGapY = calculateAdjustedGap(containerStyle.getAlignContent(), freeSpaceHeight, nonCollapsedRows, gap.height);
 
+        List<NodeId> prelayoutNodes = layoutComputer.isParallel() ? new ArrayList<>() : null;
+        List<LayoutInput> prelayoutInputs = layoutComputer.isParallel() ? new ArrayList<>() : null;
+
         for (int i = 0; i < items.size(); i++) {
             GridItem item = items.get(i);
 
@@ -4324,7 +4589,21 @@ public class GridComputer {
             // Update item margin with resolved values for final layout
             item.margin = new FloatRect(marginLeft, marginRight, marginTop, marginBottom);
 
-            // Perform final child layout with known dimensions to trigger recursive layout
+            // Perform final child layout with known dimensions to trigger recursive layout.
+            // Large subtrees are deferred when running in parallel and laid out together below.
+            if (prelayoutNodes != null && layoutComputer.shouldPrelayout(item.nodeId)) {
+                prelayoutNodes.add(item.nodeId);
+                prelayoutInputs.add(new LayoutInput(
+                    RunMode.PERFORM_LAYOUT,
+                    SizingMode.INHERENT_SIZE,
+                    RequestedAxis.BOTH,
+                    new FloatSize(width, height),
+                    new FloatSize(trackWidth, trackHeight),
+                    new TaffySize<>(AvailableSpace.definite(width), AvailableSpace.definite(height)),
+                    new TaffyLine<>(false, false)
+                ));
+                continue;
+            }
             layoutComputer.performChildLayout(
                 item.nodeId,
                 new FloatSize(width, height),  // known dimensions
@@ -4334,34 +4613,43 @@ public class GridComputer {
                 new TaffyLine<>(false, false)
             );
         }
+
+        if (prelayoutNodes != null) {
+            layoutComputer.performChildLayouts(prelayoutNodes, prelayoutInputs);
+        }
     }
 
     private void performFinalLayout(List<GridItem> items) {
         TaffyTree tree = layoutComputer.getTree();
 
         for (GridItem item : items) {
-            FloatSize scrollbarSize = new FloatSize(
-                item.overflow.y == Overflow.SCROLL ? item.scrollbarWidth : 0f,
-                item.overflow.x == Overflow.SCROLL ? item.scrollbarWidth : 0f
-            );
-
-            Layout layout = new Layout(
-                item.order,
-                item.location,
-                item.computedSize,
-                item.computedSize,
-                scrollbarSize,
-                item.border,
-                item.padding,
-                item.margin
-            );
+            float scrollbarWidth = item.overflow.y == Overflow.SCROLL ? item.scrollbarWidth : 0f;
+            float scrollbarHeight = item.overflow.x == Overflow.SCROLL ? item.scrollbarWidth : 0f;
 
-            tree.setUnroundedLayout(item.nodeId, layout);
+            tree.writeUnroundedLayout(item.nodeId, item.order, item.location.x, item.location.y, item.computedSize, item.computedSize,
+                scrollbarWidth, scrollbarHeight, item.border, item.padding, item.margin);
         }
     }
 
+    /**
+     * Lays out the absolutely positioned children of a masonry container. Their column lines resolve against the
+     * container's columns; masonry has no row tracks, so their row lines resolve to the container's padding edges.
+     */
+    void layoutMasonryAbsoluteChildren(List<NodeId> children, TaffyStyle style, FloatSize containerSize,
+                                       FloatRect border, FloatRect contentBoxInset, FloatList columnSizes,
+                                       float columnGap) {
+        TaffyPoint<Overflow> overflow = style.getOverflow();
+        float scrollbarGutterX = overflow.y == Overflow.SCROLL ? style.getScrollbarWidth() : 0f;
+        float scrollbarGutterY = overflow.x == Overflow.SCROLL ? style.getScrollbarWidth() : 0f;
+        FloatList columnOffsets = calculateTrackOffsets(columnSizes, columnGap, contentBoxInset.left);
+        // Masonry packing doesn't mirror its columns in RTL, so neither do its absolutely positioned children
+        layoutAbsoluteChildren(children, containerSize, border, scrollbarGutterX, scrollbarGutterY,
+            new TrackCounts(0, columnSizes.size(), 0), new TrackCounts(0, 0, 0), columnOffsets,
+            new FloatArrayList(), false);
+    }
+
     private void layoutAbsoluteChildren(
-        NodeId node,
+        List<NodeId> children,
         FloatSize containerSize,
         FloatRect border,
         float scrollbarGutterX,
@@ -4373,7 +4661,7 @@ public class GridComputer {
         boolean isRtl) {
         TaffyTree tree = layoutComputer.getTree();
 
-        for (NodeId childId : tree.getChildren(node)) {
+        for (NodeId childId : children) {
             TaffyStyle childStyle = tree.getStyle(childId);
             if (childStyle.getPosition() != TaffyPosition.ABSOLUTE) continue;
             if (childStyle.getBoxGenerationMode() == BoxGenerationMode.NONE) continue;
@@ -4537,23 +4825,11 @@ public class GridComputer {
             float y = gridArea.top + yInArea;
 
             TaffyPoint<Overflow> overflow = childStyle.getOverflow();
-            FloatSize scrollbarSize = new FloatSize(
-                overflow.y == Overflow.SCROLL ? childStyle.getScrollbarWidth() : 0f,
-                overflow.x == Overflow.SCROLL ? childStyle.getScrollbarWidth() : 0f
-            );
-
-            Layout layout = new Layout(
-                0,
-                new FloatPoint(x, y),
-                finalSize,
-                output.contentSize(),
-                scrollbarSize,
-                itemBorder,
-                itemPadding,
-                margin
-            );
+            float scrollbarWidth = overflow.y == Overflow.SCROLL ? childStyle.getScrollbarWidth() : 0f;
+            float scrollbarHeight = overflow.x == Overflow.SCROLL ? childStyle.getScrollbarWidth() : 0f;
 
-            tree.setUnroundedLayout(childId, layout);
+            tree.writeUnroundedLayout(childId, 0, x, y, finalSize, output.contentSize(),
+                scrollbarWidth, scrollbarHeight, itemBorder, itemPadding, margin);
         }
     }
 
@@ -4694,22 +4970,104 @@ public class GridComputer {
     }
 
     /**
-     * Helper method to distribute space to tracks while respecting fit-content limits.
+     * An item's width contributions to be measured ahead of column sizing.
+     */
+    private record PendingContribution(GridItem item, FloatSize availableSpace, boolean minContent, boolean maxContent) {}
+
+    /**
+     * Measures the min-content and max-content width contributions that column sizing is about to request,
+     * concurrently when there are enough of them. Each contribution is memoized on its item under the same
+     * available space column sizing uses, so column sizing then reads the memoized values and the result is
+     * identical to measuring serially.
+     * <p>
+     * Must run after the first pass over the tracks: span-1 items are only measured in unsized or flexible
+     * columns, and max-content contributions of flexible columns only when they are sized under an
+     * indefinite container.
+     */
+    private void measureColumnContributionsConcurrently(List<GridItem> items, FloatList sizes, GridTrackState tracks,
+                                                        int numColumns, TrackCounts colCounts, FloatSize nodeInnerSize,
+                                                        boolean indefiniteFlex, List<TrackSizingFunction> templateRows,
+                                                        List<TrackSizingFunction> autoRows, int numRows, FloatSize gap,
+                                                        FloatList knownRowSizes) {
+        if (!layoutComputer.shouldMeasureConcurrently(items.size())) {
+            return;
+        }
+        List<PendingContribution> pending = new ArrayList<>();
+        for (int itemIdx = 0; itemIdx < items.size(); itemIdx++) {
+            GridItem item = items.get(itemIdx);
+            if (!Float.isNaN(item.size.width)) {
+                continue;
+            }
+            int col = getItemColumnWithCounts(item, itemIdx, numColumns, colCounts);
+            int span = item.columnSpan;
+            boolean minContent;
+            boolean maxContent;
+            if (span == 1 && col >= 0 && col < numColumns) {
+                if (tracks.isFlexible(col)) {
+                    minContent = true;
+                    maxContent = indefiniteFlex;
+                } else if (Float.isNaN(sizes.getFloat(col))) {
+                    boolean hasOverflow = item.overflow != null &&
+                                          (item.overflow.x == Overflow.HIDDEN || item.overflow.x == Overflow.SCROLL ||
+                                           item.overflow.x == Overflow.CLIP);
+                    minContent = !hasOverflow;
+                    maxContent = true;
+                } else {
+                    continue;
+                }
+            } else if (span > 1 && col >= 0 && col + span <= numColumns) {
+                minContent = true;
+                maxContent = true;
+            } else {
+                continue;
+            }
+            float estimatedRowHeight = estimateItemRowHeightWithKnownSizes(item, templateRows, autoRows, numRows, nodeInnerSize.height, gap, knownRowSizes);
+            pending.add(new PendingContribution(item, new FloatSize(NaN, estimatedRowHeight), minContent, maxContent));
+        }
+        if (!layoutComputer.shouldMeasureConcurrently(pending.size())) {
+            return;
+        }
+        layoutComputer.measureAll(pending, (computer, contribution) -> {
+            GridItem item = contribution.item();
+            if (contribution.maxContent()) {
+                item.getMaxContentContributionWidthCached(computer, contribution.availableSpace(), nodeInnerSize);
+            }
+            if (contribution.minContent()) {
+                item.getMinContentContributionWidthCached(computer, contribution.availableSpace(), nodeInnerSize);
+            }
+        });
+    }
+
+    /**
+     * Sum of the current sizes of the tracks [start, start + span) and the gaps between them.
+     */
+    private static float spannedSize(FloatList sizes, int start, int span, float gap) {
+        float total = 0f;
+        for (int c = start; c < start + span; c++) {
+            total += sizes.getFloat(c);
+        }
+        return total + (span - 1) * gap;
+    }
+
+    /**
+     * Helper method to distribute space to tracks while respecting fit-content limits (NaN for no limit).
      * Returns the remaining space that couldn't be distributed.
      */
     private float distributeSpaceToTracks(
         float spaceToDistribute,
         IntList targetTracks,
         FloatList sizes,
-        Int2FloatMap fitContentLimits) {
+        float[] fitContentLimits,
+        IntArrayList growableTracks) {
 
         float remaining = spaceToDistribute;
 
         while (remaining > 0.001f) {
             // Find tracks that can still grow (not at fit-content limit)
-            IntList growableTracks = new IntArrayList();
-            for (int c : targetTracks) {
-                float limit = fitContentLimits.get(c);
+            growableTracks.clear();
+            for (int i = 0; i < targetTracks.size(); i++) {
+                int c = targetTracks.getInt(i);
+                float limit = fitContentLimits[c];
                 if (Float.isNaN(limit) || sizes.getFloat(c) < limit - 0.001f) {
                     growableTracks.add(c);
                 }
@@ -4722,8 +5080,9 @@ public class GridComputer {
             float extraPerTrack = remaining / growableTracks.size();
             float distributed = 0f;
 
-            for (int c : growableTracks) {
-                float limit = fitContentLimits.get(c);
+            for (int i = 0; i < growableTracks.size(); i++) {
+                int c = growableTracks.getInt(i);
+                float limit = fitContentLimits[c];
                 float currentSize = sizes.getFloat(c);
                 float increase = extraPerTrack;
 
@@ -4758,14 +5117,16 @@ public class GridComputer {
         float spaceToDistribute,
         IntList targetTracks,
         FloatList sizes,
-        FloatList growthLimits) {
+        FloatList growthLimits,
+        IntArrayList growableTracks) {
 
         float remaining = spaceToDistribute;
 
         while (remaining > 0.001f) {
             // Find tracks that can still grow (not at growth limit)
-            IntList growableTracks = new IntArrayList();
-            for (int c : targetTracks) {
+            growableTracks.clear();
+            for (int i = 0; i < targetTracks.size(); i++) {
+                int c = targetTracks.getInt(i);
                 float currentSize = Float.isNaN(sizes.getFloat(c)) ? 0f : sizes.getFloat(c);
                 float limit = Float.isNaN(growthLimits.getFloat(c)) ? Float.MAX_VALUE : growthLimits.getFloat(c);
 
@@ -4782,7 +5143,8 @@ public class GridComputer {
             float extraPerTrack = remaining / growableTracks.size();
             float distributed = 0f;
 
-            for (int c : growableTracks) {
+            for (int i = 0; i < growableTracks.size(); i++) {
+                int c = growableTracks.getInt(i);
                 float currentSize = !Float.isNaN(sizes.getFloat(c)) ? sizes.getFloat(c) : 0f;
                 float limit = !Float.isNaN(growthLimits.getFloat(c)) ? growthLimits.getFloat(c) : Float.MAX_VALUE;
 
@@ -4806,50 +5168,95 @@ public class GridComputer {
     }
 
     /**
-     * Estimate the min-content contribution of a track based on span=1 items.
-     * This is used when we need to know a track's size before it has been formally computed.
+     * Min-content estimates of columns based on their span=1 items, used when we need to know a track's size before it
+     * has been formally computed. Items are bucketed by column in a single pass, and a column's items are only
+     * measured the first time its estimate is needed, so columns that never need one cost no measurements.
      */
-    private float estimateTrackMinContent(int trackIndex, List<GridItem> items, int numColumns, FloatSize nodeInnerSize, TrackCounts colCounts) {
-        float minContent = 0f;
-
-        for (int itemIdx = 0; itemIdx < items.size(); itemIdx++) {
-            GridItem item = items.get(itemIdx);
-            int col = getItemColumnWithCounts(item, itemIdx, numColumns, colCounts);
-            int span = item.columnSpan;
-
-            // Only consider span=1 items in this track
-            if (col == trackIndex && span == 1) {
-                // Horizontal percentage margins resolve to 0 in track sizing to avoid cyclic dependency
-                FloatSize marginAxisSums = item.getMarginAxisSumsWithBaselineShims(nodeInnerSize.width);
-                float itemMinWidth;
-
-                // Check item's min-size constraint first
-                float itemMinWidthConstraint = item.minSize != null && !Float.isNaN(item.minSize.width)
-                                               ? item.minSize.width + marginAxisSums.width
-                                               : 0f;
-
-                if (!Float.isNaN(item.size.width)) {
-                    itemMinWidth = item.size.width + marginAxisSums.width;
+    private final class TrackMinContentEstimates {
+        private final List<GridItem> items;
+        private final FloatSize nodeInnerSize;
+        /** The span=1 items of column c are itemIndices[bucketStart[c]] until itemIndices[bucketStart[c + 1]] */
+        private final int[] bucketStart;
+        private final int[] itemIndices;
+        private final float[] estimates;
+
+        TrackMinContentEstimates(List<GridItem> items, int numColumns, FloatSize nodeInnerSize, TrackCounts colCounts) {
+            this.items = items;
+            this.nodeInnerSize = nodeInnerSize;
+            int[] columns = new int[items.size()];
+            bucketStart = new int[numColumns + 1];
+            for (int itemIdx = 0; itemIdx < items.size(); itemIdx++) {
+                GridItem item = items.get(itemIdx);
+                int col = item.columnSpan == 1 ? getItemColumnWithCounts(item, itemIdx, numColumns, colCounts) : -1;
+                if (col < 0 || col >= numColumns) {
+                    col = -1;
                 } else {
-                    // Measure min-content
-                    LayoutOutput minOutput = layoutComputer.performChildLayout(
-                        item.nodeId,
-                        new FloatSize(NaN, NaN),
-                        nodeInnerSize,
-                        new TaffySize<>(AvailableSpace.minContent(), AvailableSpace.maxContent()),
-                        SizingMode.INHERENT_SIZE,
-                        new TaffyLine<>(false, false)
-                    );
-                    itemMinWidth = minOutput.size().width + marginAxisSums.width;
+                    bucketStart[col + 1]++;
+                }
+                columns[itemIdx] = col;
+            }
+            for (int c = 0; c < numColumns; c++) {
+                bucketStart[c + 1] += bucketStart[c];
+            }
+            itemIndices = new int[bucketStart[numColumns]];
+            int[] next = Arrays.copyOf(bucketStart, numColumns);
+            for (int itemIdx = 0; itemIdx < columns.length; itemIdx++) {
+                if (columns[itemIdx] >= 0) {
+                    itemIndices[next[columns[itemIdx]]++] = itemIdx;
                 }
+            }
+            estimates = new float[numColumns];
+            Arrays.fill(estimates, NaN);
+        }
 
-                // Apply min-size constraint
-                itemMinWidth = Math.max(itemMinWidth, itemMinWidthConstraint);
-                minContent = Math.max(minContent, itemMinWidth);
+        float get(int column) {
+            float estimate = estimates[column];
+            if (Float.isNaN(estimate)) {
+                estimate = 0f;
+                for (int k = bucketStart[column]; k < bucketStart[column + 1]; k++) {
+                    estimate = Math.max(estimate, estimateItemMinContentWidth(items.get(itemIndices[k]), nodeInnerSize));
+                }
+                estimates[column] = estimate;
             }
+            return estimate;
+        }
+    }
+
+    /**
+     * Min-content width of a span=1 item including margins and its min-size constraint, memoized on the item.
+     */
+    private float estimateItemMinContentWidth(GridItem item, FloatSize nodeInnerSize) {
+        if (!Float.isNaN(item.estimatedMinContentWidth)) {
+            return item.estimatedMinContentWidth;
+        }
+        // Horizontal percentage margins resolve to 0 in track sizing to avoid cyclic dependency
+        FloatSize marginAxisSums = item.getMarginAxisSumsWithBaselineShims(nodeInnerSize.width);
+        float itemMinWidth;
+
+        // Check item's min-size constraint first
+        float itemMinWidthConstraint = item.minSize != null && !Float.isNaN(item.minSize.width)
+                                       ? item.minSize.width + marginAxisSums.width
+                                       : 0f;
+
+        if (!Float.isNaN(item.size.width)) {
+            itemMinWidth = item.size.width + marginAxisSums.width;
+        } else {
+            // Measure min-content
+            LayoutOutput minOutput = layoutComputer.performChildLayout(
+                item.nodeId,
+                new FloatSize(NaN, NaN),
+                nodeInnerSize,
+                new TaffySize<>(AvailableSpace.minContent(), AvailableSpace.maxContent()),
+                SizingMode.INHERENT_SIZE,
+                new TaffyLine<>(false, false)
+            );
+            itemMinWidth = minOutput.size().width + marginAxisSums.width;
         }
 
-        return minContent;
+        // Apply min-size constraint
+        itemMinWidth = Math.max(itemMinWidth, itemMinWidthConstraint);
+        item.estimatedMinContentWidth = itemMinWidth;
+        return itemMinWidth;
     }
 
     // Helper methods
@@ -0,0 +1,332 @@
+package dev.vfyjxf.taffy.tree;
+
+import dev.vfyjxf.taffy.style.BoxGenerationMode;
+import dev.vfyjxf.taffy.style.GridPlacement;
+import dev.vfyjxf.taffy.style.GridTemplateComponent;
+import dev.vfyjxf.taffy.style.TaffyPosition;
+import dev.vfyjxf.taffy.style.TaffyStyle;
+import dev.vfyjxf.taffy.style.TrackSizingFunction;
+import dev.vfyjxf.taffy.tree.grid.NamedLineResolver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Per-container cache of the parts of a grid template that only depend on the container's style and, for
+ * {@code auto-fill} / {@code auto-fit} repetitions, its inner size and gap.
+ * <p>
+ * The cache is keyed on the style instance; {@link TaffyTree#setStyle(NodeId, TaffyStyle)} and
+ * {@link TaffyTree#markDirty(NodeId)} on the container drop it, so styles edited in place are picked up as long as
+ * the container is marked dirty.
+ * <p>
+ * It also keeps the resolved placement of the items from the last layout. Placement only depends on the container
+ * style, the explicit track counts and the children's placement properties, so it is reused as long as the children
+ * and those properties are unchanged; relayouts caused by content changes skip placement entirely. Masonry
+ * containers keep their column packing here instead, see {@link MasonryLayout}.
+ */
+final class GridTemplateCache {
+
+    /** The style the cached values were derived from (identity key) */
+    private final TaffyStyle style;
+
+    private final boolean columnsDependOnSize;
+    private final boolean rowsDependOnSize;
+
+    // Column axis
+    private List<TrackSizingFunction> columns;
+    private GridComputer.AutoFitInfo columnAutoFit;
+    private float columnSize;
+    private float columnGap;
+
+    // Row axis
+    private List<TrackSizingFunction> rows;
+    private float rowSize;
+    private float rowGap;
+
+    private NamedLineResolver namedLines;
+
+    // Placement, valid for the children snapshot below
+    private static final byte CHILD_HIDDEN = 0;
+    private static final byte CHILD_ABSOLUTE = 1;
+    private static final byte CHILD_IN_FLOW = 2;
+    /** Integer.MIN_VALUE stands for an auto (null) line */
+    private static final int AUTO_LINE = Integer.MIN_VALUE;
+
+    private boolean hasPlacement;
+    private int placedExplicitColumns;
+    private int placedExplicitRows;
+    private int childCount;
+    private NodeId[] childIds = new NodeId[0];
+    private byte[] childKinds = new byte[0];
+    /** Column start, column end, row start and row end placement per child */
+    private GridPlacement[] childPlacements = new GridPlacement[0];
+    private int itemCount;
+    /** Column start, column end, column span, row start, row end and row span per in-flow item */
+    private int[] itemPlacements = new int[0];
+    private final TrackCounts placedColumnCounts = new TrackCounts(0, 0, 0);
+    private final TrackCounts placedRowCounts = new TrackCounts(0, 0, 0);
+
+    private MasonryLayout.State masonry;
+
+    // Columns handed down by the parent grid of a column subgrid
+    private NodeId subgridParent;
+    private float[] subgridSizes;
+    private float subgridGap;
+    private List<TrackSizingFunction> subgridTracks;
+
+    GridTemplateCache(TaffyStyle style) {
+        this.style = style;
+        this.columnsDependOnSize = hasAutoRepetition(style.gridTemplateColumnsWithRepeat);
+        this.rowsDependOnSize = hasAutoRepetition(style.gridTemplateRowsWithRepeat);
+    }
+
+    private static boolean hasAutoRepetition(List<GridTemplateComponent> template) {
+        if (template == null) {
+            return false;
+        }
+        for (GridTemplateComponent component : template) {
+            if (component.isAutoRepetition()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean isFor(TaffyStyle style) {
+        return this.style == style;
+    }
+
+    // === Columns ===
+
+    boolean hasColumns(float size, float gap) {
+        return columns != null
+               && (!columnsDependOnSize || (Float.compare(columnSize, size) == 0 && Float.compare(columnGap, gap) == 0));
+    }
+
+    List<TrackSizingFunction> columns() {
+        return columns;
+    }
+
+    /**
+     * The auto-fit tracks of the cached column expansion, or null if the template has no auto-fit repetition.
+     */
+    GridComputer.AutoFitInfo columnAutoFit() {
+        return columnAutoFit;
+    }
+
+    void setColumns(float size, float gap, List<TrackSizingFunction> columns, GridComputer.AutoFitInfo autoFit) {
+        this.columnSize = size;
+        this.columnGap = gap;
+        this.columns = columns;
+        this.columnAutoFit = autoFit;
+    }
+
+    // === Rows ===
+
+    boolean hasRows(float size, float gap) {
+        return rows != null
+               && (!rowsDependOnSize || (Float.compare(rowSize, size) == 0 && Float.compare(rowGap, gap) == 0));
+    }
+
+    List<TrackSizingFunction> rows() {
+        return rows;
+    }
+
+    void setRows(float size, float gap, List<TrackSizingFunction> rows) {
+        this.rowSize = size;
+        this.rowGap = gap;
+        this.rows = rows;
+    }
+
+    // === Named Lines ===
+
+    /**
+     * Returns the named line resolver for the style, building it on first use.
+     */
+    NamedLineResolver namedLines() {
+        if (namedLines == null) {
+            NamedLineResolver resolver = new NamedLineResolver(style);
+            List<TrackSizingFunction> templateCols = style.getGridTemplateColumns();
+            List<TrackSizingFunction> templateRows = style.getGridTemplateRows();
+            resolver.setExplicitColumnCount(templateCols != null ? templateCols.size() : 0);
+            resolver.setExplicitRowCount(templateRows != null ? templateRows.size() : 0);
+            namedLines = resolver;
+        }
+        return namedLines;
+    }
+
+    // === Placement ===
+
+    private static byte childKind(TaffyStyle style) {
+        if (style.getBoxGenerationMode() == BoxGenerationMode.NONE) {
+            return CHILD_HIDDEN;
+        }
+        return style.getPosition() == TaffyPosition.ABSOLUTE ? CHILD_ABSOLUTE : CHILD_IN_FLOW;
+    }
+
+    /**
+     * Whether the placement of the last layout is still valid: same explicit track counts, same children in the
+     * same order, and no child changed its display, position or grid lines.
+     */
+    boolean hasPlacement(TaffyTree tree, List<NodeId> children, int explicitColumns, int explicitRows) {
+        if (!hasPlacement || explicitColumns != placedExplicitColumns || explicitRows != placedExplicitRows
+            || children.size() != childCount) {
+            return false;
+        }
+        for (int i = 0; i < childCount; i++) {
+            NodeId child = children.get(i);
+            if (!child.equals(childIds[i])) {
+                return false;
+            }
+            TaffyStyle style = tree.getStyle(child);
+            int p = i * 4;
+            if (childKinds[i] != childKind(style)
+                || childPlacements[p] != style.getGridColumnStart()
+                || childPlacements[p + 1] != style.getGridColumnEnd()
+                || childPlacements[p + 2] != style.getGridRowStart()
+                || childPlacements[p + 3] != style.getGridRowEnd()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copies the cached placement of the in-flow item with the given index onto the item.
+     */
+    void applyPlacement(int itemIndex, GridComputer.GridItem item) {
+        int p = itemIndex * 6;
+        item.columnStart = line(itemPlacements[p]);
+        item.columnEnd = line(itemPlacements[p + 1]);
+        item.columnSpan = itemPlacements[p + 2];
+        item.rowStart = line(itemPlacements[p + 3]);
+        item.rowEnd = line(itemPlacements[p + 4]);
+        item.rowSpan = itemPlacements[p + 5];
+    }
+
+    TrackCounts placedColumnCounts() {
+        return new TrackCounts(placedColumnCounts);
+    }
+
+    TrackCounts placedRowCounts() {
+        return new TrackCounts(placedRowCounts);
+    }
+
+    /**
+     * Records the placement of a finished auto-placement pass.
+     */
+    void setPlacement(TaffyTree tree, List<NodeId> children, int explicitColumns, int explicitRows,
+                      List<GridComputer.GridItem> items, TrackCounts columnCounts, TrackCounts rowCounts) {
+        int count = children.size();
+        if (childIds.length < count) {
+            childIds = new NodeId[count];
+            childKinds = new byte[count];
+            childPlacements = new GridPlacement[count * 4];
+        } else {
+            Arrays.fill(childIds, count, childIds.length, null);
+            Arrays.fill(childPlacements, count * 4, childPlacements.length, null);
+        }
+        for (int i = 0; i < count; i++) {
+            NodeId child = children.get(i);
+            TaffyStyle style = tree.getStyle(child);
+            int p = i * 4;
+            childIds[i] = child;
+            childKinds[i] = childKind(style);
+            childPlacements[p] = style.getGridColumnStart();
+            childPlacements[p + 1] = style.getGridColumnEnd();
+            childPlacements[p + 2] = style.getGridRowStart();
+            childPlacements[p + 3] = style.getGridRowEnd();
+        }
+
+        int itemTotal = items.size();
+        if (itemPlacements.length < itemTotal * 6) {
+            itemPlacements = new int[itemTotal * 6];
+        }
+        for (int i = 0; i < itemTotal; i++) {
+            GridComputer.GridItem item = items.get(i);
+            int p = i * 6;
+            itemPlacements[p] = lineBits(item.columnStart);
+            itemPlacements[p + 1] = lineBits(item.columnEnd);
+            itemPlacements[p + 2] = item.columnSpan;
+            itemPlacements[p + 3] = lineBits(item.rowStart);
+            itemPlacements[p + 4] = lineBits(item.rowEnd);
+            itemPlacements[p + 5] = item.rowSpan;
+        }
+
+        this.childCount = count;
+        this.itemCount = itemTotal;
+        this.placedExplicitColumns = explicitColumns;
+        this.placedExplicitRows = explicitRows;
+        this.placedColumnCounts.update(columnCounts);
+        this.placedRowCounts.update(rowCounts);
+        this.hasPlacement = true;
+    }
+
+    int placedItemCount() {
+        return itemCount;
+    }
+
+    // === Masonry ===
+
+    /**
+     * Returns the column packing state of a masonry container, creating it on first use.
+     */
+    MasonryLayout.State masonry() {
+        if (masonry == null) {
+            masonry = new MasonryLayout.State();
+        }
+        return masonry;
+    }
+
+    // === Subgrid ===
+
+    /**
+     * Records the column sizes the parent grid resolved for this subgrid.
+     *
+     * @return whether they differ from the recorded ones
+     */
+    boolean setSubgridColumns(NodeId parent, float[] sizes, float gap) {
+        if (parent.equals(subgridParent) && Arrays.equals(sizes, subgridSizes) && Float.compare(gap, subgridGap) == 0) {
+            return false;
+        }
+        List<TrackSizingFunction> tracks = new ArrayList<>(sizes.length);
+        for (float size : sizes) {
+            tracks.add(TrackSizingFunction.fixed(size));
+        }
+        this.subgridParent = parent;
+        this.subgridSizes = sizes;
+        this.subgridGap = gap;
+        this.subgridTracks = tracks;
+        return true;
+    }
+
+    /**
+     * The columns handed down by the given parent as fixed tracks, or null if that parent did not size this subgrid.
+     */
+    List<TrackSizingFunction> subgridColumns(NodeId parent) {
+        return parent != null && parent.equals(subgridParent) ? subgridTracks : null;
+    }
+
+    float subgridColumnGap() {
+        return subgridGap;
+    }
+
+    /**
+     * Forgets the columns handed down by the parent, which no longer sizes this subgrid.
+     */
+    void clearSubgridColumns() {
+        subgridParent = null;
+        subgridSizes = null;
+        subgridGap = 0f;
+        subgridTracks = null;
+    }
+
+    private static int lineBits(Integer line) {
+        return line != null ? line : AUTO_LINE;
+    }
+
+    private static Integer line(int bits) {
+        return bits != AUTO_LINE ? bits : null;
+    }
+}
@@ -0,0 +1,201 @@
+package dev.vfyjxf.taffy.tree;
+
+import dev.vfyjxf.taffy.style.LengthPercentage;
+import dev.vfyjxf.taffy.style.TrackSizingFunction;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Primitive per-track state used while sizing the columns or rows of one grid container.
+ * <p>
+ * Track sizing functions are classified once per sizing pass into flag bytes, so the per-item loops test bits
+ * instead of re-inspecting {@link TrackSizingFunction}s. Span-1 contributions are accumulated per track in a single
+ * pass over the items, flexible tracks are found through an index array instead of list searches, and the target
+ * lists used to distribute spanning items' contributions are reused across items. Instances are reset and reused
+ * across grid containers.
+ */
+final class GridTrackState {
+
+    // === Track Flags ===
+
+    /** The min track sizing function is intrinsic (auto, min-content or max-content) */
+    static final byte MIN_INTRINSIC = 1;
+    /** The min track sizing function is min-content or max-content */
+    static final byte MIN_CONTENT = 1 << 1;
+    /** The min track sizing function is max-content */
+    static final byte MIN_MAX_CONTENT = 1 << 2;
+    /** The min track sizing function is auto, excluding minmax(auto, min-content) */
+    static final byte MIN_AUTO = 1 << 3;
+    /** The max track sizing function is flexible */
+    static final byte MAX_FLEXIBLE = 1 << 4;
+
+    int count;
+    /** Classification flags per track, see {@link #classify} */
+    byte[] flags = new byte[0];
+    /** Index into the container's fr track lists, or -1 for non-flexible tracks */
+    int[] flexIndex = new int[0];
+    /** Resolved fit-content limit per track, or NaN for tracks without a fit-content max */
+    float[] fitContentLimit = new float[0];
+
+    // Span-1 contributions, accumulated by column
+    float[] minContent = new float[0];
+    float[] maxContent = new float[0];
+    float[] pureMaxContent = new float[0];
+
+    // Distribution targets of the current spanning item
+    final IntArrayList intrinsicTargets = new IntArrayList();
+    final IntArrayList contentTargets = new IntArrayList();
+    final IntArrayList maxContentTargets = new IntArrayList();
+    final IntArrayList autoTargets = new IntArrayList();
+    final IntArrayList flexTargets = new IntArrayList();
+    /** Tracks that can still grow during one distribution round */
+    final IntArrayList growable = new IntArrayList();
+    /** Tracks that take part in maximising and stretching */
+    final IntArrayList expandable = new IntArrayList();
+
+    // Items bucketed by their start track, see bucketByTrack
+    int[] bucketStart = new int[1];
+    int[] bucketItems = new int[0];
+    private int[] itemTracks = new int[0];
+
+    /**
+     * Clears the state and sizes it for the given number of tracks.
+     */
+    void reset(int count) {
+        this.count = count;
+        if (flags.length < count) {
+            int capacity = Math.max(count, flags.length * 2);
+            flags = new byte[capacity];
+            flexIndex = new int[capacity];
+            fitContentLimit = new float[capacity];
+            minContent = new float[capacity];
+            maxContent = new float[capacity];
+            pureMaxContent = new float[capacity];
+        }
+        Arrays.fill(flags, 0, count, (byte) 0);
+        Arrays.fill(flexIndex, 0, count, -1);
+        Arrays.fill(fitContentLimit, 0, count, Float.NaN);
+        Arrays.fill(minContent, 0, count, 0f);
+        Arrays.fill(maxContent, 0, count, 0f);
+        Arrays.fill(pureMaxContent, 0, count, 0f);
+    }
+
+    /**
+     * Buckets the items by their start track with a counting sort: the items starting in track {@code t} are
+     * {@code bucketItems[bucketStart[t] .. bucketStart[t + 1])}, in item order. Items outside the tracks are dropped.
+     */
+    void bucketByTrack(int itemCount, IntUnaryOperator trackOf) {
+        if (bucketStart.length < count + 1) {
+            bucketStart = new int[Math.max(count + 1, bucketStart.length * 2)];
+        }
+        if (bucketItems.length < itemCount) {
+            bucketItems = new int[Math.max(itemCount, bucketItems.length * 2)];
+            itemTracks = new int[bucketItems.length];
+        }
+        Arrays.fill(bucketStart, 0, count + 1, 0);
+        for (int i = 0; i < itemCount; i++) {
+            int track = trackOf.applyAsInt(i);
+            itemTracks[i] = track;
+            if (track >= 0 && track < count) {
+                bucketStart[track + 1]++;
+            }
+        }
+        for (int t = 0; t < count; t++) {
+            bucketStart[t + 1] += bucketStart[t];
+        }
+        // Fill using bucketStart[t] as the cursor of track t, then shift the starts back
+        for (int i = 0; i < itemCount; i++) {
+            int track = itemTracks[i];
+            if (track >= 0 && track < count) {
+                bucketItems[bucketStart[track]++] = i;
+            }
+        }
+        for (int t = count; t > 0; t--) {
+            bucketStart[t] = bucketStart[t - 1];
+        }
+        bucketStart[0] = 0;
+    }
+
+    boolean isFlexible(int track) {
+        return track >= 0 && track < count && flexIndex[track] >= 0;
+    }
+
+    /**
+     * Classifies the tracks by their sizing functions. A track without a sizing function is auto.
+     * Fit-content limits with an unresolvable percentage are unlimited.
+     */
+    void classify(List<TrackSizingFunction> functions, float innerSize) {
+        for (int c = 0; c < count; c++) {
+            TrackSizingFunction track = (functions != null && c < functions.size()) ? functions.get(c) : null;
+            TrackSizingFunction minFunc = (track != null && track.isMinmax()) ? track.getMinFunc() : track;
+            TrackSizingFunction maxFunc = (track != null && track.isMinmax()) ? track.getMaxFunc() : track;
+
+            boolean minIsAuto = track == null ||
+                                (minFunc != null && minFunc.isAuto()) ||
+                                track.isFr() || track.isFitContent();
+            boolean minIsMinContent = minFunc != null && minFunc.isMinContent();
+            boolean minIsMaxContent = minFunc != null && minFunc.isMaxContent();
+            boolean maxIsMinContent = maxFunc != null && maxFunc.isMinContent();
+
+            byte f = 0;
+            if (minIsAuto || minIsMinContent || minIsMaxContent) {
+                f |= MIN_INTRINSIC;
+            }
+            if (minIsMinContent || minIsMaxContent) {
+                f |= MIN_CONTENT;
+            }
+            if (minIsMaxContent) {
+                f |= MIN_MAX_CONTENT;
+            }
+            // Chrome compat: minmax(auto, min-content) is not part of the auto set in max-content sizing
+            if (minIsAuto && !maxIsMinContent) {
+                f |= MIN_AUTO;
+            }
+            if (maxFunc != null && maxFunc.isFlexible()) {
+                f |= MAX_FLEXIBLE;
+            }
+            flags[c] = f;
+
+            if (maxFunc != null && maxFunc.isFitContent()) {
+                LengthPercentage limitArg = maxFunc.getFitContentArgument();
+                float limit;
+                if (limitArg == null) {
+                    limit = Float.MAX_VALUE;
+                } else if (limitArg.isPercent()) {
+                    float resolved = limitArg.maybeResolve(innerSize);
+                    limit = !Float.isNaN(resolved) ? resolved : Float.MAX_VALUE;
+                } else {
+                    limit = limitArg.resolveOrZero(innerSize);
+                }
+                fitContentLimit[c] = limit;
+            } else {
+                fitContentLimit[c] = Float.NaN;
+            }
+        }
+    }
+
+    /**
+     * Collects the distribution targets among the tracks [start, end) into the target lists.
+     *
+     * @return whether any of the tracks is flexible
+     */
+    boolean collectTargets(int start, int end) {
+        intrinsicTargets.clear();
+        contentTargets.clear();
+        maxContentTargets.clear();
+        autoTargets.clear();
+        flexTargets.clear();
+        for (int c = start; c < end; c++) {
+            byte f = flags[c];
+            if ((f & MIN_INTRINSIC) != 0) intrinsicTargets.add(c);
+            if ((f & MIN_CONTENT) != 0) contentTargets.add(c);
+            if ((f & MIN_MAX_CONTENT) != 0) maxContentTargets.add(c);
+            if ((f & MIN_AUTO) != 0) autoTargets.add(c);
+            if ((f & MAX_FLEXIBLE) != 0) flexTargets.add(c);
+        }
+        return !flexTargets.isEmpty();
+    }
+}
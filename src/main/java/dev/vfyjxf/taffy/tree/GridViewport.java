@@ -0,0 +1,226 @@
+package dev.vfyjxf.taffy.tree;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+
+import java.util.Arrays;
+
+/**
+ * Virtualization settings and results for a grid container whose rows all have the same height.
+ * <p>
+ * A grid container with a viewport attached through {@link TaffyTree#setGridViewport(NodeId, GridViewport)}
+ * is laid out in windowed mode: children fill the cells of the explicit columns one row at a time in child order,
+ * every row has the same height, and only the children whose cells intersect the viewport rectangle are laid out.
+ * Layout and rounding only visit the cells in the viewport and the ones that just left it, so the work a scroll
+ * causes inside the container is proportional to the number of visible cells rather than the number of children.
+ * Nodes outside the container are still visited by the rounding pass as usual.
+ * <p>
+ * The row height is, in order of preference, the height given to {@link #GridViewport(float)}, the size of a
+ * single fixed {@code gridAutoRows} track, or the tallest child among the first {@link #sampleRows()} rows.
+ * Intrinsic columns are sized from the same sample rows. Explicit item placement, spans and self alignment are
+ * not honoured in windowed mode; every child is stretched to its cell unless it declares its own size.
+ * <p>
+ * Children outside the viewport are not laid out. Children that scroll out of the viewport have their layout
+ * reset to zero so that stale positions are never reported.
+ */
+public final class GridViewport {
+
+    /** Number of rows sampled for intrinsic column and row sizes by default */
+    public static final int DEFAULT_SAMPLE_ROWS = 4;
+
+    private final float declaredRowHeight;
+    private final int sampleRows;
+
+    // Viewport rectangle relative to the container's border box
+    private float viewX;
+    private float viewY;
+    private float viewWidth;
+    private float viewHeight;
+
+    // Results of the last layout
+    int columnCount;
+    int rowCount;
+    float rowHeight;
+    float rowGap;
+    float firstRowOffset;
+    float[] columnOffsets = new float[0];
+    float[] columnSizes = new float[0];
+    float[] sampleMinContent = new float[0];
+    float[] sampleMaxContent = new float[0];
+    float contentWidth;
+    float contentHeight;
+
+    // Cells laid out by the last layout, as [firstRow, rowEnd) x [firstColumn, columnEnd)
+    int firstVisibleRow;
+    int visibleRowEnd;
+    int firstVisibleColumn;
+    int visibleColumnEnd;
+
+    /** Whether the last layout of the container was windowed, so the rounding pass only visits the window */
+    boolean windowed;
+    /** Children reset since the last rounding pass because they left the window */
+    final IntArrayList scrolledOut = new IntArrayList();
+
+    /**
+     * Creates a viewport whose row height is taken from the style or sampled from the first rows.
+     */
+    public GridViewport() {
+        this(Float.NaN, DEFAULT_SAMPLE_ROWS);
+    }
+
+    /**
+     * Creates a viewport with a declared row height.
+     */
+    public GridViewport(float rowHeight) {
+        this(rowHeight, DEFAULT_SAMPLE_ROWS);
+    }
+
+    private GridViewport(float declaredRowHeight, int sampleRows) {
+        if (sampleRows < 1) {
+            throw new IllegalArgumentException("sampleRows must be at least 1: " + sampleRows);
+        }
+        this.declaredRowHeight = declaredRowHeight;
+        this.sampleRows = sampleRows;
+    }
+
+    /**
+     * Creates a viewport that samples the given number of leading rows for intrinsic sizes.
+     */
+    public static GridViewport sampled(int sampleRows) {
+        return new GridViewport(Float.NaN, sampleRows);
+    }
+
+    /**
+     * The declared row height, or NaN if the row height is resolved from the style or sampled.
+     */
+    public float declaredRowHeight() {
+        return declaredRowHeight;
+    }
+
+    public int sampleRows() {
+        return sampleRows;
+    }
+
+    void setView(float x, float y, float width, float height) {
+        this.viewX = x;
+        this.viewY = y;
+        this.viewWidth = Math.max(0f, width);
+        this.viewHeight = Math.max(0f, height);
+    }
+
+    public float viewX() {
+        return viewX;
+    }
+
+    public float viewY() {
+        return viewY;
+    }
+
+    public float viewWidth() {
+        return viewWidth;
+    }
+
+    public float viewHeight() {
+        return viewHeight;
+    }
+
+    // === Results ===
+
+    public int columnCount() {
+        return columnCount;
+    }
+
+    public int rowCount() {
+        return rowCount;
+    }
+
+    /**
+     * The resolved height shared by every row.
+     */
+    public float rowHeight() {
+        return rowHeight;
+    }
+
+    /**
+     * Offset of the top edge of a row from the container's border box.
+     */
+    public float rowOffset(int row) {
+        return firstRowOffset + row * (rowHeight + rowGap);
+    }
+
+    /**
+     * Index of the row at the given offset from the container's border box, clamped to the existing rows,
+     * or -1 if the grid has no rows.
+     */
+    public int rowAt(float y) {
+        if (rowCount == 0) {
+            return -1;
+        }
+        float pitch = rowHeight + rowGap;
+        if (pitch <= 0f) {
+            return 0;
+        }
+        int row = (int) Math.floor((y - firstRowOffset) / pitch);
+        return Math.max(0, Math.min(rowCount - 1, row));
+    }
+
+    /**
+     * Offset of the left edge of a column from the container's border box.
+     */
+    public float columnOffset(int column) {
+        return columnOffsets[column];
+    }
+
+    public float columnWidth(int column) {
+        return columnSizes[column];
+    }
+
+    /**
+     * Width of all columns and the gaps between them.
+     */
+    public float contentWidth() {
+        return contentWidth;
+    }
+
+    /**
+     * Height of all rows and the gaps between them.
+     */
+    public float contentHeight() {
+        return contentHeight;
+    }
+
+    /**
+     * The first row laid out by the last layout pass.
+     */
+    public int firstVisibleRow() {
+        return firstVisibleRow;
+    }
+
+    /**
+     * The row after the last row laid out by the last layout pass.
+     */
+    public int visibleRowEnd() {
+        return visibleRowEnd;
+    }
+
+    public int firstVisibleColumn() {
+        return firstVisibleColumn;
+    }
+
+    public int visibleColumnEnd() {
+        return visibleColumnEnd;
+    }
+
+    void ensureColumns(int count) {
+        if (columnSizes.length < count) {
+            columnSizes = new float[count];
+            columnOffsets = new float[count];
+            sampleMinContent = new float[count];
+            sampleMaxContent = new float[count];
+        } else {
+            Arrays.fill(columnSizes, 0, count, 0f);
+            Arrays.fill(sampleMinContent, 0, count, 0f);
+            Arrays.fill(sampleMaxContent, 0, count, 0f);
+        }
+        columnCount = count;
+    }
+}
@@ -3,30 +3,61 @@ package dev.vfyjxf.taffy.tree;
 import dev.vfyjxf.taffy.geometry.FloatPoint;
 import dev.vfyjxf.taffy.geometry.FloatRect;
 import dev.vfyjxf.taffy.geometry.FloatSize;
+import dev.vfyjxf.taffy.util.RoundLayout;
+
+import java.util.Objects;
 
 /**
  * The final result of a layout algorithm for a single node.
- *
- * @param order         The relative ordering of the node. Nodes with a higher order should be rendered on top.
- * @param location      The top-left corner of the node
- * @param size          The width and height of the node
- * @param contentSize   The width and height of the content inside the node.
- *                      This may be larger than the size of the node in the case of overflowing content.
- * @param scrollbarSize The size of the scrollbars in each dimension. If there is no scrollbar then the size will be zero.
- * @param border        The size of the borders of the node
- * @param padding       The size of the padding of the node
- * @param margin        The size of the margin of the node
+ * <p>
+ * The layouts returned by {@link TaffyTree#getLayout(NodeId)} are owned by the tree and updated in place by
+ * every layout pass, so they act as read-only views of the node's current layout. Use {@link #copy()}
+ * to keep a snapshot across passes.
  */
-public record Layout(
-    int order,
-    FloatPoint location,
-    FloatSize size,
-    FloatSize contentSize,
-    FloatSize scrollbarSize,
-    FloatRect border,
-    FloatRect padding,
-    FloatRect margin
-) {
+public final class Layout {
+
+    /** The relative ordering of the node. Nodes with a higher order should be rendered on top. */
+    private int order;
+    /** The top-left corner of the node */
+    private final FloatPoint location;
+    /** The width and height of the node */
+    private final FloatSize size;
+    /**
+     * The width and height of the content inside the node.
+     * This may be larger than the size of the node in the case of overflowing content.
+     */
+    private final FloatSize contentSize;
+    /** The size of the scrollbars in each dimension. If there is no scrollbar then the size will be zero. */
+    private final FloatSize scrollbarSize;
+    /** The size of the borders of the node */
+    private final FloatRect border;
+    /** The size of the padding of the node */
+    private final FloatRect padding;
+    /** The size of the margin of the node */
+    private final FloatRect margin;
+
+    /**
+     * Creates a new Layout from the given components. The components are used as-is, not copied.
+     */
+    public Layout(
+        int order,
+        FloatPoint location,
+        FloatSize size,
+        FloatSize contentSize,
+        FloatSize scrollbarSize,
+        FloatRect border,
+        FloatRect padding,
+        FloatRect margin
+    ) {
+        this.order = order;
+        this.location = location;
+        this.size = size;
+        this.contentSize = contentSize;
+        this.scrollbarSize = scrollbarSize;
+        this.border = border;
+        this.padding = padding;
+        this.margin = margin;
+    }
 
     /**
      * Creates a new zero-Layout
@@ -57,14 +88,109 @@ public record Layout(
             order,
             location.copy(),
             size.copy(),
-            contentSize.copy(),
-            scrollbarSize.copy(),
+            contentSize != null ? contentSize.copy() : null,
+            scrollbarSize != null ? scrollbarSize.copy() : null,
             border.copy(),
             padding.copy(),
             margin.copy()
         );
     }
 
+    // === In-place Updates (tree-owned layouts only) ===
+
+    /**
+     * Overwrites this layout with the given values. A null content size falls back to the node size.
+     */
+    void set(int order, float x, float y, FloatSize size, FloatSize contentSize,
+             float scrollbarWidth, float scrollbarHeight, FloatRect border, FloatRect padding, FloatRect margin) {
+        this.order = order;
+        location.x = x;
+        location.y = y;
+        setSize(this.size, size);
+        setSize(this.contentSize, contentSize != null ? contentSize : size);
+        this.scrollbarSize.width = scrollbarWidth;
+        this.scrollbarSize.height = scrollbarHeight;
+        setRect(this.border, border);
+        setRect(this.padding, padding);
+        setRect(this.margin, margin);
+    }
+
+    /**
+     * Overwrites this layout with the values of another one.
+     */
+    void setFrom(Layout other) {
+        FloatSize otherScrollbar = other.scrollbarSize;
+        set(other.order, other.location.x, other.location.y, other.size, other.contentSize,
+            otherScrollbar != null ? otherScrollbar.width : 0f, otherScrollbar != null ? otherScrollbar.height : 0f,
+            other.border, other.padding, other.margin);
+    }
+
+    /**
+     * Resets this layout to zero with the supplied order value (the layout of a hidden node).
+     */
+    void reset(int order) {
+        this.order = order;
+        location.x = 0f;
+        location.y = 0f;
+        setSize(size, null);
+        setSize(contentSize, null);
+        setSize(scrollbarSize, null);
+        setRect(border, null);
+        setRect(padding, null);
+        setRect(margin, null);
+    }
+
+    /**
+     * Overwrites this layout with {@code unrounded} rounded to whole pixels, given the absolute offset of
+     * the node's parent. Sizes are rounded at their absolute edges so adjacent nodes stay seamless.
+     */
+    void setRounded(Layout unrounded, float cumulativeX, float cumulativeY) {
+        float nodeX = orZero(unrounded.location.x);
+        float nodeY = orZero(unrounded.location.y);
+        float absoluteX = cumulativeX + nodeX;
+        float absoluteY = cumulativeY + nodeY;
+        float roundedAbsoluteX = RoundLayout.round(absoluteX);
+        float roundedAbsoluteY = RoundLayout.round(absoluteY);
+
+        order = unrounded.order;
+        location.x = RoundLayout.round(nodeX);
+        location.y = RoundLayout.round(nodeY);
+        size.width = RoundLayout.round(absoluteX + orZero(unrounded.size.width)) - roundedAbsoluteX;
+        size.height = RoundLayout.round(absoluteY + orZero(unrounded.size.height)) - roundedAbsoluteY;
+        FloatSize unroundedContent = unrounded.contentSize;
+        contentSize.width = RoundLayout.round(absoluteX + (unroundedContent != null ? orZero(unroundedContent.width) : 0f)) - roundedAbsoluteX;
+        contentSize.height = RoundLayout.round(absoluteY + (unroundedContent != null ? orZero(unroundedContent.height) : 0f)) - roundedAbsoluteY;
+        FloatSize unroundedScrollbar = unrounded.scrollbarSize;
+        scrollbarSize.width = RoundLayout.round(unroundedScrollbar != null ? orZero(unroundedScrollbar.width) : 0f);
+        scrollbarSize.height = RoundLayout.round(unroundedScrollbar != null ? orZero(unroundedScrollbar.height) : 0f);
+        roundRect(border, unrounded.border);
+        roundRect(padding, unrounded.padding);
+        roundRect(margin, unrounded.margin);
+    }
+
+    private static float orZero(float value) {
+        return !Float.isNaN(value) ? value : 0f;
+    }
+
+    private static void roundRect(FloatRect target, FloatRect value) {
+        target.left = RoundLayout.round(orZero(value.left));
+        target.right = RoundLayout.round(orZero(value.right));
+        target.top = RoundLayout.round(orZero(value.top));
+        target.bottom = RoundLayout.round(orZero(value.bottom));
+    }
+
+    private static void setSize(FloatSize target, FloatSize value) {
+        target.width = value != null ? value.width : 0f;
+        target.height = value != null ? value.height : 0f;
+    }
+
+    private static void setRect(FloatRect target, FloatRect value) {
+        target.left = value != null ? value.left : 0f;
+        target.right = value != null ? value.right : 0f;
+        target.top = value != null ? value.top : 0f;
+        target.bottom = value != null ? value.bottom : 0f;
+    }
+
     /**
      * Get the width of the node's content box
      */
@@ -118,6 +244,57 @@ public record Layout(
 
     // === Getter methods ===
 
+    public int order() {
+        return order;
+    }
+
+    public FloatPoint location() {
+        return location;
+    }
+
+    public FloatSize size() {
+        return size;
+    }
+
+    public FloatSize contentSize() {
+        return contentSize;
+    }
+
+    public FloatSize scrollbarSize() {
+        return scrollbarSize;
+    }
+
+    public FloatRect border() {
+        return border;
+    }
+
+    public FloatRect padding() {
+        return padding;
+    }
+
+    public FloatRect margin() {
+        return margin;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Layout other)) return false;
+        return order == other.order
+            && Objects.equals(location, other.location)
+            && Objects.equals(size, other.size)
+            && Objects.equals(contentSize, other.contentSize)
+            && Objects.equals(scrollbarSize, other.scrollbarSize)
+            && Objects.equals(border, other.border)
+            && Objects.equals(padding, other.padding)
+            && Objects.equals(margin, other.margin);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(order, location, size, contentSize, scrollbarSize, border, padding, margin);
+    }
+
     @Override
     public String toString() {
         return "Layout{order=" + order + ", location=" + location + ", size=" + size + "}";
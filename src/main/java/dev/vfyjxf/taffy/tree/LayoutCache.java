@@ -9,56 +9,59 @@ import java.util.Arrays;
 /**
  * A cache for storing the results of layout computation.
  * Uses a multi-slot caching strategy based on known dimensions and available space constraints.
+ * <p>
+ * Entries are kept as packed primitives (one float stride plus one type byte per slot) rather than
+ * entry objects, so storing a result never allocates. Size-only results handed back for measure hits
+ * are memoized per slot and reused until the slot's result size changes.
  */
 public final class LayoutCache {
 
     private static final int CACHE_SIZE = 9;
 
+    /** Slot index of the final layout entry, stored after the measure slots */
+    private static final int FINAL_LAYOUT_SLOT = CACHE_SIZE;
+
+    private static final int SLOT_COUNT = CACHE_SIZE + 1;
+
+    // Offsets of each value within a slot's stride in {@link #entries}
+    private static final int KNOWN_WIDTH = 0;
+    private static final int KNOWN_HEIGHT = 1;
+    private static final int AVAILABLE_WIDTH = 2;
+    private static final int AVAILABLE_HEIGHT = 3;
+    private static final int RESULT_WIDTH = 4;
+    private static final int RESULT_HEIGHT = 5;
+    private static final int STRIDE = 6;
+
+    /** Type codes for available space; 0 marks an unused slot */
+    private static final byte EMPTY = 0;
+    private static final byte DEFINITE = 1;
+    private static final byte MIN_CONTENT = 2;
+    private static final byte MAX_CONTENT = 3;
+
     /**
-     * Cache entry for final layout
+     * Known dimensions, available space values and result size of every slot
      */
-    private CacheEntry<LayoutOutput> finalLayoutEntry = null;
+    private final float[] entries = new float[SLOT_COUNT * STRIDE];
 
     /**
-     * Cache entries for size measurements
+     * Available space types of every slot: width type in the low two bits, height type in the next two
      */
-    @SuppressWarnings("unchecked")
-    private final CacheEntry<FloatSize>[] measureEntries = new CacheEntry[CACHE_SIZE];
+    private final byte[] spaceTypes = new byte[SLOT_COUNT];
 
     /**
-     * Tracks if all cache entries are empty
+     * Size-only outputs returned for measure hits, created on first hit
      */
-    private boolean isEmpty = true;
+    private final LayoutOutput[] sizeOutputs = new LayoutOutput[SLOT_COUNT];
 
     /**
-     * A single cache entry
+     * Full output of the final layout entry
      */
-    private static class CacheEntry<T> {
-        FloatSize knownDimensions;
-        TaffySize<AvailableSpace> availableSpace;
-        T content;
-
-        CacheEntry(FloatSize knownDimensions, TaffySize<AvailableSpace> availableSpace, T content) {
-            this.knownDimensions = knownDimensions;
-            this.availableSpace = availableSpace;
-            this.content = content;
-        }
+    private LayoutOutput finalLayoutOutput = null;
 
-        boolean matches(FloatSize knownDimensions, TaffySize<AvailableSpace> availableSpace) {
-            return sizesEqual(this.knownDimensions, knownDimensions) &&
-                   this.availableSpace.equals(availableSpace);
-        }
-
-        private static boolean sizesEqual(FloatSize a, FloatSize b) {
-            return floatsEqual(a.width, b.width) && floatsEqual(a.height, b.height);
-        }
-
-        private static boolean floatsEqual(Float a, Float b) {
-            if (a == null && b == null) return true;
-            if (a == null || b == null) return false;
-            return Float.compare(a, b) == 0;
-        }
-    }
+    /**
+     * Tracks if all cache entries are empty
+     */
+    private boolean isEmpty = true;
 
     /**
      * Create a new empty cache
@@ -108,6 +111,19 @@ public final class LayoutCache {
         FloatSize knownDimensions,
         TaffySize<AvailableSpace> availableSpace,
         RunMode runMode
+    ) {
+        return get(knownDimensions, availableSpace, runMode, RequestedAxis.BOTH);
+    }
+
+    /**
+     * Try to retrieve a cached result that covers the requested axis. Measurements of a single axis are stored with
+     * the other dimension as NaN, so they only answer requests for that axis.
+     */
+    public LayoutOutput get(
+        FloatSize knownDimensions,
+        TaffySize<AvailableSpace> availableSpace,
+        RunMode runMode,
+        RequestedAxis axis
     ) {
         if (isEmpty) return null;
 
@@ -116,51 +132,79 @@ public final class LayoutCache {
         float kdHeight = knownDimensions.height;
         boolean hasKnownWidth = !Float.isNaN(kdWidth);
         boolean hasKnownHeight = !Float.isNaN(kdHeight);
+        byte widthType = typeCode(availableSpace.width);
+        byte heightType = typeCode(availableSpace.height);
+        float widthValue = availableSpace.width.getValue();
+        float heightValue = availableSpace.height.getValue();
 
         if (runMode == RunMode.PERFORM_LAYOUT) {
-            if (finalLayoutEntry != null && matchesEntry(finalLayoutEntry, kdWidth, kdHeight, hasKnownWidth, hasKnownHeight, availableSpace)) {
-                return finalLayoutEntry.content;
+            if (matches(FINAL_LAYOUT_SLOT, kdWidth, kdHeight, hasKnownWidth, hasKnownHeight,
+                        widthType, widthValue, heightType, heightValue)) {
+                return finalLayoutOutput;
             }
             return null;
         }
 
-        // For ComputeSize, check all measure cache entries
-        for (int i = 0; i < CACHE_SIZE; i++) {
-            CacheEntry<FloatSize> entry = measureEntries[i];
-            if (entry != null) {
-                FloatSize cachedSize = entry.content;
-                if (matchesSizeEntry(entry, cachedSize, kdWidth, kdHeight, hasKnownWidth, hasKnownHeight, availableSpace)) {
-                    return LayoutOutput.fromOuterSize(cachedSize);
-                }
+        // For ComputeSize, check all measure cache entries, then the final layout entry
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            if (matches(slot, kdWidth, kdHeight, hasKnownWidth, hasKnownHeight,
+                        widthType, widthValue, heightType, heightValue)
+                && covers(slot, axis)) {
+                return sizeOutput(slot);
             }
         }
 
-        // Also check final layout entry for ComputeSize
-        if (finalLayoutEntry != null) {
-            FloatSize cachedSize = finalLayoutEntry.content.size();
-            if (matchesSizeEntry(finalLayoutEntry, cachedSize, kdWidth, kdHeight, hasKnownWidth, hasKnownHeight, availableSpace)) {
-                return LayoutOutput.fromOuterSize(cachedSize);
-            }
+        return null;
+    }
+
+    private boolean matches(int slot, float kdWidth, float kdHeight, boolean hasKnownWidth, boolean hasKnownHeight,
+                            byte widthType, float widthValue, byte heightType, float heightValue) {
+        byte types = spaceTypes[slot];
+        if (types == EMPTY) {
+            return false;
         }
+        int base = slot * STRIDE;
+        return (floatEquals(kdWidth, entries[base + KNOWN_WIDTH]) || floatEquals(kdWidth, entries[base + RESULT_WIDTH]))
+            && (floatEquals(kdHeight, entries[base + KNOWN_HEIGHT]) || floatEquals(kdHeight, entries[base + RESULT_HEIGHT]))
+            && (hasKnownWidth || isRoughlyEqual(types & 0b11, entries[base + AVAILABLE_WIDTH], widthType, widthValue))
+            && (hasKnownHeight || isRoughlyEqual((types >> 2) & 0b11, entries[base + AVAILABLE_HEIGHT], heightType, heightValue));
+    }
 
-        return null;
+    private boolean covers(int slot, RequestedAxis axis) {
+        int base = slot * STRIDE;
+        return (axis == RequestedAxis.VERTICAL || !Float.isNaN(entries[base + RESULT_WIDTH]))
+            && (axis == RequestedAxis.HORIZONTAL || !Float.isNaN(entries[base + RESULT_HEIGHT]));
     }
-    
-    private static boolean matchesEntry(CacheEntry<LayoutOutput> entry, float kdWidth, float kdHeight,
-                                        boolean hasKnownWidth, boolean hasKnownHeight, TaffySize<AvailableSpace> availableSpace) {
-        FloatSize cachedSize = entry.content.size();
-        return (floatEquals(kdWidth, entry.knownDimensions.width) || floatEquals(kdWidth, cachedSize.width))
-            && (floatEquals(kdHeight, entry.knownDimensions.height) || floatEquals(kdHeight, cachedSize.height))
-            && (hasKnownWidth || entry.availableSpace.width.isRoughlyEqual(availableSpace.width))
-            && (hasKnownHeight || entry.availableSpace.height.isRoughlyEqual(availableSpace.height));
+
+    /**
+     * Returns the memoized size-only output of a slot, creating it on first use.
+     */
+    private LayoutOutput sizeOutput(int slot) {
+        LayoutOutput output = sizeOutputs[slot];
+        if (output == null) {
+            int base = slot * STRIDE;
+            output = LayoutOutput.fromOuterSize(new FloatSize(entries[base + RESULT_WIDTH], entries[base + RESULT_HEIGHT]));
+            sizeOutputs[slot] = output;
+        }
+        return output;
     }
-    
-    private static <T> boolean matchesSizeEntry(CacheEntry<T> entry, FloatSize cachedSize, float kdWidth, float kdHeight,
-                                                boolean hasKnownWidth, boolean hasKnownHeight, TaffySize<AvailableSpace> availableSpace) {
-        return (floatEquals(kdWidth, entry.knownDimensions.width) || floatEquals(kdWidth, cachedSize.width))
-            && (floatEquals(kdHeight, entry.knownDimensions.height) || floatEquals(kdHeight, cachedSize.height))
-            && (hasKnownWidth || entry.availableSpace.width.isRoughlyEqual(availableSpace.width))
-            && (hasKnownHeight || entry.availableSpace.height.isRoughlyEqual(availableSpace.height));
+
+    /**
+     * Same semantics as {@link AvailableSpace#isRoughlyEqual}, on the packed representation.
+     */
+    private static boolean isRoughlyEqual(int cachedType, float cachedValue, byte type, float value) {
+        if (cachedType != type) {
+            return false;
+        }
+        return type != DEFINITE || Math.abs(cachedValue - value) < 0.0001f; // f32::EPSILON equivalent
+    }
+
+    private static byte typeCode(AvailableSpace space) {
+        return switch (space.getType()) {
+            case DEFINITE -> DEFINITE;
+            case MIN_CONTENT -> MIN_CONTENT;
+            case MAX_CONTENT -> MAX_CONTENT;
+        };
     }
 
     /**
@@ -181,12 +225,51 @@ public final class LayoutCache {
     ) {
         isEmpty = false;
 
+        int slot;
         if (runMode == RunMode.PERFORM_LAYOUT) {
-            finalLayoutEntry = new CacheEntry<>(knownDimensions, availableSpace, layoutOutput);
+            slot = FINAL_LAYOUT_SLOT;
+            finalLayoutOutput = layoutOutput;
         } else {
-            int slot = computeCacheSlot(knownDimensions, availableSpace);
-            measureEntries[slot] = new CacheEntry<>(knownDimensions, availableSpace, layoutOutput.size());
+            slot = computeCacheSlot(knownDimensions, availableSpace);
+        }
+
+        int base = slot * STRIDE;
+        FloatSize size = layoutOutput.size();
+        float width = size.width;
+        float height = size.height;
+        byte types = (byte) (typeCode(availableSpace.width) | (typeCode(availableSpace.height) << 2));
+
+        // A single-axis result for the inputs already in the slot fills in its axis rather than
+        // dropping the other one, so alternating horizontal and vertical measures both keep hitting
+        if (slot != FINAL_LAYOUT_SLOT
+            && (Float.isNaN(width) || Float.isNaN(height))
+            && spaceTypes[slot] == types
+            && floatEquals(entries[base + KNOWN_WIDTH], knownDimensions.width)
+            && floatEquals(entries[base + KNOWN_HEIGHT], knownDimensions.height)
+            && floatEquals(entries[base + AVAILABLE_WIDTH], availableSpace.width.getValue())
+            && floatEquals(entries[base + AVAILABLE_HEIGHT], availableSpace.height.getValue())) {
+            if (Float.isNaN(width)) {
+                width = entries[base + RESULT_WIDTH];
+            }
+            if (Float.isNaN(height)) {
+                height = entries[base + RESULT_HEIGHT];
+            }
+        }
+
+        entries[base + KNOWN_WIDTH] = knownDimensions.width;
+        entries[base + KNOWN_HEIGHT] = knownDimensions.height;
+        entries[base + AVAILABLE_WIDTH] = availableSpace.width.getValue();
+        entries[base + AVAILABLE_HEIGHT] = availableSpace.height.getValue();
+        spaceTypes[slot] = types;
+
+        // Keep the memoized size output when the result did not change, so warm relayouts allocate nothing
+        LayoutOutput previous = sizeOutputs[slot];
+        if (previous != null
+            && (!floatEquals(previous.size().width, width) || !floatEquals(previous.size().height, height))) {
+            sizeOutputs[slot] = null;
         }
+        entries[base + RESULT_WIDTH] = width;
+        entries[base + RESULT_HEIGHT] = height;
     }
 
     /**
@@ -196,8 +279,10 @@ public final class LayoutCache {
      */
     public boolean clear() {
         boolean wasAlreadyEmpty = isEmpty;
-        finalLayoutEntry = null;
-        Arrays.fill(measureEntries, null);
+        if (!wasAlreadyEmpty) {
+            Arrays.fill(spaceTypes, EMPTY);
+            finalLayoutOutput = null;
+        }
         isEmpty = true;
         return wasAlreadyEmpty;
     }
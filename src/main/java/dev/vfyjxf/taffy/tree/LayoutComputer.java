@@ -1,5 +1,6 @@
 package dev.vfyjxf.taffy.tree;
 
+import dev.vfyjxf.taffy.geometry.AbsoluteAxis;
 import dev.vfyjxf.taffy.geometry.FloatPoint;
 import dev.vfyjxf.taffy.geometry.FloatRect;
 import dev.vfyjxf.taffy.geometry.FloatSize;
@@ -17,19 +18,92 @@ import dev.vfyjxf.taffy.util.MeasureFunc;
 import dev.vfyjxf.taffy.util.Resolve;
 import dev.vfyjxf.taffy.util.TaffyMath;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
 
 /**
  * Computes layout for a TaffyTree.
+ * <p>
+ * A computer and its block, flexbox and grid computers can be reused across layout passes of the
+ * same tree; their scratch arenas then stop allocating once they have grown to fit the tree.
+ * A computer must only be used by one thread at a time.
  */
 public class LayoutComputer {
 
     private final TaffyTree tree;
-    private final MeasureFunc defaultMeasureFunc;
+    private MeasureFunc defaultMeasureFunc;
+
+    /** Parallel pass state, or null when laying out serially */
+    private final ParallelLayout parallel;
+
+    private final BlockComputer blockComputer = new BlockComputer(this);
+    private final FlexboxComputer flexboxComputer = new FlexboxComputer(this);
+    private final GridComputer gridComputer = new GridComputer(this);
+
+    /** Stack size of the threads that continue a deep layout, see {@link #setStackSegmentDepth} */
+    private static final long SEGMENT_STACK_SIZE = 16L << 20;
+
+    /**
+     * Threads that continue deep layouts. A segment waits for the one it starts, so a layout holds one thread per
+     * segment it is nested in; idle threads are reused by the next segment and exit after a minute.
+     */
+    private static final ExecutorService SEGMENT_THREADS = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(null, task, "taffy-layout-segment", SEGMENT_STACK_SIZE);
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Number of nested layouts run on one thread before continuing on a new one; 0 disables segmenting */
+    private int stackSegmentDepth = 0;
+
+    /** Number of nested uncached layouts currently running */
+    private int depth = 0;
+
+    /** Containers currently being laid out, innermost last, with their resolved directions */
+    private final List<NodeId> containerStack = new ArrayList<>();
+    private final List<TaffyDirection> directionStack = new ArrayList<>();
 
     public LayoutComputer(TaffyTree tree, MeasureFunc defaultMeasureFunc) {
+        this(tree, defaultMeasureFunc, null);
+    }
+
+    LayoutComputer(TaffyTree tree, MeasureFunc defaultMeasureFunc, ParallelLayout parallel) {
         this.tree = tree;
         this.defaultMeasureFunc = defaultMeasureFunc;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Sets the measure function used for leaves that have none of their own.
+     */
+    void setDefaultMeasureFunc(MeasureFunc defaultMeasureFunc) {
+        this.defaultMeasureFunc = defaultMeasureFunc;
+    }
+
+    MeasureFunc getDefaultMeasureFunc() {
+        return defaultMeasureFunc;
+    }
+
+    /**
+     * Sets how many nested layouts run on one thread's stack. Every time the nesting reaches a
+     * multiple of this depth, the container's subtree is laid out on a pooled thread with its own stack
+     * while the current thread waits, so the depth of a tree is bounded by memory rather than by the stack size
+     * of the calling thread. Results are unchanged. 0 disables segmenting.
+     */
+    void setStackSegmentDepth(int stackSegmentDepth) {
+        this.stackSegmentDepth = Math.max(stackSegmentDepth, 0);
+    }
+
+    /**
+     * Creates a computer for a forked task of the same parallel pass, with its own scratch arenas.
+     */
+    LayoutComputer fork() {
+        return new LayoutComputer(tree, defaultMeasureFunc, parallel);
     }
 
     /**
@@ -110,24 +184,12 @@ public class LayoutComputer {
         FloatRect border = Resolve.resolveRectOrZero(style.getBorder(), contextWidth);
         FloatRect margin = Resolve.resolveRectLpaOrZero(style.getMargin(), contextWidth);
 
-        FloatSize scrollbarSize = new FloatSize(
-            style.getOverflow().y == Overflow.SCROLL ? style.getScrollbarWidth() : 0f,
-            style.getOverflow().x == Overflow.SCROLL ? style.getScrollbarWidth() : 0f
-        );
+        float scrollbarWidth = style.getOverflow().y == Overflow.SCROLL ? style.getScrollbarWidth() : 0f;
+        float scrollbarHeight = style.getOverflow().x == Overflow.SCROLL ? style.getScrollbarWidth() : 0f;
 
         // Set the root layout
-        Layout layout = new Layout(
-            0,
-            new FloatPoint(0f, 0f),
-            output.size(),
-            output.contentSize(),
-            scrollbarSize,
-            border,
-            padding,
-            margin
-        );
-
-        tree.setUnroundedLayout(root, layout);
+        tree.writeUnroundedLayout(root, 0, 0f, 0f, output.size(), output.contentSize(),
+            scrollbarWidth, scrollbarHeight, border, padding, margin);
     }
 
     /**
@@ -181,6 +243,85 @@ public class LayoutComputer {
         return computeChildLayout(node, inputs).size();
     }
 
+    /**
+     * Measures one dimension of a child node. Containers that honour {@link RequestedAxis} skip the work that only
+     * determines the other dimension, so prefer this over {@link #measureChildSize(NodeId, FloatSize, FloatSize,
+     * TaffySize, SizingMode, TaffyLine)} when a single dimension is needed.
+     */
+    public float measureChildSize(
+        NodeId node,
+        FloatSize knownDimensions,
+        FloatSize parentSize,
+        TaffySize<AvailableSpace> availableSpace,
+        SizingMode sizingMode,
+        TaffyLine<Boolean> verticalMarginsAreCollapsible,
+        AbsoluteAxis axis) {
+
+        LayoutInput inputs = new LayoutInput(
+            RunMode.COMPUTE_SIZE,
+            sizingMode,
+            RequestedAxis.from(axis),
+            knownDimensions,
+            parentSize,
+            availableSpace,
+            verticalMarginsAreCollapsible
+        );
+
+        FloatSize size = computeChildLayout(node, inputs).size();
+        return axis == AbsoluteAxis.HORIZONTAL ? size.width : size.height;
+    }
+
+    /**
+     * Returns whether this computer is running a parallel layout pass.
+     */
+    boolean isParallel() {
+        return parallel != null;
+    }
+
+    /**
+     * Returns whether a child's subtree should be laid out ahead of its container's serial
+     * final-layout pass, i.e. whether it is large enough to be forked.
+     */
+    boolean shouldPrelayout(NodeId node) {
+        return parallel != null && parallel.shouldFork(node);
+    }
+
+    /**
+     * Returns whether a container running a parallel pass should measure the given number of
+     * independent item contributions concurrently, see {@link #measureAll}.
+     */
+    boolean shouldMeasureConcurrently(int count) {
+        return parallel != null && parallel.shouldMeasureConcurrently(count);
+    }
+
+    /**
+     * Runs the given measurements of distinct children, concurrently when running a parallel pass.
+     * Each measurement receives the computer it must measure with.
+     */
+    <T> void measureAll(List<T> items, BiConsumer<LayoutComputer, T> measure) {
+        if (parallel != null && items.size() > 1) {
+            parallel.measureAll(this, items, measure);
+            return;
+        }
+        for (int i = 0; i < items.size(); i++) {
+            measure.accept(this, items.get(i));
+        }
+    }
+
+    /**
+     * Lays out the given children with the given inputs, concurrently when running a parallel pass
+     * and there is more than one of them. Each result is stored in the child's layout cache.
+     */
+    void performChildLayouts(List<NodeId> nodes, List<LayoutInput> inputs) {
+        if (parallel != null && nodes.size() > 1) {
+            parallel.layoutAll(this, nodes, inputs);
+            return;
+        }
+        for (int i = 0; i < nodes.size(); i++) {
+            computeChildLayout(nodes.get(i), inputs.get(i));
+        }
+    }
+
     /**
      * Computes layout for a child, using cache if available.
      */
@@ -196,14 +337,23 @@ public class LayoutComputer {
             node,
             inputs.knownDimensions(),
             inputs.availableSpace(),
-            inputs.runMode()
+            inputs.runMode(),
+            inputs.axis()
         );
         if (cached != null) {
             return cached;
         }
 
         // Compute layout
-        LayoutOutput output = computeLayoutUncached(node, inputs);
+        LayoutOutput output;
+        depth++;
+        try {
+            output = stackSegmentDepth > 0 && depth % stackSegmentDepth == 0 && tree.childCount(node) > 0
+                     ? computeLayoutOnNewSegment(node, inputs)
+                     : computeLayoutUncached(node, inputs);
+        } finally {
+            depth--;
+        }
 
         // Store in cache
         tree.storeCacheEntry(
@@ -217,6 +367,41 @@ public class LayoutComputer {
         return output;
     }
 
+    /**
+     * Runs {@link #computeLayoutUncached} on a segment thread with a fresh stack and waits for it. Only containers
+     * start a segment, as leaves don't nest any further. Only one thread uses this computer at a time, and handing
+     * the task over and waiting for its result order its accesses.
+     */
+    private LayoutOutput computeLayoutOnNewSegment(NodeId node, LayoutInput inputs) {
+        Future<LayoutOutput> segment = SEGMENT_THREADS.submit(() -> computeLayoutUncached(node, inputs));
+
+        // The segment shares this computer's state, so it must finish even if we are interrupted
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return segment.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    Throwable failure = e.getCause();
+                    if (failure instanceof RuntimeException runtimeException) {
+                        throw runtimeException;
+                    }
+                    if (failure instanceof Error error) {
+                        throw error;
+                    }
+                    // A checked exception thrown sneakily, e.g. by a measure function
+                    throw TaffyException.layoutFailed(node, failure);
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
     /**
      * Computes layout without using cache.
      */
@@ -235,12 +420,30 @@ public class LayoutComputer {
             return computeLeafLayout(node, inputs, style);
         }
 
-        return switch (display) {
-            case BLOCK -> computeBlockLayout(node, inputs, style);
-            case FLEX -> computeFlexboxLayout(node, inputs, style);
-            case GRID -> computeGridLayout(node, inputs, style);
-            default -> computeLeafLayout(node, inputs, style);
-        };
+        if (display != TaffyDisplay.BLOCK && display != TaffyDisplay.FLEX && display != TaffyDisplay.GRID) {
+            return computeLeafLayout(node, inputs, style);
+        }
+
+        // The innermost active container is the node's parent, so its direction is inherited from there
+        // instead of walking up the whole ancestor chain
+        TaffyDirection direction = style.getDirection();
+        if (direction.isInherit()) {
+            direction = !containerStack.isEmpty() && containerStack.get(containerStack.size() - 1).equals(tree.getParent(node))
+                        ? directionStack.get(directionStack.size() - 1)
+                        : resolveDirectionFromAncestors(node);
+        }
+        containerStack.add(node);
+        directionStack.add(direction);
+        try {
+            return switch (display) {
+                case BLOCK -> computeBlockLayout(node, inputs, style);
+                case FLEX -> computeFlexboxLayout(node, inputs, style);
+                default -> computeGridLayout(node, inputs, style);
+            };
+        } finally {
+            containerStack.remove(containerStack.size() - 1);
+            directionStack.remove(directionStack.size() - 1);
+        }
     }
 
     /**
@@ -248,7 +451,9 @@ public class LayoutComputer {
      */
     public LayoutOutput computeHiddenLayout(NodeId node) {
         tree.clearCache(node);
-        tree.setUnroundedLayout(node, Layout.withOrder(0));
+        tree.resetUnroundedLayout(node, 0);
+        // Every child is reset below, so the rounding pass has to visit all of them
+        tree.clearWindowed(node);
 
         // Process children as hidden
         List<NodeId> children = tree.getChildren(node);
@@ -511,7 +716,7 @@ public class LayoutComputer {
      */
     private LayoutOutput computeBlockLayout(NodeId node, LayoutInput inputs, TaffyStyle style) {
         // Simplified block layout - full implementation in BlockComputer
-        return new BlockComputer(this).compute(node, inputs, style);
+        return blockComputer.compute(node, inputs, style);
     }
 
     /**
@@ -519,7 +724,7 @@ public class LayoutComputer {
      */
     private LayoutOutput computeFlexboxLayout(NodeId node, LayoutInput inputs, TaffyStyle style) {
         // Simplified flexbox layout - full implementation in FlexboxComputer
-        return new FlexboxComputer(this).compute(node, inputs, style);
+        return flexboxComputer.compute(node, inputs, style);
     }
 
     /**
@@ -527,7 +732,7 @@ public class LayoutComputer {
      */
     private LayoutOutput computeGridLayout(NodeId node, LayoutInput inputs, TaffyStyle style) {
         // Simplified grid layout - full implementation in GridComputer
-        return new GridComputer(this).compute(node, inputs, style);
+        return gridComputer.compute(node, inputs, style);
     }
 
     // === Helper methods ===
@@ -536,6 +741,10 @@ public class LayoutComputer {
         return tree;
     }
 
+    GridComputer getGridComputer() {
+        return gridComputer;
+    }
+
     private FloatSize availableSpaceToOptionSize(TaffySize<AvailableSpace> availableSpace) {
         // For FloatSize we use NaN to represent "None". AvailableSpace.intoOption() already
         // returns NaN for MIN_CONTENT/MAX_CONTENT.
@@ -640,13 +849,22 @@ public class LayoutComputer {
      * @return The resolved direction (LTR or RTL, never INHERIT)
      */
     public TaffyDirection resolveDirection(NodeId node) {
+        int top = containerStack.size() - 1;
+        if (top >= 0 && containerStack.get(top).equals(node)) {
+            return directionStack.get(top);
+        }
+
         TaffyStyle style = tree.getStyle(node);
         TaffyDirection direction = style.getDirection();
         
         if (!direction.isInherit()) {
             return direction;
         }
-        
+
+        return resolveDirectionFromAncestors(node);
+    }
+
+    private TaffyDirection resolveDirectionFromAncestors(NodeId node) {
         // Walk up the parent chain to find a non-INHERIT direction
         NodeId parent = tree.getParent(node);
         while (parent != null) {
@@ -0,0 +1,591 @@
+package dev.vfyjxf.taffy.tree;
+
+import dev.vfyjxf.taffy.geometry.FloatRect;
+import dev.vfyjxf.taffy.geometry.FloatSize;
+import dev.vfyjxf.taffy.geometry.TaffyLine;
+import dev.vfyjxf.taffy.geometry.TaffySize;
+import dev.vfyjxf.taffy.style.AvailableSpace;
+import dev.vfyjxf.taffy.style.BoxGenerationMode;
+import dev.vfyjxf.taffy.style.GridPlacement;
+import dev.vfyjxf.taffy.style.Overflow;
+import dev.vfyjxf.taffy.style.TaffyPosition;
+import dev.vfyjxf.taffy.style.TaffyStyle;
+import dev.vfyjxf.taffy.style.TrackSizingFunction;
+import dev.vfyjxf.taffy.util.Resolve;
+import dev.vfyjxf.taffy.util.TaffyMath;
+import it.unimi.dsi.fastutil.floats.FloatList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.lang.Float.NaN;
+
+/**
+ * Layout for grid containers with a masonry row axis ({@link TaffyStyle#gridMasonryRows}).
+ * <p>
+ * Columns are sized by the regular column track sizing, with every auto-placed item contributing to every column.
+ * Items are then packed in order: each one goes to the column whose running height is the smallest, found through
+ * a min-heap of columns, so packing n items into c columns takes O(n log c). Items spanning several columns or
+ * placed in a definite column fall back to a linear scan.
+ * <p>
+ * The packing is kept per container. As long as the children laid out last time are unchanged, clean and in the
+ * same order and the columns keep their sizes, a relayout continues from the saved column heights and only measures
+ * and lays out the children appended since, which keeps loading the next page of an infinite feed cheap.
+ * <p>
+ * Absolutely positioned children are not packed. They are laid out against the container after packing, with
+ * their column lines resolved against its columns as in a regular grid.
+ */
+final class MasonryLayout {
+
+    private static final byte CHILD_HIDDEN = 0;
+    private static final byte CHILD_IN_FLOW = 1;
+    private static final byte CHILD_ABSOLUTE = 2;
+    /** Column start of an auto-placed item */
+    private static final int AUTO_COLUMN = -1;
+
+    private final LayoutComputer layoutComputer;
+    private final GridComputer gridComputer;
+
+    MasonryLayout(LayoutComputer layoutComputer, GridComputer gridComputer) {
+        this.layoutComputer = layoutComputer;
+        this.gridComputer = gridComputer;
+    }
+
+    /**
+     * Computes the masonry layout of a grid container.
+     *
+     * @param knownSize          the container's border-box size where already known
+     * @param border             the container's resolved border
+     * @param contentBoxInset    padding, border and scrollbar gutter on each side
+     * @param nodeInnerSize      the container's content-box size where already known
+     * @param availableGridSpace the space available to the tracks
+     * @param columns            the explicit column tracks with repetitions expanded
+     */
+    LayoutOutput compute(NodeId node, TaffyStyle style, RunMode runMode, GridTemplateCache templates,
+                         FloatSize knownSize, FloatSize minSize, FloatSize maxSize, FloatSize paddingBorderSize,
+                         FloatRect border, FloatRect contentBoxInset, FloatSize nodeInnerSize,
+                         TaffySize<AvailableSpace> availableGridSpace, TaffySize<AvailableSpace> availableSpace,
+                         FloatSize gap, List<TrackSizingFunction> columns) {
+        TaffyTree tree = layoutComputer.getTree();
+        State state = templates.masonry();
+        List<NodeId> children = tree.getChildren(node);
+        int childCount = children.size();
+        int columnCount = Math.max(1, columns.size());
+        float insetWidth = contentBoxInset.left + contentBoxInset.right;
+        float insetHeight = contentBoxInset.top + contentBoxInset.bottom;
+
+        syncChildren(state, tree, templates, children, columns.size(), columnCount);
+
+        // Column sizing from the contributions of all children, measuring only the ones added since last time
+        if (state.measuredCount > 0 && Float.compare(state.contributionWidth, nodeInnerSize.width) != 0) {
+            state.resetContributions();
+        }
+        state.contributionWidth = nodeInnerSize.width;
+        if (needsContributions(columns, columnCount, nodeInnerSize.width)) {
+            measureContributions(state, tree, children, nodeInnerSize.width);
+        }
+        state.measuredCount = childCount;
+        for (int c = 0; c < columnCount; c++) {
+            state.sizingMinContent[c] = Math.max(state.autoMinContent, state.columnMinContent[c]);
+            state.sizingMaxContent[c] = Math.max(state.autoMaxContent, state.columnMaxContent[c]);
+        }
+        FloatList sizes = gridComputer.calculateMasonryColumnSizes(style, nodeInnerSize, availableGridSpace,
+            availableSpace, gap, columns, columnCount, state.sizingMinContent, state.sizingMaxContent);
+
+        float gridWidth = gap.width * (columnCount - 1);
+        for (int c = 0; c < columnCount; c++) {
+            gridWidth += sizes.getFloat(c);
+        }
+        float innerWidth = !Float.isNaN(nodeInnerSize.width) ? nodeInnerSize.width : gridWidth;
+
+        // Packing: continue the saved one when only children were appended, otherwise start over
+        float gridHeight = 0f;
+        boolean needsPacking = runMode == RunMode.PERFORM_LAYOUT || Float.isNaN(knownSize.height);
+        if (needsPacking) {
+            Packing packing = state.packing;
+            if (!packing.matches(sizes, gap, contentBoxInset, innerWidth)) {
+                if (runMode != RunMode.PERFORM_LAYOUT && packing.valid) {
+                    // Keep the laid out packing for the layout pass, size probes with other columns go elsewhere
+                    packing = state.probe;
+                }
+                packing.reset(sizes, gap, contentBoxInset, innerWidth);
+            }
+            if (runMode == RunMode.PERFORM_LAYOUT) {
+                layoutPlacedItems(packing, tree, children, state);
+            }
+            pack(packing, tree, children, state, runMode == RunMode.PERFORM_LAYOUT);
+            gridHeight = packing.bottom;
+        }
+
+        float width = !Float.isNaN(knownSize.width)
+                      ? knownSize.width
+                      : TaffyMath.maybeClamp(gridWidth + insetWidth, minSize.width, maxSize.width);
+        float height = !Float.isNaN(knownSize.height)
+                       ? knownSize.height
+                       : TaffyMath.maybeClamp(gridHeight + insetHeight, minSize.height, maxSize.height);
+        FloatSize containerSize = new FloatSize(
+            Math.max(width, paddingBorderSize.width),
+            Math.max(height, paddingBorderSize.height)
+        );
+        if (runMode == RunMode.PERFORM_LAYOUT && state.absoluteCount > 0) {
+            List<NodeId> absoluteChildren = new ArrayList<>(state.absoluteCount);
+            for (int i = 0; i < state.absoluteCount; i++) {
+                absoluteChildren.add(children.get(state.absoluteChildren[i]));
+            }
+            gridComputer.layoutMasonryAbsoluteChildren(absoluteChildren, style, containerSize, border,
+                contentBoxInset, sizes, gap.width);
+        }
+        FloatSize contentSize = new FloatSize(gridWidth + insetWidth, gridHeight + insetHeight);
+        return LayoutOutput.fromSizes(containerSize, contentSize);
+    }
+
+    // === Children ===
+
+    /**
+     * Keeps the measurements of the leading children that are unchanged since the last layout and records the
+     * column placement of the others. A child is unchanged while it has the same id, is still hidden, in-flow or
+     * absolutely positioned, and, when in-flow, its layout cache was not cleared by a change.
+     */
+    private void syncChildren(State state, TaffyTree tree, GridTemplateCache templates, List<NodeId> children,
+                              int explicitColumns, int columnCount) {
+        int count = children.size();
+        int unchanged = 0;
+        if (columnCount == state.columnCount) {
+            int limit = Math.min(count, state.childCount);
+            while (unchanged < limit && isUnchanged(state, tree, children.get(unchanged), unchanged)) {
+                unchanged++;
+            }
+        }
+        if (state.columnCount != columnCount) {
+            state.resizeColumns(columnCount);
+        }
+        if (state.measuredCount > unchanged) {
+            state.resetContributions();
+        }
+        if (state.packing.count > unchanged) {
+            state.packing.invalidate();
+        }
+        state.probe.invalidate();
+        while (state.absoluteCount > 0 && state.absoluteChildren[state.absoluteCount - 1] >= unchanged) {
+            state.absoluteCount--;
+        }
+
+        state.ensureChildCapacity(count);
+        for (int i = unchanged; i < count; i++) {
+            NodeId child = children.get(i);
+            TaffyStyle childStyle = tree.getStyle(child);
+            state.childIds[i] = child;
+            byte kind = kindOf(childStyle);
+            state.childKinds[i] = kind;
+            if (kind == CHILD_ABSOLUTE) {
+                state.absoluteChildren[state.absoluteCount++] = i;
+            }
+            if (kind != CHILD_IN_FLOW) {
+                continue;
+            }
+
+            // Rows are ignored; lines outside the explicit columns are clamped into them
+            TaffyLine<GridPlacement> line = templates.namedLines().resolveColumnNames(
+                new TaffyLine<>(childStyle.getGridColumnStart(), childStyle.getGridColumnEnd()));
+            GridComputer.GridPlacementResult placement = gridComputer.parseGridPlacement(line.start, line.end, explicitColumns);
+            int span = Math.max(1, Math.min(placement.span(), columnCount));
+            int start = placement.startIndex() != null
+                        ? placement.startIndex()
+                        : placement.endIndex() != null ? placement.endIndex() - span : AUTO_COLUMN;
+            state.columnStarts[i] = start == AUTO_COLUMN ? AUTO_COLUMN : Math.max(0, Math.min(start, columnCount - span));
+            state.columnSpans[i] = span;
+        }
+        Arrays.fill(state.childIds, count, state.childIds.length, null);
+        state.childCount = count;
+    }
+
+    private static boolean isUnchanged(State state, TaffyTree tree, NodeId child, int index) {
+        if (!child.equals(state.childIds[index])) {
+            return false;
+        }
+        byte kind = kindOf(tree.getStyle(child));
+        if (kind != state.childKinds[index]) {
+            return false;
+        }
+        return kind != CHILD_IN_FLOW || !tree.getNodeData(child).getCache().isEmpty();
+    }
+
+    private static byte kindOf(TaffyStyle childStyle) {
+        if (childStyle.getBoxGenerationMode() == BoxGenerationMode.NONE) {
+            return CHILD_HIDDEN;
+        }
+        return childStyle.getPosition() == TaffyPosition.ABSOLUTE ? CHILD_ABSOLUTE : CHILD_IN_FLOW;
+    }
+
+    // === Column Sizing ===
+
+    /**
+     * Whether any column depends on its items; columns that all have a definite fixed size skip measuring.
+     */
+    private static boolean needsContributions(List<TrackSizingFunction> columns, int columnCount, float innerWidth) {
+        if (columns.size() < columnCount) {
+            return true;
+        }
+        for (int c = 0; c < columnCount; c++) {
+            TrackSizingFunction track = columns.get(c);
+            if (!track.isFixed() || Float.isNaN(track.getDefiniteValue(innerWidth))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void measureContributions(State state, TaffyTree tree, List<NodeId> children, float innerWidth) {
+        FloatSize parentSize = new FloatSize(innerWidth, NaN);
+        for (int i = state.measuredCount; i < children.size(); i++) {
+            // Items spanning several columns don't size them
+            if (state.childKinds[i] != CHILD_IN_FLOW || state.columnSpans[i] != 1) {
+                continue;
+            }
+            NodeId child = children.get(i);
+            TaffyStyle childStyle = tree.getStyle(child);
+            // Horizontal percentage margins resolve to zero during track sizing, as in the full algorithm
+            FloatRect margin = Resolve.resolveRectLpaOrZero(childStyle.getMargin(), 0f);
+            float marginWidth = margin.left + margin.right;
+            float minContent = layoutComputer.measureChildSize(child, new FloatSize(NaN, NaN), parentSize,
+                new TaffySize<>(AvailableSpace.minContent(), AvailableSpace.maxContent()),
+                SizingMode.INHERENT_SIZE, TaffyLine.FALSE).width + marginWidth;
+            float maxContent = Math.max(minContent, layoutComputer.measureChildSize(child, new FloatSize(NaN, NaN),
+                parentSize, new TaffySize<>(AvailableSpace.maxContent(), AvailableSpace.maxContent()),
+                SizingMode.INHERENT_SIZE, TaffyLine.FALSE).width + marginWidth);
+            int column = state.columnStarts[i];
+            if (column == AUTO_COLUMN) {
+                state.autoMinContent = Math.max(state.autoMinContent, minContent);
+                state.autoMaxContent = Math.max(state.autoMaxContent, maxContent);
+            } else {
+                state.columnMinContent[column] = Math.max(state.columnMinContent[column], minContent);
+                state.columnMaxContent[column] = Math.max(state.columnMaxContent[column], maxContent);
+            }
+        }
+    }
+
+    // === Packing ===
+
+    /**
+     * Places the children after the packing's last placed one, laying them out too when {@code layout} is set.
+     */
+    private void pack(Packing packing, TaffyTree tree, List<NodeId> children, State state, boolean layout) {
+        int childCount = children.size();
+        packing.ensureItemCapacity(childCount);
+        for (int i = packing.count; i < childCount; i++) {
+            NodeId child = children.get(i);
+            if (state.childKinds[i] == CHILD_HIDDEN) {
+                if (layout) {
+                    layoutComputer.computeHiddenLayout(child);
+                }
+                continue;
+            }
+            if (state.childKinds[i] == CHILD_ABSOLUTE) {
+                continue;
+            }
+            int span = state.columnSpans[i];
+            int start = state.columnStarts[i] != AUTO_COLUMN ? state.columnStarts[i] : packing.shortestColumns(span);
+            float top = packing.topOf(start, span);
+            float x = packing.offsets[start];
+            float areaWidth = packing.areaWidth(start, span);
+            float y = packing.originTop + top;
+
+            float height = layout
+                           ? layoutItem(tree, child, i, x, y, areaWidth, packing.innerWidth)
+                           : measureItem(tree, child, areaWidth, packing.innerWidth);
+            packing.itemX[i] = x;
+            packing.itemY[i] = y;
+            packing.itemWidth[i] = areaWidth;
+            packing.advance(start, span, top, height);
+        }
+        packing.count = childCount;
+        if (layout) {
+            packing.laidOut = childCount;
+        }
+    }
+
+    /**
+     * Lays out the children that a size-only pass placed but did not lay out.
+     */
+    private void layoutPlacedItems(Packing packing, TaffyTree tree, List<NodeId> children, State state) {
+        for (int i = packing.laidOut; i < packing.count; i++) {
+            NodeId child = children.get(i);
+            if (state.childKinds[i] == CHILD_HIDDEN) {
+                layoutComputer.computeHiddenLayout(child);
+            } else if (state.childKinds[i] == CHILD_IN_FLOW) {
+                layoutItem(tree, child, i, packing.itemX[i], packing.itemY[i], packing.itemWidth[i], packing.innerWidth);
+            }
+        }
+        packing.laidOut = packing.count;
+    }
+
+    /**
+     * Measures the height an item takes in its column, margins included.
+     */
+    private float measureItem(TaffyTree tree, NodeId child, float areaWidth, float innerWidth) {
+        TaffyStyle childStyle = tree.getStyle(child);
+        FloatRect margin = Resolve.resolveRectLpaOrZero(childStyle.getMargin(), innerWidth);
+        float availableWidth = Math.max(0f, areaWidth - margin.left - margin.right);
+        float knownWidth = childStyle.getSize().width.isAuto() ? availableWidth : NaN;
+        float height = layoutComputer.measureChildSize(child, new FloatSize(knownWidth, NaN),
+            new FloatSize(areaWidth, NaN),
+            new TaffySize<>(AvailableSpace.definite(availableWidth), AvailableSpace.maxContent()),
+            SizingMode.INHERENT_SIZE, TaffyLine.FALSE).height;
+        return height + margin.top + margin.bottom;
+    }
+
+    /**
+     * Lays out an item stretched across its columns at its content height.
+     *
+     * @return the height the item takes in its column, margins included
+     */
+    private float layoutItem(TaffyTree tree, NodeId child, int order, float areaLeft, float areaTop,
+                             float areaWidth, float innerWidth) {
+        TaffyStyle childStyle = tree.getStyle(child);
+        FloatRect margin = Resolve.resolveRectLpaOrZero(childStyle.getMargin(), innerWidth);
+        FloatRect padding = Resolve.resolveRectOrZero(childStyle.getPadding(), innerWidth);
+        FloatRect border = Resolve.resolveRectOrZero(childStyle.getBorder(), innerWidth);
+        float availableWidth = Math.max(0f, areaWidth - margin.left - margin.right);
+        float knownWidth = childStyle.getSize().width.isAuto() ? availableWidth : NaN;
+        LayoutOutput output = layoutComputer.performChildLayout(
+            child,
+            new FloatSize(knownWidth, NaN),
+            new FloatSize(areaWidth, NaN),
+            new TaffySize<>(AvailableSpace.definite(availableWidth), AvailableSpace.maxContent()),
+            SizingMode.INHERENT_SIZE,
+            TaffyLine.FALSE
+        );
+
+        float scrollbarWidth = childStyle.getOverflow().y == Overflow.SCROLL ? childStyle.getScrollbarWidth() : 0f;
+        float scrollbarHeight = childStyle.getOverflow().x == Overflow.SCROLL ? childStyle.getScrollbarWidth() : 0f;
+        tree.writeUnroundedLayout(child, order, areaLeft + margin.left, areaTop + margin.top,
+            output.size(), output.contentSize(), scrollbarWidth, scrollbarHeight, border, padding, margin);
+        return output.size().height + margin.top + margin.bottom;
+    }
+
+    // === State ===
+
+    /**
+     * Per-container masonry state, kept in the container's {@link GridTemplateCache}.
+     */
+    static final class State {
+
+        // Children of the last layout, with their resolved column placement
+        int childCount;
+        int columnCount = -1;
+        NodeId[] childIds = new NodeId[0];
+        byte[] childKinds = new byte[0];
+        int[] columnStarts = new int[0];
+        int[] columnSpans = new int[0];
+        /** Indices of the absolutely positioned children, ascending */
+        int absoluteCount;
+        int[] absoluteChildren = new int[0];
+
+        // Width contributions of the first measuredCount children, margins included
+        int measuredCount;
+        float contributionWidth = NaN;
+        float autoMinContent;
+        float autoMaxContent;
+        float[] columnMinContent = new float[0];
+        float[] columnMaxContent = new float[0];
+        float[] sizingMinContent = new float[0];
+        float[] sizingMaxContent = new float[0];
+
+        /** The packing the children were laid out with */
+        final Packing packing = new Packing();
+        /** Packing of size-only passes whose columns differ from the laid out ones */
+        final Packing probe = new Packing();
+
+        void resizeColumns(int columnCount) {
+            this.columnCount = columnCount;
+            columnMinContent = new float[columnCount];
+            columnMaxContent = new float[columnCount];
+            sizingMinContent = new float[columnCount];
+            sizingMaxContent = new float[columnCount];
+            resetContributions();
+        }
+
+        void resetContributions() {
+            measuredCount = 0;
+            autoMinContent = 0f;
+            autoMaxContent = 0f;
+            Arrays.fill(columnMinContent, 0f);
+            Arrays.fill(columnMaxContent, 0f);
+        }
+
+        void ensureChildCapacity(int count) {
+            if (childIds.length < count) {
+                int capacity = Math.max(count, childIds.length * 2);
+                childIds = Arrays.copyOf(childIds, capacity);
+                childKinds = Arrays.copyOf(childKinds, capacity);
+                columnStarts = Arrays.copyOf(columnStarts, capacity);
+                columnSpans = Arrays.copyOf(columnSpans, capacity);
+                absoluteChildren = Arrays.copyOf(absoluteChildren, capacity);
+            }
+        }
+    }
+
+    /**
+     * Column heights and item positions of one packing, valid for the column sizes it was started with.
+     */
+    static final class Packing {
+
+        boolean valid;
+        int columnCount;
+        float[] sizes = new float[0];
+        /** Left edge of each column, content box inset included */
+        float[] offsets = new float[0];
+        float columnGap;
+        float rowGap;
+        float originTop;
+        float innerWidth;
+
+        /** Offset of the next item in each column, relative to the content box top */
+        float[] tops = new float[0];
+        /** Columns as a binary min-heap ordered by (top, index) */
+        int[] heap = new int[0];
+        float bottom;
+
+        /** Children placed so far */
+        int count;
+        /** Children laid out so far; a size-only pass places children without laying them out */
+        int laidOut;
+        float[] itemX = new float[0];
+        float[] itemY = new float[0];
+        float[] itemWidth = new float[0];
+
+        boolean matches(FloatList sizes, FloatSize gap, FloatRect contentBoxInset, float innerWidth) {
+            if (!valid || sizes.size() != columnCount
+                || Float.compare(columnGap, gap.width) != 0 || Float.compare(rowGap, gap.height) != 0
+                || Float.compare(offsets[0], contentBoxInset.left) != 0
+                || Float.compare(originTop, contentBoxInset.top) != 0
+                || Float.compare(this.innerWidth, innerWidth) != 0) {
+                return false;
+            }
+            for (int c = 0; c < columnCount; c++) {
+                if (Float.compare(this.sizes[c], sizes.getFloat(c)) != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void invalidate() {
+            valid = false;
+            count = 0;
+            laidOut = 0;
+        }
+
+        void reset(FloatList sizes, FloatSize gap, FloatRect contentBoxInset, float innerWidth) {
+            int columns = sizes.size();
+            if (this.sizes.length < columns) {
+                this.sizes = new float[columns];
+                offsets = new float[columns];
+                tops = new float[columns];
+                heap = new int[columns];
+            }
+            columnCount = columns;
+            columnGap = gap.width;
+            rowGap = gap.height;
+            originTop = contentBoxInset.top;
+            this.innerWidth = innerWidth;
+            float offset = contentBoxInset.left;
+            for (int c = 0; c < columns; c++) {
+                this.sizes[c] = sizes.getFloat(c);
+                offsets[c] = offset;
+                offset += this.sizes[c] + gap.width;
+                tops[c] = 0f;
+                heap[c] = c;
+            }
+            bottom = 0f;
+            count = 0;
+            laidOut = 0;
+            valid = true;
+        }
+
+        void ensureItemCapacity(int count) {
+            if (itemX.length < count) {
+                int capacity = Math.max(count, itemX.length * 2);
+                itemX = Arrays.copyOf(itemX, capacity);
+                itemY = Arrays.copyOf(itemY, capacity);
+                itemWidth = Arrays.copyOf(itemWidth, capacity);
+            }
+        }
+
+        /**
+         * The first column of the leftmost run of {@code span} columns whose highest column is the lowest.
+         */
+        int shortestColumns(int span) {
+            if (span == 1) {
+                return heap[0];
+            }
+            int best = 0;
+            float bestTop = Float.POSITIVE_INFINITY;
+            for (int start = 0; start + span <= columnCount; start++) {
+                float top = topOf(start, span);
+                if (top < bestTop) {
+                    bestTop = top;
+                    best = start;
+                }
+            }
+            return best;
+        }
+
+        float topOf(int start, int span) {
+            float top = tops[start];
+            for (int c = start + 1; c < start + span; c++) {
+                top = Math.max(top, tops[c]);
+            }
+            return top;
+        }
+
+        float areaWidth(int start, int span) {
+            float width = columnGap * (span - 1);
+            for (int c = start; c < start + span; c++) {
+                width += sizes[c];
+            }
+            return width;
+        }
+
+        /**
+         * Stacks an item of the given height onto the columns it spans.
+         */
+        void advance(int start, int span, float top, float height) {
+            float itemBottom = top + height;
+            bottom = Math.max(bottom, itemBottom);
+            for (int c = start; c < start + span; c++) {
+                tops[c] = itemBottom + rowGap;
+            }
+            if (span == 1 && heap[0] == start) {
+                siftDown(0);
+            } else {
+                for (int i = columnCount / 2 - 1; i >= 0; i--) {
+                    siftDown(i);
+                }
+            }
+        }
+
+        private boolean before(int a, int b) {
+            return tops[a] < tops[b] || (tops[a] == tops[b] && a < b);
+        }
+
+        private void siftDown(int index) {
+            int column = heap[index];
+            int half = columnCount >>> 1;
+            while (index < half) {
+                int child = 2 * index + 1;
+                int right = child + 1;
+                if (right < columnCount && before(heap[right], heap[child])) {
+                    child = right;
+                }
+                if (!before(heap[child], column)) {
+                    break;
+                }
+                heap[index] = heap[child];
+                index = child;
+            }
+            heap[index] = column;
+        }
+    }
+}
@@ -4,36 +4,31 @@ import dev.vfyjxf.taffy.style.TaffyStyle;
 
 /**
  * Internal data structure for storing node data.
+ * Hierarchy links and per-node flags live in the tree's {@link NodeStorage} arrays.
  */
 public class NodeData {
     
     /** The layout strategy used by this node */
     private TaffyStyle style;
     
-    /** The always unrounded results of the layout computation */
-    private Layout unroundedLayout;
+    /** The always unrounded results of the layout computation, updated in place */
+    private final Layout unroundedLayout;
     
-    /** The final results of the layout computation (may be rounded) */
-    private Layout finalLayout;
-    
-    /** Whether the node has context data (measure function) */
-    private boolean hasContext;
-
-    /** 
-     * Whether this node has a new layout that hasn't been acknowledged.
-     * Similar to Yoga's hasNewLayout - set after layout computation, cleared by user.
-     */
-    private boolean hasNewLayout;
-
-    /**
-     * Whether any descendant of this node has a new layout.
-     * This allows walking the tree from root and early-returning when no dirty descendants exist.
-     */
-    private boolean hasDirtyDescendant;
+    /** The final results of the layout computation (may be rounded), updated in place */
+    private final Layout finalLayout;
     
     /** The cached results of layout computation */
     private final LayoutCache cache;
     
+    /** Windowed layout settings for a grid container, or null */
+    private GridViewport gridViewport;
+    
+    /** Windowed layout settings for a flex container, or null */
+    private FlexViewport flexViewport;
+    
+    /** Expanded grid template of a grid container, or null until first used */
+    private GridTemplateCache gridTemplateCache;
+    
     /**
      * Creates new NodeData with the given style.
      */
@@ -41,10 +36,7 @@ public class NodeData {
         this.style = style != null ? style : new TaffyStyle();
         this.unroundedLayout = new Layout();
         this.finalLayout = new Layout();
-        this.hasContext = false;
         this.cache = new LayoutCache();
-        this.hasNewLayout = false;
-        this.hasDirtyDescendant = false;
     }
     
     public TaffyStyle getStyle() {
@@ -53,92 +45,78 @@ public class NodeData {
     
     public void setStyle(TaffyStyle style) {
         this.style = style;
+        this.gridTemplateCache = null;
     }
     
     public Layout getUnroundedLayout() {
         return unroundedLayout;
     }
     
+    /**
+     * Copies the given layout into this node's unrounded layout.
+     */
     public void setUnroundedLayout(Layout layout) {
-        this.unroundedLayout = layout;
+        unroundedLayout.setFrom(layout);
     }
     
     public Layout getFinalLayout() {
         return finalLayout;
     }
     
+    /**
+     * Copies the given layout into this node's final layout.
+     */
     public void setFinalLayout(Layout layout) {
-        this.finalLayout = layout;
+        finalLayout.setFrom(layout);
     }
     
-    public boolean hasContext() {
-        return hasContext;
+    public LayoutCache getCache() {
+        return cache;
     }
     
-    public void setHasContext(boolean hasContext) {
-        this.hasContext = hasContext;
+    public GridViewport getGridViewport() {
+        return gridViewport;
     }
     
-    public LayoutCache getCache() {
-        return cache;
+    public void setGridViewport(GridViewport gridViewport) {
+        this.gridViewport = gridViewport;
     }
-
-    /**
-     * Returns true if this node has a new layout that hasn't been acknowledged.
-     */
-    public boolean hasNewLayout() {
-        return hasNewLayout;
+    
+    public FlexViewport getFlexViewport() {
+        return flexViewport;
     }
-
-    /**
-     * Returns true if any descendant of this node has a new layout.
-     */
-    public boolean hasDirtyDescendant() {
-        return hasDirtyDescendant;
+    
+    public void setFlexViewport(FlexViewport flexViewport) {
+        this.flexViewport = flexViewport;
     }
-
+    
     /**
-     * Returns true if this node or any descendant has a new layout.
-     * Convenience method for walking the tree.
+     * Returns the grid template cache for the given style, replacing a cache built for another style.
      */
-    public boolean needsVisit() {
-        return hasNewLayout || hasDirtyDescendant;
+    GridTemplateCache gridTemplateCache(TaffyStyle style) {
+        GridTemplateCache cache = gridTemplateCache;
+        if (cache == null || !cache.isFor(style)) {
+            cache = new GridTemplateCache(style);
+            gridTemplateCache = cache;
+        }
+        return cache;
     }
-
-    /**
-     * Marks that this node has a new layout.
-     */
-    void markNewLayout() {
-        this.hasNewLayout = true;
+    
+    void clearGridTemplateCache() {
+        gridTemplateCache = null;
     }
 
     /**
-     * Marks that a descendant has a new layout.
-     * @return true if the flag was already set (no need to propagate further)
+     * Drops the subgrid columns the given parent handed down, along with the layouts computed in them.
      */
-    boolean markDirtyDescendant() {
-        if (hasDirtyDescendant) {
-            return true; // already set, no need to propagate
+    void dropSubgridColumns(NodeId parent) {
+        GridTemplateCache cache = gridTemplateCache;
+        if (cache != null && cache.subgridColumns(parent) != null) {
+            cache.clearSubgridColumns();
+            getCache().clear();
         }
-        hasDirtyDescendant = true;
-        return false;
-    }
-
-    /**
-     * Clears the new layout flag for this node.
-     */
-    public void acknowledgeLayout() {
-        this.hasNewLayout = false;
     }
 
-    /**
-     * Clears the dirty descendant flag for this node.
-     * Should be called when all descendants have been acknowledged.
-     */
-    public void clearDirtyDescendant() {
-        this.hasDirtyDescendant = false;
-    }
-    
     /**
      * Marks the node as dirty (needing layout recalculation).
      * 
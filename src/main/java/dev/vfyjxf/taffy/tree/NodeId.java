@@ -2,7 +2,8 @@ package dev.vfyjxf.taffy.tree;
 
 /**
  * A type representing the id of a single node in a tree of nodes.
- * Internally it is a wrapper around a long value.
+ * Internally it is a wrapper around a long value, which also serves as the node's handle
+ * in the primitive {@code TaffyTree} API (methods ending in {@code L}).
  */
 public record NodeId(long value) {
 
@@ -0,0 +1,470 @@
+package dev.vfyjxf.taffy.tree;
+
+import dev.vfyjxf.taffy.util.MeasureFunc;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Dense, index-addressed node storage backing a {@link TaffyTree}.
+ * <p>
+ * Nodes live in slots of parallel arrays. A {@link NodeId} packs the slot index into its low 32 bits
+ * and the slot's generation into its high 32 bits, so ids of removed nodes are rejected even after
+ * their slot has been reused. The hierarchy is kept as primitive parent / first-child / last-child /
+ * next-sibling links, which lets ancestor and sibling walks run without hash lookups or boxing.
+ * <p>
+ * Layout algorithms never touch the link arrays directly; they go through {@link #children(int)},
+ * which hands out a cached random-access view that is only rebuilt after the child list changes.
+ */
+final class NodeStorage {
+
+    /** Marker for "no node" in the link arrays */
+    static final int NONE = -1;
+
+    /** Whether the node has context data (measure function) */
+    static final byte FLAG_HAS_CONTEXT = 1;
+
+    /** Whether the node has a new layout that hasn't been acknowledged */
+    static final byte FLAG_NEW_LAYOUT = 1 << 1;
+
+    /** Whether any descendant of the node has a new layout */
+    static final byte FLAG_DIRTY_DESCENDANT = 1 << 2;
+
+    /** Whether the node is queued for dirty propagation when the open batch commits */
+    static final byte FLAG_PENDING_DIRTY = 1 << 3;
+
+    /** Whether the unrounded layout was written since the node was last rounded */
+    static final byte FLAG_ROUND_PENDING = 1 << 4;
+
+    private static final List<NodeId> EMPTY_CHILDREN = Collections.emptyList();
+    private static final int[] EMPTY_SLOTS = new int[0];
+
+    private NodeData[] data;
+    private MeasureFunc[] measureFuncs;
+    private NodeId[] ids;
+    private int[] generations;
+    private int[] parents;
+    private int[] firstChildren;
+    private int[] lastChildren;
+    private int[] nextSiblings;
+    private int[] childCounts;
+    private byte[] flags;
+
+    /** Parent offset (absolute, unrounded) the final layout was last rounded against; NaN if never rounded */
+    private float[] roundedOriginX;
+    private float[] roundedOriginY;
+
+    /** Lazily built child list views, reset whenever the node's children change */
+    private ChildList[] childViews;
+
+    /** Released slots available for reuse */
+    private final IntArrayList freeSlots = new IntArrayList();
+
+    /** Number of slots ever handed out (the high-water mark) */
+    private int slotCount;
+
+    /** Number of live nodes */
+    private int liveCount;
+
+    NodeStorage(int capacity) {
+        int initial = Math.max(capacity, 1);
+        this.data = new NodeData[initial];
+        this.measureFuncs = new MeasureFunc[initial];
+        this.ids = new NodeId[initial];
+        this.generations = new int[initial];
+        this.parents = new int[initial];
+        this.firstChildren = new int[initial];
+        this.lastChildren = new int[initial];
+        this.nextSiblings = new int[initial];
+        this.childCounts = new int[initial];
+        this.flags = new byte[initial];
+        this.roundedOriginX = new float[initial];
+        this.roundedOriginY = new float[initial];
+        this.childViews = new ChildList[initial];
+    }
+
+    // === Slot Management ===
+
+    /**
+     * Allocates a slot for a new detached node and returns its index.
+     */
+    int allocate(NodeData nodeData) {
+        int slot;
+        if (!freeSlots.isEmpty()) {
+            slot = freeSlots.popInt();
+        } else {
+            if (slotCount == data.length) {
+                grow();
+            }
+            slot = slotCount++;
+        }
+        data[slot] = nodeData;
+        ids[slot] = new NodeId(((long) generations[slot] << 32) | (slot & 0xFFFFFFFFL));
+        parents[slot] = NONE;
+        firstChildren[slot] = NONE;
+        lastChildren[slot] = NONE;
+        nextSiblings[slot] = NONE;
+        childCounts[slot] = 0;
+        flags[slot] = 0;
+        roundedOriginX[slot] = Float.NaN;
+        roundedOriginY[slot] = Float.NaN;
+        childViews[slot] = null;
+        liveCount++;
+        return slot;
+    }
+
+    /**
+     * Releases a detached slot. Its generation is bumped so stale ids no longer resolve.
+     */
+    void release(int slot) {
+        data[slot] = null;
+        measureFuncs[slot] = null;
+        ids[slot] = null;
+        childViews[slot] = null;
+        generations[slot]++;
+        freeSlots.add(slot);
+        liveCount--;
+    }
+
+    /**
+     * Drops every node, keeping the allocated arrays. Generations are bumped so ids handed out
+     * before the clear stay invalid.
+     */
+    void clear() {
+        Arrays.fill(data, 0, slotCount, null);
+        Arrays.fill(measureFuncs, 0, slotCount, null);
+        Arrays.fill(ids, 0, slotCount, null);
+        Arrays.fill(childViews, 0, slotCount, null);
+        for (int i = 0; i < slotCount; i++) {
+            generations[i]++;
+        }
+        freeSlots.clear();
+        slotCount = 0;
+        liveCount = 0;
+    }
+
+    private void grow() {
+        int newCapacity = data.length + (data.length >> 1) + 1;
+        data = Arrays.copyOf(data, newCapacity);
+        measureFuncs = Arrays.copyOf(measureFuncs, newCapacity);
+        ids = Arrays.copyOf(ids, newCapacity);
+        generations = Arrays.copyOf(generations, newCapacity);
+        parents = Arrays.copyOf(parents, newCapacity);
+        firstChildren = Arrays.copyOf(firstChildren, newCapacity);
+        lastChildren = Arrays.copyOf(lastChildren, newCapacity);
+        nextSiblings = Arrays.copyOf(nextSiblings, newCapacity);
+        childCounts = Arrays.copyOf(childCounts, newCapacity);
+        flags = Arrays.copyOf(flags, newCapacity);
+        roundedOriginX = Arrays.copyOf(roundedOriginX, newCapacity);
+        roundedOriginY = Arrays.copyOf(roundedOriginY, newCapacity);
+        childViews = Arrays.copyOf(childViews, newCapacity);
+    }
+
+    /**
+     * Resolves a node id to its slot index, or {@link #NONE} if the node is not (or no longer) in the storage.
+     */
+    int slotOf(NodeId node) {
+        return slotOf(node.value());
+    }
+
+    /**
+     * Returns the slot of a live node given its raw id value, or {@link #NONE}.
+     */
+    int slotOf(long value) {
+        int slot = (int) value;
+        if (slot < 0 || slot >= slotCount) {
+            return NONE;
+        }
+        if (data[slot] == null || generations[slot] != (int) (value >>> 32)) {
+            return NONE;
+        }
+        return slot;
+    }
+
+    /**
+     * Returns the id of the live node in the given slot.
+     */
+    NodeId idOf(int slot) {
+        return ids[slot];
+    }
+
+    int size() {
+        return liveCount;
+    }
+
+    int slotCount() {
+        return slotCount;
+    }
+
+    boolean isLive(int slot) {
+        return data[slot] != null;
+    }
+
+    // === Per-node Data ===
+
+    NodeData data(int slot) {
+        return data[slot];
+    }
+
+    MeasureFunc measureFunc(int slot) {
+        return measureFuncs[slot];
+    }
+
+    void setMeasureFunc(int slot, MeasureFunc measureFunc) {
+        measureFuncs[slot] = measureFunc;
+        setFlag(slot, FLAG_HAS_CONTEXT, measureFunc != null);
+    }
+
+    boolean hasFlag(int slot, byte flag) {
+        return (flags[slot] & flag) != 0;
+    }
+
+    void setFlag(int slot, byte flag, boolean value) {
+        if (value) {
+            flags[slot] |= flag;
+        } else {
+            flags[slot] &= (byte) ~flag;
+        }
+    }
+
+    /**
+     * Returns whether the node's final layout was rounded against the given parent offset.
+     */
+    boolean isRoundedAt(int slot, float originX, float originY) {
+        return roundedOriginX[slot] == originX && roundedOriginY[slot] == originY;
+    }
+
+    /**
+     * Forgets every rounded origin, so the next rounding pass rounds all nodes it reaches.
+     */
+    void invalidateRoundedOrigins() {
+        Arrays.fill(roundedOriginX, 0, slotCount, Float.NaN);
+        Arrays.fill(roundedOriginY, 0, slotCount, Float.NaN);
+    }
+
+    void setRoundedOrigin(int slot, float originX, float originY) {
+        roundedOriginX[slot] = originX;
+        roundedOriginY[slot] = originY;
+    }
+
+    // === Hierarchy ===
+
+    int parent(int slot) {
+        return parents[slot];
+    }
+
+    int firstChild(int slot) {
+        return firstChildren[slot];
+    }
+
+    int nextSibling(int slot) {
+        return nextSiblings[slot];
+    }
+
+    int childCount(int slot) {
+        return childCounts[slot];
+    }
+
+    /**
+     * Returns the slot of the child at the given index. The index must be in bounds.
+     */
+    int childAt(int parent, int index) {
+        ChildList view = childViews[parent];
+        if (view != null) {
+            return view.slots[index];
+        }
+        int child = firstChildren[parent];
+        for (int i = 0; i < index; i++) {
+            child = nextSiblings[child];
+        }
+        return child;
+    }
+
+    /**
+     * Returns the index of the child within its parent's children, or -1 if it is not a child of the parent.
+     */
+    int indexOfChild(int parent, int child) {
+        if (parents[child] != parent) {
+            return -1;
+        }
+        int index = 0;
+        for (int current = firstChildren[parent]; current != NONE; current = nextSiblings[current]) {
+            if (current == child) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Appends a detached node to the end of the parent's children.
+     */
+    void appendChild(int parent, int child) {
+        int last = lastChildren[parent];
+        if (last == NONE) {
+            firstChildren[parent] = child;
+        } else {
+            nextSiblings[last] = child;
+        }
+        lastChildren[parent] = child;
+        nextSiblings[child] = NONE;
+        parents[child] = parent;
+        childCounts[parent]++;
+        childViews[parent] = null;
+    }
+
+    /**
+     * Inserts a detached node at the given index of the parent's children ({@code 0 <= index <= childCount}).
+     */
+    void insertChild(int parent, int index, int child) {
+        if (index == childCounts[parent]) {
+            appendChild(parent, child);
+            return;
+        }
+        if (index == 0) {
+            nextSiblings[child] = firstChildren[parent];
+            firstChildren[parent] = child;
+        } else {
+            int previous = childAt(parent, index - 1);
+            nextSiblings[child] = nextSiblings[previous];
+            nextSiblings[previous] = child;
+        }
+        parents[child] = parent;
+        childCounts[parent]++;
+        childViews[parent] = null;
+    }
+
+    /**
+     * Replaces an existing child of the parent with a detached node, leaving the old child detached.
+     */
+    void replaceChild(int parent, int oldChild, int newChild) {
+        int previous = NONE;
+        for (int current = firstChildren[parent]; current != oldChild; current = nextSiblings[current]) {
+            previous = current;
+        }
+        if (previous == NONE) {
+            firstChildren[parent] = newChild;
+        } else {
+            nextSiblings[previous] = newChild;
+        }
+        if (lastChildren[parent] == oldChild) {
+            lastChildren[parent] = newChild;
+        }
+        nextSiblings[newChild] = nextSiblings[oldChild];
+        parents[newChild] = parent;
+        nextSiblings[oldChild] = NONE;
+        parents[oldChild] = NONE;
+        childViews[parent] = null;
+    }
+
+    /**
+     * Unlinks a node from its parent's children. Does nothing if the node is already detached.
+     */
+    void detach(int child) {
+        int parent = parents[child];
+        if (parent == NONE) {
+            return;
+        }
+        int previous = NONE;
+        int current = firstChildren[parent];
+        while (current != child) {
+            previous = current;
+            current = nextSiblings[current];
+        }
+        int next = nextSiblings[child];
+        if (previous == NONE) {
+            firstChildren[parent] = next;
+        } else {
+            nextSiblings[previous] = next;
+        }
+        if (lastChildren[parent] == child) {
+            lastChildren[parent] = previous;
+        }
+        nextSiblings[child] = NONE;
+        parents[child] = NONE;
+        childCounts[parent]--;
+        childViews[parent] = null;
+    }
+
+    /**
+     * Detaches every child of the parent.
+     */
+    void detachAllChildren(int parent) {
+        int current = firstChildren[parent];
+        while (current != NONE) {
+            int next = nextSiblings[current];
+            parents[current] = NONE;
+            nextSiblings[current] = NONE;
+            current = next;
+        }
+        firstChildren[parent] = NONE;
+        lastChildren[parent] = NONE;
+        childCounts[parent] = 0;
+        childViews[parent] = null;
+    }
+
+    /**
+     * Returns a read-only random-access view of the parent's children.
+     * The view is cached until the child list next changes.
+     */
+    List<NodeId> children(int parent) {
+        if (childCounts[parent] == 0) {
+            return EMPTY_CHILDREN;
+        }
+        ChildList view = childViews[parent];
+        if (view == null) {
+            int count = childCounts[parent];
+            int[] slots = new int[count];
+            NodeId[] childIds = new NodeId[count];
+            int i = 0;
+            for (int current = firstChildren[parent]; current != NONE; current = nextSiblings[current]) {
+                slots[i] = current;
+                childIds[i] = ids[current];
+                i++;
+            }
+            view = new ChildList(slots, childIds);
+            childViews[parent] = view;
+        }
+        return view;
+    }
+
+    /**
+     * Returns the slots of the parent's children in order. The array belongs to the cached view
+     * and must not be modified.
+     */
+    int[] childSlots(int parent) {
+        if (childCounts[parent] == 0) {
+            return EMPTY_SLOTS;
+        }
+        children(parent);
+        return childViews[parent].slots;
+    }
+
+    /**
+     * Immutable snapshot of a child list, indexed by position.
+     */
+    private static final class ChildList extends AbstractList<NodeId> implements RandomAccess {
+        final int[] slots;
+        final NodeId[] childIds;
+
+        ChildList(int[] slots, NodeId[] childIds) {
+            this.slots = slots;
+            this.childIds = childIds;
+        }
+
+        @Override
+        public NodeId get(int index) {
+            return childIds[index];
+        }
+
+        @Override
+        public int size() {
+            return childIds.length;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package dev.vfyjxf.taffy.tree;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BiConsumer;
+
+/**
+ * State for an opt-in parallel layout pass (see {@link TaffyTree#computeLayoutParallel}).
+ * <p>
+ * Containers keep running their final-layout passes serially. Before such a pass they hand the
+ * inputs of their children to {@link LayoutComputer#prelayoutChildren}, which lays out children whose
+ * subtree reaches the fork threshold concurrently. Each of those results lands in the child's layout
+ * cache under exactly the inputs the serial pass uses next, so the serial pass gets cache hits and the
+ * result is bit-identical to a fully serial layout.
+ * <p>
+ * Sibling subtrees are disjoint, so forked tasks never touch the same node's cache or layout.
+ * <p>
+ * Grid containers with many items additionally measure their items' intrinsic contributions
+ * concurrently before track sizing (see {@link #measureAll}). Those are independent sizing queries
+ * on distinct children, memoized on the grid items under the inputs track sizing uses.
+ */
+final class ParallelLayout {
+
+    /** Number of measurements run by one task of {@link #measureAll} */
+    private static final int MEASURE_CHUNK = 8;
+
+    private final int threshold;
+    private final int measureThreshold;
+    private final NodeStorage storage;
+
+    /** Number of nodes in the subtree rooted at each slot, including the node itself */
+    private final int[] subtreeSizes;
+
+    ParallelLayout(NodeStorage storage, int rootSlot, int threshold, int measureThreshold) {
+        this.threshold = Math.max(threshold, 1);
+        this.measureThreshold = measureThreshold;
+        this.storage = storage;
+        this.subtreeSizes = computeSubtreeSizes(storage, rootSlot);
+    }
+
+    /**
+     * Returns whether the subtree rooted at the given node is large enough to be worth forking.
+     */
+    boolean shouldFork(NodeId node) {
+        int slot = storage.slotOf(node);
+        return slot != NodeStorage.NONE && subtreeSizes[slot] >= threshold;
+    }
+
+    /**
+     * Returns whether a container with the given number of pending intrinsic measurements should run
+     * them concurrently. A measure threshold of 0 or less disables concurrent measurement.
+     */
+    boolean shouldMeasureConcurrently(int count) {
+        return measureThreshold > 0 && count >= measureThreshold && count > 1;
+    }
+
+    /**
+     * Runs the given measurements concurrently, in chunks of a few items per task, and waits for all of them.
+     * Must be called from a thread of the pool the layout pass runs in. Each task gets its own computer.
+     * The items must belong to distinct children.
+     */
+    <T> void measureAll(LayoutComputer computer, List<T> items, BiConsumer<LayoutComputer, T> measure) {
+        new MeasureRange<>(computer, items, measure, 0, items.size()).invoke();
+    }
+
+    @SuppressWarnings("serial") // never serialized
+    private static final class MeasureRange<T> extends RecursiveAction {
+        private final LayoutComputer computer;
+        private final List<T> items;
+        private final BiConsumer<LayoutComputer, T> measure;
+        private final int start;
+        private final int end;
+
+        MeasureRange(LayoutComputer computer, List<T> items, BiConsumer<LayoutComputer, T> measure, int start, int end) {
+            this.computer = computer;
+            this.items = items;
+            this.measure = measure;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= MEASURE_CHUNK) {
+                LayoutComputer forked = computer.fork();
+                for (int i = start; i < end; i++) {
+                    measure.accept(forked, items.get(i));
+                }
+                return;
+            }
+            int mid = (start + end) >>> 1;
+            invokeAll(new MeasureRange<>(computer, items, measure, start, mid),
+                new MeasureRange<>(computer, items, measure, mid, end));
+        }
+    }
+
+    /**
+     * Lays out the given children concurrently and waits for all of them.
+     * Must be called from a thread of the pool the layout pass runs in.
+     * Every task gets its own computer, since a computer's scratch arenas are single-threaded.
+     */
+    void layoutAll(LayoutComputer computer, List<NodeId> nodes, List<LayoutInput> inputs) {
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(nodes.size());
+        for (int i = 0; i < nodes.size(); i++) {
+            NodeId node = nodes.get(i);
+            LayoutInput input = inputs.get(i);
+            tasks.add(ForkJoinTask.adapt(() -> computer.fork().computeChildLayout(node, input)));
+        }
+        ForkJoinTask.invokeAll(tasks);
+    }
+
+    /**
+     * Counts subtree sizes bottom-up with an explicit stack, so deep trees don't overflow the call stack.
+     */
+    private static int[] computeSubtreeSizes(NodeStorage storage, int rootSlot) {
+        int[] sizes = new int[storage.slotCount()];
+        IntArrayList order = new IntArrayList();
+        IntArrayList stack = new IntArrayList();
+        stack.add(rootSlot);
+        while (!stack.isEmpty()) {
+            int slot = stack.popInt();
+            order.add(slot);
+            for (int child = storage.firstChild(slot); child != NodeStorage.NONE; child = storage.nextSibling(child)) {
+                stack.add(child);
+            }
+        }
+        // Children always appear after their parent in pre-order, so walking it backwards sees them first
+        for (int i = order.size() - 1; i >= 0; i--) {
+            int slot = order.getInt(i);
+            sizes[slot] += 1;
+            int parent = storage.parent(slot);
+            if (parent != NodeStorage.NONE && i > 0) {
+                sizes[parent] += sizes[slot];
+            }
+        }
+        return sizes;
+    }
+}
@@ -0,0 +1,98 @@
+package dev.vfyjxf.taffy.tree;
+
+import java.util.ArrayList;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Depth-indexed scratch storage owned by a long-lived layout algorithm.
+ * <p>
+ * Each container layout acquires the frame for its nesting depth on entry and releases it on exit.
+ * Nested containers of the same kind acquire deeper frames, so a frame is never used by two layouts
+ * that are active at the same time, and frames (with everything they pooled) are reused across
+ * containers and across layout passes.
+ * <p>
+ * Not thread-safe: every thread laying out a tree needs its own arena.
+ */
+final class ScratchArena<F extends ScratchArena.Frame> {
+
+    /**
+     * Scratch state of a single container layout.
+     */
+    interface Frame {
+        /**
+         * Returns everything this frame handed out to its pools, ready for the next container.
+         */
+        void reset();
+    }
+
+    private final Supplier<F> factory;
+    private final ArrayList<F> frames = new ArrayList<>();
+    private int depth = 0;
+
+    ScratchArena(Supplier<F> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Takes the frame for the next nesting depth. Must be paired with {@link #release()}.
+     */
+    F acquire() {
+        F frame;
+        if (depth == frames.size()) {
+            frame = factory.get();
+            frames.add(frame);
+        } else {
+            frame = frames.get(depth);
+            frame.reset();
+        }
+        depth++;
+        return frame;
+    }
+
+    /**
+     * Gives back the frame taken by the matching {@link #acquire()}.
+     */
+    void release() {
+        depth--;
+    }
+
+    /**
+     * A pool of reusable scratch objects, handed out in order and taken back all at once.
+     */
+    static final class Pool<T> {
+
+        private final Supplier<T> factory;
+        private final Consumer<T> reset;
+        private final ArrayList<T> instances = new ArrayList<>();
+        private int used = 0;
+
+        Pool(Supplier<T> factory, Consumer<T> reset) {
+            this.factory = factory;
+            this.reset = reset;
+        }
+
+        /**
+         * Returns a pooled instance in its freshly constructed state.
+         */
+        T next() {
+            T instance;
+            if (used == instances.size()) {
+                instance = factory.get();
+                instances.add(instance);
+            } else {
+                instance = instances.get(used);
+                reset.accept(instance);
+            }
+            used++;
+            return instance;
+        }
+
+        /**
+         * Marks every instance as free again.
+         */
+        void releaseAll() {
+            used = 0;
+        }
+    }
+}
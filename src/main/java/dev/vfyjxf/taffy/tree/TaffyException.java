@@ -5,6 +5,8 @@ package dev.vfyjxf.taffy.tree;
  */
 public class TaffyException extends RuntimeException {
 
+    private static final long serialVersionUID = 1L;
+
     private final ErrorType type;
     private final NodeId parentNode;
     private final NodeId childNode;
@@ -15,7 +17,8 @@ public class TaffyException extends RuntimeException {
         CHILD_INDEX_OUT_OF_BOUNDS,
         INVALID_PARENT_NODE,
         INVALID_CHILD_NODE,
-        INVALID_INPUT_NODE
+        INVALID_INPUT_NODE,
+        LAYOUT_FAILED
     }
 
     private TaffyException(ErrorType type, NodeId parentNode, NodeId childNode, Integer childIndex, Integer childCount, String message) {
@@ -50,6 +53,13 @@ public class TaffyException extends RuntimeException {
         return new TaffyException(ErrorType.INVALID_INPUT_NODE, null, null, null, null, message);
     }
 
+    public static TaffyException layoutFailed(NodeId node, Throwable cause) {
+        String message = String.format("Layout of node %s failed: %s", node, cause);
+        TaffyException exception = new TaffyException(ErrorType.LAYOUT_FAILED, null, null, null, null, message);
+        exception.initCause(cause);
+        return exception;
+    }
+
     public ErrorType getType() {
         return type;
     }
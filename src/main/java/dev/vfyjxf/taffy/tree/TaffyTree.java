@@ -1,5 +1,6 @@
 package dev.vfyjxf.taffy.tree;
 
+import dev.vfyjxf.taffy.geometry.FloatRect;
 import dev.vfyjxf.taffy.geometry.FloatSize;
 import dev.vfyjxf.taffy.geometry.TaffySize;
 import dev.vfyjxf.taffy.style.AvailableSpace;
@@ -7,11 +8,17 @@ import dev.vfyjxf.taffy.style.TaffyDisplay;
 import dev.vfyjxf.taffy.style.FlexDirection;
 import dev.vfyjxf.taffy.style.TaffyStyle;
 import dev.vfyjxf.taffy.util.MeasureFunc;
-import dev.vfyjxf.taffy.util.RoundLayout;
-import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * An entire tree of UI nodes. The entry point to Taffy's high-level API.
@@ -23,23 +30,46 @@ public class TaffyTree {
 
     private static final int DEFAULT_CAPACITY = 16;
 
-    /** Counter for generating unique node IDs */
-    private final AtomicLong nodeIdCounter = new AtomicLong(0);
+    /**
+     * Default minimum subtree size (in nodes) for a child to be laid out on its own task
+     * by {@link #computeLayoutParallel(NodeId, TaffySize, ForkJoinPool)}.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 256;
+
+    /**
+     * Default minimum number of items whose intrinsic contributions a grid container measures concurrently
+     * during a parallel layout pass.
+     */
+    public static final int DEFAULT_PARALLEL_MEASURE_THRESHOLD = 64;
+
+    /**
+     * Default number of nested layout levels run on one thread's stack when deep layout is enabled.
+     */
+    public static final int DEFAULT_DEEP_LAYOUT_SEGMENT_DEPTH = 256;
 
-    /** NodeData storage by node ID - using fastutil for faster primitive key access */
-    private final Long2ObjectOpenHashMap<NodeData> nodes;
+    /**
+     * Handle value returned by the primitive handle API (e.g. {@link #parentL(long)}) when there is no such node.
+     */
+    public static final long NO_NODE = -1L;
 
-    /** Context data (measure functions) storage by node ID */
-    private final Long2ObjectOpenHashMap<MeasureFunc> nodeContextData;
+    /** Slot-based storage for node data, measure functions and the hierarchy */
+    private final NodeStorage storage;
 
-    /** Children of each node */
-    private final Long2ObjectOpenHashMap<List<NodeId>> children;
+    /** Serial layout computer, kept across passes so its scratch arenas are reused; created on first layout */
+    private LayoutComputer layoutComputer = null;
 
-    /** Parent of each node */
-    private final Long2ObjectOpenHashMap<NodeId> parents;
+    /** Nodes whose ancestor chains are dirtied when the open batch commits; null when no batch is open */
+    private IntArrayList pendingDirty = null;
 
     /** Whether to round layout values */
     private boolean useRounding = true;
+
+    /** Nesting depth after which serial layout continues on a fresh stack; 0 when deep layout is disabled */
+    private int deepLayoutSegmentDepth = 0;
+
+    /** Pending nodes of the rounding walk and their parent origins (x, y pairs), reused across passes */
+    private int[] roundStackSlots = new int[32];
+    private float[] roundStackOrigins = new float[64];
     
     /** Optional listener for layout change notifications */
     private LayoutChangeListener layoutChangeListener = null;
@@ -55,10 +85,7 @@ public class TaffyTree {
      * Creates a new TaffyTree with the specified initial capacity.
      */
     public TaffyTree(int capacity) {
-        this.nodes = new Long2ObjectOpenHashMap<>(capacity);
-        this.nodeContextData = new Long2ObjectOpenHashMap<>(capacity);
-        this.children = new Long2ObjectOpenHashMap<>(capacity);
-        this.parents = new Long2ObjectOpenHashMap<>(capacity);
+        this.storage = new NodeStorage(capacity);
     }
 
     // === Configuration ===
@@ -67,6 +94,10 @@ public class TaffyTree {
      * Enable rounding of layout values. Rounding is enabled by default.
      */
     public void enableRounding() {
+        if (!useRounding) {
+            // Final layouts were not maintained while rounding was off
+            storage.invalidateRoundedOrigins();
+        }
         this.useRounding = true;
     }
 
@@ -83,6 +114,45 @@ public class TaffyTree {
     public boolean roundingEnabled() {
         return useRounding;
     }
+
+    /**
+     * Enable deep layout with the default segment depth.
+     *
+     * @see #enableDeepLayout(int)
+     */
+    public void enableDeepLayout() {
+        enableDeepLayout(DEFAULT_DEEP_LAYOUT_SEGMENT_DEPTH);
+    }
+
+    /**
+     * Enable deep layout, for trees nested too deeply to lay out on the calling thread's stack.
+     * <p>
+     * Every {@code segmentDepth} levels of nesting, {@link #computeLayout} continues on another thread
+     * with its own stack while the previous one waits, so the supported depth is bounded by memory
+     * rather than by {@code -Xss}. Results are unchanged; measure functions and the layout change
+     * listener may then be called from those threads, one at a time. Deep layout is disabled by
+     * default and does not apply to {@link #computeLayoutParallel}.
+     */
+    public void enableDeepLayout(int segmentDepth) {
+        if (segmentDepth <= 0) {
+            throw new IllegalArgumentException("segmentDepth must be positive: " + segmentDepth);
+        }
+        this.deepLayoutSegmentDepth = segmentDepth;
+    }
+
+    /**
+     * Disable deep layout.
+     */
+    public void disableDeepLayout() {
+        this.deepLayoutSegmentDepth = 0;
+    }
+
+    /**
+     * Returns whether deep layout is enabled.
+     */
+    public boolean deepLayoutEnabled() {
+        return deepLayoutSegmentDepth > 0;
+    }
     
     /**
      * Sets a listener to be notified when node layouts change during computation.
@@ -115,52 +185,33 @@ public class TaffyTree {
      * Creates and adds a new unattached leaf node to the tree.
      */
     public NodeId newLeaf(TaffyStyle style) {
-        long id = nodeIdCounter.getAndIncrement();
-        NodeId nodeId = new NodeId(id);
-        
-        nodes.put(id, new NodeData(style));
-        children.put(id, new ArrayList<>());
-        parents.put(id, null);
-        
-        return nodeId;
+        int slot = storage.allocate(new NodeData(style));
+        return storage.idOf(slot);
     }
 
     /**
      * Creates and adds a new unattached leaf node with a measure function.
      */
     public NodeId newLeafWithMeasure(TaffyStyle style, MeasureFunc measureFunc) {
-        long id = nodeIdCounter.getAndIncrement();
-        NodeId nodeId = new NodeId(id);
-        
-        NodeData data = new NodeData(style);
-        data.setHasContext(true);
-        nodes.put(id, data);
-        nodeContextData.put(id, measureFunc);
-        children.put(id, new ArrayList<>());
-        parents.put(id, null);
-        
-        return nodeId;
+        int slot = storage.allocate(new NodeData(style));
+        storage.setMeasureFunc(slot, measureFunc);
+        return storage.idOf(slot);
     }
 
     /**
      * Creates and adds a new node with children.
      */
     public NodeId newWithChildren(TaffyStyle style, NodeId... childNodes) {
-        long id = nodeIdCounter.getAndIncrement();
-        NodeId nodeId = new NodeId(id);
-        
-        nodes.put(id, new NodeData(style));
-        
-        List<NodeId> childList = new ArrayList<>(childNodes.length);
-        for (NodeId child : childNodes) {
-            parents.put(child.getId(), nodeId);
-            childList.add(child);
+        int[] childSlots = new int[childNodes.length];
+        for (int i = 0; i < childNodes.length; i++) {
+            childSlots[i] = requireSlot(childNodes[i], TaffyException::invalidChildNode);
         }
-        
-        children.put(id, childList);
-        parents.put(id, null);
-        
-        return nodeId;
+
+        int slot = storage.allocate(new NodeData(style));
+        for (int childSlot : childSlots) {
+            reparent(slot, childSlot);
+        }
+        return storage.idOf(slot);
     }
 
     /**
@@ -176,39 +227,38 @@ public class TaffyTree {
      * Drops all nodes in the tree.
      */
     public void clear() {
-        nodes.clear();
-        nodeContextData.clear();
-        children.clear();
-        parents.clear();
+        storage.clear();
+        if (pendingDirty != null) {
+            pendingDirty.clear();
+        }
+        // Drop the scratch arenas too, they may have grown to the size of the old tree
+        layoutComputer = null;
     }
 
     /**
      * Remove a specific node from the tree.
      */
     public void remove(NodeId node) {
-        long key = node.getId();
-        
-        // Remove from parent's children list
-        NodeId parent = parents.get(key);
-        if (parent != null) {
-            List<NodeId> parentChildren = children.get(parent.getId());
-            if (parentChildren != null) {
-                parentChildren.removeIf(n -> n.equals(node));
-            }
+        int slot = storage.slotOf(node);
+        if (slot == NodeStorage.NONE) {
+            return;
         }
-        
-        // Remove parent references from this node's children
-        List<NodeId> nodeChildren = children.get(key);
-        if (nodeChildren != null) {
-            for (NodeId child : nodeChildren) {
-                parents.put(child.getId(), null);
+
+        // A queued mark below this node can no longer reach its ancestors after the commit, so queue the parent
+        if (pendingDirty != null) {
+            int parentSlot = storage.parent(slot);
+            if (parentSlot != NodeStorage.NONE) {
+                markDirtySlot(parentSlot);
             }
         }
-        
-        children.remove(key);
-        parents.remove(key);
-        nodes.remove(key);
-        nodeContextData.remove(key);
+
+        // Remove from parent's children list
+        storage.detach(slot);
+
+        // Remove parent references from this node's children
+        storage.detachAllChildren(slot);
+
+        storage.release(slot);
     }
 
     // === Context (Measure Function) Management ===
@@ -217,122 +267,165 @@ public class TaffyTree {
      * Sets the measure function for a node.
      */
     public void setMeasureFunc(NodeId node, MeasureFunc measureFunc) {
-        long key = node.getId();
-        NodeData data = nodes.get(key);
-        if (data == null) {
-            throw TaffyException.invalidInputNode(node);
-        }
-        
-        if (measureFunc != null) {
-            data.setHasContext(true);
-            nodeContextData.put(key, measureFunc);
-        } else {
-            data.setHasContext(false);
-            nodeContextData.remove(key);
-        }
-        
-        markDirty(node);
+        int slot = requireSlot(node, TaffyException::invalidInputNode);
+        storage.setMeasureFunc(slot, measureFunc);
+        markDirtySlot(slot);
     }
 
     /**
      * Gets the measure function for a node.
      */
     public MeasureFunc getMeasureFunc(NodeId node) {
-        return nodeContextData.get(node.getId());
+        int slot = storage.slotOf(node);
+        return slot != NodeStorage.NONE ? storage.measureFunc(slot) : null;
+    }
+
+    // === Grid Virtualization ===
+
+    /**
+     * Attaches a viewport to a grid container, switching it to windowed layout, or detaches it when
+     * {@code viewport} is null. Each container needs its own viewport instance.
+     *
+     * @see GridViewport
+     */
+    public void setGridViewport(NodeId node, GridViewport viewport) {
+        int slot = requireSlot(node, TaffyException::invalidInputNode);
+        storage.data(slot).setGridViewport(viewport);
+        releaseSubgridChildren(node, slot);
+        markDirtySlot(slot);
+    }
+
+    /**
+     * Returns the viewport attached to a grid container, or null.
+     */
+    public GridViewport getGridViewport(NodeId node) {
+        NodeData data = getNodeData(node);
+        return data != null ? data.getGridViewport() : null;
+    }
+
+    /**
+     * Moves the viewport of a windowed grid container. The rectangle is relative to the container's border box.
+     * Only the container and its ancestors are invalidated, and layout and rounding only visit the container's
+     * visible cells and the ones that left the viewport, so the work inside the container is O(visible cells).
+     *
+     * @throws IllegalStateException if the node has no viewport attached
+     */
+    public void scrollGridViewport(NodeId node, float x, float y, float width, float height) {
+        int slot = requireSlot(node, TaffyException::invalidInputNode);
+        GridViewport viewport = storage.data(slot).getGridViewport();
+        if (viewport == null) {
+            throw new IllegalStateException("Node has no grid viewport: " + node);
+        }
+        viewport.setView(x, y, width, height);
+        markDirtySlot(slot);
+    }
+
+    // === Flex Virtualization ===
+
+    /**
+     * Attaches a viewport to a single-line flex container, switching it to windowed layout, or detaches it when
+     * {@code viewport} is null. Each container needs its own viewport instance.
+     *
+     * @see FlexViewport
+     */
+    public void setFlexViewport(NodeId node, FlexViewport viewport) {
+        int slot = requireSlot(node, TaffyException::invalidInputNode);
+        storage.data(slot).setFlexViewport(viewport);
+        markDirtySlot(slot);
+    }
+
+    /**
+     * Returns the viewport attached to a flex container, or null.
+     */
+    public FlexViewport getFlexViewport(NodeId node) {
+        NodeData data = getNodeData(node);
+        return data != null ? data.getFlexViewport() : null;
+    }
+
+    /**
+     * Moves the viewport of a windowed flex container along its main axis. The span is relative to the
+     * container's border box. Only the container and its ancestors are invalidated, and layout and rounding
+     * only visit the container's visible children and the ones that left the viewport, so the work inside the
+     * container is O(visible children).
+     *
+     * @throws IllegalStateException if the node has no viewport attached
+     */
+    public void scrollFlexViewport(NodeId node, float start, float length) {
+        int slot = requireSlot(node, TaffyException::invalidInputNode);
+        FlexViewport viewport = storage.data(slot).getFlexViewport();
+        if (viewport == null) {
+            throw new IllegalStateException("Node has no flex viewport: " + node);
+        }
+        viewport.setView(start, length);
+        markDirtySlot(slot);
     }
 
     // === Child Management ===
 
     /**
      * Adds a child node under the parent.
+     * If the child is currently attached to another parent it is moved.
      */
     public void addChild(NodeId parent, NodeId child) {
-        long parentKey = parent.getId();
-        long childKey = child.getId();
-        
-        if (!nodes.containsKey(parentKey)) {
-            throw TaffyException.invalidParentNode(parent);
-        }
-        if (!nodes.containsKey(childKey)) {
-            throw TaffyException.invalidChildNode(child);
-        }
-        
-        parents.put(childKey, parent);
-        children.get(parentKey).add(child);
-        markDirty(parent);
+        int parentSlot = requireSlot(parent, TaffyException::invalidParentNode);
+        int childSlot = requireSlot(child, TaffyException::invalidChildNode);
+
+        markDirtyParentOf(childSlot);
+        reparent(parentSlot, childSlot);
+        markDirtySlot(parentSlot);
     }
 
     /**
      * Inserts a child at the given index.
      */
     public void insertChildAtIndex(NodeId parent, int childIndex, NodeId child) {
-        long parentKey = parent.getId();
-        List<NodeId> parentChildren = children.get(parentKey);
-        
-        if (parentChildren == null) {
-            throw TaffyException.invalidParentNode(parent);
-        }
-        
-        int childCount = parentChildren.size();
+        int parentSlot = requireSlot(parent, TaffyException::invalidParentNode);
+
+        int childCount = storage.childCount(parentSlot);
         if (childIndex > childCount) {
             throw TaffyException.childIndexOutOfBounds(parent, childIndex, childCount);
         }
-        
-        parents.put(child.getId(), parent);
-        parentChildren.add(childIndex, child);
-        markDirty(parent);
+
+        int childSlot = requireSlot(child, TaffyException::invalidChildNode);
+        markDirtyParentOf(childSlot);
+        storage.detach(childSlot);
+        storage.insertChild(parentSlot, Math.min(childIndex, storage.childCount(parentSlot)), childSlot);
+        markDirtySlot(parentSlot);
     }
 
     /**
      * Sets the children of a node, replacing existing children.
      */
     public void setChildren(NodeId parent, NodeId... newChildren) {
-        long parentKey = parent.getId();
-        List<NodeId> parentChildList = children.get(parentKey);
-        
-        if (parentChildList == null) {
-            throw TaffyException.invalidParentNode(parent);
+        int parentSlot = requireSlot(parent, TaffyException::invalidParentNode);
+
+        int[] childSlots = new int[newChildren.length];
+        for (int i = 0; i < newChildren.length; i++) {
+            childSlots[i] = requireSlot(newChildren[i], TaffyException::invalidChildNode);
         }
-        
+
         // Remove parent reference from current children
-        for (NodeId child : parentChildList) {
-            parents.put(child.getId(), null);
-        }
-        
-        // Set new children
-        for (NodeId child : newChildren) {
-            // Remove from previous parent if any
-            NodeId previousParent = parents.get(child.getId());
-            if (previousParent != null) {
-                removeChild(previousParent, child);
-            }
-            parents.put(child.getId(), parent);
+        storage.detachAllChildren(parentSlot);
+
+        // Set new children, removing them from their previous parent if any
+        for (int childSlot : childSlots) {
+            markDirtyParentOf(childSlot);
+            reparent(parentSlot, childSlot);
         }
-        
-        parentChildList.clear();
-        parentChildList.addAll(Arrays.asList(newChildren));
-        markDirty(parent);
+
+        markDirtySlot(parentSlot);
     }
 
     /**
      * Removes a child from a parent.
      */
     public void removeChild(NodeId parent, NodeId child) {
-        List<NodeId> parentChildren = children.get(parent.getId());
-        if (parentChildren == null) {
-            throw TaffyException.invalidParentNode(parent);
-        }
-        
-        int index = -1;
-        for (int i = 0; i < parentChildren.size(); i++) {
-            if (parentChildren.get(i).equals(child)) {
-                index = i;
-                break;
-            }
-        }
-        
-        if (index >= 0) {
-            removeChildAtIndex(parent, index);
+        int parentSlot = requireSlot(parent, TaffyException::invalidParentNode);
+
+        int childSlot = storage.slotOf(child);
+        if (childSlot != NodeStorage.NONE && storage.parent(childSlot) == parentSlot) {
+            storage.detach(childSlot);
+            markDirtySlot(parentSlot);
         }
     }
 
@@ -340,66 +433,73 @@ public class TaffyTree {
      * Removes the child at the given index.
      */
     public NodeId removeChildAtIndex(NodeId parent, int childIndex) {
-        long parentKey = parent.getId();
-        List<NodeId> parentChildren = children.get(parentKey);
-        
-        if (parentChildren == null) {
-            throw TaffyException.invalidParentNode(parent);
-        }
-        
-        int childCount = parentChildren.size();
+        int parentSlot = requireSlot(parent, TaffyException::invalidParentNode);
+
+        int childCount = storage.childCount(parentSlot);
         if (childIndex >= childCount) {
             throw TaffyException.childIndexOutOfBounds(parent, childIndex, childCount);
         }
-        
-        NodeId child = parentChildren.remove(childIndex);
-        parents.put(child.getId(), null);
-        markDirty(parent);
-        
-        return child;
+
+        int childSlot = storage.childAt(parentSlot, childIndex);
+        storage.detach(childSlot);
+        markDirtySlot(parentSlot);
+
+        return storage.idOf(childSlot);
     }
 
     /**
      * Gets the child at the given index.
      */
     public NodeId getChildAtIndex(NodeId parent, int childIndex) {
-        long parentKey = parent.getId();
-        List<NodeId> parentChildren = children.get(parentKey);
-        
-        if (parentChildren == null) {
-            throw TaffyException.invalidParentNode(parent);
-        }
-        
-        int childCount = parentChildren.size();
+        int parentSlot = requireSlot(parent, TaffyException::invalidParentNode);
+
+        int childCount = storage.childCount(parentSlot);
         if (childIndex >= childCount) {
             throw TaffyException.childIndexOutOfBounds(parent, childIndex, childCount);
         }
-        
-        return parentChildren.get(childIndex);
+
+        return storage.idOf(storage.childAt(parentSlot, childIndex));
     }
 
     /**
      * Replaces the child at the given index with a new child.
      */
     public NodeId replaceChildAtIndex(NodeId parent, int childIndex, NodeId newChild) {
-        long parentKey = parent.getId();
-        List<NodeId> parentChildren = children.get(parentKey);
-        
-        if (parentChildren == null) {
-            throw TaffyException.invalidParentNode(parent);
-        }
-        
-        int childCount = parentChildren.size();
+        int parentSlot = requireSlot(parent, TaffyException::invalidParentNode);
+
+        int childCount = storage.childCount(parentSlot);
         if (childIndex >= childCount) {
             throw TaffyException.childIndexOutOfBounds(parent, childIndex, childCount);
         }
-        
-        parents.put(newChild.getId(), parent);
-        NodeId oldChild = parentChildren.set(childIndex, newChild);
-        parents.put(oldChild.getId(), null);
-        markDirty(parent);
-        
-        return oldChild;
+
+        int newChildSlot = requireSlot(newChild, TaffyException::invalidChildNode);
+        int oldChildSlot = storage.childAt(parentSlot, childIndex);
+        if (oldChildSlot != newChildSlot) {
+            markDirtyParentOf(newChildSlot);
+            storage.detach(newChildSlot);
+            storage.replaceChild(parentSlot, oldChildSlot, newChildSlot);
+        }
+        markDirtySlot(parentSlot);
+
+        return storage.idOf(oldChildSlot);
+    }
+
+    /**
+     * Moves a live node under a new parent, detaching it from its previous parent first.
+     */
+    private void reparent(int parentSlot, int childSlot) {
+        storage.detach(childSlot);
+        storage.appendChild(parentSlot, childSlot);
+    }
+
+    /**
+     * Marks the current parent of a node dirty before the node is moved away from it.
+     */
+    private void markDirtyParentOf(int childSlot) {
+        int previousParent = storage.parent(childSlot);
+        if (previousParent != NodeStorage.NONE) {
+            markDirtySlot(previousParent);
+        }
     }
 
     // === Getters ===
@@ -408,38 +508,37 @@ public class TaffyTree {
      * Returns the number of children of a node.
      */
     public int childCount(NodeId parent) {
-        List<NodeId> parentChildren = children.get(parent.getId());
-        return parentChildren != null ? parentChildren.size() : 0;
+        int slot = storage.slotOf(parent);
+        return slot != NodeStorage.NONE ? storage.childCount(slot) : 0;
     }
 
     /**
      * Returns an unmodifiable list of children.
+     * <p>
+     * The returned list is a snapshot that is reused until the node's children change.
      */
     public List<NodeId> getChildren(NodeId parent) {
-        List<NodeId> parentChildren = children.get(parent.getId());
-        return parentChildren != null ? parentChildren : Collections.emptyList();
-    }
-
-    /**
-     * Returns the children list directly without creating a wrapper.
-     * Only for internal use where the caller guarantees not to modify the list.
-     */
-    List<NodeId> getChildrenInternal(NodeId parent) {
-        return children.get(parent.getId());
+        int slot = storage.slotOf(parent);
+        return slot != NodeStorage.NONE ? storage.children(slot) : Collections.emptyList();
     }
 
     /**
      * Returns the total number of nodes in the tree.
      */
     public int totalNodeCount() {
-        return nodes.size();
+        return storage.size();
     }
 
     /**
      * Returns the parent of a node.
      */
     public NodeId getParent(NodeId child) {
-        return parents.get(child.getId());
+        int slot = storage.slotOf(child);
+        if (slot == NodeStorage.NONE) {
+            return null;
+        }
+        int parentSlot = storage.parent(slot);
+        return parentSlot != NodeStorage.NONE ? storage.idOf(parentSlot) : null;
     }
 
     // === Style Management ===
@@ -448,32 +547,43 @@ public class TaffyTree {
      * Sets the style of a node.
      */
     public void setStyle(NodeId node, TaffyStyle style) {
-        NodeData data = nodes.get(node.getId());
-        if (data == null) {
-            throw TaffyException.invalidInputNode(node);
+        int slot = requireSlot(node, TaffyException::invalidInputNode);
+        storage.data(slot).setStyle(style);
+        releaseSubgridChildren(node, slot);
+        markDirtySlot(slot);
+    }
+
+    /**
+     * Drops the columns a container handed down to its subgrid children once it no longer sizes them,
+     * so their cached layouts in those columns aren't reused.
+     */
+    private void releaseSubgridChildren(NodeId node, int slot) {
+        NodeData data = storage.data(slot);
+        if (GridComputer.sizesSubgrids(data.getStyle(), data.getGridViewport())) {
+            return;
+        }
+        for (int child : storage.childSlots(slot)) {
+            storage.data(child).dropSubgridColumns(node);
         }
-        data.setStyle(style);
-        markDirty(node);
     }
 
     /**
      * Gets the style of a node.
      */
     public TaffyStyle getStyle(NodeId node) {
-        NodeData data = nodes.get(node.getId());
-        if (data == null) {
-            throw TaffyException.invalidInputNode(node);
-        }
-        return data.getStyle();
+        return requireData(node).getStyle();
     }
 
     // === Layout Access ===
 
     /**
      * Returns the layout of a node.
+     * <p>
+     * The returned layout is owned by the tree and updated in place by later layout passes; it must not be
+     * modified. Use {@link #getLayoutCopy(NodeId)} to keep a snapshot.
      */
     public Layout getLayout(NodeId node) {
-        NodeData data = nodes.get(node.getId());
+        NodeData data = getNodeData(node);
         if (data == null) {
             return null;
         }
@@ -481,13 +591,212 @@ public class TaffyTree {
     }
 
     /**
-     * Returns the unrounded layout of a node.
+     * Returns a snapshot of the layout of a node that is not affected by later layout passes.
+     */
+    public Layout getLayoutCopy(NodeId node) {
+        Layout layout = getLayout(node);
+        return layout != null ? layout.copy() : null;
+    }
+
+    /**
+     * Returns the unrounded layout of a node. Like {@link #getLayout(NodeId)}, this is a live view.
      */
     public Layout getUnroundedLayout(NodeId node) {
-        NodeData data = nodes.get(node.getId());
+        NodeData data = getNodeData(node);
         return data != null ? data.getUnroundedLayout() : null;
     }
 
+    // === Primitive Handles ===
+    //
+    // Allocation-free variants of the hierarchy and layout getters for hot loops such as per-frame
+    // render walks. A handle is the raw value of a NodeId (NodeId.value()), and NO_NODE stands for "no node".
+
+    private int requireHandleSlot(long node) {
+        int slot = storage.slotOf(node);
+        if (slot == NodeStorage.NONE) {
+            throw TaffyException.invalidInputNode(NodeId.of(node));
+        }
+        return slot;
+    }
+
+    private long handleOf(int slot) {
+        return slot != NodeStorage.NONE ? storage.idOf(slot).value() : NO_NODE;
+    }
+
+    /**
+     * Returns whether the handle refers to a node in this tree.
+     */
+    public boolean containsNodeL(long node) {
+        return storage.slotOf(node) != NodeStorage.NONE;
+    }
+
+    /**
+     * Returns the number of children of a node, or 0 if the node is not in the tree.
+     */
+    public int childCountL(long parent) {
+        int slot = storage.slotOf(parent);
+        return slot != NodeStorage.NONE ? storage.childCount(slot) : 0;
+    }
+
+    /**
+     * Returns the child at the given index.
+     */
+    public long childAtL(long parent, int childIndex) {
+        int parentSlot = requireHandleSlot(parent);
+        int childCount = storage.childCount(parentSlot);
+        if (childIndex < 0 || childIndex >= childCount) {
+            throw TaffyException.childIndexOutOfBounds(NodeId.of(parent), childIndex, childCount);
+        }
+        return handleOf(storage.childSlots(parentSlot)[childIndex]);
+    }
+
+    /**
+     * Returns the first child of a node, or {@link #NO_NODE}.
+     */
+    public long firstChildL(long parent) {
+        return handleOf(storage.firstChild(requireHandleSlot(parent)));
+    }
+
+    /**
+     * Returns the next sibling of a node, or {@link #NO_NODE} if it is the last child or has no parent.
+     */
+    public long nextSiblingL(long node) {
+        return handleOf(storage.nextSibling(requireHandleSlot(node)));
+    }
+
+    /**
+     * Returns the parent of a node, or {@link #NO_NODE}.
+     */
+    public long parentL(long node) {
+        return handleOf(storage.parent(requireHandleSlot(node)));
+    }
+
+    /**
+     * Replaces the contents of {@code out} with the children of a node and returns it.
+     */
+    public LongArrayList getChildrenL(long parent, LongArrayList out) {
+        int slot = requireHandleSlot(parent);
+        out.clear();
+        for (int child = storage.firstChild(slot); child != NodeStorage.NONE; child = storage.nextSibling(child)) {
+            out.add(storage.idOf(child).value());
+        }
+        return out;
+    }
+
+    /**
+     * Returns true if this node or any of its descendants has a new layout.
+     *
+     * @see #needsVisit(NodeId)
+     */
+    public boolean needsVisitL(long node) {
+        return storage.hasFlag(requireHandleSlot(node), (byte) (NodeStorage.FLAG_NEW_LAYOUT | NodeStorage.FLAG_DIRTY_DESCENDANT));
+    }
+
+    /**
+     * Writes the layout position and size of a node (x, y, width, height) to the start of {@code out}.
+     */
+    public void getLayoutInto(long node, float[] out) {
+        getLayoutInto(node, out, 0);
+    }
+
+    /**
+     * Writes the layout position and size of a node (x, y, width, height) to {@code out},
+     * starting at {@code offset}. Reads the same layout as {@link #getLayout(NodeId)}.
+     */
+    public void getLayoutInto(long node, float[] out, int offset) {
+        NodeData data = storage.data(requireHandleSlot(node));
+        Layout layout = useRounding ? data.getFinalLayout() : data.getUnroundedLayout();
+        out[offset] = layout.location().x;
+        out[offset + 1] = layout.location().y;
+        out[offset + 2] = layout.size().width;
+        out[offset + 3] = layout.size().height;
+    }
+
+    // === Bulk Export ===
+
+    /**
+     * Writes the layouts of {@code root} and all of its descendants into {@code out} in depth-first
+     * (pre-order) order, starting at the buffer's position and advancing it.
+     * <p>
+     * Each node takes {@link ExportMask#floatsPerNode()} floats laid out as described by {@link ExportMask}.
+     * Reads the same layouts as {@link #getLayout(NodeId)}. If the buffer runs out of space a
+     * {@link BufferOverflowException} is thrown before the node that doesn't fit, so the buffer
+     * holds only whole records of the nodes written so far.
+     *
+     * @return the number of nodes written
+     */
+    public int exportLayouts(NodeId root, FloatBuffer out, ExportMask mask) {
+        int rootSlot = requireSlot(root, TaffyException::invalidInputNode);
+        boolean absolute = mask.isAbsolute();
+        int floatsPerNode = mask.floatsPerNode();
+        // Absolute parent origins per depth (x, y pairs); local so concurrent exports don't share it
+        float[] origins = absolute ? new float[32] : null;
+
+        int count = 0;
+        int depth = 0;
+        int slot = rootSlot;
+        while (true) {
+            if (out.remaining() < floatsPerNode) {
+                throw new BufferOverflowException();
+            }
+            NodeData data = storage.data(slot);
+            Layout layout = useRounding ? data.getFinalLayout() : data.getUnroundedLayout();
+            float x = layout.location().x;
+            float y = layout.location().y;
+            if (absolute) {
+                x += origins[depth * 2];
+                y += origins[depth * 2 + 1];
+            }
+            out.put(x).put(y).put(layout.size().width).put(layout.size().height);
+            if (mask.padding()) putRect(out, layout.padding());
+            if (mask.border()) putRect(out, layout.border());
+            if (mask.margin()) putRect(out, layout.margin());
+            if (mask.contentSize()) out.put(layout.contentSize().width).put(layout.contentSize().height);
+            count++;
+
+            // Descend into the first child, otherwise move to the next sibling of the closest ancestor that has one
+            int next = storage.firstChild(slot);
+            if (next != NodeStorage.NONE) {
+                depth++;
+                if (absolute) {
+                    if (origins.length < depth * 2 + 2) {
+                        origins = Arrays.copyOf(origins, origins.length * 2);
+                    }
+                    origins[depth * 2] = x;
+                    origins[depth * 2 + 1] = y;
+                }
+                slot = next;
+                continue;
+            }
+            while (slot != rootSlot && (next = storage.nextSibling(slot)) == NodeStorage.NONE) {
+                slot = storage.parent(slot);
+                depth--;
+            }
+            if (slot == rootSlot) {
+                return count;
+            }
+            slot = next;
+        }
+    }
+
+    /**
+     * Writes the layouts of a subtree into a byte buffer using the buffer's byte order.
+     *
+     * @see #exportLayouts(NodeId, FloatBuffer, ExportMask)
+     */
+    public int exportLayouts(NodeId root, ByteBuffer out, ExportMask mask) {
+        FloatBuffer floats = out.asFloatBuffer();
+        try {
+            return exportLayouts(root, floats, mask);
+        } finally {
+            out.position(out.position() + floats.position() * Float.BYTES);
+        }
+    }
+
+    private static void putRect(FloatBuffer out, FloatRect rect) {
+        out.put(rect.left).put(rect.right).put(rect.top).put(rect.bottom);
+    }
+
     // === Layout Change Tracking (Yoga-style dirty propagation) ===
 
     /**
@@ -510,11 +819,8 @@ public class TaffyTree {
      * Similar to Yoga's hasNewLayout - set after layout computation, cleared by acknowledgeLayout().
      */
     public boolean hasNewLayout(NodeId node) {
-        NodeData data = nodes.get(node.getId());
-        if (data == null) {
-            throw TaffyException.invalidInputNode(node);
-        }
-        return data.hasNewLayout();
+        int slot = requireSlot(node, TaffyException::invalidInputNode);
+        return storage.hasFlag(slot, NodeStorage.FLAG_NEW_LAYOUT);
     }
 
     /**
@@ -524,11 +830,8 @@ public class TaffyTree {
      * where no layout changes occurred.
      */
     public boolean hasDirtyDescendant(NodeId node) {
-        NodeData data = nodes.get(node.getId());
-        if (data == null) {
-            throw TaffyException.invalidInputNode(node);
-        }
-        return data.hasDirtyDescendant();
+        int slot = requireSlot(node, TaffyException::invalidInputNode);
+        return storage.hasFlag(slot, NodeStorage.FLAG_DIRTY_DESCENDANT);
     }
 
     /**
@@ -538,22 +841,16 @@ public class TaffyTree {
      * this node or any of its children.
      */
     public boolean needsVisit(NodeId node) {
-        NodeData data = nodes.get(node.getId());
-        if (data == null) {
-            throw TaffyException.invalidInputNode(node);
-        }
-        return data.needsVisit();
+        int slot = requireSlot(node, TaffyException::invalidInputNode);
+        return storage.hasFlag(slot, (byte) (NodeStorage.FLAG_NEW_LAYOUT | NodeStorage.FLAG_DIRTY_DESCENDANT));
     }
 
     /**
      * Marks the current layout as consumed/acknowledged for this node.
      */
     public void acknowledgeLayout(NodeId node) {
-        NodeData data = nodes.get(node.getId());
-        if (data == null) {
-            throw TaffyException.invalidInputNode(node);
-        }
-        data.acknowledgeLayout();
+        int slot = requireSlot(node, TaffyException::invalidInputNode);
+        storage.setFlag(slot, NodeStorage.FLAG_NEW_LAYOUT, false);
     }
 
     /**
@@ -563,23 +860,16 @@ public class TaffyTree {
      * This is useful for bottom-up acknowledgement during tree traversal.
      */
     public void acknowledgeSubtree(NodeId node) {
-        NodeData data = nodes.get(node.getId());
-        if (data == null) {
-            throw TaffyException.invalidInputNode(node);
-        }
-        data.acknowledgeLayout();
-        data.clearDirtyDescendant();
+        int slot = requireSlot(node, TaffyException::invalidInputNode);
+        storage.setFlag(slot, (byte) (NodeStorage.FLAG_NEW_LAYOUT | NodeStorage.FLAG_DIRTY_DESCENDANT), false);
     }
 
     /**
      * Marks a node as having a new layout and propagates dirty flag up to ancestors.
      * Also notifies the layout change listener if one is set.
      */
-    private void markNodeLayoutUpdated(NodeId node, Layout layout) {
-        NodeData data = nodes.get(node.getId());
-        if (data == null) return;
-        
-        data.markNewLayout();
+    private void markNodeLayoutUpdated(int slot, NodeId node, Layout layout) {
+        storage.setFlag(slot, NodeStorage.FLAG_NEW_LAYOUT, true);
         
         // Notify the layout change listener
         if (layoutChangeListener != null) {
@@ -587,44 +877,75 @@ public class TaffyTree {
         }
         
         // Propagate dirty descendant flag up to ancestors
-        NodeId parent = parents.get(node.getId());
-        while (parent != null) {
-            NodeData parentData = nodes.get(parent.getId());
-            if (parentData == null) break;
-            
+        int parent = storage.parent(slot);
+        while (parent != NodeStorage.NONE) {
             // If already marked, all ancestors are already marked too
-            if (parentData.markDirtyDescendant()) {
+            if (storage.hasFlag(parent, NodeStorage.FLAG_DIRTY_DESCENDANT)) {
                 break;
             }
-            parent = parents.get(parent.getId());
+            storage.setFlag(parent, NodeStorage.FLAG_DIRTY_DESCENDANT, true);
+            parent = storage.parent(parent);
         }
     }
 
     /**
-     * Sets the final (rounded) layout of a node.
+     * Sets the final (rounded) layout of a node. The values are copied into the node's layout.
      */
     public void setLayout(NodeId node, Layout layout) {
-        NodeData data = nodes.get(node.getId());
-        if (data != null) {
+        int slot = storage.slotOf(node);
+        if (slot != NodeStorage.NONE) {
+            NodeData data = storage.data(slot);
             data.setFinalLayout(layout);
             // When rounding is enabled, mark after setting final layout
             if (useRounding) {
-                markNodeLayoutUpdated(node, layout);
+                markNodeLayoutUpdated(slot, node, data.getFinalLayout());
             }
         }
     }
 
     /**
-     * Sets the unrounded layout of a node.
+     * Sets the unrounded layout of a node. The values are copied into the node's layout.
      */
     public void setUnroundedLayout(NodeId node, Layout layout) {
-        NodeData data = nodes.get(node.getId());
-        if (data != null) {
+        int slot = storage.slotOf(node);
+        if (slot != NodeStorage.NONE) {
+            NodeData data = storage.data(slot);
             data.setUnroundedLayout(layout);
-            // When rounding is disabled, mark after setting unrounded layout
-            if (!useRounding) {
-                markNodeLayoutUpdated(node, layout);
-            }
+            unroundedLayoutUpdated(slot, node, data);
+        }
+    }
+
+    /**
+     * Writes the unrounded layout of a node in place, without creating a Layout.
+     */
+    void writeUnroundedLayout(NodeId node, int order, float x, float y, FloatSize size, FloatSize contentSize,
+                              float scrollbarWidth, float scrollbarHeight,
+                              FloatRect border, FloatRect padding, FloatRect margin) {
+        int slot = storage.slotOf(node);
+        if (slot != NodeStorage.NONE) {
+            NodeData data = storage.data(slot);
+            data.getUnroundedLayout().set(order, x, y, size, contentSize, scrollbarWidth, scrollbarHeight, border, padding, margin);
+            unroundedLayoutUpdated(slot, node, data);
+        }
+    }
+
+    /**
+     * Resets the unrounded layout of a hidden node to zero with the given order.
+     */
+    void resetUnroundedLayout(NodeId node, int order) {
+        int slot = storage.slotOf(node);
+        if (slot != NodeStorage.NONE) {
+            NodeData data = storage.data(slot);
+            data.getUnroundedLayout().reset(order);
+            unroundedLayoutUpdated(slot, node, data);
+        }
+    }
+
+    private void unroundedLayoutUpdated(int slot, NodeId node, NodeData data) {
+        storage.setFlag(slot, NodeStorage.FLAG_ROUND_PENDING, true);
+        // When rounding is disabled, mark after setting unrounded layout
+        if (!useRounding) {
+            markNodeLayoutUpdated(slot, node, data.getUnroundedLayout());
         }
     }
 
@@ -635,9 +956,17 @@ public class TaffyTree {
      */
     public LayoutOutput getCacheEntry(NodeId node, FloatSize knownDimensions,
                                       TaffySize<AvailableSpace> availableSpace, RunMode runMode) {
-        NodeData data = nodes.get(node.getId());
+        return getCacheEntry(node, knownDimensions, availableSpace, runMode, RequestedAxis.BOTH);
+    }
+
+    /**
+     * Gets the cache entry for a node that covers the requested axis.
+     */
+    public LayoutOutput getCacheEntry(NodeId node, FloatSize knownDimensions,
+                                      TaffySize<AvailableSpace> availableSpace, RunMode runMode, RequestedAxis axis) {
+        NodeData data = getNodeData(node);
         if (data == null) return null;
-        return data.getCache().get(knownDimensions, availableSpace, runMode);
+        return data.getCache().get(knownDimensions, availableSpace, runMode, axis);
     }
 
     /**
@@ -646,7 +975,7 @@ public class TaffyTree {
     public void storeCacheEntry(NodeId node, FloatSize knownDimensions,
                                 TaffySize<AvailableSpace> availableSpace, RunMode runMode,
                                 LayoutOutput output) {
-        NodeData data = nodes.get(node.getId());
+        NodeData data = getNodeData(node);
         if (data != null) {
             data.getCache().store(knownDimensions, availableSpace, runMode, output);
         }
@@ -656,7 +985,7 @@ public class TaffyTree {
      * Clears the cache for a node.
      */
     public void clearCache(NodeId node) {
-        NodeData data = nodes.get(node.getId());
+        NodeData data = getNodeData(node);
         if (data != null) {
             data.getCache().clear();
         }
@@ -668,19 +997,113 @@ public class TaffyTree {
      * Marks the node and its ancestors as needing layout recalculation.
      */
     public void markDirty(NodeId node) {
-        markDirtyRecursive(node);
+        int slot = storage.slotOf(node);
+        if (slot != NodeStorage.NONE) {
+            // The style may have been edited in place
+            storage.data(slot).clearGridTemplateCache();
+            markDirtySlot(slot);
+        }
     }
 
-    private void markDirtyRecursive(NodeId node) {
-        NodeData data = nodes.get(node.getId());
-        if (data == null) return;
-        
-        boolean wasAlreadyDirty = data.markDirty();
-        if (!wasAlreadyDirty) {
-            NodeId parent = parents.get(node.getId());
-            if (parent != null) {
-                markDirtyRecursive(parent);
+    private void markDirtySlot(int slot) {
+        if (pendingDirty != null) {
+            if (!storage.hasFlag(slot, NodeStorage.FLAG_PENDING_DIRTY)) {
+                storage.setFlag(slot, NodeStorage.FLAG_PENDING_DIRTY, true);
+                pendingDirty.add(slot);
             }
+            return;
+        }
+        propagateDirty(slot, null);
+    }
+
+    /**
+     * Clears the caches of a node and its ancestors, stopping at the first one that is already dirty.
+     *
+     * @param dirtiedRoots receives the root if the walk reaches it and its cache was cleared, may be null
+     */
+    private void propagateDirty(int slot, Set<NodeId> dirtiedRoots) {
+        int current = slot;
+        while (current != NodeStorage.NONE) {
+            boolean wasAlreadyDirty = storage.data(current).markDirty();
+            if (wasAlreadyDirty) {
+                break;
+            }
+            int parent = storage.parent(current);
+            if (parent == NodeStorage.NONE && dirtiedRoots != null) {
+                dirtiedRoots.add(storage.idOf(current));
+            }
+            current = parent;
+        }
+    }
+
+    // === Batched Edits ===
+
+    /**
+     * Applies a group of edits as one batch and returns the roots whose layout they invalidated.
+     * <p>
+     * Inside the batch, edits update the tree immediately but dirty marking is deferred to the end,
+     * where every affected ancestor chain is cleared once. The batch is committed even if
+     * {@code edits} throws.
+     *
+     * @see #beginBatch()
+     */
+    public Set<NodeId> batch(Consumer<TaffyTree> edits) {
+        beginBatch();
+        try {
+            edits.accept(this);
+        } catch (Throwable t) {
+            commitBatch();
+            throw t;
+        }
+        return commitBatch();
+    }
+
+    /**
+     * Opens a batch of edits. Until {@link #commitBatch()} is called, structural and style edits
+     * only queue their dirty marks: {@link #isDirty} does not reflect them yet, and layout cannot
+     * be computed. Batches do not nest.
+     */
+    public void beginBatch() {
+        if (pendingDirty != null) {
+            throw new IllegalStateException("A batch is already open");
+        }
+        pendingDirty = new IntArrayList();
+    }
+
+    /**
+     * Closes the open batch, marks every node it touched dirty along with its ancestors, and
+     * returns the roots whose caches were cleared by it, in the order they were reached.
+     * Roots that were already dirty before the batch are not included.
+     */
+    public Set<NodeId> commitBatch() {
+        IntArrayList pending = pendingDirty;
+        if (pending == null) {
+            throw new IllegalStateException("No batch is open");
+        }
+        pendingDirty = null;
+
+        Set<NodeId> dirtiedRoots = new LinkedHashSet<>();
+        for (int i = 0; i < pending.size(); i++) {
+            int slot = pending.getInt(i);
+            // Removed nodes were replaced by their parent in the queue; reused slots had their flags reset
+            if (storage.isLive(slot) && storage.hasFlag(slot, NodeStorage.FLAG_PENDING_DIRTY)) {
+                storage.setFlag(slot, NodeStorage.FLAG_PENDING_DIRTY, false);
+                propagateDirty(slot, dirtiedRoots);
+            }
+        }
+        return dirtiedRoots;
+    }
+
+    /**
+     * Returns whether a batch of edits is open.
+     */
+    public boolean isBatching() {
+        return pendingDirty != null;
+    }
+
+    private void requireNoBatch() {
+        if (pendingDirty != null) {
+            throw new IllegalStateException("Cannot compute layout while a batch is open");
         }
     }
 
@@ -688,7 +1111,7 @@ public class TaffyTree {
      * Returns whether a node needs layout recalculation.
      */
     public boolean isDirty(NodeId node) {
-        NodeData data = nodes.get(node.getId());
+        NodeData data = getNodeData(node);
         return data == null || data.getCache().isEmpty();
     }
 
@@ -706,14 +1129,193 @@ public class TaffyTree {
      */
     public void computeLayoutWithMeasure(NodeId rootNode, TaffySize<AvailableSpace> availableSpace,
                                           MeasureFunc defaultMeasureFunc) {
-        // This will be implemented by the compute module
-        // For now, delegate to the LayoutComputer
-        LayoutComputer computer = new LayoutComputer(this, defaultMeasureFunc);
-        computer.computeLayout(rootNode, availableSpace);
-        
+        requireNoBatch();
+        LayoutComputer computer = getLayoutComputer();
+        // Restore the previous function afterwards in case a measure function lays out this tree re-entrantly
+        MeasureFunc previousMeasureFunc = computer.getDefaultMeasureFunc();
+        computer.setDefaultMeasureFunc(defaultMeasureFunc);
+        computer.setStackSegmentDepth(deepLayoutSegmentDepth);
+        try {
+            computer.computeLayout(rootNode, availableSpace);
+        } finally {
+            computer.setDefaultMeasureFunc(previousMeasureFunc);
+        }
+
         // Round layouts if enabled
         if (useRounding) {
-            RoundLayout.roundLayout(this, rootNode);
+            roundLayout(storage.slotOf(rootNode));
+        }
+    }
+
+    /**
+     * Returns the computer serial layouts run on, creating it on first use.
+     */
+    LayoutComputer getLayoutComputer() {
+        LayoutComputer computer = layoutComputer;
+        if (computer == null) {
+            computer = new LayoutComputer(this, null);
+            layoutComputer = computer;
+        }
+        return computer;
+    }
+
+    /**
+     * Rounds the layouts of a laid out subtree to whole pixels.
+     * <p>
+     * Only nodes whose unrounded layout was written since they were last rounded, or whose parent offset
+     * moved, are rounded again; the final layouts of all other nodes are still valid. Windowed containers
+     * only have the children in their window and the ones that just left it visited. The walk uses a
+     * primitive stack, so it allocates nothing once the stack has grown to the tree's width.
+     */
+    private void roundLayout(int rootSlot) {
+        if (rootSlot == NodeStorage.NONE) {
+            return;
+        }
+        int size = pushRoundSlot(0, rootSlot, 0f, 0f);
+
+        while (size > 0) {
+            size--;
+            int slot = roundStackSlots[size];
+            float originX = roundStackOrigins[size * 2];
+            float originY = roundStackOrigins[size * 2 + 1];
+            NodeData data = storage.data(slot);
+            Layout unrounded = data.getUnroundedLayout();
+            Layout rounded = data.getFinalLayout();
+            if (storage.hasFlag(slot, NodeStorage.FLAG_ROUND_PENDING) || !storage.isRoundedAt(slot, originX, originY)) {
+                rounded.setRounded(unrounded, originX, originY);
+                storage.setRoundedOrigin(slot, originX, originY);
+                storage.setFlag(slot, NodeStorage.FLAG_ROUND_PENDING, false);
+            }
+            // Every node of the pass is reported, rounded again or not (Yoga-style tracking)
+            markNodeLayoutUpdated(slot, storage.idOf(slot), rounded);
+
+            float x = unrounded.location().x;
+            float y = unrounded.location().y;
+            float childOriginX = originX + (!Float.isNaN(x) ? x : 0f);
+            float childOriginY = originY + (!Float.isNaN(y) ? y : 0f);
+            FlexViewport flexViewport = data.getFlexViewport();
+            GridViewport gridViewport = data.getGridViewport();
+            TaffyDisplay display = data.getStyle().getDisplay();
+            if (flexViewport != null && flexViewport.windowed && display == TaffyDisplay.FLEX) {
+                int[] children = storage.childSlots(slot);
+                int end = Math.min(flexViewport.visibleEnd, children.length);
+                for (int i = flexViewport.firstVisible; i < end; i++) {
+                    size = pushRoundSlot(size, children[i], childOriginX, childOriginY);
+                }
+                size = pushScrolledOut(size, children, flexViewport.scrolledOut, childOriginX, childOriginY);
+            } else if (gridViewport != null && gridViewport.windowed && display == TaffyDisplay.GRID) {
+                int[] children = storage.childSlots(slot);
+                for (int r = gridViewport.firstVisibleRow; r < gridViewport.visibleRowEnd; r++) {
+                    for (int c = gridViewport.firstVisibleColumn; c < gridViewport.visibleColumnEnd; c++) {
+                        int index = r * gridViewport.columnCount + c;
+                        if (index < children.length) {
+                            size = pushRoundSlot(size, children[index], childOriginX, childOriginY);
+                        }
+                    }
+                }
+                size = pushScrolledOut(size, children, gridViewport.scrolledOut, childOriginX, childOriginY);
+            } else {
+                for (int child = storage.firstChild(slot); child != NodeStorage.NONE; child = storage.nextSibling(child)) {
+                    size = pushRoundSlot(size, child, childOriginX, childOriginY);
+                }
+            }
+        }
+    }
+
+    /**
+     * Pushes the children a windowed container reset since the last rounding pass, and forgets them.
+     */
+    private int pushScrolledOut(int size, int[] children, IntArrayList scrolledOut, float originX, float originY) {
+        for (int i = 0; i < scrolledOut.size(); i++) {
+            int index = scrolledOut.getInt(i);
+            if (index < children.length) {
+                size = pushRoundSlot(size, children[index], originX, originY);
+            }
+        }
+        scrolledOut.clear();
+        return size;
+    }
+
+    private int pushRoundSlot(int size, int slot, float originX, float originY) {
+        if (size == roundStackSlots.length) {
+            roundStackSlots = Arrays.copyOf(roundStackSlots, size * 2);
+            roundStackOrigins = Arrays.copyOf(roundStackOrigins, size * 4);
+        }
+        roundStackSlots[size] = slot;
+        roundStackOrigins[size * 2] = originX;
+        roundStackOrigins[size * 2 + 1] = originY;
+        return size + 1;
+    }
+
+    /**
+     * Marks the viewports of a container as not windowed, so the rounding pass visits all of its children.
+     */
+    void clearWindowed(NodeId node) {
+        NodeData data = getNodeData(node);
+        if (data == null) {
+            return;
+        }
+        if (data.getFlexViewport() != null) {
+            data.getFlexViewport().windowed = false;
+        }
+        if (data.getGridViewport() != null) {
+            data.getGridViewport().windowed = false;
+        }
+    }
+
+    /**
+     * Computes the layout for the tree starting from the given root node, laying out large
+     * child subtrees concurrently on the given pool.
+     *
+     * @see #computeLayoutParallel(NodeId, TaffySize, ForkJoinPool, int)
+     */
+    public void computeLayoutParallel(NodeId rootNode, TaffySize<AvailableSpace> availableSpace, ForkJoinPool pool) {
+        computeLayoutParallel(rootNode, availableSpace, pool, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Computes the layout for the tree starting from the given root node, laying out large
+     * child subtrees concurrently on the given pool.
+     * <p>
+     * Once a container's children have fixed sizes, every child whose subtree has at least
+     * {@code threshold} nodes is laid out on its own fork-join task. The results are bit-identical
+     * to {@link #computeLayout}. Rounding still runs on the calling thread afterwards.
+     * <p>
+     * Measure functions may be called concurrently from pool threads, and so may the layout change
+     * listener when rounding is disabled; both must be thread-safe. The tree must not be modified
+     * while the layout is running.
+     *
+     * @param threshold minimum number of nodes in a child's subtree for it to be forked
+     */
+    public void computeLayoutParallel(NodeId rootNode, TaffySize<AvailableSpace> availableSpace,
+                                      ForkJoinPool pool, int threshold) {
+        computeLayoutParallel(rootNode, availableSpace, pool, threshold, DEFAULT_PARALLEL_MEASURE_THRESHOLD);
+    }
+
+    /**
+     * Computes the layout for the tree starting from the given root node, laying out large
+     * child subtrees concurrently on the given pool.
+     * <p>
+     * In addition to forking large subtrees, grid containers that need the min-content or max-content
+     * width contributions of at least {@code measureThreshold} items measure them concurrently before
+     * sizing their columns, so grids of cells with expensive measure functions use the whole pool during
+     * intrinsic sizing. The results are still bit-identical to {@link #computeLayout}.
+     *
+     * @param threshold        minimum number of nodes in a child's subtree for it to be forked
+     * @param measureThreshold minimum number of pending item measurements for a grid container to run them
+     *                         concurrently, or 0 to measure serially
+     */
+    public void computeLayoutParallel(NodeId rootNode, TaffySize<AvailableSpace> availableSpace,
+                                      ForkJoinPool pool, int threshold, int measureThreshold) {
+        requireNoBatch();
+        int rootSlot = requireSlot(rootNode, TaffyException::invalidInputNode);
+        ParallelLayout parallel = new ParallelLayout(storage, rootSlot, threshold, measureThreshold);
+        LayoutComputer computer = new LayoutComputer(this, null, parallel);
+        pool.invoke(ForkJoinTask.adapt(() -> computer.computeLayout(rootNode, availableSpace)));
+
+        // Round layouts if enabled
+        if (useRounding) {
+            roundLayout(storage.slotOf(rootNode));
         }
     }
 
@@ -723,23 +1325,48 @@ public class TaffyTree {
      * Returns the node data for internal use.
      */
     NodeData getNodeData(NodeId node) {
-        return nodes.get(node.getId());
+        int slot = storage.slotOf(node);
+        return slot != NodeStorage.NONE ? storage.data(slot) : null;
+    }
+
+    /**
+     * Returns the node data, throwing if the node is not in the tree.
+     */
+    private NodeData requireData(NodeId node) {
+        int slot = storage.slotOf(node);
+        if (slot == NodeStorage.NONE) {
+            throw TaffyException.invalidInputNode(node);
+        }
+        return storage.data(slot);
+    }
+
+    /**
+     * Resolves a node to its storage slot, throwing the given error if the node is not in the tree.
+     */
+    private int requireSlot(NodeId node, Function<NodeId, TaffyException> error) {
+        int slot = storage.slotOf(node);
+        if (slot == NodeStorage.NONE) {
+            throw error.apply(node);
+        }
+        return slot;
     }
 
     /**
      * Checks if a node exists in the tree.
      */
     public boolean containsNode(NodeId node) {
-        return nodes.containsKey(node.getId());
+        return storage.slotOf(node) != NodeStorage.NONE;
     }
 
     /**
      * Returns all node IDs in the tree.
      */
     public Set<NodeId> getAllNodes() {
-        Set<NodeId> result = new HashSet<>();
-        for (Long id : nodes.keySet()) {
-            result.add(new NodeId(id));
+        Set<NodeId> result = new HashSet<>(storage.size());
+        for (int slot = 0, count = storage.slotCount(); slot < count; slot++) {
+            if (storage.isLive(slot)) {
+                result.add(storage.idOf(slot));
+            }
         }
         return result;
     }
@@ -752,7 +1379,7 @@ public class TaffyTree {
     }
 
     private void printTreeRecursive(NodeId node, int depth) {
-        NodeData data = nodes.get(node.getId());
+        NodeData data = getNodeData(node);
         if (data == null) return;
         
         String indent = "  ".repeat(depth);
@@ -767,7 +1394,7 @@ public class TaffyTree {
     }
 
     private String getDebugLabel(NodeId node) {
-        NodeData data = nodes.get(node.getId());
+        NodeData data = getNodeData(node);
         if (data == null) return "UNKNOWN";
         
         int numChildren = childCount(node);
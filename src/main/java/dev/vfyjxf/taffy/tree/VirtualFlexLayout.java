@@ -0,0 +1,232 @@
+package dev.vfyjxf.taffy.tree;
+
+import dev.vfyjxf.taffy.geometry.FloatRect;
+import dev.vfyjxf.taffy.geometry.FloatSize;
+import dev.vfyjxf.taffy.geometry.TaffyLine;
+import dev.vfyjxf.taffy.geometry.TaffySize;
+import dev.vfyjxf.taffy.style.AlignItems;
+import dev.vfyjxf.taffy.style.AvailableSpace;
+import dev.vfyjxf.taffy.style.BoxGenerationMode;
+import dev.vfyjxf.taffy.style.Overflow;
+import dev.vfyjxf.taffy.style.TaffyStyle;
+import dev.vfyjxf.taffy.util.Resolve;
+import dev.vfyjxf.taffy.util.TaffyMath;
+
+import static java.lang.Float.NaN;
+
+/**
+ * Windowed layout for single-line flex containers with a {@link FlexViewport} attached.
+ * <p>
+ * Children are stacked along the main axis in child order. Item offsets come from the viewport's prefix-sum
+ * index, where unmeasured children count as the estimated size, so a layout pass only generates, measures and
+ * lays out the children that intersect the viewport instead of determining a flex base size for every child.
+ */
+final class VirtualFlexLayout {
+
+    private final LayoutComputer layoutComputer;
+
+    VirtualFlexLayout(LayoutComputer layoutComputer) {
+        this.layoutComputer = layoutComputer;
+    }
+
+    /**
+     * Computes the windowed layout of a flex container.
+     *
+     * @param knownSize       the container's border-box size where already known
+     * @param contentBoxInset padding, border and scrollbar gutter on each side
+     * @param availableSpace  the space available to the items
+     */
+    LayoutOutput compute(NodeId node, TaffyStyle style, RunMode runMode, FlexViewport viewport, boolean isRow,
+                         FloatSize knownSize, FloatSize minSize, FloatSize maxSize, FloatSize paddingBorderSize,
+                         FloatRect contentBoxInset, TaffySize<AvailableSpace> availableSpace, FloatSize gap) {
+        TaffyTree tree = layoutComputer.getTree();
+        int childCount = tree.childCount(node);
+        float mainGap = isRow ? gap.width : gap.height;
+        viewport.prepare(childCount, mainGap);
+        viewport.windowed = true;
+        viewport.contentCrossSize = 0f;
+
+        float insetWidth = contentBoxInset.left + contentBoxInset.right;
+        float insetHeight = contentBoxInset.top + contentBoxInset.bottom;
+        float innerWidth = TaffyMath.maybeSub(knownSize.width, insetWidth);
+        float innerHeight = TaffyMath.maybeSub(knownSize.height, insetHeight);
+        float innerCross = isRow ? innerHeight : innerWidth;
+        AvailableSpace availableCross = isRow ? availableSpace.height : availableSpace.width;
+        viewport.firstItemOffset = isRow ? contentBoxInset.left : contentBoxInset.top;
+
+        // Measure the children in the viewport; each measured size moves the ones after it
+        int first = 0;
+        int end = 0;
+        float viewEnd = viewport.viewStart() + viewport.viewLength();
+        if (childCount > 0 && viewport.viewLength() > 0f) {
+            first = viewport.itemAt(viewport.viewStart());
+            end = first;
+            float offset = viewport.itemOffset(first);
+            AlignItems defaultAlign = style.getAlignItems();
+            while (end < childCount && offset < viewEnd) {
+                measureItem(tree.getChildAtIndex(node, end), end - first, end, viewport, isRow, defaultAlign,
+                    innerWidth, innerHeight, innerCross, availableCross);
+                offset += viewport.extent(end);
+                end++;
+            }
+        }
+
+        float insetCross = isRow ? insetHeight : insetWidth;
+        float knownCross = isRow ? knownSize.height : knownSize.width;
+        float cross = !Float.isNaN(knownCross)
+                      ? knownCross
+                      : TaffyMath.maybeClamp(viewport.contentCrossSize + insetCross,
+                          isRow ? minSize.height : minSize.width, isRow ? maxSize.height : maxSize.width);
+        cross = Math.max(cross, isRow ? paddingBorderSize.height : paddingBorderSize.width);
+
+        if (runMode == RunMode.PERFORM_LAYOUT) {
+            layoutWindow(node, viewport, isRow, contentBoxInset, first, end, cross - insetCross, mainGap,
+                innerWidth, innerHeight);
+        }
+
+        float contentMain = viewport.contentSize();
+        viewport.contentMainSize = contentMain;
+        float insetMain = isRow ? insetWidth : insetHeight;
+        float knownMain = isRow ? knownSize.width : knownSize.height;
+        float main = !Float.isNaN(knownMain)
+                     ? knownMain
+                     : TaffyMath.maybeClamp(contentMain + insetMain,
+                         isRow ? minSize.width : minSize.height, isRow ? maxSize.width : maxSize.height);
+        main = Math.max(main, isRow ? paddingBorderSize.width : paddingBorderSize.height);
+
+        FloatSize containerSize = isRow ? new FloatSize(main, cross) : new FloatSize(cross, main);
+        float contentCross = viewport.contentCrossSize + insetCross;
+        FloatSize contentSize = isRow
+                                ? new FloatSize(contentMain + insetMain, contentCross)
+                                : new FloatSize(contentCross, contentMain + insetMain);
+        return LayoutOutput.fromSizes(containerSize, contentSize);
+    }
+
+    // === Measurement ===
+
+    /**
+     * Measures a visible child at its content size, stretched to a definite cross size where it applies, and
+     * records its outer main size in the offset index.
+     */
+    private void measureItem(NodeId child, int slot, int item, FlexViewport viewport, boolean isRow,
+                             AlignItems defaultAlign, float innerWidth, float innerHeight, float innerCross,
+                             AvailableSpace availableCross) {
+        viewport.ensureWindow(slot + 1);
+        FloatRect[] margins = viewport.windowMargins;
+        boolean[] stretched = viewport.windowStretched;
+        TaffyStyle childStyle = layoutComputer.getTree().getStyle(child);
+        if (childStyle.getBoxGenerationMode() == BoxGenerationMode.NONE) {
+            margins[slot] = FloatRect.ZERO;
+            stretched[slot] = false;
+            viewport.setMeasured(item, 0f, true);
+            return;
+        }
+
+        FloatRect margin = Resolve.resolveRectLpaOrZero(childStyle.getMargin(), innerWidth);
+        float marginMain = isRow ? margin.left + margin.right : margin.top + margin.bottom;
+        float marginCross = isRow ? margin.top + margin.bottom : margin.left + margin.right;
+        boolean stretch = resolveAlign(childStyle, defaultAlign) == AlignItems.STRETCH
+                          && (isRow ? childStyle.getSize().height : childStyle.getSize().width).isAuto();
+        margins[slot] = margin;
+        stretched[slot] = stretch;
+
+        float crossSize = stretch && !Float.isNaN(innerCross) ? Math.max(0f, innerCross - marginCross) : NaN;
+        AvailableSpace crossSpace = !Float.isNaN(innerCross)
+                                    ? AvailableSpace.definite(Math.max(0f, innerCross - marginCross))
+                                    : availableCross.isDefinite()
+                                      ? AvailableSpace.definite(Math.max(0f, availableCross.getValue() - marginCross))
+                                      : availableCross;
+        FloatSize size = layoutComputer.measureChildSize(child,
+            isRow ? new FloatSize(NaN, crossSize) : new FloatSize(crossSize, NaN),
+            new FloatSize(innerWidth, innerHeight),
+            isRow ? new TaffySize<>(AvailableSpace.maxContent(), crossSpace)
+                  : new TaffySize<>(crossSpace, AvailableSpace.maxContent()),
+            SizingMode.INHERENT_SIZE, new TaffyLine<>(false, false));
+
+        viewport.setMeasured(item, (isRow ? size.width : size.height) + marginMain, false);
+        viewport.contentCrossSize = Math.max(viewport.contentCrossSize, (isRow ? size.height : size.width) + marginCross);
+    }
+
+    private static AlignItems resolveAlign(TaffyStyle childStyle, AlignItems defaultAlign) {
+        AlignItems align = childStyle.getAlignSelf();
+        if (align == null || align == AlignItems.AUTO) {
+            align = defaultAlign;
+        }
+        return align != null && align != AlignItems.AUTO ? align : AlignItems.STRETCH;
+    }
+
+    // === Windowed Layout ===
+
+    /**
+     * Lays out the measured window at its final cross size and resets the children that scrolled out of it.
+     */
+    private void layoutWindow(NodeId node, FlexViewport viewport, boolean isRow, FloatRect contentBoxInset,
+                              int first, int end, float innerCross, float mainGap, float innerWidth, float innerHeight) {
+        TaffyTree tree = layoutComputer.getTree();
+        int childCount = viewport.itemCount;
+        for (int i = viewport.firstVisible; i < Math.min(viewport.visibleEnd, childCount); i++) {
+            if (i < first || i >= end) {
+                tree.resetUnroundedLayout(tree.getChildAtIndex(node, i), i);
+                if (tree.roundingEnabled()) {
+                    viewport.scrolledOut.add(i);
+                }
+            }
+        }
+
+        AlignItems defaultAlign = tree.getStyle(node).getAlignItems();
+        float crossStart = isRow ? contentBoxInset.top : contentBoxInset.left;
+        float offset = end > first ? viewport.itemOffset(first) : 0f;
+        for (int i = first; i < end; i++) {
+            NodeId child = tree.getChildAtIndex(node, i);
+            TaffyStyle childStyle = tree.getStyle(child);
+            if (childStyle.getBoxGenerationMode() == BoxGenerationMode.NONE) {
+                layoutComputer.computeHiddenLayout(child);
+                continue;
+            }
+
+            int slot = i - first;
+            FloatRect margin = viewport.windowMargins[slot];
+            float marginMainStart = isRow ? margin.left : margin.top;
+            float marginMain = isRow ? margin.left + margin.right : margin.top + margin.bottom;
+            float marginCrossStart = isRow ? margin.top : margin.left;
+            float marginCross = isRow ? margin.top + margin.bottom : margin.left + margin.right;
+            float crossSpace = Math.max(0f, innerCross - marginCross);
+            float knownCross = viewport.windowStretched[slot] ? crossSpace : NaN;
+
+            LayoutOutput output = layoutComputer.performChildLayout(
+                child,
+                isRow ? new FloatSize(NaN, knownCross) : new FloatSize(knownCross, NaN),
+                new FloatSize(innerWidth, innerHeight),
+                isRow ? new TaffySize<>(AvailableSpace.maxContent(), AvailableSpace.definite(crossSpace))
+                      : new TaffySize<>(AvailableSpace.definite(crossSpace), AvailableSpace.maxContent()),
+                SizingMode.INHERENT_SIZE,
+                new TaffyLine<>(false, false)
+            );
+            float outerMain = (isRow ? output.size().width : output.size().height) + marginMain;
+            float itemCross = isRow ? output.size().height : output.size().width;
+            // Stretching can change the main size of content that wraps
+            viewport.setMeasured(i, outerMain, false);
+
+            float crossOffset = switch (resolveAlign(childStyle, defaultAlign)) {
+                case CENTER -> (crossSpace - itemCross) / 2f;
+                case END, FLEX_END -> crossSpace - itemCross;
+                default -> 0f;
+            };
+            float mainPosition = offset + marginMainStart;
+            float crossPosition = crossStart + marginCrossStart + crossOffset;
+
+            float scrollbarWidth = childStyle.getOverflow().y == Overflow.SCROLL ? childStyle.getScrollbarWidth() : 0f;
+            float scrollbarHeight = childStyle.getOverflow().x == Overflow.SCROLL ? childStyle.getScrollbarWidth() : 0f;
+            tree.writeUnroundedLayout(child, i,
+                isRow ? mainPosition : crossPosition, isRow ? crossPosition : mainPosition,
+                output.size(), output.contentSize(), scrollbarWidth, scrollbarHeight,
+                Resolve.resolveRectOrZero(childStyle.getBorder(), innerWidth),
+                Resolve.resolveRectOrZero(childStyle.getPadding(), innerWidth),
+                margin);
+            offset += outerMain + mainGap;
+        }
+
+        viewport.firstVisible = first;
+        viewport.visibleEnd = end;
+    }
+}
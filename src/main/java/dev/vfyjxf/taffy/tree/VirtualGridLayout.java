@@ -0,0 +1,422 @@
+package dev.vfyjxf.taffy.tree;
+
+import dev.vfyjxf.taffy.geometry.FloatRect;
+import dev.vfyjxf.taffy.geometry.FloatSize;
+import dev.vfyjxf.taffy.geometry.TaffyLine;
+import dev.vfyjxf.taffy.geometry.TaffySize;
+import dev.vfyjxf.taffy.style.AvailableSpace;
+import dev.vfyjxf.taffy.style.BoxGenerationMode;
+import dev.vfyjxf.taffy.style.Overflow;
+import dev.vfyjxf.taffy.style.TaffyStyle;
+import dev.vfyjxf.taffy.style.TrackSizingFunction;
+import dev.vfyjxf.taffy.util.Resolve;
+import dev.vfyjxf.taffy.util.TaffyMath;
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import it.unimi.dsi.fastutil.floats.FloatList;
+
+import java.util.List;
+
+import static java.lang.Float.NaN;
+
+/**
+ * Windowed layout for grid containers with a {@link GridViewport} attached.
+ * <p>
+ * Children are mapped to cells by index (row-major over the explicit columns), so placement needs no per-child
+ * work. Columns are sized from a fixed number of sample rows and all rows share one height, which makes row
+ * offsets a multiplication and lets a layout pass touch only the children whose cells intersect the viewport.
+ */
+final class VirtualGridLayout {
+
+    private final LayoutComputer layoutComputer;
+
+    VirtualGridLayout(LayoutComputer layoutComputer) {
+        this.layoutComputer = layoutComputer;
+    }
+
+    /**
+     * Computes the windowed layout of a grid container.
+     *
+     * @param knownSize          the container's border-box size where already known
+     * @param contentBoxInset    padding, border and scrollbar gutter on each side
+     * @param availableGridSpace the space available to the tracks
+     * @param columns            the explicit column tracks with repetitions expanded
+     */
+    LayoutOutput compute(NodeId node, TaffyStyle style, RunMode runMode, GridViewport viewport,
+                         FloatSize knownSize, FloatSize minSize, FloatSize maxSize, FloatSize paddingBorderSize,
+                         FloatRect contentBoxInset, TaffySize<AvailableSpace> availableGridSpace, FloatSize gap,
+                         List<TrackSizingFunction> columns) {
+        TaffyTree tree = layoutComputer.getTree();
+        int childCount = tree.childCount(node);
+        float insetWidth = contentBoxInset.left + contentBoxInset.right;
+        float insetHeight = contentBoxInset.top + contentBoxInset.bottom;
+        float innerWidth = TaffyMath.maybeSub(knownSize.width, insetWidth);
+
+        int columnCount = Math.max(1, columns.size());
+        viewport.ensureColumns(columnCount);
+        viewport.windowed = true;
+        int sampleEnd = Math.min(childCount, viewport.sampleRows() * columnCount);
+        sampleColumnContributions(node, viewport, columnCount, sampleEnd, innerWidth);
+
+        float freeSpaceBasis = !Float.isNaN(innerWidth)
+                               ? innerWidth
+                               : availableGridSpace.width.isDefinite() ? availableGridSpace.width.getValue() : NaN;
+        sizeColumns(viewport, columns, columnCount, innerWidth, freeSpaceBasis, gap.width);
+
+        float gridWidth = gap.width * (columnCount - 1);
+        float offset = contentBoxInset.left;
+        for (int c = 0; c < columnCount; c++) {
+            viewport.columnOffsets[c] = offset;
+            offset += viewport.columnSizes[c] + gap.width;
+            gridWidth += viewport.columnSizes[c];
+        }
+
+        float rowHeight = resolveRowHeight(node, style, viewport, sampleEnd, columnCount, innerWidth);
+        int rowCount = (childCount + columnCount - 1) / columnCount;
+        float gridHeight = rowCount * rowHeight + gap.height * Math.max(0, rowCount - 1);
+
+        viewport.rowCount = rowCount;
+        viewport.rowHeight = rowHeight;
+        viewport.rowGap = gap.height;
+        viewport.firstRowOffset = contentBoxInset.top;
+        viewport.contentWidth = gridWidth;
+        viewport.contentHeight = gridHeight;
+
+        float width = !Float.isNaN(knownSize.width)
+                      ? knownSize.width
+                      : TaffyMath.maybeClamp(gridWidth + insetWidth, minSize.width, maxSize.width);
+        float height = !Float.isNaN(knownSize.height)
+                       ? knownSize.height
+                       : TaffyMath.maybeClamp(gridHeight + insetHeight, minSize.height, maxSize.height);
+        FloatSize containerSize = new FloatSize(
+            Math.max(width, paddingBorderSize.width),
+            Math.max(height, paddingBorderSize.height)
+        );
+        FloatSize contentSize = new FloatSize(gridWidth + insetWidth, gridHeight + insetHeight);
+
+        if (runMode == RunMode.PERFORM_LAYOUT) {
+            layoutVisibleCells(node, viewport, childCount, innerWidth);
+        }
+        return LayoutOutput.fromSizes(containerSize, contentSize);
+    }
+
+    // === Sampling ===
+
+    private void sampleColumnContributions(NodeId node, GridViewport viewport, int columnCount, int sampleEnd, float innerWidth) {
+        // Sampled contributions live on the viewport so nested windowed grids don't share them
+        float[] sampleMinContent = viewport.sampleMinContent;
+        float[] sampleMaxContent = viewport.sampleMaxContent;
+
+        TaffyTree tree = layoutComputer.getTree();
+        FloatSize parentSize = new FloatSize(innerWidth, NaN);
+        for (int i = 0; i < sampleEnd; i++) {
+            NodeId child = tree.getChildAtIndex(node, i);
+            TaffyStyle childStyle = tree.getStyle(child);
+            if (childStyle.getBoxGenerationMode() == BoxGenerationMode.NONE) {
+                continue;
+            }
+            // Horizontal percentage margins resolve to zero during track sizing, as in the full algorithm
+            FloatRect margin = Resolve.resolveRectLpaOrZero(childStyle.getMargin(), 0f);
+            float marginWidth = margin.left + margin.right;
+            float minContent = layoutComputer.measureChildSize(child, new FloatSize(NaN, NaN), parentSize,
+                new TaffySize<>(AvailableSpace.minContent(), AvailableSpace.maxContent()),
+                SizingMode.INHERENT_SIZE, new TaffyLine<>(false, false)).width + marginWidth;
+            float maxContent = layoutComputer.measureChildSize(child, new FloatSize(NaN, NaN), parentSize,
+                new TaffySize<>(AvailableSpace.maxContent(), AvailableSpace.maxContent()),
+                SizingMode.INHERENT_SIZE, new TaffyLine<>(false, false)).width + marginWidth;
+            int c = i % columnCount;
+            sampleMinContent[c] = Math.max(sampleMinContent[c], minContent);
+            sampleMaxContent[c] = Math.max(sampleMaxContent[c], Math.max(minContent, maxContent));
+        }
+    }
+
+    /**
+     * Resolves the shared row height: the declared height, a single fixed auto-row track, or the tallest sample.
+     */
+    private float resolveRowHeight(NodeId node, TaffyStyle style, GridViewport viewport,
+                                   int sampleEnd, int columnCount, float innerWidth) {
+        if (!Float.isNaN(viewport.declaredRowHeight())) {
+            return viewport.declaredRowHeight();
+        }
+        List<TrackSizingFunction> autoRows = style.getGridAutoRows();
+        if (autoRows != null && autoRows.size() == 1 && autoRows.get(0).isFixed()) {
+            float fixed = autoRows.get(0).getDefiniteValue(NaN);
+            if (!Float.isNaN(fixed)) {
+                return fixed;
+            }
+        }
+
+        TaffyTree tree = layoutComputer.getTree();
+        float rowHeight = 0f;
+        for (int i = 0; i < sampleEnd; i++) {
+            NodeId child = tree.getChildAtIndex(node, i);
+            TaffyStyle childStyle = tree.getStyle(child);
+            if (childStyle.getBoxGenerationMode() == BoxGenerationMode.NONE) {
+                continue;
+            }
+            float cellWidth = viewport.columnSizes[i % columnCount];
+            FloatRect margin = Resolve.resolveRectLpaOrZero(childStyle.getMargin(), innerWidth);
+            float knownWidth = childStyle.getSize().width.isAuto() ? cellWidth - margin.left - margin.right : NaN;
+            float height = layoutComputer.measureChildSize(child, new FloatSize(knownWidth, NaN),
+                new FloatSize(cellWidth, NaN),
+                new TaffySize<>(AvailableSpace.definite(cellWidth - margin.left - margin.right), AvailableSpace.maxContent()),
+                SizingMode.INHERENT_SIZE, new TaffyLine<>(false, false)).height;
+            rowHeight = Math.max(rowHeight, height + margin.top + margin.bottom);
+        }
+        return rowHeight;
+    }
+
+    // === Column Sizing ===
+
+    /**
+     * Sizes columns from their sizing functions and the sampled contributions: tracks start at their base size and
+     * non-flexible tracks grow towards their limits while there is free space. Flexible tracks are
+     * {@code minmax(auto, Nfr)} unless declared otherwise, and share what remains through the grid algorithm's
+     * fr-size search.
+     */
+    private void sizeColumns(GridViewport viewport, List<TrackSizingFunction> columns, int columnCount,
+                             float innerWidth, float freeSpaceBasis, float columnGap) {
+        float[] sizes = viewport.columnSizes;
+        float[] limits = viewport.columnOffsets; // used as scratch until offsets are computed
+        FloatList frBaseSizes = new FloatArrayList();
+        FloatList frValues = new FloatArrayList();
+        float used = columnGap * (columnCount - 1);
+
+        for (int c = 0; c < columnCount; c++) {
+            TrackSizingFunction track = c < columns.size() ? columns.get(c) : TrackSizingFunction.AUTO;
+            TrackSizingFunction minFunc = track.isMinmax() ? track.getMinFunc() : track.isFr() ? TrackSizingFunction.AUTO : track;
+            TrackSizingFunction maxFunc = track.isMinmax() ? track.getMaxFunc() : track;
+
+            float base = trackSize(viewport, minFunc, c, innerWidth, false);
+            float limit = maxFunc.isFr() ? Float.POSITIVE_INFINITY : Math.max(base, trackSize(viewport, maxFunc, c, innerWidth, true));
+            sizes[c] = base;
+            limits[c] = limit;
+            used += base;
+        }
+
+        if (Float.isNaN(freeSpaceBasis)) {
+            // Indefinite width: every track grows to its limit, and a flexible track's max-content contribution
+            // raises its base size before the fr size is found
+            for (int c = 0; c < columnCount; c++) {
+                if (limits[c] == Float.POSITIVE_INFINITY) {
+                    frBaseSizes.add(Math.max(sizes[c], viewport.sampleMaxContent[c]));
+                    frValues.add(columnFr(columns, c));
+                } else {
+                    sizes[c] = limits[c];
+                }
+            }
+            applyFlexFraction(sizes, limits, columnCount, frBaseSizes, frValues,
+                GridComputer.findSizeOfFrForIndefinite(frBaseSizes, frValues));
+            return;
+        }
+
+        // Definite width: grow non-flexible tracks towards their limits in equal shares
+        float freeSpace = freeSpaceBasis - used;
+        while (freeSpace > 0.001f) {
+            int growable = 0;
+            for (int c = 0; c < columnCount; c++) {
+                if (limits[c] != Float.POSITIVE_INFINITY && sizes[c] < limits[c]) {
+                    growable++;
+                }
+            }
+            if (growable == 0) {
+                break;
+            }
+            float share = freeSpace / growable;
+            float distributed = 0f;
+            for (int c = 0; c < columnCount; c++) {
+                if (limits[c] != Float.POSITIVE_INFINITY && sizes[c] < limits[c]) {
+                    float increase = Math.min(share, limits[c] - sizes[c]);
+                    sizes[c] += increase;
+                    distributed += increase;
+                }
+            }
+            freeSpace -= distributed;
+            if (distributed < 0.001f) {
+                break;
+            }
+        }
+
+        // Flexible tracks share the space the other tracks and the gaps leave
+        float spaceForFrTracks = freeSpaceBasis - columnGap * (columnCount - 1);
+        for (int c = 0; c < columnCount; c++) {
+            if (limits[c] == Float.POSITIVE_INFINITY) {
+                frBaseSizes.add(sizes[c]);
+                frValues.add(columnFr(columns, c));
+            } else {
+                spaceForFrTracks -= sizes[c];
+            }
+        }
+        applyFlexFraction(sizes, limits, columnCount, frBaseSizes, frValues,
+            GridComputer.findSizeOfFrForDefinite(frBaseSizes, frValues, spaceForFrTracks));
+    }
+
+    /**
+     * Sizes every flexible track to {@code max(base size, flex factor * flexFraction)}.
+     */
+    private static void applyFlexFraction(float[] sizes, float[] limits, int columnCount,
+                                          FloatList frBaseSizes, FloatList frValues, float flexFraction) {
+        int idx = 0;
+        for (int c = 0; c < columnCount; c++) {
+            if (limits[c] == Float.POSITIVE_INFINITY) {
+                sizes[c] = Math.max(frBaseSizes.getFloat(idx), frValues.getFloat(idx) * flexFraction);
+                idx++;
+            }
+        }
+    }
+
+    private static float columnFr(List<TrackSizingFunction> columns, int c) {
+        if (c >= columns.size()) {
+            return 0f;
+        }
+        TrackSizingFunction track = columns.get(c);
+        TrackSizingFunction maxFunc = track.isMinmax() ? track.getMaxFunc() : track;
+        return maxFunc.isFr() ? maxFunc.getFrValue() : 0f;
+    }
+
+    /**
+     * Resolves one sizing function of column {@code c}: a base size when {@code isLimit} is false, a growth limit otherwise.
+     */
+    private static float trackSize(GridViewport viewport, TrackSizingFunction func, int c, float innerWidth, boolean isLimit) {
+        float minContent = viewport.sampleMinContent[c];
+        float maxContent = viewport.sampleMaxContent[c];
+        if (func.isFixed()) {
+            float value = func.getDefiniteValue(innerWidth);
+            if (!Float.isNaN(value)) {
+                return value;
+            }
+            // Percentages against an indefinite width behave as auto
+            return isLimit ? maxContent : minContent;
+        }
+        if (func.isMinContent()) {
+            return minContent;
+        }
+        if (func.isMaxContent()) {
+            return maxContent;
+        }
+        if (func.isFitContent()) {
+            float limit = func.getDefiniteValue(innerWidth);
+            return isLimit && !Float.isNaN(limit)
+                   ? Math.max(minContent, Math.min(maxContent, limit))
+                   : isLimit ? maxContent : minContent;
+        }
+        if (func.isFr()) {
+            return 0f;
+        }
+        // auto
+        return isLimit ? maxContent : minContent;
+    }
+
+    // === Windowed Layout ===
+
+    /**
+     * Lays out the children whose cells intersect the viewport and resets the ones that scrolled out of it.
+     */
+    private void layoutVisibleCells(NodeId node, GridViewport viewport, int childCount, float innerWidth) {
+        TaffyTree tree = layoutComputer.getTree();
+        int columnCount = viewport.columnCount;
+        int rowCount = viewport.rowCount;
+
+        int firstRow = 0;
+        int rowEnd = 0;
+        int firstColumn = 0;
+        int columnEnd = 0;
+        float viewTop = viewport.viewY();
+        float viewBottom = viewTop + viewport.viewHeight();
+        float viewLeft = viewport.viewX();
+        float viewRight = viewLeft + viewport.viewWidth();
+        if (rowCount > 0 && viewport.viewHeight() > 0f && viewport.viewWidth() > 0f) {
+            float pitch = viewport.rowHeight + viewport.rowGap;
+            if (pitch > 0f) {
+                firstRow = clamp((int) Math.floor((viewTop - viewport.firstRowOffset) / pitch), rowCount);
+                rowEnd = clamp((int) Math.ceil((viewBottom - viewport.firstRowOffset) / pitch), rowCount);
+            } else {
+                rowEnd = viewTop <= viewport.firstRowOffset && viewport.firstRowOffset < viewBottom ? rowCount : 0;
+            }
+            firstColumn = columnCount;
+            for (int c = 0; c < columnCount; c++) {
+                float left = viewport.columnOffsets[c];
+                float right = left + viewport.columnSizes[c];
+                if (right > viewLeft && left < viewRight) {
+                    firstColumn = Math.min(firstColumn, c);
+                    columnEnd = c + 1;
+                }
+            }
+            if (columnEnd == 0) {
+                firstColumn = 0;
+            }
+        }
+
+        // Reset children that were laid out last time but are outside the new window
+        for (int r = viewport.firstVisibleRow; r < viewport.visibleRowEnd; r++) {
+            for (int c = viewport.firstVisibleColumn; c < viewport.visibleColumnEnd; c++) {
+                int index = r * columnCount + c;
+                if (index >= childCount) {
+                    break;
+                }
+                boolean stillVisible = r >= firstRow && r < rowEnd && c >= firstColumn && c < columnEnd;
+                if (!stillVisible) {
+                    tree.resetUnroundedLayout(tree.getChildAtIndex(node, index), index);
+                    if (tree.roundingEnabled()) {
+                        viewport.scrolledOut.add(index);
+                    }
+                }
+            }
+        }
+
+        float pitch = viewport.rowHeight + viewport.rowGap;
+        for (int r = firstRow; r < rowEnd; r++) {
+            float cellTop = viewport.firstRowOffset + r * pitch;
+            for (int c = firstColumn; c < columnEnd; c++) {
+                int index = r * columnCount + c;
+                if (index >= childCount) {
+                    break;
+                }
+                layoutCell(tree, tree.getChildAtIndex(node, index), index,
+                    viewport.columnOffsets[c], cellTop, viewport.columnSizes[c], viewport.rowHeight, innerWidth);
+            }
+        }
+
+        viewport.firstVisibleRow = firstRow;
+        viewport.visibleRowEnd = rowEnd;
+        viewport.firstVisibleColumn = firstColumn;
+        viewport.visibleColumnEnd = columnEnd;
+    }
+
+    private void layoutCell(TaffyTree tree, NodeId child, int order, float cellLeft, float cellTop,
+                            float cellWidth, float cellHeight, float innerWidth) {
+        TaffyStyle childStyle = tree.getStyle(child);
+        if (childStyle.getBoxGenerationMode() == BoxGenerationMode.NONE) {
+            layoutComputer.computeHiddenLayout(child);
+            return;
+        }
+
+        FloatRect margin = Resolve.resolveRectLpaOrZero(childStyle.getMargin(), innerWidth);
+        FloatRect padding = Resolve.resolveRectOrZero(childStyle.getPadding(), innerWidth);
+        FloatRect border = Resolve.resolveRectOrZero(childStyle.getBorder(), innerWidth);
+        float availableWidth = Math.max(0f, cellWidth - margin.left - margin.right);
+        float availableHeight = Math.max(0f, cellHeight - margin.top - margin.bottom);
+
+        // Stretch along each axis the child does not size itself
+        FloatSize knownDimensions = new FloatSize(
+            childStyle.getSize().width.isAuto() ? availableWidth : NaN,
+            childStyle.getSize().height.isAuto() ? availableHeight : NaN
+        );
+        LayoutOutput output = layoutComputer.performChildLayout(
+            child,
+            knownDimensions,
+            new FloatSize(cellWidth, cellHeight),
+            new TaffySize<>(AvailableSpace.definite(availableWidth), AvailableSpace.definite(availableHeight)),
+            SizingMode.INHERENT_SIZE,
+            new TaffyLine<>(false, false)
+        );
+
+        float scrollbarWidth = childStyle.getOverflow().y == Overflow.SCROLL ? childStyle.getScrollbarWidth() : 0f;
+        float scrollbarHeight = childStyle.getOverflow().x == Overflow.SCROLL ? childStyle.getScrollbarWidth() : 0f;
+        tree.writeUnroundedLayout(child, order, cellLeft + margin.left, cellTop + margin.top,
+            output.size(), output.contentSize(), scrollbarWidth, scrollbarHeight, border, padding, margin);
+    }
+
+    private static int clamp(int value, int count) {
+        return Math.max(0, Math.min(count, value));
+    }
+}
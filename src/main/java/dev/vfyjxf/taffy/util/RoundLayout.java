@@ -26,7 +26,7 @@ public final class RoundLayout {
      * This differs from Java's Math.round() which rounds ties towards positive infinity.
      * Example: round(-148.5) returns -149 (Rust) vs -148 (Java Math.round)
      */
-    private static float round(float value) {
+    public static float round(float value) {
         // Math.rint rounds to nearest even for ties, we need round away from zero
         // For positive: 0.5 -> 1 (same as Math.round)
         // For negative: -0.5 -> -1 (different from Math.round which gives 0)
@@ -40,12 +40,23 @@ public final class RoundLayout {
     /**
      * Rounds the calculated layout to whole pixels.
      * Uses iterative BFS to avoid deep recursion stack overflow.
+     * <p>
+     * {@link TaffyTree} rounds incrementally on its own after each layout pass; this always rounds the whole subtree.
      */
     public static void roundLayout(TaffyTree tree, NodeId nodeId) {
         // Use a stack-based approach instead of recursion for better performance
         // Store: [nodeId, cumulativeX, cumulativeY]
         Deque<Object[]> stack = new ArrayDeque<>();
         stack.push(new Object[]{nodeId, 0f, 0f});
+
+        // Scratch components shared by all nodes of this pass
+        FloatPoint roundedLocation = FloatPoint.zero();
+        FloatSize roundedSize = FloatSize.zero();
+        FloatSize roundedContentSize = FloatSize.zero();
+        FloatSize roundedScrollbarSize = FloatSize.zero();
+        FloatRect roundedBorder = FloatRect.zero();
+        FloatRect roundedPadding = FloatRect.zero();
+        FloatRect roundedMargin = FloatRect.zero();
         
         while (!stack.isEmpty()) {
             Object[] item = stack.pop();
@@ -84,21 +95,22 @@ public final class RoundLayout {
             FloatSize scrollbarSize = layout.scrollbarSize();
             float scrollbarWidth = (scrollbarSize != null && !Float.isNaN(scrollbarSize.width)) ? scrollbarSize.width : 0f;
             float scrollbarHeight = (scrollbarSize != null && !Float.isNaN(scrollbarSize.height)) ? scrollbarSize.height : 0f;
-            FloatSize roundedScrollbarSize = new FloatSize(round(scrollbarWidth), round(scrollbarHeight));
-
-            // Apply rounding to layout
-            Layout roundedLayout = new Layout(
-                layout.order(),
-                new FloatPoint(roundedX, roundedY),
-                new FloatSize(roundedWidth, roundedHeight),
-                new FloatSize(roundedContentWidth, roundedContentHeight),
-                roundedScrollbarSize,
-                roundRect(layout.border()),
-                roundRect(layout.padding()),
-                roundRect(layout.margin())
-            );
-
-            tree.setLayout(currentNode, roundedLayout);
+
+            // Apply rounding to the scratch components; setLayout copies them into the node's own layout
+            roundedLocation.x = roundedX;
+            roundedLocation.y = roundedY;
+            roundedSize.width = roundedWidth;
+            roundedSize.height = roundedHeight;
+            roundedContentSize.width = roundedContentWidth;
+            roundedContentSize.height = roundedContentHeight;
+            roundedScrollbarSize.width = round(scrollbarWidth);
+            roundedScrollbarSize.height = round(scrollbarHeight);
+            roundRectInto(layout.border(), roundedBorder);
+            roundRectInto(layout.padding(), roundedPadding);
+            roundRectInto(layout.margin(), roundedMargin);
+
+            tree.setLayout(currentNode, new Layout(layout.order(), roundedLocation, roundedSize, roundedContentSize,
+                roundedScrollbarSize, roundedBorder, roundedPadding, roundedMargin));
 
             // Push children to stack
             List<NodeId> childList = tree.getChildren(currentNode);
@@ -180,6 +192,16 @@ public final class RoundLayout {
         );
     }
 
+    /**
+     * Writes the rounded values of a Rect into {@code target}.
+     */
+    private static void roundRectInto(FloatRect rect, FloatRect target) {
+        target.left = !Float.isNaN(rect.left) ? round(rect.left) : 0f;
+        target.right = !Float.isNaN(rect.right) ? round(rect.right) : 0f;
+        target.top = !Float.isNaN(rect.top) ? round(rect.top) : 0f;
+        target.bottom = !Float.isNaN(rect.bottom) ? round(rect.bottom) : 0f;
+    }
+
     /**
      * Rounds a Line's values using our round() that matches Rust's behavior.
      */
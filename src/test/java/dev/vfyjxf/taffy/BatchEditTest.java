@@ -0,0 +1,110 @@
+package dev.vfyjxf.taffy;
+
+import dev.vfyjxf.taffy.geometry.TaffySize;
+import dev.vfyjxf.taffy.style.AvailableSpace;
+import dev.vfyjxf.taffy.style.TaffyDimension;
+import dev.vfyjxf.taffy.style.TaffyStyle;
+import dev.vfyjxf.taffy.tree.NodeId;
+import dev.vfyjxf.taffy.tree.TaffyTree;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for batched edits with deferred dirty propagation.
+ */
+public class BatchEditTest {
+
+    private static final TaffySize<AvailableSpace> SPACE =
+        new TaffySize<>(AvailableSpace.definite(200f), AvailableSpace.definite(200f));
+
+    private static TaffyStyle sized(float width) {
+        TaffyStyle style = new TaffyStyle();
+        style.size = new TaffySize<>(TaffyDimension.length(width), TaffyDimension.length(10f));
+        return style;
+    }
+
+    @Test
+    @DisplayName("batch_reports_roots_it_dirtied")
+    void batchReportsRootsItDirtied() {
+        TaffyTree tree = new TaffyTree();
+        NodeId leafA = tree.newLeaf(sized(10f));
+        NodeId middleA = tree.newWithChildren(new TaffyStyle(), leafA);
+        NodeId rootA = tree.newWithChildren(new TaffyStyle(), middleA);
+        NodeId leafB = tree.newLeaf(sized(20f));
+        NodeId rootB = tree.newWithChildren(new TaffyStyle(), leafB);
+        NodeId untouched = tree.newWithChildren(new TaffyStyle(), tree.newLeaf(sized(5f)));
+        tree.computeLayout(rootA, SPACE);
+        tree.computeLayout(rootB, SPACE);
+        tree.computeLayout(untouched, SPACE);
+
+        Set<NodeId> dirtied = tree.batch(t -> {
+            t.setStyle(leafB, sized(40f));
+            t.setStyle(leafA, sized(30f));
+            t.addChild(middleA, t.newLeaf(sized(15f)));
+            // Nothing is marked until the batch commits
+            assertFalse(t.isDirty(rootA));
+            assertTrue(t.isBatching());
+        });
+
+        assertEquals(List.of(rootB, rootA), List.copyOf(dirtied));
+        assertFalse(tree.isBatching());
+        assertTrue(tree.isDirty(leafA));
+        assertTrue(tree.isDirty(middleA));
+        assertTrue(tree.isDirty(rootA));
+        assertTrue(tree.isDirty(rootB));
+        assertFalse(tree.isDirty(untouched));
+
+        // Roots that are still dirty are not reported again
+        assertTrue(tree.batch(t -> t.setStyle(leafA, sized(35f))).isEmpty());
+
+        tree.computeLayout(rootA, SPACE);
+        assertEquals(35f, tree.getLayout(leafA).size().width);
+    }
+
+    @Test
+    @DisplayName("removing_an_edited_subtree_dirties_its_parent")
+    void removingAnEditedSubtreeDirtiesItsParent() {
+        TaffyTree tree = new TaffyTree();
+        NodeId leaf = tree.newLeaf(sized(10f));
+        NodeId middle = tree.newWithChildren(new TaffyStyle(), leaf);
+        NodeId root = tree.newWithChildren(new TaffyStyle(), middle, tree.newLeaf(sized(20f)));
+        tree.computeLayout(root, SPACE);
+
+        tree.beginBatch();
+        tree.setStyle(leaf, sized(50f));
+        tree.remove(middle);
+        Set<NodeId> dirtied = tree.commitBatch();
+
+        // The edited leaf is a root of its own once its parent is gone
+        assertEquals(List.of(leaf, root), List.copyOf(dirtied));
+        assertTrue(tree.isDirty(root));
+    }
+
+    @Test
+    @DisplayName("batch_state_is_checked")
+    void batchStateIsChecked() {
+        TaffyTree tree = new TaffyTree();
+        NodeId leaf = tree.newLeaf(sized(10f));
+        NodeId root = tree.newWithChildren(new TaffyStyle(), leaf);
+        tree.computeLayout(root, SPACE);
+
+        assertThrows(IllegalStateException.class, tree::commitBatch);
+        tree.beginBatch();
+        assertThrows(IllegalStateException.class, tree::beginBatch);
+        assertThrows(IllegalStateException.class, () -> tree.computeLayout(root, SPACE));
+        tree.commitBatch();
+
+        // A failing batch is still committed, so edits made before the failure are not lost
+        assertThrows(IllegalArgumentException.class, () -> tree.batch(t -> {
+            t.setStyle(leaf, sized(70f));
+            throw new IllegalArgumentException();
+        }));
+        assertFalse(tree.isBatching());
+        assertTrue(tree.isDirty(root));
+    }
+}
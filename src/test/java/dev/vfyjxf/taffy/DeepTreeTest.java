@@ -0,0 +1,175 @@
+package dev.vfyjxf.taffy;
+
+import dev.vfyjxf.taffy.geometry.FloatSize;
+import dev.vfyjxf.taffy.geometry.TaffyRect;
+import dev.vfyjxf.taffy.geometry.TaffySize;
+import dev.vfyjxf.taffy.style.AvailableSpace;
+import dev.vfyjxf.taffy.style.FlexDirection;
+import dev.vfyjxf.taffy.style.LengthPercentage;
+import dev.vfyjxf.taffy.style.TaffyDimension;
+import dev.vfyjxf.taffy.style.TaffyDirection;
+import dev.vfyjxf.taffy.style.TaffyDisplay;
+import dev.vfyjxf.taffy.style.TaffyStyle;
+import dev.vfyjxf.taffy.tree.NodeId;
+import dev.vfyjxf.taffy.tree.TaffyException;
+import dev.vfyjxf.taffy.tree.TaffyTree;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for laying out chain-shaped trees deeper than the thread stack allows.
+ */
+public class DeepTreeTest {
+
+    private static final int DEPTH = 10_000;
+
+    private static TaffyStyle containerStyle(TaffyDisplay display) {
+        TaffyStyle style = new TaffyStyle();
+        style.display = display;
+        style.flexDirection = FlexDirection.COLUMN;
+        LengthPercentage one = LengthPercentage.length(1f);
+        style.padding = new TaffyRect<>(one, one, one, one);
+        return style;
+    }
+
+    private static TaffyStyle leafStyle() {
+        TaffyStyle style = new TaffyStyle();
+        style.size = new TaffySize<>(TaffyDimension.length(10f), TaffyDimension.length(10f));
+        return style;
+    }
+
+    /**
+     * Builds a chain of {@code depth} containers ending in a 10x10 leaf and returns {root, leaf}.
+     */
+    private static NodeId[] buildChain(TaffyTree tree, TaffyDisplay display, int depth) {
+        NodeId leaf = tree.newLeaf(leafStyle());
+        NodeId node = leaf;
+        for (int i = 0; i < depth; i++) {
+            node = tree.newWithChildren(containerStyle(display), node);
+        }
+        return new NodeId[]{node, leaf};
+    }
+
+    private static void assertChainLayout(TaffyDisplay display) {
+        TaffyTree tree = new TaffyTree();
+        tree.enableDeepLayout();
+        NodeId[] chain = buildChain(tree, display, DEPTH);
+        NodeId root = chain[0];
+        NodeId leaf = chain[1];
+
+        TaffySize<AvailableSpace> space = new TaffySize<>(AvailableSpace.definite(30_000f), AvailableSpace.MAX_CONTENT);
+        tree.computeLayout(root, space);
+        assertEquals(10f + 2f * DEPTH, tree.getLayout(root).size().height);
+        assertEquals(1f, tree.getLayout(leaf).location().y);
+
+        // Dirtying the deepest leaf walks the whole chain without recursion
+        tree.setStyle(leaf, leafStyle());
+        assertTrue(tree.isDirty(root));
+        tree.computeLayout(root, space);
+        assertEquals(10f + 2f * DEPTH, tree.getLayout(root).size().height);
+    }
+
+    @Test
+    @DisplayName("deep_block_chain")
+    void deepBlockChain() {
+        assertChainLayout(TaffyDisplay.BLOCK);
+    }
+
+    @Test
+    @DisplayName("deep_flex_chain")
+    void deepFlexChain() {
+        assertChainLayout(TaffyDisplay.FLEX);
+    }
+
+    @Test
+    @DisplayName("direction_is_inherited_across_segments")
+    void directionIsInheritedAcrossSegments() {
+        TaffyTree tree = new TaffyTree();
+        tree.enableDeepLayout(16);
+
+        TaffyStyle rowStyle = new TaffyStyle();
+        rowStyle.display = TaffyDisplay.FLEX;
+        rowStyle.size = new TaffySize<>(TaffyDimension.length(100f), TaffyDimension.length(10f));
+        NodeId first = tree.newLeaf(leafStyle());
+        NodeId second = tree.newLeaf(leafStyle());
+        NodeId node = tree.newWithChildren(rowStyle, first, second);
+        for (int i = 0; i < 100; i++) {
+            node = tree.newWithChildren(containerStyle(TaffyDisplay.BLOCK), node);
+        }
+        TaffyStyle rootStyle = containerStyle(TaffyDisplay.BLOCK);
+        rootStyle.direction = TaffyDirection.RTL;
+        tree.setStyle(node, rootStyle);
+
+        tree.computeLayout(node, TaffySize.maxContent());
+
+        assertEquals(90f, tree.getLayout(first).location().x);
+        assertEquals(80f, tree.getLayout(second).location().x);
+    }
+
+    @Test
+    @DisplayName("wide_level_at_a_segment_boundary")
+    void wideLevelAtASegmentBoundary() {
+        TaffyTree tree = new TaffyTree();
+        tree.enableDeepLayout(16);
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        Thread[] boundaryLeafThread = new Thread[1];
+
+        // Below 15 levels, a row of 1000 containers sits at depth 16 next to a leaf
+        List<NodeId> row = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            NodeId leaf = tree.newLeafWithMeasure(new TaffyStyle(), (known, available) -> {
+                threads.add(Thread.currentThread());
+                return new FloatSize(10f, 10f);
+            });
+            row.add(tree.newWithChildren(new TaffyStyle(), leaf));
+        }
+        row.add(tree.newLeafWithMeasure(new TaffyStyle(), (known, available) -> {
+            boundaryLeafThread[0] = Thread.currentThread();
+            return new FloatSize(10f, 10f);
+        }));
+        TaffyStyle rowStyle = new TaffyStyle();
+        rowStyle.display = TaffyDisplay.FLEX;
+        NodeId node = tree.newWithChildren(rowStyle, row);
+        for (int i = 0; i < 14; i++) {
+            node = tree.newWithChildren(containerStyle(TaffyDisplay.BLOCK), node);
+        }
+
+        tree.computeLayout(node, TaffySize.maxContent());
+
+        assertEquals(10_010f + 28f, tree.getLayout(node).size().width);
+        assertEquals(9990f, tree.getLayout(row.get(999)).location().x);
+        // Each container continues on a pooled segment thread, while the leaf stays on the calling thread
+        assertFalse(threads.contains(Thread.currentThread()));
+        assertTrue(threads.size() < 100, "one segment thread per container: " + threads.size());
+        assertSame(Thread.currentThread(), boundaryLeafThread[0]);
+    }
+
+    @Test
+    @DisplayName("checked_failure_in_a_segment_is_wrapped")
+    void checkedFailureInASegmentIsWrapped() {
+        TaffyTree tree = new TaffyTree();
+        tree.enableDeepLayout(4);
+        NodeId node = tree.newLeafWithMeasure(new TaffyStyle(), (known, available) -> sneakyThrow(new IOException("disk")));
+        for (int i = 0; i < 8; i++) {
+            node = tree.newWithChildren(containerStyle(TaffyDisplay.BLOCK), node);
+        }
+        NodeId root = node;
+
+        TaffyException failure = assertThrows(TaffyException.class, () -> tree.computeLayout(root, TaffySize.maxContent()));
+        assertEquals(TaffyException.ErrorType.LAYOUT_FAILED, failure.getType());
+        assertInstanceOf(IOException.class, failure.getCause());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable, R> R sneakyThrow(Throwable failure) throws T {
+        throw (T) failure;
+    }
+}
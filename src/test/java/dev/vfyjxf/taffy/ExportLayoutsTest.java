@@ -0,0 +1,135 @@
+package dev.vfyjxf.taffy;
+
+import dev.vfyjxf.taffy.geometry.TaffyRect;
+import dev.vfyjxf.taffy.geometry.TaffySize;
+import dev.vfyjxf.taffy.style.LengthPercentage;
+import dev.vfyjxf.taffy.style.LengthPercentageAuto;
+import dev.vfyjxf.taffy.style.TaffyDimension;
+import dev.vfyjxf.taffy.style.TaffyStyle;
+import dev.vfyjxf.taffy.tree.ExportMask;
+import dev.vfyjxf.taffy.tree.NodeId;
+import dev.vfyjxf.taffy.tree.TaffyTree;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for bulk layout export into NIO buffers.
+ */
+public class ExportLayoutsTest {
+
+    private static TaffyStyle sized(float width, float height) {
+        TaffyStyle style = new TaffyStyle();
+        style.size = new TaffySize<>(TaffyDimension.length(width), TaffyDimension.length(height));
+        return style;
+    }
+
+    private static TaffyStyle padded(float padding) {
+        TaffyStyle style = new TaffyStyle();
+        LengthPercentage p = LengthPercentage.length(padding);
+        style.padding = new TaffyRect<>(p, p, p, p);
+        return style;
+    }
+
+    /**
+     * root(padding 5) -> [inner(padding 3) -> [a], b]
+     */
+    private static NodeId[] buildTree(TaffyTree tree) {
+        NodeId a = tree.newLeaf(sized(10f, 10f));
+        NodeId inner = tree.newWithChildren(padded(3f), a);
+        TaffyStyle bStyle = sized(20f, 20f);
+        LengthPercentageAuto m = LengthPercentageAuto.length(2f);
+        bStyle.margin = new TaffyRect<>(m, m, m, m);
+        NodeId b = tree.newLeaf(bStyle);
+        NodeId root = tree.newWithChildren(padded(5f), inner, b);
+        tree.computeLayout(root, TaffySize.maxContent());
+        return new NodeId[]{root, inner, a, b};
+    }
+
+    @Test
+    @DisplayName("relative_export_is_depth_first")
+    void relativeExportIsDepthFirst() {
+        TaffyTree tree = new TaffyTree();
+        NodeId[] nodes = buildTree(tree);
+        FloatBuffer out = FloatBuffer.allocate(64);
+
+        int written = tree.exportLayouts(nodes[0], out, ExportMask.BOUNDS);
+
+        assertEquals(4, written);
+        assertEquals(16, out.position());
+        for (int i = 0; i < nodes.length; i++) {
+            var layout = tree.getLayout(nodes[i]);
+            assertEquals(layout.location().x, out.get(i * 4));
+            assertEquals(layout.location().y, out.get(i * 4 + 1));
+            assertEquals(layout.size().width, out.get(i * 4 + 2));
+            assertEquals(layout.size().height, out.get(i * 4 + 3));
+        }
+    }
+
+    @Test
+    @DisplayName("absolute_export_accumulates_parent_offsets")
+    void absoluteExportAccumulatesParentOffsets() {
+        TaffyTree tree = new TaffyTree();
+        NodeId[] nodes = buildTree(tree);
+        ExportMask mask = ExportMask.ABSOLUTE_BOUNDS.withPadding().withMargin().withContentSize();
+        assertEquals(14, mask.floatsPerNode());
+        FloatBuffer out = ByteBuffer.allocateDirect(4 * 14 * Float.BYTES).order(ByteOrder.nativeOrder()).asFloatBuffer();
+
+        tree.exportLayouts(nodes[0], out, mask);
+
+        // a sits inside both paddings
+        assertEquals(8f, out.get(2 * 14));
+        assertEquals(8f, out.get(2 * 14 + 1));
+        // b follows inner in the row, offset by the root padding and its own margin
+        assertEquals(5f + 16f + 2f, out.get(3 * 14));
+        assertEquals(7f, out.get(3 * 14 + 1));
+        // padding group of the root, then the margin group of b
+        assertEquals(5f, out.get(4));
+        assertEquals(2f, out.get(3 * 14 + 8));
+        assertEquals(tree.getLayout(nodes[0]).contentSize().width, out.get(12));
+    }
+
+    @Test
+    @DisplayName("byte_buffer_export_advances_position")
+    void byteBufferExportAdvancesPosition() {
+        TaffyTree tree = new TaffyTree();
+        NodeId[] nodes = buildTree(tree);
+        ByteBuffer bytes = ByteBuffer.allocate(128).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.putInt(0xCAFE);
+
+        assertEquals(2, tree.exportLayouts(nodes[1], bytes, ExportMask.BOUNDS));
+        assertEquals(4 + 8 * Float.BYTES, bytes.position());
+        assertEquals(tree.getLayout(nodes[2]).size().width, bytes.getFloat(4 + 6 * Float.BYTES));
+
+        assertThrows(BufferOverflowException.class,
+            () -> tree.exportLayouts(nodes[0], FloatBuffer.allocate(10), ExportMask.BOUNDS));
+    }
+
+    @Test
+    @DisplayName("overflow_leaves_only_whole_records")
+    void overflowLeavesOnlyWholeRecords() {
+        TaffyTree tree = new TaffyTree();
+        NodeId[] nodes = buildTree(tree);
+        FloatBuffer out = FloatBuffer.allocate(10);
+        while (out.hasRemaining()) {
+            out.put(-1f);
+        }
+        out.clear();
+
+        assertThrows(BufferOverflowException.class, () -> tree.exportLayouts(nodes[0], out, ExportMask.BOUNDS));
+        assertEquals(8, out.position());
+        assertEquals(tree.getLayout(nodes[1]).size().width, out.get(6));
+        assertEquals(-1f, out.get(8), "no part of the third node should be written");
+        assertEquals(-1f, out.get(9));
+
+        ByteBuffer bytes = ByteBuffer.allocate(10 * Float.BYTES);
+        assertThrows(BufferOverflowException.class, () -> tree.exportLayouts(nodes[0], bytes, ExportMask.BOUNDS));
+        assertEquals(8 * Float.BYTES, bytes.position());
+    }
+}
@@ -0,0 +1,109 @@
+package dev.vfyjxf.taffy;
+
+import dev.vfyjxf.taffy.geometry.TaffyRect;
+import dev.vfyjxf.taffy.geometry.TaffySize;
+import dev.vfyjxf.taffy.style.AlignContent;
+import dev.vfyjxf.taffy.style.FlexWrap;
+import dev.vfyjxf.taffy.style.LengthPercentage;
+import dev.vfyjxf.taffy.style.LengthPercentageAuto;
+import dev.vfyjxf.taffy.style.TaffyDimension;
+import dev.vfyjxf.taffy.style.TaffyStyle;
+import dev.vfyjxf.taffy.tree.NodeId;
+import dev.vfyjxf.taffy.tree.TaffyTree;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for breaking wrapping flex containers into lines.
+ */
+public class FlexWrapLinesTest {
+
+    private static TaffyStyle wrapStyle(float width, float gap) {
+        TaffyStyle style = new TaffyStyle();
+        style.flexWrap = FlexWrap.WRAP;
+        style.alignContent = AlignContent.FLEX_START;
+        style.size = new TaffySize<>(TaffyDimension.length(width), TaffyDimension.auto());
+        style.gap = new TaffySize<>(LengthPercentage.length(gap), LengthPercentage.length(0f));
+        return style;
+    }
+
+    private static TaffyStyle tag(float width, float marginRight) {
+        TaffyStyle style = new TaffyStyle();
+        style.flexShrink = 0f;
+        style.size = new TaffySize<>(TaffyDimension.length(width), TaffyDimension.length(10f));
+        style.margin = new TaffyRect<>(LengthPercentageAuto.length(0f), LengthPercentageAuto.length(marginRight),
+            LengthPercentageAuto.length(0f), LengthPercentageAuto.length(0f));
+        return style;
+    }
+
+    @Test
+    @DisplayName("thousands_of_tags_fill_lines_exactly")
+    void thousandsOfTagsFillLinesExactly() {
+        TaffyTree tree = new TaffyTree();
+        List<NodeId> tags = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            tags.add(tree.newLeaf(tag(30f, 0f)));
+        }
+        NodeId cloud = tree.newWithChildren(wrapStyle(100f, 5f), tags);
+        tree.computeLayout(cloud, TaffySize.maxContent());
+
+        // 30 + 5 + 30 + 5 + 30 is exactly 100, so every line holds three tags
+        assertEquals(10_000f, tree.getLayout(cloud).size().height);
+        assertEquals(70f, tree.getLayout(tags.get(2)).location().x);
+        assertEquals(0f, tree.getLayout(tags.get(3)).location().x);
+        assertEquals(10f, tree.getLayout(tags.get(3)).location().y);
+        assertEquals(70f, tree.getLayout(tags.get(2999)).location().x);
+        assertEquals(9990f, tree.getLayout(tags.get(2999)).location().y);
+    }
+
+    @Test
+    @DisplayName("negative_margins_break_at_the_first_overflow")
+    void negativeMarginsBreakAtTheFirstOverflow() {
+        TaffyTree tree = new TaffyTree();
+        NodeId first = tree.newLeaf(tag(50f, 0f));
+        NodeId second = tree.newLeaf(tag(60f, 0f));
+        // Outer width of -30 pulls the line back under the available width
+        NodeId pulled = tree.newLeaf(tag(10f, -40f));
+        NodeId last = tree.newLeaf(tag(80f, 0f));
+        NodeId row = tree.newWithChildren(wrapStyle(100f, 0f), first, second, pulled, last);
+        tree.computeLayout(row, TaffySize.maxContent());
+
+        assertEquals(0f, tree.getLayout(first).location().y);
+        assertEquals(10f, tree.getLayout(second).location().y);
+        assertEquals(10f, tree.getLayout(pulled).location().y);
+        assertEquals(60f, tree.getLayout(pulled).location().x);
+        assertEquals(20f, tree.getLayout(last).location().y);
+        assertEquals(30f, tree.getLayout(row).size().height);
+    }
+
+    @Test
+    @DisplayName("line_length_is_summed_in_float")
+    void lineLengthIsSummedInFloat() {
+        // Five 20.2 wide items sum to exactly 101 in float, but to slightly more in double
+        TaffyTree fits = new TaffyTree();
+        List<NodeId> fitting = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            fitting.add(fits.newLeaf(tag(20.2f, 0f)));
+        }
+        NodeId fitRow = fits.newWithChildren(wrapStyle(101f, 0f), fitting);
+        fits.computeLayout(fitRow, TaffySize.maxContent());
+        assertEquals(0f, fits.getLayout(fitting.get(4)).location().y);
+        assertEquals(10f, fits.getLayout(fitRow).size().height);
+
+        // Eight 30.3 wide items overshoot 242.4 in float, though not in double
+        TaffyTree wraps = new TaffyTree();
+        List<NodeId> wrapping = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            wrapping.add(wraps.newLeaf(tag(30.3f, 0f)));
+        }
+        NodeId wrapRow = wraps.newWithChildren(wrapStyle(242.4f, 0f), wrapping);
+        wraps.computeLayout(wrapRow, TaffySize.maxContent());
+        assertEquals(10f, wraps.getLayout(wrapping.get(7)).location().y);
+        assertEquals(20f, wraps.getLayout(wrapRow).size().height);
+    }
+}
@@ -0,0 +1,98 @@
+package dev.vfyjxf.taffy;
+
+import dev.vfyjxf.taffy.geometry.FloatSize;
+import dev.vfyjxf.taffy.geometry.TaffyLine;
+import dev.vfyjxf.taffy.geometry.TaffySize;
+import dev.vfyjxf.taffy.style.GridPlacement;
+import dev.vfyjxf.taffy.style.TaffyDisplay;
+import dev.vfyjxf.taffy.style.TaffyStyle;
+import dev.vfyjxf.taffy.style.TrackSizingFunction;
+import dev.vfyjxf.taffy.tree.NodeId;
+import dev.vfyjxf.taffy.tree.TaffyTree;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that grid item placement is reused across content-only relayouts and redone when children change.
+ */
+public class GridPlacementReuseTest {
+
+    private static TaffyStyle gridStyle() {
+        TaffyStyle style = new TaffyStyle();
+        style.display = TaffyDisplay.GRID;
+        style.gridTemplateColumns = new ArrayList<>(List.of(TrackSizingFunction.auto(), TrackSizingFunction.auto()));
+        return style;
+    }
+
+    private static NodeId textCell(TaffyTree tree, float[] width) {
+        return tree.newLeafWithMeasure(new TaffyStyle(), (known, available) ->
+            new FloatSize(Float.isNaN(known.width) ? width[0] : known.width,
+                Float.isNaN(known.height) ? 10f : known.height));
+    }
+
+    @Test
+    @DisplayName("content_change_keeps_placement_and_resizes_tracks")
+    void contentChangeKeepsPlacementAndResizesTracks() {
+        TaffyTree tree = new TaffyTree();
+        float[][] widths = new float[6][];
+        List<NodeId> cells = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            widths[i] = new float[]{20f};
+            cells.add(textCell(tree, widths[i]));
+        }
+        NodeId grid = tree.newWithChildren(gridStyle(), cells);
+        tree.computeLayout(grid, TaffySize.maxContent());
+        assertEquals(20f, tree.getLayout(cells.get(3)).location().x);
+        assertEquals(10f, tree.getLayout(cells.get(3)).location().y);
+
+        widths[2][0] = 50f;
+        tree.markDirty(cells.get(2));
+        tree.computeLayout(grid, TaffySize.maxContent());
+
+        assertEquals(50f, tree.getLayout(cells.get(3)).location().x);
+        assertEquals(10f, tree.getLayout(cells.get(3)).location().y);
+        assertEquals(0f, tree.getLayout(cells.get(4)).location().x);
+        assertEquals(20f, tree.getLayout(cells.get(4)).location().y);
+        assertEquals(70f, tree.getLayout(grid).size().width);
+    }
+
+    @Test
+    @DisplayName("child_changes_redo_placement")
+    void childChangesRedoPlacement() {
+        TaffyTree tree = new TaffyTree();
+        List<NodeId> cells = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            cells.add(textCell(tree, new float[]{20f}));
+        }
+        NodeId grid = tree.newWithChildren(gridStyle(), cells);
+        tree.computeLayout(grid, TaffySize.maxContent());
+        assertEquals(20f, tree.getLayout(cells.get(1)).location().x);
+
+        // Grid lines edited in place
+        TaffyStyle first = tree.getStyle(cells.get(0));
+        first.gridColumn = new TaffyLine<>(GridPlacement.auto(), GridPlacement.span(2));
+        tree.markDirty(cells.get(0));
+        tree.computeLayout(grid, TaffySize.maxContent());
+        assertEquals(0f, tree.getLayout(cells.get(1)).location().x);
+        assertEquals(10f, tree.getLayout(cells.get(1)).location().y);
+
+        // Child removed
+        tree.removeChild(grid, cells.get(0));
+        tree.computeLayout(grid, TaffySize.maxContent());
+        assertEquals(0f, tree.getLayout(cells.get(1)).location().y);
+        assertEquals(20f, tree.getLayout(cells.get(2)).location().x);
+
+        // Child hidden
+        TaffyStyle hidden = new TaffyStyle();
+        hidden.display = TaffyDisplay.NONE;
+        tree.setStyle(cells.get(1), hidden);
+        tree.computeLayout(grid, TaffySize.maxContent());
+        assertEquals(0f, tree.getLayout(cells.get(2)).location().x);
+        assertEquals(20f, tree.getLayout(cells.get(3)).location().x);
+    }
+}
@@ -0,0 +1,99 @@
+package dev.vfyjxf.taffy;
+
+import dev.vfyjxf.taffy.geometry.TaffySize;
+import dev.vfyjxf.taffy.style.GridTemplateComponent;
+import dev.vfyjxf.taffy.style.TaffyDimension;
+import dev.vfyjxf.taffy.style.TaffyDisplay;
+import dev.vfyjxf.taffy.style.TaffyStyle;
+import dev.vfyjxf.taffy.style.TrackSizingFunction;
+import dev.vfyjxf.taffy.tree.NodeId;
+import dev.vfyjxf.taffy.tree.TaffyTree;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that cached grid template expansions follow container resizes and style edits.
+ */
+public class GridTemplateCacheTest {
+
+    private static TaffyStyle rootStyle(float width) {
+        TaffyStyle style = new TaffyStyle();
+        style.size = new TaffySize<>(TaffyDimension.length(width), TaffyDimension.auto());
+        return style;
+    }
+
+    private static TaffyStyle autoFillGrid(float trackSize) {
+        TaffyStyle style = new TaffyStyle();
+        style.display = TaffyDisplay.GRID;
+        style.size = new TaffySize<>(TaffyDimension.percent(1f), TaffyDimension.auto());
+        style.gridTemplateColumnsWithRepeat = new ArrayList<>(List.of(
+            GridTemplateComponent.autoFill(TrackSizingFunction.fixed(trackSize))));
+        return style;
+    }
+
+    private static TaffyStyle cell() {
+        TaffyStyle style = new TaffyStyle();
+        style.size = new TaffySize<>(TaffyDimension.auto(), TaffyDimension.length(10f));
+        return style;
+    }
+
+    @Test
+    @DisplayName("auto_fill_follows_container_resizes")
+    void autoFillFollowsContainerResizes() {
+        TaffyTree tree = new TaffyTree();
+        List<NodeId> cells = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            cells.add(tree.newLeaf(cell()));
+        }
+        NodeId grid = tree.newWithChildren(autoFillGrid(100f), cells);
+        NodeId root = tree.newWithChildren(rootStyle(300f), grid);
+
+        tree.computeLayout(root, TaffySize.maxContent());
+        assertEquals(0f, tree.getLayout(cells.get(3)).location().x);
+        assertEquals(10f, tree.getLayout(cells.get(3)).location().y);
+
+        tree.setStyle(root, rootStyle(400f));
+        tree.computeLayout(root, TaffySize.maxContent());
+        assertEquals(300f, tree.getLayout(cells.get(3)).location().x);
+        assertEquals(0f, tree.getLayout(cells.get(3)).location().y);
+
+        tree.setStyle(root, rootStyle(300f));
+        tree.computeLayout(root, TaffySize.maxContent());
+        assertEquals(0f, tree.getLayout(cells.get(3)).location().x);
+    }
+
+    @Test
+    @DisplayName("style_edits_invalidate_the_expansion")
+    void styleEditsInvalidateTheExpansion() {
+        TaffyTree tree = new TaffyTree();
+        List<NodeId> cells = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            cells.add(tree.newLeaf(cell()));
+        }
+        TaffyStyle gridStyle = autoFillGrid(100f);
+        NodeId grid = tree.newWithChildren(gridStyle, cells);
+        NodeId root = tree.newWithChildren(rootStyle(300f), grid);
+        tree.computeLayout(root, TaffySize.maxContent());
+        assertEquals(200f, tree.getLayout(cells.get(2)).location().x);
+
+        // Replaced style
+        tree.setStyle(grid, autoFillGrid(150f));
+        tree.computeLayout(root, TaffySize.maxContent());
+        assertEquals(0f, tree.getLayout(cells.get(2)).location().x);
+        assertEquals(10f, tree.getLayout(cells.get(2)).location().y);
+
+        // Style edited in place, then marked dirty
+        gridStyle = tree.getStyle(grid);
+        gridStyle.gridTemplateColumnsWithRepeat = new ArrayList<>(List.of(
+            GridTemplateComponent.autoFill(TrackSizingFunction.fixed(75f))));
+        tree.markDirty(grid);
+        tree.computeLayout(root, TaffySize.maxContent());
+        assertEquals(150f, tree.getLayout(cells.get(2)).location().x);
+        assertEquals(0f, tree.getLayout(cells.get(2)).location().y);
+    }
+}
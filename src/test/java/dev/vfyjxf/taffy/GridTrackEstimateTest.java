@@ -0,0 +1,77 @@
+package dev.vfyjxf.taffy;
+
+import dev.vfyjxf.taffy.geometry.FloatSize;
+import dev.vfyjxf.taffy.geometry.TaffyLine;
+import dev.vfyjxf.taffy.geometry.TaffySize;
+import dev.vfyjxf.taffy.style.GridPlacement;
+import dev.vfyjxf.taffy.style.TaffyDisplay;
+import dev.vfyjxf.taffy.style.TaffyStyle;
+import dev.vfyjxf.taffy.style.TrackSizingFunction;
+import dev.vfyjxf.taffy.tree.NodeId;
+import dev.vfyjxf.taffy.tree.TaffyTree;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the min-content estimates of columns that are not sized yet when fr tracks are sized.
+ */
+public class GridTrackEstimateTest {
+
+    private static NodeId cell(TaffyTree tree, float width, AtomicInteger minContentMeasures) {
+        return tree.newLeafWithMeasure(new TaffyStyle(), (known, available) -> {
+            if (Float.isNaN(known.width) && available.width.isMinContent()) {
+                minContentMeasures.incrementAndGet();
+            }
+            return new FloatSize(Float.isNaN(known.width) ? width : known.width,
+                Float.isNaN(known.height) ? 10f : known.height);
+        });
+    }
+
+    @Test
+    @DisplayName("only_columns_that_need_an_estimate_are_measured")
+    void onlyColumnsThatNeedAnEstimateAreMeasured() {
+        TaffyTree tree = new TaffyTree();
+        int fixedColumns = 8;
+        List<TrackSizingFunction> columns = new ArrayList<>();
+        for (int i = 0; i < fixedColumns; i++) {
+            columns.add(TrackSizingFunction.fixed(50f));
+        }
+        columns.add(TrackSizingFunction.auto());
+        columns.add(TrackSizingFunction.fr(1f));
+        TaffyStyle style = new TaffyStyle();
+        style.display = TaffyDisplay.GRID;
+        style.gridTemplateColumns = columns;
+
+        AtomicInteger fixedMeasures = new AtomicInteger();
+        AtomicInteger autoMeasures = new AtomicInteger();
+        List<NodeId> children = new ArrayList<>();
+        for (int row = 0; row < 4; row++) {
+            for (int i = 0; i < fixedColumns; i++) {
+                children.add(cell(tree, 30f, fixedMeasures));
+            }
+            children.add(cell(tree, 40f, autoMeasures));
+            children.add(cell(tree, 10f, new AtomicInteger()));
+        }
+        // Spans the auto and fr columns, so the auto column needs an estimate before it is sized
+        NodeId spanning = cell(tree, 100f, new AtomicInteger());
+        TaffyStyle spanningStyle = tree.getStyle(spanning);
+        spanningStyle.gridColumn = new TaffyLine<>(GridPlacement.line(fixedColumns + 1), GridPlacement.span(2));
+        tree.setStyle(spanning, spanningStyle);
+        children.add(spanning);
+        NodeId grid = tree.newWithChildren(style, children);
+
+        tree.computeLayout(grid, TaffySize.maxContent());
+
+        assertEquals(0, fixedMeasures.get());
+        assertTrue(autoMeasures.get() > 0);
+        // The fr column gets the 60 the auto column's 40 leaves of the spanning item
+        assertEquals(fixedColumns * 50f + 100f, tree.getLayout(grid).size().width);
+        assertEquals(fixedColumns * 50f + 40f, tree.getLayout(children.get(fixedColumns + 1)).location().x);
+    }
+}
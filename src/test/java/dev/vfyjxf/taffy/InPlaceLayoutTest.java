@@ -0,0 +1,84 @@
+package dev.vfyjxf.taffy;
+
+import dev.vfyjxf.taffy.geometry.TaffySize;
+import dev.vfyjxf.taffy.style.TaffyDimension;
+import dev.vfyjxf.taffy.style.TaffyDisplay;
+import dev.vfyjxf.taffy.style.TaffyStyle;
+import dev.vfyjxf.taffy.tree.Layout;
+import dev.vfyjxf.taffy.tree.NodeId;
+import dev.vfyjxf.taffy.tree.TaffyTree;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for node layouts that are stored once per node and updated in place.
+ */
+public class InPlaceLayoutTest {
+
+    private static TaffyStyle sized(float width, float height) {
+        TaffyStyle style = new TaffyStyle();
+        style.size = new TaffySize<>(TaffyDimension.length(width), TaffyDimension.length(height));
+        return style;
+    }
+
+    @Test
+    @DisplayName("layouts_are_updated_in_place")
+    void layoutsAreUpdatedInPlace() {
+        TaffyTree tree = new TaffyTree();
+        NodeId child = tree.newLeaf(sized(10f, 10f));
+        NodeId root = tree.newWithChildren(new TaffyStyle(), child);
+        tree.computeLayout(root, TaffySize.maxContent());
+
+        Layout view = tree.getLayout(child);
+        Layout unroundedView = tree.getUnroundedLayout(child);
+        Layout snapshot = tree.getLayoutCopy(child);
+
+        tree.setStyle(child, sized(25f, 10f));
+        tree.computeLayout(root, TaffySize.maxContent());
+
+        assertSame(view, tree.getLayout(child));
+        assertSame(unroundedView, tree.getUnroundedLayout(child));
+        assertEquals(25f, view.size().width);
+        assertEquals(25f, unroundedView.size().width);
+        assertEquals(10f, snapshot.size().width);
+    }
+
+    @Test
+    @DisplayName("hidden_nodes_are_reset_in_place")
+    void hiddenNodesAreResetInPlace() {
+        TaffyTree tree = new TaffyTree();
+        NodeId first = tree.newLeaf(sized(10f, 10f));
+        NodeId second = tree.newLeaf(sized(20f, 10f));
+        NodeId root = tree.newWithChildren(new TaffyStyle(), first, second);
+        tree.computeLayout(root, TaffySize.maxContent());
+        Layout view = tree.getLayout(second);
+        assertEquals(10f, view.location().x);
+
+        TaffyStyle hidden = sized(20f, 10f);
+        hidden.display = TaffyDisplay.NONE;
+        tree.setStyle(second, hidden);
+        tree.computeLayout(root, TaffySize.maxContent());
+
+        assertSame(view, tree.getLayout(second));
+        assertEquals(0f, view.location().x);
+        assertEquals(0f, view.size().width);
+    }
+
+    @Test
+    @DisplayName("set_layout_copies_values")
+    void setLayoutCopiesValues() {
+        TaffyTree tree = new TaffyTree();
+        NodeId node = tree.newLeaf(new TaffyStyle());
+        Layout layout = new Layout(3);
+        layout.size().width = 42f;
+
+        tree.setLayout(node, layout);
+        layout.size().width = 7f;
+
+        assertNotSame(layout, tree.getLayout(node));
+        assertEquals(3, tree.getLayout(node).order());
+        assertEquals(42f, tree.getLayout(node).size().width);
+    }
+}
@@ -0,0 +1,100 @@
+package dev.vfyjxf.taffy;
+
+import dev.vfyjxf.taffy.geometry.TaffySize;
+import dev.vfyjxf.taffy.style.FlexDirection;
+import dev.vfyjxf.taffy.style.TaffyDimension;
+import dev.vfyjxf.taffy.style.TaffyStyle;
+import dev.vfyjxf.taffy.tree.NodeId;
+import dev.vfyjxf.taffy.tree.TaffyTree;
+import dev.vfyjxf.taffy.util.RoundLayout;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that incremental rounding gives the same results as rounding the whole tree.
+ */
+public class IncrementalRoundingTest {
+
+    private static TaffyStyle sized(float width, float height) {
+        TaffyStyle style = new TaffyStyle();
+        style.size = new TaffySize<>(TaffyDimension.length(width), TaffyDimension.length(height));
+        return style;
+    }
+
+    /**
+     * Builds a column of rows with fractional sizes and returns every node, root first.
+     */
+    private static List<NodeId> buildTree(TaffyTree tree) {
+        List<NodeId> nodes = new ArrayList<>();
+        List<NodeId> rows = new ArrayList<>();
+        for (int r = 0; r < 4; r++) {
+            List<NodeId> cells = new ArrayList<>();
+            for (int c = 0; c < 5; c++) {
+                cells.add(tree.newLeaf(sized(10.3f + c, 7.7f + r)));
+            }
+            NodeId row = tree.newWithChildren(new TaffyStyle(), cells);
+            rows.add(row);
+            nodes.add(row);
+            nodes.addAll(cells);
+        }
+        TaffyStyle rootStyle = new TaffyStyle();
+        rootStyle.flexDirection = FlexDirection.COLUMN;
+        NodeId root = tree.newWithChildren(rootStyle, rows);
+        nodes.add(0, root);
+        return nodes;
+    }
+
+    private static void assertMatchesFullRounding(TaffyTree tree, List<NodeId> nodes) {
+        List<Object> incremental = new ArrayList<>();
+        for (NodeId node : nodes) {
+            incremental.add(tree.getLayoutCopy(node));
+        }
+        RoundLayout.roundLayout(tree, nodes.get(0));
+        for (int i = 0; i < nodes.size(); i++) {
+            assertEquals(tree.getLayout(nodes.get(i)), incremental.get(i), "node " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("edits_round_like_a_full_pass")
+    void editsRoundLikeAFullPass() {
+        TaffyTree tree = new TaffyTree();
+        List<NodeId> nodes = buildTree(tree);
+        NodeId root = nodes.get(0);
+        tree.computeLayout(root, TaffySize.maxContent());
+        assertMatchesFullRounding(tree, nodes);
+
+        // Growing a cell in the first row moves every later row by a fractional amount
+        tree.setStyle(nodes.get(2), sized(11.45f, 9.35f));
+        tree.computeLayout(root, TaffySize.maxContent());
+        assertMatchesFullRounding(tree, nodes);
+
+        // Changing a cell in the last row leaves the other rows untouched
+        tree.setStyle(nodes.get(nodes.size() - 1), sized(3.5f, 2.5f));
+        tree.computeLayout(root, TaffySize.maxContent());
+        assertMatchesFullRounding(tree, nodes);
+    }
+
+    @Test
+    @DisplayName("re_enabling_rounding_rounds_everything")
+    void reEnablingRoundingRoundsEverything() {
+        TaffyTree tree = new TaffyTree();
+        List<NodeId> nodes = buildTree(tree);
+        NodeId root = nodes.get(0);
+        tree.computeLayout(root, TaffySize.maxContent());
+
+        tree.disableRounding();
+        tree.setStyle(nodes.get(2), sized(20.6f, 4.4f));
+        tree.computeLayout(root, TaffySize.maxContent());
+        tree.enableRounding();
+        tree.computeLayout(root, TaffySize.maxContent());
+
+        assertMatchesFullRounding(tree, nodes);
+        assertEquals(21f, tree.getLayout(nodes.get(2)).size().width);
+    }
+}
@@ -0,0 +1,107 @@
+package dev.vfyjxf.taffy;
+
+import dev.vfyjxf.taffy.geometry.FloatSize;
+import dev.vfyjxf.taffy.geometry.TaffySize;
+import dev.vfyjxf.taffy.style.AvailableSpace;
+import dev.vfyjxf.taffy.tree.LayoutCache;
+import dev.vfyjxf.taffy.tree.LayoutOutput;
+import dev.vfyjxf.taffy.tree.RequestedAxis;
+import dev.vfyjxf.taffy.tree.RunMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the packed-slot LayoutCache.
+ */
+public class LayoutCacheTest {
+
+    private static final TaffySize<AvailableSpace> DEFINITE_100 =
+        new TaffySize<>(AvailableSpace.definite(100f), AvailableSpace.definite(100f));
+
+    @Test
+    @DisplayName("measure_hit_reuses_output_instance")
+    void measureHitReusesOutputInstance() {
+        LayoutCache cache = new LayoutCache();
+        cache.store(FloatSize.none(), DEFINITE_100, RunMode.COMPUTE_SIZE, LayoutOutput.fromOuterSize(new FloatSize(40f, 20f)));
+
+        LayoutOutput first = cache.get(FloatSize.none(), DEFINITE_100, RunMode.COMPUTE_SIZE);
+        LayoutOutput second = cache.get(FloatSize.none(), DEFINITE_100, RunMode.COMPUTE_SIZE);
+
+        assertNotNull(first);
+        assertSame(first, second);
+        assertEquals(40f, first.size().width);
+        assertEquals(20f, first.size().height);
+
+        // Re-storing an identical result keeps the memoized output
+        cache.clear();
+        cache.store(FloatSize.none(), DEFINITE_100, RunMode.COMPUTE_SIZE, LayoutOutput.fromOuterSize(new FloatSize(40f, 20f)));
+        assertSame(first, cache.get(FloatSize.none(), DEFINITE_100, RunMode.COMPUTE_SIZE));
+
+        // A different result replaces it
+        cache.store(FloatSize.none(), DEFINITE_100, RunMode.COMPUTE_SIZE, LayoutOutput.fromOuterSize(new FloatSize(60f, 20f)));
+        assertEquals(60f, cache.get(FloatSize.none(), DEFINITE_100, RunMode.COMPUTE_SIZE).size().width);
+    }
+
+    @Test
+    @DisplayName("available_space_is_matched_by_type_and_value")
+    void availableSpaceIsMatchedByTypeAndValue() {
+        LayoutCache cache = new LayoutCache();
+        cache.store(FloatSize.none(), DEFINITE_100, RunMode.COMPUTE_SIZE, LayoutOutput.fromOuterSize(new FloatSize(40f, 20f)));
+
+        assertNull(cache.get(FloatSize.none(),
+            new TaffySize<>(AvailableSpace.definite(90f), AvailableSpace.definite(100f)), RunMode.COMPUTE_SIZE));
+        assertNull(cache.get(FloatSize.none(), TaffySize.maxContent(), RunMode.COMPUTE_SIZE));
+        assertNotNull(cache.get(new FloatSize(40f, 20f), TaffySize.maxContent(), RunMode.COMPUTE_SIZE),
+            "known dimensions equal to the cached size should match regardless of available space");
+    }
+
+    @Test
+    @DisplayName("final_layout_entry_serves_both_run_modes")
+    void finalLayoutEntryServesBothRunModes() {
+        LayoutCache cache = new LayoutCache();
+        LayoutOutput output = LayoutOutput.fromSizes(new FloatSize(30f, 10f), new FloatSize(50f, 50f));
+        cache.store(FloatSize.none(), TaffySize.maxContent(), RunMode.PERFORM_LAYOUT, output);
+
+        assertSame(output, cache.get(FloatSize.none(), TaffySize.maxContent(), RunMode.PERFORM_LAYOUT));
+        LayoutOutput measured = cache.get(FloatSize.none(), TaffySize.maxContent(), RunMode.COMPUTE_SIZE);
+        assertEquals(30f, measured.size().width);
+        assertEquals(0f, measured.contentSize().width);
+
+        assertFalse(cache.clear());
+        assertTrue(cache.isEmpty());
+        assertNull(cache.get(FloatSize.none(), TaffySize.maxContent(), RunMode.PERFORM_LAYOUT));
+        assertTrue(cache.clear());
+    }
+
+    @Test
+    @DisplayName("alternating_single_axis_stores_merge")
+    void alternatingSingleAxisStoresMerge() {
+        LayoutCache cache = new LayoutCache();
+        LayoutOutput widthOnly = LayoutOutput.fromOuterSize(new FloatSize(40f, Float.NaN));
+        LayoutOutput heightOnly = LayoutOutput.fromOuterSize(new FloatSize(Float.NaN, 20f));
+
+        for (int i = 0; i < 3; i++) {
+            cache.store(FloatSize.none(), DEFINITE_100, RunMode.COMPUTE_SIZE, widthOnly);
+            cache.store(FloatSize.none(), DEFINITE_100, RunMode.COMPUTE_SIZE, heightOnly);
+
+            LayoutOutput horizontal = cache.get(FloatSize.none(), DEFINITE_100, RunMode.COMPUTE_SIZE, RequestedAxis.HORIZONTAL);
+            LayoutOutput vertical = cache.get(FloatSize.none(), DEFINITE_100, RunMode.COMPUTE_SIZE, RequestedAxis.VERTICAL);
+            assertNotNull(horizontal, "width dropped by a vertical store");
+            assertNotNull(vertical, "height dropped by a horizontal store");
+            assertEquals(40f, horizontal.size().width);
+            assertEquals(20f, vertical.size().height);
+            assertNotNull(cache.get(FloatSize.none(), DEFINITE_100, RunMode.COMPUTE_SIZE),
+                "the merged axes should answer a request for both");
+        }
+
+        // Different inputs mapping to the same slot still replace the entry
+        TaffySize<AvailableSpace> definite90 =
+            new TaffySize<>(AvailableSpace.definite(90f), AvailableSpace.definite(100f));
+        cache.store(FloatSize.none(), definite90, RunMode.COMPUTE_SIZE, heightOnly);
+        assertNull(cache.get(FloatSize.none(), definite90, RunMode.COMPUTE_SIZE, RequestedAxis.HORIZONTAL));
+        assertNull(cache.get(FloatSize.none(), DEFINITE_100, RunMode.COMPUTE_SIZE, RequestedAxis.HORIZONTAL));
+        assertEquals(20f, cache.get(FloatSize.none(), definite90, RunMode.COMPUTE_SIZE, RequestedAxis.VERTICAL).size().height);
+    }
+}
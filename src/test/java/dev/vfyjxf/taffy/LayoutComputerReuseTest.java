@@ -0,0 +1,116 @@
+package dev.vfyjxf.taffy;
+
+import dev.vfyjxf.taffy.geometry.TaffySize;
+import dev.vfyjxf.taffy.style.AvailableSpace;
+import dev.vfyjxf.taffy.style.FlexWrap;
+import dev.vfyjxf.taffy.style.TaffyDimension;
+import dev.vfyjxf.taffy.style.TaffyDisplay;
+import dev.vfyjxf.taffy.style.TaffyStyle;
+import dev.vfyjxf.taffy.style.TrackSizingFunction;
+import dev.vfyjxf.taffy.tree.Layout;
+import dev.vfyjxf.taffy.tree.NodeId;
+import dev.vfyjxf.taffy.tree.TaffyTree;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that the long-lived layout computer of a tree, and the scratch it reuses
+ * across passes, gives the same results as laying out a freshly built tree.
+ */
+public class LayoutComputerReuseTest {
+
+    private static final TaffySize<AvailableSpace> SPACE =
+        new TaffySize<>(AvailableSpace.definite(400f), AvailableSpace.definite(300f));
+
+    private static TaffyStyle leafStyle(float width, float height, float grow) {
+        TaffyStyle style = new TaffyStyle();
+        style.size = new TaffySize<>(TaffyDimension.length(width), TaffyDimension.length(height));
+        style.flexGrow = grow;
+        return style;
+    }
+
+    /**
+     * A flex row holding a wrapping flex container, a grid and a block, each with {@code count} leaves.
+     */
+    private static NodeId build(TaffyTree tree, int count, float grow) {
+        TaffyStyle wrap = new TaffyStyle();
+        wrap.display = TaffyDisplay.FLEX;
+        wrap.flexWrap = FlexWrap.WRAP;
+        wrap.flexGrow = 1f;
+        TaffyStyle grid = new TaffyStyle();
+        grid.display = TaffyDisplay.GRID;
+        grid.gridTemplateColumns = List.of(TrackSizingFunction.fr(1f), TrackSizingFunction.auto());
+        TaffyStyle block = new TaffyStyle();
+        block.display = TaffyDisplay.BLOCK;
+
+        NodeId[] containers = {tree.newLeaf(wrap), tree.newLeaf(grid), tree.newLeaf(block)};
+        for (NodeId container : containers) {
+            for (int i = 0; i < count; i++) {
+                tree.addChild(container, tree.newLeaf(leafStyle(30f + i * 7f, 10f + i, grow)));
+            }
+        }
+        TaffyStyle root = new TaffyStyle();
+        root.display = TaffyDisplay.FLEX;
+        return tree.newWithChildren(root, containers);
+    }
+
+    private static void assertSameLayouts(TaffyTree expectedTree, NodeId expectedNode, TaffyTree actualTree, NodeId actualNode) {
+        Layout expected = expectedTree.getLayout(expectedNode);
+        Layout actual = actualTree.getLayout(actualNode);
+        assertEquals(expected.location().x, actual.location().x);
+        assertEquals(expected.location().y, actual.location().y);
+        assertEquals(expected.size().width, actual.size().width);
+        assertEquals(expected.size().height, actual.size().height);
+
+        List<NodeId> expectedChildren = expectedTree.getChildren(expectedNode);
+        List<NodeId> actualChildren = actualTree.getChildren(actualNode);
+        assertEquals(expectedChildren.size(), actualChildren.size());
+        for (int i = 0; i < expectedChildren.size(); i++) {
+            assertSameLayouts(expectedTree, expectedChildren.get(i), actualTree, actualChildren.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("relayout_with_fewer_items_matches_fresh_tree")
+    void relayoutWithFewerItemsMatchesFreshTree() {
+        TaffyTree reused = new TaffyTree();
+        NodeId first = build(reused, 12, 1f);
+        reused.computeLayout(first, SPACE);
+
+        // Lay out a different, smaller tree with the same computer, so pooled items from the first pass are reused
+        reused.remove(first);
+        NodeId second = build(reused, 5, 0f);
+        reused.computeLayout(second, SPACE);
+
+        TaffyTree fresh = new TaffyTree();
+        NodeId expected = build(fresh, 5, 0f);
+        fresh.computeLayout(expected, SPACE);
+
+        assertSameLayouts(fresh, expected, reused, second);
+    }
+
+    @Test
+    @DisplayName("repeated_relayout_after_style_change_matches_fresh_tree")
+    void repeatedRelayoutAfterStyleChangeMatchesFreshTree() {
+        TaffyTree reused = new TaffyTree();
+        NodeId root = build(reused, 8, 1f);
+        for (int pass = 0; pass < 3; pass++) {
+            reused.computeLayout(root, SPACE);
+        }
+        NodeId wrap = reused.getChildAtIndex(root, 0);
+        reused.setStyle(reused.getChildAtIndex(wrap, 2), leafStyle(150f, 40f, 0f));
+        reused.computeLayout(root, SPACE);
+
+        TaffyTree fresh = new TaffyTree();
+        NodeId expected = build(fresh, 8, 1f);
+        NodeId freshWrap = fresh.getChildAtIndex(expected, 0);
+        fresh.setStyle(fresh.getChildAtIndex(freshWrap, 2), leafStyle(150f, 40f, 0f));
+        fresh.computeLayout(expected, SPACE);
+
+        assertSameLayouts(fresh, expected, reused, root);
+    }
+}
@@ -0,0 +1,222 @@
+package dev.vfyjxf.taffy;
+
+import dev.vfyjxf.taffy.geometry.FloatSize;
+import dev.vfyjxf.taffy.geometry.TaffyLine;
+import dev.vfyjxf.taffy.geometry.TaffyRect;
+import dev.vfyjxf.taffy.geometry.TaffySize;
+import dev.vfyjxf.taffy.style.GridPlacement;
+import dev.vfyjxf.taffy.style.LengthPercentage;
+import dev.vfyjxf.taffy.style.LengthPercentageAuto;
+import dev.vfyjxf.taffy.style.TaffyDimension;
+import dev.vfyjxf.taffy.style.TaffyDisplay;
+import dev.vfyjxf.taffy.style.TaffyPosition;
+import dev.vfyjxf.taffy.style.TaffyStyle;
+import dev.vfyjxf.taffy.style.TrackSizingFunction;
+import dev.vfyjxf.taffy.tree.NodeId;
+import dev.vfyjxf.taffy.tree.TaffyTree;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for grid containers with a masonry row axis.
+ */
+public class MasonryGridTest {
+
+    private static TaffyStyle masonryStyle(float width, TrackSizingFunction... columns) {
+        TaffyStyle style = new TaffyStyle();
+        style.display = TaffyDisplay.GRID;
+        style.gridMasonryRows = true;
+        style.size = new TaffySize<>(TaffyDimension.length(width), TaffyDimension.auto());
+        style.gridTemplateColumns = new ArrayList<>(List.of(columns));
+        return style;
+    }
+
+    private static NodeId card(TaffyTree tree, float width, float height, AtomicInteger measures) {
+        return tree.newLeafWithMeasure(new TaffyStyle(), (known, available) -> {
+            measures.incrementAndGet();
+            return new FloatSize(Float.isNaN(known.width) ? width : known.width,
+                Float.isNaN(known.height) ? height : known.height);
+        });
+    }
+
+    @Test
+    @DisplayName("items_go_to_the_shortest_column")
+    void itemsGoToTheShortestColumn() {
+        TaffyTree tree = new TaffyTree();
+        TaffyStyle style = masonryStyle(300f, TrackSizingFunction.fr(1f), TrackSizingFunction.fr(1f),
+            TrackSizingFunction.fr(1f));
+        style.gap = new TaffySize<>(LengthPercentage.length(0f), LengthPercentage.length(10f));
+        float[] heights = {50f, 20f, 30f, 10f, 40f};
+        List<NodeId> cards = new ArrayList<>();
+        for (float height : heights) {
+            cards.add(card(tree, 40f, height, new AtomicInteger()));
+        }
+        NodeId grid = tree.newWithChildren(style, cards);
+        tree.computeLayout(grid, TaffySize.maxContent());
+
+        assertEquals(0f, tree.getLayout(cards.get(0)).location().x);
+        assertEquals(100f, tree.getLayout(cards.get(1)).location().x);
+        assertEquals(200f, tree.getLayout(cards.get(2)).location().x);
+        // Column tops are 60, 30 and 40: the second column is the shortest
+        assertEquals(100f, tree.getLayout(cards.get(3)).location().x);
+        assertEquals(30f, tree.getLayout(cards.get(3)).location().y);
+        // Then 60, 50 and 40
+        assertEquals(200f, tree.getLayout(cards.get(4)).location().x);
+        assertEquals(40f, tree.getLayout(cards.get(4)).location().y);
+        assertEquals(100f, tree.getLayout(cards.get(4)).size().width);
+        assertEquals(80f, tree.getLayout(grid).size().height);
+    }
+
+    @Test
+    @DisplayName("spanning_and_definite_items")
+    void spanningAndDefiniteItems() {
+        TaffyTree tree = new TaffyTree();
+        TaffyStyle style = masonryStyle(300f, TrackSizingFunction.fixed(100f), TrackSizingFunction.fixed(100f),
+            TrackSizingFunction.fixed(100f));
+        List<NodeId> cards = new ArrayList<>();
+        cards.add(card(tree, 40f, 10f, new AtomicInteger()));
+        cards.add(card(tree, 40f, 30f, new AtomicInteger()));
+        cards.add(card(tree, 40f, 20f, new AtomicInteger()));
+        NodeId wide = card(tree, 40f, 15f, new AtomicInteger());
+        NodeId pinned = card(tree, 40f, 5f, new AtomicInteger());
+        cards.add(wide);
+        cards.add(pinned);
+        NodeId grid = tree.newWithChildren(style, cards);
+
+        TaffyStyle wideStyle = new TaffyStyle();
+        wideStyle.gridColumn = new TaffyLine<>(GridPlacement.auto(), GridPlacement.span(2));
+        tree.setStyle(wide, wideStyle);
+        TaffyStyle pinnedStyle = new TaffyStyle();
+        pinnedStyle.gridColumn = new TaffyLine<>(GridPlacement.line(2), GridPlacement.auto());
+        tree.setStyle(pinned, pinnedStyle);
+        tree.computeLayout(grid, TaffySize.maxContent());
+
+        // Columns [0, 2) top out at 30, columns [1, 3) at 30 too: the leftmost run wins
+        assertEquals(0f, tree.getLayout(wide).location().x);
+        assertEquals(30f, tree.getLayout(wide).location().y);
+        assertEquals(200f, tree.getLayout(wide).size().width);
+        assertEquals(100f, tree.getLayout(pinned).location().x);
+        assertEquals(45f, tree.getLayout(pinned).location().y);
+        assertEquals(50f, tree.getLayout(grid).size().height);
+    }
+
+    @Test
+    @DisplayName("auto_columns_fit_the_widest_item")
+    void autoColumnsFitTheWidestItem() {
+        TaffyTree tree = new TaffyTree();
+        TaffyStyle style = masonryStyle(0f, TrackSizingFunction.auto(), TrackSizingFunction.fixed(100f));
+        style.size = new TaffySize<>(TaffyDimension.auto(), TaffyDimension.auto());
+        List<NodeId> cards = new ArrayList<>();
+        cards.add(card(tree, 40f, 10f, new AtomicInteger()));
+        cards.add(card(tree, 80f, 10f, new AtomicInteger()));
+        NodeId grid = tree.newWithChildren(style, cards);
+        tree.computeLayout(grid, TaffySize.maxContent());
+
+        // Both items could land in the auto column, so it fits the wider one
+        assertEquals(80f, tree.getLayout(cards.get(0)).size().width);
+        assertEquals(80f, tree.getLayout(cards.get(1)).location().x);
+        assertEquals(100f, tree.getLayout(cards.get(1)).size().width);
+        assertEquals(180f, tree.getLayout(grid).size().width);
+    }
+
+    @Test
+    @DisplayName("appended_items_are_the_only_ones_laid_out")
+    void appendedItemsAreTheOnlyOnesLaidOut() {
+        TaffyTree tree = new TaffyTree();
+        TaffyStyle style = masonryStyle(200f, TrackSizingFunction.fr(1f), TrackSizingFunction.fr(1f));
+        AtomicInteger firstPage = new AtomicInteger();
+        List<NodeId> cards = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            cards.add(card(tree, 40f, 10f + i, firstPage));
+        }
+        NodeId grid = tree.newWithChildren(style, cards);
+        tree.computeLayout(grid, TaffySize.maxContent());
+        float firstHeight = tree.getLayout(grid).size().height;
+
+        // Reference layout of both pages at once
+        TaffyTree reference = new TaffyTree();
+        List<NodeId> referenceCards = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            referenceCards.add(card(reference, 40f, 10f + i, new AtomicInteger()));
+        }
+        NodeId referenceGrid = reference.newWithChildren(masonryStyle(200f, TrackSizingFunction.fr(1f),
+            TrackSizingFunction.fr(1f)), referenceCards);
+        reference.computeLayout(referenceGrid, TaffySize.maxContent());
+
+        int measuredBefore = firstPage.get();
+        AtomicInteger secondPage = new AtomicInteger();
+        for (int i = 20; i < 30; i++) {
+            NodeId next = card(tree, 40f, 10f + i, secondPage);
+            cards.add(next);
+            tree.addChild(grid, next);
+        }
+        tree.computeLayout(grid, TaffySize.maxContent());
+
+        assertEquals(measuredBefore, firstPage.get());
+        assertTrue(secondPage.get() > 0);
+        assertTrue(tree.getLayout(grid).size().height > firstHeight);
+        assertEquals(reference.getLayout(referenceGrid).size().height, tree.getLayout(grid).size().height);
+        for (int i = 0; i < 30; i++) {
+            assertEquals(reference.getLayout(referenceCards.get(i)).location(), tree.getLayout(cards.get(i)).location());
+        }
+
+        // A changed item in the middle repacks everything after it
+        TaffyStyle tall = new TaffyStyle();
+        tall.size = new TaffySize<>(TaffyDimension.auto(), TaffyDimension.length(200f));
+        tree.setStyle(cards.get(5), tall);
+        tree.computeLayout(grid, TaffySize.maxContent());
+        assertEquals(200f, tree.getLayout(cards.get(5)).size().height);
+        assertTrue(tree.getLayout(grid).size().height > reference.getLayout(referenceGrid).size().height);
+    }
+
+    @Test
+    @DisplayName("absolutely_positioned_children_are_not_packed")
+    void absolutelyPositionedChildrenAreNotPacked() {
+        TaffyTree tree = new TaffyTree();
+        TaffyStyle style = masonryStyle(200f, TrackSizingFunction.fixed(100f), TrackSizingFunction.fixed(100f));
+        List<NodeId> children = new ArrayList<>();
+        NodeId first = card(tree, 40f, 30f, new AtomicInteger());
+        NodeId pinned = tree.newLeaf(new TaffyStyle());
+        NodeId second = card(tree, 40f, 20f, new AtomicInteger());
+        NodeId third = card(tree, 40f, 10f, new AtomicInteger());
+        children.add(first);
+        children.add(pinned);
+        children.add(second);
+        children.add(third);
+        NodeId grid = tree.newWithChildren(style, children);
+
+        TaffyStyle pinnedStyle = new TaffyStyle();
+        pinnedStyle.position = TaffyPosition.ABSOLUTE;
+        pinnedStyle.gridColumn = new TaffyLine<>(GridPlacement.line(2), GridPlacement.auto());
+        pinnedStyle.size = new TaffySize<>(TaffyDimension.length(20f), TaffyDimension.length(20f));
+        pinnedStyle.inset = new TaffyRect<>(LengthPercentageAuto.length(10f), LengthPercentageAuto.AUTO,
+            LengthPercentageAuto.AUTO, LengthPercentageAuto.length(0f));
+        tree.setStyle(pinned, pinnedStyle);
+        tree.computeLayout(grid, TaffySize.maxContent());
+
+        // The in-flow cards pack as if the absolutely positioned child weren't there
+        assertEquals(100f, tree.getLayout(second).location().x);
+        assertEquals(100f, tree.getLayout(third).location().x);
+        assertEquals(20f, tree.getLayout(third).location().y);
+        assertEquals(30f, tree.getLayout(grid).size().height);
+        // It is placed from the second column line and the container's bottom edge
+        assertEquals(110f, tree.getLayout(pinned).location().x);
+        assertEquals(10f, tree.getLayout(pinned).location().y);
+        assertEquals(20f, tree.getLayout(pinned).size().width);
+
+        // Moving it keeps the packing and only places it again
+        pinnedStyle.inset = new TaffyRect<>(LengthPercentageAuto.length(5f), LengthPercentageAuto.AUTO,
+            LengthPercentageAuto.length(5f), LengthPercentageAuto.AUTO);
+        tree.setStyle(pinned, pinnedStyle);
+        tree.computeLayout(grid, TaffySize.maxContent());
+        assertEquals(105f, tree.getLayout(pinned).location().x);
+        assertEquals(5f, tree.getLayout(pinned).location().y);
+        assertEquals(20f, tree.getLayout(third).location().y);
+    }
+}
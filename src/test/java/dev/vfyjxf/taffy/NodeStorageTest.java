@@ -0,0 +1,119 @@
+package dev.vfyjxf.taffy;
+
+import dev.vfyjxf.taffy.style.TaffyStyle;
+import dev.vfyjxf.taffy.tree.NodeId;
+import dev.vfyjxf.taffy.tree.TaffyException;
+import dev.vfyjxf.taffy.tree.TaffyTree;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the slot-based node storage behind TaffyTree:
+ * generational ids, sibling links and child list snapshots.
+ */
+public class NodeStorageTest {
+
+    @Test
+    @DisplayName("removed_node_id_is_not_resurrected_by_slot_reuse")
+    void removedNodeIdIsNotResurrectedBySlotReuse() {
+        TaffyTree tree = new TaffyTree();
+        NodeId removed = tree.newLeaf(new TaffyStyle());
+        tree.remove(removed);
+
+        NodeId reused = tree.newLeaf(new TaffyStyle());
+
+        assertEquals(removed.toIndex(), reused.toIndex());
+        assertNotEquals(removed, reused);
+        assertFalse(tree.containsNode(removed));
+        assertTrue(tree.containsNode(reused));
+        assertThrows(TaffyException.class, () -> tree.getStyle(removed));
+    }
+
+    @Test
+    @DisplayName("clear_invalidates_existing_ids")
+    void clearInvalidatesExistingIds() {
+        TaffyTree tree = new TaffyTree();
+        NodeId before = tree.newLeaf(new TaffyStyle());
+        tree.clear();
+
+        NodeId after = tree.newLeaf(new TaffyStyle());
+
+        assertFalse(tree.containsNode(before));
+        assertTrue(tree.containsNode(after));
+        assertEquals(1, tree.totalNodeCount());
+    }
+
+    @Test
+    @DisplayName("sibling_order_is_preserved_across_edits")
+    void siblingOrderIsPreservedAcrossEdits() {
+        TaffyTree tree = new TaffyTree();
+        NodeId a = tree.newLeaf(new TaffyStyle());
+        NodeId b = tree.newLeaf(new TaffyStyle());
+        NodeId c = tree.newLeaf(new TaffyStyle());
+        NodeId d = tree.newLeaf(new TaffyStyle());
+        NodeId parent = tree.newWithChildren(new TaffyStyle(), a, c);
+
+        tree.insertChildAtIndex(parent, 1, b);
+        tree.addChild(parent, d);
+        assertEquals(List.of(a, b, c, d), tree.getChildren(parent));
+
+        assertEquals(a, tree.removeChildAtIndex(parent, 0));
+        assertEquals(c, tree.replaceChildAtIndex(parent, 1, a));
+        assertEquals(List.of(b, a, d), tree.getChildren(parent));
+        assertNull(tree.getParent(c));
+
+        tree.removeChild(parent, d);
+        assertEquals(List.of(b, a), tree.getChildren(parent));
+        assertEquals(a, tree.getChildAtIndex(parent, 1));
+    }
+
+    @Test
+    @DisplayName("add_child_moves_node_from_previous_parent")
+    void addChildMovesNodeFromPreviousParent() {
+        TaffyTree tree = new TaffyTree();
+        NodeId child = tree.newLeaf(new TaffyStyle());
+        NodeId oldParent = tree.newWithChildren(new TaffyStyle(), child);
+        NodeId newParent = tree.newLeaf(new TaffyStyle());
+
+        tree.addChild(newParent, child);
+
+        assertEquals(0, tree.childCount(oldParent));
+        assertEquals(List.of(child), tree.getChildren(newParent));
+        assertEquals(newParent, tree.getParent(child));
+    }
+
+    @Test
+    @DisplayName("children_snapshot_is_reused_until_modified")
+    void childrenSnapshotIsReusedUntilModified() {
+        TaffyTree tree = new TaffyTree();
+        NodeId child = tree.newLeaf(new TaffyStyle());
+        NodeId parent = tree.newWithChildren(new TaffyStyle(), child);
+
+        List<NodeId> first = tree.getChildren(parent);
+        assertSame(first, tree.getChildren(parent));
+        assertThrows(UnsupportedOperationException.class, () -> first.add(child));
+
+        tree.addChild(parent, tree.newLeaf(new TaffyStyle()));
+        assertNotSame(first, tree.getChildren(parent));
+        assertEquals(2, tree.getChildren(parent).size());
+    }
+
+    @Test
+    @DisplayName("large_tree_grows_storage")
+    void largeTreeGrowsStorage() {
+        TaffyTree tree = new TaffyTree(1);
+        NodeId root = tree.newLeaf(new TaffyStyle());
+        for (int i = 0; i < 10_000; i++) {
+            tree.addChild(root, tree.newLeaf(new TaffyStyle()));
+        }
+
+        assertEquals(10_001, tree.totalNodeCount());
+        assertEquals(10_000, tree.childCount(root));
+        NodeId last = tree.getChildAtIndex(root, 9_999);
+        assertEquals(root, tree.getParent(last));
+    }
+}
@@ -0,0 +1,193 @@
+package dev.vfyjxf.taffy;
+
+import dev.vfyjxf.taffy.geometry.FloatSize;
+import dev.vfyjxf.taffy.geometry.TaffyLine;
+import dev.vfyjxf.taffy.geometry.TaffySize;
+import dev.vfyjxf.taffy.style.AvailableSpace;
+import dev.vfyjxf.taffy.style.FlexDirection;
+import dev.vfyjxf.taffy.style.FlexWrap;
+import dev.vfyjxf.taffy.style.GridPlacement;
+import dev.vfyjxf.taffy.style.TaffyDimension;
+import dev.vfyjxf.taffy.style.TaffyDisplay;
+import dev.vfyjxf.taffy.style.TaffyStyle;
+import dev.vfyjxf.taffy.style.TrackSizingFunction;
+import dev.vfyjxf.taffy.tree.Layout;
+import dev.vfyjxf.taffy.tree.NodeId;
+import dev.vfyjxf.taffy.tree.TaffyTree;
+import dev.vfyjxf.taffy.util.MeasureFunc;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that parallel layout produces results bit-identical to serial layout.
+ */
+public class ParallelLayoutTest {
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    private static final MeasureFunc TEXT_MEASURE = (knownDimensions, availableSpace) -> {
+        float width = !Float.isNaN(knownDimensions.width) ? knownDimensions.width
+                      : availableSpace.width.isDefinite() ? Math.min(availableSpace.width.getValue(), 73.3f) : 73.3f;
+        float height = !Float.isNaN(knownDimensions.height) ? knownDimensions.height : (float) Math.ceil(220f / Math.max(width, 1f)) * 13.7f;
+        return new FloatSize(width, height);
+    };
+
+    /**
+     * Builds the same pseudo-random mix of block, flex and grid containers for a given seed.
+     */
+    private static NodeId build(TaffyTree tree, Random random, int depth) {
+        if (depth == 0) {
+            TaffyStyle leaf = new TaffyStyle();
+            leaf.flexGrow = random.nextInt(3);
+            return tree.newLeafWithMeasure(leaf, TEXT_MEASURE);
+        }
+        TaffyStyle style = new TaffyStyle();
+        switch (random.nextInt(4)) {
+            case 0 -> style.display = TaffyDisplay.BLOCK;
+            case 1 -> {
+                style.display = TaffyDisplay.FLEX;
+                style.flexDirection = FlexDirection.COLUMN;
+            }
+            case 2 -> {
+                style.display = TaffyDisplay.FLEX;
+                style.flexWrap = FlexWrap.WRAP;
+            }
+            default -> {
+                style.display = TaffyDisplay.GRID;
+                style.gridTemplateColumns = List.of(TrackSizingFunction.fr(1f), TrackSizingFunction.auto(), TrackSizingFunction.fr(2f));
+            }
+        }
+        int childCount = 2 + random.nextInt(4);
+        List<NodeId> children = new ArrayList<>();
+        for (int i = 0; i < childCount; i++) {
+            children.add(build(tree, random, depth - 1));
+        }
+        return tree.newWithChildren(style, children);
+    }
+
+    private static void assertSameLayouts(TaffyTree expectedTree, NodeId expectedNode, TaffyTree actualTree, NodeId actualNode) {
+        Layout expected = expectedTree.getLayout(expectedNode);
+        Layout actual = actualTree.getLayout(actualNode);
+        assertEquals(expected.location().x, actual.location().x);
+        assertEquals(expected.location().y, actual.location().y);
+        assertEquals(expected.size().width, actual.size().width);
+        assertEquals(expected.size().height, actual.size().height);
+        assertEquals(expected.contentSize().width, actual.contentSize().width);
+        assertEquals(expected.contentSize().height, actual.contentSize().height);
+
+        List<NodeId> expectedChildren = expectedTree.getChildren(expectedNode);
+        List<NodeId> actualChildren = actualTree.getChildren(actualNode);
+        assertEquals(expectedChildren.size(), actualChildren.size());
+        for (int i = 0; i < expectedChildren.size(); i++) {
+            assertSameLayouts(expectedTree, expectedChildren.get(i), actualTree, actualChildren.get(i));
+        }
+    }
+
+    private void assertParallelMatchesSerial(long seed, int threshold, boolean rounding) {
+        TaffyTree serialTree = new TaffyTree();
+        TaffyTree parallelTree = new TaffyTree();
+        if (!rounding) {
+            serialTree.disableRounding();
+            parallelTree.disableRounding();
+        }
+        NodeId serialRoot = build(serialTree, new Random(seed), 5);
+        NodeId parallelRoot = build(parallelTree, new Random(seed), 5);
+
+        TaffySize<AvailableSpace> space = new TaffySize<>(AvailableSpace.definite(1280f), AvailableSpace.definite(720f));
+        serialTree.computeLayout(serialRoot, space);
+        parallelTree.computeLayoutParallel(parallelRoot, space, pool, threshold);
+
+        assertSameLayouts(serialTree, serialRoot, parallelTree, parallelRoot);
+    }
+
+    @Test
+    @DisplayName("parallel_layout_is_bit_identical_to_serial")
+    void parallelLayoutIsBitIdenticalToSerial() {
+        for (long seed = 0; seed < 8; seed++) {
+            assertParallelMatchesSerial(seed, 1, true);
+            assertParallelMatchesSerial(seed, 16, false);
+        }
+    }
+
+    @Test
+    @DisplayName("parallel_relayout_after_edit_matches_serial")
+    void parallelRelayoutAfterEditMatchesSerial() {
+        TaffyTree serialTree = new TaffyTree();
+        TaffyTree parallelTree = new TaffyTree();
+        NodeId serialRoot = build(serialTree, new Random(42), 5);
+        NodeId parallelRoot = build(parallelTree, new Random(42), 5);
+
+        TaffySize<AvailableSpace> space = new TaffySize<>(AvailableSpace.definite(800f), AvailableSpace.MAX_CONTENT);
+        serialTree.computeLayout(serialRoot, space);
+        parallelTree.computeLayoutParallel(parallelRoot, space, pool, 4);
+
+        TaffyStyle wide = new TaffyStyle();
+        wide.size = new TaffySize<>(TaffyDimension.length(333f), TaffyDimension.AUTO);
+        serialTree.setStyle(serialTree.getChildAtIndex(serialRoot, 1), wide);
+        parallelTree.setStyle(parallelTree.getChildAtIndex(parallelRoot, 1), wide);
+
+        serialTree.computeLayout(serialRoot, space);
+        parallelTree.computeLayoutParallel(parallelRoot, space, pool, 4);
+
+        assertSameLayouts(serialTree, serialRoot, parallelTree, parallelRoot);
+    }
+
+    /**
+     * Builds a grid of measured cells over intrinsic, flexible and fixed columns, with some spanning cells.
+     */
+    private static NodeId buildMeasuredGrid(TaffyTree tree) {
+        TaffyStyle style = new TaffyStyle();
+        style.display = TaffyDisplay.GRID;
+        style.gridTemplateColumns = List.of(TrackSizingFunction.auto(), TrackSizingFunction.minContent(),
+            TrackSizingFunction.fr(1f), TrackSizingFunction.maxContent(), TrackSizingFunction.fixed(40f),
+            TrackSizingFunction.minmax(TrackSizingFunction.minContent(), TrackSizingFunction.fr(2f)));
+        List<NodeId> children = new ArrayList<>();
+        for (int i = 0; i < 240; i++) {
+            TaffyStyle cell = new TaffyStyle();
+            if (i % 7 == 0) {
+                cell.gridColumn = new TaffyLine<>(GridPlacement.auto(), GridPlacement.span(2 + i % 3));
+            }
+            children.add(tree.newLeafWithMeasure(cell, TEXT_MEASURE));
+        }
+        return tree.newWithChildren(style, children);
+    }
+
+    @Test
+    @DisplayName("concurrent_grid_measurement_matches_serial")
+    void concurrentGridMeasurementMatchesSerial() {
+        List<TaffySize<AvailableSpace>> spaces = List.of(
+            new TaffySize<>(AvailableSpace.definite(900f), AvailableSpace.definite(600f)),
+            TaffySize.maxContent(),
+            TaffySize.minContent());
+        for (TaffySize<AvailableSpace> space : spaces) {
+            TaffyTree serialTree = new TaffyTree();
+            TaffyTree parallelTree = new TaffyTree();
+            NodeId serialRoot = buildMeasuredGrid(serialTree);
+            NodeId parallelRoot = buildMeasuredGrid(parallelTree);
+
+            serialTree.computeLayout(serialRoot, space);
+            parallelTree.computeLayoutParallel(parallelRoot, space, pool, Integer.MAX_VALUE, 1);
+
+            assertSameLayouts(serialTree, serialRoot, parallelTree, parallelRoot);
+        }
+    }
+}
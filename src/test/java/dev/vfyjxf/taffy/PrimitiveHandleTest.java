@@ -0,0 +1,92 @@
+package dev.vfyjxf.taffy;
+
+import dev.vfyjxf.taffy.geometry.TaffySize;
+import dev.vfyjxf.taffy.style.TaffyDimension;
+import dev.vfyjxf.taffy.style.TaffyStyle;
+import dev.vfyjxf.taffy.tree.Layout;
+import dev.vfyjxf.taffy.tree.NodeId;
+import dev.vfyjxf.taffy.tree.TaffyException;
+import dev.vfyjxf.taffy.tree.TaffyTree;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the primitive long-handle API of TaffyTree.
+ */
+public class PrimitiveHandleTest {
+
+    private static TaffyStyle sized(float width, float height) {
+        TaffyStyle style = new TaffyStyle();
+        style.size = new TaffySize<>(TaffyDimension.length(width), TaffyDimension.length(height));
+        return style;
+    }
+
+    @Test
+    @DisplayName("handles_mirror_node_id_hierarchy")
+    void handlesMirrorNodeIdHierarchy() {
+        TaffyTree tree = new TaffyTree();
+        NodeId a = tree.newLeaf(sized(10f, 10f));
+        NodeId b = tree.newLeaf(sized(20f, 10f));
+        NodeId c = tree.newLeaf(sized(30f, 10f));
+        NodeId root = tree.newWithChildren(new TaffyStyle(), a, b, c);
+        long rootHandle = root.value();
+
+        assertEquals(3, tree.childCountL(rootHandle));
+        assertEquals(b.value(), tree.childAtL(rootHandle, 1));
+        assertEquals(rootHandle, tree.parentL(c.value()));
+        assertEquals(TaffyTree.NO_NODE, tree.parentL(rootHandle));
+
+        LongArrayList visited = new LongArrayList();
+        for (long child = tree.firstChildL(rootHandle); child != TaffyTree.NO_NODE; child = tree.nextSiblingL(child)) {
+            visited.add(child);
+        }
+        assertEquals(LongArrayList.of(a.value(), b.value(), c.value()), visited);
+
+        LongArrayList children = tree.getChildrenL(rootHandle, new LongArrayList(List.of(99L)));
+        assertEquals(visited, children);
+        assertEquals(TaffyTree.NO_NODE, tree.firstChildL(a.value()));
+    }
+
+    @Test
+    @DisplayName("layout_into_matches_get_layout")
+    void layoutIntoMatchesGetLayout() {
+        TaffyTree tree = new TaffyTree();
+        NodeId first = tree.newLeaf(sized(10.5f, 20f));
+        NodeId second = tree.newLeaf(sized(30f, 40f));
+        NodeId root = tree.newWithChildren(new TaffyStyle(), first, second);
+        tree.computeLayout(root, TaffySize.maxContent());
+
+        float[] out = new float[8];
+        tree.getLayoutInto(first.value(), out);
+        tree.getLayoutInto(second.value(), out, 4);
+
+        Layout layout = tree.getLayout(second);
+        assertEquals(layout.location().x, out[4]);
+        assertEquals(layout.location().y, out[5]);
+        assertEquals(layout.size().width, out[6]);
+        assertEquals(layout.size().height, out[7]);
+        assertEquals(tree.getLayout(first).size().width, out[2]);
+        assertTrue(tree.needsVisitL(root.value()));
+    }
+
+    @Test
+    @DisplayName("stale_handles_are_rejected")
+    void staleHandlesAreRejected() {
+        TaffyTree tree = new TaffyTree();
+        NodeId child = tree.newLeaf(new TaffyStyle());
+        NodeId root = tree.newWithChildren(new TaffyStyle(), child);
+        long handle = child.value();
+        tree.remove(child);
+
+        assertFalse(tree.containsNodeL(handle));
+        assertEquals(0, tree.childCountL(handle));
+        assertThrows(TaffyException.class, () -> tree.parentL(handle));
+        assertThrows(TaffyException.class, () -> tree.getLayoutInto(handle, new float[4]));
+        assertThrows(TaffyException.class, () -> tree.childAtL(root.value(), 0));
+    }
+}
@@ -0,0 +1,147 @@
+package dev.vfyjxf.taffy;
+
+import dev.vfyjxf.taffy.geometry.FloatSize;
+import dev.vfyjxf.taffy.geometry.TaffyLine;
+import dev.vfyjxf.taffy.geometry.TaffyRect;
+import dev.vfyjxf.taffy.geometry.TaffySize;
+import dev.vfyjxf.taffy.style.AlignContent;
+import dev.vfyjxf.taffy.style.GridPlacement;
+import dev.vfyjxf.taffy.style.LengthPercentage;
+import dev.vfyjxf.taffy.style.TaffyDimension;
+import dev.vfyjxf.taffy.style.TaffyDisplay;
+import dev.vfyjxf.taffy.style.TaffyStyle;
+import dev.vfyjxf.taffy.style.TrackSizingFunction;
+import dev.vfyjxf.taffy.tree.NodeId;
+import dev.vfyjxf.taffy.tree.TaffyTree;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for column subgrids sharing the track sizing of their parent grid.
+ */
+public class SubgridTest {
+
+    private static TaffyStyle formStyle() {
+        TaffyStyle style = new TaffyStyle();
+        style.display = TaffyDisplay.GRID;
+        style.size = new TaffySize<>(TaffyDimension.length(300f), TaffyDimension.auto());
+        style.gridTemplateColumns = new ArrayList<>(List.of(TrackSizingFunction.auto(), TrackSizingFunction.auto()));
+        style.justifyContent = AlignContent.START;
+        return style;
+    }
+
+    private static TaffyStyle rowStyle() {
+        TaffyStyle style = new TaffyStyle();
+        style.display = TaffyDisplay.GRID;
+        style.gridSubgridColumns = true;
+        style.gridColumn = new TaffyLine<>(GridPlacement.auto(), GridPlacement.span(2));
+        return style;
+    }
+
+    private static NodeId text(TaffyTree tree, float width) {
+        return tree.newLeafWithMeasure(new TaffyStyle(), (known, available) ->
+            new FloatSize(Float.isNaN(known.width) ? width : known.width, 10f));
+    }
+
+    @Test
+    @DisplayName("rows_line_up_with_the_parent_columns")
+    void rowsLineUpWithTheParentColumns() {
+        TaffyTree tree = new TaffyTree();
+        NodeId shortLabel = text(tree, 60f);
+        NodeId longLabel = text(tree, 120f);
+        NodeId firstInput = text(tree, 50f);
+        NodeId secondInput = text(tree, 50f);
+        NodeId firstRow = tree.newWithChildren(rowStyle(), shortLabel, firstInput);
+        NodeId secondRow = tree.newWithChildren(rowStyle(), longLabel, secondInput);
+        NodeId form = tree.newWithChildren(formStyle(), firstRow, secondRow);
+        tree.computeLayout(form, TaffySize.maxContent());
+
+        // The widest label in any row sizes the shared label column
+        assertEquals(120f, tree.getLayout(shortLabel).size().width);
+        assertEquals(120f, tree.getLayout(firstInput).location().x);
+        assertEquals(120f, tree.getLayout(secondInput).location().x);
+        assertEquals(50f, tree.getLayout(firstInput).size().width);
+        assertEquals(170f, tree.getLayout(firstRow).size().width);
+        assertEquals(10f, tree.getLayout(secondRow).location().y);
+    }
+
+    @Test
+    @DisplayName("subgrid_padding_is_added_to_edge_items")
+    void subgridPaddingIsAddedToEdgeItems() {
+        TaffyTree tree = new TaffyTree();
+        NodeId paddedLabel = text(tree, 100f);
+        NodeId paddedInput = text(tree, 50f);
+        NodeId label = text(tree, 105f);
+        NodeId input = text(tree, 50f);
+        TaffyStyle padded = rowStyle();
+        padded.padding = new TaffyRect<>(LengthPercentage.length(10f), LengthPercentage.length(0f),
+            LengthPercentage.length(0f), LengthPercentage.length(0f));
+        NodeId paddedRow = tree.newWithChildren(padded, paddedLabel, paddedInput);
+        NodeId plainRow = tree.newWithChildren(rowStyle(), label, input);
+        NodeId form = tree.newWithChildren(formStyle(), paddedRow, plainRow);
+        tree.computeLayout(form, TaffySize.maxContent());
+
+        // The padded row needs 110 for its label column, more than the 105 of the plain one
+        assertEquals(10f, tree.getLayout(paddedLabel).location().x);
+        assertEquals(100f, tree.getLayout(paddedLabel).size().width);
+        assertEquals(110f, tree.getLayout(paddedInput).location().x);
+        assertEquals(110f, tree.getLayout(input).location().x);
+    }
+
+    @Test
+    @DisplayName("subgrid_outside_a_grid_uses_its_own_columns")
+    void subgridOutsideAGridUsesItsOwnColumns() {
+        TaffyTree tree = new TaffyTree();
+        NodeId label = text(tree, 60f);
+        NodeId input = text(tree, 50f);
+        TaffyStyle style = rowStyle();
+        style.gridTemplateColumns = new ArrayList<>(List.of(TrackSizingFunction.fixed(80f), TrackSizingFunction.fixed(100f)));
+        NodeId row = tree.newWithChildren(style, label, input);
+        NodeId form = tree.newWithChildren(formStyle(), row);
+        tree.computeLayout(form, TaffySize.maxContent());
+        assertEquals(60f, tree.getLayout(input).location().x);
+
+        TaffyStyle blockStyle = new TaffyStyle();
+        blockStyle.display = TaffyDisplay.BLOCK;
+        tree.removeChild(form, row);
+        NodeId block = tree.newWithChildren(blockStyle, row);
+        tree.computeLayout(block, TaffySize.maxContent());
+        assertEquals(80f, tree.getLayout(input).location().x);
+    }
+
+    @Test
+    @DisplayName("parent_that_stops_being_a_grid_releases_its_subgrids")
+    void parentThatStopsBeingAGridReleasesItsSubgrids() {
+        TaffyTree tree = new TaffyTree();
+        NodeId label = text(tree, 40f);
+        NodeId input = text(tree, 50f);
+        TaffyStyle style = rowStyle();
+        style.gridTemplateColumns = new ArrayList<>(List.of(TrackSizingFunction.fixed(100f), TrackSizingFunction.fixed(100f)));
+        NodeId row = tree.newWithChildren(style, label, input);
+        TaffyStyle formStyle = formStyle();
+        NodeId form = tree.newWithChildren(formStyle, row);
+        tree.computeLayout(form, TaffySize.maxContent());
+        assertEquals(40f, tree.getLayout(input).location().x);
+
+        formStyle.display = TaffyDisplay.BLOCK;
+        tree.setStyle(form, formStyle);
+        tree.computeLayout(form, TaffySize.maxContent());
+        assertEquals(100f, tree.getLayout(input).location().x);
+
+        formStyle.display = TaffyDisplay.GRID;
+        tree.setStyle(form, formStyle);
+        tree.computeLayout(form, TaffySize.maxContent());
+        assertEquals(40f, tree.getLayout(input).location().x);
+
+        // A masonry grid doesn't size its subgrids' columns either
+        formStyle.gridMasonryRows = true;
+        tree.setStyle(form, formStyle);
+        tree.computeLayout(form, TaffySize.maxContent());
+        assertEquals(100f, tree.getLayout(input).location().x);
+    }
+}
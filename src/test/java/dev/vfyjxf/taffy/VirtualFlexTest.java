@@ -0,0 +1,284 @@
+package dev.vfyjxf.taffy;
+
+import dev.vfyjxf.taffy.geometry.FloatSize;
+import dev.vfyjxf.taffy.geometry.TaffyRect;
+import dev.vfyjxf.taffy.geometry.TaffySize;
+import dev.vfyjxf.taffy.style.AlignItems;
+import dev.vfyjxf.taffy.style.FlexDirection;
+import dev.vfyjxf.taffy.style.FlexWrap;
+import dev.vfyjxf.taffy.style.LengthPercentage;
+import dev.vfyjxf.taffy.style.LengthPercentageAuto;
+import dev.vfyjxf.taffy.style.TaffyDimension;
+import dev.vfyjxf.taffy.style.TaffyDisplay;
+import dev.vfyjxf.taffy.style.TaffyStyle;
+import dev.vfyjxf.taffy.tree.FlexViewport;
+import dev.vfyjxf.taffy.tree.Layout;
+import dev.vfyjxf.taffy.tree.NodeId;
+import dev.vfyjxf.taffy.tree.TaffyTree;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for windowed layout of flex containers with a viewport attached.
+ */
+public class VirtualFlexTest {
+
+    private static TaffyStyle columnStyle(float width) {
+        TaffyStyle style = new TaffyStyle();
+        style.flexDirection = FlexDirection.COLUMN;
+        style.size = new TaffySize<>(TaffyDimension.length(width), TaffyDimension.auto());
+        return style;
+    }
+
+    private static NodeId message(TaffyTree tree, float width, float height, AtomicInteger measures) {
+        return tree.newLeafWithMeasure(new TaffyStyle(), (known, available) -> {
+            measures.incrementAndGet();
+            return new FloatSize(Float.isNaN(known.width) ? width : known.width,
+                Float.isNaN(known.height) ? height : known.height);
+        });
+    }
+
+    private static NodeId buildList(TaffyTree tree, TaffyStyle style, int count, float height, AtomicInteger measures) {
+        List<NodeId> children = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            children.add(message(tree, 40f, height, measures));
+        }
+        return tree.newWithChildren(style, children);
+    }
+
+    @Test
+    @DisplayName("only_visible_items_are_measured")
+    void onlyVisibleItemsAreMeasured() {
+        TaffyTree tree = new TaffyTree();
+        AtomicInteger measures = new AtomicInteger();
+        NodeId list = buildList(tree, columnStyle(300f), 50_000, 20f, measures);
+        FlexViewport viewport = new FlexViewport(40f);
+        tree.setFlexViewport(list, viewport);
+        tree.scrollFlexViewport(list, 0f, 100f);
+
+        tree.computeLayout(list, TaffySize.maxContent());
+
+        // Five measured items of 20, the rest at the estimate of 40
+        assertEquals(0, viewport.firstVisibleItem());
+        assertEquals(5, viewport.visibleItemEnd());
+        assertEquals(5, viewport.measuredCount());
+        assertEquals(1_999_900f, viewport.contentMainSize());
+        assertEquals(1_999_900f, tree.getLayout(list).size().height);
+        assertTrue(measures.get() < 100, "measured " + measures.get() + " children");
+
+        NodeId item = tree.getChildAtIndex(list, 3);
+        assertEquals(0f, tree.getLayout(item).location().x);
+        assertEquals(60f, tree.getLayout(item).location().y);
+        assertEquals(300f, tree.getLayout(item).size().width);
+        assertEquals(20f, tree.getLayout(item).size().height);
+        assertEquals(60f, viewport.itemOffset(3));
+        assertEquals(3, viewport.itemAt(70f));
+        assertEquals(140f, viewport.itemOffset(6));
+        assertEquals(6, viewport.itemAt(150f));
+    }
+
+    @Test
+    @DisplayName("scrolling_measures_the_new_window_and_resets_the_old_one")
+    void scrollingMeasuresTheNewWindowAndResetsTheOldOne() {
+        TaffyTree tree = new TaffyTree();
+        AtomicInteger measures = new AtomicInteger();
+        NodeId list = buildList(tree, columnStyle(300f), 10_000, 20f, measures);
+        FlexViewport viewport = new FlexViewport(40f);
+        tree.setFlexViewport(list, viewport);
+        tree.scrollFlexViewport(list, 0f, 100f);
+        tree.computeLayout(list, TaffySize.maxContent());
+
+        // Scroll to item 1000: five measured items of 20 and 995 estimated ones before it
+        float target = viewport.itemOffset(1000);
+        assertEquals(39_900f, target);
+        tree.scrollFlexViewport(list, target, 100f);
+        tree.computeLayout(list, TaffySize.maxContent());
+
+        assertEquals(1000, viewport.firstVisibleItem());
+        assertEquals(1005, viewport.visibleItemEnd());
+        assertEquals(10, viewport.measuredCount());
+        assertEquals(target, tree.getLayout(tree.getChildAtIndex(list, 1000)).location().y);
+        assertEquals(target + 80f, tree.getLayout(tree.getChildAtIndex(list, 1004)).location().y);
+        Layout scrolledOut = tree.getLayout(tree.getChildAtIndex(list, 2));
+        assertEquals(0f, scrolledOut.size().height);
+        assertEquals(0f, scrolledOut.location().y);
+
+        // Scrolling back keeps the measured sizes of the first window
+        tree.scrollFlexViewport(list, 0f, 100f);
+        tree.computeLayout(list, TaffySize.maxContent());
+        assertEquals(40f, tree.getLayout(tree.getChildAtIndex(list, 2)).location().y);
+        assertEquals(0f, tree.getLayout(tree.getChildAtIndex(list, 1000)).size().height);
+        assertEquals(10, viewport.measuredCount());
+    }
+
+    @Test
+    @DisplayName("window_matches_the_flex_algorithm")
+    void windowMatchesTheFlexAlgorithm() {
+        TaffyStyle style = new TaffyStyle();
+        style.flexDirection = FlexDirection.ROW;
+        style.size = new TaffySize<>(TaffyDimension.auto(), TaffyDimension.length(50f));
+        style.gap = new TaffySize<>(LengthPercentage.length(5f), LengthPercentage.length(0f));
+        style.padding = TaffyRect.all(LengthPercentage.length(10f));
+        AlignItems[] aligns = {null, AlignItems.CENTER, AlignItems.FLEX_END, AlignItems.START};
+
+        Layout[][] results = new Layout[2][];
+        for (int run = 0; run < 2; run++) {
+            TaffyTree tree = new TaffyTree();
+            List<NodeId> children = new ArrayList<>();
+            for (int i = 0; i < 12; i++) {
+                NodeId child = message(tree, 10f + i, 8f + i, new AtomicInteger());
+                TaffyStyle childStyle = new TaffyStyle();
+                childStyle.alignSelf = aligns[i % aligns.length];
+                LengthPercentageAuto m = LengthPercentageAuto.length(i % 3);
+                childStyle.margin = new TaffyRect<>(m, m, m, LengthPercentageAuto.length(0f));
+                tree.setStyle(child, childStyle);
+                children.add(child);
+            }
+            NodeId row = tree.newWithChildren(style, children);
+            if (run == 1) {
+                tree.setFlexViewport(row, new FlexViewport(100f));
+                tree.scrollFlexViewport(row, 0f, 10_000f);
+            }
+            tree.computeLayout(row, TaffySize.maxContent());
+
+            results[run] = new Layout[children.size() + 1];
+            results[run][0] = tree.getLayout(row);
+            for (int i = 0; i < children.size(); i++) {
+                results[run][i + 1] = tree.getLayout(children.get(i));
+            }
+        }
+        for (int i = 0; i < results[0].length; i++) {
+            assertEquals(results[0][i].location(), results[1][i].location(), "node " + i);
+            assertEquals(results[0][i].size(), results[1][i].size(), "node " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("appended_items_keep_earlier_measurements")
+    void appendedItemsKeepEarlierMeasurements() {
+        TaffyTree tree = new TaffyTree();
+        AtomicInteger measures = new AtomicInteger();
+        NodeId list = buildList(tree, columnStyle(300f), 100, 20f, measures);
+        FlexViewport viewport = new FlexViewport(30f);
+        tree.setFlexViewport(list, viewport);
+        tree.scrollFlexViewport(list, 0f, 60f);
+        tree.computeLayout(list, TaffySize.maxContent());
+        assertEquals(3, viewport.measuredCount());
+
+        for (int i = 0; i < 10; i++) {
+            tree.addChild(list, message(tree, 40f, 20f, measures));
+        }
+        tree.computeLayout(list, TaffySize.maxContent());
+        assertEquals(110, viewport.itemCount());
+        assertEquals(3, viewport.measuredCount());
+        assertEquals(60f + 107 * 30f, viewport.contentMainSize());
+
+        viewport.resetMeasurements();
+        assertEquals(0, viewport.measuredCount());
+        assertEquals(90f, viewport.itemOffset(3));
+    }
+
+    @Test
+    @DisplayName("wrapping_containers_ignore_the_viewport")
+    void wrappingContainersIgnoreTheViewport() {
+        TaffyTree tree = new TaffyTree();
+        TaffyStyle style = columnStyle(300f);
+        style.flexWrap = FlexWrap.WRAP;
+        NodeId list = buildList(tree, style, 50, 20f, new AtomicInteger());
+        tree.setFlexViewport(list, new FlexViewport(40f));
+        tree.scrollFlexViewport(list, 0f, 100f);
+        tree.computeLayout(list, TaffySize.maxContent());
+
+        assertEquals(980f, tree.getLayout(tree.getChildAtIndex(list, 49)).location().y);
+        assertEquals(1000f, tree.getLayout(list).size().height);
+        assertThrows(IllegalStateException.class, () -> tree.scrollFlexViewport(tree.getChildAtIndex(list, 0), 0f, 1f));
+    }
+
+    @Test
+    @DisplayName("hidden_children_take_no_gap")
+    void hiddenChildrenTakeNoGap() {
+        Layout[][] results = new Layout[2][];
+        for (int run = 0; run < 2; run++) {
+            TaffyTree tree = new TaffyTree();
+            TaffyStyle style = columnStyle(100f);
+            style.gap = new TaffySize<>(LengthPercentage.length(0f), LengthPercentage.length(5f));
+            List<NodeId> children = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                NodeId child = message(tree, 40f, 20f, new AtomicInteger());
+                if (i == 2 || i == 5) {
+                    TaffyStyle hidden = new TaffyStyle();
+                    hidden.display = TaffyDisplay.NONE;
+                    tree.setStyle(child, hidden);
+                }
+                children.add(child);
+            }
+            NodeId list = tree.newWithChildren(style, children);
+            if (run == 1) {
+                tree.setFlexViewport(list, new FlexViewport(20f));
+                tree.scrollFlexViewport(list, 0f, 1000f);
+            }
+            tree.computeLayout(list, TaffySize.maxContent());
+
+            results[run] = new Layout[children.size() + 1];
+            results[run][0] = tree.getLayout(list);
+            for (int i = 0; i < children.size(); i++) {
+                results[run][i + 1] = tree.getLayout(children.get(i));
+            }
+        }
+        assertEquals(4 * 20f + 3 * 5f, results[1][0].size().height);
+        for (int i = 0; i < results[0].length; i++) {
+            assertEquals(results[0][i].location(), results[1][i].location(), "node " + i);
+            assertEquals(results[0][i].size(), results[1][i].size(), "node " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("cross_size_follows_the_window")
+    void crossSizeFollowsTheWindow() {
+        TaffyTree tree = new TaffyTree();
+        TaffyStyle style = new TaffyStyle();
+        style.flexDirection = FlexDirection.ROW;
+        List<NodeId> children = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            children.add(message(tree, 40f, i == 0 ? 100f : 20f, new AtomicInteger()));
+        }
+        NodeId row = tree.newWithChildren(style, children);
+        FlexViewport viewport = new FlexViewport(40f);
+        tree.setFlexViewport(row, viewport);
+        tree.scrollFlexViewport(row, 0f, 200f);
+        tree.computeLayout(row, TaffySize.maxContent());
+        assertEquals(100f, tree.getLayout(row).size().height);
+
+        tree.scrollFlexViewport(row, 20_000f, 200f);
+        tree.computeLayout(row, TaffySize.maxContent());
+        assertEquals(20f, viewport.contentCrossSize());
+        assertEquals(20f, tree.getLayout(row).size().height);
+    }
+
+    @Test
+    @DisplayName("a_scroll_only_rounds_and_reports_the_window")
+    void aScrollOnlyRoundsAndReportsTheWindow() {
+        TaffyTree tree = new TaffyTree();
+        NodeId list = buildList(tree, columnStyle(300f), 50_000, 20f, new AtomicInteger());
+        FlexViewport viewport = new FlexViewport(20f);
+        tree.setFlexViewport(list, viewport);
+        tree.scrollFlexViewport(list, 0f, 100f);
+        tree.computeLayout(list, TaffySize.maxContent());
+
+        AtomicInteger reported = new AtomicInteger();
+        tree.setLayoutChangeListener((node, layout) -> reported.incrementAndGet());
+        tree.scrollFlexViewport(list, 10_000f, 100f);
+        tree.computeLayout(list, TaffySize.maxContent());
+
+        // The container, the five children that scrolled out and the five now visible
+        assertEquals(11, reported.get());
+        assertEquals(0f, tree.getLayout(tree.getChildAtIndex(list, 0)).size().height);
+        assertEquals(10_000f, tree.getLayout(tree.getChildAtIndex(list, 500)).location().y);
+    }
+}
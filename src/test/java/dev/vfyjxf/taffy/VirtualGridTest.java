@@ -0,0 +1,209 @@
+package dev.vfyjxf.taffy;
+
+import dev.vfyjxf.taffy.geometry.FloatSize;
+import dev.vfyjxf.taffy.geometry.TaffySize;
+import dev.vfyjxf.taffy.style.TaffyDimension;
+import dev.vfyjxf.taffy.style.TaffyDisplay;
+import dev.vfyjxf.taffy.style.TaffyStyle;
+import dev.vfyjxf.taffy.style.TrackSizingFunction;
+import dev.vfyjxf.taffy.tree.GridViewport;
+import dev.vfyjxf.taffy.tree.NodeId;
+import dev.vfyjxf.taffy.tree.TaffyTree;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for windowed layout of grid containers with a viewport attached.
+ */
+public class VirtualGridTest {
+
+    private static TaffyStyle gridStyle(float width, TrackSizingFunction... columns) {
+        TaffyStyle style = new TaffyStyle();
+        style.display = TaffyDisplay.GRID;
+        style.size = new TaffySize<>(TaffyDimension.length(width), TaffyDimension.auto());
+        style.gridTemplateColumns = new ArrayList<>(List.of(columns));
+        return style;
+    }
+
+    private static NodeId buildGrid(TaffyTree tree, TaffyStyle style, int cells, AtomicInteger measures, float cellHeight) {
+        List<NodeId> children = new ArrayList<>();
+        for (int i = 0; i < cells; i++) {
+            children.add(tree.newLeafWithMeasure(new TaffyStyle(), (known, available) -> {
+                measures.incrementAndGet();
+                return new FloatSize(Float.isNaN(known.width) ? 40f : known.width,
+                    Float.isNaN(known.height) ? cellHeight : known.height);
+            }));
+        }
+        return tree.newWithChildren(style, children);
+    }
+
+    @Test
+    @DisplayName("only_visible_rows_are_laid_out")
+    void onlyVisibleRowsAreLaidOut() {
+        TaffyTree tree = new TaffyTree();
+        AtomicInteger measures = new AtomicInteger();
+        TaffyStyle style = gridStyle(300f, TrackSizingFunction.fixed(100f), TrackSizingFunction.fixed(100f),
+            TrackSizingFunction.fixed(100f));
+        NodeId grid = buildGrid(tree, style, 30_000, measures, 20f);
+        GridViewport viewport = new GridViewport(20f);
+        tree.setGridViewport(grid, viewport);
+        tree.scrollGridViewport(grid, 0f, 1000f, 300f, 100f);
+
+        tree.computeLayout(grid, TaffySize.maxContent());
+
+        assertEquals(10_000, viewport.rowCount());
+        assertEquals(200_000f, viewport.contentHeight());
+        assertEquals(200_000f, tree.getLayout(grid).size().height);
+        assertEquals(50, viewport.firstVisibleRow());
+        assertEquals(55, viewport.visibleRowEnd());
+        assertTrue(measures.get() < 200, "measured " + measures.get() + " children");
+
+        NodeId cell = tree.getChildAtIndex(grid, 152);
+        assertEquals(200f, tree.getLayout(cell).location().x);
+        assertEquals(1000f, tree.getLayout(cell).location().y);
+        assertEquals(100f, tree.getLayout(cell).size().width);
+        assertEquals(20f, tree.getLayout(cell).size().height);
+        assertEquals(10_000f, viewport.rowOffset(500));
+        assertEquals(500, viewport.rowAt(10_005f));
+    }
+
+    @Test
+    @DisplayName("scrolled_out_children_are_reset")
+    void scrolledOutChildrenAreReset() {
+        TaffyTree tree = new TaffyTree();
+        TaffyStyle style = gridStyle(200f, TrackSizingFunction.fixed(100f), TrackSizingFunction.fixed(100f));
+        NodeId grid = buildGrid(tree, style, 1_000, new AtomicInteger(), 20f);
+        GridViewport viewport = new GridViewport(20f);
+        tree.setGridViewport(grid, viewport);
+        tree.scrollGridViewport(grid, 0f, 0f, 200f, 40f);
+        tree.computeLayout(grid, TaffySize.maxContent());
+
+        NodeId first = tree.getChildAtIndex(grid, 1);
+        assertEquals(100f, tree.getLayout(first).size().width);
+
+        tree.scrollGridViewport(grid, 0f, 2000f, 200f, 40f);
+        tree.computeLayout(grid, TaffySize.maxContent());
+
+        assertEquals(0f, tree.getLayout(first).size().width);
+        NodeId later = tree.getChildAtIndex(grid, 201);
+        assertEquals(100f, tree.getLayout(later).location().x);
+        assertEquals(2000f, tree.getLayout(later).location().y);
+    }
+
+    @Test
+    @DisplayName("row_height_comes_from_style_or_samples")
+    void rowHeightComesFromStyleOrSamples() {
+        TaffyTree tree = new TaffyTree();
+        TaffyStyle sampledStyle = gridStyle(200f, TrackSizingFunction.fixed(100f), TrackSizingFunction.fixed(100f));
+        NodeId sampled = buildGrid(tree, sampledStyle, 100, new AtomicInteger(), 30f);
+        GridViewport sampledViewport = new GridViewport();
+        tree.setGridViewport(sampled, sampledViewport);
+        tree.computeLayout(sampled, TaffySize.maxContent());
+        assertEquals(30f, sampledViewport.rowHeight());
+        assertEquals(50 * 30f, tree.getLayout(sampled).size().height);
+
+        TaffyStyle fixedStyle = gridStyle(200f, TrackSizingFunction.fixed(100f), TrackSizingFunction.fixed(100f));
+        fixedStyle.gridAutoRows = new ArrayList<>(List.of(TrackSizingFunction.fixed(25f)));
+        NodeId fixed = buildGrid(tree, fixedStyle, 100, new AtomicInteger(), 30f);
+        GridViewport fixedViewport = new GridViewport();
+        tree.setGridViewport(fixed, fixedViewport);
+        tree.computeLayout(fixed, TaffySize.maxContent());
+        assertEquals(25f, fixedViewport.rowHeight());
+    }
+
+    @Test
+    @DisplayName("flexible_columns_share_the_free_space")
+    void flexibleColumnsShareTheFreeSpace() {
+        TaffyTree tree = new TaffyTree();
+        TaffyStyle style = gridStyle(400f, TrackSizingFunction.fixed(100f), TrackSizingFunction.fr(1f),
+            TrackSizingFunction.auto());
+        NodeId grid = buildGrid(tree, style, 300, new AtomicInteger(), 10f);
+        GridViewport viewport = new GridViewport(10f);
+        tree.setGridViewport(grid, viewport);
+        tree.scrollGridViewport(grid, 0f, 0f, 400f, 10f);
+        tree.computeLayout(grid, TaffySize.maxContent());
+
+        assertEquals(3, viewport.columnCount());
+        assertEquals(100f, viewport.columnWidth(0));
+        assertEquals(40f, viewport.columnWidth(2));
+        assertEquals(260f, viewport.columnWidth(1));
+        assertEquals(360f, viewport.columnOffset(2));
+        assertEquals(360f, tree.getLayout(tree.getChildAtIndex(grid, 2)).location().x);
+    }
+
+    @Test
+    @DisplayName("windowed_columns_match_the_grid_algorithm")
+    void windowedColumnsMatchTheGridAlgorithm() {
+        TrackSizingFunction[][] templates = {
+            {TrackSizingFunction.fr(1f), TrackSizingFunction.fr(1f)},
+            {TrackSizingFunction.fr(1f), TrackSizingFunction.fr(3f), TrackSizingFunction.fixed(30f)},
+            {TrackSizingFunction.fr(2f), TrackSizingFunction.fixed(20f), TrackSizingFunction.fr(1f)},
+        };
+        // Column 0 holds content wider than an equal share of 200
+        float[] contentWidths = {150f, 20f, 10f};
+        for (TrackSizingFunction[] template : templates) {
+            for (boolean definite : new boolean[]{true, false}) {
+                float[][] xs = new float[2][];
+                float[][] widths = new float[2][];
+                for (int run = 0; run < 2; run++) {
+                    TaffyTree tree = new TaffyTree();
+                    TaffyStyle style = gridStyle(200f, template);
+                    if (!definite) {
+                        style.size = new TaffySize<>(TaffyDimension.auto(), TaffyDimension.auto());
+                    }
+                    style.gridAutoRows = new ArrayList<>(List.of(TrackSizingFunction.fixed(10f)));
+                    List<NodeId> cells = new ArrayList<>();
+                    for (int i = 0; i < template.length * 2; i++) {
+                        float width = contentWidths[i % template.length];
+                        cells.add(tree.newLeafWithMeasure(new TaffyStyle(), (known, available) ->
+                            new FloatSize(Float.isNaN(known.width) ? width : known.width,
+                                Float.isNaN(known.height) ? 10f : known.height)));
+                    }
+                    NodeId grid = tree.newWithChildren(style, cells);
+                    if (run == 1) {
+                        tree.setGridViewport(grid, new GridViewport(10f));
+                        tree.scrollGridViewport(grid, 0f, 0f, 1000f, 20f);
+                    }
+                    tree.computeLayout(grid, TaffySize.maxContent());
+                    xs[run] = new float[template.length];
+                    widths[run] = new float[template.length];
+                    for (int c = 0; c < template.length; c++) {
+                        xs[run][c] = tree.getLayout(cells.get(c)).location().x;
+                        widths[run][c] = tree.getLayout(cells.get(c)).size().width;
+                    }
+                }
+                String message = List.of(template) + (definite ? " definite" : " indefinite");
+                assertArrayEquals(xs[0], xs[1], message);
+                assertArrayEquals(widths[0], widths[1], message);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("a_scroll_only_rounds_and_reports_the_window")
+    void aScrollOnlyRoundsAndReportsTheWindow() {
+        TaffyTree tree = new TaffyTree();
+        TaffyStyle style = gridStyle(200f, TrackSizingFunction.fixed(100f), TrackSizingFunction.fixed(100f));
+        NodeId grid = buildGrid(tree, style, 20_000, new AtomicInteger(), 20f);
+        tree.setGridViewport(grid, new GridViewport(20f));
+        tree.scrollGridViewport(grid, 0f, 0f, 200f, 40f);
+        tree.computeLayout(grid, TaffySize.maxContent());
+        NodeId first = tree.getChildAtIndex(grid, 1);
+
+        AtomicInteger reported = new AtomicInteger();
+        tree.setLayoutChangeListener((node, layout) -> reported.incrementAndGet());
+        tree.scrollGridViewport(grid, 0f, 2000f, 200f, 40f);
+        tree.computeLayout(grid, TaffySize.maxContent());
+
+        // The container, the four cells that scrolled out and the four now visible
+        assertEquals(9, reported.get());
+        assertEquals(0f, tree.getLayout(first).size().width);
+        assertEquals(2000f, tree.getLayout(tree.getChildAtIndex(grid, 201)).location().y);
+    }
+}
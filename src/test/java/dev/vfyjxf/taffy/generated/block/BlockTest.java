@@ -15,6 +15,13 @@ public class BlockTest {
 
     private static final float EPSILON = 0.1f;
 
+    /**
+     * Creates the tree a fixture is laid out in. Subclasses can override it to lay the fixtures out differently.
+     */
+    protected TaffyTree newTree() {
+        return new TaffyTree();
+    }
+
     private static MeasureFunc ahemTextMeasure(String text, boolean vertical) {
         final String trimmed = text == null ? "" : text.trim();
         return (knownDimensions, availableSpace) -> {
@@ -93,7 +100,7 @@ public class BlockTest {
     @Test
     @DisplayName("absolute_correct_cross_child_size_with_percentage__border_box")
     void absoluteCorrectCrossChildSizeWithPercentageBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -166,7 +173,7 @@ public class BlockTest {
     @Test
     @DisplayName("absolute_correct_cross_child_size_with_percentage__content_box")
     void absoluteCorrectCrossChildSizeWithPercentageContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -245,7 +252,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_aspect_ratio_aspect_ratio_overrides_height_of_full_inset__border_box")
     void blockAbsoluteAspectRatioAspectRatioOverridesHeightOfFullInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -278,7 +285,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_aspect_ratio_aspect_ratio_overrides_height_of_full_inset__content_box")
     void blockAbsoluteAspectRatioAspectRatioOverridesHeightOfFullInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -313,7 +320,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_aspect_ratio_fill_height__border_box")
     void blockAbsoluteAspectRatioFillHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -347,7 +354,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_aspect_ratio_fill_height__content_box")
     void blockAbsoluteAspectRatioFillHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -383,7 +390,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_aspect_ratio_fill_height_from_inset__border_box")
     void blockAbsoluteAspectRatioFillHeightFromInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -416,7 +423,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_aspect_ratio_fill_height_from_inset__content_box")
     void blockAbsoluteAspectRatioFillHeightFromInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -451,7 +458,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_aspect_ratio_fill_max_height__border_box")
     void blockAbsoluteAspectRatioFillMaxHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -485,7 +492,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_aspect_ratio_fill_max_height__content_box")
     void blockAbsoluteAspectRatioFillMaxHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -521,7 +528,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_aspect_ratio_fill_max_width__border_box")
     void blockAbsoluteAspectRatioFillMaxWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -555,7 +562,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_aspect_ratio_fill_max_width__content_box")
     void blockAbsoluteAspectRatioFillMaxWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -591,7 +598,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_aspect_ratio_fill_min_height__border_box")
     void blockAbsoluteAspectRatioFillMinHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -624,7 +631,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_aspect_ratio_fill_min_height__content_box")
     void blockAbsoluteAspectRatioFillMinHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -659,7 +666,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_aspect_ratio_fill_min_width__border_box")
     void blockAbsoluteAspectRatioFillMinWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -692,7 +699,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_aspect_ratio_fill_min_width__content_box")
     void blockAbsoluteAspectRatioFillMinWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -727,7 +734,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_aspect_ratio_fill_width__border_box")
     void blockAbsoluteAspectRatioFillWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -761,7 +768,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_aspect_ratio_fill_width__content_box")
     void blockAbsoluteAspectRatioFillWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -797,7 +804,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_aspect_ratio_fill_width_from_inset__border_box")
     void blockAbsoluteAspectRatioFillWidthFromInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -830,7 +837,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_aspect_ratio_fill_width_from_inset__content_box")
     void blockAbsoluteAspectRatioFillWidthFromInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -865,7 +872,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_aspect_ratio_height_overrides_inset__border_box")
     void blockAbsoluteAspectRatioHeightOverridesInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -899,7 +906,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_aspect_ratio_height_overrides_inset__content_box")
     void blockAbsoluteAspectRatioHeightOverridesInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -935,7 +942,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_aspect_ratio_width_overrides_inset__border_box")
     void blockAbsoluteAspectRatioWidthOverridesInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -969,7 +976,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_aspect_ratio_width_overrides_inset__content_box")
     void blockAbsoluteAspectRatioWidthOverridesInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1005,7 +1012,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_child_with_margin_x__border_box")
     void blockAbsoluteChildWithMarginXBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -1062,7 +1069,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_child_with_margin_x__content_box")
     void blockAbsoluteChildWithMarginXContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1123,7 +1130,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_child_with_margin_y__border_box")
     void blockAbsoluteChildWithMarginYBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -1180,7 +1187,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_child_with_margin_y__content_box")
     void blockAbsoluteChildWithMarginYContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1241,7 +1248,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_child_with_max_height__border_box")
     void blockAbsoluteChildWithMaxHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -1286,7 +1293,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_child_with_max_height__content_box")
     void blockAbsoluteChildWithMaxHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1334,7 +1341,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_layout_child_order__border_box")
     void blockAbsoluteLayoutChildOrderBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -1391,7 +1398,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_layout_child_order__content_box")
     void blockAbsoluteLayoutChildOrderContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1452,7 +1459,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_layout_no_size__border_box")
     void blockAbsoluteLayoutNoSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -1483,7 +1490,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_layout_no_size__content_box")
     void blockAbsoluteLayoutNoSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1516,7 +1523,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_layout_percentage_bottom_based_on_parent_height__border_box")
     void blockAbsoluteLayoutPercentageBottomBasedOnParentHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -1576,7 +1583,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_layout_percentage_bottom_based_on_parent_height__content_box")
     void blockAbsoluteLayoutPercentageBottomBasedOnParentHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1640,7 +1647,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_layout_percentage_height__border_box")
     void blockAbsoluteLayoutPercentageHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -1673,7 +1680,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_layout_percentage_height__content_box")
     void blockAbsoluteLayoutPercentageHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1708,7 +1715,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_layout_row_width_height_end_bottom__border_box")
     void blockAbsoluteLayoutRowWidthHeightEndBottomBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -1741,7 +1748,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_layout_row_width_height_end_bottom__content_box")
     void blockAbsoluteLayoutRowWidthHeightEndBottomContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1776,7 +1783,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_layout_start_top_end_bottom__border_box")
     void blockAbsoluteLayoutStartTopEndBottomBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -1809,7 +1816,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_layout_start_top_end_bottom__content_box")
     void blockAbsoluteLayoutStartTopEndBottomContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1844,7 +1851,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_layout_width_height_end_bottom__border_box")
     void blockAbsoluteLayoutWidthHeightEndBottomBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -1878,7 +1885,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_layout_width_height_end_bottom__content_box")
     void blockAbsoluteLayoutWidthHeightEndBottomContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1914,7 +1921,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_layout_width_height_start_top__border_box")
     void blockAbsoluteLayoutWidthHeightStartTopBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -1948,7 +1955,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_layout_width_height_start_top__content_box")
     void blockAbsoluteLayoutWidthHeightStartTopContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1984,7 +1991,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_layout_width_height_start_top_end_bottom__border_box")
     void blockAbsoluteLayoutWidthHeightStartTopEndBottomBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -2018,7 +2025,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_layout_width_height_start_top_end_bottom__content_box")
     void blockAbsoluteLayoutWidthHeightStartTopEndBottomContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2054,7 +2061,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_layout_within_border__border_box")
     void blockAbsoluteLayoutWithinBorderBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -2131,7 +2138,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_layout_within_border__content_box")
     void blockAbsoluteLayoutWithinBorderContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2213,7 +2220,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_bottom_and_top_with_inset__border_box")
     void blockAbsoluteMarginAutoBottomAndTopWithInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -2247,7 +2254,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_bottom_and_top_with_inset__content_box")
     void blockAbsoluteMarginAutoBottomAndTopWithInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2283,7 +2290,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_bottom_and_top_without_inset__border_box")
     void blockAbsoluteMarginAutoBottomAndTopWithoutInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -2316,7 +2323,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_bottom_and_top_without_inset__content_box")
     void blockAbsoluteMarginAutoBottomAndTopWithoutInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2351,7 +2358,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_bottom_with_inset__border_box")
     void blockAbsoluteMarginAutoBottomWithInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -2386,7 +2393,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_bottom_with_inset__content_box")
     void blockAbsoluteMarginAutoBottomWithInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2423,7 +2430,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_bottom_without_inset__border_box")
     void blockAbsoluteMarginAutoBottomWithoutInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -2457,7 +2464,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_bottom_without_inset__content_box")
     void blockAbsoluteMarginAutoBottomWithoutInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2493,7 +2500,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_left_and_right_with_inset__border_box")
     void blockAbsoluteMarginAutoLeftAndRightWithInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -2527,7 +2534,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_left_and_right_with_inset__content_box")
     void blockAbsoluteMarginAutoLeftAndRightWithInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2563,7 +2570,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_left_and_right_without_inset__border_box")
     void blockAbsoluteMarginAutoLeftAndRightWithoutInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -2596,7 +2603,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_left_and_right_without_inset__content_box")
     void blockAbsoluteMarginAutoLeftAndRightWithoutInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2631,7 +2638,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_left_child_bigger_than_parent_with_inset__border_box")
     void blockAbsoluteMarginAutoLeftChildBiggerThanParentWithInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -2665,7 +2672,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_left_child_bigger_than_parent_with_inset__content_box")
     void blockAbsoluteMarginAutoLeftChildBiggerThanParentWithInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2701,7 +2708,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_left_child_bigger_than_parent_without_inset__border_box")
     void blockAbsoluteMarginAutoLeftChildBiggerThanParentWithoutInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -2734,7 +2741,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_left_child_bigger_than_parent_without_inset__content_box")
     void blockAbsoluteMarginAutoLeftChildBiggerThanParentWithoutInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2769,7 +2776,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_left_fix_right_child_bigger_than_parent_with_inset__border_box")
     void blockAbsoluteMarginAutoLeftFixRightChildBiggerThanParentWithInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -2803,7 +2810,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_left_fix_right_child_bigger_than_parent_with_inset__content_box")
     void blockAbsoluteMarginAutoLeftFixRightChildBiggerThanParentWithInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2839,7 +2846,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_left_fix_right_child_bigger_than_parent_without_inset__border_box")
     void blockAbsoluteMarginAutoLeftFixRightChildBiggerThanParentWithoutInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -2872,7 +2879,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_left_fix_right_child_bigger_than_parent_without_inset__content_box")
     void blockAbsoluteMarginAutoLeftFixRightChildBiggerThanParentWithoutInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2907,7 +2914,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_left_right_child_bigger_than_parent_with_inset__border_box")
     void blockAbsoluteMarginAutoLeftRightChildBiggerThanParentWithInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -2941,7 +2948,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_left_right_child_bigger_than_parent_with_inset__content_box")
     void blockAbsoluteMarginAutoLeftRightChildBiggerThanParentWithInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2977,7 +2984,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_left_right_child_bigger_than_parent_without_inset__border_box")
     void blockAbsoluteMarginAutoLeftRightChildBiggerThanParentWithoutInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -3010,7 +3017,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_left_right_child_bigger_than_parent_without_inset__content_box")
     void blockAbsoluteMarginAutoLeftRightChildBiggerThanParentWithoutInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3045,7 +3052,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_left_with_inset__border_box")
     void blockAbsoluteMarginAutoLeftWithInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -3079,7 +3086,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_left_with_inset__content_box")
     void blockAbsoluteMarginAutoLeftWithInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3115,7 +3122,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_left_without_inset__border_box")
     void blockAbsoluteMarginAutoLeftWithoutInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -3148,7 +3155,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_left_without_inset__content_box")
     void blockAbsoluteMarginAutoLeftWithoutInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3183,7 +3190,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_multiple_children_with_inset__border_box")
     void blockAbsoluteMarginAutoMultipleChildrenWithInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -3231,7 +3238,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_multiple_children_with_inset__content_box")
     void blockAbsoluteMarginAutoMultipleChildrenWithInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3282,7 +3289,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_multiple_children_without_inset__border_box")
     void blockAbsoluteMarginAutoMultipleChildrenWithoutInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -3328,7 +3335,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_multiple_children_without_inset__content_box")
     void blockAbsoluteMarginAutoMultipleChildrenWithoutInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3377,7 +3384,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_right_with_inset__border_box")
     void blockAbsoluteMarginAutoRightWithInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -3412,7 +3419,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_right_with_inset__content_box")
     void blockAbsoluteMarginAutoRightWithInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3449,7 +3456,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_right_without_inset__border_box")
     void blockAbsoluteMarginAutoRightWithoutInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -3483,7 +3490,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_right_without_inset__content_box")
     void blockAbsoluteMarginAutoRightWithoutInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3519,7 +3526,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_top_with_inset__border_box")
     void blockAbsoluteMarginAutoTopWithInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -3554,7 +3561,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_top_with_inset__content_box")
     void blockAbsoluteMarginAutoTopWithInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3591,7 +3598,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_top_without_inset__border_box")
     void blockAbsoluteMarginAutoTopWithoutInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -3625,7 +3632,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_auto_top_without_inset__content_box")
     void blockAbsoluteMarginAutoTopWithoutInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3661,7 +3668,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_bottom_left_with_inset__border_box")
     void blockAbsoluteMarginBottomLeftWithInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -3696,7 +3703,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_bottom_left_with_inset__content_box")
     void blockAbsoluteMarginBottomLeftWithInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3733,7 +3740,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_bottom_left_without_inset__border_box")
     void blockAbsoluteMarginBottomLeftWithoutInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -3767,7 +3774,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_margin_bottom_left_without_inset__content_box")
     void blockAbsoluteMarginBottomLeftWithoutInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3803,7 +3810,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_minmax_bottom_right_max__border_box")
     void blockAbsoluteMinmaxBottomRightMaxBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -3838,7 +3845,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_minmax_bottom_right_max__content_box")
     void blockAbsoluteMinmaxBottomRightMaxContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3875,7 +3882,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_minmax_bottom_right_min_max__border_box")
     void blockAbsoluteMinmaxBottomRightMinMaxBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -3910,7 +3917,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_minmax_bottom_right_min_max__content_box")
     void blockAbsoluteMinmaxBottomRightMinMaxContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3947,7 +3954,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_minmax_bottom_right_min_max_preferred__border_box")
     void blockAbsoluteMinmaxBottomRightMinMaxPreferredBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -3983,7 +3990,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_minmax_bottom_right_min_max_preferred__content_box")
     void blockAbsoluteMinmaxBottomRightMinMaxPreferredContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -4021,7 +4028,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_minmax_top_left_bottom_right_max__border_box")
     void blockAbsoluteMinmaxTopLeftBottomRightMaxBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -4055,7 +4062,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_minmax_top_left_bottom_right_max__content_box")
     void blockAbsoluteMinmaxTopLeftBottomRightMaxContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -4091,7 +4098,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_minmax_top_left_bottom_right_min_max__border_box")
     void blockAbsoluteMinmaxTopLeftBottomRightMinMaxBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -4126,7 +4133,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_minmax_top_left_bottom_right_min_max__content_box")
     void blockAbsoluteMinmaxTopLeftBottomRightMinMaxContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -4163,7 +4170,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_no_styles__border_box")
     void blockAbsoluteNoStylesBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -4205,7 +4212,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_no_styles__content_box")
     void blockAbsoluteNoStylesContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -4250,7 +4257,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_padding_border_overrides_max_size__border_box")
     void blockAbsolutePaddingBorderOverridesMaxSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -4284,7 +4291,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_padding_border_overrides_max_size__content_box")
     void blockAbsolutePaddingBorderOverridesMaxSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -4320,7 +4327,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_padding_border_overrides_size__border_box")
     void blockAbsolutePaddingBorderOverridesSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -4354,7 +4361,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_padding_border_overrides_size__content_box")
     void blockAbsolutePaddingBorderOverridesSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -4390,7 +4397,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_resolved_insets__border_box")
     void blockAbsoluteResolvedInsetsBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -4606,7 +4613,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_absolute_resolved_insets__content_box")
     void blockAbsoluteResolvedInsetsContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -4840,7 +4847,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_align_baseline_child__border_box")
     void blockAlignBaselineChildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -4893,7 +4900,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_align_baseline_child__content_box")
     void blockAlignBaselineChildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -4950,7 +4957,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_align_baseline_child_margin__border_box")
     void blockAlignBaselineChildMarginBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -5005,7 +5012,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_align_baseline_child_margin__content_box")
     void blockAlignBaselineChildMarginContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -5064,7 +5071,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_align_baseline_child_margin_percent__border_box")
     void blockAlignBaselineChildMarginPercentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -5120,7 +5127,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_align_baseline_child_margin_percent__content_box")
     void blockAlignBaselineChildMarginPercentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -5180,7 +5187,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_align_baseline_child_padding__border_box")
     void blockAlignBaselineChildPaddingBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -5236,7 +5243,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_align_baseline_child_padding__content_box")
     void blockAlignBaselineChildPaddingContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -5296,7 +5303,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_align_baseline_child_top__border_box")
     void blockAlignBaselineChildTopBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -5351,7 +5358,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_align_baseline_child_top__content_box")
     void blockAlignBaselineChildTopContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -5410,7 +5417,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_align_baseline_child_top2__border_box")
     void blockAlignBaselineChildTop2BorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -5465,7 +5472,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_align_baseline_child_top2__content_box")
     void blockAlignBaselineChildTop2ContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -5524,7 +5531,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_align_baseline_double_nested_child__border_box")
     void blockAlignBaselineDoubleNestedChildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -5589,7 +5596,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_align_baseline_double_nested_child__content_box")
     void blockAlignBaselineDoubleNestedChildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -5659,7 +5666,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_aspect_ratio_fill_height__border_box")
     void blockAspectRatioFillHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -5692,7 +5699,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_aspect_ratio_fill_height__content_box")
     void blockAspectRatioFillHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -5727,7 +5734,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_aspect_ratio_fill_max_height__border_box")
     void blockAspectRatioFillMaxHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -5761,7 +5768,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_aspect_ratio_fill_max_height__content_box")
     void blockAspectRatioFillMaxHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -5797,7 +5804,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_aspect_ratio_fill_max_width__border_box")
     void blockAspectRatioFillMaxWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -5831,7 +5838,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_aspect_ratio_fill_max_width__content_box")
     void blockAspectRatioFillMaxWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -5867,7 +5874,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_aspect_ratio_fill_min_height__border_box")
     void blockAspectRatioFillMinHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -5900,7 +5907,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_aspect_ratio_fill_min_height__content_box")
     void blockAspectRatioFillMinHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -5935,7 +5942,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_aspect_ratio_fill_min_width__border_box")
     void blockAspectRatioFillMinWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -5968,7 +5975,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_aspect_ratio_fill_min_width__content_box")
     void blockAspectRatioFillMinWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -6003,7 +6010,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_aspect_ratio_fill_width__border_box")
     void blockAspectRatioFillWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -6036,7 +6043,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_aspect_ratio_fill_width__content_box")
     void blockAspectRatioFillWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -6071,7 +6078,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_basic__border_box")
     void blockBasicBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -6112,7 +6119,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_basic__content_box")
     void blockBasicContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -6156,7 +6163,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_border_fixed_size__border_box")
     void blockBorderFixedSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -6198,7 +6205,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_border_fixed_size__content_box")
     void blockBorderFixedSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -6243,7 +6250,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_border_intrinsic_size__border_box")
     void blockBorderIntrinsicSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -6284,7 +6291,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_border_intrinsic_size__content_box")
     void blockBorderIntrinsicSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -6328,7 +6335,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_border_percentage_fixed_size__border_box")
     void blockBorderPercentageFixedSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -6370,7 +6377,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_border_percentage_fixed_size__content_box")
     void blockBorderPercentageFixedSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -6415,7 +6422,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_border_percentage_intrinsic_size__border_box")
     void blockBorderPercentageIntrinsicSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -6456,7 +6463,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_border_percentage_intrinsic_size__content_box")
     void blockBorderPercentageIntrinsicSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -6500,7 +6507,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_display_none__border_box")
     void blockDisplayNoneBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -6552,7 +6559,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_display_none__content_box")
     void blockDisplayNoneContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -6608,7 +6615,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_display_none_with_child__border_box")
     void blockDisplayNoneWithChildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -6669,7 +6676,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_display_none_with_child__content_box")
     void blockDisplayNoneWithChildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -6735,7 +6742,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_display_none_with_inset__border_box")
     void blockDisplayNoneWithInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -6778,7 +6785,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_display_none_with_inset__content_box")
     void blockDisplayNoneWithInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -6824,7 +6831,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_display_none_with_margin__border_box")
     void blockDisplayNoneWithMarginBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -6867,7 +6874,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_display_none_with_margin__content_box")
     void blockDisplayNoneWithMarginContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -6913,7 +6920,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_display_none_with_position_absolute__border_box")
     void blockDisplayNoneWithPositionAbsoluteBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -6946,7 +6953,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_display_none_with_position_absolute__content_box")
     void blockDisplayNoneWithPositionAbsoluteContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -6981,7 +6988,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_inset_fixed__border_box")
     void blockInsetFixedBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -7035,7 +7042,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_inset_fixed__content_box")
     void blockInsetFixedContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -7093,7 +7100,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_inset_percentage__border_box")
     void blockInsetPercentageBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -7147,7 +7154,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_inset_percentage__content_box")
     void blockInsetPercentageContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -7205,7 +7212,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_intrinsic_width__border_box")
     void blockIntrinsicWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -7245,7 +7252,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_intrinsic_width__content_box")
     void blockIntrinsicWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -7288,7 +7295,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_item_max_width__border_box")
     void blockItemMaxWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -7331,7 +7338,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_item_max_width__content_box")
     void blockItemMaxWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -7377,7 +7384,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_item_min_width_overrides_max_width__border_box")
     void blockItemMinWidthOverridesMaxWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -7410,7 +7417,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_item_min_width_overrides_max_width__content_box")
     void blockItemMinWidthOverridesMaxWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -7445,7 +7452,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_item_text_align_center__border_box")
     void blockItemTextAlignCenterBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -7489,7 +7496,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_item_text_align_center__content_box")
     void blockItemTextAlignCenterContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -7536,7 +7543,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_item_text_align_left__border_box")
     void blockItemTextAlignLeftBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -7580,7 +7587,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_item_text_align_left__content_box")
     void blockItemTextAlignLeftContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -7627,7 +7634,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_item_text_align_right__border_box")
     void blockItemTextAlignRightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -7671,7 +7678,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_item_text_align_right__content_box")
     void blockItemTextAlignRightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -7718,7 +7725,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_auto_bottom__border_box")
     void blockMarginAutoBottomBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -7761,7 +7768,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_auto_bottom__content_box")
     void blockMarginAutoBottomContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -7807,7 +7814,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_auto_bottom_and_top__border_box")
     void blockMarginAutoBottomAndTopBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -7849,7 +7856,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_auto_bottom_and_top__content_box")
     void blockMarginAutoBottomAndTopContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -7894,7 +7901,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_auto_left__border_box")
     void blockMarginAutoLeftBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -7936,7 +7943,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_auto_left__content_box")
     void blockMarginAutoLeftContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -7981,7 +7988,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_auto_left_and_right__border_box")
     void blockMarginAutoLeftAndRightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -8023,7 +8030,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_auto_left_and_right__content_box")
     void blockMarginAutoLeftAndRightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -8068,7 +8075,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_auto_left_and_right_with_auto_width__border_box")
     void blockMarginAutoLeftAndRightWithAutoWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -8101,7 +8108,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_auto_left_and_right_with_auto_width__content_box")
     void blockMarginAutoLeftAndRightWithAutoWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -8136,7 +8143,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_auto_left_child_bigger_than_parent__border_box")
     void blockMarginAutoLeftChildBiggerThanParentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -8168,7 +8175,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_auto_left_child_bigger_than_parent__content_box")
     void blockMarginAutoLeftChildBiggerThanParentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -8202,7 +8209,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_auto_left_fix_right_child_bigger_than_parent__border_box")
     void blockMarginAutoLeftFixRightChildBiggerThanParentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -8234,7 +8241,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_auto_left_fix_right_child_bigger_than_parent__content_box")
     void blockMarginAutoLeftFixRightChildBiggerThanParentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -8268,7 +8275,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_auto_left_right_child_bigger_than_parent__border_box")
     void blockMarginAutoLeftRightChildBiggerThanParentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -8300,7 +8307,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_auto_left_right_child_bigger_than_parent__content_box")
     void blockMarginAutoLeftRightChildBiggerThanParentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -8334,7 +8341,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_auto_multiple_children__border_box")
     void blockMarginAutoMultipleChildrenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -8388,7 +8395,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_auto_multiple_children__content_box")
     void blockMarginAutoMultipleChildrenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -8446,7 +8453,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_auto_right__border_box")
     void blockMarginAutoRightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -8489,7 +8496,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_auto_right__content_box")
     void blockMarginAutoRightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -8535,7 +8542,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_auto_top__border_box")
     void blockMarginAutoTopBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -8578,7 +8585,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_auto_top__content_box")
     void blockMarginAutoTopContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -8624,7 +8631,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_x_fixed_auto_bottom__border_box")
     void blockMarginXFixedAutoBottomBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -8666,7 +8673,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_x_fixed_auto_bottom__content_box")
     void blockMarginXFixedAutoBottomContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -8711,7 +8718,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_x_fixed_auto_left__border_box")
     void blockMarginXFixedAutoLeftBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -8753,7 +8760,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_x_fixed_auto_left__content_box")
     void blockMarginXFixedAutoLeftContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -8798,7 +8805,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_x_fixed_auto_left_and_right__border_box")
     void blockMarginXFixedAutoLeftAndRightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -8840,7 +8847,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_x_fixed_auto_left_and_right__content_box")
     void blockMarginXFixedAutoLeftAndRightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -8885,7 +8892,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_x_fixed_auto_right__border_box")
     void blockMarginXFixedAutoRightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -8927,7 +8934,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_x_fixed_auto_right__content_box")
     void blockMarginXFixedAutoRightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -8972,7 +8979,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_x_fixed_auto_top__border_box")
     void blockMarginXFixedAutoTopBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -9014,7 +9021,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_x_fixed_auto_top__content_box")
     void blockMarginXFixedAutoTopContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -9059,7 +9066,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_x_fixed_size_negative__border_box")
     void blockMarginXFixedSizeNegativeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -9101,7 +9108,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_x_fixed_size_negative__content_box")
     void blockMarginXFixedSizeNegativeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -9146,7 +9153,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_x_fixed_size_positive__border_box")
     void blockMarginXFixedSizePositiveBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -9188,7 +9195,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_x_fixed_size_positive__content_box")
     void blockMarginXFixedSizePositiveContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -9233,7 +9240,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_x_intrinsic_size_negative__border_box")
     void blockMarginXIntrinsicSizeNegativeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -9274,7 +9281,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_x_intrinsic_size_negative__content_box")
     void blockMarginXIntrinsicSizeNegativeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -9318,7 +9325,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_x_intrinsic_size_positive__border_box")
     void blockMarginXIntrinsicSizePositiveBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -9359,7 +9366,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_x_intrinsic_size_positive__content_box")
     void blockMarginXIntrinsicSizePositiveContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -9403,7 +9410,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_x_percentage_fixed_size_negative__border_box")
     void blockMarginXPercentageFixedSizeNegativeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -9445,7 +9452,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_x_percentage_fixed_size_negative__content_box")
     void blockMarginXPercentageFixedSizeNegativeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -9490,7 +9497,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_x_percentage_fixed_size_positive__border_box")
     void blockMarginXPercentageFixedSizePositiveBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -9532,7 +9539,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_x_percentage_fixed_size_positive__content_box")
     void blockMarginXPercentageFixedSizePositiveContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -9577,7 +9584,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_x_percentage_intrinsic_size_other_negative__border_box")
     void blockMarginXPercentageIntrinsicSizeOtherNegativeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -9618,7 +9625,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_x_percentage_intrinsic_size_other_negative__content_box")
     void blockMarginXPercentageIntrinsicSizeOtherNegativeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -9662,7 +9669,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_x_percentage_intrinsic_size_other_positive__border_box")
     void blockMarginXPercentageIntrinsicSizeOtherPositiveBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -9703,7 +9710,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_x_percentage_intrinsic_size_other_positive__content_box")
     void blockMarginXPercentageIntrinsicSizeOtherPositiveContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -9747,7 +9754,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_x_percentage_intrinsic_size_self_negative__border_box")
     void blockMarginXPercentageIntrinsicSizeSelfNegativeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -9778,7 +9785,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_x_percentage_intrinsic_size_self_negative__content_box")
     void blockMarginXPercentageIntrinsicSizeSelfNegativeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -9811,7 +9818,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_x_percentage_intrinsic_size_self_positive__border_box")
     void blockMarginXPercentageIntrinsicSizeSelfPositiveBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -9842,7 +9849,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_x_percentage_intrinsic_size_self_positive__content_box")
     void blockMarginXPercentageIntrinsicSizeSelfPositiveContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -9875,7 +9882,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_complex__border_box")
     void blockMarginYCollapseComplexBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -9973,7 +9980,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_complex__content_box")
     void blockMarginYCollapseComplexContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -10079,7 +10086,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_blocked_by_aspect_ratio__border_box")
     void blockMarginYCollapseThroughBlockedByAspectRatioBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -10136,7 +10143,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_blocked_by_aspect_ratio__content_box")
     void blockMarginYCollapseThroughBlockedByAspectRatioContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -10197,7 +10204,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_blocked_by_border_bottom__border_box")
     void blockMarginYCollapseThroughBlockedByBorderBottomBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -10253,7 +10260,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_blocked_by_border_bottom__content_box")
     void blockMarginYCollapseThroughBlockedByBorderBottomContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -10313,7 +10320,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_blocked_by_border_top__border_box")
     void blockMarginYCollapseThroughBlockedByBorderTopBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -10369,7 +10376,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_blocked_by_border_top__content_box")
     void blockMarginYCollapseThroughBlockedByBorderTopContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -10429,7 +10436,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_blocked_by_height__border_box")
     void blockMarginYCollapseThroughBlockedByHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -10486,7 +10493,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_blocked_by_height__content_box")
     void blockMarginYCollapseThroughBlockedByHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -10547,7 +10554,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_blocked_by_line_box__border_box")
     void blockMarginYCollapseThroughBlockedByLineBoxBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -10604,7 +10611,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_blocked_by_line_box__content_box")
     void blockMarginYCollapseThroughBlockedByLineBoxContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -10665,7 +10672,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_blocked_by_line_box_with_height_zero__border_box")
     void blockMarginYCollapseThroughBlockedByLineBoxWithHeightZeroBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -10723,7 +10730,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_blocked_by_line_box_with_height_zero__content_box")
     void blockMarginYCollapseThroughBlockedByLineBoxWithHeightZeroContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -10785,7 +10792,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_blocked_by_line_box_with_max_height_zero__border_box")
     void blockMarginYCollapseThroughBlockedByLineBoxWithMaxHeightZeroBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -10843,7 +10850,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_blocked_by_line_box_with_max_height_zero__content_box")
     void blockMarginYCollapseThroughBlockedByLineBoxWithMaxHeightZeroContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -10905,7 +10912,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_blocked_by_min_height__border_box")
     void blockMarginYCollapseThroughBlockedByMinHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -10962,7 +10969,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_blocked_by_min_height__content_box")
     void blockMarginYCollapseThroughBlockedByMinHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -11023,7 +11030,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_blocked_by_overflow_x_hidden__border_box")
     void blockMarginYCollapseThroughBlockedByOverflowXHiddenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -11080,7 +11087,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_blocked_by_overflow_x_hidden__content_box")
     void blockMarginYCollapseThroughBlockedByOverflowXHiddenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -11141,7 +11148,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_blocked_by_overflow_x_scroll__border_box")
     void blockMarginYCollapseThroughBlockedByOverflowXScrollBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -11199,7 +11206,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_blocked_by_overflow_x_scroll__content_box")
     void blockMarginYCollapseThroughBlockedByOverflowXScrollContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -11261,7 +11268,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_blocked_by_overflow_y_hidden__border_box")
     void blockMarginYCollapseThroughBlockedByOverflowYHiddenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -11318,7 +11325,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_blocked_by_overflow_y_hidden__content_box")
     void blockMarginYCollapseThroughBlockedByOverflowYHiddenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -11379,7 +11386,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_blocked_by_overflow_y_scroll__border_box")
     void blockMarginYCollapseThroughBlockedByOverflowYScrollBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -11437,7 +11444,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_blocked_by_overflow_y_scroll__content_box")
     void blockMarginYCollapseThroughBlockedByOverflowYScrollContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -11499,7 +11506,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_blocked_by_padding_bottom__border_box")
     void blockMarginYCollapseThroughBlockedByPaddingBottomBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -11556,7 +11563,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_blocked_by_padding_bottom__content_box")
     void blockMarginYCollapseThroughBlockedByPaddingBottomContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -11617,7 +11624,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_blocked_by_padding_top__border_box")
     void blockMarginYCollapseThroughBlockedByPaddingTopBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -11674,7 +11681,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_blocked_by_padding_top__content_box")
     void blockMarginYCollapseThroughBlockedByPaddingTopContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -11735,7 +11742,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_negative__border_box")
     void blockMarginYCollapseThroughNegativeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -11791,7 +11798,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_negative__content_box")
     void blockMarginYCollapseThroughNegativeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -11851,7 +11858,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_positive__border_box")
     void blockMarginYCollapseThroughPositiveBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -11907,7 +11914,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_positive__content_box")
     void blockMarginYCollapseThroughPositiveContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -11967,7 +11974,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_positive_and_negative__border_box")
     void blockMarginYCollapseThroughPositiveAndNegativeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -12023,7 +12030,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_positive_and_negative__content_box")
     void blockMarginYCollapseThroughPositiveAndNegativeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -12083,7 +12090,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_with_absolute_child__border_box")
     void blockMarginYCollapseThroughWithAbsoluteChildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -12150,7 +12157,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_collapse_through_with_absolute_child__content_box")
     void blockMarginYCollapseThroughWithAbsoluteChildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -12222,7 +12229,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_first_child_collapse_blocked_by_border_top__border_box")
     void blockMarginYFirstChildCollapseBlockedByBorderTopBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -12275,7 +12282,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_first_child_collapse_blocked_by_border_top__content_box")
     void blockMarginYFirstChildCollapseBlockedByBorderTopContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -12332,7 +12339,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_first_child_collapse_blocked_by_overflow_x_hidden__border_box")
     void blockMarginYFirstChildCollapseBlockedByOverflowXHiddenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -12386,7 +12393,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_first_child_collapse_blocked_by_overflow_x_hidden__content_box")
     void blockMarginYFirstChildCollapseBlockedByOverflowXHiddenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -12444,7 +12451,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_first_child_collapse_blocked_by_overflow_x_scroll__border_box")
     void blockMarginYFirstChildCollapseBlockedByOverflowXScrollBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -12499,7 +12506,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_first_child_collapse_blocked_by_overflow_x_scroll__content_box")
     void blockMarginYFirstChildCollapseBlockedByOverflowXScrollContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -12558,7 +12565,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_first_child_collapse_blocked_by_overflow_y_hidden__border_box")
     void blockMarginYFirstChildCollapseBlockedByOverflowYHiddenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -12612,7 +12619,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_first_child_collapse_blocked_by_overflow_y_hidden__content_box")
     void blockMarginYFirstChildCollapseBlockedByOverflowYHiddenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -12670,7 +12677,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_first_child_collapse_blocked_by_overflow_y_scroll__border_box")
     void blockMarginYFirstChildCollapseBlockedByOverflowYScrollBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -12725,7 +12732,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_first_child_collapse_blocked_by_overflow_y_scroll__content_box")
     void blockMarginYFirstChildCollapseBlockedByOverflowYScrollContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -12784,7 +12791,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_first_child_collapse_blocked_by_padding_top__border_box")
     void blockMarginYFirstChildCollapseBlockedByPaddingTopBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -12838,7 +12845,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_first_child_collapse_blocked_by_padding_top__content_box")
     void blockMarginYFirstChildCollapseBlockedByPaddingTopContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -12896,7 +12903,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_first_child_collapse_negative_equal__border_box")
     void blockMarginYFirstChildCollapseNegativeEqualBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -12949,7 +12956,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_first_child_collapse_negative_equal__content_box")
     void blockMarginYFirstChildCollapseNegativeEqualContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -13006,7 +13013,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_first_child_collapse_negative_parent_larger__border_box")
     void blockMarginYFirstChildCollapseNegativeParentLargerBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -13059,7 +13066,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_first_child_collapse_negative_parent_larger__content_box")
     void blockMarginYFirstChildCollapseNegativeParentLargerContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -13116,7 +13123,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_first_child_collapse_negative_parent_smaller__border_box")
     void blockMarginYFirstChildCollapseNegativeParentSmallerBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -13169,7 +13176,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_first_child_collapse_negative_parent_smaller__content_box")
     void blockMarginYFirstChildCollapseNegativeParentSmallerContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -13226,7 +13233,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_first_child_collapse_not_blocked_by_border_bottom__border_box")
     void blockMarginYFirstChildCollapseNotBlockedByBorderBottomBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -13279,7 +13286,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_first_child_collapse_not_blocked_by_border_bottom__content_box")
     void blockMarginYFirstChildCollapseNotBlockedByBorderBottomContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -13336,7 +13343,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_first_child_collapse_not_blocked_by_padding_bottom__border_box")
     void blockMarginYFirstChildCollapseNotBlockedByPaddingBottomBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -13390,7 +13397,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_first_child_collapse_not_blocked_by_padding_bottom__content_box")
     void blockMarginYFirstChildCollapseNotBlockedByPaddingBottomContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -13448,7 +13455,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_first_child_collapse_positive_and_negative__border_box")
     void blockMarginYFirstChildCollapsePositiveAndNegativeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -13565,7 +13572,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_first_child_collapse_positive_and_negative__content_box")
     void blockMarginYFirstChildCollapsePositiveAndNegativeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -13692,7 +13699,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_first_child_collapse_positive_equal__border_box")
     void blockMarginYFirstChildCollapsePositiveEqualBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -13745,7 +13752,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_first_child_collapse_positive_equal__content_box")
     void blockMarginYFirstChildCollapsePositiveEqualContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -13802,7 +13809,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_first_child_collapse_positive_parent_larger__border_box")
     void blockMarginYFirstChildCollapsePositiveParentLargerBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -13855,7 +13862,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_first_child_collapse_positive_parent_larger__content_box")
     void blockMarginYFirstChildCollapsePositiveParentLargerContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -13912,7 +13919,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_first_child_collapse_positive_parent_smaller__border_box")
     void blockMarginYFirstChildCollapsePositiveParentSmallerBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -13965,7 +13972,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_first_child_collapse_positive_parent_smaller__content_box")
     void blockMarginYFirstChildCollapsePositiveParentSmallerContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -14022,7 +14029,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_first_granchild_collapse_positive_and_negative__border_box")
     void blockMarginYFirstGranchildCollapsePositiveAndNegativeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0000Style = new TaffyStyle();
         node0000Style.direction = TaffyDirection.LTR;
@@ -14172,7 +14179,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_first_granchild_collapse_positive_and_negative__content_box")
     void blockMarginYFirstGranchildCollapsePositiveAndNegativeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0000Style = new TaffyStyle();
         node0000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -14335,7 +14342,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_first_granchild_collapse_positive_equal__border_box")
     void blockMarginYFirstGranchildCollapsePositiveEqualBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0000Style = new TaffyStyle();
         node0000Style.direction = TaffyDirection.LTR;
@@ -14399,7 +14406,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_first_granchild_collapse_positive_equal__content_box")
     void blockMarginYFirstGranchildCollapsePositiveEqualContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0000Style = new TaffyStyle();
         node0000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -14468,7 +14475,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_last_child_collapse_blocked_by_border_bottom__border_box")
     void blockMarginYLastChildCollapseBlockedByBorderBottomBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -14521,7 +14528,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_last_child_collapse_blocked_by_border_bottom__content_box")
     void blockMarginYLastChildCollapseBlockedByBorderBottomContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -14578,7 +14585,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_last_child_collapse_blocked_by_overflow_x_hidden__border_box")
     void blockMarginYLastChildCollapseBlockedByOverflowXHiddenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -14632,7 +14639,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_last_child_collapse_blocked_by_overflow_x_hidden__content_box")
     void blockMarginYLastChildCollapseBlockedByOverflowXHiddenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -14690,7 +14697,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_last_child_collapse_blocked_by_overflow_x_scroll__border_box")
     void blockMarginYLastChildCollapseBlockedByOverflowXScrollBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -14745,7 +14752,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_last_child_collapse_blocked_by_overflow_x_scroll__content_box")
     void blockMarginYLastChildCollapseBlockedByOverflowXScrollContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -14804,7 +14811,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_last_child_collapse_blocked_by_overflow_y_hidden__border_box")
     void blockMarginYLastChildCollapseBlockedByOverflowYHiddenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -14858,7 +14865,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_last_child_collapse_blocked_by_overflow_y_hidden__content_box")
     void blockMarginYLastChildCollapseBlockedByOverflowYHiddenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -14916,7 +14923,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_last_child_collapse_blocked_by_overflow_y_scroll__border_box")
     void blockMarginYLastChildCollapseBlockedByOverflowYScrollBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -14971,7 +14978,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_last_child_collapse_blocked_by_overflow_y_scroll__content_box")
     void blockMarginYLastChildCollapseBlockedByOverflowYScrollContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -15030,7 +15037,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_last_child_collapse_blocked_by_padding_bottom__border_box")
     void blockMarginYLastChildCollapseBlockedByPaddingBottomBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -15084,7 +15091,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_last_child_collapse_blocked_by_padding_bottom__content_box")
     void blockMarginYLastChildCollapseBlockedByPaddingBottomContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -15142,7 +15149,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_last_child_collapse_negative_equal__border_box")
     void blockMarginYLastChildCollapseNegativeEqualBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -15195,7 +15202,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_last_child_collapse_negative_equal__content_box")
     void blockMarginYLastChildCollapseNegativeEqualContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -15252,7 +15259,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_last_child_collapse_negative_parent_larger__border_box")
     void blockMarginYLastChildCollapseNegativeParentLargerBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -15305,7 +15312,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_last_child_collapse_negative_parent_larger__content_box")
     void blockMarginYLastChildCollapseNegativeParentLargerContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -15362,7 +15369,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_last_child_collapse_negative_parent_smaller__border_box")
     void blockMarginYLastChildCollapseNegativeParentSmallerBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -15415,7 +15422,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_last_child_collapse_negative_parent_smaller__content_box")
     void blockMarginYLastChildCollapseNegativeParentSmallerContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -15472,7 +15479,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_last_child_collapse_not_blocked_by_border_top__border_box")
     void blockMarginYLastChildCollapseNotBlockedByBorderTopBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -15525,7 +15532,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_last_child_collapse_not_blocked_by_border_top__content_box")
     void blockMarginYLastChildCollapseNotBlockedByBorderTopContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -15582,7 +15589,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_last_child_collapse_not_blocked_by_padding_top__border_box")
     void blockMarginYLastChildCollapseNotBlockedByPaddingTopBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -15636,7 +15643,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_last_child_collapse_not_blocked_by_padding_top__content_box")
     void blockMarginYLastChildCollapseNotBlockedByPaddingTopContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -15694,7 +15701,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_last_child_collapse_positive_and_negative__border_box")
     void blockMarginYLastChildCollapsePositiveAndNegativeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -15811,7 +15818,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_last_child_collapse_positive_and_negative__content_box")
     void blockMarginYLastChildCollapsePositiveAndNegativeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -15938,7 +15945,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_last_child_collapse_positive_equal__border_box")
     void blockMarginYLastChildCollapsePositiveEqualBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -15991,7 +15998,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_last_child_collapse_positive_equal__content_box")
     void blockMarginYLastChildCollapsePositiveEqualContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -16048,7 +16055,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_last_child_collapse_positive_parent_larger__border_box")
     void blockMarginYLastChildCollapsePositiveParentLargerBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -16101,7 +16108,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_last_child_collapse_positive_parent_larger__content_box")
     void blockMarginYLastChildCollapsePositiveParentLargerContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -16158,7 +16165,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_last_child_collapse_positive_parent_smaller__border_box")
     void blockMarginYLastChildCollapsePositiveParentSmallerBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -16211,7 +16218,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_last_child_collapse_positive_parent_smaller__content_box")
     void blockMarginYLastChildCollapsePositiveParentSmallerContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -16268,7 +16275,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_last_granchild_collapse_positive_equal__border_box")
     void blockMarginYLastGranchildCollapsePositiveEqualBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0000Style = new TaffyStyle();
         node0000Style.direction = TaffyDirection.LTR;
@@ -16332,7 +16339,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_last_granchild_collapse_positive_equal__content_box")
     void blockMarginYLastGranchildCollapsePositiveEqualContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0000Style = new TaffyStyle();
         node0000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -16401,7 +16408,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_sibling_collapse_negative__border_box")
     void blockMarginYSiblingCollapseNegativeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -16466,7 +16473,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_sibling_collapse_negative__content_box")
     void blockMarginYSiblingCollapseNegativeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -16536,7 +16543,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_sibling_collapse_negative_percentage__border_box")
     void blockMarginYSiblingCollapseNegativePercentageBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -16601,7 +16608,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_sibling_collapse_negative_percentage__content_box")
     void blockMarginYSiblingCollapseNegativePercentageContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -16671,7 +16678,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_sibling_collapse_positive__border_box")
     void blockMarginYSiblingCollapsePositiveBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -16736,7 +16743,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_sibling_collapse_positive__content_box")
     void blockMarginYSiblingCollapsePositiveContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -16806,7 +16813,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_sibling_collapse_positive_and_negative__border_box")
     void blockMarginYSiblingCollapsePositiveAndNegativeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -16904,7 +16911,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_sibling_collapse_positive_and_negative__content_box")
     void blockMarginYSiblingCollapsePositiveAndNegativeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -17010,7 +17017,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_sibling_collapse_positive_and_negative_percentage__border_box")
     void blockMarginYSiblingCollapsePositiveAndNegativePercentageBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -17108,7 +17115,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_sibling_collapse_positive_and_negative_percentage__content_box")
     void blockMarginYSiblingCollapsePositiveAndNegativePercentageContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -17214,7 +17221,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_sibling_collapse_positive_percentage__border_box")
     void blockMarginYSiblingCollapsePositivePercentageBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -17279,7 +17286,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_sibling_collapse_positive_percentage__content_box")
     void blockMarginYSiblingCollapsePositivePercentageContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -17349,7 +17356,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_simple_negative__border_box")
     void blockMarginYSimpleNegativeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -17391,7 +17398,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_simple_negative__content_box")
     void blockMarginYSimpleNegativeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -17436,7 +17443,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_simple_negative_percentage_other__border_box")
     void blockMarginYSimpleNegativePercentageOtherBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -17478,7 +17485,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_simple_negative_percentage_other__content_box")
     void blockMarginYSimpleNegativePercentageOtherContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -17523,7 +17530,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_simple_negative_percentage_self__border_box")
     void blockMarginYSimpleNegativePercentageSelfBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -17565,7 +17572,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_simple_negative_percentage_self__content_box")
     void blockMarginYSimpleNegativePercentageSelfContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -17610,7 +17617,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_simple_positive__border_box")
     void blockMarginYSimplePositiveBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -17652,7 +17659,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_simple_positive__content_box")
     void blockMarginYSimplePositiveContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -17697,7 +17704,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_simple_positive_percentage_other__border_box")
     void blockMarginYSimplePositivePercentageOtherBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -17738,7 +17745,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_simple_positive_percentage_other__content_box")
     void blockMarginYSimplePositivePercentageOtherContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -17782,7 +17789,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_simple_positive_percentage_self__border_box")
     void blockMarginYSimplePositivePercentageSelfBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -17823,7 +17830,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_simple_positive_percentage_self__content_box")
     void blockMarginYSimplePositivePercentageSelfContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -17867,7 +17874,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_total_collapse__border_box")
     void blockMarginYTotalCollapseBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -17935,7 +17942,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_total_collapse__content_box")
     void blockMarginYTotalCollapseContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -18008,7 +18015,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_total_collapse_complex__border_box")
     void blockMarginYTotalCollapseComplexBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -18106,7 +18113,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_margin_y_total_collapse_complex__content_box")
     void blockMarginYTotalCollapseComplexContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -18212,7 +18219,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_overflow_scrollbars_overridden_by_available_space__border_box")
     void blockOverflowScrollbarsOverriddenByAvailableSpaceBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -18256,7 +18263,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_overflow_scrollbars_overridden_by_available_space__content_box")
     void blockOverflowScrollbarsOverriddenByAvailableSpaceContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -18303,7 +18310,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_overflow_scrollbars_overridden_by_max_size__border_box")
     void blockOverflowScrollbarsOverriddenByMaxSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -18337,7 +18344,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_overflow_scrollbars_overridden_by_max_size__content_box")
     void blockOverflowScrollbarsOverriddenByMaxSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -18373,7 +18380,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_overflow_scrollbars_overridden_by_size__border_box")
     void blockOverflowScrollbarsOverriddenBySizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -18407,7 +18414,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_overflow_scrollbars_overridden_by_size__content_box")
     void blockOverflowScrollbarsOverriddenBySizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -18443,7 +18450,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_overflow_scrollbars_take_up_space_both_axis__border_box")
     void blockOverflowScrollbarsTakeUpSpaceBothAxisBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -18477,7 +18484,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_overflow_scrollbars_take_up_space_both_axis__content_box")
     void blockOverflowScrollbarsTakeUpSpaceBothAxisContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -18513,7 +18520,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_overflow_scrollbars_take_up_space_cross_axis__border_box")
     void blockOverflowScrollbarsTakeUpSpaceCrossAxisBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -18547,7 +18554,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_overflow_scrollbars_take_up_space_cross_axis__content_box")
     void blockOverflowScrollbarsTakeUpSpaceCrossAxisContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -18583,7 +18590,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_overflow_scrollbars_take_up_space_main_axis__border_box")
     void blockOverflowScrollbarsTakeUpSpaceMainAxisBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -18617,7 +18624,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_overflow_scrollbars_take_up_space_main_axis__content_box")
     void blockOverflowScrollbarsTakeUpSpaceMainAxisContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -18653,7 +18660,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_padding_border_fixed_size__border_box")
     void blockPaddingBorderFixedSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -18696,7 +18703,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_padding_border_fixed_size__content_box")
     void blockPaddingBorderFixedSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -18742,7 +18749,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_padding_border_intrinsic_size__border_box")
     void blockPaddingBorderIntrinsicSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -18784,7 +18791,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_padding_border_intrinsic_size__content_box")
     void blockPaddingBorderIntrinsicSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -18829,7 +18836,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_padding_border_overrides_max_size__border_box")
     void blockPaddingBorderOverridesMaxSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -18871,7 +18878,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_padding_border_overrides_max_size__content_box")
     void blockPaddingBorderOverridesMaxSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -18916,7 +18923,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_padding_border_overrides_min_size__border_box")
     void blockPaddingBorderOverridesMinSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -18958,7 +18965,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_padding_border_overrides_min_size__content_box")
     void blockPaddingBorderOverridesMinSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -19003,7 +19010,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_padding_border_overrides_size__border_box")
     void blockPaddingBorderOverridesSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -19045,7 +19052,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_padding_border_overrides_size__content_box")
     void blockPaddingBorderOverridesSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -19090,7 +19097,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_padding_border_percentage_fixed_size__border_box")
     void blockPaddingBorderPercentageFixedSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -19133,7 +19140,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_padding_border_percentage_fixed_size__content_box")
     void blockPaddingBorderPercentageFixedSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -19179,7 +19186,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_padding_border_percentage_intrinsic_size__border_box")
     void blockPaddingBorderPercentageIntrinsicSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -19221,7 +19228,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_padding_border_percentage_intrinsic_size__content_box")
     void blockPaddingBorderPercentageIntrinsicSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -19266,7 +19273,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_padding_fixed_size__border_box")
     void blockPaddingFixedSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -19308,7 +19315,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_padding_fixed_size__content_box")
     void blockPaddingFixedSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -19353,7 +19360,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_padding_intrinsic_size__border_box")
     void blockPaddingIntrinsicSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -19394,7 +19401,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_padding_intrinsic_size__content_box")
     void blockPaddingIntrinsicSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -19438,7 +19445,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_padding_percentage_fixed_size__border_box")
     void blockPaddingPercentageFixedSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -19481,7 +19488,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_padding_percentage_fixed_size__content_box")
     void blockPaddingPercentageFixedSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -19527,7 +19534,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_padding_percentage_intrinsic_size__border_box")
     void blockPaddingPercentageIntrinsicSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -19569,7 +19576,7 @@ public class BlockTest {
     @Test
     @DisplayName("block_padding_percentage_intrinsic_size__content_box")
     void blockPaddingPercentageIntrinsicSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -15,6 +15,13 @@ public class BlockflexTest {
 
     private static final float EPSILON = 0.1f;
 
+    /**
+     * Creates the tree a fixture is laid out in. Subclasses can override it to lay the fixtures out differently.
+     */
+    protected TaffyTree newTree() {
+        return new TaffyTree();
+    }
+
     private static MeasureFunc ahemTextMeasure(String text, boolean vertical) {
         final String trimmed = text == null ? "" : text.trim();
         return (knownDimensions, availableSpace) -> {
@@ -93,7 +100,7 @@ public class BlockflexTest {
     @Test
     @DisplayName("blockflex_block_in_flex_column__border_box")
     void blockflexBlockInFlexColumnBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -135,7 +142,7 @@ public class BlockflexTest {
     @Test
     @DisplayName("blockflex_block_in_flex_column__content_box")
     void blockflexBlockInFlexColumnContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -180,7 +187,7 @@ public class BlockflexTest {
     @Test
     @DisplayName("blockflex_block_in_flex_row__border_box")
     void blockflexBlockInFlexRowBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -221,7 +228,7 @@ public class BlockflexTest {
     @Test
     @DisplayName("blockflex_block_in_flex_row__content_box")
     void blockflexBlockInFlexRowContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -265,7 +272,7 @@ public class BlockflexTest {
     @Test
     @DisplayName("blockflex_flex_in_block__border_box")
     void blockflexFlexInBlockBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -316,7 +323,7 @@ public class BlockflexTest {
     @Test
     @DisplayName("blockflex_flex_in_block__content_box")
     void blockflexFlexInBlockContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -371,7 +378,7 @@ public class BlockflexTest {
     @Test
     @DisplayName("blockflex_margin_y_collapse_through_blocked_by_flex__border_box")
     void blockflexMarginYCollapseThroughBlockedByFlexBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -426,7 +433,7 @@ public class BlockflexTest {
     @Test
     @DisplayName("blockflex_margin_y_collapse_through_blocked_by_flex__content_box")
     void blockflexMarginYCollapseThroughBlockedByFlexContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -485,7 +492,7 @@ public class BlockflexTest {
     @Test
     @DisplayName("blockflex_margin_y_first_child_collapse_blocked_by_flex__border_box")
     void blockflexMarginYFirstChildCollapseBlockedByFlexBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -537,7 +544,7 @@ public class BlockflexTest {
     @Test
     @DisplayName("blockflex_margin_y_first_child_collapse_blocked_by_flex__content_box")
     void blockflexMarginYFirstChildCollapseBlockedByFlexContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -593,7 +600,7 @@ public class BlockflexTest {
     @Test
     @DisplayName("blockflex_margin_y_last_child_collapse_blocked_by_flex__border_box")
     void blockflexMarginYLastChildCollapseBlockedByFlexBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -645,7 +652,7 @@ public class BlockflexTest {
     @Test
     @DisplayName("blockflex_margin_y_last_child_collapse_blocked_by_flex__content_box")
     void blockflexMarginYLastChildCollapseBlockedByFlexContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -701,7 +708,7 @@ public class BlockflexTest {
     @Test
     @DisplayName("blockflex_overflow_hidden__border_box")
     void blockflexOverflowHiddenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -746,7 +753,7 @@ public class BlockflexTest {
     @Test
     @DisplayName("blockflex_overflow_hidden__content_box")
     void blockflexOverflowHiddenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
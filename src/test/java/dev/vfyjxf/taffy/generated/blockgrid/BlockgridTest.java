@@ -15,6 +15,13 @@ public class BlockgridTest {
 
     private static final float EPSILON = 0.1f;
 
+    /**
+     * Creates the tree a fixture is laid out in. Subclasses can override it to lay the fixtures out differently.
+     */
+    protected TaffyTree newTree() {
+        return new TaffyTree();
+    }
+
     private static MeasureFunc ahemTextMeasure(String text, boolean vertical) {
         final String trimmed = text == null ? "" : text.trim();
         return (knownDimensions, availableSpace) -> {
@@ -93,7 +100,7 @@ public class BlockgridTest {
     @Test
     @DisplayName("blockgrid_block_in_grid_auto__border_box")
     void blockgridBlockInGridAutoBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -135,7 +142,7 @@ public class BlockgridTest {
     @Test
     @DisplayName("blockgrid_block_in_grid_auto__content_box")
     void blockgridBlockInGridAutoContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -180,7 +187,7 @@ public class BlockgridTest {
     @Test
     @DisplayName("blockgrid_block_in_grid_fixed_fit_content_larger__border_box")
     void blockgridBlockInGridFixedFitContentLargerBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -222,7 +229,7 @@ public class BlockgridTest {
     @Test
     @DisplayName("blockgrid_block_in_grid_fixed_fit_content_larger__content_box")
     void blockgridBlockInGridFixedFitContentLargerContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -267,7 +274,7 @@ public class BlockgridTest {
     @Test
     @DisplayName("blockgrid_block_in_grid_fixed_fit_content_middle__border_box")
     void blockgridBlockInGridFixedFitContentMiddleBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -309,7 +316,7 @@ public class BlockgridTest {
     @Test
     @DisplayName("blockgrid_block_in_grid_fixed_fit_content_middle__content_box")
     void blockgridBlockInGridFixedFitContentMiddleContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -354,7 +361,7 @@ public class BlockgridTest {
     @Test
     @DisplayName("blockgrid_block_in_grid_fixed_fit_content_smaller__border_box")
     void blockgridBlockInGridFixedFitContentSmallerBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -396,7 +403,7 @@ public class BlockgridTest {
     @Test
     @DisplayName("blockgrid_block_in_grid_fixed_fit_content_smaller__content_box")
     void blockgridBlockInGridFixedFitContentSmallerContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -441,7 +448,7 @@ public class BlockgridTest {
     @Test
     @DisplayName("blockgrid_block_in_grid_fixed_larger__border_box")
     void blockgridBlockInGridFixedLargerBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -483,7 +490,7 @@ public class BlockgridTest {
     @Test
     @DisplayName("blockgrid_block_in_grid_fixed_larger__content_box")
     void blockgridBlockInGridFixedLargerContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -528,7 +535,7 @@ public class BlockgridTest {
     @Test
     @DisplayName("blockgrid_block_in_grid_fixed_middle__border_box")
     void blockgridBlockInGridFixedMiddleBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -570,7 +577,7 @@ public class BlockgridTest {
     @Test
     @DisplayName("blockgrid_block_in_grid_fixed_middle__content_box")
     void blockgridBlockInGridFixedMiddleContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -615,7 +622,7 @@ public class BlockgridTest {
     @Test
     @DisplayName("blockgrid_block_in_grid_fixed_smaller__border_box")
     void blockgridBlockInGridFixedSmallerBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -657,7 +664,7 @@ public class BlockgridTest {
     @Test
     @DisplayName("blockgrid_block_in_grid_fixed_smaller__content_box")
     void blockgridBlockInGridFixedSmallerContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -702,7 +709,7 @@ public class BlockgridTest {
     @Test
     @DisplayName("blockgrid_block_in_grid_fr__border_box")
     void blockgridBlockInGridFrBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -744,7 +751,7 @@ public class BlockgridTest {
     @Test
     @DisplayName("blockgrid_block_in_grid_fr__content_box")
     void blockgridBlockInGridFrContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -789,7 +796,7 @@ public class BlockgridTest {
     @Test
     @DisplayName("blockgrid_block_in_grid_max_content__border_box")
     void blockgridBlockInGridMaxContentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -831,7 +838,7 @@ public class BlockgridTest {
     @Test
     @DisplayName("blockgrid_block_in_grid_max_content__content_box")
     void blockgridBlockInGridMaxContentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -876,7 +883,7 @@ public class BlockgridTest {
     @Test
     @DisplayName("blockgrid_block_in_grid_min_content__border_box")
     void blockgridBlockInGridMinContentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -918,7 +925,7 @@ public class BlockgridTest {
     @Test
     @DisplayName("blockgrid_block_in_grid_min_content__content_box")
     void blockgridBlockInGridMinContentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -963,7 +970,7 @@ public class BlockgridTest {
     @Test
     @DisplayName("blockgrid_grid_in_block__border_box")
     void blockgridGridInBlockBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -1015,7 +1022,7 @@ public class BlockgridTest {
     @Test
     @DisplayName("blockgrid_grid_in_block__content_box")
     void blockgridGridInBlockContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1071,7 +1078,7 @@ public class BlockgridTest {
     @Test
     @DisplayName("blockgrid_margin_y_collapse_through_blocked_by_grid__border_box")
     void blockgridMarginYCollapseThroughBlockedByGridBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -1127,7 +1134,7 @@ public class BlockgridTest {
     @Test
     @DisplayName("blockgrid_margin_y_collapse_through_blocked_by_grid__content_box")
     void blockgridMarginYCollapseThroughBlockedByGridContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1187,7 +1194,7 @@ public class BlockgridTest {
     @Test
     @DisplayName("blockgrid_margin_y_first_child_collapse_blocked_by_grid__border_box")
     void blockgridMarginYFirstChildCollapseBlockedByGridBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -1240,7 +1247,7 @@ public class BlockgridTest {
     @Test
     @DisplayName("blockgrid_margin_y_first_child_collapse_blocked_by_grid__content_box")
     void blockgridMarginYFirstChildCollapseBlockedByGridContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1297,7 +1304,7 @@ public class BlockgridTest {
     @Test
     @DisplayName("blockgrid_margin_y_last_child_collapse_blocked_by_grid__border_box")
     void blockgridMarginYLastChildCollapseBlockedByGridBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -1350,7 +1357,7 @@ public class BlockgridTest {
     @Test
     @DisplayName("blockgrid_margin_y_last_child_collapse_blocked_by_grid__content_box")
     void blockgridMarginYLastChildCollapseBlockedByGridContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
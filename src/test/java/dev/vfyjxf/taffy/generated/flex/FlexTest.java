@@ -15,6 +15,13 @@ public class FlexTest {
 
     private static final float EPSILON = 0.1f;
 
+    /**
+     * Creates the tree a fixture is laid out in. Subclasses can override it to lay the fixtures out differently.
+     */
+    protected TaffyTree newTree() {
+        return new TaffyTree();
+    }
+
     private static MeasureFunc ahemTextMeasure(String text, boolean vertical) {
         final String trimmed = text == null ? "" : text.trim();
         return (knownDimensions, availableSpace) -> {
@@ -93,7 +100,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_aspect_ratio_aspect_ratio_overrides_height_of_full_inset__border_box")
     void absoluteAspectRatioAspectRatioOverridesHeightOfFullInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -125,7 +132,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_aspect_ratio_aspect_ratio_overrides_height_of_full_inset__content_box")
     void absoluteAspectRatioAspectRatioOverridesHeightOfFullInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -159,7 +166,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_aspect_ratio_fill_height__border_box")
     void absoluteAspectRatioFillHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -192,7 +199,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_aspect_ratio_fill_height__content_box")
     void absoluteAspectRatioFillHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -227,7 +234,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_aspect_ratio_fill_height_from_inset__border_box")
     void absoluteAspectRatioFillHeightFromInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -259,7 +266,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_aspect_ratio_fill_height_from_inset__content_box")
     void absoluteAspectRatioFillHeightFromInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -293,7 +300,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_aspect_ratio_fill_max_height__border_box")
     void absoluteAspectRatioFillMaxHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -326,7 +333,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_aspect_ratio_fill_max_height__content_box")
     void absoluteAspectRatioFillMaxHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -361,7 +368,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_aspect_ratio_fill_max_width__border_box")
     void absoluteAspectRatioFillMaxWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -394,7 +401,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_aspect_ratio_fill_max_width__content_box")
     void absoluteAspectRatioFillMaxWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -429,7 +436,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_aspect_ratio_fill_min_height__border_box")
     void absoluteAspectRatioFillMinHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -461,7 +468,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_aspect_ratio_fill_min_height__content_box")
     void absoluteAspectRatioFillMinHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -495,7 +502,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_aspect_ratio_fill_min_width__border_box")
     void absoluteAspectRatioFillMinWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -527,7 +534,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_aspect_ratio_fill_min_width__content_box")
     void absoluteAspectRatioFillMinWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -561,7 +568,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_aspect_ratio_fill_width__border_box")
     void absoluteAspectRatioFillWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -594,7 +601,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_aspect_ratio_fill_width__content_box")
     void absoluteAspectRatioFillWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -629,7 +636,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_aspect_ratio_fill_width_from_inset__border_box")
     void absoluteAspectRatioFillWidthFromInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -661,7 +668,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_aspect_ratio_fill_width_from_inset__content_box")
     void absoluteAspectRatioFillWidthFromInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -695,7 +702,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_aspect_ratio_height_overrides_inset__border_box")
     void absoluteAspectRatioHeightOverridesInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -728,7 +735,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_aspect_ratio_height_overrides_inset__content_box")
     void absoluteAspectRatioHeightOverridesInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -763,7 +770,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_aspect_ratio_width_overrides_inset__border_box")
     void absoluteAspectRatioWidthOverridesInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -796,7 +803,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_aspect_ratio_width_overrides_inset__content_box")
     void absoluteAspectRatioWidthOverridesInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -831,7 +838,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_child_with_cross_margin__border_box")
     void absoluteChildWithCrossMarginBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -890,7 +897,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_child_with_cross_margin__content_box")
     void absoluteChildWithCrossMarginContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -953,7 +960,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_child_with_main_margin__border_box")
     void absoluteChildWithMainMarginBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -985,7 +992,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_child_with_main_margin__content_box")
     void absoluteChildWithMainMarginContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1019,7 +1026,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_child_with_max_height__border_box")
     void absoluteChildWithMaxHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -1063,7 +1070,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_child_with_max_height__content_box")
     void absoluteChildWithMaxHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1110,7 +1117,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_child_with_max_height_larger_shrinkable_grandchild__border_box")
     void absoluteChildWithMaxHeightLargerShrinkableGrandchildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -1156,7 +1163,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_child_with_max_height_larger_shrinkable_grandchild__content_box")
     void absoluteChildWithMaxHeightLargerShrinkableGrandchildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1205,7 +1212,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_correct_cross_child_size_with_percentage__border_box")
     void absoluteCorrectCrossChildSizeWithPercentageBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -1277,7 +1284,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_correct_cross_child_size_with_percentage__content_box")
     void absoluteCorrectCrossChildSizeWithPercentageContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1355,7 +1362,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_align_items_and_justify_content_center__border_box")
     void absoluteLayoutAlignItemsAndJustifyContentCenterBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -1388,7 +1395,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_align_items_and_justify_content_center__content_box")
     void absoluteLayoutAlignItemsAndJustifyContentCenterContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1423,7 +1430,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_align_items_and_justify_content_center_and_bottom_position__border_box")
     void absoluteLayoutAlignItemsAndJustifyContentCenterAndBottomPositionBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -1457,7 +1464,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_align_items_and_justify_content_center_and_bottom_position__content_box")
     void absoluteLayoutAlignItemsAndJustifyContentCenterAndBottomPositionContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1493,7 +1500,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_align_items_and_justify_content_center_and_left_position__border_box")
     void absoluteLayoutAlignItemsAndJustifyContentCenterAndLeftPositionBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -1527,7 +1534,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_align_items_and_justify_content_center_and_left_position__content_box")
     void absoluteLayoutAlignItemsAndJustifyContentCenterAndLeftPositionContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1563,7 +1570,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_align_items_and_justify_content_center_and_right_position__border_box")
     void absoluteLayoutAlignItemsAndJustifyContentCenterAndRightPositionBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -1597,7 +1604,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_align_items_and_justify_content_center_and_right_position__content_box")
     void absoluteLayoutAlignItemsAndJustifyContentCenterAndRightPositionContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1633,7 +1640,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_align_items_and_justify_content_center_and_top_position__border_box")
     void absoluteLayoutAlignItemsAndJustifyContentCenterAndTopPositionBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -1667,7 +1674,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_align_items_and_justify_content_center_and_top_position__content_box")
     void absoluteLayoutAlignItemsAndJustifyContentCenterAndTopPositionContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1703,7 +1710,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_align_items_and_justify_content_flex_end__border_box")
     void absoluteLayoutAlignItemsAndJustifyContentFlexEndBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -1736,7 +1743,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_align_items_and_justify_content_flex_end__content_box")
     void absoluteLayoutAlignItemsAndJustifyContentFlexEndContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1771,7 +1778,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_align_items_center__border_box")
     void absoluteLayoutAlignItemsCenterBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -1803,7 +1810,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_align_items_center__content_box")
     void absoluteLayoutAlignItemsCenterContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1837,7 +1844,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_align_items_center_on_child_only__border_box")
     void absoluteLayoutAlignItemsCenterOnChildOnlyBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -1869,7 +1876,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_align_items_center_on_child_only__content_box")
     void absoluteLayoutAlignItemsCenterOnChildOnlyContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1903,7 +1910,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_child_order__border_box")
     void absoluteLayoutChildOrderBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -1956,7 +1963,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_child_order__content_box")
     void absoluteLayoutChildOrderContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2013,7 +2020,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_in_wrap_reverse_column_container__border_box")
     void absoluteLayoutInWrapReverseColumnContainerBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -2046,7 +2053,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_in_wrap_reverse_column_container__content_box")
     void absoluteLayoutInWrapReverseColumnContainerContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2081,7 +2088,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_in_wrap_reverse_column_container_flex_end__border_box")
     void absoluteLayoutInWrapReverseColumnContainerFlexEndBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -2115,7 +2122,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_in_wrap_reverse_column_container_flex_end__content_box")
     void absoluteLayoutInWrapReverseColumnContainerFlexEndContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2151,7 +2158,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_in_wrap_reverse_row_container__border_box")
     void absoluteLayoutInWrapReverseRowContainerBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -2183,7 +2190,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_in_wrap_reverse_row_container__content_box")
     void absoluteLayoutInWrapReverseRowContainerContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2217,7 +2224,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_in_wrap_reverse_row_container_flex_end__border_box")
     void absoluteLayoutInWrapReverseRowContainerFlexEndBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -2250,7 +2257,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_in_wrap_reverse_row_container_flex_end__content_box")
     void absoluteLayoutInWrapReverseRowContainerFlexEndContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2285,7 +2292,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_justify_content_center__border_box")
     void absoluteLayoutJustifyContentCenterBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -2317,7 +2324,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_justify_content_center__content_box")
     void absoluteLayoutJustifyContentCenterContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2351,7 +2358,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_no_size__border_box")
     void absoluteLayoutNoSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -2381,7 +2388,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_no_size__content_box")
     void absoluteLayoutNoSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2413,7 +2420,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_percentage_bottom_based_on_parent_height__border_box")
     void absoluteLayoutPercentageBottomBasedOnParentHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -2469,7 +2476,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_percentage_bottom_based_on_parent_height__content_box")
     void absoluteLayoutPercentageBottomBasedOnParentHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2529,7 +2536,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_percentage_height__border_box")
     void absoluteLayoutPercentageHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -2561,7 +2568,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_percentage_height__content_box")
     void absoluteLayoutPercentageHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2595,7 +2602,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_row_width_height_end_bottom__border_box")
     void absoluteLayoutRowWidthHeightEndBottomBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -2627,7 +2634,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_row_width_height_end_bottom__content_box")
     void absoluteLayoutRowWidthHeightEndBottomContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2661,7 +2668,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_start_top_end_bottom__border_box")
     void absoluteLayoutStartTopEndBottomBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -2692,7 +2699,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_start_top_end_bottom__content_box")
     void absoluteLayoutStartTopEndBottomContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2725,7 +2732,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_width_height_end_bottom__border_box")
     void absoluteLayoutWidthHeightEndBottomBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -2757,7 +2764,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_width_height_end_bottom__content_box")
     void absoluteLayoutWidthHeightEndBottomContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2791,7 +2798,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_width_height_start_top__border_box")
     void absoluteLayoutWidthHeightStartTopBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -2823,7 +2830,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_width_height_start_top__content_box")
     void absoluteLayoutWidthHeightStartTopContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2857,7 +2864,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_width_height_start_top_end_bottom__border_box")
     void absoluteLayoutWidthHeightStartTopEndBottomBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -2889,7 +2896,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_width_height_start_top_end_bottom__content_box")
     void absoluteLayoutWidthHeightStartTopEndBottomContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2923,7 +2930,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_within_border__border_box")
     void absoluteLayoutWithinBorderBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -2995,7 +3002,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_layout_within_border__content_box")
     void absoluteLayoutWithinBorderContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3072,7 +3079,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_margin_bottom_left__border_box")
     void absoluteMarginBottomLeftBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -3106,7 +3113,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_margin_bottom_left__content_box")
     void absoluteMarginBottomLeftContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3142,7 +3149,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_minmax_bottom_right_max__border_box")
     void absoluteMinmaxBottomRightMaxBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -3175,7 +3182,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_minmax_bottom_right_max__content_box")
     void absoluteMinmaxBottomRightMaxContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3210,7 +3217,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_minmax_bottom_right_min_max__border_box")
     void absoluteMinmaxBottomRightMinMaxBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -3243,7 +3250,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_minmax_bottom_right_min_max__content_box")
     void absoluteMinmaxBottomRightMinMaxContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3278,7 +3285,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_minmax_bottom_right_min_max_preferred__border_box")
     void absoluteMinmaxBottomRightMinMaxPreferredBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -3312,7 +3319,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_minmax_bottom_right_min_max_preferred__content_box")
     void absoluteMinmaxBottomRightMinMaxPreferredContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3348,7 +3355,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_minmax_top_left_bottom_right_max__border_box")
     void absoluteMinmaxTopLeftBottomRightMaxBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -3380,7 +3387,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_minmax_top_left_bottom_right_max__content_box")
     void absoluteMinmaxTopLeftBottomRightMaxContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3414,7 +3421,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_minmax_top_left_bottom_right_min_max__border_box")
     void absoluteMinmaxTopLeftBottomRightMinMaxBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -3447,7 +3454,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_minmax_top_left_bottom_right_min_max__content_box")
     void absoluteMinmaxTopLeftBottomRightMinMaxContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3482,7 +3489,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_padding_border_overrides_max_size__border_box")
     void absolutePaddingBorderOverridesMaxSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -3514,7 +3521,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_padding_border_overrides_max_size__content_box")
     void absolutePaddingBorderOverridesMaxSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3548,7 +3555,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_padding_border_overrides_size__border_box")
     void absolutePaddingBorderOverridesSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -3580,7 +3587,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_padding_border_overrides_size__content_box")
     void absolutePaddingBorderOverridesSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3614,7 +3621,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_resolved_insets__border_box")
     void absoluteResolvedInsetsBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -3793,7 +3800,7 @@ public class FlexTest {
     @Test
     @DisplayName("absolute_resolved_insets__content_box")
     void absoluteResolvedInsetsContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3987,7 +3994,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline__border_box")
     void alignBaselineBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -4028,7 +4035,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline__content_box")
     void alignBaselineContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -4072,7 +4079,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline_child__border_box")
     void alignBaselineChildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -4124,7 +4131,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline_child__content_box")
     void alignBaselineChildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -4180,7 +4187,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline_child_margin__border_box")
     void alignBaselineChildMarginBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -4234,7 +4241,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline_child_margin__content_box")
     void alignBaselineChildMarginContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -4292,7 +4299,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline_child_margin_percent__border_box")
     void alignBaselineChildMarginPercentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -4346,7 +4353,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline_child_margin_percent__content_box")
     void alignBaselineChildMarginPercentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -4404,7 +4411,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline_child_multiline__border_box")
     void alignBaselineChildMultilineBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -4486,7 +4493,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline_child_multiline__content_box")
     void alignBaselineChildMultilineContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -4575,7 +4582,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline_child_multiline_no_override_on_secondline__border_box")
     void alignBaselineChildMultilineNoOverrideOnSecondlineBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -4658,7 +4665,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline_child_multiline_no_override_on_secondline__content_box")
     void alignBaselineChildMultilineNoOverrideOnSecondlineContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -4748,7 +4755,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline_child_multiline_override__border_box")
     void alignBaselineChildMultilineOverrideBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -4832,7 +4839,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline_child_multiline_override__content_box")
     void alignBaselineChildMultilineOverrideContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -4923,7 +4930,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline_child_padding__border_box")
     void alignBaselineChildPaddingBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -4977,7 +4984,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline_child_padding__content_box")
     void alignBaselineChildPaddingContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -5035,7 +5042,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline_child_top__border_box")
     void alignBaselineChildTopBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -5088,7 +5095,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline_child_top__content_box")
     void alignBaselineChildTopContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -5145,7 +5152,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline_child_top2__border_box")
     void alignBaselineChildTop2BorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -5197,7 +5204,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline_child_top2__content_box")
     void alignBaselineChildTop2ContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -5253,7 +5260,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline_column__border_box")
     void alignBaselineColumnBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -5295,7 +5302,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline_column__content_box")
     void alignBaselineColumnContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -5340,7 +5347,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline_double_nested_child__border_box")
     void alignBaselineDoubleNestedChildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -5401,7 +5408,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline_double_nested_child__content_box")
     void alignBaselineDoubleNestedChildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -5467,7 +5474,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline_multiline__border_box")
     void alignBaselineMultilineBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -5551,7 +5558,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline_multiline__content_box")
     void alignBaselineMultilineContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -5642,7 +5649,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline_multiline_column__border_box")
     void alignBaselineMultilineColumnBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -5727,7 +5734,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline_multiline_column__content_box")
     void alignBaselineMultilineColumnContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -5819,7 +5826,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline_multiline_column2__border_box")
     void alignBaselineMultilineColumn2BorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -5908,7 +5915,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline_multiline_column2__content_box")
     void alignBaselineMultilineColumn2ContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -6004,7 +6011,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline_multiline_row_and_column__border_box")
     void alignBaselineMultilineRowAndColumnBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -6088,7 +6095,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline_multiline_row_and_column__content_box")
     void alignBaselineMultilineRowAndColumnContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -6179,7 +6186,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline_nested_child__border_box")
     void alignBaselineNestedChildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -6231,7 +6238,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline_nested_child__content_box")
     void alignBaselineNestedChildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -6287,7 +6294,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline_nested_column__border_box")
     void alignBaselineNestedColumnBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -6361,7 +6368,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_baseline_nested_column__content_box")
     void alignBaselineNestedColumnContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -6441,7 +6448,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_center_should_size_based_on_content__border_box")
     void alignCenterShouldSizeBasedOnContentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -6495,7 +6502,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_center_should_size_based_on_content__content_box")
     void alignCenterShouldSizeBasedOnContentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -6553,7 +6560,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_center_single_line__border_box")
     void alignContentCenterSingleLineBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -6634,7 +6641,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_center_single_line__content_box")
     void alignContentCenterSingleLineContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -6722,7 +6729,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_center_single_line_negative_space__border_box")
     void alignContentCenterSingleLineNegativeSpaceBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -6767,7 +6774,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_center_single_line_negative_space__content_box")
     void alignContentCenterSingleLineNegativeSpaceContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -6815,7 +6822,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_center_single_line_negative_space_gap__border_box")
     void alignContentCenterSingleLineNegativeSpaceGapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -6861,7 +6868,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_center_single_line_negative_space_gap__content_box")
     void alignContentCenterSingleLineNegativeSpaceGapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -6910,7 +6917,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_center_wrapped__border_box")
     void alignContentCenterWrappedBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -6992,7 +6999,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_center_wrapped__content_box")
     void alignContentCenterWrappedContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -7081,7 +7088,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_center_wrapped_negative_space__border_box")
     void alignContentCenterWrappedNegativeSpaceBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -7149,7 +7156,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_center_wrapped_negative_space__content_box")
     void alignContentCenterWrappedNegativeSpaceContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -7222,7 +7229,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_center_wrapped_negative_space_gap__border_box")
     void alignContentCenterWrappedNegativeSpaceGapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -7291,7 +7298,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_center_wrapped_negative_space_gap__content_box")
     void alignContentCenterWrappedNegativeSpaceGapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -7365,7 +7372,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_end__border_box")
     void alignContentEndBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -7438,7 +7445,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_end__content_box")
     void alignContentEndContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -7517,7 +7524,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_end_single_line_negative_space__border_box")
     void alignContentEndSingleLineNegativeSpaceBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -7562,7 +7569,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_end_single_line_negative_space__content_box")
     void alignContentEndSingleLineNegativeSpaceContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -7610,7 +7617,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_end_single_line_negative_space_gap__border_box")
     void alignContentEndSingleLineNegativeSpaceGapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -7656,7 +7663,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_end_single_line_negative_space_gap__content_box")
     void alignContentEndSingleLineNegativeSpaceGapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -7705,7 +7712,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_end_wrapped_negative_space__border_box")
     void alignContentEndWrappedNegativeSpaceBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -7773,7 +7780,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_end_wrapped_negative_space__content_box")
     void alignContentEndWrappedNegativeSpaceContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -7846,7 +7853,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_end_wrapped_negative_space_gap__border_box")
     void alignContentEndWrappedNegativeSpaceGapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -7915,7 +7922,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_end_wrapped_negative_space_gap__content_box")
     void alignContentEndWrappedNegativeSpaceGapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -7989,7 +7996,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_flex_end__border_box")
     void alignContentFlexEndBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -8062,7 +8069,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_flex_end__content_box")
     void alignContentFlexEndContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -8141,7 +8148,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_flex_start__border_box")
     void alignContentFlexStartBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -8213,7 +8220,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_flex_start__content_box")
     void alignContentFlexStartContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -8291,7 +8298,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_flex_start_with_flex__border_box")
     void alignContentFlexStartWithFlexBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -8373,7 +8380,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_flex_start_with_flex__content_box")
     void alignContentFlexStartWithFlexContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -8461,7 +8468,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_flex_start_without_height_on_children__border_box")
     void alignContentFlexStartWithoutHeightOnChildrenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -8534,7 +8541,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_flex_start_without_height_on_children__content_box")
     void alignContentFlexStartWithoutHeightOnChildrenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -8613,7 +8620,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_not_stretch_with_align_items_stretch__border_box")
     void alignContentNotStretchWithAlignItemsStretchBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -8675,7 +8682,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_not_stretch_with_align_items_stretch__content_box")
     void alignContentNotStretchWithAlignItemsStretchContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -8742,7 +8749,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_around_single_line__border_box")
     void alignContentSpaceAroundSingleLineBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -8823,7 +8830,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_around_single_line__content_box")
     void alignContentSpaceAroundSingleLineContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -8911,7 +8918,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_around_single_line_negative_space__border_box")
     void alignContentSpaceAroundSingleLineNegativeSpaceBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -8956,7 +8963,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_around_single_line_negative_space__content_box")
     void alignContentSpaceAroundSingleLineNegativeSpaceContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -9004,7 +9011,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_around_single_line_negative_space_gap__border_box")
     void alignContentSpaceAroundSingleLineNegativeSpaceGapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -9050,7 +9057,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_around_single_line_negative_space_gap__content_box")
     void alignContentSpaceAroundSingleLineNegativeSpaceGapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -9099,7 +9106,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_around_wrapped__border_box")
     void alignContentSpaceAroundWrappedBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -9181,7 +9188,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_around_wrapped__content_box")
     void alignContentSpaceAroundWrappedContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -9270,7 +9277,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_around_wrapped_negative_space__border_box")
     void alignContentSpaceAroundWrappedNegativeSpaceBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -9338,7 +9345,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_around_wrapped_negative_space__content_box")
     void alignContentSpaceAroundWrappedNegativeSpaceContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -9411,7 +9418,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_around_wrapped_negative_space_gap__border_box")
     void alignContentSpaceAroundWrappedNegativeSpaceGapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -9480,7 +9487,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_around_wrapped_negative_space_gap__content_box")
     void alignContentSpaceAroundWrappedNegativeSpaceGapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -9554,7 +9561,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_around_wrapped_single__border_box")
     void alignContentSpaceAroundWrappedSingleBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -9586,7 +9593,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_around_wrapped_single__content_box")
     void alignContentSpaceAroundWrappedSingleContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -9620,7 +9627,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_between_single_line__border_box")
     void alignContentSpaceBetweenSingleLineBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -9701,7 +9708,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_between_single_line__content_box")
     void alignContentSpaceBetweenSingleLineContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -9789,7 +9796,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_between_single_line_negative_space__border_box")
     void alignContentSpaceBetweenSingleLineNegativeSpaceBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -9834,7 +9841,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_between_single_line_negative_space__content_box")
     void alignContentSpaceBetweenSingleLineNegativeSpaceContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -9882,7 +9889,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_between_single_line_negative_space_gap__border_box")
     void alignContentSpaceBetweenSingleLineNegativeSpaceGapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -9928,7 +9935,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_between_single_line_negative_space_gap__content_box")
     void alignContentSpaceBetweenSingleLineNegativeSpaceGapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -9977,7 +9984,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_between_wrapped__border_box")
     void alignContentSpaceBetweenWrappedBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -10059,7 +10066,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_between_wrapped__content_box")
     void alignContentSpaceBetweenWrappedContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -10148,7 +10155,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_between_wrapped_negative_space__border_box")
     void alignContentSpaceBetweenWrappedNegativeSpaceBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -10216,7 +10223,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_between_wrapped_negative_space__content_box")
     void alignContentSpaceBetweenWrappedNegativeSpaceContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -10289,7 +10296,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_between_wrapped_negative_space_gap__border_box")
     void alignContentSpaceBetweenWrappedNegativeSpaceGapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -10358,7 +10365,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_between_wrapped_negative_space_gap__content_box")
     void alignContentSpaceBetweenWrappedNegativeSpaceGapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -10432,7 +10439,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_between_wrapped_single__border_box")
     void alignContentSpaceBetweenWrappedSingleBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -10464,7 +10471,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_between_wrapped_single__content_box")
     void alignContentSpaceBetweenWrappedSingleContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -10498,7 +10505,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_evenly_single_line__border_box")
     void alignContentSpaceEvenlySingleLineBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -10579,7 +10586,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_evenly_single_line__content_box")
     void alignContentSpaceEvenlySingleLineContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -10667,7 +10674,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_evenly_single_line_negative_space__border_box")
     void alignContentSpaceEvenlySingleLineNegativeSpaceBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -10712,7 +10719,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_evenly_single_line_negative_space__content_box")
     void alignContentSpaceEvenlySingleLineNegativeSpaceContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -10760,7 +10767,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_evenly_single_line_negative_space_gap__border_box")
     void alignContentSpaceEvenlySingleLineNegativeSpaceGapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -10806,7 +10813,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_evenly_single_line_negative_space_gap__content_box")
     void alignContentSpaceEvenlySingleLineNegativeSpaceGapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -10855,7 +10862,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_evenly_wrapped__border_box")
     void alignContentSpaceEvenlyWrappedBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -10937,7 +10944,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_evenly_wrapped__content_box")
     void alignContentSpaceEvenlyWrappedContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -11026,7 +11033,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_evenly_wrapped_negative_space__border_box")
     void alignContentSpaceEvenlyWrappedNegativeSpaceBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -11094,7 +11101,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_evenly_wrapped_negative_space__content_box")
     void alignContentSpaceEvenlyWrappedNegativeSpaceContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -11167,7 +11174,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_evenly_wrapped_negative_space_gap__border_box")
     void alignContentSpaceEvenlyWrappedNegativeSpaceGapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -11236,7 +11243,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_evenly_wrapped_negative_space_gap__content_box")
     void alignContentSpaceEvenlyWrappedNegativeSpaceGapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -11310,7 +11317,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_evenly_wrapped_single__border_box")
     void alignContentSpaceEvenlyWrappedSingleBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -11342,7 +11349,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_space_evenly_wrapped_single__content_box")
     void alignContentSpaceEvenlyWrappedSingleContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -11376,7 +11383,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_spacearound__border_box")
     void alignContentSpacearoundBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -11448,7 +11455,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_spacearound__content_box")
     void alignContentSpacearoundContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -11526,7 +11533,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_spacebetween__border_box")
     void alignContentSpacebetweenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -11598,7 +11605,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_spacebetween__content_box")
     void alignContentSpacebetweenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -11676,7 +11683,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_start__border_box")
     void alignContentStartBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -11748,7 +11755,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_start__content_box")
     void alignContentStartContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -11826,7 +11833,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_start_single_line_negative_space__border_box")
     void alignContentStartSingleLineNegativeSpaceBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -11871,7 +11878,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_start_single_line_negative_space__content_box")
     void alignContentStartSingleLineNegativeSpaceContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -11919,7 +11926,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_start_single_line_negative_space_gap__border_box")
     void alignContentStartSingleLineNegativeSpaceGapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -11965,7 +11972,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_start_single_line_negative_space_gap__content_box")
     void alignContentStartSingleLineNegativeSpaceGapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -12014,7 +12021,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_start_wrapped_negative_space__border_box")
     void alignContentStartWrappedNegativeSpaceBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -12082,7 +12089,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_start_wrapped_negative_space__content_box")
     void alignContentStartWrappedNegativeSpaceContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -12155,7 +12162,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_stretch__border_box")
     void alignContentStretchBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -12228,7 +12235,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_stretch__content_box")
     void alignContentStretchContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -12307,7 +12314,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_stretch_column__border_box")
     void alignContentStretchColumnBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -12396,7 +12403,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_stretch_column__content_box")
     void alignContentStretchColumnContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -12492,7 +12499,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_stretch_is_not_overriding_align_items__border_box")
     void alignContentStretchIsNotOverridingAlignItemsBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -12535,7 +12542,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_stretch_is_not_overriding_align_items__content_box")
     void alignContentStretchIsNotOverridingAlignItemsContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -12581,7 +12588,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_stretch_row__border_box")
     void alignContentStretchRowBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -12653,7 +12660,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_stretch_row__content_box")
     void alignContentStretchRowContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -12731,7 +12738,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_stretch_row_with_children__border_box")
     void alignContentStretchRowWithChildrenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -12816,7 +12823,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_stretch_row_with_children__content_box")
     void alignContentStretchRowWithChildrenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -12908,7 +12915,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_stretch_row_with_fixed_height__border_box")
     void alignContentStretchRowWithFixedHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -12980,7 +12987,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_stretch_row_with_fixed_height__content_box")
     void alignContentStretchRowWithFixedHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -13058,7 +13065,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_stretch_row_with_flex__border_box")
     void alignContentStretchRowWithFlexBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -13136,7 +13143,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_stretch_row_with_flex__content_box")
     void alignContentStretchRowWithFlexContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -13220,7 +13227,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_stretch_row_with_flex_no_shrink__border_box")
     void alignContentStretchRowWithFlexNoShrinkBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -13298,7 +13305,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_stretch_row_with_flex_no_shrink__content_box")
     void alignContentStretchRowWithFlexNoShrinkContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -13382,7 +13389,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_stretch_row_with_margin__border_box")
     void alignContentStretchRowWithMarginBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -13456,7 +13463,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_stretch_row_with_margin__content_box")
     void alignContentStretchRowWithMarginContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -13536,7 +13543,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_stretch_row_with_max_height__border_box")
     void alignContentStretchRowWithMaxHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -13609,7 +13616,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_stretch_row_with_max_height__content_box")
     void alignContentStretchRowWithMaxHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -13688,7 +13695,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_stretch_row_with_min_height__border_box")
     void alignContentStretchRowWithMinHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -13761,7 +13768,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_stretch_row_with_min_height__content_box")
     void alignContentStretchRowWithMinHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -13840,7 +13847,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_stretch_row_with_padding__border_box")
     void alignContentStretchRowWithPaddingBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -13914,7 +13921,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_stretch_row_with_padding__content_box")
     void alignContentStretchRowWithPaddingContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -13994,7 +14001,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_stretch_row_with_single_row__border_box")
     void alignContentStretchRowWithSingleRowBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -14036,7 +14043,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_stretch_row_with_single_row__content_box")
     void alignContentStretchRowWithSingleRowContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -14081,7 +14088,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_stretch_row_wrap__border_box")
     void alignContentStretchRowWrapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -14123,7 +14130,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_content_stretch_row_wrap__content_box")
     void alignContentStretchRowWrapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -14168,7 +14175,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_flex_start_with_shrinking_children__border_box")
     void alignFlexStartWithShrinkingChildrenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -14220,7 +14227,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_flex_start_with_shrinking_children__content_box")
     void alignFlexStartWithShrinkingChildrenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -14276,7 +14283,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_flex_start_with_shrinking_children_with_stretch__border_box")
     void alignFlexStartWithShrinkingChildrenWithStretchBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -14329,7 +14336,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_flex_start_with_shrinking_children_with_stretch__content_box")
     void alignFlexStartWithShrinkingChildrenWithStretchContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -14386,7 +14393,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_flex_start_with_stretching_children__border_box")
     void alignFlexStartWithStretchingChildrenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -14438,7 +14445,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_flex_start_with_stretching_children__content_box")
     void alignFlexStartWithStretchingChildrenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -14494,7 +14501,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_center__border_box")
     void alignItemsCenterBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -14525,7 +14532,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_center__content_box")
     void alignItemsCenterContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -14558,7 +14565,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_center_child_with_margin_bigger_than_parent__border_box")
     void alignItemsCenterChildWithMarginBiggerThanParentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -14601,7 +14608,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_center_child_with_margin_bigger_than_parent__content_box")
     void alignItemsCenterChildWithMarginBiggerThanParentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -14647,7 +14654,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_center_child_without_margin_bigger_than_parent__border_box")
     void alignItemsCenterChildWithoutMarginBiggerThanParentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -14689,7 +14696,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_center_child_without_margin_bigger_than_parent__content_box")
     void alignItemsCenterChildWithoutMarginBiggerThanParentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -14734,7 +14741,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_center_justify_content_center__border_box")
     void alignItemsCenterJustifyContentCenterBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -14792,7 +14799,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_center_justify_content_center__content_box")
     void alignItemsCenterJustifyContentCenterContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -14854,7 +14861,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_center_min_max_with_padding__border_box")
     void alignItemsCenterMinMaxWithPaddingBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -14887,7 +14894,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_center_min_max_with_padding__content_box")
     void alignItemsCenterMinMaxWithPaddingContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -14922,7 +14929,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_center_with_child_margin__border_box")
     void alignItemsCenterWithChildMarginBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -14954,7 +14961,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_center_with_child_margin__content_box")
     void alignItemsCenterWithChildMarginContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -14988,7 +14995,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_center_with_child_top__border_box")
     void alignItemsCenterWithChildTopBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -15020,7 +15027,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_center_with_child_top__content_box")
     void alignItemsCenterWithChildTopContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -15054,7 +15061,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_center_with_height_with_padding_border_with_wrap__border_box")
     void alignItemsCenterWithHeightWithPaddingBorderWithWrapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -15138,7 +15145,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_center_with_height_with_padding_border_with_wrap__content_box")
     void alignItemsCenterWithHeightWithPaddingBorderWithWrapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -15229,7 +15236,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_center_with_max_height_percentage_with_align_content_flex_start__border_box")
     void alignItemsCenterWithMaxHeightPercentageWithAlignContentFlexStartBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -15282,7 +15289,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_center_with_max_height_percentage_with_align_content_flex_start__content_box")
     void alignItemsCenterWithMaxHeightPercentageWithAlignContentFlexStartContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -15339,7 +15346,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_center_with_max_height_with_align_content_flex_start__border_box")
     void alignItemsCenterWithMaxHeightWithAlignContentFlexStartBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -15382,7 +15389,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_center_with_max_height_with_align_content_flex_start__content_box")
     void alignItemsCenterWithMaxHeightWithAlignContentFlexStartContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -15428,7 +15435,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_center_with_max_height_with_padding_border__border_box")
     void alignItemsCenterWithMaxHeightWithPaddingBorderBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -15519,7 +15526,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_center_with_max_height_with_padding_border__content_box")
     void alignItemsCenterWithMaxHeightWithPaddingBorderContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -15617,7 +15624,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_center_with_min_height_percentage_with_align_content_flex_start__border_box")
     void alignItemsCenterWithMinHeightPercentageWithAlignContentFlexStartBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -15670,7 +15677,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_center_with_min_height_percentage_with_align_content_flex_start__content_box")
     void alignItemsCenterWithMinHeightPercentageWithAlignContentFlexStartContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -15727,7 +15734,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_center_with_min_height_with_align_content_flex_start__border_box")
     void alignItemsCenterWithMinHeightWithAlignContentFlexStartBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -15770,7 +15777,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_center_with_min_height_with_align_content_flex_start__content_box")
     void alignItemsCenterWithMinHeightWithAlignContentFlexStartContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -15816,7 +15823,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_center_with_min_height_with_align_content_flex_start_with_wrap__border_box")
     void alignItemsCenterWithMinHeightWithAlignContentFlexStartWithWrapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -15967,7 +15974,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_center_with_min_height_with_align_content_flex_start_with_wrap__content_box")
     void alignItemsCenterWithMinHeightWithAlignContentFlexStartWithWrapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -16131,7 +16138,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_center_with_min_height_with_padding_border__border_box")
     void alignItemsCenterWithMinHeightWithPaddingBorderBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -16221,7 +16228,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_center_with_min_height_with_padding_border__content_box")
     void alignItemsCenterWithMinHeightWithPaddingBorderContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -16318,7 +16325,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_flex_end__border_box")
     void alignItemsFlexEndBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -16349,7 +16356,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_flex_end__content_box")
     void alignItemsFlexEndContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -16382,7 +16389,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_flex_end_child_with_margin_bigger_than_parent__border_box")
     void alignItemsFlexEndChildWithMarginBiggerThanParentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -16425,7 +16432,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_flex_end_child_with_margin_bigger_than_parent__content_box")
     void alignItemsFlexEndChildWithMarginBiggerThanParentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -16471,7 +16478,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_flex_end_child_without_margin_bigger_than_parent__border_box")
     void alignItemsFlexEndChildWithoutMarginBiggerThanParentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -16513,7 +16520,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_flex_end_child_without_margin_bigger_than_parent__content_box")
     void alignItemsFlexEndChildWithoutMarginBiggerThanParentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -16558,7 +16565,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_flex_start__border_box")
     void alignItemsFlexStartBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -16589,7 +16596,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_flex_start__content_box")
     void alignItemsFlexStartContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -16622,7 +16629,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_min_max__border_box")
     void alignItemsMinMaxBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -16656,7 +16663,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_min_max__content_box")
     void alignItemsMinMaxContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -16692,7 +16699,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_stretch__border_box")
     void alignItemsStretchBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -16722,7 +16729,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_stretch__content_box")
     void alignItemsStretchContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -16754,7 +16761,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_stretch_min_cross__border_box")
     void alignItemsStretchMinCrossBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -16786,7 +16793,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_items_stretch_min_cross__content_box")
     void alignItemsStretchMinCrossContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -16820,7 +16827,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_self_baseline__border_box")
     void alignSelfBaselineBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -16872,7 +16879,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_self_baseline__content_box")
     void alignSelfBaselineContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -16928,7 +16935,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_self_center__border_box")
     void alignSelfCenterBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -16959,7 +16966,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_self_center__content_box")
     void alignSelfCenterContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -16992,7 +16999,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_self_center_undefined_max_height__border_box")
     void alignSelfCenterUndefinedMaxHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -17034,7 +17041,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_self_center_undefined_max_height__content_box")
     void alignSelfCenterUndefinedMaxHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -17079,7 +17086,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_self_flex_end__border_box")
     void alignSelfFlexEndBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -17110,7 +17117,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_self_flex_end__content_box")
     void alignSelfFlexEndContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -17143,7 +17150,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_self_flex_end_override_flex_start__border_box")
     void alignSelfFlexEndOverrideFlexStartBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -17175,7 +17182,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_self_flex_end_override_flex_start__content_box")
     void alignSelfFlexEndOverrideFlexStartContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -17209,7 +17216,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_self_flex_start__border_box")
     void alignSelfFlexStartBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -17240,7 +17247,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_self_flex_start__content_box")
     void alignSelfFlexStartContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -17273,7 +17280,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_stretch_should_size_based_on_parent__border_box")
     void alignStretchShouldSizeBasedOnParentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -17326,7 +17333,7 @@ public class FlexTest {
     @Test
     @DisplayName("align_stretch_should_size_based_on_parent__content_box")
     void alignStretchShouldSizeBasedOnParentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -17383,7 +17390,7 @@ public class FlexTest {
     @Test
     @DisplayName("android_news_feed__border_box")
     void androidNewsFeedBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000000Style = new TaffyStyle();
         node000000Style.direction = TaffyDirection.LTR;
@@ -17592,7 +17599,7 @@ public class FlexTest {
     @Test
     @DisplayName("android_news_feed__content_box")
     void androidNewsFeedContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000000Style = new TaffyStyle();
         node000000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -17818,7 +17825,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_column_fill_height__border_box")
     void aspectRatioFlexColumnFillHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -17851,7 +17858,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_column_fill_height__content_box")
     void aspectRatioFlexColumnFillHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -17886,7 +17893,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_column_fill_max_height__border_box")
     void aspectRatioFlexColumnFillMaxHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -17920,7 +17927,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_column_fill_max_height__content_box")
     void aspectRatioFlexColumnFillMaxHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -17956,7 +17963,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_column_fill_max_width__border_box")
     void aspectRatioFlexColumnFillMaxWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -17990,7 +17997,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_column_fill_max_width__content_box")
     void aspectRatioFlexColumnFillMaxWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -18026,7 +18033,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_column_fill_min_height__border_box")
     void aspectRatioFlexColumnFillMinHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -18059,7 +18066,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_column_fill_min_height__content_box")
     void aspectRatioFlexColumnFillMinHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -18094,7 +18101,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_column_fill_min_width__border_box")
     void aspectRatioFlexColumnFillMinWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -18127,7 +18134,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_column_fill_min_width__content_box")
     void aspectRatioFlexColumnFillMinWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -18162,7 +18169,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_column_fill_width__border_box")
     void aspectRatioFlexColumnFillWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -18195,7 +18202,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_column_fill_width__content_box")
     void aspectRatioFlexColumnFillWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -18230,7 +18237,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_column_fill_width_flex__border_box")
     void aspectRatioFlexColumnFillWidthFlexBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -18263,7 +18270,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_column_fill_width_flex__content_box")
     void aspectRatioFlexColumnFillWidthFlexContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -18298,7 +18305,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_column_stretch_fill_height__border_box")
     void aspectRatioFlexColumnStretchFillHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -18330,7 +18337,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_column_stretch_fill_height__content_box")
     void aspectRatioFlexColumnStretchFillHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -18364,7 +18371,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_column_stretch_fill_max_height__border_box")
     void aspectRatioFlexColumnStretchFillMaxHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -18397,7 +18404,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_column_stretch_fill_max_height__content_box")
     void aspectRatioFlexColumnStretchFillMaxHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -18432,7 +18439,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_column_stretch_fill_max_width__border_box")
     void aspectRatioFlexColumnStretchFillMaxWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -18465,7 +18472,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_column_stretch_fill_max_width__content_box")
     void aspectRatioFlexColumnStretchFillMaxWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -18500,7 +18507,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_column_stretch_fill_width__border_box")
     void aspectRatioFlexColumnStretchFillWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -18532,7 +18539,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_column_stretch_fill_width__content_box")
     void aspectRatioFlexColumnStretchFillWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -18566,7 +18573,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_row_fill_height__border_box")
     void aspectRatioFlexRowFillHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -18598,7 +18605,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_row_fill_height__content_box")
     void aspectRatioFlexRowFillHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -18632,7 +18639,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_row_fill_max_height__border_box")
     void aspectRatioFlexRowFillMaxHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -18665,7 +18672,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_row_fill_max_height__content_box")
     void aspectRatioFlexRowFillMaxHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -18700,7 +18707,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_row_fill_max_width__border_box")
     void aspectRatioFlexRowFillMaxWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -18733,7 +18740,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_row_fill_max_width__content_box")
     void aspectRatioFlexRowFillMaxWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -18768,7 +18775,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_row_fill_min_height__border_box")
     void aspectRatioFlexRowFillMinHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -18800,7 +18807,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_row_fill_min_height__content_box")
     void aspectRatioFlexRowFillMinHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -18834,7 +18841,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_row_fill_min_width__border_box")
     void aspectRatioFlexRowFillMinWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -18866,7 +18873,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_row_fill_min_width__content_box")
     void aspectRatioFlexRowFillMinWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -18900,7 +18907,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_row_fill_width__border_box")
     void aspectRatioFlexRowFillWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -18932,7 +18939,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_row_fill_width__content_box")
     void aspectRatioFlexRowFillWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -18966,7 +18973,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_row_fill_width_flex__border_box")
     void aspectRatioFlexRowFillWidthFlexBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -18999,7 +19006,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_row_fill_width_flex__content_box")
     void aspectRatioFlexRowFillWidthFlexContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -19034,7 +19041,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_row_stretch_fill_height__border_box")
     void aspectRatioFlexRowStretchFillHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -19065,7 +19072,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_row_stretch_fill_height__content_box")
     void aspectRatioFlexRowStretchFillHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -19098,7 +19105,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_row_stretch_fill_max_height__border_box")
     void aspectRatioFlexRowStretchFillMaxHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -19130,7 +19137,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_row_stretch_fill_max_height__content_box")
     void aspectRatioFlexRowStretchFillMaxHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -19164,7 +19171,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_row_stretch_fill_max_width__border_box")
     void aspectRatioFlexRowStretchFillMaxWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -19196,7 +19203,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_row_stretch_fill_max_width__content_box")
     void aspectRatioFlexRowStretchFillMaxWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -19230,7 +19237,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_row_stretch_fill_width__border_box")
     void aspectRatioFlexRowStretchFillWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -19261,7 +19268,7 @@ public class FlexTest {
     @Test
     @DisplayName("aspect_ratio_flex_row_stretch_fill_width__content_box")
     void aspectRatioFlexRowStretchFillWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -19294,7 +19301,7 @@ public class FlexTest {
     @Test
     @DisplayName("bevy_issue_10343_block__border_box")
     void bevyIssue10343BlockBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -19346,7 +19353,7 @@ public class FlexTest {
     @Test
     @DisplayName("bevy_issue_10343_block__content_box")
     void bevyIssue10343BlockContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -19402,7 +19409,7 @@ public class FlexTest {
     @Test
     @DisplayName("bevy_issue_10343_flex__border_box")
     void bevyIssue10343FlexBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -19453,7 +19460,7 @@ public class FlexTest {
     @Test
     @DisplayName("bevy_issue_10343_flex__content_box")
     void bevyIssue10343FlexContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -19508,7 +19515,7 @@ public class FlexTest {
     @Test
     @DisplayName("bevy_issue_10343_grid__border_box")
     void bevyIssue10343GridBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -19560,7 +19567,7 @@ public class FlexTest {
     @Test
     @DisplayName("bevy_issue_10343_grid__content_box")
     void bevyIssue10343GridContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -19616,7 +19623,7 @@ public class FlexTest {
     @Test
     @DisplayName("bevy_issue_16304__border_box")
     void bevyIssue16304BorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -19678,7 +19685,7 @@ public class FlexTest {
     @Test
     @DisplayName("bevy_issue_16304__content_box")
     void bevyIssue16304ContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -19745,7 +19752,7 @@ public class FlexTest {
     @Test
     @DisplayName("bevy_issue_21240__border_box")
     void bevyIssue21240BorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -19830,7 +19837,7 @@ public class FlexTest {
     @Test
     @DisplayName("bevy_issue_21240__content_box")
     void bevyIssue21240ContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -19922,7 +19929,7 @@ public class FlexTest {
     @Test
     @DisplayName("bevy_issue_7976_3_level__border_box")
     void bevyIssue79763LevelBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -19966,7 +19973,7 @@ public class FlexTest {
     @Test
     @DisplayName("bevy_issue_7976_3_level__content_box")
     void bevyIssue79763LevelContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -20013,7 +20020,7 @@ public class FlexTest {
     @Test
     @DisplayName("bevy_issue_7976_4_level__border_box")
     void bevyIssue79764LevelBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -20066,7 +20073,7 @@ public class FlexTest {
     @Test
     @DisplayName("bevy_issue_7976_4_level__content_box")
     void bevyIssue79764LevelContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -20123,7 +20130,7 @@ public class FlexTest {
     @Test
     @DisplayName("bevy_issue_7976_reduced__border_box")
     void bevyIssue7976ReducedBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -20154,7 +20161,7 @@ public class FlexTest {
     @Test
     @DisplayName("bevy_issue_7976_reduced__content_box")
     void bevyIssue7976ReducedContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -20187,7 +20194,7 @@ public class FlexTest {
     @Test
     @DisplayName("bevy_issue_8017__border_box")
     void bevyIssue8017BorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -20272,7 +20279,7 @@ public class FlexTest {
     @Test
     @DisplayName("bevy_issue_8017__content_box")
     void bevyIssue8017ContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -20364,7 +20371,7 @@ public class FlexTest {
     @Test
     @DisplayName("bevy_issue_8017_reduced__border_box")
     void bevyIssue8017ReducedBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -20424,7 +20431,7 @@ public class FlexTest {
     @Test
     @DisplayName("bevy_issue_8017_reduced__content_box")
     void bevyIssue8017ReducedContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -20489,7 +20496,7 @@ public class FlexTest {
     @Test
     @DisplayName("bevy_issue_8082__border_box")
     void bevyIssue8082BorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -20570,7 +20577,7 @@ public class FlexTest {
     @Test
     @DisplayName("bevy_issue_8082__content_box")
     void bevyIssue8082ContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -20657,7 +20664,7 @@ public class FlexTest {
     @Test
     @DisplayName("bevy_issue_8082_percent__border_box")
     void bevyIssue8082PercentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -20735,7 +20742,7 @@ public class FlexTest {
     @Test
     @DisplayName("bevy_issue_8082_percent__content_box")
     void bevyIssue8082PercentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -20819,7 +20826,7 @@ public class FlexTest {
     @Test
     @DisplayName("bevy_issue_9530__border_box")
     void bevyIssue9530BorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -20903,7 +20910,7 @@ public class FlexTest {
     @Test
     @DisplayName("bevy_issue_9530__content_box")
     void bevyIssue9530ContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -20993,7 +21000,7 @@ public class FlexTest {
     @Test
     @DisplayName("bevy_issue_9530_reduced__border_box")
     void bevyIssue9530ReducedBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -21036,7 +21043,7 @@ public class FlexTest {
     @Test
     @DisplayName("bevy_issue_9530_reduced__content_box")
     void bevyIssue9530ReducedContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -21082,7 +21089,7 @@ public class FlexTest {
     @Test
     @DisplayName("bevy_issue_9530_reduced2__border_box")
     void bevyIssue9530Reduced2BorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -21126,7 +21133,7 @@ public class FlexTest {
     @Test
     @DisplayName("bevy_issue_9530_reduced2__content_box")
     void bevyIssue9530Reduced2ContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -21173,7 +21180,7 @@ public class FlexTest {
     @Test
     @DisplayName("bevy_issue_9530_reduced3__border_box")
     void bevyIssue9530Reduced3BorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -21206,7 +21213,7 @@ public class FlexTest {
     @Test
     @DisplayName("bevy_issue_9530_reduced3__content_box")
     void bevyIssue9530Reduced3ContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -21241,7 +21248,7 @@ public class FlexTest {
     @Test
     @DisplayName("bevy_issue_9530_reduced4__border_box")
     void bevyIssue9530Reduced4BorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -21273,7 +21280,7 @@ public class FlexTest {
     @Test
     @DisplayName("bevy_issue_9530_reduced4__content_box")
     void bevyIssue9530Reduced4ContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -21307,7 +21314,7 @@ public class FlexTest {
     @Test
     @DisplayName("blitz_issue_88__border_box")
     void blitzIssue88BorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -21362,7 +21369,7 @@ public class FlexTest {
     @Test
     @DisplayName("blitz_issue_88__content_box")
     void blitzIssue88ContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -21421,7 +21428,7 @@ public class FlexTest {
     @Test
     @DisplayName("border_center_child__border_box")
     void borderCenterChildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -21454,7 +21461,7 @@ public class FlexTest {
     @Test
     @DisplayName("border_center_child__content_box")
     void borderCenterChildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -21489,7 +21496,7 @@ public class FlexTest {
     @Test
     @DisplayName("border_container_match_child__border_box")
     void borderContainerMatchChildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -21520,7 +21527,7 @@ public class FlexTest {
     @Test
     @DisplayName("border_container_match_child__content_box")
     void borderContainerMatchChildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -21553,7 +21560,7 @@ public class FlexTest {
     @Test
     @DisplayName("border_flex_child__border_box")
     void borderFlexChildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -21585,7 +21592,7 @@ public class FlexTest {
     @Test
     @DisplayName("border_flex_child__content_box")
     void borderFlexChildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -21619,7 +21626,7 @@ public class FlexTest {
     @Test
     @DisplayName("border_no_child__border_box")
     void borderNoChildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.direction = TaffyDirection.LTR;
@@ -21639,7 +21646,7 @@ public class FlexTest {
     @Test
     @DisplayName("border_no_child__content_box")
     void borderNoChildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.boxSizing = BoxSizing.CONTENT_BOX;
@@ -21660,7 +21667,7 @@ public class FlexTest {
     @Test
     @DisplayName("border_no_size__border_box")
     void borderNoSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.direction = TaffyDirection.LTR;
@@ -21681,7 +21688,7 @@ public class FlexTest {
     @Test
     @DisplayName("border_no_size__content_box")
     void borderNoSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.boxSizing = BoxSizing.CONTENT_BOX;
@@ -21703,7 +21710,7 @@ public class FlexTest {
     @Test
     @DisplayName("border_stretch_child__border_box")
     void borderStretchChildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -21734,7 +21741,7 @@ public class FlexTest {
     @Test
     @DisplayName("border_stretch_child__content_box")
     void borderStretchChildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -21767,7 +21774,7 @@ public class FlexTest {
     @Test
     @DisplayName("child_min_max_width_flexing__border_box")
     void childMinMaxWidthFlexingBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -21814,7 +21821,7 @@ public class FlexTest {
     @Test
     @DisplayName("child_min_max_width_flexing__content_box")
     void childMinMaxWidthFlexingContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -21864,7 +21871,7 @@ public class FlexTest {
     @Test
     @DisplayName("child_with_padding_align_end__border_box")
     void childWithPaddingAlignEndBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -21898,7 +21905,7 @@ public class FlexTest {
     @Test
     @DisplayName("child_with_padding_align_end__content_box")
     void childWithPaddingAlignEndContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -21934,7 +21941,7 @@ public class FlexTest {
     @Test
     @DisplayName("container_with_unsized_child__border_box")
     void containerWithUnsizedChildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -21963,7 +21970,7 @@ public class FlexTest {
     @Test
     @DisplayName("container_with_unsized_child__content_box")
     void containerWithUnsizedChildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -21994,7 +22001,7 @@ public class FlexTest {
     @Test
     @DisplayName("content_size__border_box")
     void contentSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -22041,7 +22048,7 @@ public class FlexTest {
     @Test
     @DisplayName("content_size__content_box")
     void contentSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -22091,7 +22098,7 @@ public class FlexTest {
     @Test
     @DisplayName("display_none__border_box")
     void displayNoneBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -22132,7 +22139,7 @@ public class FlexTest {
     @Test
     @DisplayName("display_none__content_box")
     void displayNoneContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -22176,7 +22183,7 @@ public class FlexTest {
     @Test
     @DisplayName("display_none_absolute_child__border_box")
     void displayNoneAbsoluteChildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -22219,7 +22226,7 @@ public class FlexTest {
     @Test
     @DisplayName("display_none_absolute_child__content_box")
     void displayNoneAbsoluteChildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -22265,7 +22272,7 @@ public class FlexTest {
     @Test
     @DisplayName("display_none_fixed_size__border_box")
     void displayNoneFixedSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -22306,7 +22313,7 @@ public class FlexTest {
     @Test
     @DisplayName("display_none_fixed_size__content_box")
     void displayNoneFixedSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -22350,7 +22357,7 @@ public class FlexTest {
     @Test
     @DisplayName("display_none_only_node__border_box")
     void displayNoneOnlyNodeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.direction = TaffyDirection.LTR;
@@ -22371,7 +22378,7 @@ public class FlexTest {
     @Test
     @DisplayName("display_none_only_node__content_box")
     void displayNoneOnlyNodeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.boxSizing = BoxSizing.CONTENT_BOX;
@@ -22393,7 +22400,7 @@ public class FlexTest {
     @Test
     @DisplayName("display_none_with_child__border_box")
     void displayNoneWithChildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -22464,7 +22471,7 @@ public class FlexTest {
     @Test
     @DisplayName("display_none_with_child__content_box")
     void displayNoneWithChildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -22540,7 +22547,7 @@ public class FlexTest {
     @Test
     @DisplayName("display_none_with_margin__border_box")
     void displayNoneWithMarginBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -22582,7 +22589,7 @@ public class FlexTest {
     @Test
     @DisplayName("display_none_with_margin__content_box")
     void displayNoneWithMarginContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -22627,7 +22634,7 @@ public class FlexTest {
     @Test
     @DisplayName("display_none_with_position__border_box")
     void displayNoneWithPositionBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -22669,7 +22676,7 @@ public class FlexTest {
     @Test
     @DisplayName("display_none_with_position__content_box")
     void displayNoneWithPositionContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -22714,7 +22721,7 @@ public class FlexTest {
     @Test
     @DisplayName("display_none_with_position_absolute__border_box")
     void displayNoneWithPositionAbsoluteBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -22746,7 +22753,7 @@ public class FlexTest {
     @Test
     @DisplayName("display_none_with_position_absolute__content_box")
     void displayNoneWithPositionAbsoluteContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -22780,7 +22787,7 @@ public class FlexTest {
     @Test
     @DisplayName("do_not_clamp_height_of_absolute_node_to_height_of_its_overflow_hidden_parent__border_box")
     void doNotClampHeightOfAbsoluteNodeToHeightOfItsOverflowHiddenParentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -22823,7 +22830,7 @@ public class FlexTest {
     @Test
     @DisplayName("do_not_clamp_height_of_absolute_node_to_height_of_its_overflow_hidden_parent__content_box")
     void doNotClampHeightOfAbsoluteNodeToHeightOfItsOverflowHiddenParentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -22869,7 +22876,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_and_main_dimen_set_when_flexing__border_box")
     void flexBasisAndMainDimenSetWhenFlexingBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -22913,7 +22920,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_and_main_dimen_set_when_flexing__content_box")
     void flexBasisAndMainDimenSetWhenFlexingContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -22960,7 +22967,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_flex_grow_column__border_box")
     void flexBasisFlexGrowColumnBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -23002,7 +23009,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_flex_grow_column__content_box")
     void flexBasisFlexGrowColumnContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -23047,7 +23054,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_flex_grow_row__border_box")
     void flexBasisFlexGrowRowBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -23088,7 +23095,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_flex_grow_row__content_box")
     void flexBasisFlexGrowRowContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -23132,7 +23139,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_flex_shrink_column__border_box")
     void flexBasisFlexShrinkColumnBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -23173,7 +23180,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_flex_shrink_column__content_box")
     void flexBasisFlexShrinkColumnContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -23217,7 +23224,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_flex_shrink_row__border_box")
     void flexBasisFlexShrinkRowBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -23257,7 +23264,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_flex_shrink_row__content_box")
     void flexBasisFlexShrinkRowContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -23300,7 +23307,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_larger_than_content_column__border_box")
     void flexBasisLargerThanContentColumnBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -23342,7 +23349,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_larger_than_content_column__content_box")
     void flexBasisLargerThanContentColumnContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -23387,7 +23394,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_larger_than_content_row__border_box")
     void flexBasisLargerThanContentRowBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -23428,7 +23435,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_larger_than_content_row__content_box")
     void flexBasisLargerThanContentRowContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -23472,7 +23479,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_overrides_main_size__border_box")
     void flexBasisOverridesMainSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -23526,7 +23533,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_overrides_main_size__content_box")
     void flexBasisOverridesMainSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -23584,7 +23591,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_slightly_smaller_then_content_with_flex_grow_large_size__border_box")
     void flexBasisSlightlySmallerThenContentWithFlexGrowLargeSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -23648,7 +23655,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_slightly_smaller_then_content_with_flex_grow_large_size__content_box")
     void flexBasisSlightlySmallerThenContentWithFlexGrowLargeSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -23717,7 +23724,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_smaller_than_content_column__border_box")
     void flexBasisSmallerThanContentColumnBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -23759,7 +23766,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_smaller_than_content_column__content_box")
     void flexBasisSmallerThanContentColumnContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -23804,7 +23811,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_smaller_than_content_row__border_box")
     void flexBasisSmallerThanContentRowBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -23845,7 +23852,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_smaller_than_content_row__content_box")
     void flexBasisSmallerThanContentRowContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -23889,7 +23896,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_smaller_than_main_dimen_column__border_box")
     void flexBasisSmallerThanMainDimenColumnBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -23921,7 +23928,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_smaller_than_main_dimen_column__content_box")
     void flexBasisSmallerThanMainDimenColumnContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -23955,7 +23962,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_smaller_than_main_dimen_row__border_box")
     void flexBasisSmallerThanMainDimenRowBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -23986,7 +23993,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_smaller_than_main_dimen_row__content_box")
     void flexBasisSmallerThanMainDimenRowContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -24019,7 +24026,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_smaller_then_content_with_flex_grow_large_size__border_box")
     void flexBasisSmallerThenContentWithFlexGrowLargeSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -24083,7 +24090,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_smaller_then_content_with_flex_grow_large_size__content_box")
     void flexBasisSmallerThenContentWithFlexGrowLargeSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -24152,7 +24159,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_smaller_then_content_with_flex_grow_small_size__border_box")
     void flexBasisSmallerThenContentWithFlexGrowSmallSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -24216,7 +24223,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_smaller_then_content_with_flex_grow_small_size__content_box")
     void flexBasisSmallerThenContentWithFlexGrowSmallSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -24285,7 +24292,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_smaller_then_content_with_flex_grow_unconstraint_size__border_box")
     void flexBasisSmallerThenContentWithFlexGrowUnconstraintSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -24348,7 +24355,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_smaller_then_content_with_flex_grow_unconstraint_size__content_box")
     void flexBasisSmallerThenContentWithFlexGrowUnconstraintSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -24416,7 +24423,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_smaller_then_content_with_flex_grow_very_large_size__border_box")
     void flexBasisSmallerThenContentWithFlexGrowVeryLargeSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -24480,7 +24487,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_smaller_then_content_with_flex_grow_very_large_size__content_box")
     void flexBasisSmallerThenContentWithFlexGrowVeryLargeSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -24549,7 +24556,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_unconstraint_column__border_box")
     void flexBasisUnconstraintColumnBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -24580,7 +24587,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_unconstraint_column__content_box")
     void flexBasisUnconstraintColumnContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -24613,7 +24620,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_unconstraint_row__border_box")
     void flexBasisUnconstraintRowBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -24643,7 +24650,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_unconstraint_row__content_box")
     void flexBasisUnconstraintRowContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -24675,7 +24682,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_zero_undefined_main_size__border_box")
     void flexBasisZeroUndefinedMainSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -24715,7 +24722,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_basis_zero_undefined_main_size__content_box")
     void flexBasisZeroUndefinedMainSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -24758,7 +24765,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_column_relative_all_sides__border_box")
     void flexColumnRelativeAllSidesBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -24790,7 +24797,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_column_relative_all_sides__content_box")
     void flexColumnRelativeAllSidesContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -24824,7 +24831,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_direction_column__border_box")
     void flexDirectionColumnBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -24875,7 +24882,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_direction_column__content_box")
     void flexDirectionColumnContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -24930,7 +24937,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_direction_column_no_height__border_box")
     void flexDirectionColumnNoHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -24981,7 +24988,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_direction_column_no_height__content_box")
     void flexDirectionColumnNoHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -25036,7 +25043,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_direction_column_reverse__border_box")
     void flexDirectionColumnReverseBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -25087,7 +25094,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_direction_column_reverse__content_box")
     void flexDirectionColumnReverseContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -25142,7 +25149,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_direction_column_reverse_no_height__border_box")
     void flexDirectionColumnReverseNoHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -25193,7 +25200,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_direction_column_reverse_no_height__content_box")
     void flexDirectionColumnReverseNoHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -25248,7 +25255,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_direction_row__border_box")
     void flexDirectionRowBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -25298,7 +25305,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_direction_row__content_box")
     void flexDirectionRowContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -25352,7 +25359,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_direction_row_no_width__border_box")
     void flexDirectionRowNoWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -25402,7 +25409,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_direction_row_no_width__content_box")
     void flexDirectionRowNoWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -25456,7 +25463,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_direction_row_reverse__border_box")
     void flexDirectionRowReverseBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -25507,7 +25514,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_direction_row_reverse__content_box")
     void flexDirectionRowReverseContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -25562,7 +25569,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_grow_0_min_size__border_box")
     void flexGrow0MinSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -25635,7 +25642,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_grow_0_min_size__content_box")
     void flexGrow0MinSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -25713,7 +25720,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_grow_child__border_box")
     void flexGrowChildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -25744,7 +25751,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_grow_child__content_box")
     void flexGrowChildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -25777,7 +25784,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_grow_flex_basis_percent_min_max__border_box")
     void flexGrowFlexBasisPercentMinMaxBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -25825,7 +25832,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_grow_flex_basis_percent_min_max__content_box")
     void flexGrowFlexBasisPercentMinMaxContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -25876,7 +25883,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_grow_height_maximized__border_box")
     void flexGrowHeightMaximizedBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -25931,7 +25938,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_grow_height_maximized__content_box")
     void flexGrowHeightMaximizedContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -25990,7 +25997,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_grow_in_at_most_container__border_box")
     void flexGrowInAtMostContainerBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -26031,7 +26038,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_grow_in_at_most_container__content_box")
     void flexGrowInAtMostContainerContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -26075,7 +26082,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_grow_less_than_factor_one__border_box")
     void flexGrowLessThanFactorOneBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -26129,7 +26136,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_grow_less_than_factor_one__content_box")
     void flexGrowLessThanFactorOneContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -26187,7 +26194,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_grow_root_minimized__border_box")
     void flexGrowRootMinimizedBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -26244,7 +26251,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_grow_root_minimized__content_box")
     void flexGrowRootMinimizedContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -26305,7 +26312,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_grow_shrink_at_most__border_box")
     void flexGrowShrinkAtMostBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -26345,7 +26352,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_grow_shrink_at_most__content_box")
     void flexGrowShrinkAtMostContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -26388,7 +26395,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_grow_to_min__border_box")
     void flexGrowToMinBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -26432,7 +26439,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_grow_to_min__content_box")
     void flexGrowToMinContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -26479,7 +26486,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_grow_within_constrained_max_column__border_box")
     void flexGrowWithinConstrainedMaxColumnBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -26522,7 +26529,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_grow_within_constrained_max_column__content_box")
     void flexGrowWithinConstrainedMaxColumnContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -26568,7 +26575,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_grow_within_constrained_max_row__border_box")
     void flexGrowWithinConstrainedMaxRowBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -26621,7 +26628,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_grow_within_constrained_max_row__content_box")
     void flexGrowWithinConstrainedMaxRowContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -26678,7 +26685,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_grow_within_constrained_max_width__border_box")
     void flexGrowWithinConstrainedMaxWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -26720,7 +26727,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_grow_within_constrained_max_width__content_box")
     void flexGrowWithinConstrainedMaxWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -26765,7 +26772,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_grow_within_constrained_min_column__border_box")
     void flexGrowWithinConstrainedMinColumnBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -26806,7 +26813,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_grow_within_constrained_min_column__content_box")
     void flexGrowWithinConstrainedMinColumnContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -26850,7 +26857,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_grow_within_constrained_min_max_column__border_box")
     void flexGrowWithinConstrainedMinMaxColumnBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -26892,7 +26899,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_grow_within_constrained_min_max_column__content_box")
     void flexGrowWithinConstrainedMinMaxColumnContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -26937,7 +26944,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_grow_within_constrained_min_row__border_box")
     void flexGrowWithinConstrainedMinRowBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -26978,7 +26985,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_grow_within_constrained_min_row__content_box")
     void flexGrowWithinConstrainedMinRowContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -27022,7 +27029,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_grow_within_max_width__border_box")
     void flexGrowWithinMaxWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -27064,7 +27071,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_grow_within_max_width__content_box")
     void flexGrowWithinMaxWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -27109,7 +27116,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_root_ignored__border_box")
     void flexRootIgnoredBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -27153,7 +27160,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_root_ignored__content_box")
     void flexRootIgnoredContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -27200,7 +27207,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_row_relative_all_sides__border_box")
     void flexRowRelativeAllSidesBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -27231,7 +27238,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_row_relative_all_sides__content_box")
     void flexRowRelativeAllSidesContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -27264,7 +27271,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_shrink_by_outer_margin_with_max_size__border_box")
     void flexShrinkByOuterMarginWithMaxSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -27297,7 +27304,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_shrink_by_outer_margin_with_max_size__content_box")
     void flexShrinkByOuterMarginWithMaxSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -27332,7 +27339,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_shrink_flex_grow_child_flex_shrink_other_child__border_box")
     void flexShrinkFlexGrowChildFlexShrinkOtherChildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -27376,7 +27383,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_shrink_flex_grow_child_flex_shrink_other_child__content_box")
     void flexShrinkFlexGrowChildFlexShrinkOtherChildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -27423,7 +27430,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_shrink_flex_grow_row__border_box")
     void flexShrinkFlexGrowRowBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -27467,7 +27474,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_shrink_flex_grow_row__content_box")
     void flexShrinkFlexGrowRowContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -27514,7 +27521,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_shrink_to_zero__border_box")
     void flexShrinkToZeroBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -27567,7 +27574,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_shrink_to_zero__content_box")
     void flexShrinkToZeroContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -27624,7 +27631,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_wrap_align_stretch_fits_one_row__border_box")
     void flexWrapAlignStretchFitsOneRowBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -27665,7 +27672,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_wrap_align_stretch_fits_one_row__content_box")
     void flexWrapAlignStretchFitsOneRowContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -27709,7 +27716,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_wrap_children_with_min_main_overriding_flex_basis__border_box")
     void flexWrapChildrenWithMinMainOverridingFlexBasisBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -27754,7 +27761,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_wrap_children_with_min_main_overriding_flex_basis__content_box")
     void flexWrapChildrenWithMinMainOverridingFlexBasisContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -27802,7 +27809,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_wrap_wrap_to_child_height__border_box")
     void flexWrapWrapToChildHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -27864,7 +27871,7 @@ public class FlexTest {
     @Test
     @DisplayName("flex_wrap_wrap_to_child_height__content_box")
     void flexWrapWrapToChildHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -27931,7 +27938,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_child_margins__border_box")
     void gapColumnGapChildMarginsBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -27991,7 +27998,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_child_margins__content_box")
     void gapColumnGapChildMarginsContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -28055,7 +28062,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_determines_parent_width__border_box")
     void gapColumnGapDeterminesParentWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -28107,7 +28114,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_determines_parent_width__content_box")
     void gapColumnGapDeterminesParentWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -28163,7 +28170,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_flexible__border_box")
     void gapColumnGapFlexibleBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -28220,7 +28227,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_flexible__content_box")
     void gapColumnGapFlexibleContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -28281,7 +28288,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_flexible_undefined_parent__border_box")
     void gapColumnGapFlexibleUndefinedParentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -28338,7 +28345,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_flexible_undefined_parent__content_box")
     void gapColumnGapFlexibleUndefinedParentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -28399,7 +28406,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_inflexible__border_box")
     void gapColumnGapInflexibleBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -28450,7 +28457,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_inflexible__content_box")
     void gapColumnGapInflexibleContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -28505,7 +28512,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_inflexible_undefined_parent__border_box")
     void gapColumnGapInflexibleUndefinedParentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -28556,7 +28563,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_inflexible_undefined_parent__content_box")
     void gapColumnGapInflexibleUndefinedParentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -28611,7 +28618,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_justify_center__border_box")
     void gapColumnGapJustifyCenterBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -28663,7 +28670,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_justify_center__content_box")
     void gapColumnGapJustifyCenterContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -28719,7 +28726,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_justify_flex_end__border_box")
     void gapColumnGapJustifyFlexEndBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -28771,7 +28778,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_justify_flex_end__content_box")
     void gapColumnGapJustifyFlexEndContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -28827,7 +28834,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_justify_flex_start__border_box")
     void gapColumnGapJustifyFlexStartBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -28879,7 +28886,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_justify_flex_start__content_box")
     void gapColumnGapJustifyFlexStartContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -28935,7 +28942,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_justify_space_around__border_box")
     void gapColumnGapJustifySpaceAroundBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -28987,7 +28994,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_justify_space_around__content_box")
     void gapColumnGapJustifySpaceAroundContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -29043,7 +29050,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_justify_space_between__border_box")
     void gapColumnGapJustifySpaceBetweenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -29095,7 +29102,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_justify_space_between__content_box")
     void gapColumnGapJustifySpaceBetweenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -29151,7 +29158,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_justify_space_evenly__border_box")
     void gapColumnGapJustifySpaceEvenlyBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -29203,7 +29210,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_justify_space_evenly__content_box")
     void gapColumnGapJustifySpaceEvenlyContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -29259,7 +29266,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_mixed_flexible__border_box")
     void gapColumnGapMixedFlexibleBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -29312,7 +29319,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_mixed_flexible__content_box")
     void gapColumnGapMixedFlexibleContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -29369,7 +29376,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_percentage_cyclic_partially_shrinkable__border_box")
     void gapColumnGapPercentageCyclicPartiallyShrinkableBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -29421,7 +29428,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_percentage_cyclic_partially_shrinkable__content_box")
     void gapColumnGapPercentageCyclicPartiallyShrinkableContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -29477,7 +29484,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_percentage_cyclic_shrinkable__border_box")
     void gapColumnGapPercentageCyclicShrinkableBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -29527,7 +29534,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_percentage_cyclic_shrinkable__content_box")
     void gapColumnGapPercentageCyclicShrinkableContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -29581,7 +29588,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_percentage_cyclic_unshrinkable__border_box")
     void gapColumnGapPercentageCyclicUnshrinkableBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -29634,7 +29641,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_percentage_cyclic_unshrinkable__content_box")
     void gapColumnGapPercentageCyclicUnshrinkableContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -29691,7 +29698,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_percentage_flexible__border_box")
     void gapColumnGapPercentageFlexibleBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -29748,7 +29755,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_percentage_flexible__content_box")
     void gapColumnGapPercentageFlexibleContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -29809,7 +29816,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_percentage_flexible_with_padding__border_box")
     void gapColumnGapPercentageFlexibleWithPaddingBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -29867,7 +29874,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_percentage_flexible_with_padding__content_box")
     void gapColumnGapPercentageFlexibleWithPaddingContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -29929,7 +29936,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_percentage_inflexible__border_box")
     void gapColumnGapPercentageInflexibleBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -29980,7 +29987,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_percentage_inflexible__content_box")
     void gapColumnGapPercentageInflexibleContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -30035,7 +30042,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_row_gap_wrapping__border_box")
     void gapColumnGapRowGapWrappingBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -30147,7 +30154,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_row_gap_wrapping__content_box")
     void gapColumnGapRowGapWrappingContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -30269,7 +30276,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_start_index__border_box")
     void gapColumnGapStartIndexBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -30332,7 +30339,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_start_index__content_box")
     void gapColumnGapStartIndexContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -30400,7 +30407,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_wrap_align_center__border_box")
     void gapColumnGapWrapAlignCenterBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -30483,7 +30490,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_wrap_align_center__content_box")
     void gapColumnGapWrapAlignCenterContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -30573,7 +30580,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_wrap_align_flex_end__border_box")
     void gapColumnGapWrapAlignFlexEndBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -30656,7 +30663,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_wrap_align_flex_end__content_box")
     void gapColumnGapWrapAlignFlexEndContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -30746,7 +30753,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_wrap_align_flex_start__border_box")
     void gapColumnGapWrapAlignFlexStartBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -30829,7 +30836,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_wrap_align_flex_start__content_box")
     void gapColumnGapWrapAlignFlexStartContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -30919,7 +30926,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_wrap_align_space_around__border_box")
     void gapColumnGapWrapAlignSpaceAroundBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -31002,7 +31009,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_wrap_align_space_around__content_box")
     void gapColumnGapWrapAlignSpaceAroundContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -31092,7 +31099,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_wrap_align_space_between__border_box")
     void gapColumnGapWrapAlignSpaceBetweenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -31175,7 +31182,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_wrap_align_space_between__content_box")
     void gapColumnGapWrapAlignSpaceBetweenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -31265,7 +31272,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_wrap_align_stretch__border_box")
     void gapColumnGapWrapAlignStretchBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -31343,7 +31350,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_gap_wrap_align_stretch__content_box")
     void gapColumnGapWrapAlignStretchContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -31427,7 +31434,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_row_gap_wrapping__border_box")
     void gapColumnRowGapWrappingBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -31539,7 +31546,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_column_row_gap_wrapping__content_box")
     void gapColumnRowGapWrappingContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -31661,7 +31668,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_row_gap_align_items_end__border_box")
     void gapRowGapAlignItemsEndBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -31744,7 +31751,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_row_gap_align_items_end__content_box")
     void gapRowGapAlignItemsEndContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -31834,7 +31841,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_row_gap_align_items_stretch__border_box")
     void gapRowGapAlignItemsStretchBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -31918,7 +31925,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_row_gap_align_items_stretch__content_box")
     void gapRowGapAlignItemsStretchContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -32009,7 +32016,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_row_gap_column_child_margins__border_box")
     void gapRowGapColumnChildMarginsBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -32070,7 +32077,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_row_gap_column_child_margins__content_box")
     void gapRowGapColumnChildMarginsContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -32135,7 +32142,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_row_gap_determines_parent_height__border_box")
     void gapRowGapDeterminesParentHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -32188,7 +32195,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_row_gap_determines_parent_height__content_box")
     void gapRowGapDeterminesParentHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -32245,7 +32252,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_row_gap_percentage_wrapping__border_box")
     void gapRowGapPercentageWrappingBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -32357,7 +32364,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_row_gap_percentage_wrapping__content_box")
     void gapRowGapPercentageWrappingContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -32479,7 +32486,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_row_gap_row_wrap_child_margins__border_box")
     void gapRowGapRowWrapChildMarginsBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -32534,7 +32541,7 @@ public class FlexTest {
     @Test
     @DisplayName("gap_row_gap_row_wrap_child_margins__content_box")
     void gapRowGapRowWrapChildMarginsContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -32593,7 +32600,7 @@ public class FlexTest {
     @Test
     @DisplayName("intrinsic_sizing_cross_size_column__border_box")
     void intrinsicSizingCrossSizeColumnBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.direction = TaffyDirection.LTR;
@@ -32614,7 +32621,7 @@ public class FlexTest {
     @Test
     @DisplayName("intrinsic_sizing_cross_size_column__content_box")
     void intrinsicSizingCrossSizeColumnContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.boxSizing = BoxSizing.CONTENT_BOX;
@@ -32636,7 +32643,7 @@ public class FlexTest {
     @Test
     @DisplayName("intrinsic_sizing_main_size_column__border_box")
     void intrinsicSizingMainSizeColumnBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.direction = TaffyDirection.LTR;
@@ -32657,7 +32664,7 @@ public class FlexTest {
     @Test
     @DisplayName("intrinsic_sizing_main_size_column__content_box")
     void intrinsicSizingMainSizeColumnContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.boxSizing = BoxSizing.CONTENT_BOX;
@@ -32679,7 +32686,7 @@ public class FlexTest {
     @Test
     @DisplayName("intrinsic_sizing_main_size_column_nested__border_box")
     void intrinsicSizingMainSizeColumnNestedBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -32710,7 +32717,7 @@ public class FlexTest {
     @Test
     @DisplayName("intrinsic_sizing_main_size_column_nested__content_box")
     void intrinsicSizingMainSizeColumnNestedContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -32743,7 +32750,7 @@ public class FlexTest {
     @Test
     @DisplayName("intrinsic_sizing_main_size_column_wrap__border_box")
     void intrinsicSizingMainSizeColumnWrapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -32786,7 +32793,7 @@ public class FlexTest {
     @Test
     @DisplayName("intrinsic_sizing_main_size_column_wrap__content_box")
     void intrinsicSizingMainSizeColumnWrapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -32832,7 +32839,7 @@ public class FlexTest {
     @Test
     @DisplayName("intrinsic_sizing_main_size_min_size__border_box")
     void intrinsicSizingMainSizeMinSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -32878,7 +32885,7 @@ public class FlexTest {
     @Test
     @DisplayName("intrinsic_sizing_main_size_min_size__content_box")
     void intrinsicSizingMainSizeMinSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -32927,7 +32934,7 @@ public class FlexTest {
     @Test
     @DisplayName("intrinsic_sizing_main_size_row__border_box")
     void intrinsicSizingMainSizeRowBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.direction = TaffyDirection.LTR;
@@ -32947,7 +32954,7 @@ public class FlexTest {
     @Test
     @DisplayName("intrinsic_sizing_main_size_row__content_box")
     void intrinsicSizingMainSizeRowContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.boxSizing = BoxSizing.CONTENT_BOX;
@@ -32968,7 +32975,7 @@ public class FlexTest {
     @Test
     @DisplayName("intrinsic_sizing_main_size_row_nested__border_box")
     void intrinsicSizingMainSizeRowNestedBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -32997,7 +33004,7 @@ public class FlexTest {
     @Test
     @DisplayName("intrinsic_sizing_main_size_row_nested__content_box")
     void intrinsicSizingMainSizeRowNestedContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -33028,7 +33035,7 @@ public class FlexTest {
     @Test
     @DisplayName("intrinsic_sizing_main_size_row_wrap__border_box")
     void intrinsicSizingMainSizeRowWrapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -33068,7 +33075,7 @@ public class FlexTest {
     @Test
     @DisplayName("intrinsic_sizing_main_size_row_wrap__content_box")
     void intrinsicSizingMainSizeRowWrapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -33111,7 +33118,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_center__border_box")
     void justifyContentColumnCenterBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -33163,7 +33170,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_center__content_box")
     void justifyContentColumnCenterContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -33219,7 +33226,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_center_negative_space__border_box")
     void justifyContentColumnCenterNegativeSpaceBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -33287,7 +33294,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_center_negative_space__content_box")
     void justifyContentColumnCenterNegativeSpaceContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -33360,7 +33367,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_center_negative_space_gap__border_box")
     void justifyContentColumnCenterNegativeSpaceGapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -33429,7 +33436,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_center_negative_space_gap__content_box")
     void justifyContentColumnCenterNegativeSpaceGapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -33503,7 +33510,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_end__border_box")
     void justifyContentColumnEndBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -33555,7 +33562,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_end__content_box")
     void justifyContentColumnEndContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -33611,7 +33618,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_end_negative_space__border_box")
     void justifyContentColumnEndNegativeSpaceBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -33679,7 +33686,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_end_negative_space__content_box")
     void justifyContentColumnEndNegativeSpaceContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -33752,7 +33759,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_end_negative_space_gap__border_box")
     void justifyContentColumnEndNegativeSpaceGapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -33821,7 +33828,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_end_negative_space_gap__content_box")
     void justifyContentColumnEndNegativeSpaceGapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -33895,7 +33902,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_end_reverse__border_box")
     void justifyContentColumnEndReverseBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -33947,7 +33954,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_end_reverse__content_box")
     void justifyContentColumnEndReverseContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -34003,7 +34010,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_flex_end__border_box")
     void justifyContentColumnFlexEndBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -34055,7 +34062,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_flex_end__content_box")
     void justifyContentColumnFlexEndContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -34111,7 +34118,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_flex_end_reverse__border_box")
     void justifyContentColumnFlexEndReverseBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -34163,7 +34170,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_flex_end_reverse__content_box")
     void justifyContentColumnFlexEndReverseContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -34219,7 +34226,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_flex_start__border_box")
     void justifyContentColumnFlexStartBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -34271,7 +34278,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_flex_start__content_box")
     void justifyContentColumnFlexStartContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -34327,7 +34334,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_flex_start_reverse__border_box")
     void justifyContentColumnFlexStartReverseBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -34379,7 +34386,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_flex_start_reverse__content_box")
     void justifyContentColumnFlexStartReverseContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -34435,7 +34442,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_max_height_and_margin__border_box")
     void justifyContentColumnMaxHeightAndMarginBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -34478,7 +34485,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_max_height_and_margin__content_box")
     void justifyContentColumnMaxHeightAndMarginContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -34524,7 +34531,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_min_height_and_margin__border_box")
     void justifyContentColumnMinHeightAndMarginBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -34566,7 +34573,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_min_height_and_margin__content_box")
     void justifyContentColumnMinHeightAndMarginContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -34611,7 +34618,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_min_height_and_margin_bottom__border_box")
     void justifyContentColumnMinHeightAndMarginBottomBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -34644,7 +34651,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_min_height_and_margin_bottom__content_box")
     void justifyContentColumnMinHeightAndMarginBottomContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -34679,7 +34686,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_min_height_and_margin_top__border_box")
     void justifyContentColumnMinHeightAndMarginTopBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -34712,7 +34719,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_min_height_and_margin_top__content_box")
     void justifyContentColumnMinHeightAndMarginTopContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -34747,7 +34754,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_space_around__border_box")
     void justifyContentColumnSpaceAroundBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -34799,7 +34806,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_space_around__content_box")
     void justifyContentColumnSpaceAroundContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -34855,7 +34862,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_space_around_negative_space__border_box")
     void justifyContentColumnSpaceAroundNegativeSpaceBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -34923,7 +34930,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_space_around_negative_space__content_box")
     void justifyContentColumnSpaceAroundNegativeSpaceContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -34996,7 +35003,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_space_around_negative_space_gap__border_box")
     void justifyContentColumnSpaceAroundNegativeSpaceGapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -35065,7 +35072,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_space_around_negative_space_gap__content_box")
     void justifyContentColumnSpaceAroundNegativeSpaceGapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -35139,7 +35146,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_space_between__border_box")
     void justifyContentColumnSpaceBetweenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -35191,7 +35198,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_space_between__content_box")
     void justifyContentColumnSpaceBetweenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -35247,7 +35254,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_space_between_negative_space__border_box")
     void justifyContentColumnSpaceBetweenNegativeSpaceBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -35315,7 +35322,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_space_between_negative_space__content_box")
     void justifyContentColumnSpaceBetweenNegativeSpaceContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -35388,7 +35395,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_space_between_negative_space_gap__border_box")
     void justifyContentColumnSpaceBetweenNegativeSpaceGapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -35457,7 +35464,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_space_between_negative_space_gap__content_box")
     void justifyContentColumnSpaceBetweenNegativeSpaceGapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -35531,7 +35538,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_space_evenly__border_box")
     void justifyContentColumnSpaceEvenlyBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -35583,7 +35590,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_space_evenly__content_box")
     void justifyContentColumnSpaceEvenlyContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -35639,7 +35646,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_space_evenly_negative_space__border_box")
     void justifyContentColumnSpaceEvenlyNegativeSpaceBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -35707,7 +35714,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_space_evenly_negative_space__content_box")
     void justifyContentColumnSpaceEvenlyNegativeSpaceContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -35780,7 +35787,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_space_evenly_negative_space_gap__border_box")
     void justifyContentColumnSpaceEvenlyNegativeSpaceGapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -35849,7 +35856,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_space_evenly_negative_space_gap__content_box")
     void justifyContentColumnSpaceEvenlyNegativeSpaceGapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -35923,7 +35930,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_start__border_box")
     void justifyContentColumnStartBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -35975,7 +35982,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_start__content_box")
     void justifyContentColumnStartContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -36031,7 +36038,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_start_negative_space__border_box")
     void justifyContentColumnStartNegativeSpaceBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -36099,7 +36106,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_start_negative_space__content_box")
     void justifyContentColumnStartNegativeSpaceContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -36172,7 +36179,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_start_negative_space_gap__border_box")
     void justifyContentColumnStartNegativeSpaceGapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -36241,7 +36248,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_start_negative_space_gap__content_box")
     void justifyContentColumnStartNegativeSpaceGapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -36315,7 +36322,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_start_reverse__border_box")
     void justifyContentColumnStartReverseBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -36367,7 +36374,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_column_start_reverse__content_box")
     void justifyContentColumnStartReverseContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -36423,7 +36430,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_min_max__border_box")
     void justifyContentMinMaxBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -36457,7 +36464,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_min_max__content_box")
     void justifyContentMinMaxContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -36493,7 +36500,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_min_width_with_padding_child_width_greater_than_parent__border_box")
     void justifyContentMinWidthWithPaddingChildWidthGreaterThanParentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -36549,7 +36556,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_min_width_with_padding_child_width_greater_than_parent__content_box")
     void justifyContentMinWidthWithPaddingChildWidthGreaterThanParentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -36609,7 +36616,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_min_width_with_padding_child_width_lower_than_parent__border_box")
     void justifyContentMinWidthWithPaddingChildWidthLowerThanParentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -36665,7 +36672,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_min_width_with_padding_child_width_lower_than_parent__content_box")
     void justifyContentMinWidthWithPaddingChildWidthLowerThanParentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -36725,7 +36732,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_overflow_min_max__border_box")
     void justifyContentOverflowMinMaxBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -36781,7 +36788,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_overflow_min_max__content_box")
     void justifyContentOverflowMinMaxContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -36841,7 +36848,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_row_center__border_box")
     void justifyContentRowCenterBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -36892,7 +36899,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_row_center__content_box")
     void justifyContentRowCenterContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -36947,7 +36954,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_row_flex_end__border_box")
     void justifyContentRowFlexEndBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -36998,7 +37005,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_row_flex_end__content_box")
     void justifyContentRowFlexEndContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -37053,7 +37060,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_row_flex_start__border_box")
     void justifyContentRowFlexStartBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -37104,7 +37111,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_row_flex_start__content_box")
     void justifyContentRowFlexStartContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -37159,7 +37166,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_row_max_width_and_margin__border_box")
     void justifyContentRowMaxWidthAndMarginBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -37192,7 +37199,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_row_max_width_and_margin__content_box")
     void justifyContentRowMaxWidthAndMarginContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -37227,7 +37234,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_row_min_width_and_margin__border_box")
     void justifyContentRowMinWidthAndMarginBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -37259,7 +37266,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_row_min_width_and_margin__content_box")
     void justifyContentRowMinWidthAndMarginContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -37293,7 +37300,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_row_space_around__border_box")
     void justifyContentRowSpaceAroundBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -37344,7 +37351,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_row_space_around__content_box")
     void justifyContentRowSpaceAroundContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -37399,7 +37406,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_row_space_between__border_box")
     void justifyContentRowSpaceBetweenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -37450,7 +37457,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_row_space_between__content_box")
     void justifyContentRowSpaceBetweenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -37505,7 +37512,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_row_space_evenly__border_box")
     void justifyContentRowSpaceEvenlyBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -37556,7 +37563,7 @@ public class FlexTest {
     @Test
     @DisplayName("justify_content_row_space_evenly__content_box")
     void justifyContentRowSpaceEvenlyContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -37611,7 +37618,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_and_flex_column__border_box")
     void marginAndFlexColumnBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -37643,7 +37650,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_and_flex_column__content_box")
     void marginAndFlexColumnContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -37677,7 +37684,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_and_flex_row__border_box")
     void marginAndFlexRowBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -37708,7 +37715,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_and_flex_row__content_box")
     void marginAndFlexRowContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -37741,7 +37748,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_and_stretch_column__border_box")
     void marginAndStretchColumnBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -37773,7 +37780,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_and_stretch_column__content_box")
     void marginAndStretchColumnContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -37807,7 +37814,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_and_stretch_row__border_box")
     void marginAndStretchRowBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -37838,7 +37845,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_and_stretch_row__content_box")
     void marginAndStretchRowContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -37871,7 +37878,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_bottom__border_box")
     void marginAutoBottomBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -37913,7 +37920,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_bottom__content_box")
     void marginAutoBottomContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -37958,7 +37965,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_bottom_and_top__border_box")
     void marginAutoBottomAndTopBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -38000,7 +38007,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_bottom_and_top__content_box")
     void marginAutoBottomAndTopContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -38045,7 +38052,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_bottom_and_top_justify_center__border_box")
     void marginAutoBottomAndTopJustifyCenterBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -38087,7 +38094,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_bottom_and_top_justify_center__content_box")
     void marginAutoBottomAndTopJustifyCenterContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -38132,7 +38139,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_left__border_box")
     void marginAutoLeftBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -38174,7 +38181,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_left__content_box")
     void marginAutoLeftContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -38219,7 +38226,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_left_and_right__border_box")
     void marginAutoLeftAndRightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -38260,7 +38267,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_left_and_right__content_box")
     void marginAutoLeftAndRightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -38304,7 +38311,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_left_and_right_column__border_box")
     void marginAutoLeftAndRightColumnBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -38346,7 +38353,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_left_and_right_column__content_box")
     void marginAutoLeftAndRightColumnContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -38391,7 +38398,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_left_and_right_column_and_center__border_box")
     void marginAutoLeftAndRightColumnAndCenterBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -38433,7 +38440,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_left_and_right_column_and_center__content_box")
     void marginAutoLeftAndRightColumnAndCenterContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -38478,7 +38485,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_left_and_right_stretch__border_box")
     void marginAutoLeftAndRightStretchBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -38520,7 +38527,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_left_and_right_stretch__content_box")
     void marginAutoLeftAndRightStretchContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -38565,7 +38572,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_left_child_bigger_than_parent__border_box")
     void marginAutoLeftChildBiggerThanParentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -38597,7 +38604,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_left_child_bigger_than_parent__content_box")
     void marginAutoLeftChildBiggerThanParentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -38631,7 +38638,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_left_fix_right_child_bigger_than_parent__border_box")
     void marginAutoLeftFixRightChildBiggerThanParentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -38663,7 +38670,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_left_fix_right_child_bigger_than_parent__content_box")
     void marginAutoLeftFixRightChildBiggerThanParentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -38697,7 +38704,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_left_right_child_bigger_than_parent__border_box")
     void marginAutoLeftRightChildBiggerThanParentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -38729,7 +38736,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_left_right_child_bigger_than_parent__content_box")
     void marginAutoLeftRightChildBiggerThanParentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -38763,7 +38770,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_left_stretching_child__border_box")
     void marginAutoLeftStretchingChildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -38807,7 +38814,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_left_stretching_child__content_box")
     void marginAutoLeftStretchingChildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -38854,7 +38861,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_multiple_children_column__border_box")
     void marginAutoMultipleChildrenColumnBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -38908,7 +38915,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_multiple_children_column__content_box")
     void marginAutoMultipleChildrenColumnContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -38966,7 +38973,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_multiple_children_row__border_box")
     void marginAutoMultipleChildrenRowBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -39019,7 +39026,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_multiple_children_row__content_box")
     void marginAutoMultipleChildrenRowContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -39076,7 +39083,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_right__border_box")
     void marginAutoRightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -39118,7 +39125,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_right__content_box")
     void marginAutoRightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -39163,7 +39170,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_top__border_box")
     void marginAutoTopBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -39205,7 +39212,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_top__content_box")
     void marginAutoTopContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -39250,7 +39257,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_top_and_bottom_stretch__border_box")
     void marginAutoTopAndBottomStretchBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -39293,7 +39300,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_top_and_bottom_stretch__content_box")
     void marginAutoTopAndBottomStretchContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -39339,7 +39346,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_top_stretching_child__border_box")
     void marginAutoTopStretchingChildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -39383,7 +39390,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_auto_top_stretching_child__content_box")
     void marginAutoTopStretchingChildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -39430,7 +39437,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_bottom__border_box")
     void marginBottomBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -39463,7 +39470,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_bottom__content_box")
     void marginBottomContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -39498,7 +39505,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_fix_left_auto_right_child_bigger_than_parent__border_box")
     void marginFixLeftAutoRightChildBiggerThanParentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -39530,7 +39537,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_fix_left_auto_right_child_bigger_than_parent__content_box")
     void marginFixLeftAutoRightChildBiggerThanParentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -39564,7 +39571,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_left__border_box")
     void marginLeftBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -39595,7 +39602,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_left__content_box")
     void marginLeftContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -39628,7 +39635,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_right__border_box")
     void marginRightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -39660,7 +39667,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_right__content_box")
     void marginRightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -39694,7 +39701,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_should_not_be_part_of_max_height__border_box")
     void marginShouldNotBePartOfMaxHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -39726,7 +39733,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_should_not_be_part_of_max_height__content_box")
     void marginShouldNotBePartOfMaxHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -39760,7 +39767,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_should_not_be_part_of_max_width__border_box")
     void marginShouldNotBePartOfMaxWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -39792,7 +39799,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_should_not_be_part_of_max_width__content_box")
     void marginShouldNotBePartOfMaxWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -39826,7 +39833,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_top__border_box")
     void marginTopBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -39858,7 +39865,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_top__content_box")
     void marginTopContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -39892,7 +39899,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_with_sibling_column__border_box")
     void marginWithSiblingColumnBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -39934,7 +39941,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_with_sibling_column__content_box")
     void marginWithSiblingColumnContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -39979,7 +39986,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_with_sibling_row__border_box")
     void marginWithSiblingRowBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -40020,7 +40027,7 @@ public class FlexTest {
     @Test
     @DisplayName("margin_with_sibling_row__content_box")
     void marginWithSiblingRowContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -40064,7 +40071,7 @@ public class FlexTest {
     @Test
     @DisplayName("max_height__border_box")
     void maxHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -40095,7 +40102,7 @@ public class FlexTest {
     @Test
     @DisplayName("max_height__content_box")
     void maxHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -40128,7 +40135,7 @@ public class FlexTest {
     @Test
     @DisplayName("max_height_overrides_height__border_box")
     void maxHeightOverridesHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -40158,7 +40165,7 @@ public class FlexTest {
     @Test
     @DisplayName("max_height_overrides_height__content_box")
     void maxHeightOverridesHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -40190,7 +40197,7 @@ public class FlexTest {
     @Test
     @DisplayName("max_height_overrides_height_on_root__border_box")
     void maxHeightOverridesHeightOnRootBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.direction = TaffyDirection.LTR;
@@ -40211,7 +40218,7 @@ public class FlexTest {
     @Test
     @DisplayName("max_height_overrides_height_on_root__content_box")
     void maxHeightOverridesHeightOnRootContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.boxSizing = BoxSizing.CONTENT_BOX;
@@ -40233,7 +40240,7 @@ public class FlexTest {
     @Test
     @DisplayName("max_width__border_box")
     void maxWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -40265,7 +40272,7 @@ public class FlexTest {
     @Test
     @DisplayName("max_width__content_box")
     void maxWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -40299,7 +40306,7 @@ public class FlexTest {
     @Test
     @DisplayName("max_width_overrides_width__border_box")
     void maxWidthOverridesWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -40329,7 +40336,7 @@ public class FlexTest {
     @Test
     @DisplayName("max_width_overrides_width__content_box")
     void maxWidthOverridesWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -40361,7 +40368,7 @@ public class FlexTest {
     @Test
     @DisplayName("max_width_overrides_width_on_root__border_box")
     void maxWidthOverridesWidthOnRootBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.direction = TaffyDirection.LTR;
@@ -40382,7 +40389,7 @@ public class FlexTest {
     @Test
     @DisplayName("max_width_overrides_width_on_root__content_box")
     void maxWidthOverridesWidthOnRootContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.boxSizing = BoxSizing.CONTENT_BOX;
@@ -40404,7 +40411,7 @@ public class FlexTest {
     @Test
     @DisplayName("measure_child__border_box")
     void measureChildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -40433,7 +40440,7 @@ public class FlexTest {
     @Test
     @DisplayName("measure_child__content_box")
     void measureChildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -40464,7 +40471,7 @@ public class FlexTest {
     @Test
     @DisplayName("measure_child_absolute__border_box")
     void measureChildAbsoluteBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -40495,7 +40502,7 @@ public class FlexTest {
     @Test
     @DisplayName("measure_child_absolute__content_box")
     void measureChildAbsoluteContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -40528,7 +40535,7 @@ public class FlexTest {
     @Test
     @DisplayName("measure_child_constraint__border_box")
     void measureChildConstraintBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -40558,7 +40565,7 @@ public class FlexTest {
     @Test
     @DisplayName("measure_child_constraint__content_box")
     void measureChildConstraintContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -40590,7 +40597,7 @@ public class FlexTest {
     @Test
     @DisplayName("measure_child_constraint_padding_parent__border_box")
     void measureChildConstraintPaddingParentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -40621,7 +40628,7 @@ public class FlexTest {
     @Test
     @DisplayName("measure_child_constraint_padding_parent__content_box")
     void measureChildConstraintPaddingParentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -40654,7 +40661,7 @@ public class FlexTest {
     @Test
     @DisplayName("measure_child_with_flex_grow__border_box")
     void measureChildWithFlexGrowBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -40694,7 +40701,7 @@ public class FlexTest {
     @Test
     @DisplayName("measure_child_with_flex_grow__content_box")
     void measureChildWithFlexGrowContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -40737,7 +40744,7 @@ public class FlexTest {
     @Test
     @DisplayName("measure_child_with_flex_shrink__border_box")
     void measureChildWithFlexShrinkBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -40777,7 +40784,7 @@ public class FlexTest {
     @Test
     @DisplayName("measure_child_with_flex_shrink__content_box")
     void measureChildWithFlexShrinkContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -40820,7 +40827,7 @@ public class FlexTest {
     @Test
     @DisplayName("measure_child_with_flex_shrink_hidden__border_box")
     void measureChildWithFlexShrinkHiddenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -40861,7 +40868,7 @@ public class FlexTest {
     @Test
     @DisplayName("measure_child_with_flex_shrink_hidden__content_box")
     void measureChildWithFlexShrinkHiddenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -40905,7 +40912,7 @@ public class FlexTest {
     @Test
     @DisplayName("measure_child_with_min_size_greater_than_available_space__border_box")
     void measureChildWithMinSizeGreaterThanAvailableSpaceBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -40937,7 +40944,7 @@ public class FlexTest {
     @Test
     @DisplayName("measure_child_with_min_size_greater_than_available_space__content_box")
     void measureChildWithMinSizeGreaterThanAvailableSpaceContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -40971,7 +40978,7 @@ public class FlexTest {
     @Test
     @DisplayName("measure_flex_basis_overrides_measure__border_box")
     void measureFlexBasisOverridesMeasureBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -41001,7 +41008,7 @@ public class FlexTest {
     @Test
     @DisplayName("measure_flex_basis_overrides_measure__content_box")
     void measureFlexBasisOverridesMeasureContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -41033,7 +41040,7 @@ public class FlexTest {
     @Test
     @DisplayName("measure_height_overrides_measure__border_box")
     void measureHeightOverridesMeasureBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -41063,7 +41070,7 @@ public class FlexTest {
     @Test
     @DisplayName("measure_height_overrides_measure__content_box")
     void measureHeightOverridesMeasureContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -41095,7 +41102,7 @@ public class FlexTest {
     @Test
     @DisplayName("measure_remeasure_child_after_growing__border_box")
     void measureRemeasureChildAfterGrowingBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -41136,7 +41143,7 @@ public class FlexTest {
     @Test
     @DisplayName("measure_remeasure_child_after_growing__content_box")
     void measureRemeasureChildAfterGrowingContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -41180,7 +41187,7 @@ public class FlexTest {
     @Test
     @DisplayName("measure_remeasure_child_after_shrinking__border_box")
     void measureRemeasureChildAfterShrinkingBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -41222,7 +41229,7 @@ public class FlexTest {
     @Test
     @DisplayName("measure_remeasure_child_after_shrinking__content_box")
     void measureRemeasureChildAfterShrinkingContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -41267,7 +41274,7 @@ public class FlexTest {
     @Test
     @DisplayName("measure_remeasure_child_after_stretching__border_box")
     void measureRemeasureChildAfterStretchingBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -41297,7 +41304,7 @@ public class FlexTest {
     @Test
     @DisplayName("measure_remeasure_child_after_stretching__content_box")
     void measureRemeasureChildAfterStretchingContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -41329,7 +41336,7 @@ public class FlexTest {
     @Test
     @DisplayName("measure_root__border_box")
     void measureRootBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.direction = TaffyDirection.LTR;
@@ -41349,7 +41356,7 @@ public class FlexTest {
     @Test
     @DisplayName("measure_root__content_box")
     void measureRootContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.boxSizing = BoxSizing.CONTENT_BOX;
@@ -41370,7 +41377,7 @@ public class FlexTest {
     @Test
     @DisplayName("measure_stretch_overrides_measure__border_box")
     void measureStretchOverridesMeasureBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -41413,7 +41420,7 @@ public class FlexTest {
     @Test
     @DisplayName("measure_stretch_overrides_measure__content_box")
     void measureStretchOverridesMeasureContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -41459,7 +41466,7 @@ public class FlexTest {
     @Test
     @DisplayName("measure_width_overrides_measure__border_box")
     void measureWidthOverridesMeasureBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -41489,7 +41496,7 @@ public class FlexTest {
     @Test
     @DisplayName("measure_width_overrides_measure__content_box")
     void measureWidthOverridesMeasureContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -41521,7 +41528,7 @@ public class FlexTest {
     @Test
     @DisplayName("min_height__border_box")
     void minHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -41563,7 +41570,7 @@ public class FlexTest {
     @Test
     @DisplayName("min_height__content_box")
     void minHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -41608,7 +41615,7 @@ public class FlexTest {
     @Test
     @DisplayName("min_height_larger_than_height__border_box")
     void minHeightLargerThanHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -41639,7 +41646,7 @@ public class FlexTest {
     @Test
     @DisplayName("min_height_larger_than_height__content_box")
     void minHeightLargerThanHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -41672,7 +41679,7 @@ public class FlexTest {
     @Test
     @DisplayName("min_height_overrides_height__border_box")
     void minHeightOverridesHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -41702,7 +41709,7 @@ public class FlexTest {
     @Test
     @DisplayName("min_height_overrides_height__content_box")
     void minHeightOverridesHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -41734,7 +41741,7 @@ public class FlexTest {
     @Test
     @DisplayName("min_height_overrides_height_on_root__border_box")
     void minHeightOverridesHeightOnRootBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.direction = TaffyDirection.LTR;
@@ -41755,7 +41762,7 @@ public class FlexTest {
     @Test
     @DisplayName("min_height_overrides_height_on_root__content_box")
     void minHeightOverridesHeightOnRootContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.boxSizing = BoxSizing.CONTENT_BOX;
@@ -41777,7 +41784,7 @@ public class FlexTest {
     @Test
     @DisplayName("min_height_overrides_max_height__border_box")
     void minHeightOverridesMaxHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -41807,7 +41814,7 @@ public class FlexTest {
     @Test
     @DisplayName("min_height_overrides_max_height__content_box")
     void minHeightOverridesMaxHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -41839,7 +41846,7 @@ public class FlexTest {
     @Test
     @DisplayName("min_height_with_nested_fixed_height__border_box")
     void minHeightWithNestedFixedHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -41885,7 +41892,7 @@ public class FlexTest {
     @Test
     @DisplayName("min_height_with_nested_fixed_height__content_box")
     void minHeightWithNestedFixedHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -41934,7 +41941,7 @@ public class FlexTest {
     @Test
     @DisplayName("min_max_percent_different_width_height__border_box")
     void minMaxPercentDifferentWidthHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -41967,7 +41974,7 @@ public class FlexTest {
     @Test
     @DisplayName("min_max_percent_different_width_height__content_box")
     void minMaxPercentDifferentWidthHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -42002,7 +42009,7 @@ public class FlexTest {
     @Test
     @DisplayName("min_max_percent_no_width_height__border_box")
     void minMaxPercentNoWidthHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -42035,7 +42042,7 @@ public class FlexTest {
     @Test
     @DisplayName("min_max_percent_no_width_height__content_box")
     void minMaxPercentNoWidthHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -42070,7 +42077,7 @@ public class FlexTest {
     @Test
     @DisplayName("min_width__border_box")
     void minWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -42111,7 +42118,7 @@ public class FlexTest {
     @Test
     @DisplayName("min_width__content_box")
     void minWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -42155,7 +42162,7 @@ public class FlexTest {
     @Test
     @DisplayName("min_width_larger_than_width__border_box")
     void minWidthLargerThanWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -42187,7 +42194,7 @@ public class FlexTest {
     @Test
     @DisplayName("min_width_larger_than_width__content_box")
     void minWidthLargerThanWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -42221,7 +42228,7 @@ public class FlexTest {
     @Test
     @DisplayName("min_width_overrides_max_width__border_box")
     void minWidthOverridesMaxWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -42251,7 +42258,7 @@ public class FlexTest {
     @Test
     @DisplayName("min_width_overrides_max_width__content_box")
     void minWidthOverridesMaxWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -42283,7 +42290,7 @@ public class FlexTest {
     @Test
     @DisplayName("min_width_overrides_width__border_box")
     void minWidthOverridesWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -42313,7 +42320,7 @@ public class FlexTest {
     @Test
     @DisplayName("min_width_overrides_width__content_box")
     void minWidthOverridesWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -42345,7 +42352,7 @@ public class FlexTest {
     @Test
     @DisplayName("min_width_overrides_width_on_root__border_box")
     void minWidthOverridesWidthOnRootBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.direction = TaffyDirection.LTR;
@@ -42366,7 +42373,7 @@ public class FlexTest {
     @Test
     @DisplayName("min_width_overrides_width_on_root__content_box")
     void minWidthOverridesWidthOnRootContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.boxSizing = BoxSizing.CONTENT_BOX;
@@ -42388,7 +42395,7 @@ public class FlexTest {
     @Test
     @DisplayName("multiline_column_max_height__border_box")
     void multilineColumnMaxHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -42630,7 +42637,7 @@ public class FlexTest {
     @Test
     @DisplayName("multiline_column_max_height__content_box")
     void multilineColumnMaxHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -42893,7 +42900,7 @@ public class FlexTest {
     @Test
     @DisplayName("multiline_min_max_12__border_box")
     void multilineMinMax12BorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -42970,7 +42977,7 @@ public class FlexTest {
     @Test
     @DisplayName("multiline_min_max_12__content_box")
     void multilineMinMax12ContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -43047,7 +43054,7 @@ public class FlexTest {
     @Test
     @DisplayName("multiline_min_max_13__border_box")
     void multilineMinMax13BorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -43124,7 +43131,7 @@ public class FlexTest {
     @Test
     @DisplayName("multiline_min_max_13__content_box")
     void multilineMinMax13ContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -43201,7 +43208,7 @@ public class FlexTest {
     @Test
     @DisplayName("multiline_min_max_14__border_box")
     void multilineMinMax14BorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -43278,7 +43285,7 @@ public class FlexTest {
     @Test
     @DisplayName("multiline_min_max_14__content_box")
     void multilineMinMax14ContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -43355,7 +43362,7 @@ public class FlexTest {
     @Test
     @DisplayName("multiline_min_max_5__border_box")
     void multilineMinMax5BorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -43435,7 +43442,7 @@ public class FlexTest {
     @Test
     @DisplayName("multiline_min_max_5__content_box")
     void multilineMinMax5ContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -43515,7 +43522,7 @@ public class FlexTest {
     @Test
     @DisplayName("multiline_min_max_8__border_box")
     void multilineMinMax8BorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -43592,7 +43599,7 @@ public class FlexTest {
     @Test
     @DisplayName("multiline_min_max_8__content_box")
     void multilineMinMax8ContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -43673,7 +43680,7 @@ public class FlexTest {
     @Test
     @DisplayName("nested_overflowing_child__border_box")
     void nestedOverflowingChildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -43712,7 +43719,7 @@ public class FlexTest {
     @Test
     @DisplayName("nested_overflowing_child__content_box")
     void nestedOverflowingChildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -43754,7 +43761,7 @@ public class FlexTest {
     @Test
     @DisplayName("nested_overflowing_child_in_constraint_parent__border_box")
     void nestedOverflowingChildInConstraintParentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -43794,7 +43801,7 @@ public class FlexTest {
     @Test
     @DisplayName("nested_overflowing_child_in_constraint_parent__content_box")
     void nestedOverflowingChildInConstraintParentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -43837,7 +43844,7 @@ public class FlexTest {
     @Test
     @DisplayName("only_shrinkable_item_with_flex_basis_zero__border_box")
     void onlyShrinkableItemWithFlexBasisZeroBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -43893,7 +43900,7 @@ public class FlexTest {
     @Test
     @DisplayName("only_shrinkable_item_with_flex_basis_zero__content_box")
     void onlyShrinkableItemWithFlexBasisZeroContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -43953,7 +43960,7 @@ public class FlexTest {
     @Test
     @DisplayName("overflow_cross_axis__border_box")
     void overflowCrossAxisBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -43983,7 +43990,7 @@ public class FlexTest {
     @Test
     @DisplayName("overflow_cross_axis__content_box")
     void overflowCrossAxisContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -44015,7 +44022,7 @@ public class FlexTest {
     @Test
     @DisplayName("overflow_main_axis__border_box")
     void overflowMainAxisBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -44046,7 +44053,7 @@ public class FlexTest {
     @Test
     @DisplayName("overflow_main_axis__content_box")
     void overflowMainAxisContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -44079,7 +44086,7 @@ public class FlexTest {
     @Test
     @DisplayName("overflow_main_axis_shrink_hidden__border_box")
     void overflowMainAxisShrinkHiddenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -44111,7 +44118,7 @@ public class FlexTest {
     @Test
     @DisplayName("overflow_main_axis_shrink_hidden__content_box")
     void overflowMainAxisShrinkHiddenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -44145,7 +44152,7 @@ public class FlexTest {
     @Test
     @DisplayName("overflow_main_axis_shrink_scroll__border_box")
     void overflowMainAxisShrinkScrollBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -44178,7 +44185,7 @@ public class FlexTest {
     @Test
     @DisplayName("overflow_main_axis_shrink_scroll__content_box")
     void overflowMainAxisShrinkScrollContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -44213,7 +44220,7 @@ public class FlexTest {
     @Test
     @DisplayName("overflow_main_axis_shrink_visible__border_box")
     void overflowMainAxisShrinkVisibleBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -44244,7 +44251,7 @@ public class FlexTest {
     @Test
     @DisplayName("overflow_main_axis_shrink_visible__content_box")
     void overflowMainAxisShrinkVisibleContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -44277,7 +44284,7 @@ public class FlexTest {
     @Test
     @DisplayName("overflow_scroll_main_axis_justify_content_end__border_box")
     void overflowScrollMainAxisJustifyContentEndBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -44309,7 +44316,7 @@ public class FlexTest {
     @Test
     @DisplayName("overflow_scroll_main_axis_justify_content_end__content_box")
     void overflowScrollMainAxisJustifyContentEndContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -44343,7 +44350,7 @@ public class FlexTest {
     @Test
     @DisplayName("overflow_scrollbars_overridden_by_available_space__border_box")
     void overflowScrollbarsOverriddenByAvailableSpaceBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -44385,7 +44392,7 @@ public class FlexTest {
     @Test
     @DisplayName("overflow_scrollbars_overridden_by_available_space__content_box")
     void overflowScrollbarsOverriddenByAvailableSpaceContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -44430,7 +44437,7 @@ public class FlexTest {
     @Test
     @DisplayName("overflow_scrollbars_overridden_by_max_size__border_box")
     void overflowScrollbarsOverriddenByMaxSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -44462,7 +44469,7 @@ public class FlexTest {
     @Test
     @DisplayName("overflow_scrollbars_overridden_by_max_size__content_box")
     void overflowScrollbarsOverriddenByMaxSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -44496,7 +44503,7 @@ public class FlexTest {
     @Test
     @DisplayName("overflow_scrollbars_overridden_by_size__border_box")
     void overflowScrollbarsOverriddenBySizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -44528,7 +44535,7 @@ public class FlexTest {
     @Test
     @DisplayName("overflow_scrollbars_overridden_by_size__content_box")
     void overflowScrollbarsOverriddenBySizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -44562,7 +44569,7 @@ public class FlexTest {
     @Test
     @DisplayName("overflow_scrollbars_take_up_space_both_axis__border_box")
     void overflowScrollbarsTakeUpSpaceBothAxisBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -44594,7 +44601,7 @@ public class FlexTest {
     @Test
     @DisplayName("overflow_scrollbars_take_up_space_both_axis__content_box")
     void overflowScrollbarsTakeUpSpaceBothAxisContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -44628,7 +44635,7 @@ public class FlexTest {
     @Test
     @DisplayName("overflow_scrollbars_take_up_space_cross_axis__border_box")
     void overflowScrollbarsTakeUpSpaceCrossAxisBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -44660,7 +44667,7 @@ public class FlexTest {
     @Test
     @DisplayName("overflow_scrollbars_take_up_space_cross_axis__content_box")
     void overflowScrollbarsTakeUpSpaceCrossAxisContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -44694,7 +44701,7 @@ public class FlexTest {
     @Test
     @DisplayName("overflow_scrollbars_take_up_space_main_axis__border_box")
     void overflowScrollbarsTakeUpSpaceMainAxisBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -44726,7 +44733,7 @@ public class FlexTest {
     @Test
     @DisplayName("overflow_scrollbars_take_up_space_main_axis__content_box")
     void overflowScrollbarsTakeUpSpaceMainAxisContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -44760,7 +44767,7 @@ public class FlexTest {
     @Test
     @DisplayName("padding_align_end_child__border_box")
     void paddingAlignEndChildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -44793,7 +44800,7 @@ public class FlexTest {
     @Test
     @DisplayName("padding_align_end_child__content_box")
     void paddingAlignEndChildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -44828,7 +44835,7 @@ public class FlexTest {
     @Test
     @DisplayName("padding_border_overrides_max_size__border_box")
     void paddingBorderOverridesMaxSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -44859,7 +44866,7 @@ public class FlexTest {
     @Test
     @DisplayName("padding_border_overrides_max_size__content_box")
     void paddingBorderOverridesMaxSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -44892,7 +44899,7 @@ public class FlexTest {
     @Test
     @DisplayName("padding_border_overrides_min_size__border_box")
     void paddingBorderOverridesMinSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -44923,7 +44930,7 @@ public class FlexTest {
     @Test
     @DisplayName("padding_border_overrides_min_size__content_box")
     void paddingBorderOverridesMinSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -44956,7 +44963,7 @@ public class FlexTest {
     @Test
     @DisplayName("padding_border_overrides_size__border_box")
     void paddingBorderOverridesSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -44987,7 +44994,7 @@ public class FlexTest {
     @Test
     @DisplayName("padding_border_overrides_size__content_box")
     void paddingBorderOverridesSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -45020,7 +45027,7 @@ public class FlexTest {
     @Test
     @DisplayName("padding_border_overrides_size_flex_basis_0_growable__border_box")
     void paddingBorderOverridesSizeFlexBasis0GrowableBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -45065,7 +45072,7 @@ public class FlexTest {
     @Test
     @DisplayName("padding_border_overrides_size_flex_basis_0_growable__content_box")
     void paddingBorderOverridesSizeFlexBasis0GrowableContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -45113,7 +45120,7 @@ public class FlexTest {
     @Test
     @DisplayName("padding_border_overrides_size_root__border_box")
     void paddingBorderOverridesSizeRootBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -45144,7 +45151,7 @@ public class FlexTest {
     @Test
     @DisplayName("padding_border_overrides_size_root__content_box")
     void paddingBorderOverridesSizeRootContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -45177,7 +45184,7 @@ public class FlexTest {
     @Test
     @DisplayName("padding_center_child__border_box")
     void paddingCenterChildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -45210,7 +45217,7 @@ public class FlexTest {
     @Test
     @DisplayName("padding_center_child__content_box")
     void paddingCenterChildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -45245,7 +45252,7 @@ public class FlexTest {
     @Test
     @DisplayName("padding_container_match_child__border_box")
     void paddingContainerMatchChildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -45276,7 +45283,7 @@ public class FlexTest {
     @Test
     @DisplayName("padding_container_match_child__content_box")
     void paddingContainerMatchChildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -45309,7 +45316,7 @@ public class FlexTest {
     @Test
     @DisplayName("padding_flex_child__border_box")
     void paddingFlexChildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -45341,7 +45348,7 @@ public class FlexTest {
     @Test
     @DisplayName("padding_flex_child__content_box")
     void paddingFlexChildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -45375,7 +45382,7 @@ public class FlexTest {
     @Test
     @DisplayName("padding_no_child__border_box")
     void paddingNoChildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.direction = TaffyDirection.LTR;
@@ -45395,7 +45402,7 @@ public class FlexTest {
     @Test
     @DisplayName("padding_no_child__content_box")
     void paddingNoChildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.boxSizing = BoxSizing.CONTENT_BOX;
@@ -45416,7 +45423,7 @@ public class FlexTest {
     @Test
     @DisplayName("padding_no_size__border_box")
     void paddingNoSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.direction = TaffyDirection.LTR;
@@ -45436,7 +45443,7 @@ public class FlexTest {
     @Test
     @DisplayName("padding_no_size__content_box")
     void paddingNoSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.boxSizing = BoxSizing.CONTENT_BOX;
@@ -45457,7 +45464,7 @@ public class FlexTest {
     @Test
     @DisplayName("padding_stretch_child__border_box")
     void paddingStretchChildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -45488,7 +45495,7 @@ public class FlexTest {
     @Test
     @DisplayName("padding_stretch_child__content_box")
     void paddingStretchChildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -45521,7 +45528,7 @@ public class FlexTest {
     @Test
     @DisplayName("parent_wrap_child_size_overflowing_parent__border_box")
     void parentWrapChildSizeOverflowingParentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -45561,7 +45568,7 @@ public class FlexTest {
     @Test
     @DisplayName("parent_wrap_child_size_overflowing_parent__content_box")
     void parentWrapChildSizeOverflowingParentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -45604,7 +45611,7 @@ public class FlexTest {
     @Test
     @DisplayName("percent_absolute_position__border_box")
     void percentAbsolutePositionBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -45657,7 +45664,7 @@ public class FlexTest {
     @Test
     @DisplayName("percent_absolute_position__content_box")
     void percentAbsolutePositionContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -45714,7 +45721,7 @@ public class FlexTest {
     @Test
     @DisplayName("percent_within_flex_grow__border_box")
     void percentWithinFlexGrowBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -45775,7 +45782,7 @@ public class FlexTest {
     @Test
     @DisplayName("percent_within_flex_grow__content_box")
     void percentWithinFlexGrowContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -45841,7 +45848,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_absolute_position__border_box")
     void percentageAbsolutePositionBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -45874,7 +45881,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_absolute_position__content_box")
     void percentageAbsolutePositionContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -45909,7 +45916,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_container_in_wrapping_container__border_box")
     void percentageContainerInWrappingContainerBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -45973,7 +45980,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_container_in_wrapping_container__content_box")
     void percentageContainerInWrappingContainerContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -46042,7 +46049,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_different_width_height__border_box")
     void percentageDifferentWidthHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -46083,7 +46090,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_different_width_height__content_box")
     void percentageDifferentWidthHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -46127,7 +46134,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_different_width_height_column__border_box")
     void percentageDifferentWidthHeightColumnBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -46168,7 +46175,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_different_width_height_column__content_box")
     void percentageDifferentWidthHeightColumnContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -46212,7 +46219,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_flex_basis__border_box")
     void percentageFlexBasisBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -46254,7 +46261,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_flex_basis__content_box")
     void percentageFlexBasisContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -46299,7 +46306,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_flex_basis_cross__border_box")
     void percentageFlexBasisCrossBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -46342,7 +46349,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_flex_basis_cross__content_box")
     void percentageFlexBasisCrossContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -46388,7 +46395,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_flex_basis_cross_max_height__border_box")
     void percentageFlexBasisCrossMaxHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -46433,7 +46440,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_flex_basis_cross_max_height__content_box")
     void percentageFlexBasisCrossMaxHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -46481,7 +46488,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_flex_basis_cross_max_width__border_box")
     void percentageFlexBasisCrossMaxWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -46526,7 +46533,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_flex_basis_cross_max_width__content_box")
     void percentageFlexBasisCrossMaxWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -46574,7 +46581,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_flex_basis_cross_min_height__border_box")
     void percentageFlexBasisCrossMinHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -46617,7 +46624,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_flex_basis_cross_min_height__content_box")
     void percentageFlexBasisCrossMinHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -46663,7 +46670,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_flex_basis_cross_min_width__border_box")
     void percentageFlexBasisCrossMinWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -46708,7 +46715,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_flex_basis_cross_min_width__content_box")
     void percentageFlexBasisCrossMinWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -46756,7 +46763,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_flex_basis_main_max_height__border_box")
     void percentageFlexBasisMainMaxHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -46800,7 +46807,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_flex_basis_main_max_height__content_box")
     void percentageFlexBasisMainMaxHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -46847,7 +46854,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_flex_basis_main_max_width__border_box")
     void percentageFlexBasisMainMaxWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -46891,7 +46898,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_flex_basis_main_max_width__content_box")
     void percentageFlexBasisMainMaxWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -46938,7 +46945,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_flex_basis_main_min_width__border_box")
     void percentageFlexBasisMainMinWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -46982,7 +46989,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_flex_basis_main_min_width__content_box")
     void percentageFlexBasisMainMinWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -47029,7 +47036,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_main_max_height__border_box")
     void percentageMainMaxHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -47083,7 +47090,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_main_max_height__content_box")
     void percentageMainMaxHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -47141,7 +47148,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_margin_should_calculate_based_only_on_width__border_box")
     void percentageMarginShouldCalculateBasedOnlyOnWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -47184,7 +47191,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_margin_should_calculate_based_only_on_width__content_box")
     void percentageMarginShouldCalculateBasedOnlyOnWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -47230,7 +47237,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_moderate_complexity__border_box")
     void percentageModerateComplexityBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
         tree.disableRounding();
 
         TaffyStyle node00Style = new TaffyStyle();
@@ -47278,7 +47285,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_moderate_complexity__content_box")
     void percentageModerateComplexityContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
         tree.disableRounding();
 
         TaffyStyle node00Style = new TaffyStyle();
@@ -47329,7 +47336,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_moderate_complexity2__border_box")
     void percentageModerateComplexity2BorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -47372,7 +47379,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_moderate_complexity2__content_box")
     void percentageModerateComplexity2ContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -47418,7 +47425,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_multiple_nested_with_padding_margin_and_percentage_values__border_box")
     void percentageMultipleNestedWithPaddingMarginAndPercentageValuesBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -47491,7 +47498,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_multiple_nested_with_padding_margin_and_percentage_values__content_box")
     void percentageMultipleNestedWithPaddingMarginAndPercentageValuesContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -47569,7 +47576,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_padding_should_calculate_based_only_on_width__border_box")
     void percentagePaddingShouldCalculateBasedOnlyOnWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -47612,7 +47619,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_padding_should_calculate_based_only_on_width__content_box")
     void percentagePaddingShouldCalculateBasedOnlyOnWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -47658,7 +47665,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_position_bottom_right__border_box")
     void percentagePositionBottomRightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -47689,7 +47696,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_position_bottom_right__content_box")
     void percentagePositionBottomRightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -47722,7 +47729,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_position_left_top__border_box")
     void percentagePositionLeftTopBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -47753,7 +47760,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_position_left_top__content_box")
     void percentagePositionLeftTopContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -47786,7 +47793,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_size_based_on_parent_inner_size__border_box")
     void percentageSizeBasedOnParentInnerSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -47818,7 +47825,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_size_based_on_parent_inner_size__content_box")
     void percentageSizeBasedOnParentInnerSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -47852,7 +47859,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_size_of_flex_basis__border_box")
     void percentageSizeOfFlexBasisBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -47892,7 +47899,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_size_of_flex_basis__content_box")
     void percentageSizeOfFlexBasisContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -47935,7 +47942,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_sizes_should_not_prevent_flex_shrinking__border_box")
     void percentageSizesShouldNotPreventFlexShrinkingBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -47974,7 +47981,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_sizes_should_not_prevent_flex_shrinking__content_box")
     void percentageSizesShouldNotPreventFlexShrinkingContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -48016,7 +48023,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_width_height__border_box")
     void percentageWidthHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -48046,7 +48053,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_width_height__content_box")
     void percentageWidthHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -48078,7 +48085,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_width_height_undefined_parent_size__border_box")
     void percentageWidthHeightUndefinedParentSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -48108,7 +48115,7 @@ public class FlexTest {
     @Test
     @DisplayName("percentage_width_height_undefined_parent_size__content_box")
     void percentageWidthHeightUndefinedParentSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -48140,7 +48147,7 @@ public class FlexTest {
     @Test
     @DisplayName("position_root_with_rtl_should_position_withoutdirection__border_box")
     void positionRootWithRtlShouldPositionWithoutdirectionBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -48170,7 +48177,7 @@ public class FlexTest {
     @Test
     @DisplayName("position_root_with_rtl_should_position_withoutdirection__content_box")
     void positionRootWithRtlShouldPositionWithoutdirectionContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -48202,7 +48209,7 @@ public class FlexTest {
     @Test
     @DisplayName("relative_position_should_not_nudge_siblings__border_box")
     void relativePositionShouldNotNudgeSiblingsBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -48245,7 +48252,7 @@ public class FlexTest {
     @Test
     @DisplayName("relative_position_should_not_nudge_siblings__content_box")
     void relativePositionShouldNotNudgeSiblingsContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -48291,7 +48298,7 @@ public class FlexTest {
     @Test
     @DisplayName("rounding_flex_basis_flex_grow_row_prime_number_width__border_box")
     void roundingFlexBasisFlexGrowRowPrimeNumberWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -48361,7 +48368,7 @@ public class FlexTest {
     @Test
     @DisplayName("rounding_flex_basis_flex_grow_row_prime_number_width__content_box")
     void roundingFlexBasisFlexGrowRowPrimeNumberWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -48437,7 +48444,7 @@ public class FlexTest {
     @Test
     @DisplayName("rounding_flex_basis_flex_grow_row_width_of_100__border_box")
     void roundingFlexBasisFlexGrowRowWidthOf100BorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -48487,7 +48494,7 @@ public class FlexTest {
     @Test
     @DisplayName("rounding_flex_basis_flex_grow_row_width_of_100__content_box")
     void roundingFlexBasisFlexGrowRowWidthOf100ContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -48541,7 +48548,7 @@ public class FlexTest {
     @Test
     @DisplayName("rounding_flex_basis_flex_shrink_row__border_box")
     void roundingFlexBasisFlexShrinkRowBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -48592,7 +48599,7 @@ public class FlexTest {
     @Test
     @DisplayName("rounding_flex_basis_flex_shrink_row__content_box")
     void roundingFlexBasisFlexShrinkRowContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -48647,7 +48654,7 @@ public class FlexTest {
     @Test
     @DisplayName("rounding_flex_basis_overrides_main_size__border_box")
     void roundingFlexBasisOverridesMainSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -48702,7 +48709,7 @@ public class FlexTest {
     @Test
     @DisplayName("rounding_flex_basis_overrides_main_size__content_box")
     void roundingFlexBasisOverridesMainSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -48761,7 +48768,7 @@ public class FlexTest {
     @Test
     @DisplayName("rounding_fractial_input_1__border_box")
     void roundingFractialInput1BorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -48816,7 +48823,7 @@ public class FlexTest {
     @Test
     @DisplayName("rounding_fractial_input_1__content_box")
     void roundingFractialInput1ContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -48875,7 +48882,7 @@ public class FlexTest {
     @Test
     @DisplayName("rounding_fractial_input_2__border_box")
     void roundingFractialInput2BorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -48930,7 +48937,7 @@ public class FlexTest {
     @Test
     @DisplayName("rounding_fractial_input_2__content_box")
     void roundingFractialInput2ContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -48989,7 +48996,7 @@ public class FlexTest {
     @Test
     @DisplayName("rounding_fractial_input_3__border_box")
     void roundingFractialInput3BorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -49044,7 +49051,7 @@ public class FlexTest {
     @Test
     @DisplayName("rounding_fractial_input_3__content_box")
     void roundingFractialInput3ContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -49103,7 +49110,7 @@ public class FlexTest {
     @Test
     @DisplayName("rounding_fractial_input_4__border_box")
     void roundingFractialInput4BorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -49158,7 +49165,7 @@ public class FlexTest {
     @Test
     @DisplayName("rounding_fractial_input_4__content_box")
     void roundingFractialInput4ContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -49217,7 +49224,7 @@ public class FlexTest {
     @Test
     @DisplayName("rounding_fractial_input_5__border_box")
     void roundingFractialInput5BorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -49258,7 +49265,7 @@ public class FlexTest {
     @Test
     @DisplayName("rounding_fractial_input_5__content_box")
     void roundingFractialInput5ContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -49302,7 +49309,7 @@ public class FlexTest {
     @Test
     @DisplayName("rounding_fractial_input_6__border_box")
     void roundingFractialInput6BorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -49384,7 +49391,7 @@ public class FlexTest {
     @Test
     @DisplayName("rounding_fractial_input_6__content_box")
     void roundingFractialInput6ContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -49473,7 +49480,7 @@ public class FlexTest {
     @Test
     @DisplayName("rounding_fractial_input_7__border_box")
     void roundingFractialInput7BorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -49617,7 +49624,7 @@ public class FlexTest {
     @Test
     @DisplayName("rounding_fractial_input_7__content_box")
     void roundingFractialInput7ContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -49774,7 +49781,7 @@ public class FlexTest {
     @Test
     @DisplayName("rounding_inner_node_controversy_combined__border_box")
     void roundingInnerNodeControversyCombinedBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -49873,7 +49880,7 @@ public class FlexTest {
     @Test
     @DisplayName("rounding_inner_node_controversy_combined__content_box")
     void roundingInnerNodeControversyCombinedContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -49980,7 +49987,7 @@ public class FlexTest {
     @Test
     @DisplayName("rounding_inner_node_controversy_horizontal__border_box")
     void roundingInnerNodeControversyHorizontalBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -50045,7 +50052,7 @@ public class FlexTest {
     @Test
     @DisplayName("rounding_inner_node_controversy_horizontal__content_box")
     void roundingInnerNodeControversyHorizontalContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -50115,7 +50122,7 @@ public class FlexTest {
     @Test
     @DisplayName("rounding_inner_node_controversy_vertical__border_box")
     void roundingInnerNodeControversyVerticalBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -50181,7 +50188,7 @@ public class FlexTest {
     @Test
     @DisplayName("rounding_inner_node_controversy_vertical__content_box")
     void roundingInnerNodeControversyVerticalContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -50252,7 +50259,7 @@ public class FlexTest {
     @Test
     @DisplayName("rounding_total_fractial__border_box")
     void roundingTotalFractialBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -50307,7 +50314,7 @@ public class FlexTest {
     @Test
     @DisplayName("rounding_total_fractial__content_box")
     void roundingTotalFractialContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -50366,7 +50373,7 @@ public class FlexTest {
     @Test
     @DisplayName("rounding_total_fractial_nested__border_box")
     void roundingTotalFractialNestedBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -50448,7 +50455,7 @@ public class FlexTest {
     @Test
     @DisplayName("rounding_total_fractial_nested__content_box")
     void roundingTotalFractialNestedContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -50536,7 +50543,7 @@ public class FlexTest {
     @Test
     @DisplayName("scroll_size__border_box")
     void scrollSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -50571,7 +50578,7 @@ public class FlexTest {
     @Test
     @DisplayName("scroll_size__content_box")
     void scrollSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -50608,7 +50615,7 @@ public class FlexTest {
     @Test
     @DisplayName("simple_child__border_box")
     void simpleChildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -50689,7 +50696,7 @@ public class FlexTest {
     @Test
     @DisplayName("simple_child__content_box")
     void simpleChildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -50777,7 +50784,7 @@ public class FlexTest {
     @Test
     @DisplayName("single_flex_child_after_absolute_child__border_box")
     void singleFlexChildAfterAbsoluteChildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -50831,7 +50838,7 @@ public class FlexTest {
     @Test
     @DisplayName("single_flex_child_after_absolute_child__content_box")
     void singleFlexChildAfterAbsoluteChildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -50889,7 +50896,7 @@ public class FlexTest {
     @Test
     @DisplayName("size_defined_by_child__border_box")
     void sizeDefinedByChildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -50918,7 +50925,7 @@ public class FlexTest {
     @Test
     @DisplayName("size_defined_by_child__content_box")
     void sizeDefinedByChildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -50949,7 +50956,7 @@ public class FlexTest {
     @Test
     @DisplayName("size_defined_by_child_with_border__border_box")
     void sizeDefinedByChildWithBorderBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -50979,7 +50986,7 @@ public class FlexTest {
     @Test
     @DisplayName("size_defined_by_child_with_border__content_box")
     void sizeDefinedByChildWithBorderContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -51011,7 +51018,7 @@ public class FlexTest {
     @Test
     @DisplayName("size_defined_by_child_with_padding__border_box")
     void sizeDefinedByChildWithPaddingBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -51041,7 +51048,7 @@ public class FlexTest {
     @Test
     @DisplayName("size_defined_by_child_with_padding__content_box")
     void sizeDefinedByChildWithPaddingContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -51073,7 +51080,7 @@ public class FlexTest {
     @Test
     @DisplayName("size_defined_by_grand_child__border_box")
     void sizeDefinedByGrandChildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -51111,7 +51118,7 @@ public class FlexTest {
     @Test
     @DisplayName("size_defined_by_grand_child__content_box")
     void sizeDefinedByGrandChildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -51152,7 +51159,7 @@ public class FlexTest {
     @Test
     @DisplayName("taffy_issue_696__border_box")
     void taffyIssue696BorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -51198,7 +51205,7 @@ public class FlexTest {
     @Test
     @DisplayName("taffy_issue_696__content_box")
     void taffyIssue696ContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -51247,7 +51254,7 @@ public class FlexTest {
     @Test
     @DisplayName("taffy_issue_696_flex_basis_20__border_box")
     void taffyIssue696FlexBasis20BorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -51293,7 +51300,7 @@ public class FlexTest {
     @Test
     @DisplayName("taffy_issue_696_flex_basis_20__content_box")
     void taffyIssue696FlexBasis20ContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -51342,7 +51349,7 @@ public class FlexTest {
     @Test
     @DisplayName("taffy_issue_696_min_height__border_box")
     void taffyIssue696MinHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -51387,7 +51394,7 @@ public class FlexTest {
     @Test
     @DisplayName("taffy_issue_696_min_height__content_box")
     void taffyIssue696MinHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -51435,7 +51442,7 @@ public class FlexTest {
     @Test
     @DisplayName("taffy_issue_696_no_flex_basis__border_box")
     void taffyIssue696NoFlexBasisBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -51480,7 +51487,7 @@ public class FlexTest {
     @Test
     @DisplayName("taffy_issue_696_no_flex_basis__content_box")
     void taffyIssue696NoFlexBasisContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -51528,7 +51535,7 @@ public class FlexTest {
     @Test
     @DisplayName("taffy_issue_696_overflow_hidden__border_box")
     void taffyIssue696OverflowHiddenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -51573,7 +51580,7 @@ public class FlexTest {
     @Test
     @DisplayName("taffy_issue_696_overflow_hidden__content_box")
     void taffyIssue696OverflowHiddenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -51621,7 +51628,7 @@ public class FlexTest {
     @Test
     @DisplayName("undefined_height_with_min_max__border_box")
     void undefinedHeightWithMinMaxBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -51654,7 +51661,7 @@ public class FlexTest {
     @Test
     @DisplayName("undefined_height_with_min_max__content_box")
     void undefinedHeightWithMinMaxContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -51689,7 +51696,7 @@ public class FlexTest {
     @Test
     @DisplayName("undefined_width_with_min_max__border_box")
     void undefinedWidthWithMinMaxBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -51721,7 +51728,7 @@ public class FlexTest {
     @Test
     @DisplayName("undefined_width_with_min_max__content_box")
     void undefinedWidthWithMinMaxContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -51755,7 +51762,7 @@ public class FlexTest {
     @Test
     @DisplayName("undefined_width_with_min_max_row__border_box")
     void undefinedWidthWithMinMaxRowBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -51796,7 +51803,7 @@ public class FlexTest {
     @Test
     @DisplayName("undefined_width_with_min_max_row__content_box")
     void undefinedWidthWithMinMaxRowContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -51840,7 +51847,7 @@ public class FlexTest {
     @Test
     @DisplayName("width_smaller_then_content_with_flex_grow_large_size__border_box")
     void widthSmallerThenContentWithFlexGrowLargeSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -51904,7 +51911,7 @@ public class FlexTest {
     @Test
     @DisplayName("width_smaller_then_content_with_flex_grow_large_size__content_box")
     void widthSmallerThenContentWithFlexGrowLargeSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -51973,7 +51980,7 @@ public class FlexTest {
     @Test
     @DisplayName("width_smaller_then_content_with_flex_grow_small_size__border_box")
     void widthSmallerThenContentWithFlexGrowSmallSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -52037,7 +52044,7 @@ public class FlexTest {
     @Test
     @DisplayName("width_smaller_then_content_with_flex_grow_small_size__content_box")
     void widthSmallerThenContentWithFlexGrowSmallSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -52106,7 +52113,7 @@ public class FlexTest {
     @Test
     @DisplayName("width_smaller_then_content_with_flex_grow_unconstraint_size__border_box")
     void widthSmallerThenContentWithFlexGrowUnconstraintSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -52169,7 +52176,7 @@ public class FlexTest {
     @Test
     @DisplayName("width_smaller_then_content_with_flex_grow_unconstraint_size__content_box")
     void widthSmallerThenContentWithFlexGrowUnconstraintSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -52237,7 +52244,7 @@ public class FlexTest {
     @Test
     @DisplayName("width_smaller_then_content_with_flex_grow_very_large_size__border_box")
     void widthSmallerThenContentWithFlexGrowVeryLargeSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -52301,7 +52308,7 @@ public class FlexTest {
     @Test
     @DisplayName("width_smaller_then_content_with_flex_grow_very_large_size__content_box")
     void widthSmallerThenContentWithFlexGrowVeryLargeSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -52370,7 +52377,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrap_child__border_box")
     void wrapChildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -52400,7 +52407,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrap_child__content_box")
     void wrapChildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -52432,7 +52439,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrap_column__border_box")
     void wrapColumnBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -52494,7 +52501,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrap_column__content_box")
     void wrapColumnContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -52561,7 +52568,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrap_grandchild__border_box")
     void wrapGrandchildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -52599,7 +52606,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrap_grandchild__content_box")
     void wrapGrandchildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -52640,7 +52647,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrap_nodes_with_content_sizing_margin_cross__border_box")
     void wrapNodesWithContentSizingMarginCrossBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -52713,7 +52720,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrap_nodes_with_content_sizing_margin_cross__content_box")
     void wrapNodesWithContentSizingMarginCrossContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -52792,7 +52799,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrap_nodes_with_content_sizing_overflowing_margin__border_box")
     void wrapNodesWithContentSizingOverflowingMarginBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -52865,7 +52872,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrap_nodes_with_content_sizing_overflowing_margin__content_box")
     void wrapNodesWithContentSizingOverflowingMarginContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -52944,7 +52951,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrap_reverse_column__border_box")
     void wrapReverseColumnBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -53006,7 +53013,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrap_reverse_column__content_box")
     void wrapReverseColumnContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -53073,7 +53080,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrap_reverse_column_fixed_size__border_box")
     void wrapReverseColumnFixedSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -53146,7 +53153,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrap_reverse_column_fixed_size__content_box")
     void wrapReverseColumnFixedSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -53225,7 +53232,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrap_reverse_row__border_box")
     void wrapReverseRowBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -53286,7 +53293,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrap_reverse_row__content_box")
     void wrapReverseRowContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -53352,7 +53359,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrap_reverse_row_align_content_center__border_box")
     void wrapReverseRowAlignContentCenterBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -53424,7 +53431,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrap_reverse_row_align_content_center__content_box")
     void wrapReverseRowAlignContentCenterContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -53502,7 +53509,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrap_reverse_row_align_content_flex_start__border_box")
     void wrapReverseRowAlignContentFlexStartBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -53574,7 +53581,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrap_reverse_row_align_content_flex_start__content_box")
     void wrapReverseRowAlignContentFlexStartContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -53652,7 +53659,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrap_reverse_row_align_content_space_around__border_box")
     void wrapReverseRowAlignContentSpaceAroundBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -53724,7 +53731,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrap_reverse_row_align_content_space_around__content_box")
     void wrapReverseRowAlignContentSpaceAroundContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -53802,7 +53809,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrap_reverse_row_align_content_stretch__border_box")
     void wrapReverseRowAlignContentStretchBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -53874,7 +53881,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrap_reverse_row_align_content_stretch__content_box")
     void wrapReverseRowAlignContentStretchContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -53952,7 +53959,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrap_reverse_row_single_line_different_size__border_box")
     void wrapReverseRowSingleLineDifferentSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -54024,7 +54031,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrap_reverse_row_single_line_different_size__content_box")
     void wrapReverseRowSingleLineDifferentSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -54102,7 +54109,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrap_row__border_box")
     void wrapRowBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -54163,7 +54170,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrap_row__content_box")
     void wrapRowContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -54229,7 +54236,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrap_row_align_items_center__border_box")
     void wrapRowAlignItemsCenterBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -54291,7 +54298,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrap_row_align_items_center__content_box")
     void wrapRowAlignItemsCenterContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -54358,7 +54365,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrap_row_align_items_flex_end__border_box")
     void wrapRowAlignItemsFlexEndBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -54420,7 +54427,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrap_row_align_items_flex_end__content_box")
     void wrapRowAlignItemsFlexEndContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -54487,7 +54494,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrapped_column_max_height__border_box")
     void wrappedColumnMaxHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -54544,7 +54551,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrapped_column_max_height__content_box")
     void wrappedColumnMaxHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -54605,7 +54612,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrapped_column_max_height_flex__border_box")
     void wrappedColumnMaxHeightFlexBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -54668,7 +54675,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrapped_column_max_height_flex__content_box")
     void wrappedColumnMaxHeightFlexContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -54735,7 +54742,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrapped_row_within_align_items_center__border_box")
     void wrappedRowWithinAlignItemsCenterBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -54787,7 +54794,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrapped_row_within_align_items_center__content_box")
     void wrappedRowWithinAlignItemsCenterContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -54843,7 +54850,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrapped_row_within_align_items_flex_end__border_box")
     void wrappedRowWithinAlignItemsFlexEndBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -54895,7 +54902,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrapped_row_within_align_items_flex_end__content_box")
     void wrappedRowWithinAlignItemsFlexEndContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -54951,7 +54958,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrapped_row_within_align_items_flex_start__border_box")
     void wrappedRowWithinAlignItemsFlexStartBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -55003,7 +55010,7 @@ public class FlexTest {
     @Test
     @DisplayName("wrapped_row_within_align_items_flex_start__content_box")
     void wrappedRowWithinAlignItemsFlexStartContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -15,6 +15,13 @@ public class GridTest {
 
     private static final float EPSILON = 0.1f;
 
+    /**
+     * Creates the tree a fixture is laid out in. Subclasses can override it to lay the fixtures out differently.
+     */
+    protected TaffyTree newTree() {
+        return new TaffyTree();
+    }
+
     private static MeasureFunc ahemTextMeasure(String text, boolean vertical) {
         final String trimmed = text == null ? "" : text.trim();
         return (knownDimensions, availableSpace) -> {
@@ -93,7 +100,7 @@ public class GridTest {
     @Test
     @DisplayName("absolute_correct_cross_child_size_with_percentage__border_box")
     void absoluteCorrectCrossChildSizeWithPercentageBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -166,7 +173,7 @@ public class GridTest {
     @Test
     @DisplayName("absolute_correct_cross_child_size_with_percentage__content_box")
     void absoluteCorrectCrossChildSizeWithPercentageContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -245,7 +252,7 @@ public class GridTest {
     @Test
     @DisplayName("chrome_issue_325928327__border_box")
     void chromeIssue325928327BorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -288,7 +295,7 @@ public class GridTest {
     @Test
     @DisplayName("chrome_issue_325928327__content_box")
     void chromeIssue325928327ContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -334,7 +341,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_align_self_sized_all__border_box")
     void gridAbsoluteAlignSelfSizedAllBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -457,7 +464,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_align_self_sized_all__content_box")
     void gridAbsoluteAlignSelfSizedAllContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -589,7 +596,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_column_end__border_box")
     void gridAbsoluteColumnEndBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -628,7 +635,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_column_end__content_box")
     void gridAbsoluteColumnEndContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -669,7 +676,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_column_start__border_box")
     void gridAbsoluteColumnStartBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -708,7 +715,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_column_start__content_box")
     void gridAbsoluteColumnStartContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -749,7 +756,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_container_bottom_left__border_box")
     void gridAbsoluteContainerBottomLeftBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -859,7 +866,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_container_bottom_left__content_box")
     void gridAbsoluteContainerBottomLeftContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -979,7 +986,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_container_bottom_left_margin__border_box")
     void gridAbsoluteContainerBottomLeftMarginBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -1091,7 +1098,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_container_bottom_left_margin__content_box")
     void gridAbsoluteContainerBottomLeftMarginContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1213,7 +1220,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_container_left_overrides_right__border_box")
     void gridAbsoluteContainerLeftOverridesRightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -1324,7 +1331,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_container_left_overrides_right__content_box")
     void gridAbsoluteContainerLeftOverridesRightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1445,7 +1452,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_container_left_right__border_box")
     void gridAbsoluteContainerLeftRightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -1555,7 +1562,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_container_left_right__content_box")
     void gridAbsoluteContainerLeftRightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1675,7 +1682,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_container_left_right_margin__border_box")
     void gridAbsoluteContainerLeftRightMarginBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -1786,7 +1793,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_container_left_right_margin__content_box")
     void gridAbsoluteContainerLeftRightMarginContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1907,7 +1914,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_container_negative_position__border_box")
     void gridAbsoluteContainerNegativePositionBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -2019,7 +2026,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_container_negative_position__content_box")
     void gridAbsoluteContainerNegativePositionContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2141,7 +2148,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_container_negative_position_margin__border_box")
     void gridAbsoluteContainerNegativePositionMarginBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -2255,7 +2262,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_container_negative_position_margin__content_box")
     void gridAbsoluteContainerNegativePositionMarginContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2379,7 +2386,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_container_top_bottom__border_box")
     void gridAbsoluteContainerTopBottomBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -2489,7 +2496,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_container_top_bottom__content_box")
     void gridAbsoluteContainerTopBottomContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2609,7 +2616,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_container_top_bottom_margin__border_box")
     void gridAbsoluteContainerTopBottomMarginBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -2720,7 +2727,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_container_top_bottom_margin__content_box")
     void gridAbsoluteContainerTopBottomMarginContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2841,7 +2848,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_container_top_right__border_box")
     void gridAbsoluteContainerTopRightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -2951,7 +2958,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_container_top_right__content_box")
     void gridAbsoluteContainerTopRightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3071,7 +3078,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_container_top_right_margin__border_box")
     void gridAbsoluteContainerTopRightMarginBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -3182,7 +3189,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_container_top_right_margin__content_box")
     void gridAbsoluteContainerTopRightMarginContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3303,7 +3310,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_justify_self_sized_all__border_box")
     void gridAbsoluteJustifySelfSizedAllBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -3426,7 +3433,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_justify_self_sized_all__content_box")
     void gridAbsoluteJustifySelfSizedAllContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3558,7 +3565,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_layout_within_border__border_box")
     void gridAbsoluteLayoutWithinBorderBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -3631,7 +3638,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_layout_within_border__content_box")
     void gridAbsoluteLayoutWithinBorderContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3709,7 +3716,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_layout_within_border_static__border_box")
     void gridAbsoluteLayoutWithinBorderStaticBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -3786,7 +3793,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_layout_within_border_static__content_box")
     void gridAbsoluteLayoutWithinBorderStaticContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3868,7 +3875,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_resolved_insets__border_box")
     void gridAbsoluteResolvedInsetsBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -4049,7 +4056,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_resolved_insets__content_box")
     void gridAbsoluteResolvedInsetsContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -4245,7 +4252,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_row_end__border_box")
     void gridAbsoluteRowEndBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -4284,7 +4291,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_row_end__content_box")
     void gridAbsoluteRowEndContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -4325,7 +4332,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_row_start__border_box")
     void gridAbsoluteRowStartBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -4364,7 +4371,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_row_start__content_box")
     void gridAbsoluteRowStartContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -4405,7 +4412,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_top_overrides_bottom__border_box")
     void gridAbsoluteTopOverridesBottomBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -4516,7 +4523,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_top_overrides_bottom__content_box")
     void gridAbsoluteTopOverridesBottomContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -4637,7 +4644,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_with_padding__border_box")
     void gridAbsoluteWithPaddingBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -4749,7 +4756,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_with_padding__content_box")
     void gridAbsoluteWithPaddingContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -4871,7 +4878,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_with_padding_and_margin__border_box")
     void gridAbsoluteWithPaddingAndMarginBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -4985,7 +4992,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_absolute_with_padding_and_margin__content_box")
     void gridAbsoluteWithPaddingAndMarginContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -5109,7 +5116,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_content_center__border_box")
     void gridAlignContentCenterBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -5218,7 +5225,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_content_center__content_box")
     void gridAlignContentCenterContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -5337,7 +5344,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_content_center_negative_space_gap__border_box")
     void gridAlignContentCenterNegativeSpaceGapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -5460,7 +5467,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_content_center_negative_space_gap__content_box")
     void gridAlignContentCenterNegativeSpaceGapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -5594,7 +5601,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_content_end__border_box")
     void gridAlignContentEndBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -5703,7 +5710,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_content_end__content_box")
     void gridAlignContentEndContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -5822,7 +5829,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_content_end_negative_space_gap__border_box")
     void gridAlignContentEndNegativeSpaceGapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -5945,7 +5952,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_content_end_negative_space_gap__content_box")
     void gridAlignContentEndNegativeSpaceGapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -6079,7 +6086,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_content_end_with_padding_border__border_box")
     void gridAlignContentEndWithPaddingBorderBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -6190,7 +6197,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_content_end_with_padding_border__content_box")
     void gridAlignContentEndWithPaddingBorderContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -6311,7 +6318,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_content_space_around__border_box")
     void gridAlignContentSpaceAroundBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -6420,7 +6427,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_content_space_around__content_box")
     void gridAlignContentSpaceAroundContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -6539,7 +6546,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_content_space_around_negative_space_gap__border_box")
     void gridAlignContentSpaceAroundNegativeSpaceGapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -6662,7 +6669,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_content_space_around_negative_space_gap__content_box")
     void gridAlignContentSpaceAroundNegativeSpaceGapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -6796,7 +6803,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_content_space_around_with_padding_border__border_box")
     void gridAlignContentSpaceAroundWithPaddingBorderBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -6907,7 +6914,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_content_space_around_with_padding_border__content_box")
     void gridAlignContentSpaceAroundWithPaddingBorderContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -7028,7 +7035,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_content_space_between__border_box")
     void gridAlignContentSpaceBetweenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -7137,7 +7144,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_content_space_between__content_box")
     void gridAlignContentSpaceBetweenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -7256,7 +7263,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_content_space_between_negative_space_gap__border_box")
     void gridAlignContentSpaceBetweenNegativeSpaceGapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -7379,7 +7386,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_content_space_between_negative_space_gap__content_box")
     void gridAlignContentSpaceBetweenNegativeSpaceGapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -7513,7 +7520,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_content_space_between_with_padding_border__border_box")
     void gridAlignContentSpaceBetweenWithPaddingBorderBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -7624,7 +7631,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_content_space_between_with_padding_border__content_box")
     void gridAlignContentSpaceBetweenWithPaddingBorderContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -7745,7 +7752,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_content_space_evenly__border_box")
     void gridAlignContentSpaceEvenlyBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -7854,7 +7861,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_content_space_evenly__content_box")
     void gridAlignContentSpaceEvenlyContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -7973,7 +7980,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_content_space_evenly_negative_space_gap__border_box")
     void gridAlignContentSpaceEvenlyNegativeSpaceGapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -8096,7 +8103,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_content_space_evenly_negative_space_gap__content_box")
     void gridAlignContentSpaceEvenlyNegativeSpaceGapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -8230,7 +8237,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_content_space_evenly_with_padding_border__border_box")
     void gridAlignContentSpaceEvenlyWithPaddingBorderBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -8341,7 +8348,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_content_space_evenly_with_padding_border__content_box")
     void gridAlignContentSpaceEvenlyWithPaddingBorderContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -8462,7 +8469,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_content_start__border_box")
     void gridAlignContentStartBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -8571,7 +8578,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_content_start__content_box")
     void gridAlignContentStartContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -8690,7 +8697,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_content_start_negative_space_gap__border_box")
     void gridAlignContentStartNegativeSpaceGapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -8813,7 +8820,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_content_start_negative_space_gap__content_box")
     void gridAlignContentStartNegativeSpaceGapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -8947,7 +8954,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_content_start_with_padding_border__border_box")
     void gridAlignContentStartWithPaddingBorderBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -9058,7 +9065,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_content_start_with_padding_border__content_box")
     void gridAlignContentStartWithPaddingBorderContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -9179,7 +9186,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_baseline__border_box")
     void gridAlignItemsBaselineBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -9223,7 +9230,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_baseline__content_box")
     void gridAlignItemsBaselineContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -9270,7 +9277,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_baseline_child__border_box")
     void gridAlignItemsBaselineChildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -9325,7 +9332,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_baseline_child__content_box")
     void gridAlignItemsBaselineChildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -9384,7 +9391,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_baseline_child_margin__border_box")
     void gridAlignItemsBaselineChildMarginBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -9441,7 +9448,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_baseline_child_margin__content_box")
     void gridAlignItemsBaselineChildMarginContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -9502,7 +9509,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_baseline_child_margin_percent__border_box")
     void gridAlignItemsBaselineChildMarginPercentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -9559,7 +9566,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_baseline_child_margin_percent__content_box")
     void gridAlignItemsBaselineChildMarginPercentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -9620,7 +9627,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_baseline_child_multiline__border_box")
     void gridAlignItemsBaselineChildMultilineBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -9711,7 +9718,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_baseline_child_multiline__content_box")
     void gridAlignItemsBaselineChildMultilineContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -9809,7 +9816,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_baseline_child_multiline_no_override_on_secondline__border_box")
     void gridAlignItemsBaselineChildMultilineNoOverrideOnSecondlineBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -9900,7 +9907,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_baseline_child_multiline_no_override_on_secondline__content_box")
     void gridAlignItemsBaselineChildMultilineNoOverrideOnSecondlineContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -9998,7 +10005,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_baseline_child_multiline_override__border_box")
     void gridAlignItemsBaselineChildMultilineOverrideBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -10090,7 +10097,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_baseline_child_multiline_override__content_box")
     void gridAlignItemsBaselineChildMultilineOverrideContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -10189,7 +10196,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_baseline_child_padding__border_box")
     void gridAlignItemsBaselineChildPaddingBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -10246,7 +10253,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_baseline_child_padding__content_box")
     void gridAlignItemsBaselineChildPaddingContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -10307,7 +10314,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_baseline_child_top__border_box")
     void gridAlignItemsBaselineChildTopBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -10363,7 +10370,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_baseline_child_top__content_box")
     void gridAlignItemsBaselineChildTopContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -10423,7 +10430,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_baseline_child_top2__border_box")
     void gridAlignItemsBaselineChildTop2BorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -10479,7 +10486,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_baseline_child_top2__content_box")
     void gridAlignItemsBaselineChildTop2ContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -10539,7 +10546,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_baseline_complex__border_box")
     void gridAlignItemsBaselineComplexBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -10697,7 +10704,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_baseline_complex__content_box")
     void gridAlignItemsBaselineComplexContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -10869,7 +10876,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_baseline_double_nested_child__border_box")
     void gridAlignItemsBaselineDoubleNestedChildBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -10935,7 +10942,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_baseline_double_nested_child__content_box")
     void gridAlignItemsBaselineDoubleNestedChildContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -11006,7 +11013,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_baseline_multiline__border_box")
     void gridAlignItemsBaselineMultilineBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -11096,7 +11103,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_baseline_multiline__content_box")
     void gridAlignItemsBaselineMultilineContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -11193,7 +11200,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_baseline_multiline_column__border_box")
     void gridAlignItemsBaselineMultilineColumnBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -11283,7 +11290,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_baseline_multiline_column__content_box")
     void gridAlignItemsBaselineMultilineColumnContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -11380,7 +11387,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_baseline_multiline_row_and_column__border_box")
     void gridAlignItemsBaselineMultilineRowAndColumnBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -11470,7 +11477,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_baseline_multiline_row_and_column__content_box")
     void gridAlignItemsBaselineMultilineRowAndColumnContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -11567,7 +11574,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_baseline_nested_column__border_box")
     void gridAlignItemsBaselineNestedColumnBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -11643,7 +11650,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_baseline_nested_column__content_box")
     void gridAlignItemsBaselineNestedColumnContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -11725,7 +11732,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_sized_center__border_box")
     void gridAlignItemsSizedCenterBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -11777,7 +11784,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_sized_center__content_box")
     void gridAlignItemsSizedCenterContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -11832,7 +11839,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_sized_end__border_box")
     void gridAlignItemsSizedEndBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -11884,7 +11891,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_sized_end__content_box")
     void gridAlignItemsSizedEndContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -11939,7 +11946,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_sized_start__border_box")
     void gridAlignItemsSizedStartBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -11991,7 +11998,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_sized_start__content_box")
     void gridAlignItemsSizedStartContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -12046,7 +12053,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_sized_stretch__border_box")
     void gridAlignItemsSizedStretchBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -12098,7 +12105,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_items_sized_stretch__content_box")
     void gridAlignItemsSizedStretchContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -12153,7 +12160,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_self_sized_all__border_box")
     void gridAlignSelfSizedAllBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -12268,7 +12275,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_align_self_sized_all__content_box")
     void gridAlignSelfSizedAllContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -12392,7 +12399,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_aspect_ratio_absolute_aspect_ratio_overrides_height_of_full_inset__border_box")
     void gridAspectRatioAbsoluteAspectRatioOverridesHeightOfFullInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -12425,7 +12432,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_aspect_ratio_absolute_aspect_ratio_overrides_height_of_full_inset__content_box")
     void gridAspectRatioAbsoluteAspectRatioOverridesHeightOfFullInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -12460,7 +12467,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_aspect_ratio_absolute_fill_height_from_inset__border_box")
     void gridAspectRatioAbsoluteFillHeightFromInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -12493,7 +12500,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_aspect_ratio_absolute_fill_height_from_inset__content_box")
     void gridAspectRatioAbsoluteFillHeightFromInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -12528,7 +12535,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_aspect_ratio_absolute_fill_width_from_inset__border_box")
     void gridAspectRatioAbsoluteFillWidthFromInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -12560,7 +12567,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_aspect_ratio_absolute_fill_width_from_inset__content_box")
     void gridAspectRatioAbsoluteFillWidthFromInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -12594,7 +12601,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_aspect_ratio_absolute_height_overrides_inset__border_box")
     void gridAspectRatioAbsoluteHeightOverridesInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -12627,7 +12634,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_aspect_ratio_absolute_height_overrides_inset__content_box")
     void gridAspectRatioAbsoluteHeightOverridesInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -12662,7 +12669,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_aspect_ratio_absolute_width_overrides_inset__border_box")
     void gridAspectRatioAbsoluteWidthOverridesInsetBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -12696,7 +12703,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_aspect_ratio_absolute_width_overrides_inset__content_box")
     void gridAspectRatioAbsoluteWidthOverridesInsetContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -12732,7 +12739,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_aspect_ratio_child_fill_content_height__border_box")
     void gridAspectRatioChildFillContentHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -12773,7 +12780,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_aspect_ratio_child_fill_content_height__content_box")
     void gridAspectRatioChildFillContentHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -12817,7 +12824,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_aspect_ratio_child_fill_content_width__border_box")
     void gridAspectRatioChildFillContentWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -12858,7 +12865,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_aspect_ratio_child_fill_content_width__content_box")
     void gridAspectRatioChildFillContentWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -12902,7 +12909,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_aspect_ratio_fill_child_height__border_box")
     void gridAspectRatioFillChildHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -12934,7 +12941,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_aspect_ratio_fill_child_height__content_box")
     void gridAspectRatioFillChildHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -12968,7 +12975,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_aspect_ratio_fill_child_max_height__border_box")
     void gridAspectRatioFillChildMaxHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -13001,7 +13008,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_aspect_ratio_fill_child_max_height__content_box")
     void gridAspectRatioFillChildMaxHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -13036,7 +13043,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_aspect_ratio_fill_child_max_width__border_box")
     void gridAspectRatioFillChildMaxWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -13069,7 +13076,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_aspect_ratio_fill_child_max_width__content_box")
     void gridAspectRatioFillChildMaxWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -13104,7 +13111,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_aspect_ratio_fill_child_min_height__border_box")
     void gridAspectRatioFillChildMinHeightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -13136,7 +13143,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_aspect_ratio_fill_child_min_height__content_box")
     void gridAspectRatioFillChildMinHeightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -13170,7 +13177,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_aspect_ratio_fill_child_width__border_box")
     void gridAspectRatioFillChildWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -13202,7 +13209,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_aspect_ratio_fill_child_width__content_box")
     void gridAspectRatioFillChildWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -13236,7 +13243,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_aspect_ratio_overridden_by_explicit_sizes__border_box")
     void gridAspectRatioOverriddenByExplicitSizesBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -13268,7 +13275,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_aspect_ratio_overridden_by_explicit_sizes__content_box")
     void gridAspectRatioOverriddenByExplicitSizesContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -13302,7 +13309,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_aspect_ratio_overridden_by_explicit_sizes_flex__border_box")
     void gridAspectRatioOverriddenByExplicitSizesFlexBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -13334,7 +13341,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_aspect_ratio_overridden_by_explicit_sizes_flex__content_box")
     void gridAspectRatioOverriddenByExplicitSizesFlexContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -13368,7 +13375,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_auto_columns__border_box")
     void gridAutoColumnsBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -13467,7 +13474,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_auto_columns__content_box")
     void gridAutoColumnsContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -13575,7 +13582,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_auto_columns_fixed_width__border_box")
     void gridAutoColumnsFixedWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -13748,7 +13755,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_auto_columns_fixed_width__content_box")
     void gridAutoColumnsFixedWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -13938,7 +13945,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_auto_fill_fixed_size__border_box")
     void gridAutoFillFixedSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -14046,7 +14053,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_auto_fill_fixed_size__content_box")
     void gridAutoFillFixedSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -14164,7 +14171,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_auto_fill_with_empty_auto_track__border_box")
     void gridAutoFillWithEmptyAutoTrackBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -14209,7 +14216,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_auto_fill_with_empty_auto_track__content_box")
     void gridAutoFillWithEmptyAutoTrackContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -14257,7 +14264,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_auto_fit_definite_percentage__border_box")
     void gridAutoFitDefinitePercentageBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -14372,7 +14379,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_auto_fit_definite_percentage__content_box")
     void gridAutoFitDefinitePercentageContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -14497,7 +14504,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_auto_fit_with_empty_auto_track__border_box")
     void gridAutoFitWithEmptyAutoTrackBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -14542,7 +14549,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_auto_fit_with_empty_auto_track__content_box")
     void gridAutoFitWithEmptyAutoTrackContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -14590,7 +14597,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_auto_rows__border_box")
     void gridAutoRowsBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -14688,7 +14695,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_auto_rows__content_box")
     void gridAutoRowsContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -14795,7 +14802,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_auto_single_item__border_box")
     void gridAutoSingleItemBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -14903,7 +14910,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_auto_single_item__content_box")
     void gridAutoSingleItemContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -15021,7 +15028,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_auto_single_item_fixed_width__border_box")
     void gridAutoSingleItemFixedWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -15130,7 +15137,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_auto_single_item_fixed_width__content_box")
     void gridAutoSingleItemFixedWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -15249,7 +15256,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_auto_single_item_fixed_width_with_definite_width__border_box")
     void gridAutoSingleItemFixedWidthWithDefiniteWidthBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -15358,7 +15365,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_auto_single_item_fixed_width_with_definite_width__content_box")
     void gridAutoSingleItemFixedWidthWithDefiniteWidthContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -15477,7 +15484,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_auto_takes_precedence_over_fr__border_box")
     void gridAutoTakesPrecedenceOverFrBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -15519,7 +15526,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_auto_takes_precedence_over_fr__content_box")
     void gridAutoTakesPrecedenceOverFrContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -15564,7 +15571,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_available_space_greater_than_max_content__border_box")
     void gridAvailableSpaceGreaterThanMaxContentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -15606,7 +15613,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_available_space_greater_than_max_content__content_box")
     void gridAvailableSpaceGreaterThanMaxContentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -15651,7 +15658,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_available_space_smaller_than_max_content__border_box")
     void gridAvailableSpaceSmallerThanMaxContentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -15693,7 +15700,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_available_space_smaller_than_max_content__content_box")
     void gridAvailableSpaceSmallerThanMaxContentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -15738,7 +15745,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_available_space_smaller_than_min_content__border_box")
     void gridAvailableSpaceSmallerThanMinContentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -15780,7 +15787,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_available_space_smaller_than_min_content__content_box")
     void gridAvailableSpaceSmallerThanMinContentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -15825,7 +15832,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_basic__border_box")
     void gridBasicBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -15933,7 +15940,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_basic__content_box")
     void gridBasicContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -16051,7 +16058,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_basic_implicit_tracks__border_box")
     void gridBasicImplicitTracksBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -16092,7 +16099,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_basic_implicit_tracks__content_box")
     void gridBasicImplicitTracksContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -16136,7 +16143,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_basic_with_overflow__border_box")
     void gridBasicWithOverflowBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -16253,7 +16260,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_basic_with_overflow__content_box")
     void gridBasicWithOverflowContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -16381,7 +16388,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_basic_with_padding__border_box")
     void gridBasicWithPaddingBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -16489,7 +16496,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_basic_with_padding__content_box")
     void gridBasicWithPaddingContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -16607,7 +16614,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_display_none_fixed_size__border_box")
     void gridDisplayNoneFixedSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -16649,7 +16656,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_display_none_fixed_size__content_box")
     void gridDisplayNoneFixedSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -16694,7 +16701,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fit_content_percent_definite_argument__border_box")
     void gridFitContentPercentDefiniteArgumentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -16727,7 +16734,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fit_content_percent_definite_argument__content_box")
     void gridFitContentPercentDefiniteArgumentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -16762,7 +16769,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fit_content_percent_definite_max_content__border_box")
     void gridFitContentPercentDefiniteMaxContentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -16795,7 +16802,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fit_content_percent_definite_max_content__content_box")
     void gridFitContentPercentDefiniteMaxContentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -16830,7 +16837,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fit_content_percent_definite_min_content__border_box")
     void gridFitContentPercentDefiniteMinContentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -16863,7 +16870,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fit_content_percent_definite_min_content__content_box")
     void gridFitContentPercentDefiniteMinContentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -16898,7 +16905,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fit_content_percent_indefinite_argument__border_box")
     void gridFitContentPercentIndefiniteArgumentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -16930,7 +16937,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fit_content_percent_indefinite_argument__content_box")
     void gridFitContentPercentIndefiniteArgumentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -16964,7 +16971,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fit_content_percent_indefinite_max_content__border_box")
     void gridFitContentPercentIndefiniteMaxContentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -16996,7 +17003,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fit_content_percent_indefinite_max_content__content_box")
     void gridFitContentPercentIndefiniteMaxContentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -17030,7 +17037,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fit_content_percent_indefinite_max_content_hidden__border_box")
     void gridFitContentPercentIndefiniteMaxContentHiddenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -17063,7 +17070,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fit_content_percent_indefinite_max_content_hidden__content_box")
     void gridFitContentPercentIndefiniteMaxContentHiddenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -17098,7 +17105,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fit_content_percent_indefinite_min_content__border_box")
     void gridFitContentPercentIndefiniteMinContentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -17130,7 +17137,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fit_content_percent_indefinite_min_content__content_box")
     void gridFitContentPercentIndefiniteMinContentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -17164,7 +17171,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fit_content_percent_indefinite_min_content_hidden__border_box")
     void gridFitContentPercentIndefiniteMinContentHiddenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -17197,7 +17204,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fit_content_percent_indefinite_min_content_hidden__content_box")
     void gridFitContentPercentIndefiniteMinContentHiddenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -17232,7 +17239,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fit_content_points_argument__border_box")
     void gridFitContentPointsArgumentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -17264,7 +17271,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fit_content_points_argument__content_box")
     void gridFitContentPointsArgumentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -17298,7 +17305,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fit_content_points_max_content__border_box")
     void gridFitContentPointsMaxContentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -17330,7 +17337,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fit_content_points_max_content__content_box")
     void gridFitContentPointsMaxContentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -17364,7 +17371,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fit_content_points_min_content__border_box")
     void gridFitContentPointsMinContentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -17396,7 +17403,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fit_content_points_min_content__content_box")
     void gridFitContentPointsMinContentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -17430,7 +17437,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fit_content_points_min_content_hidden__border_box")
     void gridFitContentPointsMinContentHiddenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -17463,7 +17470,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fit_content_points_min_content_hidden__content_box")
     void gridFitContentPointsMinContentHiddenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -17498,7 +17505,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fr_fixed_size_no_content_proportions__border_box")
     void gridFrFixedSizeNoContentProportionsBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -17550,7 +17557,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fr_fixed_size_no_content_proportions__content_box")
     void gridFrFixedSizeNoContentProportionsContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -17606,7 +17613,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fr_fixed_size_no_content_proportions_sub_1_sum__border_box")
     void gridFrFixedSizeNoContentProportionsSub1SumBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -17648,7 +17655,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fr_fixed_size_no_content_proportions_sub_1_sum__content_box")
     void gridFrFixedSizeNoContentProportionsSub1SumContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -17693,7 +17700,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fr_fixed_size_single_item__border_box")
     void gridFrFixedSizeSingleItemBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -17802,7 +17809,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fr_fixed_size_single_item__content_box")
     void gridFrFixedSizeSingleItemContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -17921,7 +17928,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fr_no_sized_items_indefinite__border_box")
     void gridFrNoSizedItemsIndefiniteBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -18028,7 +18035,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fr_no_sized_items_indefinite__content_box")
     void gridFrNoSizedItemsIndefiniteContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -18145,7 +18152,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fr_single_item_indefinite__border_box")
     void gridFrSingleItemIndefiniteBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -18254,7 +18261,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fr_single_item_indefinite__content_box")
     void gridFrSingleItemIndefiniteContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -18373,7 +18380,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fr_span_2_proportion__border_box")
     void gridFrSpan2ProportionBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -18426,7 +18433,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fr_span_2_proportion__content_box")
     void gridFrSpan2ProportionContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -18483,7 +18490,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fr_span_2_proportion_sub_1_sum__border_box")
     void gridFrSpan2ProportionSub1SumBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -18536,7 +18543,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fr_span_2_proportion_sub_1_sum__content_box")
     void gridFrSpan2ProportionSub1SumContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -18593,7 +18600,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fr_span_2_proportion_with_non_spanned_track__border_box")
     void gridFrSpan2ProportionWithNonSpannedTrackBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -18665,7 +18672,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fr_span_2_proportion_with_non_spanned_track__content_box")
     void gridFrSpan2ProportionWithNonSpannedTrackContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -18743,7 +18750,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fr_span_2_proportion_zero_sum__border_box")
     void gridFrSpan2ProportionZeroSumBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -18796,7 +18803,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fr_span_2_proportion_zero_sum__content_box")
     void gridFrSpan2ProportionZeroSumContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -18853,7 +18860,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fr_span_2_proportion_zero_sum_with_non_spanned_track__border_box")
     void gridFrSpan2ProportionZeroSumWithNonSpannedTrackBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -18925,7 +18932,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_fr_span_2_proportion_zero_sum_with_non_spanned_track__content_box")
     void gridFrSpan2ProportionZeroSumWithNonSpannedTrackContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -19003,7 +19010,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_gap__border_box")
     void gridGapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -19112,7 +19119,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_gap__content_box")
     void gridGapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -19231,7 +19238,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_hidden__border_box")
     void gridHiddenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -19342,7 +19349,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_hidden__content_box")
     void gridHiddenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -19463,7 +19470,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_center__border_box")
     void gridJustifyContentCenterBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -19572,7 +19579,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_center__content_box")
     void gridJustifyContentCenterContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -19691,7 +19698,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_center_negative_space_gap__border_box")
     void gridJustifyContentCenterNegativeSpaceGapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -19814,7 +19821,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_center_negative_space_gap__content_box")
     void gridJustifyContentCenterNegativeSpaceGapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -19948,7 +19955,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_center_with_padding_border__border_box")
     void gridJustifyContentCenterWithPaddingBorderBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -20059,7 +20066,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_center_with_padding_border__content_box")
     void gridJustifyContentCenterWithPaddingBorderContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -20180,7 +20187,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_end__border_box")
     void gridJustifyContentEndBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -20289,7 +20296,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_end__content_box")
     void gridJustifyContentEndContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -20408,7 +20415,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_end_negative_space_gap__border_box")
     void gridJustifyContentEndNegativeSpaceGapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -20531,7 +20538,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_end_negative_space_gap__content_box")
     void gridJustifyContentEndNegativeSpaceGapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -20665,7 +20672,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_end_with_padding_border__border_box")
     void gridJustifyContentEndWithPaddingBorderBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -20776,7 +20783,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_end_with_padding_border__content_box")
     void gridJustifyContentEndWithPaddingBorderContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -20897,7 +20904,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_space_around__border_box")
     void gridJustifyContentSpaceAroundBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -21006,7 +21013,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_space_around__content_box")
     void gridJustifyContentSpaceAroundContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -21125,7 +21132,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_space_around_negative_space_gap__border_box")
     void gridJustifyContentSpaceAroundNegativeSpaceGapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -21248,7 +21255,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_space_around_negative_space_gap__content_box")
     void gridJustifyContentSpaceAroundNegativeSpaceGapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -21382,7 +21389,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_space_around_with_padding_border__border_box")
     void gridJustifyContentSpaceAroundWithPaddingBorderBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -21493,7 +21500,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_space_around_with_padding_border__content_box")
     void gridJustifyContentSpaceAroundWithPaddingBorderContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -21614,7 +21621,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_space_between__border_box")
     void gridJustifyContentSpaceBetweenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -21723,7 +21730,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_space_between__content_box")
     void gridJustifyContentSpaceBetweenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -21842,7 +21849,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_space_between_negative_space_gap__border_box")
     void gridJustifyContentSpaceBetweenNegativeSpaceGapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -21965,7 +21972,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_space_between_negative_space_gap__content_box")
     void gridJustifyContentSpaceBetweenNegativeSpaceGapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -22099,7 +22106,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_space_between_with_padding_border__border_box")
     void gridJustifyContentSpaceBetweenWithPaddingBorderBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -22210,7 +22217,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_space_between_with_padding_border__content_box")
     void gridJustifyContentSpaceBetweenWithPaddingBorderContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -22331,7 +22338,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_space_evenly__border_box")
     void gridJustifyContentSpaceEvenlyBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -22440,7 +22447,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_space_evenly__content_box")
     void gridJustifyContentSpaceEvenlyContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -22559,7 +22566,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_space_evenly_negative_space_gap__border_box")
     void gridJustifyContentSpaceEvenlyNegativeSpaceGapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -22682,7 +22689,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_space_evenly_negative_space_gap__content_box")
     void gridJustifyContentSpaceEvenlyNegativeSpaceGapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -22816,7 +22823,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_space_evenly_with_padding_border__border_box")
     void gridJustifyContentSpaceEvenlyWithPaddingBorderBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -22927,7 +22934,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_space_evenly_with_padding_border__content_box")
     void gridJustifyContentSpaceEvenlyWithPaddingBorderContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -23048,7 +23055,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_start__border_box")
     void gridJustifyContentStartBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -23157,7 +23164,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_start__content_box")
     void gridJustifyContentStartContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -23276,7 +23283,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_start_negative_space_gap__border_box")
     void gridJustifyContentStartNegativeSpaceGapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -23399,7 +23406,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_start_negative_space_gap__content_box")
     void gridJustifyContentStartNegativeSpaceGapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -23533,7 +23540,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_start_with_padding_border__border_box")
     void gridJustifyContentStartWithPaddingBorderBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -23644,7 +23651,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_content_start_with_padding_border__content_box")
     void gridJustifyContentStartWithPaddingBorderContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -23765,7 +23772,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_items_sized_center__border_box")
     void gridJustifyItemsSizedCenterBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -23817,7 +23824,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_items_sized_center__content_box")
     void gridJustifyItemsSizedCenterContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -23872,7 +23879,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_items_sized_end__border_box")
     void gridJustifyItemsSizedEndBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -23924,7 +23931,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_items_sized_end__content_box")
     void gridJustifyItemsSizedEndContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -23979,7 +23986,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_items_sized_start__border_box")
     void gridJustifyItemsSizedStartBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -24031,7 +24038,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_items_sized_start__content_box")
     void gridJustifyItemsSizedStartContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -24086,7 +24093,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_items_sized_stretch__border_box")
     void gridJustifyItemsSizedStretchBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -24138,7 +24145,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_items_sized_stretch__content_box")
     void gridJustifyItemsSizedStretchContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -24193,7 +24200,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_self_sized_all__border_box")
     void gridJustifySelfSizedAllBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -24308,7 +24315,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_justify_self_sized_all__content_box")
     void gridJustifySelfSizedAllContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -24432,7 +24439,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_margins_auto_margins__border_box")
     void gridMarginsAutoMarginsBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -24550,7 +24557,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_margins_auto_margins__content_box")
     void gridMarginsAutoMarginsContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -24678,7 +24685,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_margins_auto_margins_override_stretch__border_box")
     void gridMarginsAutoMarginsOverrideStretchBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -24790,7 +24797,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_margins_auto_margins_override_stretch__content_box")
     void gridMarginsAutoMarginsOverrideStretchContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -24912,7 +24919,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_margins_fixed_center__border_box")
     void gridMarginsFixedCenterBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -24997,7 +25004,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_margins_fixed_center__content_box")
     void gridMarginsFixedCenterContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -25089,7 +25096,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_margins_fixed_end__border_box")
     void gridMarginsFixedEndBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -25174,7 +25181,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_margins_fixed_end__content_box")
     void gridMarginsFixedEndContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -25266,7 +25273,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_margins_fixed_start__border_box")
     void gridMarginsFixedStartBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -25351,7 +25358,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_margins_fixed_start__content_box")
     void gridMarginsFixedStartContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -25443,7 +25450,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_margins_fixed_stretch__border_box")
     void gridMarginsFixedStretchBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -25528,7 +25535,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_margins_fixed_stretch__content_box")
     void gridMarginsFixedStretchContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -25620,7 +25627,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_margins_percent_center__border_box")
     void gridMarginsPercentCenterBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -25704,7 +25711,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_margins_percent_center__content_box")
     void gridMarginsPercentCenterContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -25795,7 +25802,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_margins_percent_end__border_box")
     void gridMarginsPercentEndBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -25879,7 +25886,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_margins_percent_end__content_box")
     void gridMarginsPercentEndContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -25970,7 +25977,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_margins_percent_start__border_box")
     void gridMarginsPercentStartBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -26054,7 +26061,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_margins_percent_start__content_box")
     void gridMarginsPercentStartContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -26145,7 +26152,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_margins_percent_stretch__border_box")
     void gridMarginsPercentStretchBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -26229,7 +26236,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_margins_percent_stretch__content_box")
     void gridMarginsPercentStretchContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -26320,7 +26327,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_max_content_maximum_single_item__border_box")
     void gridMaxContentMaximumSingleItemBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -26428,7 +26435,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_max_content_maximum_single_item__content_box")
     void gridMaxContentMaximumSingleItemContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -26546,7 +26553,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_max_content_single_item__border_box")
     void gridMaxContentSingleItemBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -26654,7 +26661,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_max_content_single_item__content_box")
     void gridMaxContentSingleItemContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -26772,7 +26779,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_max_content_single_item_margin_auto__border_box")
     void gridMaxContentSingleItemMarginAutoBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -26881,7 +26888,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_max_content_single_item_margin_auto__content_box")
     void gridMaxContentSingleItemMarginAutoContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -27000,7 +27007,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_max_content_single_item_margin_fixed__border_box")
     void gridMaxContentSingleItemMarginFixedBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -27109,7 +27116,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_max_content_single_item_margin_fixed__content_box")
     void gridMaxContentSingleItemMarginFixedContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -27228,7 +27235,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_max_content_single_item_margin_percent__border_box")
     void gridMaxContentSingleItemMarginPercentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -27337,7 +27344,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_max_content_single_item_margin_percent__content_box")
     void gridMaxContentSingleItemMarginPercentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -27456,7 +27463,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_max_content_single_item_span_2__border_box")
     void gridMaxContentSingleItemSpan2BorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -27565,7 +27572,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_max_content_single_item_span_2__content_box")
     void gridMaxContentSingleItemSpan2ContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -27684,7 +27691,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_max_content_single_item_span_2_gap_fixed__border_box")
     void gridMaxContentSingleItemSpan2GapFixedBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -27794,7 +27801,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_max_content_single_item_span_2_gap_fixed__content_box")
     void gridMaxContentSingleItemSpan2GapFixedContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -27914,7 +27921,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_max_content_single_item_span_2_gap_percent_definite__border_box")
     void gridMaxContentSingleItemSpan2GapPercentDefiniteBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -28025,7 +28032,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_max_content_single_item_span_2_gap_percent_definite__content_box")
     void gridMaxContentSingleItemSpan2GapPercentDefiniteContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -28146,7 +28153,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_max_content_single_item_span_2_gap_percent_indefinite__border_box")
     void gridMaxContentSingleItemSpan2GapPercentIndefiniteBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -28256,7 +28263,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_max_content_single_item_span_2_gap_percent_indefinite__content_box")
     void gridMaxContentSingleItemSpan2GapPercentIndefiniteContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -28376,7 +28383,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_max_width_greater_than_max_content__border_box")
     void gridMaxWidthGreaterThanMaxContentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -28430,7 +28437,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_max_width_greater_than_max_content__content_box")
     void gridMaxWidthGreaterThanMaxContentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -28488,7 +28495,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_max_width_less_than_max_content_with_min_content__border_box")
     void gridMaxWidthLessThanMaxContentWithMinContentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -28542,7 +28549,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_max_width_less_than_max_content_with_min_content__content_box")
     void gridMaxWidthLessThanMaxContentWithMinContentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -28600,7 +28607,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_max_width_smaller_than_max_content__border_box")
     void gridMaxWidthSmallerThanMaxContentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -28654,7 +28661,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_max_width_smaller_than_max_content__content_box")
     void gridMaxWidthSmallerThanMaxContentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -28712,7 +28719,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_max_width_smaller_than_min_content__border_box")
     void gridMaxWidthSmallerThanMinContentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -28766,7 +28773,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_max_width_smaller_than_min_content__content_box")
     void gridMaxWidthSmallerThanMinContentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -28824,7 +28831,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_min_content_flex_column__border_box")
     void gridMinContentFlexColumnBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -28886,7 +28893,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_min_content_flex_column__content_box")
     void gridMinContentFlexColumnContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -28953,7 +28960,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_min_content_flex_row__border_box")
     void gridMinContentFlexRowBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -29014,7 +29021,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_min_content_flex_row__content_box")
     void gridMinContentFlexRowContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -29080,7 +29087,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_min_content_flex_single_item__border_box")
     void gridMinContentFlexSingleItemBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -29181,7 +29188,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_min_content_flex_single_item__content_box")
     void gridMinContentFlexSingleItemContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -29291,7 +29298,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_min_content_flex_single_item_margin_auto__border_box")
     void gridMinContentFlexSingleItemMarginAutoBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -29394,7 +29401,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_min_content_flex_single_item_margin_auto__content_box")
     void gridMinContentFlexSingleItemMarginAutoContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -29506,7 +29513,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_min_content_flex_single_item_margin_fixed__border_box")
     void gridMinContentFlexSingleItemMarginFixedBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -29609,7 +29616,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_min_content_flex_single_item_margin_fixed__content_box")
     void gridMinContentFlexSingleItemMarginFixedContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -29721,7 +29728,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_min_content_flex_single_item_margin_percent__border_box")
     void gridMinContentFlexSingleItemMarginPercentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -29824,7 +29831,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_min_content_flex_single_item_margin_percent__content_box")
     void gridMinContentFlexSingleItemMarginPercentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -29936,7 +29943,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_min_content_maximum_single_item__border_box")
     void gridMinContentMaximumSingleItemBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -30044,7 +30051,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_min_content_maximum_single_item__content_box")
     void gridMinContentMaximumSingleItemContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -30162,7 +30169,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_min_content_single_item__border_box")
     void gridMinContentSingleItemBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -30270,7 +30277,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_min_content_single_item__content_box")
     void gridMinContentSingleItemContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -30388,7 +30395,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_auto_fixed_10px__border_box")
     void gridMinmaxAutoFixed10pxBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -30420,7 +30427,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_auto_fixed_10px__content_box")
     void gridMinmaxAutoFixed10pxContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -30454,7 +30461,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_auto_max_content__border_box")
     void gridMinmaxAutoMaxContentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -30486,7 +30493,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_auto_max_content__content_box")
     void gridMinmaxAutoMaxContentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -30520,7 +30527,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_auto_min_content__border_box")
     void gridMinmaxAutoMinContentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -30552,7 +30559,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_auto_min_content__content_box")
     void gridMinmaxAutoMinContentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -30586,7 +30593,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_auto_percent_definite__border_box")
     void gridMinmaxAutoPercentDefiniteBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -30619,7 +30626,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_auto_percent_definite__content_box")
     void gridMinmaxAutoPercentDefiniteContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -30654,7 +30661,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_auto_percent_indefinite__border_box")
     void gridMinmaxAutoPercentIndefiniteBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -30686,7 +30693,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_auto_percent_indefinite__content_box")
     void gridMinmaxAutoPercentIndefiniteContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -30720,7 +30727,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_column_fixed_width_above_range__border_box")
     void gridMinmaxColumnFixedWidthAboveRangeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -30828,7 +30835,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_column_fixed_width_above_range__content_box")
     void gridMinmaxColumnFixedWidthAboveRangeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -30946,7 +30953,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_column_fixed_width_below_range__border_box")
     void gridMinmaxColumnFixedWidthBelowRangeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -31054,7 +31061,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_column_fixed_width_below_range__content_box")
     void gridMinmaxColumnFixedWidthBelowRangeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -31172,7 +31179,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_column_fixed_width_within_range__border_box")
     void gridMinmaxColumnFixedWidthWithinRangeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -31280,7 +31287,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_column_fixed_width_within_range__content_box")
     void gridMinmaxColumnFixedWidthWithinRangeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -31398,7 +31405,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_column_indefinite__border_box")
     void gridMinmaxColumnIndefiniteBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -31505,7 +31512,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_column_indefinite__content_box")
     void gridMinmaxColumnIndefiniteContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -31622,7 +31629,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_column_with_auto_fixed__border_box")
     void gridMinmaxColumnWithAutoFixedBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -31664,7 +31671,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_column_with_auto_fixed__content_box")
     void gridMinmaxColumnWithAutoFixedContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -31709,7 +31716,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_column_with_fr_fixed__border_box")
     void gridMinmaxColumnWithFrFixedBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -31751,7 +31758,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_column_with_fr_fixed__content_box")
     void gridMinmaxColumnWithFrFixedContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -31796,7 +31803,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_max_content_1fr__border_box")
     void gridMinmaxMaxContent1frBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -31828,7 +31835,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_max_content_1fr__content_box")
     void gridMinmaxMaxContent1frContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -31862,7 +31869,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_max_content_auto__border_box")
     void gridMinmaxMaxContentAutoBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -31894,7 +31901,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_max_content_auto__content_box")
     void gridMinmaxMaxContentAutoContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -31928,7 +31935,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_max_content_fixed_10px__border_box")
     void gridMinmaxMaxContentFixed10pxBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -31960,7 +31967,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_max_content_fixed_10px__content_box")
     void gridMinmaxMaxContentFixed10pxContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -31994,7 +32001,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_max_content_min_content__border_box")
     void gridMinmaxMaxContentMinContentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -32026,7 +32033,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_max_content_min_content__content_box")
     void gridMinmaxMaxContentMinContentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -32060,7 +32067,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_max_content_percent_definite__border_box")
     void gridMinmaxMaxContentPercentDefiniteBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -32093,7 +32100,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_max_content_percent_definite__content_box")
     void gridMinmaxMaxContentPercentDefiniteContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -32128,7 +32135,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_max_content_percent_indefinite__border_box")
     void gridMinmaxMaxContentPercentIndefiniteBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -32160,7 +32167,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_max_content_percent_indefinite__content_box")
     void gridMinmaxMaxContentPercentIndefiniteContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -32194,7 +32201,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_min_content_1fr__border_box")
     void gridMinmaxMinContent1frBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -32226,7 +32233,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_min_content_1fr__content_box")
     void gridMinmaxMinContent1frContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -32260,7 +32267,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_min_content_auto__border_box")
     void gridMinmaxMinContentAutoBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -32292,7 +32299,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_min_content_auto__content_box")
     void gridMinmaxMinContentAutoContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -32326,7 +32333,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_min_content_fixed_10px__border_box")
     void gridMinmaxMinContentFixed10pxBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -32358,7 +32365,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_min_content_fixed_10px__content_box")
     void gridMinmaxMinContentFixed10pxContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -32392,7 +32399,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_min_content_max_content__border_box")
     void gridMinmaxMinContentMaxContentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -32424,7 +32431,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_min_content_max_content__content_box")
     void gridMinmaxMinContentMaxContentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -32458,7 +32465,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_min_content_percent_definite__border_box")
     void gridMinmaxMinContentPercentDefiniteBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -32491,7 +32498,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_min_content_percent_definite__content_box")
     void gridMinmaxMinContentPercentDefiniteContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -32526,7 +32533,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_min_content_percent_indefinite__border_box")
     void gridMinmaxMinContentPercentIndefiniteBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -32558,7 +32565,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_minmax_min_content_percent_indefinite__content_box")
     void gridMinmaxMinContentPercentIndefiniteContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -32592,7 +32599,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_out_of_order_items__border_box")
     void gridOutOfOrderItemsBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -32708,7 +32715,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_out_of_order_items__content_box")
     void gridOutOfOrderItemsContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -32834,7 +32841,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_overflow_inline_axis_hidden__border_box")
     void gridOverflowInlineAxisHiddenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -32866,7 +32873,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_overflow_inline_axis_hidden__content_box")
     void gridOverflowInlineAxisHiddenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -32900,7 +32907,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_overflow_inline_axis_scroll__border_box")
     void gridOverflowInlineAxisScrollBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -32933,7 +32940,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_overflow_inline_axis_scroll__content_box")
     void gridOverflowInlineAxisScrollContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -32968,7 +32975,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_overflow_inline_axis_visible__border_box")
     void gridOverflowInlineAxisVisibleBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -32999,7 +33006,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_overflow_inline_axis_visible__content_box")
     void gridOverflowInlineAxisVisibleContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -33032,7 +33039,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_overflow_rows__border_box")
     void gridOverflowRowsBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -33114,7 +33121,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_overflow_rows__content_box")
     void gridOverflowRowsContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -33203,7 +33210,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_overflow_scrollbars_overridden_by_available_space__border_box")
     void gridOverflowScrollbarsOverriddenByAvailableSpaceBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -33245,7 +33252,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_overflow_scrollbars_overridden_by_available_space__content_box")
     void gridOverflowScrollbarsOverriddenByAvailableSpaceContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -33290,7 +33297,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_overflow_scrollbars_overridden_by_max_size__border_box")
     void gridOverflowScrollbarsOverriddenByMaxSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -33322,7 +33329,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_overflow_scrollbars_overridden_by_max_size__content_box")
     void gridOverflowScrollbarsOverriddenByMaxSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -33356,7 +33363,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_overflow_scrollbars_overridden_by_size__border_box")
     void gridOverflowScrollbarsOverriddenBySizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -33388,7 +33395,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_overflow_scrollbars_overridden_by_size__content_box")
     void gridOverflowScrollbarsOverriddenBySizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -33422,7 +33429,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_overflow_scrollbars_take_up_space_both_axis__border_box")
     void gridOverflowScrollbarsTakeUpSpaceBothAxisBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -33454,7 +33461,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_overflow_scrollbars_take_up_space_both_axis__content_box")
     void gridOverflowScrollbarsTakeUpSpaceBothAxisContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -33488,7 +33495,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_overflow_scrollbars_take_up_space_x_axis__border_box")
     void gridOverflowScrollbarsTakeUpSpaceXAxisBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -33520,7 +33527,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_overflow_scrollbars_take_up_space_x_axis__content_box")
     void gridOverflowScrollbarsTakeUpSpaceXAxisContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -33554,7 +33561,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_overflow_scrollbars_take_up_space_y_axis__border_box")
     void gridOverflowScrollbarsTakeUpSpaceYAxisBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -33586,7 +33593,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_overflow_scrollbars_take_up_space_y_axis__content_box")
     void gridOverflowScrollbarsTakeUpSpaceYAxisContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -33620,7 +33627,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_padding_border_overrides_container_max_size__border_box")
     void gridPaddingBorderOverridesContainerMaxSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -33652,7 +33659,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_padding_border_overrides_container_max_size__content_box")
     void gridPaddingBorderOverridesContainerMaxSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -33686,7 +33693,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_padding_border_overrides_container_size__border_box")
     void gridPaddingBorderOverridesContainerSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -33718,7 +33725,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_padding_border_overrides_container_size__content_box")
     void gridPaddingBorderOverridesContainerSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -33752,7 +33759,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_padding_border_overrides_max_size__border_box")
     void gridPaddingBorderOverridesMaxSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -33784,7 +33791,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_padding_border_overrides_max_size__content_box")
     void gridPaddingBorderOverridesMaxSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -33818,7 +33825,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_padding_border_overrides_min_size__border_box")
     void gridPaddingBorderOverridesMinSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -33850,7 +33857,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_padding_border_overrides_min_size__content_box")
     void gridPaddingBorderOverridesMinSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -33884,7 +33891,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_padding_border_overrides_size__border_box")
     void gridPaddingBorderOverridesSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -33916,7 +33923,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_padding_border_overrides_size__content_box")
     void gridPaddingBorderOverridesSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -33950,7 +33957,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_percent_item_inside_stretch_item__border_box")
     void gridPercentItemInsideStretchItemBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -33992,7 +33999,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_percent_item_inside_stretch_item__content_box")
     void gridPercentItemInsideStretchItemContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -34037,7 +34044,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_percent_items_nested_inside_stretch_alignment__border_box")
     void gridPercentItemsNestedInsideStretchAlignmentBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -34079,7 +34086,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_percent_items_nested_inside_stretch_alignment__content_box")
     void gridPercentItemsNestedInsideStretchAlignmentContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -34124,7 +34131,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_percent_items_nested_moderate__border_box")
     void gridPercentItemsNestedModerateBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
         tree.disableRounding();
 
         TaffyStyle node00Style = new TaffyStyle();
@@ -34172,7 +34179,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_percent_items_nested_moderate__content_box")
     void gridPercentItemsNestedModerateContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
         tree.disableRounding();
 
         TaffyStyle node00Style = new TaffyStyle();
@@ -34223,7 +34230,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_percent_items_nested_with_margin__border_box")
     void gridPercentItemsNestedWithMarginBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -34266,7 +34273,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_percent_items_nested_with_margin__content_box")
     void gridPercentItemsNestedWithMarginContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -34312,7 +34319,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_percent_items_nested_with_padding_margin__border_box")
     void gridPercentItemsNestedWithPaddingMarginBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -34382,7 +34389,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_percent_items_nested_with_padding_margin__content_box")
     void gridPercentItemsNestedWithPaddingMarginContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -34457,7 +34464,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_percent_items_width_and_margin__border_box")
     void gridPercentItemsWidthAndMarginBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -34491,7 +34498,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_percent_items_width_and_margin__content_box")
     void gridPercentItemsWidthAndMarginContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -34527,7 +34534,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_percent_items_width_and_padding__border_box")
     void gridPercentItemsWidthAndPaddingBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -34559,7 +34566,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_percent_items_width_and_padding__content_box")
     void gridPercentItemsWidthAndPaddingContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -34593,7 +34600,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_percent_tracks_definite_overflow__border_box")
     void gridPercentTracksDefiniteOverflowBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -34673,7 +34680,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_percent_tracks_definite_overflow__content_box")
     void gridPercentTracksDefiniteOverflowContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -34760,7 +34767,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_percent_tracks_definite_underflow__border_box")
     void gridPercentTracksDefiniteUnderflowBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -34840,7 +34847,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_percent_tracks_definite_underflow__content_box")
     void gridPercentTracksDefiniteUnderflowContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -34927,7 +34934,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_percent_tracks_indefinite_only__border_box")
     void gridPercentTracksIndefiniteOnlyBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -35006,7 +35013,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_percent_tracks_indefinite_only__content_box")
     void gridPercentTracksIndefiniteOnlyContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -35092,7 +35099,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_percent_tracks_indefinite_with_content_overflow__border_box")
     void gridPercentTracksIndefiniteWithContentOverflowBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -35185,7 +35192,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_percent_tracks_indefinite_with_content_overflow__content_box")
     void gridPercentTracksIndefiniteWithContentOverflowContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -35286,7 +35293,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_percent_tracks_indefinite_with_content_underflow__border_box")
     void gridPercentTracksIndefiniteWithContentUnderflowBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -35379,7 +35386,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_percent_tracks_indefinite_with_content_underflow__content_box")
     void gridPercentTracksIndefiniteWithContentUnderflowContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -35480,7 +35487,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_placement_auto_negative__border_box")
     void gridPlacementAutoNegativeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -35535,7 +35542,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_placement_auto_negative__content_box")
     void gridPlacementAutoNegativeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -35594,7 +35601,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_placement_definite_in_secondary_axis_with_fully_definite_negative__border_box")
     void gridPlacementDefiniteInSecondaryAxisWithFullyDefiniteNegativeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -35650,7 +35657,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_placement_definite_in_secondary_axis_with_fully_definite_negative__content_box")
     void gridPlacementDefiniteInSecondaryAxisWithFullyDefiniteNegativeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -35710,7 +35717,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_placement_definite_primary__border_box")
     void gridPlacementDefinitePrimaryBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -35783,7 +35790,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_placement_definite_primary__content_box")
     void gridPlacementDefinitePrimaryContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -35862,7 +35869,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_relative_all_sides__border_box")
     void gridRelativeAllSidesBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -35894,7 +35901,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_relative_all_sides__content_box")
     void gridRelativeAllSidesContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -35928,7 +35935,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_relayout_vertical_text__border_box")
     void gridRelayoutVerticalTextBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -35970,7 +35977,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_relayout_vertical_text__content_box")
     void gridRelayoutVerticalTextContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -36015,7 +36022,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_repeat_integer__border_box")
     void gridRepeatIntegerBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -36123,7 +36130,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_repeat_integer__content_box")
     void gridRepeatIntegerContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -36241,7 +36248,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_repeat_mixed__border_box")
     void gridRepeatMixedBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -36351,7 +36358,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_repeat_mixed__content_box")
     void gridRepeatMixedContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -36471,7 +36478,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_size_child_fixed_tracks__border_box")
     void gridSizeChildFixedTracksBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -36560,7 +36567,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_size_child_fixed_tracks__content_box")
     void gridSizeChildFixedTracksContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -36655,7 +36662,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_13_most_non_flex_with_minmax_indefinite__border_box")
     void gridSpan13MostNonFlexWithMinmaxIndefiniteBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -36818,7 +36825,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_13_most_non_flex_with_minmax_indefinite__content_box")
     void gridSpan13MostNonFlexWithMinmaxIndefiniteContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -36996,7 +37003,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_13_most_non_flex_with_minmax_indefinite_hidden__border_box")
     void gridSpan13MostNonFlexWithMinmaxIndefiniteHiddenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -37160,7 +37167,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_13_most_non_flex_with_minmax_indefinite_hidden__content_box")
     void gridSpan13MostNonFlexWithMinmaxIndefiniteHiddenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -37339,7 +37346,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_2_max_content_auto_indefinite__border_box")
     void gridSpan2MaxContentAutoIndefiniteBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -37396,7 +37403,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_2_max_content_auto_indefinite__content_box")
     void gridSpan2MaxContentAutoIndefiniteContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -37457,7 +37464,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_2_max_content_auto_indefinite_hidden__border_box")
     void gridSpan2MaxContentAutoIndefiniteHiddenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -37502,7 +37509,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_2_max_content_auto_indefinite_hidden__content_box")
     void gridSpan2MaxContentAutoIndefiniteHiddenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -37550,7 +37557,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_2_max_content_fit_content_10px_indefinite__border_box")
     void gridSpan2MaxContentFitContent10pxIndefiniteBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -37607,7 +37614,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_2_max_content_fit_content_10px_indefinite__content_box")
     void gridSpan2MaxContentFitContent10pxIndefiniteContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -37668,7 +37675,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_2_max_content_fit_content_10px_indefinite_hidden__border_box")
     void gridSpan2MaxContentFitContent10pxIndefiniteHiddenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -37726,7 +37733,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_2_max_content_fit_content_10px_indefinite_hidden__content_box")
     void gridSpan2MaxContentFitContent10pxIndefiniteHiddenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -37788,7 +37795,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_2_max_content_fit_content_80px_indefinite__border_box")
     void gridSpan2MaxContentFitContent80pxIndefiniteBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -37845,7 +37852,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_2_max_content_fit_content_80px_indefinite__content_box")
     void gridSpan2MaxContentFitContent80pxIndefiniteContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -37906,7 +37913,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_2_max_content_fit_content_80px_indefinite_hidden__border_box")
     void gridSpan2MaxContentFitContent80pxIndefiniteHiddenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -37964,7 +37971,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_2_max_content_fit_content_80px_indefinite_hidden__content_box")
     void gridSpan2MaxContentFitContent80pxIndefiniteHiddenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -38026,7 +38033,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_2_max_content_max_content_indefinite__border_box")
     void gridSpan2MaxContentMaxContentIndefiniteBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -38083,7 +38090,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_2_max_content_max_content_indefinite__content_box")
     void gridSpan2MaxContentMaxContentIndefiniteContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -38144,7 +38151,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_2_min_content_auto_indefinite__border_box")
     void gridSpan2MinContentAutoIndefiniteBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -38196,7 +38203,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_2_min_content_auto_indefinite__content_box")
     void gridSpan2MinContentAutoIndefiniteContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -38252,7 +38259,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_2_min_content_auto_indefinite_hidden__border_box")
     void gridSpan2MinContentAutoIndefiniteHiddenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -38305,7 +38312,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_2_min_content_auto_indefinite_hidden__content_box")
     void gridSpan2MinContentAutoIndefiniteHiddenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -38362,7 +38369,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_2_min_content_fit_content_10px_indefinite__border_box")
     void gridSpan2MinContentFitContent10pxIndefiniteBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -38419,7 +38426,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_2_min_content_fit_content_10px_indefinite__content_box")
     void gridSpan2MinContentFitContent10pxIndefiniteContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -38480,7 +38487,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_2_min_content_fit_content_10px_indefinite_hidden__border_box")
     void gridSpan2MinContentFitContent10pxIndefiniteHiddenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -38538,7 +38545,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_2_min_content_fit_content_10px_indefinite_hidden__content_box")
     void gridSpan2MinContentFitContent10pxIndefiniteHiddenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -38600,7 +38607,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_2_min_content_fit_content_30px_indefinite__border_box")
     void gridSpan2MinContentFitContent30pxIndefiniteBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -38657,7 +38664,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_2_min_content_fit_content_30px_indefinite__content_box")
     void gridSpan2MinContentFitContent30pxIndefiniteContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -38718,7 +38725,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_2_min_content_fit_content_30px_indefinite_hidden__border_box")
     void gridSpan2MinContentFitContent30pxIndefiniteHiddenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -38776,7 +38783,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_2_min_content_fit_content_30px_indefinite_hidden__content_box")
     void gridSpan2MinContentFitContent30pxIndefiniteHiddenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -38838,7 +38845,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_2_min_content_fit_content_80px_indefinite__border_box")
     void gridSpan2MinContentFitContent80pxIndefiniteBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -38895,7 +38902,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_2_min_content_fit_content_80px_indefinite__content_box")
     void gridSpan2MinContentFitContent80pxIndefiniteContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -38956,7 +38963,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_2_min_content_fit_content_80px_indefinite_hidden__border_box")
     void gridSpan2MinContentFitContent80pxIndefiniteHiddenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -39014,7 +39021,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_2_min_content_fit_content_80px_indefinite_hidden__content_box")
     void gridSpan2MinContentFitContent80pxIndefiniteHiddenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -39076,7 +39083,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_2_min_content_max_content_indefinite__border_box")
     void gridSpan2MinContentMaxContentIndefiniteBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -39133,7 +39140,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_2_min_content_max_content_indefinite__content_box")
     void gridSpan2MinContentMaxContentIndefiniteContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -39194,7 +39201,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_2_min_content_min_content_indefinite__border_box")
     void gridSpan2MinContentMinContentIndefiniteBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -39251,7 +39258,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_2_min_content_min_content_indefinite__content_box")
     void gridSpan2MinContentMinContentIndefiniteContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -39312,7 +39319,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_6_all_non_flex_indefinite__border_box")
     void gridSpan6AllNonFlexIndefiniteBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -39405,7 +39412,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_6_all_non_flex_indefinite__content_box")
     void gridSpan6AllNonFlexIndefiniteContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -39506,7 +39513,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_6_all_non_flex_indefinite_hidden__border_box")
     void gridSpan6AllNonFlexIndefiniteHiddenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -39600,7 +39607,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_6_all_non_flex_indefinite_hidden__content_box")
     void gridSpan6AllNonFlexIndefiniteHiddenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -39702,7 +39709,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_8_all_track_types_indefinite__border_box")
     void gridSpan8AllTrackTypesIndefiniteBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -39815,7 +39822,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_span_8_all_track_types_indefinite__content_box")
     void gridSpan8AllTrackTypesIndefiniteContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -39938,7 +39945,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_taffy_issue_624__border_box")
     void gridTaffyIssue624BorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -40004,7 +40011,7 @@ public class GridTest {
     @Test
     @DisplayName("grid_taffy_issue_624__content_box")
     void gridTaffyIssue624ContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -15,6 +15,13 @@ public class GridflexTest {
 
     private static final float EPSILON = 0.1f;
 
+    /**
+     * Creates the tree a fixture is laid out in. Subclasses can override it to lay the fixtures out differently.
+     */
+    protected TaffyTree newTree() {
+        return new TaffyTree();
+    }
+
     private static MeasureFunc ahemTextMeasure(String text, boolean vertical) {
         final String trimmed = text == null ? "" : text.trim();
         return (knownDimensions, availableSpace) -> {
@@ -93,7 +100,7 @@ public class GridflexTest {
     @Test
     @DisplayName("gridflex_column_integration__border_box")
     void gridflexColumnIntegrationBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -167,7 +174,7 @@ public class GridflexTest {
     @Test
     @DisplayName("gridflex_column_integration__content_box")
     void gridflexColumnIntegrationContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -247,7 +254,7 @@ public class GridflexTest {
     @Test
     @DisplayName("gridflex_kitchen_sink__border_box")
     void gridflexKitchenSinkBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.direction = TaffyDirection.LTR;
@@ -391,7 +398,7 @@ public class GridflexTest {
     @Test
     @DisplayName("gridflex_kitchen_sink__content_box")
     void gridflexKitchenSinkContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node000Style = new TaffyStyle();
         node000Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -548,7 +555,7 @@ public class GridflexTest {
     @Test
     @DisplayName("gridflex_kitchen_sink_minimise__border_box")
     void gridflexKitchenSinkMinimiseBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -599,7 +606,7 @@ public class GridflexTest {
     @Test
     @DisplayName("gridflex_kitchen_sink_minimise__content_box")
     void gridflexKitchenSinkMinimiseContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -654,7 +661,7 @@ public class GridflexTest {
     @Test
     @DisplayName("gridflex_kitchen_sink_minimise2__border_box")
     void gridflexKitchenSinkMinimise2BorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -697,7 +704,7 @@ public class GridflexTest {
     @Test
     @DisplayName("gridflex_kitchen_sink_minimise2__content_box")
     void gridflexKitchenSinkMinimise2ContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -743,7 +750,7 @@ public class GridflexTest {
     @Test
     @DisplayName("gridflex_kitchen_sink_minimise3__border_box")
     void gridflexKitchenSinkMinimise3BorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -814,7 +821,7 @@ public class GridflexTest {
     @Test
     @DisplayName("gridflex_kitchen_sink_minimise3__content_box")
     void gridflexKitchenSinkMinimise3ContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -891,7 +898,7 @@ public class GridflexTest {
     @Test
     @DisplayName("gridflex_row_integration__border_box")
     void gridflexRowIntegrationBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.LTR;
@@ -964,7 +971,7 @@ public class GridflexTest {
     @Test
     @DisplayName("gridflex_row_integration__content_box")
     void gridflexRowIntegrationContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -15,6 +15,13 @@ public class IntrinsicTest {
 
     private static final float EPSILON = 0.1f;
 
+    /**
+     * Creates the tree a fixture is laid out in. Subclasses can override it to lay the fixtures out differently.
+     */
+    protected TaffyTree newTree() {
+        return new TaffyTree();
+    }
+
     private static MeasureFunc ahemTextMeasure(String text, boolean vertical) {
         final String trimmed = text == null ? "" : text.trim();
         return (knownDimensions, availableSpace) -> {
@@ -93,7 +100,7 @@ public class IntrinsicTest {
     @Test
     @DisplayName("fit_content_width_in_flex__border_box")
     void fitContentWidthInFlexBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -134,7 +141,7 @@ public class IntrinsicTest {
     @Test
     @DisplayName("fit_content_width_in_flex__content_box")
     void fitContentWidthInFlexContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -178,7 +185,7 @@ public class IntrinsicTest {
     @Test
     @DisplayName("max_content_height_in_flex__border_box")
     void maxContentHeightInFlexBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -220,7 +227,7 @@ public class IntrinsicTest {
     @Test
     @DisplayName("max_content_height_in_flex__content_box")
     void maxContentHeightInFlexContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -265,7 +272,7 @@ public class IntrinsicTest {
     @Test
     @DisplayName("max_content_width_in_flex__border_box")
     void maxContentWidthInFlexBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -306,7 +313,7 @@ public class IntrinsicTest {
     @Test
     @DisplayName("max_content_width_in_flex__content_box")
     void maxContentWidthInFlexContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -350,7 +357,7 @@ public class IntrinsicTest {
     @Test
     @DisplayName("min_content_height_in_flex__border_box")
     void minContentHeightInFlexBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -392,7 +399,7 @@ public class IntrinsicTest {
     @Test
     @DisplayName("min_content_height_in_flex__content_box")
     void minContentHeightInFlexContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -437,7 +444,7 @@ public class IntrinsicTest {
     @Test
     @DisplayName("min_content_width_in_flex__border_box")
     void minContentWidthInFlexBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -478,7 +485,7 @@ public class IntrinsicTest {
     @Test
     @DisplayName("min_content_width_in_flex__content_box")
     void minContentWidthInFlexContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -522,7 +529,7 @@ public class IntrinsicTest {
     @Test
     @DisplayName("stretch_height_in_flex_column__border_box")
     void stretchHeightInFlexColumnBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -553,7 +560,7 @@ public class IntrinsicTest {
     @Test
     @DisplayName("stretch_height_in_flex_column__content_box")
     void stretchHeightInFlexColumnContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -586,7 +593,7 @@ public class IntrinsicTest {
     @Test
     @DisplayName("stretch_multiple_children__border_box")
     void stretchMultipleChildrenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -636,7 +643,7 @@ public class IntrinsicTest {
     @Test
     @DisplayName("stretch_multiple_children__content_box")
     void stretchMultipleChildrenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -690,7 +697,7 @@ public class IntrinsicTest {
     @Test
     @DisplayName("stretch_width_in_flex_row__border_box")
     void stretchWidthInFlexRowBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -720,7 +727,7 @@ public class IntrinsicTest {
     @Test
     @DisplayName("stretch_width_in_flex_row__content_box")
     void stretchWidthInFlexRowContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -752,7 +759,7 @@ public class IntrinsicTest {
     @Test
     @DisplayName("stretch_with_min_max__border_box")
     void stretchWithMinMaxBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -784,7 +791,7 @@ public class IntrinsicTest {
     @Test
     @DisplayName("stretch_with_min_max__content_box")
     void stretchWithMinMaxContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
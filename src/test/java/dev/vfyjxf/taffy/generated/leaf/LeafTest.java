@@ -15,6 +15,13 @@ public class LeafTest {
 
     private static final float EPSILON = 0.1f;
 
+    /**
+     * Creates the tree a fixture is laid out in. Subclasses can override it to lay the fixtures out differently.
+     */
+    protected TaffyTree newTree() {
+        return new TaffyTree();
+    }
+
     private static MeasureFunc ahemTextMeasure(String text, boolean vertical) {
         final String trimmed = text == null ? "" : text.trim();
         return (knownDimensions, availableSpace) -> {
@@ -93,7 +100,7 @@ public class LeafTest {
     @Test
     @DisplayName("leaf_overflow_scrollbars_affect_available_space_x_axis__border_box")
     void leafOverflowScrollbarsAffectAvailableSpaceXAxisBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.direction = TaffyDirection.LTR;
@@ -116,7 +123,7 @@ public class LeafTest {
     @Test
     @DisplayName("leaf_overflow_scrollbars_affect_available_space_x_axis__content_box")
     void leafOverflowScrollbarsAffectAvailableSpaceXAxisContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.boxSizing = BoxSizing.CONTENT_BOX;
@@ -140,7 +147,7 @@ public class LeafTest {
     @Test
     @DisplayName("leaf_overflow_scrollbars_affect_available_space_y_axis__border_box")
     void leafOverflowScrollbarsAffectAvailableSpaceYAxisBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.direction = TaffyDirection.LTR;
@@ -163,7 +170,7 @@ public class LeafTest {
     @Test
     @DisplayName("leaf_overflow_scrollbars_affect_available_space_y_axis__content_box")
     void leafOverflowScrollbarsAffectAvailableSpaceYAxisContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.boxSizing = BoxSizing.CONTENT_BOX;
@@ -187,7 +194,7 @@ public class LeafTest {
     @Test
     @DisplayName("leaf_overflow_scrollbars_overridden_by_available_space__border_box")
     void leafOverflowScrollbarsOverriddenByAvailableSpaceBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.LTR;
@@ -219,7 +226,7 @@ public class LeafTest {
     @Test
     @DisplayName("leaf_overflow_scrollbars_overridden_by_available_space__content_box")
     void leafOverflowScrollbarsOverriddenByAvailableSpaceContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -253,7 +260,7 @@ public class LeafTest {
     @Test
     @DisplayName("leaf_overflow_scrollbars_overridden_by_max_size__border_box")
     void leafOverflowScrollbarsOverriddenByMaxSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.direction = TaffyDirection.LTR;
@@ -275,7 +282,7 @@ public class LeafTest {
     @Test
     @DisplayName("leaf_overflow_scrollbars_overridden_by_max_size__content_box")
     void leafOverflowScrollbarsOverriddenByMaxSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.boxSizing = BoxSizing.CONTENT_BOX;
@@ -298,7 +305,7 @@ public class LeafTest {
     @Test
     @DisplayName("leaf_overflow_scrollbars_overridden_by_size__border_box")
     void leafOverflowScrollbarsOverriddenBySizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.direction = TaffyDirection.LTR;
@@ -320,7 +327,7 @@ public class LeafTest {
     @Test
     @DisplayName("leaf_overflow_scrollbars_overridden_by_size__content_box")
     void leafOverflowScrollbarsOverriddenBySizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.boxSizing = BoxSizing.CONTENT_BOX;
@@ -343,7 +350,7 @@ public class LeafTest {
     @Test
     @DisplayName("leaf_overflow_scrollbars_take_up_space_both_axis__border_box")
     void leafOverflowScrollbarsTakeUpSpaceBothAxisBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.direction = TaffyDirection.LTR;
@@ -365,7 +372,7 @@ public class LeafTest {
     @Test
     @DisplayName("leaf_overflow_scrollbars_take_up_space_both_axis__content_box")
     void leafOverflowScrollbarsTakeUpSpaceBothAxisContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.boxSizing = BoxSizing.CONTENT_BOX;
@@ -388,7 +395,7 @@ public class LeafTest {
     @Test
     @DisplayName("leaf_overflow_scrollbars_take_up_space_x_axis__border_box")
     void leafOverflowScrollbarsTakeUpSpaceXAxisBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.direction = TaffyDirection.LTR;
@@ -410,7 +417,7 @@ public class LeafTest {
     @Test
     @DisplayName("leaf_overflow_scrollbars_take_up_space_x_axis__content_box")
     void leafOverflowScrollbarsTakeUpSpaceXAxisContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.boxSizing = BoxSizing.CONTENT_BOX;
@@ -433,7 +440,7 @@ public class LeafTest {
     @Test
     @DisplayName("leaf_overflow_scrollbars_take_up_space_y_axis__border_box")
     void leafOverflowScrollbarsTakeUpSpaceYAxisBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.direction = TaffyDirection.LTR;
@@ -455,7 +462,7 @@ public class LeafTest {
     @Test
     @DisplayName("leaf_overflow_scrollbars_take_up_space_y_axis__content_box")
     void leafOverflowScrollbarsTakeUpSpaceYAxisContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.boxSizing = BoxSizing.CONTENT_BOX;
@@ -478,7 +485,7 @@ public class LeafTest {
     @Test
     @DisplayName("leaf_padding_border_overrides_max_size__border_box")
     void leafPaddingBorderOverridesMaxSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.direction = TaffyDirection.LTR;
@@ -500,7 +507,7 @@ public class LeafTest {
     @Test
     @DisplayName("leaf_padding_border_overrides_max_size__content_box")
     void leafPaddingBorderOverridesMaxSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.boxSizing = BoxSizing.CONTENT_BOX;
@@ -523,7 +530,7 @@ public class LeafTest {
     @Test
     @DisplayName("leaf_padding_border_overrides_min_size__border_box")
     void leafPaddingBorderOverridesMinSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.direction = TaffyDirection.LTR;
@@ -545,7 +552,7 @@ public class LeafTest {
     @Test
     @DisplayName("leaf_padding_border_overrides_min_size__content_box")
     void leafPaddingBorderOverridesMinSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.boxSizing = BoxSizing.CONTENT_BOX;
@@ -568,7 +575,7 @@ public class LeafTest {
     @Test
     @DisplayName("leaf_padding_border_overrides_size__border_box")
     void leafPaddingBorderOverridesSizeBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.direction = TaffyDirection.LTR;
@@ -590,7 +597,7 @@ public class LeafTest {
     @Test
     @DisplayName("leaf_padding_border_overrides_size__content_box")
     void leafPaddingBorderOverridesSizeContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.boxSizing = BoxSizing.CONTENT_BOX;
@@ -613,7 +620,7 @@ public class LeafTest {
     @Test
     @DisplayName("leaf_with_content_and_border__border_box")
     void leafWithContentAndBorderBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.direction = TaffyDirection.LTR;
@@ -634,7 +641,7 @@ public class LeafTest {
     @Test
     @DisplayName("leaf_with_content_and_border__content_box")
     void leafWithContentAndBorderContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.boxSizing = BoxSizing.CONTENT_BOX;
@@ -656,7 +663,7 @@ public class LeafTest {
     @Test
     @DisplayName("leaf_with_content_and_padding__border_box")
     void leafWithContentAndPaddingBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.direction = TaffyDirection.LTR;
@@ -677,7 +684,7 @@ public class LeafTest {
     @Test
     @DisplayName("leaf_with_content_and_padding__content_box")
     void leafWithContentAndPaddingContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.boxSizing = BoxSizing.CONTENT_BOX;
@@ -699,7 +706,7 @@ public class LeafTest {
     @Test
     @DisplayName("leaf_with_content_and_padding_border__border_box")
     void leafWithContentAndPaddingBorderBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.direction = TaffyDirection.LTR;
@@ -721,7 +728,7 @@ public class LeafTest {
     @Test
     @DisplayName("leaf_with_content_and_padding_border__content_box")
     void leafWithContentAndPaddingBorderContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle nodeStyle = new TaffyStyle();
         nodeStyle.boxSizing = BoxSizing.CONTENT_BOX;
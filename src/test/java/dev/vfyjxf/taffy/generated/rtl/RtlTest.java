@@ -15,6 +15,13 @@ public class RtlTest {
 
     private static final float EPSILON = 0.1f;
 
+    /**
+     * Creates the tree a fixture is laid out in. Subclasses can override it to lay the fixtures out differently.
+     */
+    protected TaffyTree newTree() {
+        return new TaffyTree();
+    }
+
     private static MeasureFunc ahemTextMeasure(String text, boolean vertical) {
         final String trimmed = text == null ? "" : text.trim();
         return (knownDimensions, availableSpace) -> {
@@ -93,7 +100,7 @@ public class RtlTest {
     @Test
     @DisplayName("block_rtl_basic__border_box")
     void blockRtlBasicBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -144,7 +151,7 @@ public class RtlTest {
     @Test
     @DisplayName("block_rtl_basic__content_box")
     void blockRtlBasicContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -199,7 +206,7 @@ public class RtlTest {
     @Test
     @DisplayName("block_rtl_border__border_box")
     void blockRtlBorderBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -231,7 +238,7 @@ public class RtlTest {
     @Test
     @DisplayName("block_rtl_border__content_box")
     void blockRtlBorderContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -265,7 +272,7 @@ public class RtlTest {
     @Test
     @DisplayName("block_rtl_margin_auto_center__border_box")
     void blockRtlMarginAutoCenterBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -297,7 +304,7 @@ public class RtlTest {
     @Test
     @DisplayName("block_rtl_margin_auto_center__content_box")
     void blockRtlMarginAutoCenterContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -331,7 +338,7 @@ public class RtlTest {
     @Test
     @DisplayName("block_rtl_margin_left__border_box")
     void blockRtlMarginLeftBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -374,7 +381,7 @@ public class RtlTest {
     @Test
     @DisplayName("block_rtl_margin_left__content_box")
     void blockRtlMarginLeftContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -420,7 +427,7 @@ public class RtlTest {
     @Test
     @DisplayName("block_rtl_margin_right__border_box")
     void blockRtlMarginRightBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -463,7 +470,7 @@ public class RtlTest {
     @Test
     @DisplayName("block_rtl_margin_right__content_box")
     void blockRtlMarginRightContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -509,7 +516,7 @@ public class RtlTest {
     @Test
     @DisplayName("block_rtl_nested__border_box")
     void blockRtlNestedBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.direction = TaffyDirection.RTL;
@@ -552,7 +559,7 @@ public class RtlTest {
     @Test
     @DisplayName("block_rtl_nested__content_box")
     void blockRtlNestedContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node00Style = new TaffyStyle();
         node00Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -598,7 +605,7 @@ public class RtlTest {
     @Test
     @DisplayName("block_rtl_padding__border_box")
     void blockRtlPaddingBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -630,7 +637,7 @@ public class RtlTest {
     @Test
     @DisplayName("block_rtl_padding__content_box")
     void blockRtlPaddingContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -664,7 +671,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_column_reverse_rtl__border_box")
     void flexColumnReverseRtlBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -715,7 +722,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_column_reverse_rtl__content_box")
     void flexColumnReverseRtlContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -770,7 +777,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_column_rtl__border_box")
     void flexColumnRtlBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -821,7 +828,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_column_rtl__content_box")
     void flexColumnRtlContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -876,7 +883,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_row_reverse_rtl__border_box")
     void flexRowReverseRtlBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -927,7 +934,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_row_reverse_rtl__content_box")
     void flexRowReverseRtlContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -982,7 +989,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_row_rtl_align_items__border_box")
     void flexRowRtlAlignItemsBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -1033,7 +1040,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_row_rtl_align_items__content_box")
     void flexRowRtlAlignItemsContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1088,7 +1095,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_row_rtl_align_self__border_box")
     void flexRowRtlAlignSelfBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -1141,7 +1148,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_row_rtl_align_self__content_box")
     void flexRowRtlAlignSelfContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1198,7 +1205,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_row_rtl_basic__border_box")
     void flexRowRtlBasicBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -1248,7 +1255,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_row_rtl_basic__content_box")
     void flexRowRtlBasicContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1302,7 +1309,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_row_rtl_flex_grow__border_box")
     void flexRowRtlFlexGrowBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -1354,7 +1361,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_row_rtl_flex_grow__content_box")
     void flexRowRtlFlexGrowContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1410,7 +1417,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_row_rtl_flex_shrink__border_box")
     void flexRowRtlFlexShrinkBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -1463,7 +1470,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_row_rtl_flex_shrink__content_box")
     void flexRowRtlFlexShrinkContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1520,7 +1527,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_row_rtl_gap__border_box")
     void flexRowRtlGapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -1571,7 +1578,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_row_rtl_gap__content_box")
     void flexRowRtlGapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1626,7 +1633,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_row_rtl_justify_content_center__border_box")
     void flexRowRtlJustifyContentCenterBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -1667,7 +1674,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_row_rtl_justify_content_center__content_box")
     void flexRowRtlJustifyContentCenterContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1711,7 +1718,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_row_rtl_justify_content_end__border_box")
     void flexRowRtlJustifyContentEndBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -1752,7 +1759,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_row_rtl_justify_content_end__content_box")
     void flexRowRtlJustifyContentEndContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1796,7 +1803,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_row_rtl_justify_content_start__border_box")
     void flexRowRtlJustifyContentStartBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -1837,7 +1844,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_row_rtl_justify_content_start__content_box")
     void flexRowRtlJustifyContentStartContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1881,7 +1888,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_row_rtl_margin__border_box")
     void flexRowRtlMarginBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -1934,7 +1941,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_row_rtl_margin__content_box")
     void flexRowRtlMarginContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -1991,7 +1998,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_row_rtl_padding__border_box")
     void flexRowRtlPaddingBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -2032,7 +2039,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_row_rtl_padding__content_box")
     void flexRowRtlPaddingContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2076,7 +2083,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_row_rtl_space_around__border_box")
     void flexRowRtlSpaceAroundBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -2127,7 +2134,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_row_rtl_space_around__content_box")
     void flexRowRtlSpaceAroundContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2182,7 +2189,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_row_rtl_space_between__border_box")
     void flexRowRtlSpaceBetweenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -2233,7 +2240,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_row_rtl_space_between__content_box")
     void flexRowRtlSpaceBetweenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2288,7 +2295,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_row_rtl_space_evenly__border_box")
     void flexRowRtlSpaceEvenlyBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -2339,7 +2346,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_row_rtl_space_evenly__content_box")
     void flexRowRtlSpaceEvenlyContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2394,7 +2401,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_wrap_reverse_rtl__border_box")
     void flexWrapReverseRtlBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -2445,7 +2452,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_wrap_reverse_rtl__content_box")
     void flexWrapReverseRtlContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2500,7 +2507,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_wrap_rtl__border_box")
     void flexWrapRtlBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -2551,7 +2558,7 @@ public class RtlTest {
     @Test
     @DisplayName("flex_wrap_rtl__content_box")
     void flexWrapRtlContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2606,7 +2613,7 @@ public class RtlTest {
     @Test
     @DisplayName("grid_rtl_auto_flow_row__border_box")
     void gridRtlAutoFlowRowBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -2671,7 +2678,7 @@ public class RtlTest {
     @Test
     @DisplayName("grid_rtl_auto_flow_row__content_box")
     void gridRtlAutoFlowRowContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2741,7 +2748,7 @@ public class RtlTest {
     @Test
     @DisplayName("grid_rtl_basic__border_box")
     void gridRtlBasicBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -2821,7 +2828,7 @@ public class RtlTest {
     @Test
     @DisplayName("grid_rtl_basic__content_box")
     void gridRtlBasicContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -2908,7 +2915,7 @@ public class RtlTest {
     @Test
     @DisplayName("grid_rtl_column_gap__border_box")
     void gridRtlColumnGapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -2961,7 +2968,7 @@ public class RtlTest {
     @Test
     @DisplayName("grid_rtl_column_gap__content_box")
     void gridRtlColumnGapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3018,7 +3025,7 @@ public class RtlTest {
     @Test
     @DisplayName("grid_rtl_explicit_placement__border_box")
     void gridRtlExplicitPlacementBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -3077,7 +3084,7 @@ public class RtlTest {
     @Test
     @DisplayName("grid_rtl_explicit_placement__content_box")
     void gridRtlExplicitPlacementContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3140,7 +3147,7 @@ public class RtlTest {
     @Test
     @DisplayName("grid_rtl_gap__border_box")
     void gridRtlGapBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -3183,7 +3190,7 @@ public class RtlTest {
     @Test
     @DisplayName("grid_rtl_gap__content_box")
     void gridRtlGapContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3229,7 +3236,7 @@ public class RtlTest {
     @Test
     @DisplayName("grid_rtl_justify_content_center__border_box")
     void gridRtlJustifyContentCenterBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -3282,7 +3289,7 @@ public class RtlTest {
     @Test
     @DisplayName("grid_rtl_justify_content_center__content_box")
     void gridRtlJustifyContentCenterContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3339,7 +3346,7 @@ public class RtlTest {
     @Test
     @DisplayName("grid_rtl_justify_content_end__border_box")
     void gridRtlJustifyContentEndBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -3392,7 +3399,7 @@ public class RtlTest {
     @Test
     @DisplayName("grid_rtl_justify_content_end__content_box")
     void gridRtlJustifyContentEndContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3449,7 +3456,7 @@ public class RtlTest {
     @Test
     @DisplayName("grid_rtl_justify_content_space_around__border_box")
     void gridRtlJustifyContentSpaceAroundBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -3502,7 +3509,7 @@ public class RtlTest {
     @Test
     @DisplayName("grid_rtl_justify_content_space_around__content_box")
     void gridRtlJustifyContentSpaceAroundContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3559,7 +3566,7 @@ public class RtlTest {
     @Test
     @DisplayName("grid_rtl_justify_content_space_between__border_box")
     void gridRtlJustifyContentSpaceBetweenBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -3612,7 +3619,7 @@ public class RtlTest {
     @Test
     @DisplayName("grid_rtl_justify_content_space_between__content_box")
     void gridRtlJustifyContentSpaceBetweenContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3669,7 +3676,7 @@ public class RtlTest {
     @Test
     @DisplayName("grid_rtl_justify_content_space_evenly__border_box")
     void gridRtlJustifyContentSpaceEvenlyBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -3722,7 +3729,7 @@ public class RtlTest {
     @Test
     @DisplayName("grid_rtl_justify_content_space_evenly__content_box")
     void gridRtlJustifyContentSpaceEvenlyContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3779,7 +3786,7 @@ public class RtlTest {
     @Test
     @DisplayName("grid_rtl_justify_content_start__border_box")
     void gridRtlJustifyContentStartBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -3832,7 +3839,7 @@ public class RtlTest {
     @Test
     @DisplayName("grid_rtl_justify_content_start__content_box")
     void gridRtlJustifyContentStartContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -3889,7 +3896,7 @@ public class RtlTest {
     @Test
     @DisplayName("grid_rtl_justify_items_center__border_box")
     void gridRtlJustifyItemsCenterBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -3946,7 +3953,7 @@ public class RtlTest {
     @Test
     @DisplayName("grid_rtl_justify_items_center__content_box")
     void gridRtlJustifyItemsCenterContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -4007,7 +4014,7 @@ public class RtlTest {
     @Test
     @DisplayName("grid_rtl_justify_items_end__border_box")
     void gridRtlJustifyItemsEndBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -4064,7 +4071,7 @@ public class RtlTest {
     @Test
     @DisplayName("grid_rtl_justify_items_end__content_box")
     void gridRtlJustifyItemsEndContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -4125,7 +4132,7 @@ public class RtlTest {
     @Test
     @DisplayName("grid_rtl_justify_items_start__border_box")
     void gridRtlJustifyItemsStartBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -4182,7 +4189,7 @@ public class RtlTest {
     @Test
     @DisplayName("grid_rtl_justify_items_start__content_box")
     void gridRtlJustifyItemsStartContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -4243,7 +4250,7 @@ public class RtlTest {
     @Test
     @DisplayName("grid_rtl_justify_self__border_box")
     void gridRtlJustifySelfBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -4301,7 +4308,7 @@ public class RtlTest {
     @Test
     @DisplayName("grid_rtl_justify_self__content_box")
     void gridRtlJustifySelfContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
@@ -4363,7 +4370,7 @@ public class RtlTest {
     @Test
     @DisplayName("grid_rtl_span__border_box")
     void gridRtlSpanBorderBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.direction = TaffyDirection.RTL;
@@ -4418,7 +4425,7 @@ public class RtlTest {
     @Test
     @DisplayName("grid_rtl_span__content_box")
     void gridRtlSpanContentBox() {
-        TaffyTree tree = new TaffyTree();
+        TaffyTree tree = newTree();
 
         TaffyStyle node0Style = new TaffyStyle();
         node0Style.boxSizing = BoxSizing.CONTENT_BOX;
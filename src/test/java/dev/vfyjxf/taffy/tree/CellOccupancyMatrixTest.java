@@ -0,0 +1,137 @@
+package dev.vfyjxf.taffy.tree;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the bitset occupancy matrix used by grid auto-placement, checked against a plain boolean grid.
+ */
+public class CellOccupancyMatrixTest {
+
+    /**
+     * Straightforward occupancy grid over OriginZero coordinates in [-OFFSET, OFFSET).
+     */
+    private static final class Reference {
+        static final int OFFSET = 200;
+        final boolean[][] cells = new boolean[OFFSET * 2][OFFSET * 2];
+
+        void mark(int col, int row, int colSpan, int rowSpan) {
+            for (int r = row; r < row + rowSpan; r++) {
+                for (int c = col; c < col + colSpan; c++) {
+                    cells[r + OFFSET][c + OFFSET] = true;
+                }
+            }
+        }
+
+        boolean isFree(int col, int row, int colSpan, int rowSpan) {
+            for (int r = row; r < row + rowSpan; r++) {
+                for (int c = col; c < col + colSpan; c++) {
+                    if (cells[r + OFFSET][c + OFFSET]) return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static void assertFreeAt(CellOccupancyMatrix matrix, Reference reference, int col, int row, int colSpan, int rowSpan) {
+        assertTrue(reference.isFree(col, row, colSpan, rowSpan), "found area must be free");
+        int minCol = -matrix.colCounts.negativeImplicit;
+        int minRow = -matrix.rowCounts.negativeImplicit;
+        assertTrue(col >= minCol && col + colSpan <= matrix.colCounts.positiveImplicitEndLine());
+        assertTrue(row >= minRow && row + rowSpan <= matrix.rowCounts.positiveImplicitEndLine());
+    }
+
+    private static void runRandomized(boolean rowMajor, long seed) {
+        Random random = new Random(seed);
+        CellOccupancyMatrix matrix = new CellOccupancyMatrix();
+        Reference reference = new Reference();
+        matrix.reset(new TrackCounts(0, 70, 0), new TrackCounts(0, 3, 0), rowMajor);
+
+        for (int step = 0; step < 400; step++) {
+            int colSpan = 1 + random.nextInt(3);
+            int rowSpan = 1 + random.nextInt(3);
+            int op = random.nextInt(4);
+            if (op == 0) {
+                // Explicit placement, possibly growing either implicit side
+                int col = random.nextInt(150) - 40;
+                int row = random.nextInt(60) - 10;
+                matrix.markArea(col, row, colSpan, rowSpan);
+                reference.mark(col, row, colSpan, rowSpan);
+            } else if (op == 1) {
+                int row = -matrix.rowCounts.negativeImplicit + random.nextInt(matrix.rowCounts.len());
+                int col = matrix.findEmptyAreaInRow(row, colSpan, rowSpan);
+                if (col != CellOccupancyMatrix.NOT_FOUND) {
+                    assertFreeAt(matrix, reference, col, row, colSpan, rowSpan);
+                    for (int c = -matrix.colCounts.negativeImplicit; c < col; c++) {
+                        assertFalse(reference.isFree(c, row, colSpan, rowSpan), "earlier column was free");
+                    }
+                    matrix.markArea(col, row, colSpan, rowSpan);
+                    reference.mark(col, row, colSpan, rowSpan);
+                }
+            } else if (op == 2) {
+                int col = -matrix.colCounts.negativeImplicit + random.nextInt(matrix.colCounts.len());
+                int row = matrix.findEmptyAreaInColumn(col, colSpan, rowSpan);
+                if (row != CellOccupancyMatrix.NOT_FOUND) {
+                    assertFreeAt(matrix, reference, col, row, colSpan, rowSpan);
+                    matrix.markArea(col, row, colSpan, rowSpan);
+                    reference.mark(col, row, colSpan, rowSpan);
+                }
+            } else if (matrix.findEmptyArea(0, 0, colSpan, rowSpan, true)) {
+                int col = matrix.foundColumn;
+                int row = matrix.foundRow;
+                assertFreeAt(matrix, reference, col, row, colSpan, rowSpan);
+                matrix.markArea(col, row, colSpan, rowSpan);
+                reference.mark(col, row, colSpan, rowSpan);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("row_major_matches_reference")
+    void rowMajorMatchesReference() {
+        for (long seed = 0; seed < 20; seed++) {
+            runRandomized(true, seed);
+        }
+    }
+
+    @Test
+    @DisplayName("column_major_matches_reference")
+    void columnMajorMatchesReference() {
+        for (long seed = 0; seed < 20; seed++) {
+            runRandomized(false, seed);
+        }
+    }
+
+    @Test
+    @DisplayName("dense_search_finds_first_hole")
+    void denseSearchFindsFirstHole() {
+        CellOccupancyMatrix matrix = new CellOccupancyMatrix();
+        matrix.reset(new TrackCounts(0, 130, 0), new TrackCounts(0, 2, 0), true);
+        // Fill row 0 except column 100, and all of row 1 except columns 128..129
+        matrix.markArea(0, 0, 100, 1);
+        matrix.markArea(101, 0, 29, 1);
+        matrix.markArea(0, 1, 128, 1);
+
+        assertTrue(matrix.findEmptyArea(0, 0, 1, 1, true));
+        assertEquals(100, matrix.foundColumn);
+        assertEquals(0, matrix.foundRow);
+        matrix.markArea(100, 0, 1, 1);
+
+        assertTrue(matrix.findEmptyArea(0, 0, 2, 1, true));
+        assertEquals(128, matrix.foundColumn);
+        assertEquals(1, matrix.foundRow);
+        matrix.markArea(128, 1, 2, 1);
+        assertFalse(matrix.findEmptyArea(0, 0, 1, 1, true));
+
+        // Growing to the negative side opens new columns in front of every row
+        matrix.markArea(-1, 0, 1, 1);
+        assertEquals(1, matrix.colCounts.negativeImplicit);
+        assertTrue(matrix.findEmptyArea(0, 0, 1, 1, true));
+        assertEquals(-1, matrix.foundColumn);
+        assertEquals(1, matrix.foundRow);
+    }
+}
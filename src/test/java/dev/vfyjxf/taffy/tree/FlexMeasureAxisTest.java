@@ -0,0 +1,97 @@
+package dev.vfyjxf.taffy.tree;
+
+import dev.vfyjxf.taffy.geometry.AbsoluteAxis;
+import dev.vfyjxf.taffy.geometry.FloatSize;
+import dev.vfyjxf.taffy.geometry.TaffyLine;
+import dev.vfyjxf.taffy.geometry.TaffySize;
+import dev.vfyjxf.taffy.style.AvailableSpace;
+import dev.vfyjxf.taffy.style.FlexDirection;
+import dev.vfyjxf.taffy.style.TaffyStyle;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for measuring flex containers along a single axis.
+ */
+public class FlexMeasureAxisTest {
+
+    private static final FloatSize NONE = new FloatSize(Float.NaN, Float.NaN);
+    private static final TaffySize<AvailableSpace> MAX_CONTENT = TaffySize.maxContent();
+    // Narrower than the items' content in both axes, so they shrink and their cross size must be measured again
+    private static final TaffySize<AvailableSpace> SHRINKING =
+        new TaffySize<>(AvailableSpace.definite(100f), AvailableSpace.definite(100f));
+
+    private static NodeId buildRow(TaffyTree tree, FlexDirection direction, AtomicInteger measures) {
+        List<NodeId> children = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            float width = 10f + i;
+            float height = 5f + (i % 4);
+            children.add(tree.newLeafWithMeasure(new TaffyStyle(), (known, available) -> {
+                measures.incrementAndGet();
+                return new FloatSize(Float.isNaN(known.width) ? width : known.width,
+                    Float.isNaN(known.height) ? height : known.height);
+            }));
+        }
+        TaffyStyle style = new TaffyStyle();
+        style.flexDirection = direction;
+        return tree.newWithChildren(style, children);
+    }
+
+    private static float measure(TaffyTree tree, NodeId node, AbsoluteAxis axis) {
+        return new LayoutComputer(tree, null).measureChildSize(node, NONE, NONE, SHRINKING,
+            SizingMode.INHERENT_SIZE, new TaffyLine<>(false, false), axis);
+    }
+
+    private static FloatSize measure(TaffyTree tree, NodeId node) {
+        return new LayoutComputer(tree, null).measureChildSize(node, NONE, NONE, SHRINKING,
+            SizingMode.INHERENT_SIZE, new TaffyLine<>(false, false));
+    }
+
+    @Test
+    @DisplayName("main_axis_measure_matches_the_full_measure_and_skips_cross_sizing")
+    void mainAxisMeasureMatchesTheFullMeasureAndSkipsCrossSizing() {
+        for (FlexDirection direction : new FlexDirection[]{FlexDirection.ROW, FlexDirection.COLUMN}) {
+            boolean isRow = direction == FlexDirection.ROW;
+            AbsoluteAxis mainAxis = isRow ? AbsoluteAxis.HORIZONTAL : AbsoluteAxis.VERTICAL;
+
+            AtomicInteger fullMeasures = new AtomicInteger();
+            TaffyTree fullTree = new TaffyTree();
+            FloatSize full = measure(fullTree, buildRow(fullTree, direction, fullMeasures));
+
+            AtomicInteger mainMeasures = new AtomicInteger();
+            TaffyTree mainTree = new TaffyTree();
+            NodeId row = buildRow(mainTree, direction, mainMeasures);
+            float main = measure(mainTree, row, mainAxis);
+
+            assertEquals(isRow ? full.width : full.height, main, direction.name());
+            assertTrue(mainMeasures.get() < fullMeasures.get(),
+                direction + ": " + mainMeasures.get() + " vs " + fullMeasures.get() + " measures");
+
+            // The single-axis result is cached but doesn't answer a request for both axes
+            assertEquals(full, measure(mainTree, row), direction.name());
+        }
+    }
+
+    @Test
+    @DisplayName("single_axis_cache_entries_only_cover_their_axis")
+    void singleAxisCacheEntriesOnlyCoverTheirAxis() {
+        LayoutCache cache = new LayoutCache();
+        cache.store(NONE, MAX_CONTENT, RunMode.COMPUTE_SIZE, LayoutOutput.fromOuterSize(new FloatSize(40f, Float.NaN)));
+
+        assertNull(cache.get(NONE, MAX_CONTENT, RunMode.COMPUTE_SIZE));
+        assertNull(cache.get(NONE, MAX_CONTENT, RunMode.COMPUTE_SIZE, RequestedAxis.VERTICAL));
+        LayoutOutput width = cache.get(NONE, MAX_CONTENT, RunMode.COMPUTE_SIZE, RequestedAxis.HORIZONTAL);
+        assertNotNull(width);
+        assertEquals(40f, width.size().width);
+
+        cache.store(NONE, MAX_CONTENT, RunMode.COMPUTE_SIZE, LayoutOutput.fromOuterSize(new FloatSize(40f, 12f)));
+        assertEquals(12f, cache.get(NONE, MAX_CONTENT, RunMode.COMPUTE_SIZE, RequestedAxis.VERTICAL).size().height);
+        assertNotNull(cache.get(NONE, MAX_CONTENT, RunMode.COMPUTE_SIZE));
+    }
+}
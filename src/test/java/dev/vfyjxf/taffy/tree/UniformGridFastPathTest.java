@@ -0,0 +1,237 @@
+package dev.vfyjxf.taffy.tree;
+
+import dev.vfyjxf.taffy.generated.grid.GridTest;
+import dev.vfyjxf.taffy.geometry.FloatSize;
+import dev.vfyjxf.taffy.geometry.TaffyRect;
+import dev.vfyjxf.taffy.geometry.TaffySize;
+import dev.vfyjxf.taffy.style.AlignContent;
+import dev.vfyjxf.taffy.style.AlignItems;
+import dev.vfyjxf.taffy.style.AvailableSpace;
+import dev.vfyjxf.taffy.style.BoxGenerationMode;
+import dev.vfyjxf.taffy.style.LengthPercentage;
+import dev.vfyjxf.taffy.style.LengthPercentageAuto;
+import dev.vfyjxf.taffy.style.TaffyDimension;
+import dev.vfyjxf.taffy.style.TaffyDirection;
+import dev.vfyjxf.taffy.style.TaffyDisplay;
+import dev.vfyjxf.taffy.style.TaffyPosition;
+import dev.vfyjxf.taffy.style.TaffyStyle;
+import dev.vfyjxf.taffy.style.TrackSizingFunction;
+import dev.vfyjxf.taffy.util.MeasureFunc;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that the uniform fixed-track grid fast path lays out bit-identically to the generic grid algorithm.
+ * <p>
+ * Each scene and each generated grid fixture is laid out twice, once in a tree whose grid computer has the fast path
+ * turned off.
+ */
+public class UniformGridFastPathTest {
+
+    private interface Scene {
+        NodeId build(TaffyTree tree);
+    }
+
+    /**
+     * Records the roots laid out in the tree.
+     */
+    private static final class RecordingTree extends TaffyTree {
+        final List<NodeId> roots = new ArrayList<>();
+
+        RecordingTree(boolean uniformFastPath) {
+            getLayoutComputer().getGridComputer().uniformFastPath = uniformFastPath;
+        }
+
+        @Override
+        public void computeLayoutWithMeasure(NodeId rootNode, TaffySize<AvailableSpace> availableSpace,
+                                             MeasureFunc defaultMeasureFunc) {
+            roots.add(rootNode);
+            super.computeLayoutWithMeasure(rootNode, availableSpace, defaultMeasureFunc);
+        }
+
+        int fastPathLayouts() {
+            return getLayoutComputer().getGridComputer().uniformFastPathLayouts;
+        }
+    }
+
+    /**
+     * Runs the generated grid fixtures in recording trees.
+     */
+    private static final class RecordingGridTest extends GridTest {
+        final boolean uniformFastPath;
+        final List<RecordingTree> trees = new ArrayList<>();
+
+        RecordingGridTest(boolean uniformFastPath) {
+            this.uniformFastPath = uniformFastPath;
+        }
+
+        @Override
+        protected TaffyTree newTree() {
+            RecordingTree tree = new RecordingTree(uniformFastPath);
+            trees.add(tree);
+            return tree;
+        }
+    }
+
+    /**
+     * Lays the scene out through both paths under each of the given constraints and compares every node's layout.
+     *
+     * @return the fast path tree, for further assertions
+     */
+    @SafeVarargs
+    private static TaffyTree assertPathsAgree(Scene scene, TaffySize<AvailableSpace>... spaces) {
+        RecordingTree general = new RecordingTree(false);
+        NodeId generalRoot = scene.build(general);
+        RecordingTree fast = new RecordingTree(true);
+        NodeId fastRoot = scene.build(fast);
+        for (TaffySize<AvailableSpace> space : spaces) {
+            fast.computeLayout(fastRoot, space);
+            general.computeLayout(generalRoot, space);
+            assertSameLayouts(general, generalRoot, fast, fastRoot, "root");
+        }
+        assertTrue(fast.fastPathLayouts() > 0, "fast path not taken");
+        assertEquals(0, general.fastPathLayouts());
+        return fast;
+    }
+
+    private static void assertSameLayouts(TaffyTree expectedTree, NodeId expected, TaffyTree actualTree,
+                                          NodeId actual, String path) {
+        assertEquals(expectedTree.getUnroundedLayout(expected), actualTree.getUnroundedLayout(actual), path);
+        List<NodeId> expectedChildren = expectedTree.getChildren(expected);
+        List<NodeId> actualChildren = actualTree.getChildren(actual);
+        assertEquals(expectedChildren.size(), actualChildren.size(), path);
+        for (int i = 0; i < expectedChildren.size(); i++) {
+            // Hidden children are laid out by shared code, and a cached second pass leaves their order as reset
+            if (actualTree.getStyle(actualChildren.get(i)).getBoxGenerationMode() == BoxGenerationMode.NONE) {
+                continue;
+            }
+            assertSameLayouts(expectedTree, expectedChildren.get(i), actualTree, actualChildren.get(i), path + "/" + i);
+        }
+    }
+
+    @Test
+    @DisplayName("grid_fixtures_match_the_generic_path")
+    void gridFixturesMatchTheGenericPath() throws Exception {
+        int fastPathLayouts = 0;
+        for (Method fixture : GridTest.class.getDeclaredMethods()) {
+            if (!fixture.isAnnotationPresent(Test.class)) {
+                continue;
+            }
+            fixture.setAccessible(true);
+            RecordingGridTest general = new RecordingGridTest(false);
+            RecordingGridTest fast = new RecordingGridTest(true);
+            fixture.invoke(general);
+            fixture.invoke(fast);
+
+            assertEquals(general.trees.size(), fast.trees.size(), fixture.getName());
+            for (int t = 0; t < fast.trees.size(); t++) {
+                RecordingTree generalTree = general.trees.get(t);
+                RecordingTree fastTree = fast.trees.get(t);
+                assertEquals(generalTree.roots, fastTree.roots, fixture.getName());
+                for (NodeId root : fastTree.roots) {
+                    assertSameLayouts(generalTree, root, fastTree, root, fixture.getName());
+                }
+                fastPathLayouts += fastTree.fastPathLayouts();
+            }
+        }
+        assertTrue(fastPathLayouts > 0, "no fixture took the fast path");
+    }
+
+    private static TaffyStyle uniformGrid(int columns, float columnWidth, int rows, float rowHeight) {
+        TaffyStyle style = new TaffyStyle();
+        style.display = TaffyDisplay.GRID;
+        style.gridTemplateColumns = new ArrayList<>(Collections.nCopies(columns, TrackSizingFunction.fixed(columnWidth)));
+        style.gridTemplateRows = new ArrayList<>(Collections.nCopies(rows, TrackSizingFunction.fixed(rowHeight)));
+        return style;
+    }
+
+    private static NodeId text(TaffyTree tree, float width, float height) {
+        return tree.newLeafWithMeasure(new TaffyStyle(), (known, available) ->
+            new FloatSize(Float.isNaN(known.width) ? width : known.width,
+                Float.isNaN(known.height) ? height : known.height));
+    }
+
+    @Test
+    @DisplayName("uniform_grid_positions")
+    void uniformGridPositions() {
+        List<NodeId> cells = new ArrayList<>();
+        NodeId[] grid = new NodeId[1];
+        TaffyTree tree = assertPathsAgree(scene -> {
+            cells.clear();
+            TaffyStyle style = uniformGrid(3, 100f, 2, 40f);
+            style.gap = new TaffySize<>(LengthPercentage.length(5f), LengthPercentage.length(10f));
+            LengthPercentage p = LengthPercentage.length(4f);
+            style.padding = new TaffyRect<>(p, p, p, p);
+            for (int i = 0; i < 5; i++) {
+                cells.add(text(scene, 20f, 10f));
+            }
+            grid[0] = scene.newWithChildren(style, cells);
+            return grid[0];
+        }, TaffySize.maxContent());
+
+        // The fast path tree is built last, so the captured nodes are its own
+        assertEquals(318f, tree.getLayout(grid[0]).size().width);
+        assertEquals(98f, tree.getLayout(grid[0]).size().height);
+        assertEquals(4f, tree.getLayout(cells.get(0)).location().x);
+        assertEquals(109f, tree.getLayout(cells.get(1)).location().x);
+        assertEquals(4f, tree.getLayout(cells.get(3)).location().x);
+        assertEquals(54f, tree.getLayout(cells.get(3)).location().y);
+        assertEquals(100f, tree.getLayout(cells.get(4)).size().width);
+        assertEquals(40f, tree.getLayout(cells.get(4)).size().height);
+    }
+
+    @Test
+    @DisplayName("uniform_grid_variants_match_the_generic_path")
+    void uniformGridVariantsMatchTheGenericPath() {
+        // Percentage tracks and gaps in a sized container, with content alignment
+        assertPathsAgree(tree -> {
+            TaffyStyle percent = new TaffyStyle();
+            percent.display = TaffyDisplay.GRID;
+            percent.size = new TaffySize<>(TaffyDimension.length(400f), TaffyDimension.length(300f));
+            percent.gridTemplateColumns = new ArrayList<>(List.of(TrackSizingFunction.percent(0.25f),
+                TrackSizingFunction.percent(0.25f), TrackSizingFunction.fixed(50f)));
+            percent.gridTemplateRows = new ArrayList<>(List.of(TrackSizingFunction.percent(0.2f),
+                TrackSizingFunction.fixed(30f)));
+            percent.gap = new TaffySize<>(LengthPercentage.percent(0.05f), LengthPercentage.length(3f));
+            percent.justifyContent = AlignContent.CENTER;
+            percent.alignContent = AlignContent.SPACE_BETWEEN;
+            List<NodeId> percentCells = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                percentCells.add(text(tree, 10f + i, 5f));
+            }
+            return tree.newWithChildren(percent, percentCells);
+        }, TaffySize.maxContent());
+
+        // Self alignment, margins, an absolute and a hidden child, right to left
+        assertPathsAgree(tree -> {
+            TaffyStyle rtl = uniformGrid(2, 60f, 2, 20f);
+            rtl.direction = TaffyDirection.RTL;
+            rtl.justifyItems = AlignItems.CENTER;
+            TaffyStyle absolute = new TaffyStyle();
+            absolute.position = TaffyPosition.ABSOLUTE;
+            absolute.size = new TaffySize<>(TaffyDimension.length(7f), TaffyDimension.length(7f));
+            TaffyStyle hidden = new TaffyStyle();
+            hidden.display = TaffyDisplay.NONE;
+            TaffyStyle end = new TaffyStyle();
+            end.alignSelf = AlignItems.END;
+            LengthPercentageAuto m = LengthPercentageAuto.length(2f);
+            end.margin = new TaffyRect<>(m, m, m, m);
+            end.size = new TaffySize<>(TaffyDimension.length(15f), TaffyDimension.length(8f));
+            return tree.newWithChildren(rtl, text(tree, 12f, 6f), tree.newLeaf(absolute),
+                tree.newLeaf(hidden), tree.newLeaf(end), text(tree, 80f, 30f));
+        }, new TaffySize<>(AvailableSpace.definite(200f), AvailableSpace.minContent()));
+
+        // A uniform grid nested in a flex container and measured under several constraints
+        assertPathsAgree(tree -> {
+            NodeId nested = tree.newWithChildren(uniformGrid(4, 25f, 1, 10f), text(tree, 5f, 5f), text(tree, 5f, 5f));
+            return tree.newWithChildren(new TaffyStyle(), nested, text(tree, 30f, 12f));
+        }, TaffySize.minContent(), new TaffySize<>(AvailableSpace.definite(50f), AvailableSpace.definite(50f)));
+    }
+}